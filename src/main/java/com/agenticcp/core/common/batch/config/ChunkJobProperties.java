@@ -0,0 +1,22 @@
+package com.agenticcp.core.common.batch.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "agenticcp.batch")
+public class ChunkJobProperties {
+
+    private int chunkSize = 500;
+
+    private int partitions = 4;
+
+    private int poolSize = 8;
+
+    // RUNNING executions with no chunk commit for this long are considered abandoned and may be resumed
+    private Duration staleAfter = Duration.ofMinutes(10);
+}
@@ -0,0 +1,50 @@
+package com.agenticcp.core.common.batch.controller;
+
+import com.agenticcp.core.common.batch.dto.BatchJobExecutionResponse;
+import com.agenticcp.core.common.batch.service.BatchJobService;
+import com.agenticcp.core.common.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/batch/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Batch Job Management", description = "배치 작업 관리 API")
+public class BatchJobController {
+
+    private final BatchJobService batchJobService;
+
+    @GetMapping
+    @Operation(summary = "등록된 배치 작업 목록 조회")
+    public ResponseEntity<ApiResponse<List<String>>> getJobNames() {
+        return ResponseEntity.ok(ApiResponse.success(batchJobService.getJobNames()));
+    }
+
+    @GetMapping("/{jobName}/executions")
+    @Operation(summary = "배치 작업 실행 이력 조회")
+    public ResponseEntity<ApiResponse<List<BatchJobExecutionResponse>>> getExecutions(@PathVariable String jobName) {
+        return ResponseEntity.ok(ApiResponse.success(batchJobService.getExecutions(jobName)));
+    }
+
+    @GetMapping("/executions/{executionId}")
+    @Operation(summary = "배치 작업 진행 상황 조회")
+    public ResponseEntity<ApiResponse<BatchJobExecutionResponse>> getExecution(@PathVariable Long executionId) {
+        return ResponseEntity.ok(ApiResponse.success(batchJobService.getExecution(executionId)));
+    }
+
+    @PostMapping("/{jobName}/launch")
+    @Operation(summary = "배치 작업 실행 (실패한 실행은 마지막 커밋 지점부터 재시작)")
+    public ResponseEntity<ApiResponse<BatchJobExecutionResponse>> launch(
+            @PathVariable String jobName,
+            @RequestParam String jobKey) {
+        BatchJobExecutionResponse execution = batchJobService.launch(jobName, jobKey);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(execution, "배치 작업이 시작되었습니다."));
+    }
+}
@@ -0,0 +1,89 @@
+package com.agenticcp.core.common.batch.dto;
+
+import com.agenticcp.core.common.batch.entity.BatchJobExecution;
+import com.agenticcp.core.common.batch.entity.BatchStepExecution;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobExecutionResponse {
+
+    private Long executionId;
+    private String jobName;
+    private String jobKey;
+    private BatchJobExecution.ExecutionStatus status;
+    private Integer chunkSize;
+    private Integer partitionCount;
+    private Integer completedPartitions;
+    private Integer restartCount;
+    private Long readCount;
+    private Long writeCount;
+    private Long skipCount;
+    private Long commitCount;
+    private LocalDateTime startedAt;
+    private LocalDateTime endedAt;
+    private String exitMessage;
+    private List<StepProgress> steps;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StepProgress {
+        private Integer partition;
+        private BatchJobExecution.ExecutionStatus status;
+        private Long lastCommittedKey;
+        private Long readCount;
+        private Long writeCount;
+        private Long skipCount;
+        private Long commitCount;
+        private LocalDateTime startedAt;
+        private LocalDateTime endedAt;
+        private String exitMessage;
+    }
+
+    public static BatchJobExecutionResponse from(BatchJobExecution execution, List<BatchStepExecution> steps) {
+        return BatchJobExecutionResponse.builder()
+                .executionId(execution.getId())
+                .jobName(execution.getJobName())
+                .jobKey(execution.getJobKey())
+                .status(execution.getStatus())
+                .chunkSize(execution.getChunkSize())
+                .partitionCount(execution.getPartitionCount())
+                .completedPartitions((int) steps.stream()
+                        .filter(step -> step.getStatus() == BatchJobExecution.ExecutionStatus.COMPLETED)
+                        .count())
+                .restartCount(execution.getRestartCount())
+                .readCount(steps.stream().mapToLong(BatchStepExecution::getReadCount).sum())
+                .writeCount(steps.stream().mapToLong(BatchStepExecution::getWriteCount).sum())
+                .skipCount(steps.stream().mapToLong(BatchStepExecution::getSkipCount).sum())
+                .commitCount(steps.stream().mapToLong(BatchStepExecution::getCommitCount).sum())
+                .startedAt(execution.getStartedAt())
+                .endedAt(execution.getEndedAt())
+                .exitMessage(execution.getExitMessage())
+                .steps(steps.stream()
+                        .map(step -> StepProgress.builder()
+                                .partition(step.getPartitionIndex())
+                                .status(step.getStatus())
+                                .lastCommittedKey(step.getLastCommittedKey())
+                                .readCount(step.getReadCount())
+                                .writeCount(step.getWriteCount())
+                                .skipCount(step.getSkipCount())
+                                .commitCount(step.getCommitCount())
+                                .startedAt(step.getStartedAt())
+                                .endedAt(step.getEndedAt())
+                                .exitMessage(step.getExitMessage())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.agenticcp.core.common.batch.entity;
+
+import com.agenticcp.core.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "batch_job_executions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_batch_job_executions_job", columnNames = {"job_name", "job_key"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobExecution extends BaseEntity {
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Column(name = "job_key", nullable = false, length = 100)
+    private String jobKey; // business key of one run, e.g. billing period "2024-01"
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private ExecutionStatus status = ExecutionStatus.STARTING;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Integer chunkSize;
+
+    @Column(name = "partition_count", nullable = false)
+    private Integer partitionCount;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "ended_at")
+    private LocalDateTime endedAt;
+
+    @Column(name = "restart_count", nullable = false)
+    @Builder.Default
+    private Integer restartCount = 0;
+
+    @Column(name = "exit_message", columnDefinition = "TEXT")
+    private String exitMessage;
+
+    public enum ExecutionStatus {
+        STARTING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
@@ -0,0 +1,61 @@
+package com.agenticcp.core.common.batch.entity;
+
+import com.agenticcp.core.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "batch_step_executions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_batch_step_executions_partition", columnNames = {"job_execution_id", "partition_index"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchStepExecution extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_execution_id", nullable = false)
+    private BatchJobExecution jobExecution;
+
+    @Column(name = "partition_index", nullable = false)
+    private Integer partitionIndex;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private BatchJobExecution.ExecutionStatus status = BatchJobExecution.ExecutionStatus.STARTING;
+
+    @Column(name = "last_committed_key")
+    private Long lastCommittedKey; // keyset cursor of the last committed chunk; restart resumes after it
+
+    @Column(name = "read_count", nullable = false)
+    @Builder.Default
+    private Long readCount = 0L;
+
+    @Column(name = "write_count", nullable = false)
+    @Builder.Default
+    private Long writeCount = 0L;
+
+    @Column(name = "skip_count", nullable = false)
+    @Builder.Default
+    private Long skipCount = 0L;
+
+    @Column(name = "commit_count", nullable = false)
+    @Builder.Default
+    private Long commitCount = 0L;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "ended_at")
+    private LocalDateTime endedAt;
+
+    @Column(name = "exit_message", columnDefinition = "TEXT")
+    private String exitMessage;
+}
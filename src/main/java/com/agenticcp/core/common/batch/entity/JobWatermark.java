@@ -0,0 +1,25 @@
+package com.agenticcp.core.common.batch.entity;
+
+import com.agenticcp.core.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "batch_watermarks")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobWatermark extends BaseEntity {
+
+    @Column(name = "watermark_name", nullable = false, unique = true, length = 100)
+    private String watermarkName;
+
+    @Column(name = "watermark_value", nullable = false)
+    private LocalDateTime watermarkValue;
+}
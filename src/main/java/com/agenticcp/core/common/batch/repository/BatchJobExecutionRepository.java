@@ -0,0 +1,24 @@
+package com.agenticcp.core.common.batch.repository;
+
+import com.agenticcp.core.common.batch.entity.BatchJobExecution;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BatchJobExecutionRepository extends JpaRepository<BatchJobExecution, Long> {
+
+    Optional<BatchJobExecution> findByJobNameAndJobKey(String jobName, String jobKey);
+
+    List<BatchJobExecution> findByJobNameOrderByCreatedAtDesc(String jobName);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM BatchJobExecution e WHERE e.jobName = :jobName AND e.jobKey = :jobKey")
+    Optional<BatchJobExecution> findForUpdate(@Param("jobName") String jobName, @Param("jobKey") String jobKey);
+}
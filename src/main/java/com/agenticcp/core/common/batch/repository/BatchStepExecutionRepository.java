@@ -0,0 +1,20 @@
+package com.agenticcp.core.common.batch.repository;
+
+import com.agenticcp.core.common.batch.entity.BatchJobExecution;
+import com.agenticcp.core.common.batch.entity.BatchStepExecution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BatchStepExecutionRepository extends JpaRepository<BatchStepExecution, Long> {
+
+    List<BatchStepExecution> findByJobExecutionOrderByPartitionIndex(BatchJobExecution jobExecution);
+
+    @Query("SELECT MAX(s.updatedAt) FROM BatchStepExecution s WHERE s.jobExecution = :jobExecution")
+    LocalDateTime findLastActivity(@Param("jobExecution") BatchJobExecution jobExecution);
+}
@@ -0,0 +1,13 @@
+package com.agenticcp.core.common.batch.repository;
+
+import com.agenticcp.core.common.batch.entity.JobWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface JobWatermarkRepository extends JpaRepository<JobWatermark, Long> {
+
+    Optional<JobWatermark> findByWatermarkName(String watermarkName);
+}
@@ -0,0 +1,68 @@
+package com.agenticcp.core.common.batch.service;
+
+import com.agenticcp.core.common.batch.dto.BatchJobExecutionResponse;
+import com.agenticcp.core.common.batch.entity.BatchJobExecution;
+import com.agenticcp.core.common.batch.repository.BatchJobExecutionRepository;
+import com.agenticcp.core.common.batch.repository.BatchStepExecutionRepository;
+import com.agenticcp.core.common.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class BatchJobService {
+
+    private final BatchJobExecutionRepository jobExecutionRepository;
+    private final BatchStepExecutionRepository stepExecutionRepository;
+    private final ChunkJobRunner chunkJobRunner;
+    private final Map<String, ChunkJob<?>> jobs;
+
+    public BatchJobService(BatchJobExecutionRepository jobExecutionRepository,
+                           BatchStepExecutionRepository stepExecutionRepository,
+                           ChunkJobRunner chunkJobRunner,
+                           List<ChunkJob<?>> jobs) {
+        this.jobExecutionRepository = jobExecutionRepository;
+        this.stepExecutionRepository = stepExecutionRepository;
+        this.chunkJobRunner = chunkJobRunner;
+        this.jobs = jobs.stream().collect(Collectors.toMap(ChunkJob::getJobName, Function.identity()));
+    }
+
+    public List<String> getJobNames() {
+        return jobs.keySet().stream().sorted().collect(Collectors.toList());
+    }
+
+    public BatchJobExecutionResponse getExecution(Long executionId) {
+        BatchJobExecution execution = jobExecutionRepository.findById(executionId)
+                .orElseThrow(() -> new ResourceNotFoundException("BatchJobExecution", "id", executionId));
+        return toResponse(execution);
+    }
+
+    public List<BatchJobExecutionResponse> getExecutions(String jobName) {
+        return jobExecutionRepository.findByJobNameOrderByCreatedAtDesc(jobName).stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(propagation = Propagation.NEVER)
+    public BatchJobExecutionResponse launch(String jobName, String jobKey) {
+        ChunkJob<?> job = jobs.get(jobName);
+        if (job == null) {
+            throw new ResourceNotFoundException("ChunkJob", "jobName", jobName);
+        }
+        BatchJobExecution execution = chunkJobRunner.launch(job, jobKey);
+        return getExecution(execution.getId());
+    }
+
+    private BatchJobExecutionResponse toResponse(BatchJobExecution execution) {
+        return BatchJobExecutionResponse.from(execution,
+                stepExecutionRepository.findByJobExecutionOrderByPartitionIndex(execution));
+    }
+}
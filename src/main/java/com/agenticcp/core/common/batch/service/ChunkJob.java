@@ -0,0 +1,26 @@
+package com.agenticcp.core.common.batch.service;
+
+import java.util.List;
+
+/**
+ * 청크 단위로 실행되는 배치 작업 정의
+ *
+ * <p>각 파티션은 {@link #keyOf(Object)} 기준 오름차순 keyset 으로 읽히며, 한 청크의 쓰기와
+ * 스텝 커서 갱신은 같은 트랜잭션에서 커밋된다. 재시작 시 마지막으로 커밋된 키 이후부터 다시 읽는다.</p>
+ */
+public interface ChunkJob<T> {
+
+    String getJobName();
+
+    List<T> read(ChunkJobContext context, Long afterKey, int chunkSize);
+
+    Long keyOf(T item);
+
+    /**
+     * @return 실제로 기록된 항목 수 (나머지는 skip 으로 집계)
+     */
+    int write(ChunkJobContext context, List<T> items);
+
+    default void validateJobKey(String jobKey) {
+    }
+}
@@ -0,0 +1,4 @@
+package com.agenticcp.core.common.batch.service;
+
+public record ChunkJobContext(String jobName, String jobKey, int partition, int partitionCount) {
+}
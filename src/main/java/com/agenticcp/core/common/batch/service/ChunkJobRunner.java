@@ -0,0 +1,259 @@
+package com.agenticcp.core.common.batch.service;
+
+import com.agenticcp.core.common.batch.config.ChunkJobProperties;
+import com.agenticcp.core.common.batch.entity.BatchJobExecution;
+import com.agenticcp.core.common.batch.entity.BatchJobExecution.ExecutionStatus;
+import com.agenticcp.core.common.batch.entity.BatchStepExecution;
+import com.agenticcp.core.common.batch.repository.BatchJobExecutionRepository;
+import com.agenticcp.core.common.batch.repository.BatchStepExecutionRepository;
+import com.agenticcp.core.common.exception.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 파티션 병렬 청크 작업 실행기
+ *
+ * <p>작업/스텝 상태는 batch_job_executions, batch_step_executions 테이블에 저장되며,
+ * 같은 (jobName, jobKey) 로 다시 실행하면 실패한 파티션만 마지막 커밋 지점부터 이어서 처리한다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChunkJobRunner {
+
+    private final BatchJobExecutionRepository jobExecutionRepository;
+    private final BatchStepExecutionRepository stepExecutionRepository;
+    private final ChunkJobProperties properties;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor batchTaskExecutor;
+
+    private final Set<Long> activeExecutions = ConcurrentHashMap.newKeySet();
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        meterRegistry.gauge("batch.job.active", activeExecutions, Set::size);
+    }
+
+    public BatchJobExecution launch(ChunkJob<?> job, String jobKey) {
+        job.validateJobKey(jobKey);
+
+        BatchJobExecution execution = transactionTemplate.execute(status -> prepareExecution(job, jobKey));
+        if (execution.getStatus() == ExecutionStatus.COMPLETED) {
+            log.info("Batch job {} [{}] already completed, skipping", job.getJobName(), jobKey);
+            return execution;
+        }
+        if (!activeExecutions.add(execution.getId())) {
+            throw new BusinessException("Batch job is already running: " + job.getJobName() + " [" + jobKey + "]",
+                    "BATCH_JOB_RUNNING", HttpStatus.CONFLICT);
+        }
+
+        List<BatchStepExecution> pendingSteps = stepExecutionRepository.findByJobExecutionOrderByPartitionIndex(execution)
+                .stream()
+                .filter(step -> step.getStatus() != ExecutionStatus.COMPLETED)
+                .collect(Collectors.toList());
+
+        log.info("Launching batch job {} [{}]: executionId={}, partitions={}/{}, chunkSize={}, restart={}",
+                job.getJobName(), jobKey, execution.getId(), pendingSteps.size(), execution.getPartitionCount(),
+                execution.getChunkSize(), execution.getRestartCount());
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (BatchStepExecution step : pendingSteps) {
+            ChunkJobContext context = new ChunkJobContext(job.getJobName(), jobKey,
+                    step.getPartitionIndex(), execution.getPartitionCount());
+            futures.add(CompletableFuture.runAsync(
+                    () -> runPartition(job, context, step.getId(), execution.getChunkSize()), batchTaskExecutor));
+        }
+
+        Long executionId = execution.getId();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, throwable) -> finishExecution(executionId));
+        return execution;
+    }
+
+    public boolean isActive(Long executionId) {
+        return activeExecutions.contains(executionId);
+    }
+
+    private BatchJobExecution prepareExecution(ChunkJob<?> job, String jobKey) {
+        BatchJobExecution execution = jobExecutionRepository.findForUpdate(job.getJobName(), jobKey).orElse(null);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (execution == null) {
+            execution = jobExecutionRepository.save(BatchJobExecution.builder()
+                    .jobName(job.getJobName())
+                    .jobKey(jobKey)
+                    .status(ExecutionStatus.RUNNING)
+                    .chunkSize(properties.getChunkSize())
+                    .partitionCount(properties.getPartitions())
+                    .restartCount(0)
+                    .startedAt(now)
+                    .build());
+            List<BatchStepExecution> steps = new ArrayList<>();
+            for (int partition = 0; partition < execution.getPartitionCount(); partition++) {
+                steps.add(BatchStepExecution.builder()
+                        .jobExecution(execution)
+                        .partitionIndex(partition)
+                        .status(ExecutionStatus.STARTING)
+                        .readCount(0L)
+                        .writeCount(0L)
+                        .skipCount(0L)
+                        .commitCount(0L)
+                        .build());
+            }
+            stepExecutionRepository.saveAll(steps);
+            return execution;
+        }
+
+        switch (execution.getStatus()) {
+            case COMPLETED:
+                return execution;
+            case STARTING:
+            case RUNNING:
+                if (activeExecutions.contains(execution.getId()) || !isStale(execution, now)) {
+                    throw new BusinessException("Batch job is already running: " + job.getJobName() + " [" + jobKey + "]",
+                            "BATCH_JOB_RUNNING", HttpStatus.CONFLICT);
+                }
+                log.warn("Resuming abandoned batch job {} [{}]: executionId={}", job.getJobName(), jobKey, execution.getId());
+                break;
+            default:
+                log.info("Restarting failed batch job {} [{}]: executionId={}", job.getJobName(), jobKey, execution.getId());
+        }
+
+        // partition count is fixed for the lifetime of an execution because the step cursors depend on it
+        execution.setStatus(ExecutionStatus.RUNNING);
+        execution.setChunkSize(properties.getChunkSize());
+        execution.setRestartCount(execution.getRestartCount() + 1);
+        execution.setEndedAt(null);
+        execution.setExitMessage(null);
+        return jobExecutionRepository.save(execution);
+    }
+
+    private boolean isStale(BatchJobExecution execution, LocalDateTime now) {
+        LocalDateTime lastActivity = stepExecutionRepository.findLastActivity(execution);
+        if (lastActivity == null || (execution.getUpdatedAt() != null && execution.getUpdatedAt().isAfter(lastActivity))) {
+            lastActivity = execution.getUpdatedAt();
+        }
+        return lastActivity == null || lastActivity.plus(properties.getStaleAfter()).isBefore(now);
+    }
+
+    private <T> void runPartition(ChunkJob<T> job, ChunkJobContext context, Long stepId, int chunkSize) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                BatchStepExecution step = getStep(stepId);
+                step.setStatus(ExecutionStatus.RUNNING);
+                step.setExitMessage(null);
+                if (step.getStartedAt() == null) {
+                    step.setStartedAt(LocalDateTime.now());
+                }
+            });
+
+            ChunkOutcome outcome;
+            do {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                outcome = transactionTemplate.execute(status -> processChunk(job, context, stepId, chunkSize));
+                sample.stop(meterRegistry.timer("batch.job.chunk", "job", context.jobName()));
+                recordMetrics(context, outcome);
+            } while (outcome.read() == chunkSize);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                BatchStepExecution step = getStep(stepId);
+                step.setStatus(ExecutionStatus.COMPLETED);
+                step.setEndedAt(LocalDateTime.now());
+            });
+            log.debug("Batch partition completed: job={}, key={}, partition={}",
+                    context.jobName(), context.jobKey(), context.partition());
+        } catch (Exception e) {
+            log.error("Batch partition failed: job={}, key={}, partition={}",
+                    context.jobName(), context.jobKey(), context.partition(), e);
+            meterRegistry.counter("batch.job.failures", "job", context.jobName()).increment();
+            transactionTemplate.executeWithoutResult(status -> {
+                BatchStepExecution step = getStep(stepId);
+                step.setStatus(ExecutionStatus.FAILED);
+                step.setEndedAt(LocalDateTime.now());
+                step.setExitMessage(e.getMessage());
+            });
+        }
+    }
+
+    private <T> ChunkOutcome processChunk(ChunkJob<T> job, ChunkJobContext context, Long stepId, int chunkSize) {
+        BatchStepExecution step = getStep(stepId);
+        List<T> items = job.read(context, step.getLastCommittedKey(), chunkSize);
+        if (items.isEmpty()) {
+            return new ChunkOutcome(0, 0);
+        }
+
+        int written = job.write(context, items);
+
+        step.setLastCommittedKey(job.keyOf(items.get(items.size() - 1)));
+        step.setReadCount(step.getReadCount() + items.size());
+        step.setWriteCount(step.getWriteCount() + written);
+        step.setSkipCount(step.getSkipCount() + (items.size() - written));
+        step.setCommitCount(step.getCommitCount() + 1);
+        return new ChunkOutcome(items.size(), written);
+    }
+
+    private void recordMetrics(ChunkJobContext context, ChunkOutcome outcome) {
+        if (outcome.read() == 0) {
+            return;
+        }
+        meterRegistry.counter("batch.job.items.read", "job", context.jobName()).increment(outcome.read());
+        meterRegistry.counter("batch.job.items.written", "job", context.jobName()).increment(outcome.written());
+        meterRegistry.counter("batch.job.items.skipped", "job", context.jobName()).increment(outcome.read() - outcome.written());
+    }
+
+    private void finishExecution(Long executionId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                BatchJobExecution execution = jobExecutionRepository.findById(executionId).orElseThrow();
+                List<BatchStepExecution> steps = stepExecutionRepository.findByJobExecutionOrderByPartitionIndex(execution);
+                List<BatchStepExecution> failedSteps = steps.stream()
+                        .filter(step -> step.getStatus() != ExecutionStatus.COMPLETED)
+                        .collect(Collectors.toList());
+
+                execution.setEndedAt(LocalDateTime.now());
+                if (failedSteps.isEmpty()) {
+                    execution.setStatus(ExecutionStatus.COMPLETED);
+                    log.info("Batch job {} [{}] completed: executionId={}",
+                            execution.getJobName(), execution.getJobKey(), executionId);
+                } else {
+                    execution.setStatus(ExecutionStatus.FAILED);
+                    execution.setExitMessage(failedSteps.stream()
+                            .map(step -> "partition " + step.getPartitionIndex() + ": " + step.getExitMessage())
+                            .collect(Collectors.joining("; ")));
+                    log.warn("Batch job {} [{}] failed in {} partition(s): executionId={}",
+                            execution.getJobName(), execution.getJobKey(), failedSteps.size(), executionId);
+                }
+            });
+        } finally {
+            activeExecutions.remove(executionId);
+        }
+    }
+
+    private BatchStepExecution getStep(Long stepId) {
+        return stepExecutionRepository.findById(stepId)
+                .orElseThrow(() -> new IllegalStateException("Batch step execution not found: " + stepId));
+    }
+
+    private record ChunkOutcome(int read, int written) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.agenticcp.core.common.changefeed;
+
+import com.agenticcp.core.common.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 변경 피드 위치. 마지막으로 읽은 행의 (updated_at, id) 이며 클라이언트에는 불투명한 문자열로만 노출한다.
+ */
+public record ChangeFeedCursor(LocalDateTime updatedAt, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((updatedAt.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChangeFeedCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            return new ChangeFeedCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ValidationException("cursor", "Invalid change feed cursor");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.agenticcp.core.common.changefeed;
+
+import java.util.List;
+
+/**
+ * 변경 피드로 노출할 테이블과 컬럼. {@link com.agenticcp.core.common.entity.BaseEntity} 컬럼은 항상 포함되며, 응답
+ * 필드명은 컬럼명을 camelCase 로 바꾼 것이다. 비밀번호 해시 같은 민감 컬럼은 목록에 넣지 않는다.
+ *
+ * <p>테이블에는 (updated_at, id) 인덱스가 있어야 한다.</p>
+ */
+public record ChangeFeedDefinition(String name, String table, List<String> columns) {
+}
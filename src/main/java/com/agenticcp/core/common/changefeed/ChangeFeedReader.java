@@ -0,0 +1,162 @@
+package com.agenticcp.core.common.changefeed;
+
+import com.agenticcp.core.common.exception.ValidationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * (updated_at, id) 키셋으로 테이블의 변경분을 읽는다.
+ *
+ * <p>페이지의 id 는 (updated_at, id) 인덱스만으로 고르고 (커버링), 본문 컬럼은 그 id 로만 조인해 읽는다. 아직 커밋되지
+ * 않은 트랜잭션이 이미 지나간 updated_at 으로 나중에 보이는 일을 막기 위해 {@code commit-lag} 만큼 지난 시점
+ * (watermark) 이전 행만 돌려준다. 삭제는 soft delete 이므로 {@code is_deleted} 를 거르지 않는다.</p>
+ */
+@Component
+public class ChangeFeedReader {
+
+    private static final List<String> BASE_COLUMNS =
+            List.of("id", "created_at", "updated_at", "created_by", "updated_by", "is_deleted");
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration commitLag;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    public ChangeFeedReader(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${agenticcp.changefeed.commit-lag:PT5S}") Duration commitLag,
+                            @Value("${agenticcp.changefeed.default-limit:500}") int defaultLimit,
+                            @Value("${agenticcp.changefeed.max-limit:5000}") int maxLimit) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.commitLag = commitLag;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * @param cursor 이전 응답의 {@code nextCursor}. 없으면 처음부터 읽는다.
+     */
+    public ChangeFeedResponse read(ChangeFeedDefinition definition, String cursor, Integer limit) {
+        int pageSize = resolveLimit(limit);
+        ChangeFeedCursor position = cursor != null && !cursor.isBlank() ? ChangeFeedCursor.decode(cursor) : null;
+        LocalDateTime watermark = LocalDateTime.now().minus(commitLag);
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource("watermark", Timestamp.valueOf(watermark))
+                .addValue("limit", pageSize + 1);
+        if (position != null) {
+            parameters.addValue("updatedAt", Timestamp.valueOf(position.updatedAt()));
+            parameters.addValue("id", position.id());
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<Map<String, Object>> rows = namedParameterJdbcTemplate.query(buildSql(definition, position != null),
+                parameters, new ChangeRowMapper());
+        sample.stop(meterRegistry.timer("changefeed.query", "feed", definition.name()));
+
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+        String nextCursor = cursor;
+        if (!rows.isEmpty()) {
+            Map<String, Object> last = rows.get(rows.size() - 1);
+            nextCursor = new ChangeFeedCursor((LocalDateTime) last.get("updatedAt"), (Long) last.get("id")).encode();
+        }
+        return new ChangeFeedResponse(definition.name(), rows, nextCursor, hasMore, watermark);
+    }
+
+    private static String buildSql(ChangeFeedDefinition definition, boolean fromPosition) {
+        String columns = Stream.concat(BASE_COLUMNS.stream(), definition.columns().stream())
+                .map(column -> "t." + column)
+                .collect(Collectors.joining(", "));
+        // (updated_at, id) > (:updatedAt, :id), written so the index range starts at :updatedAt
+        String after = fromPosition
+                ? "AND c.updated_at >= :updatedAt AND (c.updated_at > :updatedAt OR c.id > :id) "
+                : "";
+        return "SELECT " + columns + " FROM " + definition.table() + " t " +
+               "JOIN (SELECT c.id FROM " + definition.table() + " c WHERE c.updated_at < :watermark " + after +
+               "ORDER BY c.updated_at, c.id LIMIT :limit) page ON page.id = t.id " +
+               "ORDER BY t.updated_at, t.id";
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return defaultLimit;
+        }
+        if (limit < 1 || limit > maxLimit) {
+            throw new ValidationException("limit", "limit must be between 1 and " + maxLimit);
+        }
+        return limit;
+    }
+
+    static String toFieldName(String column) {
+        StringBuilder name = new StringBuilder(column.length());
+        boolean upper = false;
+        for (char c : column.toLowerCase().toCharArray()) {
+            if (c == '_') {
+                upper = true;
+            } else {
+                name.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return name.toString();
+    }
+
+    private static final class ChangeRowMapper implements RowMapper<Map<String, Object>> {
+
+        private String[] names;
+        private int[] types;
+
+        @Override
+        public Map<String, Object> mapRow(ResultSet rs, int rowNum) throws SQLException {
+            if (names == null) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                names = new String[metaData.getColumnCount()];
+                types = new int[names.length];
+                for (int i = 0; i < names.length; i++) {
+                    names[i] = toFieldName(metaData.getColumnLabel(i + 1));
+                    types[i] = metaData.getColumnType(i + 1);
+                }
+            }
+            Map<String, Object> row = new LinkedHashMap<>(names.length * 2);
+            for (int i = 0; i < names.length; i++) {
+                row.put(names[i], readValue(rs, i + 1, types[i]));
+            }
+            return row;
+        }
+
+        private static Object readValue(ResultSet rs, int column, int type) throws SQLException {
+            return switch (type) {
+                case Types.BIGINT, Types.INTEGER, Types.SMALLINT, Types.TINYINT -> rs.getObject(column, Long.class);
+                case Types.DECIMAL, Types.NUMERIC, Types.DOUBLE, Types.FLOAT, Types.REAL -> rs.getBigDecimal(column);
+                case Types.BIT, Types.BOOLEAN -> rs.getObject(column, Boolean.class);
+                case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE, Types.DATE -> {
+                    Timestamp value = rs.getTimestamp(column);
+                    yield value != null ? value.toLocalDateTime() : null;
+                }
+                default -> rs.getString(column);
+            };
+        }
+    }
+}
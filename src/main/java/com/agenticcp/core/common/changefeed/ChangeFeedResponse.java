@@ -0,0 +1,16 @@
+package com.agenticcp.core.common.changefeed;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 변경 피드 한 페이지. 삭제는 {@code isDeleted = true} 인 행으로 전달된다. 다음 요청에는 {@code nextCursor} 를 그대로
+ * 넘기며, {@code hasMore} 가 false 면 {@code watermark} 까지의 변경을 모두 받은 것이다.
+ */
+public record ChangeFeedResponse(String feed,
+                                 List<Map<String, Object>> changes,
+                                 String nextCursor,
+                                 boolean hasMore,
+                                 LocalDateTime watermark) {
+}
@@ -0,0 +1,117 @@
+package com.agenticcp.core.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor taskExecutor(
+            @Value("${agenticcp.async.core-pool-size:4}") int corePoolSize,
+            @Value("${agenticcp.async.max-pool-size:16}") int maxPoolSize,
+            @Value("${agenticcp.async.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("async-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor batchTaskExecutor(
+            @Value("${agenticcp.batch.pool-size:8}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setThreadNamePrefix("batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor inventorySyncExecutor(
+            @Value("${agenticcp.cloud.sync.pool-size:8}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setThreadNamePrefix("inventory-sync-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor exportTaskExecutor(
+            @Value("${agenticcp.export.pool-size:4}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        // each running export holds a DB connection, so excess requests are rejected instead of queued
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("export-");
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor bulkOperationExecutor(
+            @Value("${agenticcp.cloud.bulk.pool-size:16}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setThreadNamePrefix("bulk-op-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    // one thread per audit log partition replayed by a policy simulation
+    @Bean
+    public ThreadPoolTaskExecutor policySimulationExecutor(
+            @Value("${agenticcp.security.policy-simulation.partitions:8}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setThreadNamePrefix("policy-sim-");
+        return executor;
+    }
+
+    // a single thread keeps push frames in event order; when the queue is full new events are dropped
+    @Bean
+    public ThreadPoolTaskExecutor pushDispatchExecutor(
+            @Value("${agenticcp.notification.push.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("push-");
+        return executor;
+    }
+
+    // writes queued push frames to the sockets; each session has at most one drain queued, so the queue is bounded
+    // by the session count and a stalled write holds one thread only until its connection is closed
+    @Bean
+    public ThreadPoolTaskExecutor pushSendExecutor(
+            @Value("${agenticcp.notification.push.send-pool-size:8}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setThreadNamePrefix("push-send-");
+        return executor;
+    }
+}
@@ -0,0 +1,22 @@
+package com.agenticcp.core.common.config;
+
+import com.agenticcp.core.domain.security.audit.AuditPipelineProperties;
+import com.agenticcp.core.domain.security.audit.AuditRequestInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final AuditRequestInterceptor auditRequestInterceptor;
+    private final AuditPipelineProperties auditPipelineProperties;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(auditRequestInterceptor)
+                .excludePathPatterns(auditPipelineProperties.getApiCallExcludedPaths());
+    }
+}
@@ -0,0 +1,24 @@
+package com.agenticcp.core.common.config;
+
+import com.agenticcp.core.domain.notification.push.PushProperties;
+import com.agenticcp.core.domain.notification.push.PushWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final PushWebSocketHandler pushWebSocketHandler;
+    private final PushProperties pushProperties;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(pushWebSocketHandler, pushProperties.getPath())
+                .setAllowedOriginPatterns(pushProperties.getAllowedOrigins().toArray(String[]::new));
+    }
+}
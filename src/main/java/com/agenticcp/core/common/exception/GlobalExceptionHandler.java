@@ -2,7 +2,9 @@ package com.agenticcp.core.common.exception;
 
 import com.agenticcp.core.common.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -58,6 +60,15 @@ public class GlobalExceptionHandler {
                         .build());
     }
 
+    // a bounded pool such as exportTaskExecutor rejects instead of queueing when it is saturated
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTaskRejectedException(TaskRejectedException e) {
+        log.warn("Task rejected: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(ApiResponse.error("Server is busy, retry later", "SERVICE_BUSY"));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleGenericException(Exception e) {
         log.error("Unexpected error occurred", e);
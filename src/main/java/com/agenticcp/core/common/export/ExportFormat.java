@@ -0,0 +1,24 @@
+package com.agenticcp.core.common.export;
+
+import org.springframework.http.MediaType;
+
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType(boolean gzip) {
+        return gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType(contentType + ";charset=UTF-8");
+    }
+
+    public String fileName(String baseName, boolean gzip) {
+        return baseName + "." + extension + (gzip ? ".gz" : "");
+    }
+}
@@ -0,0 +1,9 @@
+package com.agenticcp.core.common.export;
+
+import java.util.Map;
+
+/**
+ * 내보낼 SQL 과 바인딩 파라미터. 컬럼 라벨이 NDJSON 필드명과 CSV 헤더가 된다.
+ */
+public record ExportQuery(String dataset, String sql, Map<String, ?> parameters) {
+}
@@ -0,0 +1,283 @@
+package com.agenticcp.core.common.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 대용량 조회 결과를 엔티티/리스트로 만들지 않고 JDBC 커서에서 바로 응답 스트림으로 기록한다.
+ *
+ * <p>forward-only 결과셋을 고정 fetch size 로 읽으므로 (MySQL 은 {@code useCursorFetch=true} 필요)
+ * 내보내는 행 수와 관계없이 메모리 사용량이 일정하다. 클라이언트가 연결을 끊으면 쓰기 예외로 조회가 중단되고
+ * 커넥션이 즉시 반환된다.</p>
+ *
+ * <p>내보내기는 전용 {@code exportTaskExecutor} 에서 자체 타임아웃으로 실행되며, 다른 비동기 MVC 요청의 기본 설정은 바꾸지 않는다.
+ * 풀이 가득 차면 대기열에 넣지 않고 거부하며 503 으로 응답한다.</p>
+ */
+@Slf4j
+@Component
+public class JdbcStreamingExporter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final NamedParameterJdbcTemplate streamingJdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor exportTaskExecutor;
+    private final Duration timeout;
+
+    public JdbcStreamingExporter(DataSource dataSource,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 ThreadPoolTaskExecutor exportTaskExecutor,
+                                 @Value("${agenticcp.export.fetch-size:1000}") int fetchSize,
+                                 @Value("${agenticcp.export.query-timeout-seconds:0}") int queryTimeoutSeconds,
+                                 @Value("${agenticcp.export.timeout:PT30M}") Duration timeout) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        jdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+        this.streamingJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.exportTaskExecutor = exportTaskExecutor;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 컨트롤러가 그대로 반환하는 비동기 작업. 응답 헤더를 정한 뒤 {@code response} 스트림에 직접 기록한다.
+     */
+    public WebAsyncTask<Void> export(ExportQuery query, ExportFormat format, boolean gzip,
+                                     HttpServletResponse response) {
+        return new WebAsyncTask<>(timeout.toMillis(), exportTaskExecutor, () -> {
+            response.setContentType(format.mediaType(gzip).toString());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(format.fileName(query.dataset(), gzip))
+                    .build()
+                    .toString());
+            write(query, format, gzip, response.getOutputStream());
+            return null;
+        });
+    }
+
+    public long write(ExportQuery query, ExportFormat format, boolean gzip, OutputStream target) throws IOException {
+        Counter rowCounter = meterRegistry.counter("export.rows", "dataset", query.dataset(), "format", format.name());
+        long startNanos = System.nanoTime();
+        OutputStream out = gzip
+                ? new GZIPOutputStream(target, BUFFER_SIZE)
+                : new BufferedOutputStream(target, BUFFER_SIZE);
+        RowWriter writer = format == ExportFormat.NDJSON ? new NdjsonRowWriter(out) : new CsvRowWriter(out);
+        long[] rows = new long[1];
+        try {
+            // the header comes from the result set metadata, so an empty export still gets its CSV header row
+            streamingJdbcTemplate.query(query.sql(), query.parameters(), (ResultSetExtractor<Void>) rs -> {
+                try {
+                    writer.start(rs.getMetaData());
+                    while (rs.next()) {
+                        writer.write(rs);
+                        rows[0]++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+            writer.finish();
+            out.close();
+        } catch (UncheckedIOException e) {
+            log.info("Export of {} aborted after {} rows: {}", query.dataset(), rows[0], e.getCause().getMessage());
+            throw e.getCause();
+        } finally {
+            rowCounter.increment(rows[0]);
+        }
+        log.info("Exported {} {} rows as {}{} in {} ms", rows[0], query.dataset(), format, gzip ? "+gzip" : "",
+                (System.nanoTime() - startNanos) / 1_000_000);
+        return rows[0];
+    }
+
+    private interface RowWriter {
+
+        void start(ResultSetMetaData metaData) throws SQLException, IOException;
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+        private String[] labels;
+        private int[] types;
+
+        private NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void start(ResultSetMetaData metaData) throws SQLException {
+            labels = new String[metaData.getColumnCount()];
+            types = new int[labels.length];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = metaData.getColumnLabel(i + 1);
+                types[i] = metaData.getColumnType(i + 1);
+            }
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < labels.length; i++) {
+                generator.writeFieldName(labels[i]);
+                writeValue(rs, i + 1, types[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeValue(ResultSet rs, int column, int type) throws SQLException, IOException {
+            switch (type) {
+                case Types.BIGINT, Types.INTEGER, Types.SMALLINT, Types.TINYINT -> {
+                    long value = rs.getLong(column);
+                    if (rs.wasNull()) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeNumber(value);
+                    }
+                }
+                case Types.DECIMAL, Types.NUMERIC, Types.DOUBLE, Types.FLOAT, Types.REAL -> {
+                    BigDecimal value = rs.getBigDecimal(column);
+                    if (value == null) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeNumber(value);
+                    }
+                }
+                case Types.BIT, Types.BOOLEAN -> {
+                    boolean value = rs.getBoolean(column);
+                    if (rs.wasNull()) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeBoolean(value);
+                    }
+                }
+                case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE, Types.DATE -> {
+                    Timestamp value = rs.getTimestamp(column);
+                    if (value == null) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeString(value.toLocalDateTime().toString());
+                    }
+                }
+                default -> {
+                    String value = rs.getString(column);
+                    if (value == null) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeString(value);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+        private int[] types;
+
+        private CsvRowWriter(OutputStream out) {
+            this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void start(ResultSetMetaData metaData) throws SQLException, IOException {
+            types = new int[metaData.getColumnCount()];
+            for (int i = 0; i < types.length; i++) {
+                types[i] = metaData.getColumnType(i + 1);
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeField(metaData.getColumnLabel(i + 1));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            for (int i = 0; i < types.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (types[i] == Types.TIMESTAMP || types[i] == Types.DATE) {
+                    Timestamp value = rs.getTimestamp(i + 1);
+                    if (value != null) {
+                        writer.write(value.toLocalDateTime().toString());
+                    }
+                } else {
+                    String value = rs.getString(i + 1);
+                    if (value != null) {
+                        writeField(value);
+                    }
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        // RFC 4180: quote fields containing separators, quotes or line breaks
+        private void writeField(String value) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+    }
+}
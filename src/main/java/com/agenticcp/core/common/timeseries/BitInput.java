@@ -0,0 +1,34 @@
+package com.agenticcp.core.common.timeseries;
+
+/**
+ * MSB 우선 비트 단위 읽기
+ */
+final class BitInput {
+
+    private final byte[] buffer;
+    private int bitPosition;
+
+    BitInput(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    boolean readBit() {
+        boolean bit = (buffer[bitPosition >>> 3] & (0x80 >>> (bitPosition & 7))) != 0;
+        bitPosition++;
+        return bit;
+    }
+
+    long readBits(int count) {
+        long value = 0;
+        int remaining = count;
+        while (remaining > 0) {
+            int availableInByte = 8 - (bitPosition & 7);
+            int take = Math.min(availableInByte, remaining);
+            int bits = (buffer[bitPosition >>> 3] >>> (availableInByte - take)) & ((1 << take) - 1);
+            value = (value << take) | bits;
+            bitPosition += take;
+            remaining -= take;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,56 @@
+package com.agenticcp.core.common.timeseries;
+
+import java.util.Arrays;
+
+/**
+ * MSB 우선 비트 단위 쓰기 버퍼
+ */
+final class BitOutput {
+
+    private byte[] buffer;
+    private int bitLength;
+
+    BitOutput(int initialBytes) {
+        this.buffer = new byte[Math.max(8, initialBytes)];
+    }
+
+    void writeBit(boolean bit) {
+        ensureCapacity(1);
+        if (bit) {
+            buffer[bitLength >>> 3] |= (byte) (0x80 >>> (bitLength & 7));
+        }
+        bitLength++;
+    }
+
+    /**
+     * {@code value} 의 하위 {@code count} 비트를 상위 비트부터 쓴다.
+     */
+    void writeBits(long value, int count) {
+        ensureCapacity(count);
+        int remaining = count;
+        while (remaining > 0) {
+            int byteIndex = bitLength >>> 3;
+            int freeInByte = 8 - (bitLength & 7);
+            int take = Math.min(freeInByte, remaining);
+            int bits = (int) (value >>> (remaining - take)) & ((1 << take) - 1);
+            buffer[byteIndex] |= (byte) (bits << (freeInByte - take));
+            bitLength += take;
+            remaining -= take;
+        }
+    }
+
+    int bitLength() {
+        return bitLength;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, (bitLength + 7) >>> 3);
+    }
+
+    private void ensureCapacity(int additionalBits) {
+        int requiredBytes = (bitLength + additionalBits + 7) >>> 3;
+        if (requiredBytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(requiredBytes, buffer.length * 2));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.agenticcp.core.common.timeseries;
+
+/**
+ * {@link ChunkEncoder} 로 만든 청크를 순서대로 복원한다.
+ */
+final class ChunkDecoder {
+
+    private static final int FIRST_DELTA_BITS = 32;
+
+    private final BitInput input;
+    private final int fieldCount;
+    private final int count;
+    private final long[] previousValues;
+    private final int[] previousLeading;
+    private final int[] previousTrailing;
+    private int position;
+    private long timestamp;
+    private long delta;
+
+    ChunkDecoder(byte[] data, int fieldCount, int count) {
+        this.input = new BitInput(data);
+        this.fieldCount = fieldCount;
+        this.count = count;
+        this.previousValues = new long[fieldCount];
+        this.previousLeading = new int[fieldCount];
+        this.previousTrailing = new int[fieldCount];
+    }
+
+    boolean hasNext() {
+        return position < count;
+    }
+
+    /**
+     * 다음 점의 타임스탬프를 반환하고 필드 값을 {@code values} 에 채운다.
+     */
+    long next(double[] values) {
+        if (position == 0) {
+            timestamp = input.readBits(64);
+            for (int field = 0; field < fieldCount; field++) {
+                previousValues[field] = input.readBits(64);
+                values[field] = Double.longBitsToDouble(previousValues[field]);
+            }
+        } else {
+            if (position == 1) {
+                delta = input.readBits(FIRST_DELTA_BITS);
+            } else {
+                delta += readDeltaOfDelta();
+            }
+            timestamp += delta;
+            for (int field = 0; field < fieldCount; field++) {
+                values[field] = Double.longBitsToDouble(readValue(field));
+            }
+        }
+        position++;
+        return timestamp;
+    }
+
+    private long readDeltaOfDelta() {
+        if (!input.readBit()) {
+            return 0;
+        }
+        if (!input.readBit()) {
+            return input.readBits(7) - 63;
+        }
+        if (!input.readBit()) {
+            return input.readBits(9) - 255;
+        }
+        if (!input.readBit()) {
+            return input.readBits(12) - 2047;
+        }
+        return (int) input.readBits(32);
+    }
+
+    private long readValue(int field) {
+        if (!input.readBit()) {
+            return previousValues[field];
+        }
+        long xor;
+        if (!input.readBit()) {
+            int significant = 64 - previousLeading[field] - previousTrailing[field];
+            xor = input.readBits(significant) << previousTrailing[field];
+        } else {
+            int leading = (int) input.readBits(5);
+            int significant = (int) input.readBits(6) + 1;
+            int trailing = 64 - leading - significant;
+            xor = input.readBits(significant) << trailing;
+            previousLeading[field] = leading;
+            previousTrailing[field] = trailing;
+        }
+        previousValues[field] ^= xor;
+        return previousValues[field];
+    }
+}
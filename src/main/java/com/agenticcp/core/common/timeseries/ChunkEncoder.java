@@ -0,0 +1,133 @@
+package com.agenticcp.core.common.timeseries;
+
+/**
+ * Gorilla 방식 청크 인코더 (타임스탬프 delta-of-delta, 값 XOR)
+ *
+ * <p>한 시리즈의 필드 여러 개를 같은 타임스탬프로 묶어 저장한다. 타임스탬프는 점마다 한 번만 기록하고, 각 필드는
+ * 자신의 직전 값과 XOR 한 결과의 유효 비트만 기록한다. 값이 그대로면 필드당 1비트, 타임스탬프 간격이 일정하면 1비트다.</p>
+ */
+final class ChunkEncoder {
+
+    private static final int FIRST_DELTA_BITS = 32;
+
+    private final int fieldCount;
+    private final BitOutput output;
+    private final long[] previousValues;
+    private final int[] previousLeading;
+    private final int[] previousTrailing;
+    private int count;
+    private long firstTimestamp;
+    private long lastTimestamp;
+    private long lastDelta;
+
+    ChunkEncoder(int fieldCount, int expectedPoints) {
+        this.fieldCount = fieldCount;
+        this.output = new BitOutput(16 + expectedPoints * (1 + fieldCount));
+        this.previousValues = new long[fieldCount];
+        this.previousLeading = new int[fieldCount];
+        this.previousTrailing = new int[fieldCount];
+    }
+
+    int count() {
+        return count;
+    }
+
+    long firstTimestamp() {
+        return firstTimestamp;
+    }
+
+    long lastTimestamp() {
+        return lastTimestamp;
+    }
+
+    /**
+     * 첫 간격은 32비트로 기록하므로 그보다 큰 간격은 새 청크에서 시작해야 한다.
+     */
+    boolean canAppend(long timestamp) {
+        if (count == 0) {
+            return true;
+        }
+        long delta = timestamp - lastTimestamp;
+        if (delta <= 0) {
+            return false;
+        }
+        if (count == 1) {
+            return delta < (1L << FIRST_DELTA_BITS);
+        }
+        long deltaOfDelta = delta - lastDelta;
+        return deltaOfDelta >= Integer.MIN_VALUE && deltaOfDelta <= Integer.MAX_VALUE;
+    }
+
+    void append(long timestamp, double[] values) {
+        if (count == 0) {
+            firstTimestamp = timestamp;
+            output.writeBits(timestamp, 64);
+            for (int field = 0; field < fieldCount; field++) {
+                long bits = Double.doubleToRawLongBits(values[field]);
+                output.writeBits(bits, 64);
+                previousValues[field] = bits;
+                previousLeading[field] = -1;
+            }
+        } else {
+            long delta = timestamp - lastTimestamp;
+            if (count == 1) {
+                output.writeBits(delta, FIRST_DELTA_BITS);
+            } else {
+                writeDeltaOfDelta(delta - lastDelta);
+            }
+            lastDelta = delta;
+            for (int field = 0; field < fieldCount; field++) {
+                writeValue(field, Double.doubleToRawLongBits(values[field]));
+            }
+        }
+        lastTimestamp = timestamp;
+        count++;
+    }
+
+    byte[] toByteArray() {
+        return output.toByteArray();
+    }
+
+    private void writeDeltaOfDelta(long deltaOfDelta) {
+        if (deltaOfDelta == 0) {
+            output.writeBit(false);
+        } else if (deltaOfDelta >= -63 && deltaOfDelta <= 64) {
+            output.writeBits(0b10, 2);
+            output.writeBits(deltaOfDelta + 63, 7);
+        } else if (deltaOfDelta >= -255 && deltaOfDelta <= 256) {
+            output.writeBits(0b110, 3);
+            output.writeBits(deltaOfDelta + 255, 9);
+        } else if (deltaOfDelta >= -2047 && deltaOfDelta <= 2048) {
+            output.writeBits(0b1110, 4);
+            output.writeBits(deltaOfDelta + 2047, 12);
+        } else {
+            output.writeBits(0b1111, 4);
+            output.writeBits(deltaOfDelta, 32);
+        }
+    }
+
+    private void writeValue(int field, long bits) {
+        long xor = bits ^ previousValues[field];
+        previousValues[field] = bits;
+        if (xor == 0) {
+            output.writeBit(false);
+            return;
+        }
+        output.writeBit(true);
+        int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+        int trailing = Long.numberOfTrailingZeros(xor);
+        if (previousLeading[field] >= 0 && leading >= previousLeading[field] && trailing >= previousTrailing[field]) {
+            // meaningful bits fit inside the previous window
+            output.writeBit(false);
+            output.writeBits(xor >>> previousTrailing[field], 64 - previousLeading[field] - previousTrailing[field]);
+        } else {
+            int significant = 64 - leading - trailing;
+            output.writeBit(true);
+            output.writeBits(leading, 5);
+            output.writeBits(significant - 1, 6);
+            output.writeBits(xor >>> trailing, significant);
+            previousLeading[field] = leading;
+            previousTrailing[field] = trailing;
+        }
+    }
+}
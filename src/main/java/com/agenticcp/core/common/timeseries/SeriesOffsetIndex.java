@@ -0,0 +1,80 @@
+package com.agenticcp.core.common.timeseries;
+
+/**
+ * 세그먼트 안에서 시리즈별 마지막 청크 위치 (long → int 개방 주소법 해시, 박싱 없음)
+ */
+final class SeriesOffsetIndex {
+
+    static final int MISSING = -1;
+
+    private long[] keys;
+    private int[] offsets;
+    private boolean[] used;
+    private int size;
+
+    SeriesOffsetIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2) - 1) << 1;
+        keys = new long[capacity];
+        offsets = new int[capacity];
+        used = new boolean[capacity];
+    }
+
+    int get(long seriesId) {
+        int mask = keys.length - 1;
+        int index = mix(seriesId) & mask;
+        while (used[index]) {
+            if (keys[index] == seriesId) {
+                return offsets[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    void put(long seriesId, int offset) {
+        if ((size + 1) * 4 > keys.length * 3) {
+            grow();
+        }
+        int mask = keys.length - 1;
+        int index = mix(seriesId) & mask;
+        while (used[index]) {
+            if (keys[index] == seriesId) {
+                offsets[index] = offset;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        used[index] = true;
+        keys[index] = seriesId;
+        offsets[index] = offset;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long sizeInBytes() {
+        return keys.length * (8L + 4L + 1L);
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldOffsets = offsets;
+        boolean[] oldUsed = used;
+        keys = new long[oldKeys.length * 2];
+        offsets = new int[oldKeys.length * 2];
+        used = new boolean[oldKeys.length * 2];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                put(oldKeys[i], oldOffsets[i]);
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
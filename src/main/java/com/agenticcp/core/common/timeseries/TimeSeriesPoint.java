@@ -0,0 +1,7 @@
+package com.agenticcp.core.common.timeseries;
+
+/**
+ * 시리즈의 한 시점 값. {@code values} 순서는 저장소의 필드 순서를 따른다.
+ */
+public record TimeSeriesPoint(long epochSecond, double[] values) {
+}
@@ -0,0 +1,38 @@
+package com.agenticcp.core.common.timeseries;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "agenticcp.timeseries")
+public class TimeSeriesProperties {
+
+    private String baseDir = "data/timeseries";
+
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    // chunks are grouped into one segment file per window of their first timestamp
+    private Duration segmentWindow = Duration.ofDays(1);
+
+    // open chunks are sealed this often, which bounds what a crash can lose
+    private Duration flushInterval = Duration.ofMinutes(5);
+
+    private Duration retentionCheckInterval = Duration.ofHours(1);
+
+    private Map<String, StoreProperties> stores = new HashMap<>();
+
+    @Data
+    public static class StoreProperties {
+
+        private int chunkPoints = 120;
+
+        private Duration retention = Duration.ofDays(90);
+    }
+}
@@ -0,0 +1,225 @@
+package com.agenticcp.core.common.timeseries;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 메모리 매핑된 고정 크기 세그먼트 파일. 한 시간 구간(window)에 시작한 청크들을 추가 전용으로 담는다.
+ *
+ * <pre>
+ * header (48 bytes): magic, version, fieldCount, writePosition, chunkCount, -, windowStart, minTimestamp, maxTimestamp
+ * chunk record     : seriesId(8), previousOffset(4), minTimestamp(8), maxTimestamp(8), count(4), dataLength(4), data
+ * </pre>
+ * <p>각 청크는 같은 세그먼트 안의 같은 시리즈 직전 청크 위치를 가리키므로, 메모리에는 시리즈별 마지막 위치만 둔다.
+ * 헤더의 writePosition 을 마지막에 갱신하므로 기록 도중 중단된 청크는 다시 열 때 무시된다.</p>
+ */
+final class TimeSeriesSegment implements Closeable {
+
+    static final int NO_CHUNK = SeriesOffsetIndex.MISSING;
+
+    private static final int MAGIC = 0x54534547; // "TSEG"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 48;
+    private static final int RECORD_HEADER_BYTES = 36;
+    private static final int WRITE_POSITION_OFFSET = 12;
+    private static final int CHUNK_COUNT_OFFSET = 16;
+    private static final int MIN_TIMESTAMP_OFFSET = 32;
+    private static final int MAX_TIMESTAMP_OFFSET = 40;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final long windowStart;
+    private final SeriesOffsetIndex index;
+    private int writePosition;
+    private int chunkCount;
+    private long pointCount;
+    private volatile long minTimestamp;
+    private volatile long maxTimestamp;
+
+    record ChunkHeader(int offset, long seriesId, int previousOffset, long minTimestamp, long maxTimestamp,
+                       int count, int dataLength) {
+    }
+
+    @FunctionalInterface
+    interface ChunkVisitor {
+        void visit(ChunkHeader header);
+    }
+
+    private TimeSeriesSegment(Path path, FileChannel channel, MappedByteBuffer buffer, long windowStart,
+                              SeriesOffsetIndex index) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.windowStart = windowStart;
+        this.index = index;
+    }
+
+    static TimeSeriesSegment create(Path path, int capacity, int fieldCount, long windowStart) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, fieldCount);
+        buffer.putInt(WRITE_POSITION_OFFSET, HEADER_BYTES);
+        buffer.putInt(CHUNK_COUNT_OFFSET, 0);
+        buffer.putLong(24, windowStart);
+        buffer.putLong(MIN_TIMESTAMP_OFFSET, Long.MAX_VALUE);
+        buffer.putLong(MAX_TIMESTAMP_OFFSET, Long.MIN_VALUE);
+        TimeSeriesSegment segment = new TimeSeriesSegment(path, channel, buffer, windowStart,
+                new SeriesOffsetIndex(1024));
+        segment.writePosition = HEADER_BYTES;
+        segment.minTimestamp = Long.MAX_VALUE;
+        segment.maxTimestamp = Long.MIN_VALUE;
+        return segment;
+    }
+
+    /**
+     * 기존 세그먼트를 열고 청크를 순서대로 훑어 시리즈 인덱스를 다시 만든다.
+     */
+    static TimeSeriesSegment open(Path path, int fieldCount, ChunkVisitor visitor) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            channel.close();
+            throw new IOException("Not a time-series segment: " + path);
+        }
+        if (buffer.getInt(8) != fieldCount) {
+            channel.close();
+            throw new IOException("Segment " + path + " has " + buffer.getInt(8) + " field(s), expected " + fieldCount);
+        }
+        int chunkCount = buffer.getInt(CHUNK_COUNT_OFFSET);
+        TimeSeriesSegment segment = new TimeSeriesSegment(path, channel, buffer, buffer.getLong(24),
+                new SeriesOffsetIndex(1024));
+        segment.writePosition = buffer.getInt(WRITE_POSITION_OFFSET);
+        segment.chunkCount = chunkCount;
+        segment.minTimestamp = buffer.getLong(MIN_TIMESTAMP_OFFSET);
+        segment.maxTimestamp = buffer.getLong(MAX_TIMESTAMP_OFFSET);
+
+        int offset = HEADER_BYTES;
+        while (offset < segment.writePosition) {
+            ChunkHeader header = segment.readHeader(offset);
+            segment.index.put(header.seriesId(), offset);
+            segment.pointCount += header.count();
+            visitor.visit(header);
+            offset += RECORD_HEADER_BYTES + header.dataLength();
+        }
+        return segment;
+    }
+
+    static int recordSize(int dataLength) {
+        return RECORD_HEADER_BYTES + dataLength;
+    }
+
+    static int maxDataLength(int capacity) {
+        return capacity - HEADER_BYTES - RECORD_HEADER_BYTES;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long windowStart() {
+        return windowStart;
+    }
+
+    long minTimestamp() {
+        return minTimestamp;
+    }
+
+    long maxTimestamp() {
+        return maxTimestamp;
+    }
+
+    synchronized int writePosition() {
+        return writePosition;
+    }
+
+    synchronized int chunkCount() {
+        return chunkCount;
+    }
+
+    synchronized long pointCount() {
+        return pointCount;
+    }
+
+    synchronized int seriesCount() {
+        return index.size();
+    }
+
+    synchronized long indexSizeInBytes() {
+        return index.sizeInBytes();
+    }
+
+    /**
+     * @return 청크를 쓴 위치, 남은 공간이 부족하면 {@link #NO_CHUNK}
+     */
+    synchronized int append(long seriesId, long chunkMinTimestamp, long chunkMaxTimestamp, int count, byte[] data) {
+        int offset = writePosition;
+        if ((long) offset + recordSize(data.length) > buffer.capacity()) {
+            return NO_CHUNK;
+        }
+        buffer.putLong(offset, seriesId);
+        buffer.putInt(offset + 8, index.get(seriesId));
+        buffer.putLong(offset + 12, chunkMinTimestamp);
+        buffer.putLong(offset + 20, chunkMaxTimestamp);
+        buffer.putInt(offset + 28, count);
+        buffer.putInt(offset + 32, data.length);
+        buffer.put(offset + RECORD_HEADER_BYTES, data);
+
+        writePosition = offset + recordSize(data.length);
+        chunkCount++;
+        pointCount += count;
+        if (chunkMinTimestamp < minTimestamp) {
+            minTimestamp = chunkMinTimestamp;
+            buffer.putLong(MIN_TIMESTAMP_OFFSET, chunkMinTimestamp);
+        }
+        if (chunkMaxTimestamp > maxTimestamp) {
+            maxTimestamp = chunkMaxTimestamp;
+            buffer.putLong(MAX_TIMESTAMP_OFFSET, chunkMaxTimestamp);
+        }
+        buffer.putInt(CHUNK_COUNT_OFFSET, chunkCount);
+        buffer.putInt(WRITE_POSITION_OFFSET, writePosition);
+        index.put(seriesId, offset);
+        return offset;
+    }
+
+    synchronized int lastChunkOffset(long seriesId) {
+        return index.get(seriesId);
+    }
+
+    ChunkHeader readHeader(int offset) {
+        return new ChunkHeader(offset, buffer.getLong(offset), buffer.getInt(offset + 8),
+                buffer.getLong(offset + 12), buffer.getLong(offset + 20), buffer.getInt(offset + 28),
+                buffer.getInt(offset + 32));
+    }
+
+    byte[] readData(ChunkHeader header) {
+        byte[] data = new byte[header.dataLength()];
+        buffer.get(header.offset() + RECORD_HEADER_BYTES, data);
+        return data;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            force();
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.agenticcp.core.common.timeseries;
+
+import com.agenticcp.core.common.timeseries.TimeSeriesSegment.ChunkHeader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * 압축 시계열 저장소
+ *
+ * <p>시리즈(long id)마다 고정 개수의 double 필드를 가진 점을 시간 순으로 받는다. 열린 청크는 메모리에서 Gorilla 방식으로
+ * 인코딩하다가 {@code chunkPoints} 개가 차거나 {@link #flush()} 때 봉인해, 청크 시작 시각이 속한 시간 구간의 세그먼트
+ * 파일에 추가한다. 조회는 세그먼트의 최소/최대 시각으로 먼저 거르고, 세그먼트 안에서는 시리즈의 청크 체인을 따라가며
+ * 구간이 겹치는 청크만 복원한다. 보존 기간이 지난 세그먼트는 파일째 삭제한다.</p>
+ *
+ * <p>시리즈마다 직전 시각보다 같거나 이른 점은 버리므로 같은 데이터를 다시 써도 중복되지 않는다.</p>
+ */
+@Slf4j
+public class TimeSeriesStore implements Closeable {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final String name;
+    private final Path directory;
+    private final Options options;
+    private final long windowSeconds;
+    private final ConcurrentHashMap<Long, Series> series = new ConcurrentHashMap<>();
+    private final List<TimeSeriesSegment> segments = new CopyOnWriteArrayList<>();
+    private final Map<Long, TimeSeriesSegment> activeSegments = new HashMap<>();
+    private long nextSegmentSequence;
+
+    public record Options(int fieldCount, int chunkPoints, int segmentBytes, Duration segmentWindow,
+                          Duration retention) {
+    }
+
+    private static final class Series {
+        private ChunkEncoder head;
+        private long lastTimestamp = Long.MIN_VALUE;
+    }
+
+    private TimeSeriesStore(String name, Path directory, Options options) {
+        this.name = name;
+        this.directory = directory;
+        this.options = options;
+        this.windowSeconds = options.segmentWindow().toSeconds();
+    }
+
+    public static TimeSeriesStore open(String name, Path directory, Options options) throws IOException {
+        Files.createDirectories(directory);
+        TimeSeriesStore store = new TimeSeriesStore(name, directory, options);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (Path file : files) {
+            TimeSeriesSegment segment = TimeSeriesSegment.open(file, options.fieldCount(), header -> {
+                Series recovered = store.series.computeIfAbsent(header.seriesId(), id -> new Series());
+                recovered.lastTimestamp = Math.max(recovered.lastTimestamp, header.maxTimestamp());
+            });
+            store.segments.add(segment);
+            store.activeSegments.put(segment.windowStart(), segment);
+            store.nextSegmentSequence = Math.max(store.nextSegmentSequence, sequenceOf(file) + 1);
+        }
+        log.info("Opened time-series store '{}' at {} with {} segment(s) and {} series",
+                name, directory, store.segments.size(), store.series.size());
+        return store;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Options getOptions() {
+        return options;
+    }
+
+    /**
+     * @return 시리즈의 마지막 시각보다 이른 점이라 버렸으면 false
+     */
+    public boolean append(long seriesId, long epochSecond, double... values) {
+        if (values.length != options.fieldCount()) {
+            throw new IllegalArgumentException("Expected " + options.fieldCount() + " value(s), got " + values.length);
+        }
+        Series target = series.computeIfAbsent(seriesId, id -> new Series());
+        synchronized (target) {
+            if (epochSecond <= target.lastTimestamp) {
+                return false;
+            }
+            if (target.head != null && !target.head.canAppend(epochSecond)) {
+                seal(seriesId, target);
+            }
+            if (target.head == null) {
+                target.head = new ChunkEncoder(options.fieldCount(), options.chunkPoints());
+            }
+            target.head.append(epochSecond, values);
+            target.lastTimestamp = epochSecond;
+            if (target.head.count() >= options.chunkPoints()) {
+                seal(seriesId, target);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * @return 시리즈의 마지막 점 시각, 점이 없으면 {@link Long#MIN_VALUE}
+     */
+    public long lastTimestamp(long seriesId) {
+        Series target = series.get(seriesId);
+        if (target == null) {
+            return Long.MIN_VALUE;
+        }
+        synchronized (target) {
+            return target.lastTimestamp;
+        }
+    }
+
+    /**
+     * [from, to] 구간(양 끝 포함)의 점을 시각 순으로 반환한다.
+     */
+    public List<TimeSeriesPoint> query(long seriesId, long fromEpochSecond, long toEpochSecond) {
+        Series target = series.get(seriesId);
+        if (target == null) {
+            return List.of();
+        }
+        List<TimeSeriesPoint> points = new ArrayList<>();
+        // snapshot the open chunk first; a chunk sealed meanwhile shows up twice and is de-duplicated below
+        synchronized (target) {
+            ChunkEncoder head = target.head;
+            if (head != null && head.count() > 0
+                    && head.lastTimestamp() >= fromEpochSecond && head.firstTimestamp() <= toEpochSecond) {
+                decode(head.toByteArray(), head.count(), fromEpochSecond, toEpochSecond, points);
+            }
+        }
+        for (TimeSeriesSegment segment : segments) {
+            if (segment.maxTimestamp() < fromEpochSecond || segment.minTimestamp() > toEpochSecond) {
+                continue;
+            }
+            int offset = segment.lastChunkOffset(seriesId);
+            while (offset != TimeSeriesSegment.NO_CHUNK) {
+                ChunkHeader header = segment.readHeader(offset);
+                if (header.maxTimestamp() < fromEpochSecond) {
+                    break; // chunks of a series are chained newest first
+                }
+                if (header.minTimestamp() <= toEpochSecond) {
+                    decode(segment.readData(header), header.count(), fromEpochSecond, toEpochSecond, points);
+                }
+                offset = header.previousOffset();
+            }
+        }
+        points.sort(Comparator.comparingLong(TimeSeriesPoint::epochSecond));
+        List<TimeSeriesPoint> distinct = new ArrayList<>(points.size());
+        for (TimeSeriesPoint point : points) {
+            if (distinct.isEmpty() || distinct.get(distinct.size() - 1).epochSecond() != point.epochSecond()) {
+                distinct.add(point);
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * 열린 청크를 모두 봉인하고 세그먼트를 디스크에 동기화한다. 프로세스가 죽으면 마지막 flush 이후의 점만 잃는다.
+     */
+    public void flush() {
+        series.forEach((seriesId, target) -> {
+            synchronized (target) {
+                if (target.head != null && target.head.count() > 0) {
+                    seal(seriesId, target);
+                }
+            }
+        });
+        segments.forEach(TimeSeriesSegment::force);
+    }
+
+    /**
+     * 마지막 점이 보존 기간보다 오래된 세그먼트를 삭제한다.
+     */
+    public int applyRetention(long nowEpochSecond) {
+        long cutoff = nowEpochSecond - options.retention().toSeconds();
+        int deleted = 0;
+        for (TimeSeriesSegment segment : segments) {
+            if (segment.chunkCount() == 0 || segment.maxTimestamp() >= cutoff) {
+                continue;
+            }
+            synchronized (this) {
+                activeSegments.remove(segment.windowStart(), segment);
+            }
+            segments.remove(segment);
+            try {
+                segment.delete();
+                deleted++;
+            } catch (IOException e) {
+                log.warn("Failed to delete expired segment {}: {}", segment.path(), e.getMessage());
+            }
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} expired segment(s) from time-series store '{}'", deleted, name);
+        }
+        return deleted;
+    }
+
+    public TimeSeriesStoreStats getStats() {
+        long chunks = 0;
+        long points = 0;
+        long storedBytes = 0;
+        long indexBytes = 0;
+        for (TimeSeriesSegment segment : segments) {
+            chunks += segment.chunkCount();
+            points += segment.pointCount();
+            storedBytes += segment.writePosition();
+            indexBytes += segment.indexSizeInBytes();
+        }
+        long rawBytes = points * (Long.BYTES + (long) Double.BYTES * options.fieldCount());
+        return new TimeSeriesStoreStats(name, series.size(), segments.size(), chunks, points, storedBytes,
+                rawBytes, indexBytes);
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        for (TimeSeriesSegment segment : segments) {
+            segment.close();
+        }
+        log.info("Closed time-series store '{}'", name);
+    }
+
+    private void seal(long seriesId, Series target) {
+        ChunkEncoder head = target.head;
+        target.head = null;
+        byte[] data = head.toByteArray();
+        if (data.length > TimeSeriesSegment.maxDataLength(options.segmentBytes())) {
+            throw new IllegalStateException("Chunk of " + data.length + " bytes does not fit in a segment of "
+                    + options.segmentBytes() + " bytes");
+        }
+        long window = Math.floorDiv(head.firstTimestamp(), windowSeconds) * windowSeconds;
+        synchronized (this) {
+            TimeSeriesSegment segment = activeSegments.get(window);
+            if (segment == null || segment.append(seriesId, head.firstTimestamp(), head.lastTimestamp(),
+                    head.count(), data) == TimeSeriesSegment.NO_CHUNK) {
+                segment = createSegment(window);
+                segment.append(seriesId, head.firstTimestamp(), head.lastTimestamp(), head.count(), data);
+            }
+        }
+    }
+
+    private TimeSeriesSegment createSegment(long window) {
+        Path path = directory.resolve(String.format("%s-%012d-%08d%s", name, window, nextSegmentSequence++,
+                SEGMENT_SUFFIX));
+        try {
+            TimeSeriesSegment segment = TimeSeriesSegment.create(path, options.segmentBytes(), options.fieldCount(),
+                    window);
+            segments.add(segment);
+            activeSegments.put(window, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create segment " + path, e);
+        }
+    }
+
+    private void decode(byte[] data, int count, long from, long to, List<TimeSeriesPoint> points) {
+        ChunkDecoder decoder = new ChunkDecoder(data, options.fieldCount(), count);
+        while (decoder.hasNext()) {
+            double[] values = new double[options.fieldCount()];
+            long epochSecond = decoder.next(values);
+            if (epochSecond > to) {
+                break;
+            }
+            if (epochSecond >= from) {
+                points.add(new TimeSeriesPoint(epochSecond, values));
+            }
+        }
+    }
+
+    private static long sequenceOf(Path file) {
+        String fileName = file.getFileName().toString();
+        String withoutSuffix = fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length());
+        try {
+            return Long.parseLong(withoutSuffix.substring(withoutSuffix.lastIndexOf('-') + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
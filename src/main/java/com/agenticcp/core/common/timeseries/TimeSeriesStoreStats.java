@@ -0,0 +1,15 @@
+package com.agenticcp.core.common.timeseries;
+
+public record TimeSeriesStoreStats(String name,
+                                   long series,
+                                   int segments,
+                                   long chunks,
+                                   long points,
+                                   long storedBytes,
+                                   long rawBytes,
+                                   long indexBytes) {
+
+    public double compressionRatio() {
+        return storedBytes > 0 ? (double) rawBytes / storedBytes : 0;
+    }
+}
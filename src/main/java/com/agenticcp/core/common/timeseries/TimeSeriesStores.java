@@ -0,0 +1,73 @@
+package com.agenticcp.core.common.timeseries;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이름별 시계열 저장소를 열고, 주기적인 청크 봉인/보존 기간 정리와 종료 시 닫기를 맡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimeSeriesStores {
+
+    private final TimeSeriesProperties properties;
+    private final Map<String, TimeSeriesStore> stores = new ConcurrentHashMap<>();
+
+    public TimeSeriesStore open(String name, int fieldCount) {
+        return stores.computeIfAbsent(name, key -> {
+            TimeSeriesProperties.StoreProperties storeProperties =
+                    properties.getStores().getOrDefault(name, new TimeSeriesProperties.StoreProperties());
+            TimeSeriesStore.Options options = new TimeSeriesStore.Options(fieldCount,
+                    storeProperties.getChunkPoints(), (int) properties.getSegmentSize().toBytes(),
+                    properties.getSegmentWindow(), storeProperties.getRetention());
+            try {
+                return TimeSeriesStore.open(name, Path.of(properties.getBaseDir(), name), options);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to open time-series store " + name, e);
+            }
+        });
+    }
+
+    public Map<String, TimeSeriesStore> getStores() {
+        return Map.copyOf(stores);
+    }
+
+    @Scheduled(fixedDelayString = "${agenticcp.timeseries.flush-interval:PT5M}")
+    public void flushAll() {
+        stores.values().forEach(store -> {
+            try {
+                store.flush();
+            } catch (RuntimeException e) {
+                log.error("Failed to flush time-series store '{}'", store.getName(), e);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${agenticcp.timeseries.retention-check-interval:PT1H}")
+    public void applyRetention() {
+        long now = System.currentTimeMillis() / 1000;
+        stores.values().forEach(store -> store.applyRetention(now));
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        stores.values().forEach(store -> {
+            try {
+                store.close();
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to close time-series store '{}'", store.getName(), e);
+            }
+        });
+        stores.clear();
+    }
+}
@@ -0,0 +1,12 @@
+package com.agenticcp.core.domain.cloud.adapter;
+
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.agenticcp.core.domain.cloud.entity.CloudRegion;
+
+import java.util.List;
+
+public record InventoryFetchRequest(CloudProvider provider,
+                                    CloudRegion region,
+                                    List<String> serviceKeys,
+                                    List<String> tenantKeys) {
+}
@@ -0,0 +1,23 @@
+package com.agenticcp.core.domain.cloud.adapter;
+
+import com.agenticcp.core.common.exception.BusinessException;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class LifecycleAdapterRegistry {
+
+    private final List<ProviderLifecycleAdapter> adapters;
+
+    public ProviderLifecycleAdapter getAdapter(CloudProvider provider) {
+        return adapters.stream()
+                .filter(adapter -> adapter.supports(provider))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(
+                        "No lifecycle adapter for provider: " + provider.getProviderKey(), "LIFECYCLE_ADAPTER_NOT_FOUND"));
+    }
+}
@@ -0,0 +1,17 @@
+package com.agenticcp.core.domain.cloud.adapter;
+
+import java.util.Map;
+
+/**
+ * 리소스 묶음에 대한 동작 결과. {@code failures} 에 없는 리소스는 성공한 것으로 본다.
+ */
+public record LifecycleBatchResult(Map<String, String> failures) {
+
+    public LifecycleBatchResult {
+        failures = failures != null ? failures : Map.of();
+    }
+
+    public static LifecycleBatchResult allSucceeded() {
+        return new LifecycleBatchResult(Map.of());
+    }
+}
@@ -0,0 +1,20 @@
+package com.agenticcp.core.domain.cloud.adapter;
+
+import com.agenticcp.core.domain.cloud.dto.CloudResourceSnapshot;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 클라우드 프로바이더별 리소스 인벤토리 조회 어댑터
+ */
+public interface ProviderInventoryAdapter {
+
+    boolean supports(CloudProvider provider);
+
+    /**
+     * 한 리전의 전체 리소스를 페이지 단위로 전달한다. 호출이 정상 반환되면 전달된 목록이 리전의 전체 상태로 간주된다.
+     */
+    void fetchResources(InventoryFetchRequest request, Consumer<List<CloudResourceSnapshot>> pageConsumer);
+}
@@ -0,0 +1,20 @@
+package com.agenticcp.core.domain.cloud.adapter;
+
+import com.agenticcp.core.domain.cloud.entity.BulkOperation;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+
+import java.util.List;
+
+/**
+ * 클라우드 프로바이더별 리소스 시작/중지/종료 어댑터
+ */
+public interface ProviderLifecycleAdapter {
+
+    boolean supports(CloudProvider provider);
+
+    /**
+     * 같은 리전의 리소스 묶음에 한 번의 API 호출로 동작을 요청한다. 묶음 전체가 실패하면 예외를 던진다.
+     */
+    LifecycleBatchResult apply(CloudProvider provider, String regionKey,
+                               BulkOperation.OperationType operationType, List<String> resourceIds);
+}
@@ -0,0 +1,72 @@
+package com.agenticcp.core.domain.cloud.adapter;
+
+import com.agenticcp.core.domain.cloud.client.ProviderApiException;
+import com.agenticcp.core.domain.cloud.client.ProviderApiRequest;
+import com.agenticcp.core.domain.cloud.client.ProviderApiResponse;
+import com.agenticcp.core.domain.cloud.client.ResilientProviderClient;
+import com.agenticcp.core.domain.cloud.dto.CloudResourceSnapshot;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * REST 인벤토리 API 어댑터: {@code GET {apiEndpoint}/regions/{regionKey}/resources?pageSize=&pageToken=}
+ */
+@Component
+public class RestInventoryAdapter implements ProviderInventoryAdapter {
+
+    private final ResilientProviderClient providerClient;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+
+    public RestInventoryAdapter(ResilientProviderClient providerClient,
+                                ObjectMapper objectMapper,
+                                @Value("${agenticcp.cloud.sync.page-size:500}") int pageSize) {
+        this.providerClient = providerClient;
+        this.objectMapper = objectMapper.copy().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.pageSize = pageSize;
+    }
+
+    public record InventoryPage(List<CloudResourceSnapshot> resources, String nextPageToken) {
+    }
+
+    @Override
+    public boolean supports(CloudProvider provider) {
+        String endpoint = provider.getApiEndpoint();
+        return endpoint != null && (endpoint.startsWith("http://") || endpoint.startsWith("https://"));
+    }
+
+    @Override
+    public void fetchResources(InventoryFetchRequest request, Consumer<List<CloudResourceSnapshot>> pageConsumer) {
+        String path = "/regions/" + request.region().getRegionKey() + "/resources";
+        String pageToken = null;
+        do {
+            Map<String, String> query = new HashMap<>();
+            query.put("pageSize", String.valueOf(pageSize));
+            query.put("pageToken", pageToken);
+            ProviderApiResponse response = providerClient.execute(request.provider(), ProviderApiRequest.get(path, query));
+            InventoryPage page = parse(response);
+            if (page.resources() != null && !page.resources().isEmpty()) {
+                pageConsumer.accept(page.resources());
+            }
+            pageToken = page.nextPageToken();
+        } while (pageToken != null && !pageToken.isEmpty());
+    }
+
+    private InventoryPage parse(ProviderApiResponse response) {
+        try {
+            return objectMapper.readValue(response.body(), InventoryPage.class);
+        } catch (JsonProcessingException e) {
+            throw new ProviderApiException("Malformed inventory page: " + e.getOriginalMessage(),
+                    response.statusCode(), false, false, null);
+        }
+    }
+}
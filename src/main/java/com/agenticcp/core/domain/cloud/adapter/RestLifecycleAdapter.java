@@ -0,0 +1,61 @@
+package com.agenticcp.core.domain.cloud.adapter;
+
+import com.agenticcp.core.domain.cloud.client.ProviderApiException;
+import com.agenticcp.core.domain.cloud.client.ProviderApiRequest;
+import com.agenticcp.core.domain.cloud.client.ProviderApiResponse;
+import com.agenticcp.core.domain.cloud.client.ResilientProviderClient;
+import com.agenticcp.core.domain.cloud.entity.BulkOperation;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * REST 라이프사이클 API 어댑터: {@code POST {apiEndpoint}/regions/{regionKey}/resources:{start|stop|terminate}}
+ * 요청 본문은 {@code {"resourceIds": [...]}}, 응답은 실패한 리소스만 담은 {@code {"failures": {"id": "reason"}}}.
+ */
+@Component
+public class RestLifecycleAdapter implements ProviderLifecycleAdapter {
+
+    private final ResilientProviderClient providerClient;
+    private final ObjectMapper objectMapper;
+
+    public RestLifecycleAdapter(ResilientProviderClient providerClient, ObjectMapper objectMapper) {
+        this.providerClient = providerClient;
+        this.objectMapper = objectMapper.copy().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    private record LifecycleRequestBody(List<String> resourceIds) {
+    }
+
+    private record LifecycleResponseBody(Map<String, String> failures) {
+    }
+
+    @Override
+    public boolean supports(CloudProvider provider) {
+        String endpoint = provider.getApiEndpoint();
+        return endpoint != null && (endpoint.startsWith("http://") || endpoint.startsWith("https://"));
+    }
+
+    @Override
+    public LifecycleBatchResult apply(CloudProvider provider, String regionKey,
+                                      BulkOperation.OperationType operationType, List<String> resourceIds) {
+        String path = "/regions/" + regionKey + "/resources:" + operationType.name().toLowerCase(Locale.ROOT);
+        try {
+            ProviderApiResponse response = providerClient.execute(provider,
+                    ProviderApiRequest.post(path, objectMapper.writeValueAsString(new LifecycleRequestBody(resourceIds))));
+            if (response.body() == null || response.body().isBlank()) {
+                return LifecycleBatchResult.allSucceeded();
+            }
+            return new LifecycleBatchResult(objectMapper.readValue(response.body(), LifecycleResponseBody.class).failures());
+        } catch (JsonProcessingException e) {
+            throw new ProviderApiException("Malformed lifecycle response: " + e.getOriginalMessage(),
+                    200, false, false, null);
+        }
+    }
+}
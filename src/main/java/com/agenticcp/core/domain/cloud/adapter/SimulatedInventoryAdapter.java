@@ -0,0 +1,227 @@
+package com.agenticcp.core.domain.cloud.adapter;
+
+import com.agenticcp.core.domain.cloud.dto.CloudResourceSnapshot;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.agenticcp.core.domain.cloud.entity.CloudResource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 오프라인 부하 테스트용 시뮬레이션 어댑터
+ *
+ * <p>api_endpoint 가 {@code simulated://} 로 시작하는 프로바이더를 담당한다 (예: {@code simulated://?resources=200000}).
+ * 리전마다 결정적인 리소스 집합을 생성하고, 호출할 때마다 churn 비율만큼 리소스를 생성/수정/종료시킨다.
+ * 인스턴스는 가까운 번호의 볼륨/서브넷/보안 그룹에, 로드 밸런서는 인스턴스에 의존하는 식으로 의존 관계도 만든다.</p>
+ */
+@Slf4j
+@Component
+public class SimulatedInventoryAdapter implements ProviderInventoryAdapter {
+
+    public static final String ENDPOINT_SCHEME = "simulated://";
+
+    private static final CloudResource.ResourceType[] RESOURCE_TYPES = {
+            CloudResource.ResourceType.INSTANCE, CloudResource.ResourceType.INSTANCE, CloudResource.ResourceType.INSTANCE,
+            CloudResource.ResourceType.VOLUME, CloudResource.ResourceType.VOLUME, CloudResource.ResourceType.SNAPSHOT,
+            CloudResource.ResourceType.DATABASE, CloudResource.ResourceType.BUCKET, CloudResource.ResourceType.LOAD_BALANCER,
+            CloudResource.ResourceType.SECURITY_GROUP, CloudResource.ResourceType.SUBNET, CloudResource.ResourceType.FUNCTION
+    };
+    private static final String[] INSTANCE_TYPES = {"t3.micro", "t3.medium", "m5.large", "m5.xlarge", "c5.2xlarge", "r5.4xlarge"};
+    private static final int[] INSTANCE_CPU = {2, 2, 2, 4, 8, 16};
+    private static final int[] INSTANCE_MEMORY_GB = {1, 4, 8, 16, 16, 128};
+    private static final String[] INSTANCE_COST = {"0.0104", "0.0416", "0.0960", "0.1920", "0.3400", "1.0080"};
+    private static final String[] ENVIRONMENTS = {"prod", "staging", "dev", "test"};
+    private static final int DEPENDENCY_SCAN = 64;
+
+    private final int defaultResourcesPerRegion;
+    private final int churnPermille;
+    private final int pageSize;
+    private final LocalDateTime baseTime = LocalDateTime.now().withNano(0);
+    private final Map<String, ScopeState> states = new ConcurrentHashMap<>();
+
+    public SimulatedInventoryAdapter(
+            @Value("${agenticcp.cloud.simulated.resources-per-region:10000}") int defaultResourcesPerRegion,
+            @Value("${agenticcp.cloud.simulated.churn-permille:10}") int churnPermille,
+            @Value("${agenticcp.cloud.simulated.page-size:1000}") int pageSize) {
+        this.defaultResourcesPerRegion = defaultResourcesPerRegion;
+        this.churnPermille = churnPermille;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean supports(CloudProvider provider) {
+        return provider.getApiEndpoint() != null && provider.getApiEndpoint().startsWith(ENDPOINT_SCHEME);
+    }
+
+    @Override
+    public void fetchResources(InventoryFetchRequest request, Consumer<List<CloudResourceSnapshot>> pageConsumer) {
+        String providerKey = request.provider().getProviderKey();
+        String regionKey = request.region().getRegionKey();
+        ScopeState state = states.computeIfAbsent(providerKey + "/" + regionKey,
+                key -> new ScopeState(resourcesPerRegion(request.provider())));
+
+        synchronized (state) {
+            state.advance(churnPermille);
+            List<CloudResourceSnapshot> page = new ArrayList<>(pageSize);
+            for (int index = state.first; index < state.end; index++) {
+                page.add(snapshot(request, providerKey, regionKey, index, state.modifiedAt[index]));
+                if (page.size() == pageSize) {
+                    pageConsumer.accept(page);
+                    page = new ArrayList<>(pageSize);
+                }
+            }
+            if (!page.isEmpty()) {
+                pageConsumer.accept(page);
+            }
+            log.debug("Simulated inventory for {}/{}: generation={}, resources={}",
+                    providerKey, regionKey, state.generation, state.end - state.first);
+        }
+    }
+
+    private int resourcesPerRegion(CloudProvider provider) {
+        String value = UriComponentsBuilder.fromUriString(provider.getApiEndpoint()).build()
+                .getQueryParams().getFirst("resources");
+        return value != null ? Integer.parseInt(value) : defaultResourcesPerRegion;
+    }
+
+    private CloudResourceSnapshot snapshot(InventoryFetchRequest request, String providerKey, String regionKey,
+                                           int index, int modifiedAt) {
+        int bucket = bucketOf(regionKey, index);
+        CloudResource.ResourceType type = RESOURCE_TYPES[bucket % RESOURCE_TYPES.length];
+        int instance = (bucket / 7) % INSTANCE_TYPES.length;
+        boolean compute = type == CloudResource.ResourceType.INSTANCE;
+
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("env", ENVIRONMENTS[bucket % ENVIRONMENTS.length]);
+        tags.put("team", "team-" + (bucket / 11) % 20);
+        tags.put("cost-center", "cc-" + (bucket / 13) % 50);
+        if (bucket % 5 == 0) {
+            tags.put("app", "app-" + (bucket / 17) % 200);
+        }
+
+        return CloudResourceSnapshot.builder()
+                .resourceId("sim-" + providerKey + "-" + regionKey + "-" + index)
+                .resourceName(type.name().toLowerCase() + "-" + index)
+                .serviceKey(pick(request.serviceKeys(), bucket / 3))
+                .tenantKey(pick(request.tenantKeys(), bucket / 5))
+                .resourceType(type)
+                .lifecycleState(modifiedAt % 4 == 3 ? CloudResource.LifecycleState.STOPPED : CloudResource.LifecycleState.RUNNING)
+                .instanceType(compute ? INSTANCE_TYPES[instance] : null)
+                .cpuCores(compute ? INSTANCE_CPU[instance] : null)
+                .memoryGb(compute ? INSTANCE_MEMORY_GB[instance] : null)
+                .storageGb(type == CloudResource.ResourceType.VOLUME ? 8L << (bucket % 8) : null)
+                .privateIpAddress("10." + (bucket % 256) + "." + ((bucket / 256) % 256) + "." + (index % 256))
+                .tags(tags)
+                .costPerHour(compute ? new BigDecimal(INSTANCE_COST[instance]) : new BigDecimal("0.0050"))
+                .createdInCloud(baseTime.minusDays(bucket % 365))
+                .lastModifiedInCloud(baseTime.plusSeconds(modifiedAt))
+                .dependsOn(dependencies(providerKey, regionKey, index, type))
+                .build();
+    }
+
+    private List<String> dependencies(String providerKey, String regionKey, int index, CloudResource.ResourceType type) {
+        List<String> dependsOn = new ArrayList<>();
+        switch (type) {
+            case INSTANCE -> {
+                addNearest(dependsOn, providerKey, regionKey, index, CloudResource.ResourceType.VOLUME, 1);
+                addNearest(dependsOn, providerKey, regionKey, index, CloudResource.ResourceType.SUBNET, 1);
+                addNearest(dependsOn, providerKey, regionKey, index, CloudResource.ResourceType.SECURITY_GROUP, 1);
+            }
+            case LOAD_BALANCER -> {
+                addNearest(dependsOn, providerKey, regionKey, index, CloudResource.ResourceType.INSTANCE, 3);
+                addNearest(dependsOn, providerKey, regionKey, index, CloudResource.ResourceType.SUBNET, 1);
+            }
+            case DATABASE -> {
+                addNearest(dependsOn, providerKey, regionKey, index, CloudResource.ResourceType.SUBNET, 1);
+                addNearest(dependsOn, providerKey, regionKey, index, CloudResource.ResourceType.SECURITY_GROUP, 1);
+            }
+            case FUNCTION -> {
+                addNearest(dependsOn, providerKey, regionKey, index, CloudResource.ResourceType.DATABASE, 1);
+                addNearest(dependsOn, providerKey, regionKey, index, CloudResource.ResourceType.BUCKET, 1);
+            }
+            case SNAPSHOT -> addNearest(dependsOn, providerKey, regionKey, index, CloudResource.ResourceType.VOLUME, 1);
+            default -> {
+            }
+        }
+        return dependsOn;
+    }
+
+    // lower-numbered resources of the same region; retired ones simply stay unresolved in the graph
+    private static void addNearest(List<String> dependsOn, String providerKey, String regionKey, int index,
+                                   CloudResource.ResourceType type, int count) {
+        int found = 0;
+        for (int candidate = index - 1; candidate >= 0 && candidate >= index - DEPENDENCY_SCAN && found < count;
+             candidate--) {
+            if (RESOURCE_TYPES[bucketOf(regionKey, candidate) % RESOURCE_TYPES.length] == type) {
+                dependsOn.add("sim-" + providerKey + "-" + regionKey + "-" + candidate);
+                found++;
+            }
+        }
+    }
+
+    private static int bucketOf(String regionKey, int index) {
+        long hash = mix(index * 31L + regionKey.hashCode());
+        return (int) ((hash >>> 1) % 1_000_000);
+    }
+
+    private static String pick(List<String> values, int bucket) {
+        return values == null || values.isEmpty() ? null : values.get(bucket % values.size());
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static final class ScopeState {
+
+        private int generation;
+        private int first;
+        private int end;
+        private int[] modifiedAt;
+
+        private ScopeState(int size) {
+            this.end = size;
+            this.modifiedAt = new int[Math.max(size, 16)];
+        }
+
+        // every generation retires the oldest churn/2 resources, adds as many new ones and modifies churn of the rest
+        private void advance(int churnPermille) {
+            generation++;
+            if (generation == 1) {
+                return;
+            }
+            int size = end - first;
+            int replaced = Math.max(1, (int) ((long) size * churnPermille / 2000));
+            first += replaced;
+            int newEnd = end + replaced;
+            if (newEnd > modifiedAt.length) {
+                modifiedAt = Arrays.copyOf(modifiedAt, Math.max(newEnd, modifiedAt.length * 2));
+            }
+            for (int index = end; index < newEnd; index++) {
+                modifiedAt[index] = generation;
+            }
+            end = newEnd;
+            for (int index = first; index < end; index++) {
+                if (Math.floorMod(mix(index * 7919L + generation), 1000) < churnPermille) {
+                    modifiedAt[index] = generation;
+                }
+            }
+        }
+    }
+}
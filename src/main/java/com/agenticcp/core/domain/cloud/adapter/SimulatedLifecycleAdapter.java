@@ -0,0 +1,51 @@
+package com.agenticcp.core.domain.cloud.adapter;
+
+import com.agenticcp.core.domain.cloud.entity.BulkOperation;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시뮬레이션 프로바이더({@code simulated://})용 라이프사이클 어댑터. 호출당 고정 지연 후 결정적으로 일부를 실패시킨다.
+ */
+@Component
+public class SimulatedLifecycleAdapter implements ProviderLifecycleAdapter {
+
+    private final long latencyMs;
+    private final int failurePermille;
+
+    public SimulatedLifecycleAdapter(
+            @Value("${agenticcp.cloud.simulated.lifecycle-latency-ms:50}") long latencyMs,
+            @Value("${agenticcp.cloud.simulated.lifecycle-failure-permille:0}") int failurePermille) {
+        this.latencyMs = latencyMs;
+        this.failurePermille = failurePermille;
+    }
+
+    @Override
+    public boolean supports(CloudProvider provider) {
+        return provider.getApiEndpoint() != null
+                && provider.getApiEndpoint().startsWith(SimulatedInventoryAdapter.ENDPOINT_SCHEME);
+    }
+
+    @Override
+    public LifecycleBatchResult apply(CloudProvider provider, String regionKey,
+                                      BulkOperation.OperationType operationType, List<String> resourceIds) {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while applying " + operationType, e);
+        }
+        Map<String, String> failures = new HashMap<>();
+        for (String resourceId : resourceIds) {
+            if (Math.floorMod(resourceId.hashCode(), 1000) < failurePermille) {
+                failures.put(resourceId, "Simulated " + operationType + " failure");
+            }
+        }
+        return new LifecycleBatchResult(failures);
+    }
+}
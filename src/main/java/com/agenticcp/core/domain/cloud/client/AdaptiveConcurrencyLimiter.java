@@ -0,0 +1,154 @@
+package com.agenticcp.core.domain.cloud.client;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 지연시간 기반(Vegas) 적응형 동시성 제한기
+ *
+ * <p>최소 RTT 대비 현재 RTT 로 프로바이더 측 대기열 길이를 추정해 한도를 조금씩 늘리거나 줄이고,
+ * 스로틀링(429)이나 타임아웃이 관측되면 한도를 곱셈적으로 줄인다.</p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final int probeInterval;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    private double limit;
+    private int inflight;
+    private long noLoadRttNanos = Long.MAX_VALUE;
+    private int samplesSinceProbe;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, int probeInterval) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.probeInterval = probeInterval;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public Optional<Permit> tryAcquire(Duration timeout) throws InterruptedException {
+        long remainingNanos = timeout.toNanos();
+        lock.lock();
+        try {
+            while (inflight >= (int) limit) {
+                if (remainingNanos <= 0) {
+                    return Optional.empty();
+                }
+                remainingNanos = permitReleased.awaitNanos(remainingNanos);
+            }
+            inflight++;
+            return Optional.of(new Permit(inflight));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInflight() {
+        lock.lock();
+        try {
+            return inflight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(Permit permit, long rttNanos, Outcome outcome) {
+        lock.lock();
+        try {
+            inflight--;
+            if (outcome == Outcome.DROPPED) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (outcome == Outcome.SUCCESS) {
+                adjust(rttNanos, permit.inflightAtStart);
+            }
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjust(long rttNanos, int inflightAtStart) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        // periodically forget the baseline so a provider that got permanently slower is re-learned
+        if (++samplesSinceProbe >= probeInterval) {
+            samplesSinceProbe = 0;
+            noLoadRttNanos = rttNanos;
+        }
+        noLoadRttNanos = Math.min(noLoadRttNanos, rttNanos);
+
+        double queueSize = limit * (1.0 - (double) noLoadRttNanos / rttNanos);
+        double step = Math.max(1.0, Math.log10(limit));
+        double alpha = 3 * step;
+        double beta = 6 * step;
+
+        if (queueSize <= alpha) {
+            // only grow when the current limit was actually used, otherwise an idle caller would inflate it
+            if (inflightAtStart * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + step);
+            }
+        } else if (queueSize >= beta) {
+            limit = Math.max(minLimit, limit - step);
+        }
+    }
+
+    private enum Outcome {
+        SUCCESS,
+        DROPPED,
+        IGNORED
+    }
+
+    public final class Permit {
+
+        private final int inflightAtStart;
+        private final long startNanos = System.nanoTime();
+        private boolean released;
+
+        private Permit(int inflightAtStart) {
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        public void onSuccess() {
+            complete(Outcome.SUCCESS);
+        }
+
+        public void onDropped() {
+            complete(Outcome.DROPPED);
+        }
+
+        public void onIgnore() {
+            complete(Outcome.IGNORED);
+        }
+
+        private void complete(Outcome outcome) {
+            if (released) {
+                return;
+            }
+            released = true;
+            release(this, System.nanoTime() - startNanos, outcome);
+        }
+
+        public long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        }
+    }
+}
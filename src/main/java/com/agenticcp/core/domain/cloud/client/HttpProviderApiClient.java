@@ -0,0 +1,92 @@
+package com.agenticcp.core.domain.cloud.client;
+
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@code CloudProvider.apiEndpoint} 가 http(s) 인 프로바이더용 기본 REST 클라이언트
+ */
+@Component
+public class HttpProviderApiClient implements ProviderApiClient {
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+
+    public HttpProviderApiClient(ProviderClientProperties properties) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        this.requestTimeout = properties.getRequestTimeout();
+    }
+
+    @Override
+    public boolean supports(CloudProvider provider) {
+        String endpoint = provider.getApiEndpoint();
+        return endpoint != null && (endpoint.startsWith("http://") || endpoint.startsWith("https://"));
+    }
+
+    @Override
+    public ProviderApiResponse execute(CloudProvider provider, ProviderApiRequest request) {
+        HttpRequest.BodyPublisher body = request.body() != null
+                ? HttpRequest.BodyPublishers.ofString(request.body())
+                : HttpRequest.BodyPublishers.noBody();
+        HttpRequest httpRequest = HttpRequest.newBuilder(buildUri(provider.getApiEndpoint(), request))
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .method(request.method(), body)
+                .build();
+
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new ProviderApiException("Provider API call failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProviderCallRejectedException("Interrupted while calling provider: " + provider.getProviderKey());
+        }
+
+        if (response.statusCode() >= 200 && response.statusCode() < 300) {
+            return new ProviderApiResponse(response.statusCode(), response.body());
+        }
+        throw ProviderApiException.fromStatus(response.statusCode(), response.body(),
+                response.headers().firstValue("Retry-After").map(HttpProviderApiClient::parseRetryAfter).orElse(null));
+    }
+
+    private static URI buildUri(String endpoint, ProviderApiRequest request) {
+        String base = endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
+        String query = "";
+        Map<String, String> params = request.queryParams();
+        if (params != null && !params.isEmpty()) {
+            query = params.entrySet().stream()
+                    .filter(entry -> entry.getValue() != null)
+                    .map(entry -> encode(entry.getKey()) + "=" + encode(entry.getValue()))
+                    .collect(Collectors.joining("&", "?", ""));
+        }
+        return URI.create(base + request.path() + query);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static Duration parseRetryAfter(String value) {
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
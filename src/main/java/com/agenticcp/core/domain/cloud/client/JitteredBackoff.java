@@ -0,0 +1,27 @@
+package com.agenticcp.core.domain.cloud.client;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지수 백오프 + full jitter. Retry-After 가 주어지면 그보다 일찍 재시도하지 않는다.
+ */
+public class JitteredBackoff {
+
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public JitteredBackoff(Duration baseDelay, Duration maxDelay) {
+        this.baseDelayMillis = baseDelay.toMillis();
+        this.maxDelayMillis = maxDelay.toMillis();
+    }
+
+    public Duration delay(int attempt, Duration retryAfter) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        if (retryAfter != null) {
+            delay = Math.max(delay, Math.min(retryAfter.toMillis(), maxDelayMillis));
+        }
+        return Duration.ofMillis(delay);
+    }
+}
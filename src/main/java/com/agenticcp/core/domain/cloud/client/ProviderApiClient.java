@@ -0,0 +1,16 @@
+package com.agenticcp.core.domain.cloud.client;
+
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+
+/**
+ * 프로바이더 API 호출 SPI
+ *
+ * <p>구현체는 단일 시도만 수행하고 실패를 {@link ProviderApiException} 으로 분류해 던진다.
+ * 동시성 제한, 회로 차단, 재시도는 {@link ResilientProviderClient} 가 담당한다.</p>
+ */
+public interface ProviderApiClient {
+
+    boolean supports(CloudProvider provider);
+
+    ProviderApiResponse execute(CloudProvider provider, ProviderApiRequest request);
+}
@@ -0,0 +1,44 @@
+package com.agenticcp.core.domain.cloud.client;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class ProviderApiException extends RuntimeException {
+
+    private final int statusCode;
+    private final boolean retryable;
+    private final boolean throttled;
+    private final Duration retryAfter;
+
+    public ProviderApiException(String message, int statusCode, boolean retryable, boolean throttled, Duration retryAfter) {
+        super(message);
+        this.statusCode = statusCode;
+        this.retryable = retryable;
+        this.throttled = throttled;
+        this.retryAfter = retryAfter;
+    }
+
+    public ProviderApiException(String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = 0;
+        this.retryable = true;
+        this.throttled = false;
+        this.retryAfter = null;
+    }
+
+    public static ProviderApiException fromStatus(int statusCode, String body, Duration retryAfter) {
+        boolean throttled = statusCode == 429;
+        boolean retryable = throttled || statusCode == 408 || statusCode >= 500;
+        return new ProviderApiException("Provider API responded " + statusCode + ": " + abbreviate(body),
+                statusCode, retryable, throttled, retryAfter);
+    }
+
+    private static String abbreviate(String body) {
+        if (body == null) {
+            return "";
+        }
+        return body.length() > 200 ? body.substring(0, 200) + "..." : body;
+    }
+}
@@ -0,0 +1,14 @@
+package com.agenticcp.core.domain.cloud.client;
+
+import java.util.Map;
+
+public record ProviderApiRequest(String method, String path, Map<String, String> queryParams, String body) {
+
+    public static ProviderApiRequest get(String path, Map<String, String> queryParams) {
+        return new ProviderApiRequest("GET", path, queryParams, null);
+    }
+
+    public static ProviderApiRequest post(String path, String body) {
+        return new ProviderApiRequest("POST", path, Map.of(), body);
+    }
+}
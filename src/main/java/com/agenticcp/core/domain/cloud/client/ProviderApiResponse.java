@@ -0,0 +1,4 @@
+package com.agenticcp.core.domain.cloud.client;
+
+public record ProviderApiResponse(int statusCode, String body) {
+}
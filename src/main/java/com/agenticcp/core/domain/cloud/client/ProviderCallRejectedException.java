@@ -0,0 +1,11 @@
+package com.agenticcp.core.domain.cloud.client;
+
+/**
+ * 회로 차단 또는 동시성 한도 대기 초과로 호출 자체가 거부된 경우
+ */
+public class ProviderCallRejectedException extends ProviderApiException {
+
+    public ProviderCallRejectedException(String message) {
+        super(message, 0, false, false, null);
+    }
+}
@@ -0,0 +1,51 @@
+package com.agenticcp.core.domain.cloud.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "agenticcp.cloud.client")
+public class ProviderClientProperties {
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    private Duration requestTimeout = Duration.ofSeconds(30);
+
+    // how long a caller may wait for a concurrency permit before the call is rejected
+    private Duration acquireTimeout = Duration.ofSeconds(30);
+
+    private Limiter limiter = new Limiter();
+
+    private Breaker breaker = new Breaker();
+
+    private Retry retry = new Retry();
+
+    @Data
+    public static class Limiter {
+        private int initialLimit = 10;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private double backoffRatio = 0.9;
+        private int probeInterval = 500;
+    }
+
+    @Data
+    public static class Breaker {
+        private int windowSize = 50;
+        private int minimumCalls = 20;
+        private int failureRateThreshold = 50;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 5;
+    }
+
+    @Data
+    public static class Retry {
+        private int maxAttempts = 4;
+        private Duration baseDelay = Duration.ofMillis(200);
+        private Duration maxDelay = Duration.ofSeconds(10);
+    }
+}
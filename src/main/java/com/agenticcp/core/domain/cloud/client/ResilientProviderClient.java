@@ -0,0 +1,136 @@
+package com.agenticcp.core.domain.cloud.client;
+
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로바이더별 적응형 동시성 제한, 회로 차단, jitter 재시도를 적용해 {@link ProviderApiClient} 를 호출한다.
+ */
+@Slf4j
+@Component
+public class ResilientProviderClient {
+
+    private final List<ProviderApiClient> clients;
+    private final ProviderClientProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final JitteredBackoff backoff;
+    private final Map<String, ProviderGuard> guards = new ConcurrentHashMap<>();
+
+    public ResilientProviderClient(List<ProviderApiClient> clients, ProviderClientProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.clients = clients;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.backoff = new JitteredBackoff(properties.getRetry().getBaseDelay(), properties.getRetry().getMaxDelay());
+    }
+
+    public record ProviderGuard(AdaptiveConcurrencyLimiter limiter, ProviderCircuitBreaker circuitBreaker) {
+    }
+
+    public ProviderApiResponse execute(CloudProvider provider, ProviderApiRequest request) {
+        ProviderApiClient client = clients.stream()
+                .filter(candidate -> candidate.supports(provider))
+                .findFirst()
+                .orElseThrow(() -> new ProviderCallRejectedException(
+                        "No API client for provider: " + provider.getProviderKey()));
+        ProviderGuard guard = getGuard(provider.getProviderKey());
+        int maxAttempts = properties.getRetry().getMaxAttempts();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return executeOnce(provider, request, client, guard);
+            } catch (ProviderCallRejectedException e) {
+                meterRegistry.counter("provider.client.rejected", "provider", provider.getProviderKey()).increment();
+                throw e;
+            } catch (ProviderApiException e) {
+                if (!e.isRetryable() || attempt >= maxAttempts) {
+                    throw e;
+                }
+                Duration delay = backoff.delay(attempt, e.getRetryAfter());
+                log.debug("Retrying {} {} on provider {} in {} ms (attempt {}/{}): {}", request.method(), request.path(),
+                        provider.getProviderKey(), delay.toMillis(), attempt + 1, maxAttempts, e.getMessage());
+                meterRegistry.counter("provider.client.retries", "provider", provider.getProviderKey()).increment();
+                sleep(delay);
+            }
+        }
+    }
+
+    public ProviderGuard getGuard(String providerKey) {
+        return guards.computeIfAbsent(providerKey, this::createGuard);
+    }
+
+    private ProviderApiResponse executeOnce(CloudProvider provider, ProviderApiRequest request,
+                                            ProviderApiClient client, ProviderGuard guard) {
+        ProviderCircuitBreaker circuitBreaker = guard.circuitBreaker();
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new ProviderCallRejectedException("Circuit breaker is open for provider: " + provider.getProviderKey());
+        }
+
+        AdaptiveConcurrencyLimiter.Permit permit;
+        try {
+            permit = guard.limiter().tryAcquire(properties.getAcquireTimeout()).orElse(null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onIgnored();
+            throw new ProviderCallRejectedException("Interrupted while waiting for provider: " + provider.getProviderKey());
+        }
+        if (permit == null) {
+            circuitBreaker.onIgnored();
+            throw new ProviderCallRejectedException("Concurrency limit wait timed out for provider: " + provider.getProviderKey());
+        }
+
+        try {
+            ProviderApiResponse response = client.execute(provider, request);
+            permit.onSuccess();
+            circuitBreaker.onSuccess();
+            return response;
+        } catch (ProviderApiException e) {
+            if (e.isThrottled() || e.isRetryable()) {
+                // throttling, timeouts and 5xx all mean the provider is past its capacity
+                permit.onDropped();
+                circuitBreaker.onFailure();
+            } else {
+                // a client error says nothing about provider health, so it neither closes nor trips the breaker
+                permit.onIgnore();
+                circuitBreaker.onIgnored();
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            permit.onIgnore();
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    private ProviderGuard createGuard(String providerKey) {
+        ProviderClientProperties.Limiter limiterConfig = properties.getLimiter();
+        ProviderClientProperties.Breaker breakerConfig = properties.getBreaker();
+        ProviderGuard guard = new ProviderGuard(
+                new AdaptiveConcurrencyLimiter(limiterConfig.getInitialLimit(), limiterConfig.getMinLimit(),
+                        limiterConfig.getMaxLimit(), limiterConfig.getBackoffRatio(), limiterConfig.getProbeInterval()),
+                new ProviderCircuitBreaker(breakerConfig.getWindowSize(), breakerConfig.getMinimumCalls(),
+                        breakerConfig.getFailureRateThreshold(), breakerConfig.getOpenDuration(),
+                        breakerConfig.getHalfOpenCalls()));
+        Tags tags = Tags.of("provider", providerKey);
+        meterRegistry.gauge("provider.client.limit", tags, guard.limiter(), AdaptiveConcurrencyLimiter::getLimit);
+        meterRegistry.gauge("provider.client.inflight", tags, guard.limiter(), AdaptiveConcurrencyLimiter::getInflight);
+        return guard;
+    }
+
+    private static void sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProviderCallRejectedException("Interrupted while backing off");
+        }
+    }
+}
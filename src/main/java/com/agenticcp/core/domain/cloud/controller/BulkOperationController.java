@@ -0,0 +1,78 @@
+package com.agenticcp.core.domain.cloud.controller;
+
+import com.agenticcp.core.common.dto.ApiResponse;
+import com.agenticcp.core.domain.cloud.dto.BulkOperationItemResponse;
+import com.agenticcp.core.domain.cloud.dto.BulkOperationRequest;
+import com.agenticcp.core.domain.cloud.dto.BulkOperationResponse;
+import com.agenticcp.core.domain.cloud.entity.BulkOperationItem;
+import com.agenticcp.core.domain.cloud.service.BulkOperationProgressPublisher;
+import com.agenticcp.core.domain.cloud.service.BulkOperationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/cloud/bulk-operations")
+@RequiredArgsConstructor
+@Tag(name = "Cloud Bulk Operations", description = "클라우드 리소스 대량 라이프사이클 작업 API")
+public class BulkOperationController {
+
+    private final BulkOperationService bulkOperationService;
+    private final BulkOperationProgressPublisher progressPublisher;
+
+    @PostMapping
+    @Operation(summary = "리소스 대량 시작/중지/종료 작업 접수 (비동기 실행)")
+    public ResponseEntity<ApiResponse<BulkOperationResponse>> submit(
+            @Valid @RequestBody BulkOperationRequest request) {
+        BulkOperationResponse operation = bulkOperationService.submit(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(operation, "Bulk operation accepted"));
+    }
+
+    @GetMapping
+    @Operation(summary = "대량 작업 목록 조회")
+    public ResponseEntity<ApiResponse<Page<BulkOperationResponse>>> getOperations(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(
+                bulkOperationService.getOperations(PageRequest.of(page, size))));
+    }
+
+    @GetMapping("/{operationId}")
+    @Operation(summary = "대량 작업 진행 상태 조회")
+    public ResponseEntity<ApiResponse<BulkOperationResponse>> getOperation(@PathVariable Long operationId) {
+        return ResponseEntity.ok(ApiResponse.success(bulkOperationService.getOperation(operationId)));
+    }
+
+    @GetMapping("/{operationId}/items")
+    @Operation(summary = "대량 작업 항목별 결과 조회")
+    public ResponseEntity<ApiResponse<Page<BulkOperationItemResponse>>> getItems(
+            @PathVariable Long operationId,
+            @RequestParam(required = false) BulkOperationItem.ItemStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(ApiResponse.success(bulkOperationService.getItems(operationId, status,
+                PageRequest.of(page, size, Sort.by("id")))));
+    }
+
+    @GetMapping(value = "/{operationId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "대량 작업 진행률 스트리밍 (SSE)")
+    public SseEmitter streamProgress(@PathVariable Long operationId) {
+        return progressPublisher.subscribe(operationId);
+    }
+
+    @PostMapping("/{operationId}/cancel")
+    @Operation(summary = "대량 작업 취소 요청 (진행 중인 배치 이후 남은 항목은 SKIPPED)")
+    public ResponseEntity<ApiResponse<BulkOperationResponse>> cancel(@PathVariable Long operationId) {
+        return ResponseEntity.ok(ApiResponse.success(bulkOperationService.cancel(operationId)));
+    }
+}
@@ -1,8 +1,11 @@
 package com.agenticcp.core.domain.cloud.controller;
 
+import com.agenticcp.core.common.changefeed.ChangeFeedResponse;
 import com.agenticcp.core.common.dto.ApiResponse;
+import com.agenticcp.core.domain.cloud.dto.InventorySyncResult;
 import com.agenticcp.core.domain.cloud.entity.CloudProvider;
 import com.agenticcp.core.domain.cloud.service.CloudProviderService;
+import com.agenticcp.core.domain.cloud.service.InventorySyncService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +22,7 @@ import java.util.List;
 public class CloudProviderController {
 
     private final CloudProviderService cloudProviderService;
+    private final InventorySyncService inventorySyncService;
 
     @GetMapping
     @Operation(summary = "모든 클라우드 프로바이더 조회")
@@ -34,6 +38,14 @@ public class CloudProviderController {
         return ResponseEntity.ok(ApiResponse.success(providers));
     }
 
+    @GetMapping("/changes")
+    @Operation(summary = "클라우드 프로바이더 변경 피드 조회 (커서 이후 변경/삭제분)")
+    public ResponseEntity<ApiResponse<ChangeFeedResponse>> getChanges(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.success(cloudProviderService.getChanges(cursor, limit)));
+    }
+
     @GetMapping("/{providerKey}")
     @Operation(summary = "특정 클라우드 프로바이더 조회")
     public ResponseEntity<ApiResponse<CloudProvider>> getProviderByKey(@PathVariable String providerKey) {
@@ -103,6 +115,13 @@ public class CloudProviderController {
         return ResponseEntity.ok(ApiResponse.success(updatedProvider, "동기화 시간이 업데이트되었습니다."));
     }
 
+    @PostMapping("/{providerKey}/inventory/sync")
+    @Operation(summary = "프로바이더 리소스 인벤토리 동기화")
+    public ResponseEntity<ApiResponse<InventorySyncResult>> syncInventory(@PathVariable String providerKey) {
+        InventorySyncResult result = inventorySyncService.syncProvider(providerKey);
+        return ResponseEntity.ok(ApiResponse.success(result, "리소스 인벤토리가 동기화되었습니다."));
+    }
+
     @PatchMapping("/{providerKey}/activate")
     @Operation(summary = "프로바이더 활성화")
     public ResponseEntity<ApiResponse<CloudProvider>> activateProvider(@PathVariable String providerKey) {
@@ -0,0 +1,106 @@
+package com.agenticcp.core.domain.cloud.controller;
+
+import com.agenticcp.core.common.dto.ApiResponse;
+import com.agenticcp.core.common.export.ExportFormat;
+import com.agenticcp.core.domain.cloud.dto.IndexMemoryReport;
+import com.agenticcp.core.domain.cloud.dto.ResourceSearchRequest;
+import com.agenticcp.core.domain.cloud.dto.ResourceSearchResponse;
+import com.agenticcp.core.domain.cloud.dto.TagQueryRequest;
+import com.agenticcp.core.domain.cloud.dto.TagQueryResponse;
+import com.agenticcp.core.domain.cloud.entity.CloudResource;
+import com.agenticcp.core.domain.cloud.service.CloudResourceExportService;
+import com.agenticcp.core.domain.cloud.service.CloudResourceService;
+import com.agenticcp.core.domain.cloud.service.InventoryIndexService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cloud/resources")
+@RequiredArgsConstructor
+@Tag(name = "Cloud Resource Management", description = "클라우드 리소스 관리 API")
+public class CloudResourceController {
+
+    private final CloudResourceService cloudResourceService;
+    private final InventoryIndexService inventoryIndexService;
+    private final CloudResourceExportService cloudResourceExportService;
+
+    @GetMapping("/export")
+    @Operation(summary = "클라우드 리소스 스트리밍 내보내기 (NDJSON/CSV, gzip 선택)")
+    public WebAsyncTask<Void> exportResources(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String providerKey,
+            @RequestParam(required = false) String tenantKey,
+            @RequestParam(required = false) CloudResource.LifecycleState lifecycleState,
+            HttpServletResponse response) {
+        return cloudResourceExportService.export(providerKey, tenantKey, lifecycleState, format, gzip, response);
+    }
+
+    @GetMapping("/{resourceId}")
+    @Operation(summary = "특정 클라우드 리소스 조회")
+    public ResponseEntity<ApiResponse<CloudResource>> getResource(@PathVariable String resourceId) {
+        return cloudResourceService.getResourceByResourceId(resourceId)
+                .map(resource -> ResponseEntity.ok(ApiResponse.success(resource)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/provider/{providerKey}")
+    @Operation(summary = "프로바이더별 클라우드 리소스 조회")
+    public ResponseEntity<ApiResponse<Page<CloudResource>>> getResourcesByProvider(
+            @PathVariable String providerKey,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        Page<CloudResource> resources = cloudResourceService.getResourcesByProvider(providerKey,
+                PageRequest.of(page, size, Sort.by("id")));
+        return ResponseEntity.ok(ApiResponse.success(resources));
+    }
+
+    @GetMapping("/lifecycle/{state}")
+    @Operation(summary = "라이프사이클 상태별 클라우드 리소스 조회")
+    public ResponseEntity<ApiResponse<Page<CloudResource>>> getResourcesByLifecycleState(
+            @PathVariable CloudResource.LifecycleState state,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        Page<CloudResource> resources = cloudResourceService.getResourcesByLifecycleState(state,
+                PageRequest.of(page, size, Sort.by("id")));
+        return ResponseEntity.ok(ApiResponse.success(resources));
+    }
+
+    @GetMapping("/provider/{providerKey}/lifecycle-counts")
+    @Operation(summary = "프로바이더별 라이프사이클 상태 집계")
+    public ResponseEntity<ApiResponse<Map<CloudResource.LifecycleState, Long>>> getLifecycleStateCounts(
+            @PathVariable String providerKey) {
+        return ResponseEntity.ok(ApiResponse.success(cloudResourceService.getLifecycleStateCounts(providerKey)));
+    }
+
+    @PostMapping("/search")
+    @Operation(summary = "속성 조합으로 클라우드 리소스 검색 (인메모리 인덱스, 커서 페이징 및 패싯 집계)")
+    public ResponseEntity<ApiResponse<ResourceSearchResponse>> searchResources(
+            @Valid @RequestBody ResourceSearchRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(inventoryIndexService.search(request)));
+    }
+
+    @PostMapping("/tags/query")
+    @Operation(summary = "태그 조건(AND/OR/NOT)으로 클라우드 리소스 검색 (커서 페이징 및 태그 패싯 집계)")
+    public ResponseEntity<ApiResponse<TagQueryResponse>> queryResourcesByTags(
+            @Valid @RequestBody TagQueryRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(inventoryIndexService.queryTags(request)));
+    }
+
+    @GetMapping("/index/memory")
+    @Operation(summary = "인벤토리 인덱스 메모리 사용량 조회")
+    public ResponseEntity<ApiResponse<IndexMemoryReport>> getIndexMemoryReport() {
+        return ResponseEntity.ok(ApiResponse.success(inventoryIndexService.getMemoryReport()));
+    }
+}
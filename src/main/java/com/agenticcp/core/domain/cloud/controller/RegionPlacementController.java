@@ -0,0 +1,37 @@
+package com.agenticcp.core.domain.cloud.controller;
+
+import com.agenticcp.core.common.dto.ApiResponse;
+import com.agenticcp.core.domain.cloud.dto.PlacementRecommendation;
+import com.agenticcp.core.domain.cloud.entity.CloudService.ServiceType;
+import com.agenticcp.core.domain.cloud.service.RegionPlacementService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/cloud/placement")
+@RequiredArgsConstructor
+@Tag(name = "Region Placement", description = "리전 배치 추천 API")
+public class RegionPlacementController {
+
+    private final RegionPlacementService regionPlacementService;
+
+    @GetMapping("/recommendations")
+    @Operation(summary = "클라이언트 위치 기준 리전 추천 (모든 프로바이더, 거리순)")
+    public ResponseEntity<ApiResponse<List<PlacementRecommendation>>> recommend(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(required = false) Set<ServiceType> services,
+            @RequestParam(defaultValue = "false") boolean governmentOnly,
+            @RequestParam(defaultValue = "false") boolean multiZone,
+            @RequestParam(required = false) Set<String> providers,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.success(regionPlacementService.recommend(latitude, longitude,
+                services, governmentOnly, multiZone, providers, limit)));
+    }
+}
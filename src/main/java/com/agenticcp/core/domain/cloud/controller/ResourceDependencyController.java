@@ -0,0 +1,65 @@
+package com.agenticcp.core.domain.cloud.controller;
+
+import com.agenticcp.core.common.dto.ApiResponse;
+import com.agenticcp.core.domain.cloud.dto.DependencyGraphStatus;
+import com.agenticcp.core.domain.cloud.dto.DependencyPathResponse;
+import com.agenticcp.core.domain.cloud.dto.DependencyTraversalResponse;
+import com.agenticcp.core.domain.cloud.dto.TenantDependencyGraphResponse;
+import com.agenticcp.core.domain.cloud.index.ResourceDependencyGraph.Direction;
+import com.agenticcp.core.domain.cloud.service.ResourceDependencyGraphService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/cloud/resource-graph")
+@RequiredArgsConstructor
+@Tag(name = "Resource Dependency Graph", description = "리소스 의존 관계 그래프 API")
+public class ResourceDependencyController {
+
+    private final ResourceDependencyGraphService graphService;
+
+    @GetMapping("/resources/{id}/dependents")
+    @Operation(summary = "리소스에 (전이적으로) 의존하는 리소스 조회 (영향 범위)")
+    public ResponseEntity<ApiResponse<DependencyTraversalResponse>> getDependents(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer maxDepth,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.success(graphService.getDependents(id, maxDepth, limit)));
+    }
+
+    @GetMapping("/resources/{id}/dependencies")
+    @Operation(summary = "리소스가 (전이적으로) 의존하는 리소스 조회")
+    public ResponseEntity<ApiResponse<DependencyTraversalResponse>> getDependencies(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer maxDepth,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.success(graphService.getDependencies(id, maxDepth, limit)));
+    }
+
+    @GetMapping("/path")
+    @Operation(summary = "두 리소스 사이의 최단 의존 경로 조회")
+    public ResponseEntity<ApiResponse<DependencyPathResponse>> findPath(
+            @RequestParam Long from,
+            @RequestParam Long to,
+            @RequestParam(required = false) Direction direction,
+            @RequestParam(required = false) Integer maxDepth) {
+        return ResponseEntity.ok(ApiResponse.success(graphService.findPath(from, to, direction, maxDepth)));
+    }
+
+    @GetMapping("/tenants/{tenantId}")
+    @Operation(summary = "테넌트 의존 부분 그래프 조회")
+    public ResponseEntity<ApiResponse<TenantDependencyGraphResponse>> getTenantGraph(
+            @PathVariable Long tenantId,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.success(graphService.getTenantGraph(tenantId, limit)));
+    }
+
+    @GetMapping("/status")
+    @Operation(summary = "의존 그래프 적재 상태 조회")
+    public ResponseEntity<ApiResponse<DependencyGraphStatus>> getStatus() {
+        return ResponseEntity.ok(ApiResponse.success(graphService.getStatus()));
+    }
+}
@@ -0,0 +1,56 @@
+package com.agenticcp.core.domain.cloud.controller;
+
+import com.agenticcp.core.common.dto.ApiResponse;
+import com.agenticcp.core.domain.cloud.dto.AvailableRegion;
+import com.agenticcp.core.domain.cloud.dto.ServiceAvailabilityMatrixResponse;
+import com.agenticcp.core.domain.cloud.entity.CloudService.ServiceType;
+import com.agenticcp.core.domain.cloud.service.ServiceAvailabilityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cloud/catalog/availability")
+@RequiredArgsConstructor
+@Tag(name = "Service Availability", description = "서비스×리전 가용성 API")
+public class ServiceAvailabilityController {
+
+    private final ServiceAvailabilityService serviceAvailabilityService;
+
+    @GetMapping
+    @Operation(summary = "서비스×리전 가용성 행렬 조회",
+            description = "서비스별 지원 리전을 regions 목록 위치 기준 비트셋(Base64)으로 반환. If-None-Match 로 304 응답 지원")
+    public ResponseEntity<ApiResponse<ServiceAvailabilityMatrixResponse>> getMatrix(WebRequest request) {
+        ServiceAvailabilityService.TaggedResponse matrix = serviceAvailabilityService.getMatrix();
+        if (request.checkNotModified(matrix.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(matrix.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(matrix.response()));
+    }
+
+    @GetMapping("/regions")
+    @Operation(summary = "서비스 유형 또는 서비스를 지원하는 리전 조회 (모든 프로바이더)")
+    public ResponseEntity<ApiResponse<List<AvailableRegion>>> getRegions(
+            @RequestParam(required = false) ServiceType serviceType,
+            @RequestParam(required = false) String providerKey,
+            @RequestParam(required = false) String serviceKey,
+            WebRequest request) {
+        String etag = serviceAvailabilityService.getEtag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(serviceAvailabilityService.getRegions(serviceType, providerKey, serviceKey)));
+    }
+}
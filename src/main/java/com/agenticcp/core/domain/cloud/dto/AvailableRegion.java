@@ -0,0 +1,4 @@
+package com.agenticcp.core.domain.cloud.dto;
+
+public record AvailableRegion(long regionId, String providerKey, String regionKey) {
+}
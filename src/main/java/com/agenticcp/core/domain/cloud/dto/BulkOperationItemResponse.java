@@ -0,0 +1,36 @@
+package com.agenticcp.core.domain.cloud.dto;
+
+import com.agenticcp.core.domain.cloud.entity.BulkOperationItem;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationItemResponse {
+
+    private Long id;
+    private String resourceId;
+    private String providerKey;
+    private String regionKey;
+    private BulkOperationItem.ItemStatus status;
+    private String errorMessage;
+    private LocalDateTime completedAt;
+
+    public static BulkOperationItemResponse from(BulkOperationItem item) {
+        return BulkOperationItemResponse.builder()
+                .id(item.getId())
+                .resourceId(item.getResourceId())
+                .providerKey(item.getProviderKey())
+                .regionKey(item.getRegionKey())
+                .status(item.getStatus())
+                .errorMessage(item.getErrorMessage())
+                .completedAt(item.getCompletedAt())
+                .build();
+    }
+}
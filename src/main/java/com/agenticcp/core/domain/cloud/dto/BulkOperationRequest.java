@@ -0,0 +1,32 @@
+package com.agenticcp.core.domain.cloud.dto;
+
+import com.agenticcp.core.domain.cloud.entity.BulkOperation;
+import com.agenticcp.core.domain.cloud.index.ResourceAttribute;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationRequest {
+
+    @NotNull
+    private BulkOperation.OperationType operationType;
+
+    // either an explicit list of provider resource ids or an attribute filter, not both
+    private List<String> resourceIds;
+
+    private Map<ResourceAttribute, List<String>> filters;
+
+    private Map<ResourceAttribute, List<String>> excludes;
+
+    // TERMINATE is refused while resources outside the targets depend on them, unless forced
+    private boolean force;
+}
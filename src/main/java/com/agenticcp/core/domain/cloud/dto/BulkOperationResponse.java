@@ -0,0 +1,52 @@
+package com.agenticcp.core.domain.cloud.dto;
+
+import com.agenticcp.core.domain.cloud.entity.BulkOperation;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResponse {
+
+    private Long id;
+    private BulkOperation.OperationType operationType;
+    private BulkOperation.OperationStatus status;
+    private int totalItems;
+    private int succeededItems;
+    private int failedItems;
+    private int skippedItems;
+    private int remainingItems;
+    private boolean cancelRequested;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime endedAt;
+    private String errorMessage;
+
+    public static BulkOperationResponse from(BulkOperation operation) {
+        int total = operation.getTotalItems();
+        int succeeded = operation.getSucceededItems();
+        int failed = operation.getFailedItems();
+        int skipped = operation.getSkippedItems();
+        return BulkOperationResponse.builder()
+                .id(operation.getId())
+                .operationType(operation.getOperationType())
+                .status(operation.getStatus())
+                .totalItems(total)
+                .succeededItems(succeeded)
+                .failedItems(failed)
+                .skippedItems(skipped)
+                .remainingItems(Math.max(0, total - succeeded - failed - skipped))
+                .cancelRequested(Boolean.TRUE.equals(operation.getCancelRequested()))
+                .createdAt(operation.getCreatedAt())
+                .startedAt(operation.getStartedAt())
+                .endedAt(operation.getEndedAt())
+                .errorMessage(operation.getErrorMessage())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.agenticcp.core.domain.cloud.dto;
+
+import com.agenticcp.core.domain.cloud.entity.CloudResource;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로바이더 어댑터가 반환하는 클라우드 측 리소스 상태
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CloudResourceSnapshot {
+
+    private String resourceId;
+    private String resourceName;
+    private String displayName;
+    private String serviceKey;
+    private String tenantKey;
+    private CloudResource.ResourceType resourceType;
+    private CloudResource.LifecycleState lifecycleState;
+    private String instanceType;
+    private String instanceSize;
+    private Integer cpuCores;
+    private Integer memoryGb;
+    private Long storageGb;
+    private Integer networkBandwidthMbps;
+    private String privateIpAddress;
+    private String publicIpAddress;
+    private Map<String, String> tags;
+    private BigDecimal costPerHour;
+    private LocalDateTime createdInCloud;
+    private LocalDateTime lastModifiedInCloud;
+    // provider resource ids this resource depends on; null means the provider does not report dependencies
+    private List<String> dependsOn;
+}
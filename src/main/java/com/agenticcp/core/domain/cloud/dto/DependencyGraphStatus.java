@@ -0,0 +1,12 @@
+package com.agenticcp.core.domain.cloud.dto;
+
+import java.time.LocalDateTime;
+
+public record DependencyGraphStatus(boolean ready,
+                                    LocalDateTime builtAt,
+                                    long buildMillis,
+                                    int resources,
+                                    int edges,
+                                    int tenants,
+                                    long sizeInBytes) {
+}
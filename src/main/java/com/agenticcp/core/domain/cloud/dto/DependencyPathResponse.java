@@ -0,0 +1,15 @@
+package com.agenticcp.core.domain.cloud.dto;
+
+import com.agenticcp.core.domain.cloud.index.ResourceDependencyGraph.Direction;
+
+import java.util.List;
+
+/**
+ * 두 리소스 사이의 최단 의존 경로 (시작/끝 포함, 경로가 없으면 빈 목록)
+ */
+public record DependencyPathResponse(long fromId,
+                                     long toId,
+                                     Direction direction,
+                                     boolean found,
+                                     List<Long> path) {
+}
@@ -0,0 +1,31 @@
+package com.agenticcp.core.domain.cloud.dto;
+
+import com.agenticcp.core.domain.cloud.index.ResourceDependencyGraph;
+import com.agenticcp.core.domain.cloud.index.ResourceDependencyGraph.Direction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 의존 그래프 탐색 결과. {@code reached} 는 전체 도달 리소스 수이고 {@code resources} 는 가까운 순으로 일부만 담는다.
+ */
+public record DependencyTraversalResponse(List<Long> roots,
+                                          Direction direction,
+                                          int reached,
+                                          int maxDepthReached,
+                                          boolean truncated,
+                                          List<ReachedResource> resources) {
+
+    public record ReachedResource(long id, int depth) {
+    }
+
+    public static DependencyTraversalResponse of(List<Long> roots, Direction direction,
+                                                 ResourceDependencyGraph.Traversal traversal) {
+        List<ReachedResource> resources = new ArrayList<>(traversal.resourceIds().length);
+        for (int i = 0; i < traversal.resourceIds().length; i++) {
+            resources.add(new ReachedResource(traversal.resourceIds()[i], traversal.depths()[i]));
+        }
+        return new DependencyTraversalResponse(roots, direction, traversal.reached(), traversal.maxDepthReached(),
+                traversal.truncated(), resources);
+    }
+}
@@ -0,0 +1,30 @@
+package com.agenticcp.core.domain.cloud.dto;
+
+import com.agenticcp.core.domain.cloud.index.ResourceAttribute;
+
+import java.util.Map;
+
+/**
+ * 인벤토리 인덱스 메모리 사용량. {@code projectedBytesFor5M} 는 현재 리소스당 비용으로 500만 건을 추정한 값이다.
+ */
+public record IndexMemoryReport(long resourceCount,
+                                long bitmapBytes,
+                                long forwardBytes,
+                                long totalBytes,
+                                double bytesPerResource,
+                                long projectedBytesFor5M,
+                                Map<ResourceAttribute, AttributeMemory> attributes) {
+
+    private static final long PROJECTION_SIZE = 5_000_000L;
+
+    public record AttributeMemory(int distinctValues, long bitmapBytes, long forwardBytes) {
+    }
+
+    public static IndexMemoryReport of(long resourceCount, long bitmapBytes, long forwardBytes,
+                                       Map<ResourceAttribute, AttributeMemory> attributes) {
+        long total = bitmapBytes + forwardBytes;
+        double perResource = resourceCount > 0 ? (double) total / resourceCount : 0;
+        return new IndexMemoryReport(resourceCount, bitmapBytes, forwardBytes, total, perResource,
+                (long) (perResource * PROJECTION_SIZE), attributes);
+    }
+}
@@ -0,0 +1,58 @@
+package com.agenticcp.core.domain.cloud.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventorySyncResult {
+
+    private String providerKey;
+    private LocalDateTime startedAt;
+    private long durationMs;
+    private long fetched;
+    private long inserted;
+    private long updated;
+    private long terminated;
+    private long skipped;
+    private List<RegionSyncResult> regions;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RegionSyncResult {
+        private String regionKey;
+        private boolean success;
+        private long fetched;
+        private long inserted;
+        private long updated;
+        private long unchanged;
+        private long terminated;
+        private long skipped;
+        private long durationMs;
+        private String errorMessage;
+    }
+
+    public static InventorySyncResult of(String providerKey, LocalDateTime startedAt, long durationMs,
+                                         List<RegionSyncResult> regions) {
+        return InventorySyncResult.builder()
+                .providerKey(providerKey)
+                .startedAt(startedAt)
+                .durationMs(durationMs)
+                .fetched(regions.stream().mapToLong(RegionSyncResult::getFetched).sum())
+                .inserted(regions.stream().mapToLong(RegionSyncResult::getInserted).sum())
+                .updated(regions.stream().mapToLong(RegionSyncResult::getUpdated).sum())
+                .terminated(regions.stream().mapToLong(RegionSyncResult::getTerminated).sum())
+                .skipped(regions.stream().mapToLong(RegionSyncResult::getSkipped).sum())
+                .regions(regions)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.agenticcp.core.domain.cloud.dto;
+
+import com.agenticcp.core.domain.cloud.index.PlacementRegion;
+import com.agenticcp.core.domain.cloud.index.RegionPlacementIndex;
+
+public record PlacementRecommendation(int rank,
+                                      String providerKey,
+                                      String regionKey,
+                                      String displayName,
+                                      String country,
+                                      String city,
+                                      double distanceKm,
+                                      Integer latencyMs,
+                                      boolean government,
+                                      boolean multiZone) {
+
+    public static PlacementRecommendation of(int rank, RegionPlacementIndex.Match match) {
+        PlacementRegion region = match.region();
+        return new PlacementRecommendation(rank, region.providerKey(), region.regionKey(), region.displayName(),
+                region.country(), region.city(), Math.round(match.distanceKm() * 10) / 10.0, region.latencyMs(),
+                region.government(), region.multiZone());
+    }
+}
@@ -0,0 +1,33 @@
+package com.agenticcp.core.domain.cloud.dto;
+
+import com.agenticcp.core.domain.cloud.index.ResourceAttribute;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceSearchRequest {
+
+    // values of one attribute are OR-ed, attributes are AND-ed
+    private Map<ResourceAttribute, List<String>> filters;
+
+    private Map<ResourceAttribute, List<String>> excludes;
+
+    private List<ResourceAttribute> facets;
+
+    // last resource id of the previous page
+    private Long cursor;
+
+    @Min(0)
+    @Max(1000)
+    private Integer size;
+}
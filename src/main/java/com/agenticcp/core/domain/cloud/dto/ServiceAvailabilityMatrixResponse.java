@@ -0,0 +1,18 @@
+package com.agenticcp.core.domain.cloud.dto;
+
+import com.agenticcp.core.domain.cloud.entity.CloudService.ServiceType;
+
+import java.util.List;
+
+/**
+ * 서비스×리전 가용성 행렬. 서비스마다 {@code regions} 목록 위치를 비트로 하는 비트셋을 Base64 로 담는다
+ * (리틀 엔디언, 비트 i = byte[i / 8] 의 (i % 8) 번째 비트).
+ */
+public record ServiceAvailabilityMatrixResponse(List<Region> regions, List<Service> services) {
+
+    public record Region(long id, String providerKey, String regionKey) {
+    }
+
+    public record Service(long id, String providerKey, String serviceKey, ServiceType serviceType, String regions) {
+    }
+}
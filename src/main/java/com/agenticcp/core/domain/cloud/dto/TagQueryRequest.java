@@ -0,0 +1,43 @@
+package com.agenticcp.core.domain.cloud.dto;
+
+import com.agenticcp.core.domain.cloud.index.ResourceAttribute;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagQueryRequest {
+
+    // terms are "key" (has tag) or "key=value"
+    private List<String> all;
+
+    private List<String> any;
+
+    private List<String> none;
+
+    // optional attribute filters AND-ed with the tag condition
+    private Map<ResourceAttribute, List<String>> filters;
+
+    private boolean keyFacets;
+
+    private List<String> valueFacetKeys;
+
+    @Min(1)
+    @Max(1000)
+    private Integer facetLimit;
+
+    private Long cursor;
+
+    @Min(0)
+    @Max(1000)
+    private Integer size;
+}
@@ -0,0 +1,23 @@
+package com.agenticcp.core.domain.cloud.dto;
+
+import com.agenticcp.core.domain.cloud.entity.CloudResource;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagQueryResponse {
+
+    private long total;
+    private List<CloudResource> resources;
+    private Long nextCursor;
+    private Map<String, Long> keyFacets;
+    private Map<String, Map<String, Long>> valueFacets;
+}
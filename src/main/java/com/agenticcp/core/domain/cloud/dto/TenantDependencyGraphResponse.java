@@ -0,0 +1,29 @@
+package com.agenticcp.core.domain.cloud.dto;
+
+import com.agenticcp.core.domain.cloud.index.ResourceDependencyGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 테넌트 의존 부분 그래프. 간선은 (의존하는 리소스, 의존 대상 리소스) 쌍이며 다른 테넌트 리소스로 이어지는 간선도 포함한다.
+ */
+public record TenantDependencyGraphResponse(long tenantId,
+                                            List<Long> resources,
+                                            List<Edge> edges,
+                                            int crossTenantEdges,
+                                            boolean truncated) {
+
+    public record Edge(long source, long target) {
+    }
+
+    public static TenantDependencyGraphResponse of(long tenantId, ResourceDependencyGraph.Subgraph subgraph) {
+        List<Edge> edges = new ArrayList<>(subgraph.edgeSources().length);
+        for (int i = 0; i < subgraph.edgeSources().length; i++) {
+            edges.add(new Edge(subgraph.edgeSources()[i], subgraph.edgeTargets()[i]));
+        }
+        return new TenantDependencyGraphResponse(tenantId, Arrays.stream(subgraph.resourceIds()).boxed().toList(),
+                edges, subgraph.crossTenantEdges(), subgraph.truncated());
+    }
+}
@@ -0,0 +1,85 @@
+package com.agenticcp.core.domain.cloud.entity;
+
+import com.agenticcp.core.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "cloud_bulk_operations", indexes = {
+    @Index(name = "idx_cloud_bulk_operation_status", columnList = "status")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperation extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation_type", nullable = false)
+    private OperationType operationType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OperationStatus status;
+
+    @Column(name = "target_description", columnDefinition = "TEXT")
+    private String targetDescription; // JSON of the id list size or filter used to select targets
+
+    @Column(name = "total_items", nullable = false)
+    private Integer totalItems;
+
+    @Column(name = "succeeded_items", nullable = false)
+    private Integer succeededItems;
+
+    @Column(name = "failed_items", nullable = false)
+    private Integer failedItems;
+
+    @Column(name = "skipped_items", nullable = false)
+    private Integer skippedItems;
+
+    @Column(name = "cancel_requested", nullable = false)
+    private Boolean cancelRequested;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "ended_at")
+    private LocalDateTime endedAt;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    public enum OperationType {
+        START(CloudResource.LifecycleState.RUNNING),
+        STOP(CloudResource.LifecycleState.STOPPED),
+        TERMINATE(CloudResource.LifecycleState.TERMINATED);
+
+        private final CloudResource.LifecycleState targetState;
+
+        OperationType(CloudResource.LifecycleState targetState) {
+            this.targetState = targetState;
+        }
+
+        public CloudResource.LifecycleState getTargetState() {
+            return targetState;
+        }
+    }
+
+    public enum OperationStatus {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        COMPLETED_WITH_ERRORS,
+        CANCELLED,
+        FAILED
+    }
+
+    public boolean isFinished() {
+        return status != OperationStatus.PENDING && status != OperationStatus.RUNNING;
+    }
+}
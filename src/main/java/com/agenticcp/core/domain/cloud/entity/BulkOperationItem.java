@@ -0,0 +1,55 @@
+package com.agenticcp.core.domain.cloud.entity;
+
+import com.agenticcp.core.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "cloud_bulk_operation_items", indexes = {
+    @Index(name = "idx_cloud_bulk_item_operation_status", columnList = "operation_id, status"),
+    @Index(name = "idx_cloud_bulk_item_operation_scope", columnList = "operation_id, provider_key, region_key")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationItem extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "operation_id", nullable = false)
+    private BulkOperation operation;
+
+    @Column(name = "cloud_resource_id", nullable = false)
+    private Long cloudResourceId;
+
+    @Column(name = "resource_id", nullable = false)
+    private String resourceId;
+
+    @Column(name = "provider_key", nullable = false, length = 100)
+    private String providerKey;
+
+    @Column(name = "region_key", length = 100)
+    private String regionKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ItemStatus status;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public enum ItemStatus {
+        PENDING,
+        SUCCEEDED,
+        FAILED,
+        SKIPPED
+    }
+}
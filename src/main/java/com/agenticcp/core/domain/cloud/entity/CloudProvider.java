@@ -2,6 +2,7 @@ package com.agenticcp.core.domain.cloud.entity;
 
 import com.agenticcp.core.common.entity.BaseEntity;
 import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.domain.cloud.event.CatalogEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,7 +12,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "cloud_providers")
+@EntityListeners(CatalogEntityListener.class)
+@Table(name = "cloud_providers", indexes = {
+    @Index(name = "idx_cloud_providers_change_feed", columnList = "updated_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -2,6 +2,7 @@ package com.agenticcp.core.domain.cloud.entity;
 
 import com.agenticcp.core.common.entity.BaseEntity;
 import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.domain.cloud.event.CatalogEntityListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,6 +10,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners(CatalogEntityListener.class)
 @Table(name = "cloud_regions")
 @Data
 @Builder
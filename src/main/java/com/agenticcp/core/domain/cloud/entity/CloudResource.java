@@ -13,7 +13,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "cloud_resources")
+@Table(name = "cloud_resources", indexes = {
+    @Index(name = "idx_cloud_resource_provider_region", columnList = "provider_id, region_id, lifecycle_state"),
+    @Index(name = "idx_cloud_resource_tenant", columnList = "tenant_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,32 @@
+package com.agenticcp.core.domain.cloud.entity;
+
+import com.agenticcp.core.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리소스 간 의존 관계 ({@code cloudResourceId} 리소스가 {@code dependsOnResourceId} 리소스에 의존)
+ *
+ * <p>의존 대상은 프로바이더 리소스 id 로 저장하므로 대상이 아직 동기화되지 않았어도 기록할 수 있고, 그래프 적재 시
+ * {@code cloud_resources.resource_id} 와 조인해 해석한다.</p>
+ */
+@Entity
+@Table(name = "cloud_resource_dependencies", indexes = {
+    @Index(name = "uk_cloud_resource_dependency", columnList = "cloud_resource_id, depends_on_resource_id", unique = true),
+    @Index(name = "idx_cloud_resource_dependency_target", columnList = "depends_on_resource_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceDependency extends BaseEntity {
+
+    @Column(name = "cloud_resource_id", nullable = false)
+    private Long cloudResourceId;
+
+    @Column(name = "depends_on_resource_id", nullable = false)
+    private String dependsOnResourceId;
+}
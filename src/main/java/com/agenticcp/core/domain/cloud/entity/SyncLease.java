@@ -0,0 +1,57 @@
+package com.agenticcp.core.domain.cloud.entity;
+
+import com.agenticcp.core.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "cloud_sync_leases", indexes = {
+    @Index(name = "idx_cloud_sync_lease_due", columnList = "next_run_at, lease_expires_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncLease extends BaseEntity {
+
+    // "{providerKey}/{regionKey}"
+    @Column(name = "lease_key", nullable = false, unique = true, length = 200)
+    private String leaseKey;
+
+    @Column(name = "provider_key", nullable = false, length = 100)
+    private String providerKey;
+
+    @Column(name = "region_key", nullable = false, length = 100)
+    private String regionKey;
+
+    @Column(name = "lease_owner", length = 200)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    // incremented on every claim so a node whose lease expired cannot complete it after another node took over
+    @Column(name = "fencing_token", nullable = false)
+    private Long fencingToken;
+
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    @Column(name = "last_completed_at")
+    private LocalDateTime lastCompletedAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "consecutive_failures", nullable = false)
+    private Integer consecutiveFailures;
+
+    public static String leaseKeyOf(String providerKey, String regionKey) {
+        return providerKey + "/" + regionKey;
+    }
+}
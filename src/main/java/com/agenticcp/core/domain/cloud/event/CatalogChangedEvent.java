@@ -0,0 +1,13 @@
+package com.agenticcp.core.domain.cloud.event;
+
+/**
+ * 프로바이더/리전/서비스 카탈로그 엔티티가 저장되거나 삭제됨 (엔티티 한 건 단위)
+ */
+public record CatalogChangedEvent(CatalogEntity entity, Long id) {
+
+    public enum CatalogEntity {
+        PROVIDER,
+        REGION,
+        SERVICE
+    }
+}
@@ -0,0 +1,39 @@
+package com.agenticcp.core.domain.cloud.event;
+
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.agenticcp.core.domain.cloud.entity.CloudRegion;
+import com.agenticcp.core.domain.cloud.entity.CloudService;
+import com.agenticcp.core.domain.cloud.event.CatalogChangedEvent.CatalogEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 카탈로그 엔티티 JPA 리스너. Hibernate 가 Spring 빈 컨테이너로 생성하므로 이벤트 발행기를 주입받는다.
+ */
+public class CatalogEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CatalogEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        if (entity instanceof CloudRegion region) {
+            publish(CatalogEntity.REGION, region.getId());
+        } else if (entity instanceof CloudService service) {
+            publish(CatalogEntity.SERVICE, service.getId());
+        } else if (entity instanceof CloudProvider provider) {
+            publish(CatalogEntity.PROVIDER, provider.getId());
+        }
+    }
+
+    private void publish(CatalogEntity entity, Long id) {
+        eventPublisher.publishEvent(new CatalogChangedEvent(entity, id));
+    }
+}
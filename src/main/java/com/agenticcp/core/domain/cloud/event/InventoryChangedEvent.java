@@ -0,0 +1,18 @@
+package com.agenticcp.core.domain.cloud.event;
+
+import java.util.List;
+
+/**
+ * 인벤토리 동기화로 변경된 리소스 목록 (프로바이더/리전 단위, 모든 배치 커밋 이후 발행)
+ */
+public record InventoryChangedEvent(Long providerId,
+                                    String providerKey,
+                                    Long regionId,
+                                    String regionKey,
+                                    List<String> upsertedResourceIds,
+                                    List<Long> terminatedIds) {
+
+    public boolean isEmpty() {
+        return upsertedResourceIds.isEmpty() && terminatedIds.isEmpty();
+    }
+}
@@ -0,0 +1,13 @@
+package com.agenticcp.core.domain.cloud.event;
+
+import com.agenticcp.core.domain.cloud.dto.InventorySyncResult.RegionSyncResult;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로바이더/리전 인벤토리 동기화 한 회가 (성공/실패와 관계없이) 끝났음을 알린다.
+ */
+public record InventorySyncCompletedEvent(String providerKey,
+                                          RegionSyncResult result,
+                                          LocalDateTime completedAt) {
+}
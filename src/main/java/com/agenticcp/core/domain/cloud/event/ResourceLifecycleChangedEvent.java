@@ -0,0 +1,26 @@
+package com.agenticcp.core.domain.cloud.event;
+
+import com.agenticcp.core.domain.cloud.entity.CloudResource.LifecycleState;
+
+import java.util.List;
+
+/**
+ * 리소스 수명주기 상태 전이 (인벤토리 동기화/대량 작업의 커밋 이후 발행)
+ *
+ * @param regionKey 대량 작업처럼 리전을 알 수 없으면 null
+ */
+public record ResourceLifecycleChangedEvent(String providerKey,
+                                            String regionKey,
+                                            List<Transition> transitions) {
+
+    /**
+     * @param id            새로 발견된 리소스는 아직 모르므로 null
+     * @param previousState 새로 발견된 리소스면 null
+     */
+    public record Transition(Long id,
+                             String resourceId,
+                             Long tenantId,
+                             LifecycleState previousState,
+                             LifecycleState state) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.agenticcp.core.domain.cloud.event;
+
+/**
+ * 서비스×리전 가용성 행렬이 갱신됨 (증분 반영 또는 전체 재구축 이후 발행)
+ */
+public record ServiceAvailabilityChangedEvent(long version) {
+}
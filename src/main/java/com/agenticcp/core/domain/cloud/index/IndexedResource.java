@@ -0,0 +1,26 @@
+package com.agenticcp.core.domain.cloud.index;
+
+/**
+ * 인덱스에 적재되는 리소스 한 건. 테넌트/프로바이더/리전/서비스는 key, 나머지는 enum 이름으로 보관한다.
+ */
+public record IndexedResource(long id,
+                              String tenantKey,
+                              String providerKey,
+                              String regionKey,
+                              String serviceKey,
+                              String resourceType,
+                              String lifecycleState,
+                              String status) {
+
+    public String valueOf(ResourceAttribute attribute) {
+        return switch (attribute) {
+            case TENANT -> tenantKey;
+            case PROVIDER -> providerKey;
+            case REGION -> regionKey;
+            case SERVICE -> serviceKey;
+            case RESOURCE_TYPE -> resourceType;
+            case LIFECYCLE_STATE -> lifecycleState;
+            case STATUS -> status;
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package com.agenticcp.core.domain.cloud.index;
+
+import java.util.Arrays;
+
+/**
+ * 리소스 id 별 값 ordinal 저장소. 값 종류 수에 맞춰 byte → short → int 로 폭을 넓혀 메모리를 아낀다.
+ * 저장 값은 ordinal + 1 이며 0 은 값 없음을 뜻한다.
+ */
+final class OrdinalColumn {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private short[] shorts;
+    private int[] ints;
+
+    int get(int position) {
+        if (position >= capacity()) {
+            return 0;
+        }
+        if (ints != null) {
+            return ints[position];
+        }
+        if (shorts != null) {
+            return Short.toUnsignedInt(shorts[position]);
+        }
+        return Byte.toUnsignedInt(bytes[position]);
+    }
+
+    void set(int position, int value) {
+        ensureCapacity(position + 1);
+        widenFor(value);
+        if (ints != null) {
+            ints[position] = value;
+        } else if (shorts != null) {
+            shorts[position] = (short) value;
+        } else {
+            bytes[position] = (byte) value;
+        }
+    }
+
+    long sizeInBytes() {
+        if (ints != null) {
+            return (long) ints.length * Integer.BYTES;
+        }
+        if (shorts != null) {
+            return (long) shorts.length * Short.BYTES;
+        }
+        return bytes.length;
+    }
+
+    private int capacity() {
+        return ints != null ? ints.length : shorts != null ? shorts.length : bytes.length;
+    }
+
+    private void ensureCapacity(int required) {
+        int capacity = capacity();
+        if (required <= capacity) {
+            return;
+        }
+        int grown = Math.max(required, capacity + (capacity >> 1));
+        if (ints != null) {
+            ints = Arrays.copyOf(ints, grown);
+        } else if (shorts != null) {
+            shorts = Arrays.copyOf(shorts, grown);
+        } else {
+            bytes = Arrays.copyOf(bytes, grown);
+        }
+    }
+
+    private void widenFor(int value) {
+        if (ints == null && value > 0xFFFF) {
+            int[] widened = new int[capacity()];
+            for (int i = 0; i < widened.length; i++) {
+                widened[i] = get(i);
+            }
+            ints = widened;
+            shorts = null;
+            bytes = null;
+        } else if (ints == null && shorts == null && value > 0xFF) {
+            short[] widened = new short[bytes.length];
+            for (int i = 0; i < widened.length; i++) {
+                widened[i] = (short) Byte.toUnsignedInt(bytes[i]);
+            }
+            shorts = widened;
+            bytes = null;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.agenticcp.core.domain.cloud.index;
+
+import com.agenticcp.core.domain.cloud.entity.CloudService.ServiceType;
+
+import java.util.Set;
+
+/**
+ * 배치 추천 조건
+ *
+ * @param governmentOnly true 면 정부 전용 리전만, false 면 정부 전용 리전을 제외한 리전만 후보로 삼는다
+ * @param providerKeys   비어 있으면 모든 프로바이더
+ */
+public record PlacementQuery(double latitude,
+                             double longitude,
+                             Set<ServiceType> requiredServices,
+                             boolean governmentOnly,
+                             boolean multiZoneRequired,
+                             Set<String> providerKeys,
+                             int limit) {
+}
@@ -0,0 +1,22 @@
+package com.agenticcp.core.domain.cloud.index;
+
+import com.agenticcp.core.domain.cloud.entity.CloudService.ServiceType;
+
+import java.util.Set;
+
+/**
+ * 배치 추천 인덱스에 적재되는 리전 한 건. 지원 서비스는 프로바이더와 무관하게 비교할 수 있도록 서비스 유형으로 보관한다.
+ */
+public record PlacementRegion(long regionId,
+                              String providerKey,
+                              String regionKey,
+                              String displayName,
+                              String country,
+                              String city,
+                              double latitude,
+                              double longitude,
+                              Integer latencyMs,
+                              boolean government,
+                              boolean multiZone,
+                              Set<ServiceType> serviceTypes) {
+}
@@ -0,0 +1,254 @@
+package com.agenticcp.core.domain.cloud.index;
+
+import com.agenticcp.core.domain.cloud.entity.CloudService.ServiceType;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리전 배치 추천용 불변 인덱스
+ *
+ * <p>리전 좌표를 단위 구 위의 3차원 벡터로 바꿔 k-d 트리(배열 기반)로 정렬해 두고, 서비스 유형/프로바이더/정부 전용/
+ * 멀티 AZ 조건은 리전 ordinal 비트셋으로 미리 계산한다. 조회는 조건 비트셋을 AND 해 후보를 정한 뒤 트리를 따라
+ * 가까운 후보 {@code limit} 개만 찾는다. 현 거리(chord)는 대원 거리와 순서가 같으므로 비교에는 현 거리를 쓴다.
+ * 카탈로그가 바뀌면 새 인덱스를 만들어 통째로 교체한다.</p>
+ */
+public final class RegionPlacementIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final PlacementRegion[] regions;
+    private final double[][] points;
+    // k-d tree in implicit form: the median of each range is the node, split axis = depth % 3
+    private final int[] tree;
+    private final Map<ServiceType, BitSet> serviceBits = new EnumMap<>(ServiceType.class);
+    private final Map<String, BitSet> providerBits = new HashMap<>();
+    private final BitSet governmentBits = new BitSet();
+    private final BitSet multiZoneBits = new BitSet();
+
+    public record Match(PlacementRegion region, double distanceKm) {
+    }
+
+    private RegionPlacementIndex(List<PlacementRegion> regions) {
+        int size = regions.size();
+        this.regions = regions.toArray(new PlacementRegion[0]);
+        this.points = new double[size][];
+        this.tree = new int[size];
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            PlacementRegion region = this.regions[ordinal];
+            points[ordinal] = toUnitVector(region.latitude(), region.longitude());
+            tree[ordinal] = ordinal;
+            for (ServiceType serviceType : region.serviceTypes()) {
+                serviceBits.computeIfAbsent(serviceType, type -> new BitSet(size)).set(ordinal);
+            }
+            providerBits.computeIfAbsent(region.providerKey(), key -> new BitSet(size)).set(ordinal);
+            governmentBits.set(ordinal, region.government());
+            multiZoneBits.set(ordinal, region.multiZone());
+        }
+        build(0, size, 0);
+    }
+
+    public static RegionPlacementIndex of(List<PlacementRegion> regions) {
+        return new RegionPlacementIndex(regions);
+    }
+
+    public static RegionPlacementIndex empty() {
+        return new RegionPlacementIndex(List.of());
+    }
+
+    public int size() {
+        return regions.length;
+    }
+
+    public List<Match> nearest(PlacementQuery query) {
+        BitSet candidates = candidates(query);
+        int limit = Math.min(query.limit(), candidates.cardinality());
+        if (limit <= 0) {
+            return List.of();
+        }
+        Neighbors neighbors = new Neighbors(limit);
+        search(0, regions.length, 0, toUnitVector(query.latitude(), query.longitude()), candidates, neighbors);
+
+        List<Match> matches = new ArrayList<>(neighbors.size);
+        for (int i = 0; i < neighbors.size; i++) {
+            matches.add(new Match(regions[neighbors.ordinals[i]], toKilometers(neighbors.distances[i])));
+        }
+        matches.sort((left, right) -> {
+            int byDistance = Double.compare(left.distanceKm(), right.distanceKm());
+            return byDistance != 0 ? byDistance : compareLatency(left.region(), right.region());
+        });
+        return matches;
+    }
+
+    private BitSet candidates(PlacementQuery query) {
+        BitSet candidates = new BitSet(regions.length);
+        if (query.providerKeys() == null || query.providerKeys().isEmpty()) {
+            candidates.set(0, regions.length);
+        } else {
+            for (String providerKey : query.providerKeys()) {
+                BitSet bits = providerBits.get(providerKey);
+                if (bits != null) {
+                    candidates.or(bits);
+                }
+            }
+        }
+        if (query.requiredServices() != null) {
+            for (ServiceType serviceType : query.requiredServices()) {
+                BitSet bits = serviceBits.get(serviceType);
+                if (bits == null) {
+                    return new BitSet();
+                }
+                candidates.and(bits);
+            }
+        }
+        if (query.governmentOnly()) {
+            candidates.and(governmentBits);
+        } else {
+            candidates.andNot(governmentBits);
+        }
+        if (query.multiZoneRequired()) {
+            candidates.and(multiZoneBits);
+        }
+        return candidates;
+    }
+
+    private void build(int from, int to, int depth) {
+        if (to - from <= 1) {
+            return;
+        }
+        int axis = depth % 3;
+        int middle = (from + to) >>> 1;
+        select(from, to - 1, middle, axis);
+        build(from, middle, depth + 1);
+        build(middle + 1, to, depth + 1);
+    }
+
+    // quickselect on tree[from..to] so that tree[k] holds the median along the axis
+    private void select(int from, int to, int k, int axis) {
+        while (from < to) {
+            double pivot = points[tree[(from + to) >>> 1]][axis];
+            int left = from;
+            int right = to;
+            while (left <= right) {
+                while (points[tree[left]][axis] < pivot) {
+                    left++;
+                }
+                while (points[tree[right]][axis] > pivot) {
+                    right--;
+                }
+                if (left <= right) {
+                    int swap = tree[left];
+                    tree[left++] = tree[right];
+                    tree[right--] = swap;
+                }
+            }
+            if (k <= right) {
+                to = right;
+            } else if (k >= left) {
+                from = left;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void search(int from, int to, int depth, double[] target, BitSet candidates, Neighbors neighbors) {
+        if (from >= to) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        int ordinal = tree[middle];
+        double[] point = points[ordinal];
+        if (candidates.get(ordinal)) {
+            neighbors.offer(ordinal, squaredDistance(point, target));
+        }
+        int axis = depth % 3;
+        double delta = target[axis] - point[axis];
+        if (delta < 0) {
+            search(from, middle, depth + 1, target, candidates, neighbors);
+            if (!neighbors.isFull() || delta * delta < neighbors.worst()) {
+                search(middle + 1, to, depth + 1, target, candidates, neighbors);
+            }
+        } else {
+            search(middle + 1, to, depth + 1, target, candidates, neighbors);
+            if (!neighbors.isFull() || delta * delta < neighbors.worst()) {
+                search(from, middle, depth + 1, target, candidates, neighbors);
+            }
+        }
+    }
+
+    private static int compareLatency(PlacementRegion left, PlacementRegion right) {
+        int leftLatency = left.latencyMs() != null ? left.latencyMs() : Integer.MAX_VALUE;
+        int rightLatency = right.latencyMs() != null ? right.latencyMs() : Integer.MAX_VALUE;
+        return Integer.compare(leftLatency, rightLatency);
+    }
+
+    private static double[] toUnitVector(double latitude, double longitude) {
+        double phi = Math.toRadians(latitude);
+        double lambda = Math.toRadians(longitude);
+        double cosPhi = Math.cos(phi);
+        return new double[]{cosPhi * Math.cos(lambda), cosPhi * Math.sin(lambda), Math.sin(phi)};
+    }
+
+    private static double squaredDistance(double[] a, double[] b) {
+        double dx = a[0] - b[0];
+        double dy = a[1] - b[1];
+        double dz = a[2] - b[2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static double toKilometers(double squaredChord) {
+        double chord = Math.sqrt(squaredChord);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, chord / 2));
+    }
+
+    /**
+     * 가장 가까운 k 개를 유지하는 고정 크기 목록. k 가 작으므로 힙 대신 최댓값 위치만 기억한다.
+     */
+    private static final class Neighbors {
+
+        private final int[] ordinals;
+        private final double[] distances;
+        private int size;
+        private int worstIndex;
+
+        private Neighbors(int capacity) {
+            this.ordinals = new int[capacity];
+            this.distances = new double[capacity];
+        }
+
+        private boolean isFull() {
+            return size == ordinals.length;
+        }
+
+        private double worst() {
+            return distances[worstIndex];
+        }
+
+        private void offer(int ordinal, double distance) {
+            if (!isFull()) {
+                ordinals[size] = ordinal;
+                distances[size] = distance;
+                if (size == 0 || distance > distances[worstIndex]) {
+                    worstIndex = size;
+                }
+                size++;
+                return;
+            }
+            if (distance >= distances[worstIndex]) {
+                return;
+            }
+            ordinals[worstIndex] = ordinal;
+            distances[worstIndex] = distance;
+            for (int i = 0; i < size; i++) {
+                if (distances[i] > distances[worstIndex]) {
+                    worstIndex = i;
+                }
+            }
+        }
+    }
+}
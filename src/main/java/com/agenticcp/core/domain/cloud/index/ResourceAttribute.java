@@ -0,0 +1,16 @@
+package com.agenticcp.core.domain.cloud.index;
+
+import com.agenticcp.core.domain.cloud.entity.CloudResource;
+
+/**
+ * 인벤토리 인덱스가 비트맵을 유지하는 {@link CloudResource} 속성
+ */
+public enum ResourceAttribute {
+    TENANT,
+    PROVIDER,
+    REGION,
+    SERVICE,
+    RESOURCE_TYPE,
+    LIFECYCLE_STATE,
+    STATUS
+}
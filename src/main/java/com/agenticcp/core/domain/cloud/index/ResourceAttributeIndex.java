@@ -0,0 +1,278 @@
+package com.agenticcp.core.domain.cloud.index;
+
+import com.agenticcp.core.domain.cloud.dto.IndexMemoryReport;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 속성 값별 Roaring 비트맵으로 구성한 리소스 인벤토리 인덱스
+ *
+ * <p>리소스 PK 를 비트 위치로 사용한다. 속성마다 값 사전(value → ordinal)과 ordinal 별 비트맵을 두고,
+ * 갱신 시 이전 값의 비트를 지울 수 있도록 리소스별 ordinal 을 {@link OrdinalColumn} 에 보관한다.
+ * 조회는 read lock, 갱신은 write lock 으로 보호한다.</p>
+ */
+public class ResourceAttributeIndex {
+
+    private static final int FACET_SCAN_FACTOR = 4096;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<ResourceAttribute, AttributeColumn> columns = new EnumMap<>(ResourceAttribute.class);
+    private RoaringBitmap live = new RoaringBitmap();
+
+    public ResourceAttributeIndex() {
+        for (ResourceAttribute attribute : ResourceAttribute.values()) {
+            columns.put(attribute, new AttributeColumn());
+        }
+    }
+
+    public void put(IndexedResource resource) {
+        int bit = toBit(resource.id());
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<ResourceAttribute, AttributeColumn> entry : columns.entrySet()) {
+                entry.getValue().set(bit, resource.valueOf(entry.getKey()));
+            }
+            live.add(bit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        int bit = toBit(id);
+        lock.writeLock().lock();
+        try {
+            if (!live.contains(bit)) {
+                return;
+            }
+            for (AttributeColumn column : columns.values()) {
+                column.set(bit, null);
+            }
+            live.remove(bit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            columns.replaceAll((attribute, column) -> new AttributeColumn());
+            live = new RoaringBitmap();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 연속 구간을 run 컨테이너로 바꿔 메모리를 줄인다. 대량 적재 후 한 번 호출한다.
+     */
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            live.runOptimize();
+            for (AttributeColumn column : columns.values()) {
+                column.bitmaps.forEach(RoaringBitmap::runOptimize);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            return live.contains(toBit(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 필터에 해당하는 리소스 비트맵. 호출자가 자유롭게 변경할 수 있는 사본을 반환한다.
+     */
+    public RoaringBitmap evaluate(ResourceFilter filter) {
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> includes = new ArrayList<>(filter.include().size());
+            for (Map.Entry<ResourceAttribute, Set<String>> entry : filter.include().entrySet()) {
+                includes.add(columns.get(entry.getKey()).union(entry.getValue()));
+            }
+            // start from the most selective term so every further AND works on the smallest bitmap
+            includes.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+            RoaringBitmap result = includes.isEmpty() ? live.clone() : includes.get(0);
+            for (int i = 1; i < includes.size() && !result.isEmpty(); i++) {
+                result.and(includes.get(i));
+            }
+            for (Map.Entry<ResourceAttribute, Set<String>> entry : filter.exclude().entrySet()) {
+                if (result.isEmpty()) {
+                    break;
+                }
+                result.andNot(columns.get(entry.getKey()).union(entry.getValue()));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long count(ResourceFilter filter) {
+        return evaluate(filter).getLongCardinality();
+    }
+
+    /**
+     * {@code base} 안에서 속성 값별 리소스 수. 교집합을 만들지 않고 카디널리티만 계산한다.
+     */
+    public Map<String, Long> facet(ResourceAttribute attribute, RoaringBitmap base) {
+        lock.readLock().lock();
+        try {
+            AttributeColumn column = columns.get(attribute);
+            int distinct = column.values.size();
+            long[] counts = new long[distinct];
+            if (base.getLongCardinality() < (long) distinct * FACET_SCAN_FACTOR) {
+                // many distinct values: one pass over the matches beats one intersection per value
+                IntIterator iterator = base.getIntIterator();
+                while (iterator.hasNext()) {
+                    int ordinal = column.ordinals.get(iterator.next()) - 1;
+                    if (ordinal >= 0) {
+                        counts[ordinal]++;
+                    }
+                }
+            } else {
+                for (int ordinal = 0; ordinal < distinct; ordinal++) {
+                    counts[ordinal] = RoaringBitmap.andCardinality(column.bitmaps.get(ordinal), base);
+                }
+            }
+            Map<String, Long> facets = new LinkedHashMap<>();
+            for (int ordinal = 0; ordinal < distinct; ordinal++) {
+                if (counts[ordinal] > 0) {
+                    facets.put(column.values.get(ordinal), counts[ordinal]);
+                }
+            }
+            return facets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@code afterId} 보다 큰 id 를 오름차순으로 최대 {@code limit} 개 반환한다 (커서 페이징).
+     */
+    public static List<Long> page(RoaringBitmap bitmap, Long afterId, int limit) {
+        List<Long> ids = new ArrayList<>(Math.min(limit, bitmap.getCardinality()));
+        PeekableIntIterator iterator = bitmap.getIntIterator();
+        if (afterId != null) {
+            if (afterId >= Integer.MAX_VALUE) {
+                return ids;
+            }
+            if (afterId >= 0) {
+                iterator.advanceIfNeeded((int) (afterId + 1));
+            }
+        }
+        while (iterator.hasNext() && ids.size() < limit) {
+            ids.add((long) iterator.next());
+        }
+        return ids;
+    }
+
+    public IndexMemoryReport memoryReport() {
+        lock.readLock().lock();
+        try {
+            Map<ResourceAttribute, IndexMemoryReport.AttributeMemory> attributes = new EnumMap<>(ResourceAttribute.class);
+            long bitmapBytes = live.getLongSizeInBytes();
+            long forwardBytes = 0;
+            for (Map.Entry<ResourceAttribute, AttributeColumn> entry : columns.entrySet()) {
+                AttributeColumn column = entry.getValue();
+                long columnBitmapBytes = column.bitmaps.stream().mapToLong(RoaringBitmap::getLongSizeInBytes).sum();
+                long columnForwardBytes = column.ordinals.sizeInBytes();
+                attributes.put(entry.getKey(), new IndexMemoryReport.AttributeMemory(
+                        column.values.size(), columnBitmapBytes, columnForwardBytes));
+                bitmapBytes += columnBitmapBytes;
+                forwardBytes += columnForwardBytes;
+            }
+            return IndexMemoryReport.of(live.getLongCardinality(), bitmapBytes, forwardBytes, attributes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int toBit(long id) {
+        if (id < 0 || id > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Resource id out of bitmap range: " + id);
+        }
+        return (int) id;
+    }
+
+    /**
+     * 한 속성의 값 사전, 값별 비트맵, 리소스별 현재 ordinal(+1, 0 은 값 없음)
+     */
+    private static final class AttributeColumn {
+
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private final List<RoaringBitmap> bitmaps = new ArrayList<>();
+        private final OrdinalColumn ordinals = new OrdinalColumn();
+
+        private void set(int bit, String value) {
+            int previous = ordinals.get(bit) - 1;
+            int next = value != null ? ordinalOf(value) : -1;
+            if (previous == next) {
+                return;
+            }
+            if (previous >= 0) {
+                bitmaps.get(previous).remove(bit);
+            }
+            if (next >= 0) {
+                bitmaps.get(next).add(bit);
+            }
+            ordinals.set(bit, next + 1);
+        }
+
+        private int ordinalOf(String value) {
+            return dictionary.computeIfAbsent(value, key -> {
+                values.add(key);
+                bitmaps.add(new RoaringBitmap());
+                return values.size() - 1;
+            });
+        }
+
+        private RoaringBitmap union(Set<String> selected) {
+            List<RoaringBitmap> matches = new ArrayList<>(selected.size());
+            for (String value : selected) {
+                Integer ordinal = dictionary.get(value);
+                if (ordinal != null) {
+                    matches.add(bitmaps.get(ordinal));
+                }
+            }
+            if (matches.isEmpty()) {
+                return new RoaringBitmap();
+            }
+            return switch (matches.size()) {
+                case 1 -> matches.get(0).clone();
+                case 2 -> RoaringBitmap.or(matches.get(0), matches.get(1));
+                default -> FastAggregation.or(matches.iterator());
+            };
+        }
+    }
+}
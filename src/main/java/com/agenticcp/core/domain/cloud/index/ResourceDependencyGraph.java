@@ -0,0 +1,511 @@
+package com.agenticcp.core.domain.cloud.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * 리소스 의존 관계 그래프 (불변, CSR)
+ *
+ * <p>노드는 리소스 id 오름차순 ordinal 이며, 정방향("A 가 B 에 의존")과 역방향("B 에 의존하는 A") 인접 목록을
+ * 각각 offsets/간선 int 배열 한 쌍(CSR)으로 가진다. id → ordinal 은 정렬된 id 배열의 이진 탐색으로, 테넌트별 노드는
+ * 테넌트 순으로 묶은 ordinal 배열의 구간으로 찾는다. 탐색은 방문 비트셋과 int 큐만 쓰므로 간선이 수백만 개여도
+ * 노드/간선마다 객체를 만들지 않는다.</p>
+ *
+ * <p>변경은 {@link #toBuilder(Collection)} 로 바뀐 노드와 그 노드에 닿는 간선만 뺀 빌더를 만들어 다시 채운 뒤 새
+ * 그래프로 통째로 교체한다. 남은 노드/간선은 ordinal 재매핑만 하므로 전체 재구축보다 훨씬 싸다.</p>
+ */
+public final class ResourceDependencyGraph {
+
+    private static final int NO_TENANT = -1;
+    private static final long NO_TENANT_ID = Long.MIN_VALUE;
+
+    private final long[] ids;
+    private final int[] tenantOrdinals;
+    private final long[] tenantIds;
+    private final int[] tenantStarts;
+    private final int[] tenantMembers;
+    private final int[] outOffsets;
+    private final int[] outTargets;
+    private final int[] inOffsets;
+    private final int[] inSources;
+
+    public enum Direction {
+        /** 노드가 (전이적으로) 의존하는 리소스 */
+        DEPENDENCIES,
+        /** 노드에 (전이적으로) 의존하는 리소스, 즉 영향 범위 */
+        DEPENDENTS
+    }
+
+    /**
+     * BFS 탐색 결과. {@code reached} 는 시작 노드를 뺀 도달 노드 수 전체이고, id/깊이 배열은 BFS 순으로
+     * {@code limit} 개까지만 담는다.
+     */
+    public record Traversal(int reached, int maxDepthReached, long[] resourceIds, int[] depths, boolean truncated) {
+    }
+
+    /**
+     * 테넌트 부분 그래프. 간선은 테넌트 노드에서 나가는 간선 전부와 다른 테넌트에서 들어오는 간선이다.
+     */
+    public record Subgraph(long[] resourceIds, long[] edgeSources, long[] edgeTargets, int crossTenantEdges,
+                           boolean truncated) {
+    }
+
+    public static ResourceDependencyGraph empty() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder(null, new BitSet());
+    }
+
+    /**
+     * 지정한 리소스와 그 리소스에 닿는 간선을 뺀 나머지로 시작하는 빌더
+     */
+    public Builder toBuilder(Collection<Long> removedResourceIds) {
+        BitSet removed = new BitSet(ids.length);
+        for (Long resourceId : removedResourceIds) {
+            int ordinal = ordinalOf(resourceId);
+            if (ordinal >= 0) {
+                removed.set(ordinal);
+            }
+        }
+        return new Builder(this, removed);
+    }
+
+    public int nodeCount() {
+        return ids.length;
+    }
+
+    public int edgeCount() {
+        return outTargets.length;
+    }
+
+    public int tenantCount() {
+        return tenantIds.length;
+    }
+
+    public boolean contains(long resourceId) {
+        return ordinalOf(resourceId) >= 0;
+    }
+
+    public long sizeInBytes() {
+        return (long) ids.length * Long.BYTES + (long) tenantIds.length * Long.BYTES
+                + ((long) tenantOrdinals.length + tenantStarts.length + tenantMembers.length
+                + outOffsets.length + outTargets.length + inOffsets.length + inSources.length) * Integer.BYTES;
+    }
+
+    public int degree(long resourceId, Direction direction) {
+        int ordinal = ordinalOf(resourceId);
+        if (ordinal < 0) {
+            return 0;
+        }
+        int[] offsets = direction == Direction.DEPENDENTS ? inOffsets : outOffsets;
+        return offsets[ordinal + 1] - offsets[ordinal];
+    }
+
+    /**
+     * 시작 노드들에서 한 방향으로 BFS 한다. 시작 노드끼리는 서로 도달해도 결과에 넣지 않는다.
+     *
+     * @param maxDepth 최대 깊이 (1 이면 직접 이웃만)
+     * @param limit    결과에 담을 최대 노드 수 (도달 수 집계는 제한 없이 끝까지 한다)
+     */
+    public Traversal traverse(Collection<Long> rootIds, Direction direction, int maxDepth, int limit) {
+        int[] offsets = direction == Direction.DEPENDENTS ? inOffsets : outOffsets;
+        int[] adjacency = direction == Direction.DEPENDENTS ? inSources : outTargets;
+        BitSet visited = new BitSet(ids.length);
+        IntQueue queue = new IntQueue();
+        for (Long rootId : rootIds) {
+            int ordinal = ordinalOf(rootId);
+            if (ordinal >= 0 && !visited.get(ordinal)) {
+                visited.set(ordinal);
+                queue.add(ordinal);
+            }
+        }
+        int roots = queue.size;
+        int captured = 0;
+        long[] resourceIds = new long[Math.min(limit, 64)];
+        int[] depths = new int[resourceIds.length];
+        int depth = 0;
+        int deepest = 0;
+        int head = 0;
+        while (head < queue.size && depth < maxDepth) {
+            int levelEnd = queue.size;
+            depth++;
+            for (; head < levelEnd; head++) {
+                int node = queue.values[head];
+                for (int edge = offsets[node], end = offsets[node + 1]; edge < end; edge++) {
+                    int next = adjacency[edge];
+                    if (visited.get(next)) {
+                        continue;
+                    }
+                    visited.set(next);
+                    queue.add(next);
+                    deepest = depth;
+                    if (captured < limit) {
+                        if (captured == resourceIds.length) {
+                            int grown = (int) Math.min(limit, resourceIds.length * 2L);
+                            resourceIds = Arrays.copyOf(resourceIds, grown);
+                            depths = Arrays.copyOf(depths, grown);
+                        }
+                        resourceIds[captured] = ids[next];
+                        depths[captured++] = depth;
+                    }
+                }
+            }
+        }
+        int reached = queue.size - roots;
+        return new Traversal(reached, deepest, Arrays.copyOf(resourceIds, captured), Arrays.copyOf(depths, captured),
+                reached > captured);
+    }
+
+    /**
+     * 한 방향으로 가장 짧은 경로를 찾는다.
+     *
+     * @return 시작과 끝을 포함한 경로의 리소스 id, 경로가 없거나 {@code maxDepth} 보다 길면 빈 배열
+     */
+    public long[] shortestPath(long fromId, long toId, Direction direction, int maxDepth) {
+        int from = ordinalOf(fromId);
+        int to = ordinalOf(toId);
+        if (from < 0 || to < 0) {
+            return new long[0];
+        }
+        if (from == to) {
+            return new long[]{fromId};
+        }
+        int[] offsets = direction == Direction.DEPENDENTS ? inOffsets : outOffsets;
+        int[] adjacency = direction == Direction.DEPENDENTS ? inSources : outTargets;
+        BitSet visited = new BitSet(ids.length);
+        // parents[i] is the queue index of the node that discovered queue.values[i]
+        IntQueue queue = new IntQueue();
+        IntQueue parents = new IntQueue();
+        visited.set(from);
+        queue.add(from);
+        parents.add(-1);
+        int head = 0;
+        for (int depth = 1; depth <= maxDepth && head < queue.size; depth++) {
+            for (int levelEnd = queue.size; head < levelEnd; head++) {
+                int node = queue.values[head];
+                for (int edge = offsets[node], end = offsets[node + 1]; edge < end; edge++) {
+                    int next = adjacency[edge];
+                    if (visited.get(next)) {
+                        continue;
+                    }
+                    visited.set(next);
+                    queue.add(next);
+                    parents.add(head);
+                    if (next == to) {
+                        long[] path = new long[depth + 1];
+                        for (int index = queue.size - 1, position = depth; index >= 0;
+                             index = parents.values[index], position--) {
+                            path[position] = ids[queue.values[index]];
+                        }
+                        return path;
+                    }
+                }
+            }
+        }
+        return new long[0];
+    }
+
+    /**
+     * 테넌트의 노드(리소스 id 오름차순, 최대 {@code limit} 개)와 그 노드에 닿는 간선
+     */
+    public Subgraph subgraph(long tenantId, int limit) {
+        int tenant = Arrays.binarySearch(tenantIds, tenantId);
+        if (tenant < 0) {
+            return new Subgraph(new long[0], new long[0], new long[0], 0, false);
+        }
+        int start = tenantStarts[tenant];
+        int end = Math.min(tenantStarts[tenant + 1], start + limit);
+        long[] resourceIds = new long[end - start];
+        LongPairs edges = new LongPairs();
+        int crossTenant = 0;
+        for (int member = start; member < end; member++) {
+            int node = tenantMembers[member];
+            resourceIds[member - start] = ids[node];
+            for (int edge = outOffsets[node], edgeEnd = outOffsets[node + 1]; edge < edgeEnd; edge++) {
+                int target = outTargets[edge];
+                edges.add(ids[node], ids[target]);
+                if (tenantOrdinals[target] != tenant) {
+                    crossTenant++;
+                }
+            }
+            for (int edge = inOffsets[node], edgeEnd = inOffsets[node + 1]; edge < edgeEnd; edge++) {
+                int source = inSources[edge];
+                if (tenantOrdinals[source] != tenant) {
+                    edges.add(ids[source], ids[node]);
+                    crossTenant++;
+                }
+            }
+        }
+        return new Subgraph(resourceIds, Arrays.copyOf(edges.sources, edges.size),
+                Arrays.copyOf(edges.targets, edges.size), crossTenant, end < tenantStarts[tenant + 1]);
+    }
+
+    private int ordinalOf(long resourceId) {
+        int ordinal = Arrays.binarySearch(ids, resourceId);
+        return ordinal >= 0 ? ordinal : -1;
+    }
+
+    private ResourceDependencyGraph(Builder builder) {
+        ResourceDependencyGraph base = builder.base;
+        int baseCount = base != null ? base.ids.length : 0;
+
+        // added nodes sorted by id; the last addNode call for an id decides its tenant
+        long[] addedIds = Arrays.copyOf(builder.nodeIds, builder.nodeCount);
+        Arrays.sort(addedIds);
+        int addedCount = distinct(addedIds, addedIds.length);
+        long[] addedTenants = new long[addedCount];
+        for (int i = 0; i < builder.nodeCount; i++) {
+            addedTenants[Arrays.binarySearch(addedIds, 0, addedCount, builder.nodeIds[i])] = builder.nodeTenants[i];
+        }
+
+        // tenant candidates: the base dictionary plus tenants of added nodes
+        long[] candidates = base != null ? Arrays.copyOf(base.tenantIds, base.tenantIds.length + addedCount)
+                : new long[addedCount];
+        int candidateCount = base != null ? base.tenantIds.length : 0;
+        for (int i = 0; i < addedCount; i++) {
+            if (addedTenants[i] != NO_TENANT_ID) {
+                candidates[candidateCount++] = addedTenants[i];
+            }
+        }
+        Arrays.sort(candidates, 0, candidateCount);
+        candidateCount = distinct(candidates, candidateCount);
+        int[] baseTenantMap = new int[base != null ? base.tenantIds.length : 0];
+        for (int tenant = 0; tenant < baseTenantMap.length; tenant++) {
+            baseTenantMap[tenant] = Arrays.binarySearch(candidates, 0, candidateCount, base.tenantIds[tenant]);
+        }
+
+        // merge with the surviving nodes of the base graph, remembering where each base ordinal went
+        int[] remap = new int[baseCount];
+        long[] mergedIds = new long[baseCount - builder.removed.cardinality() + addedCount];
+        int[] nodeTenants = new int[mergedIds.length];
+        int[] members = new int[candidateCount];
+        int size = 0;
+        int b = 0;
+        int a = 0;
+        while (true) {
+            while (b < baseCount && builder.removed.get(b)) {
+                remap[b++] = -1;
+            }
+            if (b == baseCount && a == addedCount) {
+                break;
+            }
+            boolean takeBase = b < baseCount && (a == addedCount || base.ids[b] <= addedIds[a]);
+            boolean takeAdded = a < addedCount && (b == baseCount || addedIds[a] <= base.ids[b]);
+            int tenant;
+            if (takeAdded) {
+                mergedIds[size] = addedIds[a];
+                tenant = addedTenants[a] == NO_TENANT_ID ? NO_TENANT
+                        : Arrays.binarySearch(candidates, 0, candidateCount, addedTenants[a]);
+                a++;
+            } else {
+                mergedIds[size] = base.ids[b];
+                tenant = base.tenantOrdinals[b] == NO_TENANT ? NO_TENANT : baseTenantMap[base.tenantOrdinals[b]];
+            }
+            nodeTenants[size] = tenant;
+            if (tenant != NO_TENANT) {
+                members[tenant]++;
+            }
+            if (takeBase) {
+                remap[b++] = size;
+            }
+            size++;
+        }
+        this.ids = size == mergedIds.length ? mergedIds : Arrays.copyOf(mergedIds, size);
+
+        // tenants left without members are dropped; members are grouped by tenant in id order
+        int[] tenantRemap = new int[candidateCount];
+        int tenantCount = 0;
+        for (int tenant = 0; tenant < candidateCount; tenant++) {
+            tenantRemap[tenant] = members[tenant] > 0 ? tenantCount++ : NO_TENANT;
+        }
+        this.tenantIds = new long[tenantCount];
+        this.tenantStarts = new int[tenantCount + 1];
+        for (int tenant = 0; tenant < candidateCount; tenant++) {
+            if (tenantRemap[tenant] != NO_TENANT) {
+                tenantIds[tenantRemap[tenant]] = candidates[tenant];
+                tenantStarts[tenantRemap[tenant] + 1] = members[tenant];
+            }
+        }
+        for (int tenant = 0; tenant < tenantCount; tenant++) {
+            tenantStarts[tenant + 1] += tenantStarts[tenant];
+        }
+        this.tenantOrdinals = size == nodeTenants.length ? nodeTenants : Arrays.copyOf(nodeTenants, size);
+        this.tenantMembers = new int[tenantStarts[tenantCount]];
+        int[] tenantCursor = Arrays.copyOf(tenantStarts, tenantCount);
+        for (int i = 0; i < size; i++) {
+            if (tenantOrdinals[i] != NO_TENANT) {
+                tenantOrdinals[i] = tenantRemap[tenantOrdinals[i]];
+                tenantMembers[tenantCursor[tenantOrdinals[i]]++] = i;
+            }
+        }
+
+        // edges: surviving base edges are remapped, added edges are resolved by id; dangling ones are dropped
+        int baseEdges = base != null ? base.outTargets.length : 0;
+        int[] sources = new int[baseEdges + builder.edgeCount];
+        int[] targets = new int[sources.length];
+        int edgeCount = 0;
+        for (int source = 0; source < baseCount; source++) {
+            if (remap[source] < 0) {
+                continue;
+            }
+            for (int edge = base.outOffsets[source], end = base.outOffsets[source + 1]; edge < end; edge++) {
+                int target = remap[base.outTargets[edge]];
+                if (target >= 0) {
+                    sources[edgeCount] = remap[source];
+                    targets[edgeCount++] = target;
+                }
+            }
+        }
+        for (int i = 0; i < builder.edgeCount; i++) {
+            int source = ordinalOf(builder.edgeSources[i]);
+            int target = ordinalOf(builder.edgeTargets[i]);
+            if (source >= 0 && target >= 0 && source != target) {
+                sources[edgeCount] = source;
+                targets[edgeCount++] = target;
+            }
+        }
+
+        // forward CSR by counting sort on the source, then sort and de-duplicate each adjacency list
+        // (remapping keeps order, so lists that only hold base edges are already sorted)
+        int[] offsets = new int[size + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            offsets[sources[i] + 1]++;
+        }
+        for (int node = 0; node < size; node++) {
+            offsets[node + 1] += offsets[node];
+        }
+        int[] forward = new int[edgeCount];
+        int[] cursor = Arrays.copyOf(offsets, size);
+        for (int i = 0; i < edgeCount; i++) {
+            forward[cursor[sources[i]]++] = targets[i];
+        }
+        int written = 0;
+        for (int node = 0; node < size; node++) {
+            int start = offsets[node];
+            int end = offsets[node + 1];
+            if (!isStrictlyAscending(forward, start, end)) {
+                Arrays.sort(forward, start, end);
+            }
+            offsets[node] = written;
+            for (int edge = start; edge < end; edge++) {
+                if (edge == start || forward[edge] != forward[edge - 1]) {
+                    forward[written++] = forward[edge];
+                }
+            }
+        }
+        offsets[size] = written;
+        this.outOffsets = offsets;
+        this.outTargets = written == forward.length ? forward : Arrays.copyOf(forward, written);
+
+        // reverse CSR from the de-duplicated forward lists; sources come out in ascending order
+        this.inOffsets = new int[size + 1];
+        for (int edge = 0; edge < written; edge++) {
+            inOffsets[outTargets[edge] + 1]++;
+        }
+        for (int node = 0; node < size; node++) {
+            inOffsets[node + 1] += inOffsets[node];
+        }
+        this.inSources = new int[written];
+        int[] inCursor = Arrays.copyOf(inOffsets, size);
+        for (int node = 0; node < size; node++) {
+            for (int edge = outOffsets[node], end = outOffsets[node + 1]; edge < end; edge++) {
+                inSources[inCursor[outTargets[edge]]++] = node;
+            }
+        }
+    }
+
+    private static boolean isStrictlyAscending(int[] values, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            if (values[i] <= values[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int distinct(long[] sorted, int length) {
+        int written = 0;
+        for (int i = 0; i < length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[written++] = sorted[i];
+            }
+        }
+        return written;
+    }
+
+    public static final class Builder {
+
+        private final ResourceDependencyGraph base;
+        private final BitSet removed;
+        private long[] nodeIds = new long[64];
+        private long[] nodeTenants = new long[64];
+        private int nodeCount;
+        private long[] edgeSources = new long[64];
+        private long[] edgeTargets = new long[64];
+        private int edgeCount;
+
+        private Builder(ResourceDependencyGraph base, BitSet removed) {
+            this.base = base;
+            this.removed = removed;
+        }
+
+        public Builder addNode(long resourceId, Long tenantId) {
+            if (nodeCount == nodeIds.length) {
+                nodeIds = Arrays.copyOf(nodeIds, nodeCount * 2);
+                nodeTenants = Arrays.copyOf(nodeTenants, nodeCount * 2);
+            }
+            nodeIds[nodeCount] = resourceId;
+            nodeTenants[nodeCount++] = tenantId != null ? tenantId : NO_TENANT_ID;
+            return this;
+        }
+
+        /**
+         * {@code sourceId} 가 {@code targetId} 에 의존한다. 양 끝 중 하나라도 노드가 아니면 build 때 버린다.
+         */
+        public Builder addEdge(long sourceId, long targetId) {
+            if (edgeCount == edgeSources.length) {
+                edgeSources = Arrays.copyOf(edgeSources, edgeCount * 2);
+                edgeTargets = Arrays.copyOf(edgeTargets, edgeCount * 2);
+            }
+            edgeSources[edgeCount] = sourceId;
+            edgeTargets[edgeCount++] = targetId;
+            return this;
+        }
+
+        public ResourceDependencyGraph build() {
+            return new ResourceDependencyGraph(this);
+        }
+    }
+
+    private static final class IntQueue {
+
+        private int[] values = new int[64];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    private static final class LongPairs {
+
+        private long[] sources = new long[64];
+        private long[] targets = new long[64];
+        private int size;
+
+        private void add(long source, long target) {
+            if (size == sources.length) {
+                sources = Arrays.copyOf(sources, size * 2);
+                targets = Arrays.copyOf(targets, size * 2);
+            }
+            sources[size] = source;
+            targets[size++] = target;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.agenticcp.core.domain.cloud.index;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 같은 속성 안의 값은 OR, 속성끼리는 AND 로 결합하고 exclude 에 해당하는 리소스는 제외한다.
+ */
+public record ResourceFilter(Map<ResourceAttribute, Set<String>> include,
+                             Map<ResourceAttribute, Set<String>> exclude) {
+
+    public ResourceFilter {
+        include = include != null ? include : Map.of();
+        exclude = exclude != null ? exclude : Map.of();
+    }
+
+    public static ResourceFilter all() {
+        return new ResourceFilter(Map.of(), Map.of());
+    }
+}
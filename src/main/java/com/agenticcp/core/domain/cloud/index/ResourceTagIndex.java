@@ -0,0 +1,264 @@
+package com.agenticcp.core.domain.cloud.index;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 리소스 태그 역색인: 태그 키와 {@code key=value} 쌍마다 리소스 id 비트맵을 유지한다.
+ *
+ * <p>갱신 시 이전 태그의 비트를 지우기 위해 리소스별 태그 집합을 기억해야 하는데, 대부분의 리소스가
+ * 몇 가지 태그 조합을 공유하므로 태그 집합을 사전으로 만들어 리소스에는 그 ordinal 만 보관한다.</p>
+ */
+public class ResourceTagIndex {
+
+    private static final int[] NO_TAGS = new int[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> keyDictionary = new HashMap<>();
+    private final List<String> keys = new ArrayList<>();
+    private final List<RoaringBitmap> keyBitmaps = new ArrayList<>();
+
+    // (key, value) pairs; pairKeys maps a pair ordinal to its key ordinal
+    private final Map<String, Map<String, Integer>> pairDictionary = new HashMap<>();
+    private final List<Integer> pairKeys = new ArrayList<>();
+    private final List<RoaringBitmap> pairBitmaps = new ArrayList<>();
+
+    private final Map<TagSetKey, Integer> tagSetDictionary = new HashMap<>();
+    private final List<int[]> tagSets = new ArrayList<>();
+    private final OrdinalColumn resourceTagSets = new OrdinalColumn();
+
+    private final RoaringBitmap indexed = new RoaringBitmap();
+
+    public void put(long id, Map<String, String> tags) {
+        int bit = toBit(id);
+        lock.writeLock().lock();
+        try {
+            int[] previous = tagSetOf(bit);
+            int[] next = tags == null || tags.isEmpty() ? NO_TAGS : toPairs(tags);
+            if (!Arrays.equals(previous, next)) {
+                for (int pair : previous) {
+                    pairBitmaps.get(pair).remove(bit);
+                    keyBitmaps.get(pairKeys.get(pair)).remove(bit);
+                }
+                for (int pair : next) {
+                    pairBitmaps.get(pair).add(bit);
+                    keyBitmaps.get(pairKeys.get(pair)).add(bit);
+                }
+                resourceTagSets.set(bit, next.length == 0 ? 0 : tagSetOrdinal(next) + 1);
+            }
+            indexed.add(bit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        int bit = toBit(id);
+        lock.writeLock().lock();
+        try {
+            for (int pair : tagSetOf(bit)) {
+                pairBitmaps.get(pair).remove(bit);
+                keyBitmaps.get(pairKeys.get(pair)).remove(bit);
+            }
+            resourceTagSets.set(bit, 0);
+            indexed.remove(bit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            indexed.runOptimize();
+            keyBitmaps.forEach(RoaringBitmap::runOptimize);
+            pairBitmaps.forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 태그 조건에 맞는 리소스 비트맵 사본. 조건이 비어 있으면 색인된 전체 리소스를 반환한다.
+     */
+    public RoaringBitmap evaluate(TagQuery query) {
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> required = new ArrayList<>(query.all().size() + 1);
+            for (String term : query.all()) {
+                required.add(termBitmap(term));
+            }
+            if (!query.any().isEmpty()) {
+                List<RoaringBitmap> alternatives = new ArrayList<>(query.any().size());
+                for (String term : query.any()) {
+                    alternatives.add(termBitmap(term));
+                }
+                required.add(FastAggregation.or(alternatives.iterator()));
+            }
+            RoaringBitmap result;
+            if (required.isEmpty()) {
+                result = indexed.clone();
+            } else {
+                required.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+                result = required.get(0).clone();
+                for (int i = 1; i < required.size() && !result.isEmpty(); i++) {
+                    result.and(required.get(i));
+                }
+            }
+            for (String term : query.none()) {
+                if (result.isEmpty()) {
+                    break;
+                }
+                result.andNot(termBitmap(term));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@code base} 안에서 태그 키별 리소스 수 (많은 순, 최대 {@code limit} 개)
+     */
+    public Map<String, Long> keyFacets(RoaringBitmap base, int limit) {
+        lock.readLock().lock();
+        try {
+            long[] counts = new long[keys.size()];
+            for (int ordinal = 0; ordinal < keys.size(); ordinal++) {
+                counts[ordinal] = RoaringBitmap.andCardinality(keyBitmaps.get(ordinal), base);
+            }
+            return topCounts(keys, counts, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@code base} 안에서 한 태그 키의 값별 리소스 수 (많은 순, 최대 {@code limit} 개)
+     */
+    public Map<String, Long> valueFacets(String key, RoaringBitmap base, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> values = pairDictionary.getOrDefault(key, Map.of());
+            List<String> names = new ArrayList<>(values.size());
+            long[] counts = new long[values.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : values.entrySet()) {
+                names.add(entry.getKey());
+                counts[i++] = RoaringBitmap.andCardinality(pairBitmaps.get(entry.getValue()), base);
+            }
+            return topCounts(names, counts, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = indexed.getLongSizeInBytes() + resourceTagSets.sizeInBytes();
+            bytes += keyBitmaps.stream().mapToLong(RoaringBitmap::getLongSizeInBytes).sum();
+            bytes += pairBitmaps.stream().mapToLong(RoaringBitmap::getLongSizeInBytes).sum();
+            bytes += tagSets.stream().mapToLong(set -> (long) set.length * Integer.BYTES).sum();
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap termBitmap(String term) {
+        int separator = term.indexOf('=');
+        if (separator < 0) {
+            Integer ordinal = keyDictionary.get(term);
+            return ordinal != null ? keyBitmaps.get(ordinal) : new RoaringBitmap();
+        }
+        Integer pair = pairDictionary.getOrDefault(term.substring(0, separator), Map.of())
+                .get(term.substring(separator + 1));
+        return pair != null ? pairBitmaps.get(pair) : new RoaringBitmap();
+    }
+
+    private int[] tagSetOf(int bit) {
+        int ordinal = resourceTagSets.get(bit) - 1;
+        return ordinal >= 0 ? tagSets.get(ordinal) : NO_TAGS;
+    }
+
+    private int[] toPairs(Map<String, String> tags) {
+        int[] pairs = new int[tags.size()];
+        int i = 0;
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            pairs[i++] = pairOrdinal(tag.getKey(), tag.getValue() != null ? tag.getValue() : "");
+        }
+        Arrays.sort(pairs);
+        return pairs;
+    }
+
+    private int pairOrdinal(String key, String value) {
+        return pairDictionary.computeIfAbsent(key, k -> new HashMap<>()).computeIfAbsent(value, v -> {
+            int keyOrdinal = keyDictionary.computeIfAbsent(key, k -> {
+                keys.add(k);
+                keyBitmaps.add(new RoaringBitmap());
+                return keys.size() - 1;
+            });
+            pairKeys.add(keyOrdinal);
+            pairBitmaps.add(new RoaringBitmap());
+            return pairKeys.size() - 1;
+        });
+    }
+
+    private int tagSetOrdinal(int[] pairs) {
+        return tagSetDictionary.computeIfAbsent(new TagSetKey(pairs), key -> {
+            tagSets.add(pairs);
+            return tagSets.size() - 1;
+        });
+    }
+
+    private static Map<String, Long> topCounts(List<String> names, long[] counts, int limit) {
+        TreeMap<Long, List<String>> byCount = new TreeMap<>(Comparator.reverseOrder());
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                byCount.computeIfAbsent(counts[i], count -> new ArrayList<>()).add(names.get(i));
+            }
+        }
+        Map<String, Long> top = new LinkedHashMap<>();
+        for (Map.Entry<Long, List<String>> entry : byCount.entrySet()) {
+            for (String name : entry.getValue()) {
+                if (top.size() >= limit) {
+                    return top;
+                }
+                top.put(name, entry.getKey());
+            }
+        }
+        return top;
+    }
+
+    private static int toBit(long id) {
+        if (id < 0 || id > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Resource id out of bitmap range: " + id);
+        }
+        return (int) id;
+    }
+
+    private record TagSetKey(int[] pairs) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof TagSetKey key && Arrays.equals(pairs, key.pairs);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(pairs);
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package com.agenticcp.core.domain.cloud.index;
+
+import com.agenticcp.core.domain.cloud.entity.CloudService.ServiceType;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * 서비스×리전 가용성 행렬
+ *
+ * <p>리전과 서비스에 각각 ordinal 을 부여하고, 서비스별 지원 리전 비트셋과 리전별 지원 서비스 비트셋을 함께 유지한다.
+ * 같은 프로바이더의 서비스가 전역 서비스이거나, 서비스의 지원 리전 목록에 리전이 있거나, 리전의 지원 서비스 목록에
+ * 서비스가 있으면 지원하는 것으로 본다. 리전/서비스 한 건이 바뀌면 같은 프로바이더의 상대편만 다시 비교한다.
+ * 삭제된 ordinal 은 재사용하며, 변경마다 {@link #version()} 이 올라간다. 조회는 read lock, 갱신은 write lock 으로 보호한다.</p>
+ */
+public class ServiceAvailabilityMatrix {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Axis<CatalogRegion> regions = new Axis<>(CatalogRegion::id);
+    private final Axis<CatalogService> services = new Axis<>(CatalogService::id);
+    private final List<BitSet> regionsByService = new ArrayList<>();
+    private final List<BitSet> servicesByRegion = new ArrayList<>();
+    private final Map<String, BitSet> regionsByProvider = new HashMap<>();
+    private final Map<String, BitSet> servicesByProvider = new HashMap<>();
+    private long version;
+
+    public record CatalogRegion(long id, String providerKey, String regionKey, Set<String> serviceKeys) {
+    }
+
+    public record CatalogService(long id, String providerKey, String serviceKey, ServiceType serviceType,
+                                 boolean global, Set<String> regionKeys) {
+    }
+
+    /**
+     * 특정 버전의 행렬 사본. 리전과 서비스는 id 순이라 ordinal 배정(재사용 포함)과 무관하게 내용이 같으면 사본도 같다.
+     * {@code rows} 의 비트 위치는 {@code regions} 목록의 위치다.
+     */
+    public record Export(long version, List<CatalogRegion> regions, List<CatalogService> services, List<BitSet> rows) {
+    }
+
+    public long version() {
+        lock.readLock().lock();
+        try {
+            return version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void putRegion(CatalogRegion region) {
+        lock.writeLock().lock();
+        try {
+            int ordinal = regions.ordinalOf(region.id());
+            if (ordinal >= 0) {
+                clearRegion(ordinal);
+            } else {
+                ordinal = regions.add(region);
+                ensureSize(servicesByRegion, ordinal);
+            }
+            regions.set(ordinal, region);
+            regionsByProvider.computeIfAbsent(region.providerKey(), key -> new BitSet()).set(ordinal);
+            BitSet providerServices = servicesByProvider.get(region.providerKey());
+            if (providerServices != null) {
+                for (int service = providerServices.nextSetBit(0); service >= 0;
+                     service = providerServices.nextSetBit(service + 1)) {
+                    if (supports(services.get(service), region)) {
+                        regionsByService.get(service).set(ordinal);
+                        servicesByRegion.get(ordinal).set(service);
+                    }
+                }
+            }
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeRegion(long regionId) {
+        lock.writeLock().lock();
+        try {
+            int ordinal = regions.ordinalOf(regionId);
+            if (ordinal < 0) {
+                return;
+            }
+            clearRegion(ordinal);
+            regions.remove(regionId, ordinal);
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void putService(CatalogService service) {
+        lock.writeLock().lock();
+        try {
+            int ordinal = services.ordinalOf(service.id());
+            if (ordinal >= 0) {
+                clearService(ordinal);
+            } else {
+                ordinal = services.add(service);
+                ensureSize(regionsByService, ordinal);
+            }
+            services.set(ordinal, service);
+            servicesByProvider.computeIfAbsent(service.providerKey(), key -> new BitSet()).set(ordinal);
+            BitSet providerRegions = regionsByProvider.get(service.providerKey());
+            if (providerRegions != null) {
+                for (int region = providerRegions.nextSetBit(0); region >= 0;
+                     region = providerRegions.nextSetBit(region + 1)) {
+                    if (supports(service, regions.get(region))) {
+                        regionsByService.get(ordinal).set(region);
+                        servicesByRegion.get(region).set(ordinal);
+                    }
+                }
+            }
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeService(long serviceId) {
+        lock.writeLock().lock();
+        try {
+            int ordinal = services.ordinalOf(serviceId);
+            if (ordinal < 0) {
+                return;
+            }
+            clearService(ordinal);
+            services.remove(serviceId, ordinal);
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int regionCount() {
+        lock.readLock().lock();
+        try {
+            return regions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int serviceCount() {
+        lock.readLock().lock();
+        try {
+            return services.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Set<ServiceType> serviceTypesOf(long regionId) {
+        lock.readLock().lock();
+        try {
+            Set<ServiceType> types = EnumSet.noneOf(ServiceType.class);
+            int ordinal = regions.ordinalOf(regionId);
+            if (ordinal >= 0) {
+                BitSet row = servicesByRegion.get(ordinal);
+                for (int service = row.nextSetBit(0); service >= 0; service = row.nextSetBit(service + 1)) {
+                    types.add(services.get(service).serviceType());
+                }
+            }
+            return types;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 유형의 서비스를 하나라도 지원하는 리전 (모든 프로바이더)
+     */
+    public List<CatalogRegion> regionsSupporting(ServiceType serviceType) {
+        lock.readLock().lock();
+        try {
+            BitSet matched = new BitSet();
+            for (int service = 0; service < services.capacity(); service++) {
+                CatalogService candidate = services.get(service);
+                if (candidate != null && candidate.serviceType() == serviceType) {
+                    matched.or(regionsByService.get(service));
+                }
+            }
+            return collectRegions(matched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<CatalogRegion> regionsSupporting(String providerKey, String serviceKey) {
+        lock.readLock().lock();
+        try {
+            BitSet providerServices = servicesByProvider.getOrDefault(providerKey, new BitSet());
+            for (int service = providerServices.nextSetBit(0); service >= 0;
+                 service = providerServices.nextSetBit(service + 1)) {
+                if (services.get(service).serviceKey().equals(serviceKey)) {
+                    return collectRegions(regionsByService.get(service));
+                }
+            }
+            return List.of();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Export export() {
+        lock.readLock().lock();
+        try {
+            List<Integer> regionOrdinals = liveOrdinals(regions);
+            regionOrdinals.sort(Comparator.comparingLong(ordinal -> regions.get(ordinal).id()));
+            int[] dense = new int[regions.capacity()];
+            List<CatalogRegion> liveRegions = new ArrayList<>(regionOrdinals.size());
+            for (int ordinal : regionOrdinals) {
+                dense[ordinal] = liveRegions.size();
+                liveRegions.add(regions.get(ordinal));
+            }
+            List<Integer> serviceOrdinals = liveOrdinals(services);
+            serviceOrdinals.sort(Comparator.comparingLong(ordinal -> services.get(ordinal).id()));
+            List<CatalogService> liveServices = new ArrayList<>(serviceOrdinals.size());
+            List<BitSet> rows = new ArrayList<>(serviceOrdinals.size());
+            for (int ordinal : serviceOrdinals) {
+                BitSet source = regionsByService.get(ordinal);
+                BitSet row = new BitSet(liveRegions.size());
+                for (int region = source.nextSetBit(0); region >= 0; region = source.nextSetBit(region + 1)) {
+                    row.set(dense[region]);
+                }
+                liveServices.add(services.get(ordinal));
+                rows.add(row);
+            }
+            return new Export(version, liveRegions, liveServices, rows);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Integer> liveOrdinals(Axis<?> axis) {
+        List<Integer> ordinals = new ArrayList<>(axis.size());
+        for (int ordinal = 0; ordinal < axis.capacity(); ordinal++) {
+            if (axis.get(ordinal) != null) {
+                ordinals.add(ordinal);
+            }
+        }
+        return ordinals;
+    }
+
+    private List<CatalogRegion> collectRegions(BitSet ordinals) {
+        List<CatalogRegion> result = new ArrayList<>(ordinals.cardinality());
+        for (int region = ordinals.nextSetBit(0); region >= 0; region = ordinals.nextSetBit(region + 1)) {
+            result.add(regions.get(region));
+        }
+        return result;
+    }
+
+    private void clearRegion(int ordinal) {
+        BitSet row = servicesByRegion.get(ordinal);
+        for (int service = row.nextSetBit(0); service >= 0; service = row.nextSetBit(service + 1)) {
+            regionsByService.get(service).clear(ordinal);
+        }
+        row.clear();
+        BitSet providerRegions = regionsByProvider.get(regions.get(ordinal).providerKey());
+        if (providerRegions != null) {
+            providerRegions.clear(ordinal);
+        }
+    }
+
+    private void clearService(int ordinal) {
+        BitSet column = regionsByService.get(ordinal);
+        for (int region = column.nextSetBit(0); region >= 0; region = column.nextSetBit(region + 1)) {
+            servicesByRegion.get(region).clear(ordinal);
+        }
+        column.clear();
+        BitSet providerServices = servicesByProvider.get(services.get(ordinal).providerKey());
+        if (providerServices != null) {
+            providerServices.clear(ordinal);
+        }
+    }
+
+    private static boolean supports(CatalogService service, CatalogRegion region) {
+        return service.providerKey().equals(region.providerKey())
+                && (service.global()
+                || service.regionKeys().contains(region.regionKey())
+                || region.serviceKeys().contains(service.serviceKey()));
+    }
+
+    private static void ensureSize(List<BitSet> bitSets, int ordinal) {
+        while (bitSets.size() <= ordinal) {
+            bitSets.add(new BitSet());
+        }
+    }
+
+    /**
+     * 엔티티 id ↔ ordinal 사전. 삭제된 ordinal 은 다음 추가 때 재사용한다.
+     */
+    private static final class Axis<T> {
+
+        private final ToLongFunction<T> idOf;
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final List<T> entries = new ArrayList<>();
+        private final Deque<Integer> free = new ArrayDeque<>();
+
+        private Axis(ToLongFunction<T> idOf) {
+            this.idOf = idOf;
+        }
+
+        private int ordinalOf(long id) {
+            Integer ordinal = ordinals.get(id);
+            return ordinal != null ? ordinal : -1;
+        }
+
+        private int add(T entry) {
+            Integer reused = free.poll();
+            int ordinal;
+            if (reused != null) {
+                ordinal = reused;
+                entries.set(ordinal, entry);
+            } else {
+                ordinal = entries.size();
+                entries.add(entry);
+            }
+            return ordinal;
+        }
+
+        private void set(int ordinal, T entry) {
+            entries.set(ordinal, entry);
+            ordinals.put(idOf.applyAsLong(entry), ordinal);
+        }
+
+        private void remove(long id, int ordinal) {
+            ordinals.remove(id);
+            entries.set(ordinal, null);
+            free.push(ordinal);
+        }
+
+        private T get(int ordinal) {
+            return entries.get(ordinal);
+        }
+
+        private int size() {
+            return ordinals.size();
+        }
+
+        private int capacity() {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.agenticcp.core.domain.cloud.index;
+
+import java.util.List;
+
+/**
+ * 태그 조건. 각 항목은 {@code key} (키 보유) 또는 {@code key=value} 형식이다.
+ *
+ * <p>{@code all} 은 모두 만족(AND), {@code any} 는 하나 이상 만족(OR), {@code none} 은 하나도 만족하지 않아야(NOT) 한다.</p>
+ */
+public record TagQuery(List<String> all, List<String> any, List<String> none) {
+
+    public TagQuery {
+        all = all != null ? all : List.of();
+        any = any != null ? any : List.of();
+        none = none != null ? none : List.of();
+    }
+
+    public boolean isEmpty() {
+        return all.isEmpty() && any.isEmpty() && none.isEmpty();
+    }
+}
@@ -0,0 +1,177 @@
+package com.agenticcp.core.domain.cloud.repository;
+
+import com.agenticcp.core.domain.cloud.entity.BulkOperationItem;
+import com.agenticcp.core.domain.cloud.entity.CloudResource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 라이프사이클 작업의 항목 생성/상태 갱신용 JDBC 배치 쓰기 (수만 건 단위)
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkOperationBatchRepository {
+
+    private static final String SELECT_TARGETS_SQL =
+            "SELECT r.id, r.resource_id, p.provider_key, rg.region_key, r.lifecycle_state " +
+            "FROM cloud_resources r " +
+            "JOIN cloud_providers p ON p.id = r.provider_id " +
+            "LEFT JOIN cloud_regions rg ON rg.id = r.region_id " +
+            "WHERE r.is_deleted = false ";
+
+    private static final String INSERT_ITEM_SQL =
+            "INSERT INTO cloud_bulk_operation_items (operation_id, cloud_resource_id, resource_id, provider_key, " +
+            "region_key, status, error_message, completed_at, created_at, updated_at, is_deleted) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)";
+
+    private static final String SELECT_PENDING_SCOPES_SQL =
+            "SELECT DISTINCT provider_key, region_key FROM cloud_bulk_operation_items " +
+            "WHERE operation_id = ? AND status = 'PENDING'";
+
+    private static final String SELECT_PENDING_ITEMS_SQL =
+            "SELECT i.id, i.cloud_resource_id, i.resource_id, r.tenant_id, r.lifecycle_state " +
+            "FROM cloud_bulk_operation_items i " +
+            "LEFT JOIN cloud_resources r ON r.id = i.cloud_resource_id " +
+            "WHERE i.operation_id = :operationId AND i.provider_key = :providerKey " +
+            "AND ((:regionKey IS NULL AND i.region_key IS NULL) OR i.region_key = :regionKey) " +
+            "AND i.status = 'PENDING' AND i.id > :afterId ORDER BY i.id LIMIT :limit";
+
+    private static final String COUNT_BY_STATUS_SQL =
+            "SELECT status, COUNT(*) FROM cloud_bulk_operation_items WHERE operation_id = ? GROUP BY status";
+
+    private static final String COMPLETE_ITEM_SQL =
+            "UPDATE cloud_bulk_operation_items SET status = ?, error_message = ?, completed_at = ?, updated_at = ? " +
+            "WHERE id = ?";
+
+    private static final String SKIP_PENDING_SQL =
+            "UPDATE cloud_bulk_operation_items SET status = 'SKIPPED', error_message = ?, completed_at = ?, updated_at = ? " +
+            "WHERE operation_id = ? AND status = 'PENDING'";
+
+    private static final String UPDATE_LIFECYCLE_SQL =
+            "UPDATE cloud_resources SET lifecycle_state = :state, updated_at = :now, updated_by = :user WHERE id IN (:ids)";
+
+    private static final String INCREMENT_COUNTERS_SQL =
+            "UPDATE cloud_bulk_operations SET succeeded_items = succeeded_items + ?, failed_items = failed_items + ?, " +
+            "skipped_items = skipped_items + ?, updated_at = ? WHERE id = ?";
+
+    private static final String BULK_USER = "bulk-operation";
+
+    private static final RowMapper<Target> TARGET_MAPPER = (rs, rowNum) -> new Target(rs.getLong(1), rs.getString(2),
+            rs.getString(3), rs.getString(4),
+            rs.getString(5) != null ? CloudResource.LifecycleState.valueOf(rs.getString(5)) : null);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public record Target(long cloudResourceId, String resourceId, String providerKey, String regionKey,
+                         CloudResource.LifecycleState lifecycleState) {
+    }
+
+    public record NewItem(Target target, BulkOperationItem.ItemStatus status, String errorMessage) {
+    }
+
+    /**
+     * @param lifecycleState 실행 직전 리소스의 수명주기 상태
+     */
+    public record PendingItem(long id, long cloudResourceId, String resourceId, Long tenantId,
+                              CloudResource.LifecycleState lifecycleState) {
+    }
+
+    public record Scope(String providerKey, String regionKey) {
+    }
+
+    public record ItemOutcome(long id, BulkOperationItem.ItemStatus status, String errorMessage) {
+    }
+
+    public List<Target> findTargetsByResourceIds(Collection<String> resourceIds) {
+        return namedParameterJdbcTemplate.query(SELECT_TARGETS_SQL + "AND r.resource_id IN (:resourceIds)",
+                new MapSqlParameterSource("resourceIds", resourceIds), TARGET_MAPPER);
+    }
+
+    public List<Target> findTargetsByIds(Collection<Long> ids) {
+        return namedParameterJdbcTemplate.query(SELECT_TARGETS_SQL + "AND r.id IN (:ids)",
+                new MapSqlParameterSource("ids", ids), TARGET_MAPPER);
+    }
+
+    public void insertItems(long operationId, List<NewItem> items, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, items, items.size(), (statement, item) -> {
+            statement.setLong(1, operationId);
+            statement.setLong(2, item.target().cloudResourceId());
+            statement.setString(3, item.target().resourceId());
+            statement.setString(4, item.target().providerKey());
+            statement.setString(5, item.target().regionKey());
+            statement.setString(6, item.status().name());
+            statement.setString(7, item.errorMessage());
+            statement.setTimestamp(8, item.status() == BulkOperationItem.ItemStatus.PENDING ? null : timestamp);
+            statement.setTimestamp(9, timestamp);
+            statement.setTimestamp(10, timestamp);
+        });
+    }
+
+    public List<Scope> findPendingScopes(long operationId) {
+        return jdbcTemplate.query(SELECT_PENDING_SCOPES_SQL,
+                (rs, rowNum) -> new Scope(rs.getString(1), rs.getString(2)), operationId);
+    }
+
+    public List<PendingItem> findPendingItems(long operationId, Scope scope, long afterId, int limit) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("operationId", operationId)
+                .addValue("providerKey", scope.providerKey())
+                .addValue("regionKey", scope.regionKey())
+                .addValue("afterId", afterId)
+                .addValue("limit", limit);
+        return namedParameterJdbcTemplate.query(SELECT_PENDING_ITEMS_SQL, parameters,
+                (rs, rowNum) -> new PendingItem(rs.getLong(1), rs.getLong(2), rs.getString(3),
+                        rs.getObject(4, Long.class),
+                        rs.getString(5) != null ? CloudResource.LifecycleState.valueOf(rs.getString(5)) : null));
+    }
+
+    public Map<BulkOperationItem.ItemStatus, Integer> countItemsByStatus(long operationId) {
+        Map<BulkOperationItem.ItemStatus, Integer> counts = new EnumMap<>(BulkOperationItem.ItemStatus.class);
+        jdbcTemplate.query(COUNT_BY_STATUS_SQL, rs -> {
+            counts.put(BulkOperationItem.ItemStatus.valueOf(rs.getString(1)), rs.getInt(2));
+        }, operationId);
+        return counts;
+    }
+
+    public void completeItems(List<ItemOutcome> outcomes, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(COMPLETE_ITEM_SQL, outcomes, outcomes.size(), (statement, outcome) -> {
+            statement.setString(1, outcome.status().name());
+            statement.setString(2, outcome.errorMessage());
+            statement.setTimestamp(3, timestamp);
+            statement.setTimestamp(4, timestamp);
+            statement.setLong(5, outcome.id());
+        });
+    }
+
+    public int skipPending(long operationId, String reason, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update(SKIP_PENDING_SQL, reason, timestamp, timestamp, operationId);
+    }
+
+    public void updateLifecycleState(Collection<Long> cloudResourceIds, CloudResource.LifecycleState state,
+                                     LocalDateTime now) {
+        namedParameterJdbcTemplate.update(UPDATE_LIFECYCLE_SQL, new MapSqlParameterSource()
+                .addValue("state", state.name())
+                .addValue("now", Timestamp.valueOf(now))
+                .addValue("user", BULK_USER)
+                .addValue("ids", cloudResourceIds));
+    }
+
+    public void incrementCounters(long operationId, int succeeded, int failed, int skipped, LocalDateTime now) {
+        jdbcTemplate.update(INCREMENT_COUNTERS_SQL, succeeded, failed, skipped, Timestamp.valueOf(now), operationId);
+    }
+}
@@ -0,0 +1,19 @@
+package com.agenticcp.core.domain.cloud.repository;
+
+import com.agenticcp.core.domain.cloud.entity.BulkOperation;
+import com.agenticcp.core.domain.cloud.entity.BulkOperationItem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BulkOperationItemRepository extends JpaRepository<BulkOperationItem, Long> {
+
+    Page<BulkOperationItem> findByOperation(BulkOperation operation, Pageable pageable);
+
+    Page<BulkOperationItem> findByOperationAndStatus(BulkOperation operation, BulkOperationItem.ItemStatus status,
+                                                     Pageable pageable);
+
+    long countByOperationAndStatus(BulkOperation operation, BulkOperationItem.ItemStatus status);
+}
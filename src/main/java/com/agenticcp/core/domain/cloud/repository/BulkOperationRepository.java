@@ -0,0 +1,53 @@
+package com.agenticcp.core.domain.cloud.repository;
+
+import com.agenticcp.core.domain.cloud.entity.BulkOperation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BulkOperationRepository extends JpaRepository<BulkOperation, Long> {
+
+    Page<BulkOperation> findAllByOrderByIdDesc(Pageable pageable);
+
+    @Query("SELECT o.cancelRequested FROM BulkOperation o WHERE o.id = :id")
+    boolean isCancelRequested(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE BulkOperation o SET o.cancelRequested = true WHERE o.id = :id AND o.status IN :statuses")
+    int requestCancel(@Param("id") Long id, @Param("statuses") List<BulkOperation.OperationStatus> statuses);
+
+    @Modifying
+    @Query("UPDATE BulkOperation o SET o.status = 'RUNNING', o.startedAt = :startedAt, o.updatedAt = :startedAt " +
+           "WHERE o.id = :id AND o.status = 'PENDING'")
+    int markRunning(@Param("id") Long id, @Param("startedAt") LocalDateTime startedAt);
+
+    @Query("SELECT o.id FROM BulkOperation o WHERE o.status IN :statuses AND o.updatedAt < :staleBefore ORDER BY o.id")
+    List<Long> findStaleIds(@Param("statuses") List<BulkOperation.OperationStatus> statuses,
+                            @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query("UPDATE BulkOperation o SET o.updatedAt = :now " +
+           "WHERE o.id = :id AND o.status = 'RUNNING' AND o.updatedAt < :staleBefore")
+    int claimStale(@Param("id") Long id, @Param("staleBefore") LocalDateTime staleBefore,
+                   @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE BulkOperation o SET o.updatedAt = :now WHERE o.id IN :ids AND o.status = 'RUNNING'")
+    int touchRunning(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE BulkOperation o SET o.status = :status, o.endedAt = :endedAt, o.errorMessage = :errorMessage " +
+           "WHERE o.id = :id")
+    int markFinished(@Param("id") Long id,
+                     @Param("status") BulkOperation.OperationStatus status,
+                     @Param("endedAt") LocalDateTime endedAt,
+                     @Param("errorMessage") String errorMessage);
+}
@@ -0,0 +1,30 @@
+package com.agenticcp.core.domain.cloud.repository;
+
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.agenticcp.core.domain.cloud.entity.CloudRegion;
+import com.agenticcp.core.common.enums.Status;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CloudRegionRepository extends JpaRepository<CloudRegion, Long> {
+
+    List<CloudRegion> findByProvider(CloudProvider provider);
+
+    Optional<CloudRegion> findByProviderAndRegionKey(CloudProvider provider, String regionKey);
+
+    @Query("SELECT r FROM CloudRegion r WHERE r.provider = :provider AND r.status = :status " +
+           "AND r.isAvailable = true AND r.isDeleted = false")
+    List<CloudRegion> findAvailableRegions(@Param("provider") CloudProvider provider, @Param("status") Status status);
+
+    @Query("SELECT r FROM CloudRegion r JOIN FETCH r.provider p WHERE r.isDeleted = false AND p.isDeleted = false")
+    List<CloudRegion> findAllWithProvider();
+
+    @Query("SELECT r FROM CloudRegion r JOIN FETCH r.provider WHERE r.id = :id")
+    Optional<CloudRegion> findWithProviderById(@Param("id") Long id);
+}
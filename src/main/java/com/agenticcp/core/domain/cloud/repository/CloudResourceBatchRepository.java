@@ -0,0 +1,131 @@
+package com.agenticcp.core.domain.cloud.repository;
+
+import com.agenticcp.core.domain.cloud.dto.CloudResourceSnapshot;
+import com.agenticcp.core.domain.cloud.entity.CloudResource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인벤토리 동기화용 JDBC 배치 쓰기 (IDENTITY 키 엔티티는 Hibernate 배치 INSERT 가 불가하므로 JDBC 로 직접 기록)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CloudResourceBatchRepository {
+
+    private static final BigDecimal HOURS_PER_MONTH = BigDecimal.valueOf(730);
+    private static final String SYNC_USER = "inventory-sync";
+
+    private static final String SELECT_ACTIVE_STATE_SQL =
+            "SELECT id, resource_id, last_modified_in_cloud, tenant_id, lifecycle_state FROM cloud_resources " +
+            "WHERE provider_id = ? AND region_id = ? AND is_deleted = false AND lifecycle_state <> 'TERMINATED'";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO cloud_resources (resource_id, resource_name, display_name, provider_id, region_id, service_id, " +
+            "tenant_id, status, resource_type, lifecycle_state, instance_type, instance_size, cpu_cores, memory_gb, " +
+            "storage_gb, network_bandwidth_mbps, private_ip_address, public_ip_address, tags, cost_per_hour, monthly_cost, " +
+            "created_in_cloud, last_modified_in_cloud, last_sync, created_at, updated_at, created_by, updated_by, is_deleted) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 'ACTIVE', ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false) " +
+            "ON DUPLICATE KEY UPDATE resource_name = VALUES(resource_name), display_name = VALUES(display_name), " +
+            "provider_id = VALUES(provider_id), region_id = VALUES(region_id), service_id = VALUES(service_id), " +
+            "tenant_id = VALUES(tenant_id), resource_type = VALUES(resource_type), lifecycle_state = VALUES(lifecycle_state), " +
+            "instance_type = VALUES(instance_type), instance_size = VALUES(instance_size), cpu_cores = VALUES(cpu_cores), " +
+            "memory_gb = VALUES(memory_gb), storage_gb = VALUES(storage_gb), " +
+            "network_bandwidth_mbps = VALUES(network_bandwidth_mbps), private_ip_address = VALUES(private_ip_address), " +
+            "public_ip_address = VALUES(public_ip_address), tags = VALUES(tags), cost_per_hour = VALUES(cost_per_hour), " +
+            "monthly_cost = VALUES(monthly_cost), last_modified_in_cloud = VALUES(last_modified_in_cloud), " +
+            "last_sync = VALUES(last_sync), updated_at = VALUES(updated_at), updated_by = VALUES(updated_by), is_deleted = false";
+
+    private static final String TERMINATE_SQL =
+            "UPDATE cloud_resources SET lifecycle_state = 'TERMINATED', last_sync = :now, updated_at = :now, " +
+            "updated_by = :user WHERE id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public record StoredResourceState(long id, LocalDateTime lastModifiedInCloud, Long tenantId,
+                                      CloudResource.LifecycleState lifecycleState) {
+    }
+
+    public record ResourceWrite(CloudResourceSnapshot snapshot, long providerId, long regionId, long serviceId,
+                                Long tenantId, String tagsJson) {
+    }
+
+    public Map<String, StoredResourceState> loadActiveState(long providerId, long regionId, int fetchSize) {
+        Map<String, StoredResourceState> state = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_ACTIVE_STATE_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, providerId);
+            statement.setLong(2, regionId);
+            return statement;
+        }, (ResultSet rs) -> {
+            Timestamp lastModified = rs.getTimestamp(3);
+            String lifecycleState = rs.getString(5);
+            state.put(rs.getString(2), new StoredResourceState(rs.getLong(1),
+                    lastModified != null ? lastModified.toLocalDateTime() : null, rs.getObject(4, Long.class),
+                    lifecycleState != null ? CloudResource.LifecycleState.valueOf(lifecycleState) : null));
+        });
+        return state;
+    }
+
+    public void upsert(List<ResourceWrite> writes, LocalDateTime now) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, writes, writes.size(), (statement, write) -> {
+            CloudResourceSnapshot snapshot = write.snapshot();
+            CloudResource.LifecycleState lifecycleState = snapshot.getLifecycleState() != null
+                    ? snapshot.getLifecycleState() : CloudResource.LifecycleState.UNKNOWN;
+            int index = 1;
+            statement.setString(index++, snapshot.getResourceId());
+            statement.setString(index++, snapshot.getResourceName() != null ? snapshot.getResourceName() : snapshot.getResourceId());
+            statement.setString(index++, snapshot.getDisplayName());
+            statement.setLong(index++, write.providerId());
+            statement.setLong(index++, write.regionId());
+            statement.setLong(index++, write.serviceId());
+            statement.setObject(index++, write.tenantId(), Types.BIGINT);
+            statement.setString(index++, snapshot.getResourceType() != null ? snapshot.getResourceType().name() : null);
+            statement.setString(index++, lifecycleState.name());
+            statement.setString(index++, snapshot.getInstanceType());
+            statement.setString(index++, snapshot.getInstanceSize());
+            statement.setObject(index++, snapshot.getCpuCores(), Types.INTEGER);
+            statement.setObject(index++, snapshot.getMemoryGb(), Types.INTEGER);
+            statement.setObject(index++, snapshot.getStorageGb(), Types.BIGINT);
+            statement.setObject(index++, snapshot.getNetworkBandwidthMbps(), Types.INTEGER);
+            statement.setString(index++, snapshot.getPrivateIpAddress());
+            statement.setString(index++, snapshot.getPublicIpAddress());
+            statement.setString(index++, write.tagsJson());
+            statement.setBigDecimal(index++, snapshot.getCostPerHour());
+            statement.setBigDecimal(index++, snapshot.getCostPerHour() != null
+                    ? snapshot.getCostPerHour().multiply(HOURS_PER_MONTH) : null);
+            statement.setObject(index++, snapshot.getCreatedInCloud());
+            statement.setObject(index++, snapshot.getLastModifiedInCloud());
+            statement.setObject(index++, now);
+            statement.setObject(index++, now);
+            statement.setObject(index++, now);
+            statement.setString(index++, SYNC_USER);
+            statement.setString(index, SYNC_USER);
+        });
+    }
+
+    public int markTerminated(List<Long> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(TERMINATE_SQL, new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("now", now)
+                .addValue("user", SYNC_USER));
+    }
+}
@@ -0,0 +1,69 @@
+package com.agenticcp.core.domain.cloud.repository;
+
+import com.agenticcp.core.domain.cloud.index.IndexedResource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 인메모리 인벤토리 인덱스 적재용 JDBC 조회 (엔티티/연관관계 로딩 없이 key 만 조인)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CloudResourceIndexRepository {
+
+    private static final String SELECT_INDEX_ROWS_SQL =
+            "SELECT r.id, t.tenant_key, p.provider_key, rg.region_key, s.service_key, " +
+            "r.resource_type, r.lifecycle_state, r.status, r.tags, r.is_deleted " +
+            "FROM cloud_resources r " +
+            "JOIN cloud_providers p ON p.id = r.provider_id " +
+            "JOIN cloud_services s ON s.id = r.service_id " +
+            "LEFT JOIN cloud_regions rg ON rg.id = r.region_id " +
+            "LEFT JOIN tenants t ON t.id = r.tenant_id ";
+
+    private static final RowMapper<IndexRow> ROW_MAPPER = (rs, rowNum) -> mapRow(rs);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public record IndexRow(IndexedResource resource, String tagsJson, boolean deleted) {
+    }
+
+    public void streamAll(int fetchSize, Consumer<IndexRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    SELECT_INDEX_ROWS_SQL + "WHERE r.is_deleted = false",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (ResultSet rs) -> {
+            consumer.accept(mapRow(rs));
+        });
+    }
+
+    public List<IndexRow> findByResourceIds(Collection<String> resourceIds) {
+        return namedParameterJdbcTemplate.query(SELECT_INDEX_ROWS_SQL + "WHERE r.resource_id IN (:resourceIds)",
+                new MapSqlParameterSource("resourceIds", resourceIds), ROW_MAPPER);
+    }
+
+    public List<IndexRow> findByIds(Collection<Long> ids) {
+        return namedParameterJdbcTemplate.query(SELECT_INDEX_ROWS_SQL + "WHERE r.id IN (:ids)",
+                new MapSqlParameterSource("ids", ids), ROW_MAPPER);
+    }
+
+    private static IndexRow mapRow(ResultSet rs) throws SQLException {
+        IndexedResource resource = new IndexedResource(rs.getLong(1), rs.getString(2), rs.getString(3),
+                rs.getString(4), rs.getString(5), rs.getString(6), rs.getString(7), rs.getString(8));
+        return new IndexRow(resource, rs.getString(9), rs.getBoolean(10));
+    }
+}
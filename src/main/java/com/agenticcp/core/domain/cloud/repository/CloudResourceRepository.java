@@ -0,0 +1,39 @@
+package com.agenticcp.core.domain.cloud.repository;
+
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.agenticcp.core.domain.cloud.entity.CloudResource;
+import com.agenticcp.core.domain.tenant.entity.Tenant;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CloudResourceRepository extends JpaRepository<CloudResource, Long> {
+
+    Optional<CloudResource> findByResourceId(String resourceId);
+
+    List<CloudResource> findByResourceIdIn(Collection<String> resourceIds);
+
+    Page<CloudResource> findByProvider(CloudProvider provider, Pageable pageable);
+
+    Page<CloudResource> findByTenant(Tenant tenant, Pageable pageable);
+
+    @Query("SELECT r FROM CloudResource r WHERE r.lifecycleState = :state AND r.isDeleted = false")
+    Page<CloudResource> findByLifecycleState(@Param("state") CloudResource.LifecycleState state, Pageable pageable);
+
+    @Query("SELECT r.lifecycleState, COUNT(r) FROM CloudResource r WHERE r.provider = :provider AND r.isDeleted = false " +
+           "GROUP BY r.lifecycleState")
+    List<Object[]> countByLifecycleState(@Param("provider") CloudProvider provider);
+
+    // current monthly cost of live resources, not a historical figure for any past period
+    @Query("SELECT r.tenant.id, COALESCE(SUM(r.monthlyCost), 0) FROM CloudResource r " +
+           "WHERE r.tenant.id IN :tenantIds AND r.isDeleted = false GROUP BY r.tenant.id")
+    List<Object[]> sumMonthlyCostByTenant(@Param("tenantIds") Collection<Long> tenantIds);
+}
@@ -0,0 +1,25 @@
+package com.agenticcp.core.domain.cloud.repository;
+
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.agenticcp.core.domain.cloud.entity.CloudService;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CloudServiceRepository extends JpaRepository<CloudService, Long> {
+
+    List<CloudService> findByProvider(CloudProvider provider);
+
+    Optional<CloudService> findByProviderAndServiceKey(CloudProvider provider, String serviceKey);
+
+    @Query("SELECT s FROM CloudService s JOIN FETCH s.provider p WHERE s.isDeleted = false AND p.isDeleted = false")
+    List<CloudService> findAllWithProvider();
+
+    @Query("SELECT s FROM CloudService s JOIN FETCH s.provider WHERE s.id = :id")
+    Optional<CloudService> findWithProviderById(@Param("id") Long id);
+}
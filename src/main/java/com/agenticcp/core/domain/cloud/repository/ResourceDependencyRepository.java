@@ -0,0 +1,134 @@
+package com.agenticcp.core.domain.cloud.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 리소스 의존 관계 JDBC 조회/쓰기 (동기화 시 리소스별 의존 목록 교체, 의존 그래프 적재용 스트리밍)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ResourceDependencyRepository {
+
+    private static final String SYNC_USER = "inventory-sync";
+
+    private static final String SELECT_NODES_SQL =
+            "SELECT id, tenant_id FROM cloud_resources WHERE is_deleted = false AND lifecycle_state <> 'TERMINATED'";
+
+    private static final String SELECT_EDGES_SQL =
+            "SELECT d.cloud_resource_id, r.id FROM cloud_resource_dependencies d " +
+            "JOIN cloud_resources r ON r.resource_id = d.depends_on_resource_id ";
+
+    private static final String SELECT_NODE_STATES_SQL =
+            "SELECT id, tenant_id, is_deleted, lifecycle_state FROM cloud_resources WHERE resource_id IN (:resourceIds)";
+
+    private static final String DELETE_DEPENDENCIES_SQL =
+            "DELETE FROM cloud_resource_dependencies WHERE cloud_resource_id IN " +
+            "(SELECT id FROM cloud_resources WHERE resource_id IN (:resourceIds))";
+
+    private static final String INSERT_DEPENDENCY_SQL =
+            "INSERT INTO cloud_resource_dependencies (cloud_resource_id, depends_on_resource_id, created_at, " +
+            "updated_at, created_by, updated_by, is_deleted) " +
+            "SELECT id, ?, ?, ?, ?, ?, false FROM cloud_resources WHERE resource_id = ?";
+
+    private static final RowMapper<Edge> EDGE_MAPPER = (rs, rowNum) -> new Edge(rs.getLong(1), rs.getLong(2));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * @param live 삭제/종료되지 않아 그래프 노드가 되는 리소스인지
+     */
+    public record Node(long id, Long tenantId, boolean live) {
+    }
+
+    public record Edge(long sourceId, long targetId) {
+    }
+
+    public void streamNodes(int fetchSize, Consumer<Node> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_NODES_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (ResultSet rs) -> {
+            consumer.accept(new Node(rs.getLong(1), rs.getObject(2, Long.class), true));
+        });
+    }
+
+    /**
+     * 대상이 동기화된 의존 관계 전체 (대상이 아직 없는 관계는 조인에서 빠진다)
+     */
+    public void streamEdges(int fetchSize, Consumer<Edge> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_EDGES_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (ResultSet rs) -> {
+            consumer.accept(new Edge(rs.getLong(1), rs.getLong(2)));
+        });
+    }
+
+    public List<Node> findNodesByResourceIds(Collection<String> resourceIds) {
+        return namedParameterJdbcTemplate.query(SELECT_NODE_STATES_SQL,
+                new MapSqlParameterSource("resourceIds", resourceIds),
+                (rs, rowNum) -> new Node(rs.getLong(1), rs.getObject(2, Long.class),
+                        !rs.getBoolean(3) && !"TERMINATED".equals(rs.getString(4))));
+    }
+
+    /**
+     * 지정한 리소스에서 나가거나 들어오는 의존 관계 (양 끝이 모두 지정한 리소스면 두 번 나올 수 있다)
+     */
+    public List<Edge> findEdgesTouching(Collection<Long> ids) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("ids", ids);
+        List<Edge> edges = new ArrayList<>(namedParameterJdbcTemplate.query(
+                SELECT_EDGES_SQL + "WHERE d.cloud_resource_id IN (:ids)", parameters, EDGE_MAPPER));
+        edges.addAll(namedParameterJdbcTemplate.query(SELECT_EDGES_SQL + "WHERE r.id IN (:ids)", parameters, EDGE_MAPPER));
+        return edges;
+    }
+
+    /**
+     * 리소스별 의존 목록을 통째로 교체한다. 리소스 upsert 와 같은 트랜잭션에서 upsert 뒤에 호출해야 한다.
+     *
+     * @param dependsOnByResourceId 프로바이더 리소스 id → 의존 대상 프로바이더 리소스 id 목록
+     */
+    public void replace(Map<String, List<String>> dependsOnByResourceId, LocalDateTime now) {
+        if (dependsOnByResourceId.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.update(DELETE_DEPENDENCIES_SQL,
+                new MapSqlParameterSource("resourceIds", dependsOnByResourceId.keySet()));
+        List<String[]> rows = new ArrayList<>();
+        dependsOnByResourceId.forEach((resourceId, dependsOn) -> dependsOn.stream()
+                .distinct()
+                .filter(target -> target != null && !target.equals(resourceId))
+                .forEach(target -> rows.add(new String[]{resourceId, target})));
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_DEPENDENCY_SQL, rows, rows.size(), (statement, row) -> {
+            statement.setString(1, row[1]);
+            statement.setTimestamp(2, timestamp);
+            statement.setTimestamp(3, timestamp);
+            statement.setString(4, SYNC_USER);
+            statement.setString(5, SYNC_USER);
+            statement.setString(6, row[0]);
+        });
+    }
+}
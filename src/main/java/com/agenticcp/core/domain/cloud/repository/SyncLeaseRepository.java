@@ -0,0 +1,63 @@
+package com.agenticcp.core.domain.cloud.repository;
+
+import com.agenticcp.core.domain.cloud.entity.SyncLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SyncLeaseRepository extends JpaRepository<SyncLease, Long> {
+
+    Optional<SyncLease> findByLeaseKey(String leaseKey);
+
+    List<SyncLease> findByProviderKey(String providerKey);
+
+    List<SyncLease> findByLeaseOwner(String leaseOwner);
+
+    /**
+     * 실행 시각이 된 미점유(또는 만료된) 리스를 잠근다. 다른 노드가 잠근 행은 건너뛰므로 노드끼리 대기하지 않는다.
+     */
+    @Query(value = "SELECT * FROM cloud_sync_leases " +
+                   "WHERE is_deleted = false AND next_run_at <= :now " +
+                   "AND (lease_owner IS NULL OR lease_expires_at < :now) " +
+                   "ORDER BY next_run_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<SyncLease> lockDueLeases(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 이 노드가 같은 fencing token 으로 만료 전의 리스를 쥐고 있으면 그 행을 현재 트랜잭션이 끝날 때까지 잠근다.
+     * 잠긴 동안 다른 노드의 {@link #lockDueLeases} 는 이 행을 건너뛰므로 회수할 수 없다.
+     */
+    @Query(value = "SELECT id FROM cloud_sync_leases " +
+                   "WHERE id = :id AND lease_owner = :owner AND fencing_token = :token AND lease_expires_at > :now " +
+                   "FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockHeld(@Param("id") Long id, @Param("owner") String owner, @Param("token") Long token,
+                        @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE SyncLease l SET l.leaseExpiresAt = :expiresAt " +
+           "WHERE l.id = :id AND l.leaseOwner = :owner AND l.fencingToken = :token")
+    int renew(@Param("id") Long id, @Param("owner") String owner, @Param("token") Long token,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE SyncLease l SET l.leaseOwner = null, l.leaseExpiresAt = null, l.nextRunAt = :nextRunAt, " +
+           "l.lastCompletedAt = :completedAt, l.lastError = null, l.consecutiveFailures = 0 " +
+           "WHERE l.id = :id AND l.leaseOwner = :owner AND l.fencingToken = :token")
+    int releaseCompleted(@Param("id") Long id, @Param("owner") String owner, @Param("token") Long token,
+                         @Param("completedAt") LocalDateTime completedAt, @Param("nextRunAt") LocalDateTime nextRunAt);
+
+    @Modifying
+    @Query("UPDATE SyncLease l SET l.leaseOwner = null, l.leaseExpiresAt = null, l.nextRunAt = :nextRunAt, " +
+           "l.lastError = :error, l.consecutiveFailures = l.consecutiveFailures + 1 " +
+           "WHERE l.id = :id AND l.leaseOwner = :owner AND l.fencingToken = :token")
+    int releaseFailed(@Param("id") Long id, @Param("owner") String owner, @Param("token") Long token,
+                      @Param("error") String error, @Param("nextRunAt") LocalDateTime nextRunAt);
+}
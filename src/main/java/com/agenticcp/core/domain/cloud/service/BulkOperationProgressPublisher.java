@@ -0,0 +1,94 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.domain.cloud.dto.BulkOperationResponse;
+import com.agenticcp.core.domain.cloud.repository.BulkOperationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 대량 작업 진행률 SSE 구독 관리. 구독자가 있는 작업만 주기적으로 한 번 조회해 모든 구독자에게 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkOperationProgressPublisher {
+
+    private static final String PROGRESS_EVENT = "progress";
+
+    private final BulkOperationService bulkOperationService;
+    private final BulkOperationRepository operationRepository;
+    private final BulkOperationProperties properties;
+    private final Map<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(Long operationId) {
+        BulkOperationResponse current = bulkOperationService.getOperation(operationId);
+        SseEmitter emitter = new SseEmitter(properties.getProgressTimeout().toMillis());
+        if (!send(emitter, current)) {
+            return emitter;
+        }
+        if (isFinished(current)) {
+            emitter.complete();
+            return emitter;
+        }
+        List<SseEmitter> emitters = subscribers.computeIfAbsent(operationId, id -> new CopyOnWriteArrayList<>());
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(error -> emitters.remove(emitter));
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${agenticcp.cloud.bulk.progress-interval:PT1S}")
+    public void broadcast() {
+        subscribers.forEach((operationId, emitters) -> {
+            if (emitters.isEmpty()) {
+                subscribers.remove(operationId, emitters);
+                return;
+            }
+            BulkOperationResponse progress = operationRepository.findById(operationId)
+                    .map(BulkOperationResponse::from)
+                    .orElse(null);
+            if (progress == null) {
+                emitters.forEach(SseEmitter::complete);
+                subscribers.remove(operationId);
+                return;
+            }
+            for (SseEmitter emitter : emitters) {
+                if (!send(emitter, progress)) {
+                    emitters.remove(emitter);
+                }
+            }
+            if (isFinished(progress)) {
+                emitters.forEach(SseEmitter::complete);
+                subscribers.remove(operationId);
+            }
+        });
+    }
+
+    private static boolean send(SseEmitter emitter, BulkOperationResponse progress) {
+        try {
+            emitter.send(SseEmitter.event().name(PROGRESS_EVENT).data(progress));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping progress subscriber for bulk operation {}: {}", progress.getId(), e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private static boolean isFinished(BulkOperationResponse progress) {
+        return switch (progress.getStatus()) {
+            case PENDING, RUNNING -> false;
+            default -> true;
+        };
+    }
+}
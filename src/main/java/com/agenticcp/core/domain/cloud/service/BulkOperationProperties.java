@@ -0,0 +1,28 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "agenticcp.cloud.bulk")
+public class BulkOperationProperties {
+
+    // resources sent to the provider in one lifecycle call
+    private int batchSize = 100;
+
+    // lifecycle calls in flight per provider across all running operations
+    private int maxConcurrentPerProvider = 4;
+
+    private int maxItems = 100_000;
+
+    private Duration progressInterval = Duration.ofSeconds(1);
+
+    private Duration progressTimeout = Duration.ofMinutes(30);
+
+    // a PENDING/RUNNING operation without progress for this long is taken over by another node's recovery sweep
+    private Duration recoveryStaleAfter = Duration.ofMinutes(15);
+}
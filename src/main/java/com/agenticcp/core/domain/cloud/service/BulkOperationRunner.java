@@ -0,0 +1,393 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.domain.cloud.adapter.LifecycleAdapterRegistry;
+import com.agenticcp.core.domain.cloud.adapter.LifecycleBatchResult;
+import com.agenticcp.core.domain.cloud.adapter.ProviderLifecycleAdapter;
+import com.agenticcp.core.domain.cloud.entity.BulkOperation;
+import com.agenticcp.core.domain.cloud.entity.BulkOperationItem.ItemStatus;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.agenticcp.core.domain.cloud.event.InventoryChangedEvent;
+import com.agenticcp.core.domain.cloud.event.ResourceLifecycleChangedEvent;
+import com.agenticcp.core.domain.cloud.event.ResourceLifecycleChangedEvent.Transition;
+import com.agenticcp.core.domain.cloud.repository.BulkOperationBatchRepository;
+import com.agenticcp.core.domain.cloud.repository.BulkOperationBatchRepository.ItemOutcome;
+import com.agenticcp.core.domain.cloud.repository.BulkOperationBatchRepository.PendingItem;
+import com.agenticcp.core.domain.cloud.repository.BulkOperationBatchRepository.Scope;
+import com.agenticcp.core.domain.cloud.repository.BulkOperationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대량 라이프사이클 작업 실행기
+ *
+ * <p>PENDING 항목을 프로바이더/리전 단위로 나눠 각 단위를 하나의 태스크로 실행하고, 단위 안에서는 항목을
+ * {@code batchSize} 개씩 묶어 한 번의 프로바이더 호출로 처리한다. 프로바이더별 동시 호출 수는 모든 작업이 공유하는
+ * 슬롯으로 제한하되 슬롯을 기다리는 단위는 실행기 스레드를 점유하지 않으며, 배치 사이마다 취소 요청을 확인한다.
+ * 마지막 단위가 끝나면 남은 항목 수로 작업 상태를 확정한다.</p>
+ */
+@Slf4j
+@Component
+public class BulkOperationRunner {
+
+    private static final String CANCELLED_REASON = "Operation cancelled";
+    private static final List<BulkOperation.OperationStatus> STALE_STATUSES =
+            List.of(BulkOperation.OperationStatus.PENDING, BulkOperation.OperationStatus.RUNNING);
+
+    private final BulkOperationRepository operationRepository;
+    private final BulkOperationBatchRepository batchRepository;
+    private final CloudProviderService cloudProviderService;
+    private final LifecycleAdapterRegistry adapterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BulkOperationProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Executor bulkOperationExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, ProviderSlots> providerSlots = new ConcurrentHashMap<>();
+    private final Set<Long> activeOperations = ConcurrentHashMap.newKeySet();
+
+    public BulkOperationRunner(BulkOperationRepository operationRepository,
+                               BulkOperationBatchRepository batchRepository,
+                               CloudProviderService cloudProviderService,
+                               LifecycleAdapterRegistry adapterRegistry,
+                               ApplicationEventPublisher eventPublisher,
+                               BulkOperationProperties properties,
+                               MeterRegistry meterRegistry,
+                               PlatformTransactionManager transactionManager,
+                               Executor bulkOperationExecutor) {
+        this.operationRepository = operationRepository;
+        this.batchRepository = batchRepository;
+        this.cloudProviderService = cloudProviderService;
+        this.adapterRegistry = adapterRegistry;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.bulkOperationExecutor = bulkOperationExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void start(Long operationId, BulkOperation.OperationType operationType) {
+        Integer claimed = transactionTemplate.execute(status ->
+                operationRepository.markRunning(operationId, LocalDateTime.now()));
+        if (claimed == null || claimed == 0) {
+            log.warn("Bulk operation {} is not pending, not starting it", operationId);
+            return;
+        }
+        launch(operationId, operationType);
+    }
+
+    /**
+     * 노드가 재시작되거나 죽어 멈춘 작업을 이어서 실행한다. 이 노드가 실행 중인 작업은 먼저 갱신 시각을 올려 다른 노드가
+     * 가져가지 않게 하고, {@code recoveryStaleAfter} 동안 진행이 없던 작업만 조건부 갱신으로 하나의 노드가 가져간다.
+     */
+    @Scheduled(fixedDelayString = "${agenticcp.cloud.bulk.recovery-interval:PT5M}")
+    public void recoverStalled() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!activeOperations.isEmpty()) {
+            List<Long> active = List.copyOf(activeOperations);
+            transactionTemplate.executeWithoutResult(status -> operationRepository.touchRunning(active, now));
+        }
+        LocalDateTime staleBefore = now.minus(properties.getRecoveryStaleAfter());
+        for (Long operationId : operationRepository.findStaleIds(STALE_STATUSES, staleBefore)) {
+            if (activeOperations.contains(operationId)) {
+                continue;
+            }
+            try {
+                recover(operationId, staleBefore, now);
+            } catch (Exception e) {
+                log.warn("Failed to recover bulk operation {}: {}", operationId, e.getMessage());
+            }
+        }
+    }
+
+    private void recover(Long operationId, LocalDateTime staleBefore, LocalDateTime now) {
+        BulkOperation operation = operationRepository.findById(operationId).orElse(null);
+        if (operation == null) {
+            return;
+        }
+        if (operation.getStatus() == BulkOperation.OperationStatus.PENDING) {
+            log.info("Starting bulk operation {} that was never started", operationId);
+            start(operationId, operation.getOperationType());
+            return;
+        }
+        Integer claimed = transactionTemplate.execute(status ->
+                operationRepository.claimStale(operationId, staleBefore, now));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+        log.info("Resuming stalled bulk operation {}", operationId);
+        launch(operationId, operation.getOperationType());
+    }
+
+    private void launch(Long operationId, BulkOperation.OperationType operationType) {
+        if (!activeOperations.add(operationId)) {
+            log.warn("Bulk operation {} is already running on this node", operationId);
+            return;
+        }
+        List<Scope> scopes;
+        try {
+            scopes = batchRepository.findPendingScopes(operationId);
+        } catch (RuntimeException e) {
+            // 갱신 시각을 더 올리지 않아 회수 주기가 다시 가져가게 둔다
+            activeOperations.remove(operationId);
+            throw e;
+        }
+        log.info("Running bulk {} operation {} across {} provider/region scope(s)",
+                operationType, operationId, scopes.size());
+        if (scopes.isEmpty()) {
+            finish(operationId);
+            return;
+        }
+        AtomicInteger remainingScopes = new AtomicInteger(scopes.size());
+        for (Scope scope : scopes) {
+            bulkOperationExecutor.execute(new ScopeRun(operationId, operationType, scope, remainingScopes));
+        }
+    }
+
+    /**
+     * 한 프로바이더/리전 단위의 실행. 프로바이더 호출 슬롯이 없으면 스레드를 붙잡지 않고 슬롯 대기열에 자신을 넣은 뒤
+     * 반환하며, 슬롯이 반납되면 같은 커서에서 다시 실행된다. 단위가 예외로 끝나면 남은 PENDING 항목을 실패로 기록한다.
+     */
+    private final class ScopeRun implements Runnable {
+
+        private final Long operationId;
+        private final BulkOperation.OperationType operationType;
+        private final Scope scope;
+        private final AtomicInteger remainingScopes;
+        private CloudProvider provider;
+        private ProviderLifecycleAdapter adapter;
+        private ProviderSlots slots;
+        private long afterId;
+
+        private ScopeRun(Long operationId, BulkOperation.OperationType operationType, Scope scope,
+                         AtomicInteger remainingScopes) {
+            this.operationId = operationId;
+            this.operationType = operationType;
+            this.scope = scope;
+            this.remainingScopes = remainingScopes;
+        }
+
+        @Override
+        public void run() {
+            boolean done = true;
+            try {
+                done = runBatches();
+            } catch (Exception e) {
+                log.error("Bulk operation {} failed in scope {}/{}", operationId,
+                        scope.providerKey(), scope.regionKey(), e);
+                try {
+                    failScope(operationId, scope, errorMessage(e));
+                } catch (Exception failure) {
+                    log.error("Bulk operation {} could not record failure of scope {}/{}", operationId,
+                            scope.providerKey(), scope.regionKey(), failure);
+                }
+            }
+            if (done && remainingScopes.decrementAndGet() == 0) {
+                finish(operationId);
+            }
+        }
+
+        /**
+         * @return 슬롯을 기다리느라 대기열에 들어갔으면 false
+         */
+        private boolean runBatches() {
+            if (provider == null) {
+                try {
+                    provider = cloudProviderService.getProviderByKeyOrThrow(scope.providerKey());
+                    adapter = adapterRegistry.getAdapter(provider);
+                } catch (RuntimeException e) {
+                    failScope(operationId, scope, e.getMessage());
+                    return true;
+                }
+                slots = providerSlots.computeIfAbsent(scope.providerKey(),
+                        key -> new ProviderSlots(properties.getMaxConcurrentPerProvider()));
+            }
+
+            while (!operationRepository.isCancelRequested(operationId)) {
+                List<PendingItem> items = batchRepository.findPendingItems(
+                        operationId, scope, afterId, properties.getBatchSize());
+                if (items.isEmpty()) {
+                    return true;
+                }
+                if (!slots.tryAcquire(this)) {
+                    return false;
+                }
+                afterId = items.get(items.size() - 1).id();
+
+                LifecycleBatchResult result = null;
+                String batchError = null;
+                long startNanos = System.nanoTime();
+                try {
+                    result = adapter.apply(provider, scope.regionKey(), operationType,
+                            items.stream().map(PendingItem::resourceId).toList());
+                } catch (Exception e) {
+                    log.warn("Bulk operation {} batch failed for {}/{}: {}", operationId,
+                            scope.providerKey(), scope.regionKey(), e.getMessage());
+                    batchError = errorMessage(e);
+                } finally {
+                    slots.release();
+                    meterRegistry.timer("cloud.bulk.batch", "provider", scope.providerKey())
+                            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                }
+                recordBatch(operationId, operationType, provider, scope, items, result, batchError);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 프로바이더별 동시 호출 슬롯. 슬롯이 없으면 호출자를 대기열에 넣고, 슬롯이 반납될 때 대기열의 첫 실행을 다시
+     * 실행기에 넣는다. 대기열 등록과 슬롯 확인을 같은 잠금 안에서 하므로 깨우기를 놓치지 않는다.
+     */
+    private final class ProviderSlots {
+
+        private final int limit;
+        private final Deque<Runnable> waiting = new ArrayDeque<>();
+        private int inFlight;
+
+        private ProviderSlots(int limit) {
+            this.limit = limit;
+        }
+
+        synchronized boolean tryAcquire(Runnable retry) {
+            if (inFlight < limit) {
+                inFlight++;
+                return true;
+            }
+            waiting.add(retry);
+            return false;
+        }
+
+        void release() {
+            Runnable next;
+            synchronized (this) {
+                inFlight--;
+                next = waiting.poll();
+            }
+            if (next != null) {
+                bulkOperationExecutor.execute(next);
+            }
+        }
+    }
+
+    /**
+     * 배치 결과를 항목/리소스/집계에 한 트랜잭션으로 반영한다. {@code batchError} 가 있으면 배치 전체를 실패로 기록한다.
+     */
+    private void recordBatch(Long operationId, BulkOperation.OperationType operationType, CloudProvider provider,
+                             Scope scope, List<PendingItem> items, LifecycleBatchResult result, String batchError) {
+        List<ItemOutcome> outcomes = new ArrayList<>(items.size());
+        List<Long> succeededIds = new ArrayList<>();
+        List<String> succeededResourceIds = new ArrayList<>();
+        List<Transition> transitions = new ArrayList<>();
+        for (PendingItem item : items) {
+            String error = batchError != null ? batchError : result.failures().get(item.resourceId());
+            if (error == null) {
+                outcomes.add(new ItemOutcome(item.id(), ItemStatus.SUCCEEDED, null));
+                succeededIds.add(item.cloudResourceId());
+                succeededResourceIds.add(item.resourceId());
+                if (item.lifecycleState() != operationType.getTargetState()) {
+                    transitions.add(new Transition(item.cloudResourceId(), item.resourceId(), item.tenantId(),
+                            item.lifecycleState(), operationType.getTargetState()));
+                }
+            } else {
+                outcomes.add(new ItemOutcome(item.id(), ItemStatus.FAILED, error));
+            }
+        }
+        int failed = items.size() - succeededIds.size();
+
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            batchRepository.completeItems(outcomes, now);
+            if (!succeededIds.isEmpty()) {
+                batchRepository.updateLifecycleState(succeededIds, operationType.getTargetState(), now);
+            }
+            batchRepository.incrementCounters(operationId, succeededIds.size(), failed, 0, now);
+        });
+        meterRegistry.counter("cloud.bulk.items", "provider", scope.providerKey(), "result", "succeeded")
+                .increment(succeededIds.size());
+        meterRegistry.counter("cloud.bulk.items", "provider", scope.providerKey(), "result", "failed")
+                .increment(failed);
+
+        if (!succeededResourceIds.isEmpty()) {
+            eventPublisher.publishEvent(new InventoryChangedEvent(provider.getId(), provider.getProviderKey(),
+                    null, scope.regionKey(), succeededResourceIds, List.of()));
+        }
+        if (!transitions.isEmpty()) {
+            eventPublisher.publishEvent(
+                    new ResourceLifecycleChangedEvent(provider.getProviderKey(), scope.regionKey(), transitions));
+        }
+    }
+
+    private void failScope(Long operationId, Scope scope, String error) {
+        log.warn("Bulk operation {} cannot run scope {}/{}: {}", operationId,
+                scope.providerKey(), scope.regionKey(), error);
+        long afterId = 0;
+        List<PendingItem> items;
+        while (!(items = batchRepository.findPendingItems(operationId, scope, afterId, properties.getBatchSize()))
+                .isEmpty()) {
+            afterId = items.get(items.size() - 1).id();
+            List<ItemOutcome> outcomes = items.stream()
+                    .map(item -> new ItemOutcome(item.id(), ItemStatus.FAILED, error))
+                    .toList();
+            LocalDateTime now = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> {
+                batchRepository.completeItems(outcomes, now);
+                batchRepository.incrementCounters(operationId, 0, outcomes.size(), 0, now);
+            });
+        }
+    }
+
+    /**
+     * 작업 상태를 확정한다. 모든 단위가 끝났는데도 PENDING 으로 남은 항목이 있으면 작업을 FAILED 로,
+     * 실패 항목이 있으면 COMPLETED_WITH_ERRORS 로 기록한다.
+     */
+    private void finish(Long operationId) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                BulkOperation.OperationStatus finalStatus;
+                String errorMessage = null;
+                if (operationRepository.isCancelRequested(operationId)) {
+                    int skipped = batchRepository.skipPending(operationId, CANCELLED_REASON, now);
+                    batchRepository.incrementCounters(operationId, 0, 0, skipped, now);
+                    finalStatus = BulkOperation.OperationStatus.CANCELLED;
+                } else {
+                    Map<ItemStatus, Integer> counts = batchRepository.countItemsByStatus(operationId);
+                    int pending = counts.getOrDefault(ItemStatus.PENDING, 0);
+                    if (pending > 0) {
+                        finalStatus = BulkOperation.OperationStatus.FAILED;
+                        errorMessage = pending + " item(s) were left unprocessed";
+                    } else if (counts.getOrDefault(ItemStatus.FAILED, 0) > 0) {
+                        finalStatus = BulkOperation.OperationStatus.COMPLETED_WITH_ERRORS;
+                    } else {
+                        finalStatus = BulkOperation.OperationStatus.COMPLETED;
+                    }
+                }
+                operationRepository.markFinished(operationId, finalStatus, now, errorMessage);
+                log.info("Bulk operation {} finished with status {}", operationId, finalStatus);
+            });
+        } finally {
+            activeOperations.remove(operationId);
+        }
+    }
+
+    private static String errorMessage(Exception e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,247 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.common.exception.BusinessException;
+import com.agenticcp.core.common.exception.ResourceNotFoundException;
+import com.agenticcp.core.common.exception.ValidationException;
+import com.agenticcp.core.domain.cloud.dto.BulkOperationItemResponse;
+import com.agenticcp.core.domain.cloud.dto.BulkOperationRequest;
+import com.agenticcp.core.domain.cloud.dto.BulkOperationResponse;
+import com.agenticcp.core.domain.cloud.entity.BulkOperation;
+import com.agenticcp.core.domain.cloud.entity.BulkOperationItem;
+import com.agenticcp.core.domain.cloud.entity.CloudResource;
+import com.agenticcp.core.domain.cloud.index.ResourceDependencyGraph;
+import com.agenticcp.core.domain.cloud.repository.BulkOperationBatchRepository;
+import com.agenticcp.core.domain.cloud.repository.BulkOperationBatchRepository.NewItem;
+import com.agenticcp.core.domain.cloud.repository.BulkOperationBatchRepository.Target;
+import com.agenticcp.core.domain.cloud.repository.BulkOperationItemRepository;
+import com.agenticcp.core.domain.cloud.repository.BulkOperationRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * 리소스 시작/중지/종료 대량 작업의 접수/조회/취소
+ *
+ * <p>요청 시점에 대상 리소스를 확정해 항목으로 저장한 뒤 즉시 반환하고, 실제 실행은 {@link BulkOperationRunner} 가
+ * 비동기로 수행한다. 이미 목표 상태이거나 종료된 리소스는 접수 단계에서 SKIPPED 로 기록한다.</p>
+ */
+@Slf4j
+@Service
+public class BulkOperationService {
+
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    private static final int INSERT_CHUNK_SIZE = 1000;
+    private static final int DEPENDENT_SAMPLE_SIZE = 20;
+    private static final List<BulkOperation.OperationStatus> ACTIVE_STATUSES =
+            List.of(BulkOperation.OperationStatus.PENDING, BulkOperation.OperationStatus.RUNNING);
+
+    private final BulkOperationRepository operationRepository;
+    private final BulkOperationItemRepository itemRepository;
+    private final BulkOperationBatchRepository batchRepository;
+    private final BulkOperationRunner runner;
+    private final InventoryIndexService inventoryIndexService;
+    private final ResourceDependencyGraphService dependencyGraphService;
+    private final BulkOperationProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Executor bulkOperationExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkOperationService(BulkOperationRepository operationRepository,
+                                BulkOperationItemRepository itemRepository,
+                                BulkOperationBatchRepository batchRepository,
+                                BulkOperationRunner runner,
+                                InventoryIndexService inventoryIndexService,
+                                ResourceDependencyGraphService dependencyGraphService,
+                                BulkOperationProperties properties,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager,
+                                Executor bulkOperationExecutor) {
+        this.operationRepository = operationRepository;
+        this.itemRepository = itemRepository;
+        this.batchRepository = batchRepository;
+        this.runner = runner;
+        this.inventoryIndexService = inventoryIndexService;
+        this.dependencyGraphService = dependencyGraphService;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.bulkOperationExecutor = bulkOperationExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public BulkOperationResponse submit(BulkOperationRequest request) {
+        BulkOperation.OperationType operationType = request.getOperationType();
+        List<Target> targets = resolveTargets(request);
+        if (targets.isEmpty()) {
+            throw new ValidationException("resourceIds", "No resources match the request");
+        }
+        if (targets.size() > properties.getMaxItems()) {
+            throw new ValidationException("resourceIds",
+                    "Too many resources: " + targets.size() + " (max " + properties.getMaxItems() + ")");
+        }
+        if (operationType == BulkOperation.OperationType.TERMINATE && !request.isForce()) {
+            checkNoDependents(targets);
+        }
+
+        List<NewItem> items = new ArrayList<>(targets.size());
+        int skipped = 0;
+        for (Target target : targets) {
+            String skipReason = skipReason(operationType, target.lifecycleState());
+            if (skipReason != null) {
+                skipped++;
+            }
+            items.add(new NewItem(target,
+                    skipReason != null ? BulkOperationItem.ItemStatus.SKIPPED : BulkOperationItem.ItemStatus.PENDING,
+                    skipReason));
+        }
+
+        int skippedItems = skipped;
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperation operation = transactionTemplate.execute(status -> {
+            BulkOperation saved = operationRepository.save(BulkOperation.builder()
+                    .operationType(operationType)
+                    .status(BulkOperation.OperationStatus.PENDING)
+                    .targetDescription(describeTargets(request, targets.size()))
+                    .totalItems(items.size())
+                    .succeededItems(0)
+                    .failedItems(0)
+                    .skippedItems(skippedItems)
+                    .cancelRequested(false)
+                    .build());
+            for (int from = 0; from < items.size(); from += INSERT_CHUNK_SIZE) {
+                batchRepository.insertItems(saved.getId(),
+                        items.subList(from, Math.min(from + INSERT_CHUNK_SIZE, items.size())), now);
+            }
+            return saved;
+        });
+
+        log.info("Accepted bulk {} operation {} for {} resource(s), {} skipped",
+                operationType, operation.getId(), items.size(), skippedItems);
+        Long operationId = operation.getId();
+        bulkOperationExecutor.execute(() -> runner.start(operationId, operationType));
+        return BulkOperationResponse.from(operation);
+    }
+
+    public BulkOperationResponse getOperation(Long operationId) {
+        return BulkOperationResponse.from(getOperationOrThrow(operationId));
+    }
+
+    public Page<BulkOperationResponse> getOperations(Pageable pageable) {
+        return operationRepository.findAllByOrderByIdDesc(pageable).map(BulkOperationResponse::from);
+    }
+
+    public Page<BulkOperationItemResponse> getItems(Long operationId, BulkOperationItem.ItemStatus status,
+                                                    Pageable pageable) {
+        BulkOperation operation = getOperationOrThrow(operationId);
+        Page<BulkOperationItem> items = status != null
+                ? itemRepository.findByOperationAndStatus(operation, status, pageable)
+                : itemRepository.findByOperation(operation, pageable);
+        return items.map(BulkOperationItemResponse::from);
+    }
+
+    public BulkOperationResponse cancel(Long operationId) {
+        getOperationOrThrow(operationId);
+        Integer updated = transactionTemplate.execute(status ->
+                operationRepository.requestCancel(operationId, ACTIVE_STATUSES));
+        if (updated == null || updated == 0) {
+            throw new BusinessException("Bulk operation already finished: " + operationId,
+                    "BULK_OPERATION_FINISHED", HttpStatus.CONFLICT);
+        }
+        log.info("Cancellation requested for bulk operation {}", operationId);
+        return getOperation(operationId);
+    }
+
+    private BulkOperation getOperationOrThrow(Long operationId) {
+        return operationRepository.findById(operationId)
+                .orElseThrow(() -> new ResourceNotFoundException("BulkOperation", "id", operationId));
+    }
+
+    private List<Target> resolveTargets(BulkOperationRequest request) {
+        boolean hasIds = request.getResourceIds() != null && !request.getResourceIds().isEmpty();
+        boolean hasFilters = request.getFilters() != null && !request.getFilters().isEmpty();
+        if (hasIds == hasFilters) {
+            throw new ValidationException("resourceIds", "Specify either resourceIds or filters");
+        }
+
+        List<Target> targets = new ArrayList<>();
+        if (hasIds) {
+            List<String> resourceIds = new ArrayList<>(new LinkedHashSet<>(request.getResourceIds()));
+            if (resourceIds.size() > properties.getMaxItems()) {
+                throw new ValidationException("resourceIds",
+                        "Too many resources: " + resourceIds.size() + " (max " + properties.getMaxItems() + ")");
+            }
+            for (int from = 0; from < resourceIds.size(); from += LOOKUP_CHUNK_SIZE) {
+                targets.addAll(batchRepository.findTargetsByResourceIds(
+                        resourceIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, resourceIds.size()))));
+            }
+        } else {
+            List<Long> ids = inventoryIndexService.findMatchingIds(request.getFilters(), request.getExcludes());
+            if (ids.size() > properties.getMaxItems()) {
+                throw new ValidationException("filters",
+                        "Too many resources: " + ids.size() + " (max " + properties.getMaxItems() + ")");
+            }
+            for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+                targets.addAll(batchRepository.findTargetsByIds(
+                        ids.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, ids.size()))));
+            }
+        }
+        return targets;
+    }
+
+    private void checkNoDependents(List<Target> targets) {
+        List<Long> ids = targets.stream().map(Target::cloudResourceId).toList();
+        ResourceDependencyGraph.Traversal dependents = dependencyGraphService.findDependents(ids, DEPENDENT_SAMPLE_SIZE);
+        if (dependents.reached() > 0) {
+            String sample = Arrays.stream(dependents.resourceIds())
+                    .mapToObj(String::valueOf)
+                    .collect(Collectors.joining(", "));
+            throw new BusinessException(dependents.reached() + " resource(s) outside the operation depend on the "
+                    + "targets (e.g. " + sample + "); set force to terminate anyway",
+                    "RESOURCE_HAS_DEPENDENTS", HttpStatus.CONFLICT);
+        }
+    }
+
+    private static String skipReason(BulkOperation.OperationType operationType,
+                                     CloudResource.LifecycleState currentState) {
+        if (currentState == operationType.getTargetState()) {
+            return "Already " + currentState;
+        }
+        if (currentState == CloudResource.LifecycleState.TERMINATED) {
+            return "Resource is terminated";
+        }
+        return null;
+    }
+
+    private String describeTargets(BulkOperationRequest request, int matched) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        if (request.getResourceIds() != null && !request.getResourceIds().isEmpty()) {
+            description.put("requestedResourceIds", request.getResourceIds().size());
+        } else {
+            description.put("filters", request.getFilters());
+            if (request.getExcludes() != null) {
+                description.put("excludes", request.getExcludes());
+            }
+        }
+        description.put("matched", matched);
+        try {
+            return objectMapper.writeValueAsString(description);
+        } catch (JsonProcessingException e) {
+            return description.toString();
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.agenticcp.core.domain.cloud.service;
 
+import com.agenticcp.core.common.changefeed.ChangeFeedDefinition;
+import com.agenticcp.core.common.changefeed.ChangeFeedReader;
+import com.agenticcp.core.common.changefeed.ChangeFeedResponse;
 import com.agenticcp.core.common.exception.ResourceNotFoundException;
 import com.agenticcp.core.domain.cloud.entity.CloudProvider;
 import com.agenticcp.core.domain.cloud.repository.CloudProviderRepository;
@@ -19,7 +22,13 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class CloudProviderService {
 
+    private static final ChangeFeedDefinition CHANGE_FEED = new ChangeFeedDefinition("cloud-providers", "cloud_providers", List.of(
+            "provider_key", "provider_name", "description", "provider_type", "status", "api_endpoint", "api_version",
+            "authentication_type", "supported_regions", "supported_services", "pricing_model", "is_global",
+            "is_government", "compliance_certifications", "metadata", "last_sync"));
+
     private final CloudProviderRepository cloudProviderRepository;
+    private final ChangeFeedReader changeFeedReader;
 
     public List<CloudProvider> getAllProviders() {
         return cloudProviderRepository.findAll();
@@ -119,4 +128,8 @@ public class CloudProviderService {
         cloudProviderRepository.save(provider);
         log.info("Soft deleted provider: {}", providerKey);
     }
+
+    public ChangeFeedResponse getChanges(String cursor, Integer limit) {
+        return changeFeedReader.read(CHANGE_FEED, cursor, limit);
+    }
 }
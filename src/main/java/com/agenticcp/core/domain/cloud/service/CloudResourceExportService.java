@@ -0,0 +1,53 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.common.export.ExportFormat;
+import com.agenticcp.core.common.export.ExportQuery;
+import com.agenticcp.core.common.export.JdbcStreamingExporter;
+import com.agenticcp.core.domain.cloud.entity.CloudResource;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class CloudResourceExportService {
+
+    private static final String EXPORT_SQL =
+            "SELECT r.id, r.resource_id, r.resource_name, r.display_name, p.provider_key, rg.region_key, " +
+            "s.service_key, t.tenant_key, r.resource_type, r.lifecycle_state, r.status, r.instance_type, " +
+            "r.instance_size, r.cpu_cores, r.memory_gb, r.storage_gb, r.private_ip_address, r.public_ip_address, " +
+            "r.cost_per_hour, r.monthly_cost, r.tags, r.created_in_cloud, r.last_modified_in_cloud, r.last_sync " +
+            "FROM cloud_resources r " +
+            "JOIN cloud_providers p ON p.id = r.provider_id " +
+            "JOIN cloud_services s ON s.id = r.service_id " +
+            "LEFT JOIN cloud_regions rg ON rg.id = r.region_id " +
+            "LEFT JOIN tenants t ON t.id = r.tenant_id " +
+            "WHERE r.is_deleted = false";
+
+    private final JdbcStreamingExporter exporter;
+
+    public WebAsyncTask<Void> export(String providerKey, String tenantKey,
+                                     CloudResource.LifecycleState lifecycleState,
+                                     ExportFormat format, boolean gzip, HttpServletResponse response) {
+        StringBuilder sql = new StringBuilder(EXPORT_SQL);
+        Map<String, Object> parameters = new HashMap<>();
+        if (providerKey != null) {
+            sql.append(" AND p.provider_key = :providerKey");
+            parameters.put("providerKey", providerKey);
+        }
+        if (tenantKey != null) {
+            sql.append(" AND t.tenant_key = :tenantKey");
+            parameters.put("tenantKey", tenantKey);
+        }
+        if (lifecycleState != null) {
+            sql.append(" AND r.lifecycle_state = :lifecycleState");
+            parameters.put("lifecycleState", lifecycleState.name());
+        }
+        sql.append(" ORDER BY r.id");
+        return exporter.export(new ExportQuery("cloud-resources", sql.toString(), parameters), format, gzip, response);
+    }
+}
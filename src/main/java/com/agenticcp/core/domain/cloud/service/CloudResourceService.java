@@ -0,0 +1,53 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.common.exception.ResourceNotFoundException;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.agenticcp.core.domain.cloud.entity.CloudResource;
+import com.agenticcp.core.domain.cloud.repository.CloudResourceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CloudResourceService {
+
+    private final CloudResourceRepository cloudResourceRepository;
+    private final CloudProviderService cloudProviderService;
+
+    public Optional<CloudResource> getResourceByResourceId(String resourceId) {
+        return cloudResourceRepository.findByResourceId(resourceId);
+    }
+
+    public CloudResource getResourceByResourceIdOrThrow(String resourceId) {
+        return cloudResourceRepository.findByResourceId(resourceId)
+                .orElseThrow(() -> new ResourceNotFoundException("CloudResource", "resourceId", resourceId));
+    }
+
+    public Page<CloudResource> getResourcesByProvider(String providerKey, Pageable pageable) {
+        CloudProvider provider = cloudProviderService.getProviderByKeyOrThrow(providerKey);
+        return cloudResourceRepository.findByProvider(provider, pageable);
+    }
+
+    public Page<CloudResource> getResourcesByLifecycleState(CloudResource.LifecycleState state, Pageable pageable) {
+        return cloudResourceRepository.findByLifecycleState(state, pageable);
+    }
+
+    public Map<CloudResource.LifecycleState, Long> getLifecycleStateCounts(String providerKey) {
+        CloudProvider provider = cloudProviderService.getProviderByKeyOrThrow(providerKey);
+        Map<CloudResource.LifecycleState, Long> counts = new EnumMap<>(CloudResource.LifecycleState.class);
+        for (Object[] row : cloudResourceRepository.countByLifecycleState(provider)) {
+            counts.put((CloudResource.LifecycleState) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,281 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.common.exception.BusinessException;
+import com.agenticcp.core.domain.cloud.dto.IndexMemoryReport;
+import com.agenticcp.core.domain.cloud.dto.ResourceSearchRequest;
+import com.agenticcp.core.domain.cloud.dto.ResourceSearchResponse;
+import com.agenticcp.core.domain.cloud.dto.TagQueryRequest;
+import com.agenticcp.core.domain.cloud.dto.TagQueryResponse;
+import com.agenticcp.core.domain.cloud.entity.CloudResource;
+import com.agenticcp.core.domain.cloud.event.InventoryChangedEvent;
+import com.agenticcp.core.domain.cloud.index.ResourceAttribute;
+import com.agenticcp.core.domain.cloud.index.ResourceAttributeIndex;
+import com.agenticcp.core.domain.cloud.index.ResourceFilter;
+import com.agenticcp.core.domain.cloud.index.ResourceTagIndex;
+import com.agenticcp.core.domain.cloud.index.TagQuery;
+import com.agenticcp.core.domain.cloud.repository.CloudResourceIndexRepository;
+import com.agenticcp.core.domain.cloud.repository.CloudResourceIndexRepository.IndexRow;
+import com.agenticcp.core.domain.cloud.repository.CloudResourceRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 리소스 인벤토리 인덱스(속성 비트맵, 태그 역색인)의 적재/증분 갱신/조회
+ *
+ * <p>기동 시 전체 리소스를 스트리밍으로 읽어 새 인덱스를 만든 뒤 교체하고, 이후에는 동기화 엔진의
+ * {@link InventoryChangedEvent} 로 변경된 리소스만 다시 읽어 반영한다. 재구축 중 도착한 이벤트는
+ * 교체 직후 새 인덱스에 다시 적용한다.</p>
+ */
+@Slf4j
+@Service
+public class InventoryIndexService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int DEFAULT_FACET_LIMIT = 100;
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    private static final TypeReference<Map<String, String>> TAGS_TYPE = new TypeReference<>() {
+    };
+
+    private final CloudResourceIndexRepository indexRepository;
+    private final CloudResourceRepository cloudResourceRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int fetchSize;
+
+    private final Queue<InventoryChangedEvent> eventsDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile Indexes indexes = Indexes.empty();
+    private volatile boolean ready;
+    private volatile boolean rebuilding;
+
+    public InventoryIndexService(CloudResourceIndexRepository indexRepository,
+                                 CloudResourceRepository cloudResourceRepository,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${agenticcp.cloud.index.fetch-size:5000}") int fetchSize) {
+        this.indexRepository = indexRepository;
+        this.cloudResourceRepository = cloudResourceRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.fetchSize = fetchSize;
+        meterRegistry.gauge("inventory.index.resources", this, service -> service.indexes.attributes().size());
+        meterRegistry.gauge("inventory.index.tag.bytes", this, service -> service.indexes.tags().sizeInBytes());
+    }
+
+    private record Indexes(ResourceAttributeIndex attributes, ResourceTagIndex tags) {
+
+        private static Indexes empty() {
+            return new Indexes(new ResourceAttributeIndex(), new ResourceTagIndex());
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        long startNanos = System.nanoTime();
+        rebuilding = true;
+        try {
+            Indexes rebuilt = Indexes.empty();
+            indexRepository.streamAll(fetchSize, row -> apply(rebuilt, row));
+            rebuilt.attributes().optimize();
+            rebuilt.tags().optimize();
+            indexes = rebuilt;
+            ready = true;
+        } catch (Exception e) {
+            log.error("Failed to rebuild inventory index", e);
+            return;
+        } finally {
+            rebuilding = false;
+        }
+        InventoryChangedEvent pending;
+        while ((pending = eventsDuringRebuild.poll()) != null) {
+            apply(pending);
+        }
+        log.info("Rebuilt inventory index with {} resources in {} ms", indexes.attributes().size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    @Async
+    @EventListener
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        if (rebuilding) {
+            eventsDuringRebuild.add(event);
+        }
+        apply(event);
+    }
+
+    public ResourceSearchResponse search(ResourceSearchRequest request) {
+        ResourceAttributeIndex attributes = requireReady().attributes();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        RoaringBitmap matches = attributes.evaluate(new ResourceFilter(
+                toSets(request.getFilters()), toSets(request.getExcludes())));
+        int size = request.getSize() != null ? request.getSize() : DEFAULT_PAGE_SIZE;
+        List<Long> pageIds = ResourceAttributeIndex.page(matches, request.getCursor(), size);
+
+        Map<ResourceAttribute, Map<String, Long>> facets = new EnumMap<>(ResourceAttribute.class);
+        if (request.getFacets() != null) {
+            for (ResourceAttribute attribute : request.getFacets()) {
+                facets.put(attribute, attributes.facet(attribute, matches));
+            }
+        }
+        sample.stop(meterRegistry.timer("inventory.index.query", "type", "attribute"));
+
+        return ResourceSearchResponse.builder()
+                .total(matches.getLongCardinality())
+                .resources(loadInOrder(pageIds))
+                .nextCursor(nextCursor(matches, pageIds, size))
+                .facets(facets)
+                .build();
+    }
+
+    public TagQueryResponse queryTags(TagQueryRequest request) {
+        Indexes current = requireReady();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        RoaringBitmap matches = current.tags().evaluate(
+                new TagQuery(request.getAll(), request.getAny(), request.getNone()));
+        Map<ResourceAttribute, Set<String>> filters = toSets(request.getFilters());
+        if (!filters.isEmpty()) {
+            matches.and(current.attributes().evaluate(new ResourceFilter(filters, Map.of())));
+        }
+        int size = request.getSize() != null ? request.getSize() : DEFAULT_PAGE_SIZE;
+        int facetLimit = request.getFacetLimit() != null ? request.getFacetLimit() : DEFAULT_FACET_LIMIT;
+        List<Long> pageIds = ResourceAttributeIndex.page(matches, request.getCursor(), size);
+
+        Map<String, Long> keyFacets = request.isKeyFacets()
+                ? current.tags().keyFacets(matches, facetLimit) : Map.of();
+        Map<String, Map<String, Long>> valueFacets = new LinkedHashMap<>();
+        if (request.getValueFacetKeys() != null) {
+            for (String key : request.getValueFacetKeys()) {
+                valueFacets.put(key, current.tags().valueFacets(key, matches, facetLimit));
+            }
+        }
+        sample.stop(meterRegistry.timer("inventory.index.query", "type", "tag"));
+
+        return TagQueryResponse.builder()
+                .total(matches.getLongCardinality())
+                .resources(loadInOrder(pageIds))
+                .nextCursor(nextCursor(matches, pageIds, size))
+                .keyFacets(keyFacets)
+                .valueFacets(valueFacets)
+                .build();
+    }
+
+    /**
+     * 필터에 해당하는 전체 리소스 id (대량 작업 대상 선정용, 페이지 제한 없음)
+     */
+    public List<Long> findMatchingIds(Map<ResourceAttribute, List<String>> filters,
+                                      Map<ResourceAttribute, List<String>> excludes) {
+        RoaringBitmap matches = requireReady().attributes().evaluate(new ResourceFilter(toSets(filters), toSets(excludes)));
+        return ResourceAttributeIndex.page(matches, null, Integer.MAX_VALUE);
+    }
+
+    public IndexMemoryReport getMemoryReport() {
+        return indexes.attributes().memoryReport();
+    }
+
+    private void apply(InventoryChangedEvent event) {
+        Indexes current = indexes;
+        List<String> upserted = event.upsertedResourceIds();
+        for (int from = 0; from < upserted.size(); from += LOOKUP_CHUNK_SIZE) {
+            indexRepository.findByResourceIds(upserted.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, upserted.size())))
+                    .forEach(row -> apply(current, row));
+        }
+        List<Long> terminated = event.terminatedIds();
+        for (int from = 0; from < terminated.size(); from += LOOKUP_CHUNK_SIZE) {
+            indexRepository.findByIds(terminated.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, terminated.size())))
+                    .forEach(row -> apply(current, row));
+        }
+    }
+
+    private void apply(Indexes target, IndexRow row) {
+        long id = row.resource().id();
+        if (row.deleted()) {
+            target.attributes().remove(id);
+            target.tags().remove(id);
+        } else {
+            target.attributes().put(row.resource());
+            target.tags().put(id, parseTags(id, row.tagsJson()));
+        }
+    }
+
+    private Map<String, String> parseTags(long id, String tagsJson) {
+        if (tagsJson == null || tagsJson.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(tagsJson, TAGS_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed tags on resource {}: {}", id, e.getOriginalMessage());
+            return Map.of();
+        }
+    }
+
+    private List<CloudResource> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CloudResource> byId = cloudResourceRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(CloudResource::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private static Long nextCursor(RoaringBitmap matches, List<Long> pageIds, int size) {
+        if (pageIds.isEmpty() || pageIds.size() < size) {
+            return null;
+        }
+        Long last = pageIds.get(pageIds.size() - 1);
+        return last < matches.last() ? last : null;
+    }
+
+    private Indexes requireReady() {
+        if (!ready) {
+            throw new BusinessException("Inventory index is still loading", "INVENTORY_INDEX_NOT_READY",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return indexes;
+    }
+
+    private static Map<ResourceAttribute, Set<String>> toSets(Map<ResourceAttribute, List<String>> values) {
+        Map<ResourceAttribute, Set<String>> sets = new EnumMap<>(ResourceAttribute.class);
+        if (values != null) {
+            values.forEach((attribute, list) -> {
+                if (list != null && !list.isEmpty()) {
+                    sets.put(attribute, new HashSet<>(list));
+                }
+            });
+        }
+        return sets;
+    }
+}
@@ -0,0 +1,379 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.common.exception.ResourceNotFoundException;
+import com.agenticcp.core.domain.cloud.adapter.InventoryAdapterRegistry;
+import com.agenticcp.core.domain.cloud.adapter.InventoryFetchRequest;
+import com.agenticcp.core.domain.cloud.adapter.ProviderInventoryAdapter;
+import com.agenticcp.core.domain.cloud.dto.CloudResourceSnapshot;
+import com.agenticcp.core.domain.cloud.dto.InventorySyncResult;
+import com.agenticcp.core.domain.cloud.dto.InventorySyncResult.RegionSyncResult;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.agenticcp.core.domain.cloud.entity.CloudRegion;
+import com.agenticcp.core.domain.cloud.entity.CloudResource.LifecycleState;
+import com.agenticcp.core.domain.cloud.entity.CloudService;
+import com.agenticcp.core.domain.cloud.event.InventoryChangedEvent;
+import com.agenticcp.core.domain.cloud.event.InventorySyncCompletedEvent;
+import com.agenticcp.core.domain.cloud.event.ResourceLifecycleChangedEvent;
+import com.agenticcp.core.domain.cloud.event.ResourceLifecycleChangedEvent.Transition;
+import com.agenticcp.core.domain.cloud.repository.CloudRegionRepository;
+import com.agenticcp.core.domain.cloud.repository.CloudResourceBatchRepository;
+import com.agenticcp.core.domain.cloud.repository.CloudResourceBatchRepository.ResourceWrite;
+import com.agenticcp.core.domain.cloud.repository.CloudResourceBatchRepository.StoredResourceState;
+import com.agenticcp.core.domain.cloud.repository.CloudServiceRepository;
+import com.agenticcp.core.domain.cloud.repository.ResourceDependencyRepository;
+import com.agenticcp.core.domain.tenant.entity.Tenant;
+import com.agenticcp.core.domain.tenant.repository.TenantRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 프로바이더/리전 단위 증분 인벤토리 동기화
+ *
+ * <p>저장된 상태의 (resource_id, last_modified_in_cloud) 와 어댑터 결과를 비교해 신규/변경 리소스만 배치 upsert 하고,
+ * 클라우드에서 사라진 리소스는 TERMINATED 로 전환한다. 변경이 없는 리소스에는 쓰기가 발생하지 않는다.</p>
+ */
+@Slf4j
+@Service
+public class InventorySyncService {
+
+    private final CloudProviderService cloudProviderService;
+    private final CloudRegionRepository cloudRegionRepository;
+    private final CloudServiceRepository cloudServiceRepository;
+    private final TenantRepository tenantRepository;
+    private final InventoryAdapterRegistry adapterRegistry;
+    private final CloudResourceBatchRepository batchRepository;
+    private final ResourceDependencyRepository dependencyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor inventorySyncExecutor;
+    private final int batchSize;
+
+    private TransactionTemplate transactionTemplate;
+
+    public InventorySyncService(CloudProviderService cloudProviderService,
+                                CloudRegionRepository cloudRegionRepository,
+                                CloudServiceRepository cloudServiceRepository,
+                                TenantRepository tenantRepository,
+                                InventoryAdapterRegistry adapterRegistry,
+                                CloudResourceBatchRepository batchRepository,
+                                ResourceDependencyRepository dependencyRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                ThreadPoolTaskExecutor inventorySyncExecutor,
+                                @Value("${agenticcp.cloud.sync.batch-size:1000}") int batchSize) {
+        this.cloudProviderService = cloudProviderService;
+        this.cloudRegionRepository = cloudRegionRepository;
+        this.cloudServiceRepository = cloudServiceRepository;
+        this.tenantRepository = tenantRepository;
+        this.adapterRegistry = adapterRegistry;
+        this.batchRepository = batchRepository;
+        this.dependencyRepository = dependencyRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionManager = transactionManager;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.inventorySyncExecutor = inventorySyncExecutor;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public InventorySyncResult syncProvider(String providerKey) {
+        CloudProvider provider = cloudProviderService.getProviderByKeyOrThrow(providerKey);
+        ProviderInventoryAdapter adapter = adapterRegistry.getAdapter(provider);
+        List<CloudRegion> regions = cloudRegionRepository.findAvailableRegions(provider, Status.ACTIVE);
+        SyncCatalog catalog = loadCatalog(provider);
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        log.info("Starting inventory sync for provider {} across {} region(s)", providerKey, regions.size());
+
+        List<CompletableFuture<RegionSyncResult>> futures = regions.stream()
+                .map(region -> CompletableFuture.supplyAsync(
+                        () -> syncRegion(provider, region, adapter, catalog, WriteFence.NONE),
+                        inventorySyncExecutor))
+                .collect(Collectors.toList());
+        List<RegionSyncResult> results = futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+
+        if (results.stream().allMatch(RegionSyncResult::isSuccess)) {
+            cloudProviderService.updateLastSync(providerKey);
+        }
+        InventorySyncResult result = InventorySyncResult.of(providerKey, startedAt,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), results);
+        log.info("Inventory sync for provider {} finished in {} ms: fetched={}, inserted={}, updated={}, terminated={}",
+                providerKey, result.getDurationMs(), result.getFetched(), result.getInserted(),
+                result.getUpdated(), result.getTerminated());
+        return result;
+    }
+
+    public RegionSyncResult syncRegion(String providerKey, String regionKey) {
+        return syncRegion(providerKey, regionKey, WriteFence.NONE);
+    }
+
+    /**
+     * @param fence 각 upsert/종료 배치의 쓰기 트랜잭션 안에서 쓰기 직전에 확인된다 (리스 경로의 fencing token 확인)
+     */
+    public RegionSyncResult syncRegion(String providerKey, String regionKey, WriteFence fence) {
+        CloudProvider provider = cloudProviderService.getProviderByKeyOrThrow(providerKey);
+        CloudRegion region = cloudRegionRepository.findByProviderAndRegionKey(provider, regionKey)
+                .orElseThrow(() -> new ResourceNotFoundException("CloudRegion", "regionKey", regionKey));
+        return syncRegion(provider, region, adapterRegistry.getAdapter(provider), loadCatalog(provider), fence);
+    }
+
+    public RegionSyncResult syncRegion(CloudProvider provider, CloudRegion region) {
+        return syncRegion(provider, region, adapterRegistry.getAdapter(provider), loadCatalog(provider),
+                WriteFence.NONE);
+    }
+
+    private RegionSyncResult syncRegion(CloudProvider provider, CloudRegion region,
+                                        ProviderInventoryAdapter adapter, SyncCatalog catalog, WriteFence fence) {
+        long startNanos = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        RegionSync sync = new RegionSync(provider, region, catalog, fence, now);
+        RegionSyncResult.RegionSyncResultBuilder result = RegionSyncResult.builder().regionKey(region.getRegionKey());
+
+        try {
+            sync.stored = batchRepository.loadActiveState(provider.getId(), region.getId(), batchSize);
+            adapter.fetchResources(
+                    new InventoryFetchRequest(provider, region, catalog.serviceKeys(), catalog.tenantKeys()),
+                    sync::accept);
+            sync.flush();
+            sync.terminateMissing();
+            result.success(true);
+        } catch (Exception e) {
+            // terminations are only applied after a complete fetch, so a failed region never loses resources
+            log.error("Inventory sync failed for {}/{}", provider.getProviderKey(), region.getRegionKey(), e);
+            result.success(false).errorMessage(e.getMessage());
+        } finally {
+            sync.publish();
+        }
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        meterRegistry.timer("inventory.sync.region", "provider", provider.getProviderKey())
+                .record(durationMs, TimeUnit.MILLISECONDS);
+        recordMetric(provider, "inserted", sync.inserted);
+        recordMetric(provider, "updated", sync.updated);
+        recordMetric(provider, "terminated", sync.terminated);
+        RegionSyncResult regionResult = result
+                .fetched(sync.fetched)
+                .inserted(sync.inserted)
+                .updated(sync.updated)
+                .unchanged(sync.unchanged)
+                .terminated(sync.terminated)
+                .skipped(sync.skipped)
+                .durationMs(durationMs)
+                .build();
+        eventPublisher.publishEvent(
+                new InventorySyncCompletedEvent(provider.getProviderKey(), regionResult, LocalDateTime.now()));
+        return regionResult;
+    }
+
+    private void recordMetric(CloudProvider provider, String outcome, long count) {
+        meterRegistry.counter("inventory.sync.resources", "provider", provider.getProviderKey(), "outcome", outcome)
+                .increment(count);
+    }
+
+    private SyncCatalog loadCatalog(CloudProvider provider) {
+        Map<String, Long> serviceIds = new HashMap<>();
+        for (CloudService service : cloudServiceRepository.findByProvider(provider)) {
+            serviceIds.put(service.getServiceKey(), service.getId());
+        }
+        Map<String, Long> tenantIds = new HashMap<>();
+        for (Tenant tenant : tenantRepository.findActiveTenants(Status.ACTIVE)) {
+            tenantIds.put(tenant.getTenantKey(), tenant.getId());
+        }
+        return new SyncCatalog(serviceIds, tenantIds,
+                List.copyOf(serviceIds.keySet()), List.copyOf(tenantIds.keySet()));
+    }
+
+    /**
+     * 동기화 쓰기 직전의 소유권 확인. 예외를 던지면 해당 배치는 롤백되고 남은 쓰기(종료 처리 포함)는 적용되지 않는다.
+     */
+    @FunctionalInterface
+    public interface WriteFence {
+
+        WriteFence NONE = () -> {
+        };
+
+        void check();
+    }
+
+    private record SyncCatalog(Map<String, Long> serviceIds, Map<String, Long> tenantIds,
+                               List<String> serviceKeys, List<String> tenantKeys) {
+    }
+
+    private final class RegionSync {
+
+        private final CloudProvider provider;
+        private final CloudRegion region;
+        private final SyncCatalog catalog;
+        private final WriteFence fence;
+        private final LocalDateTime now;
+        private final Set<String> seen = new HashSet<>();
+        private final List<ResourceWrite> pending = new ArrayList<>();
+        private final List<String> upsertedResourceIds = new ArrayList<>();
+        private final List<Long> terminatedIds = new ArrayList<>();
+        private final List<Transition> pendingTransitions = new ArrayList<>();
+        private final List<Transition> transitions = new ArrayList<>();
+        private Map<String, StoredResourceState> stored = Map.of();
+        private long fetched;
+        private long inserted;
+        private long updated;
+        private long unchanged;
+        private long terminated;
+        private long skipped;
+
+        private RegionSync(CloudProvider provider, CloudRegion region, SyncCatalog catalog, WriteFence fence,
+                           LocalDateTime now) {
+            this.provider = provider;
+            this.region = region;
+            this.catalog = catalog;
+            this.fence = fence;
+            this.now = now;
+        }
+
+        private void accept(List<CloudResourceSnapshot> page) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Inventory sync cancelled for " + region.getRegionKey());
+            }
+            for (CloudResourceSnapshot snapshot : page) {
+                fetched++;
+                if (snapshot.getResourceId() == null || !seen.add(snapshot.getResourceId())) {
+                    skipped++;
+                    continue;
+                }
+                Long serviceId = catalog.serviceIds().get(snapshot.getServiceKey());
+                if (serviceId == null) {
+                    skipped++;
+                    continue;
+                }
+                StoredResourceState current = stored.get(snapshot.getResourceId());
+                if (current != null && !isNewer(snapshot, current)) {
+                    unchanged++;
+                    continue;
+                }
+                if (current == null) {
+                    inserted++;
+                } else {
+                    updated++;
+                }
+                Long tenantId = snapshot.getTenantKey() != null
+                        ? catalog.tenantIds().get(snapshot.getTenantKey()) : null;
+                pending.add(new ResourceWrite(snapshot, provider.getId(), region.getId(), serviceId, tenantId,
+                        toJson(snapshot.getTags())));
+                LifecycleState state = snapshot.getLifecycleState() != null
+                        ? snapshot.getLifecycleState() : LifecycleState.UNKNOWN;
+                if (current == null || current.lifecycleState() != state) {
+                    pendingTransitions.add(new Transition(current != null ? current.id() : null,
+                            snapshot.getResourceId(), tenantId, current != null ? current.lifecycleState() : null,
+                            state));
+                }
+                if (pending.size() >= batchSize) {
+                    flush();
+                }
+            }
+        }
+
+        private boolean isNewer(CloudResourceSnapshot snapshot, StoredResourceState current) {
+            return snapshot.getLastModifiedInCloud() == null
+                    || current.lastModifiedInCloud() == null
+                    || snapshot.getLastModifiedInCloud().isAfter(current.lastModifiedInCloud());
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<ResourceWrite> batch = List.copyOf(pending);
+            Map<String, List<String>> dependencies = new LinkedHashMap<>();
+            for (ResourceWrite write : batch) {
+                if (write.snapshot().getDependsOn() != null) {
+                    dependencies.put(write.snapshot().getResourceId(), write.snapshot().getDependsOn());
+                }
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                fence.check();
+                batchRepository.upsert(batch, now);
+                dependencyRepository.replace(dependencies, now);
+            });
+            batch.forEach(write -> upsertedResourceIds.add(write.snapshot().getResourceId()));
+            transitions.addAll(pendingTransitions);
+            pending.clear();
+            pendingTransitions.clear();
+        }
+
+        private void terminateMissing() {
+            List<Map.Entry<String, StoredResourceState>> missing = stored.entrySet().stream()
+                    .filter(entry -> !seen.contains(entry.getKey()))
+                    .collect(Collectors.toList());
+            for (int from = 0; from < missing.size(); from += batchSize) {
+                List<Map.Entry<String, StoredResourceState>> batch =
+                        missing.subList(from, Math.min(from + batchSize, missing.size()));
+                List<Long> ids = batch.stream().map(entry -> entry.getValue().id()).toList();
+                transactionTemplate.executeWithoutResult(status -> {
+                    fence.check();
+                    batchRepository.markTerminated(ids, now);
+                });
+                terminatedIds.addAll(ids);
+                batch.forEach(entry -> transitions.add(new Transition(entry.getValue().id(), entry.getKey(),
+                        entry.getValue().tenantId(), entry.getValue().lifecycleState(), LifecycleState.TERMINATED)));
+            }
+            terminated = terminatedIds.size();
+        }
+
+        private void publish() {
+            InventoryChangedEvent event = new InventoryChangedEvent(provider.getId(), provider.getProviderKey(),
+                    region.getId(), region.getRegionKey(), upsertedResourceIds, terminatedIds);
+            if (!event.isEmpty()) {
+                eventPublisher.publishEvent(event);
+            }
+            if (!transitions.isEmpty()) {
+                eventPublisher.publishEvent(new ResourceLifecycleChangedEvent(provider.getProviderKey(),
+                        region.getRegionKey(), List.copyOf(transitions)));
+            }
+        }
+
+        private String toJson(Map<String, String> tags) {
+            if (tags == null || tags.isEmpty()) {
+                return null;
+            }
+            try {
+                return objectMapper.writeValueAsString(tags);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Invalid tags for resource", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.common.exception.ValidationException;
+import com.agenticcp.core.domain.cloud.dto.PlacementRecommendation;
+import com.agenticcp.core.domain.cloud.entity.CloudRegion;
+import com.agenticcp.core.domain.cloud.entity.CloudService.ServiceType;
+import com.agenticcp.core.domain.cloud.event.ServiceAvailabilityChangedEvent;
+import com.agenticcp.core.domain.cloud.index.PlacementQuery;
+import com.agenticcp.core.domain.cloud.index.PlacementRegion;
+import com.agenticcp.core.domain.cloud.index.RegionPlacementIndex;
+import com.agenticcp.core.domain.cloud.repository.CloudRegionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 클라이언트 위치와 필요 서비스/제약 조건으로 모든 프로바이더의 리전을 거리순으로 추천한다.
+ *
+ * <p>리전 카탈로그와 {@link ServiceAvailabilityService} 의 리전별 지원 서비스 유형으로 {@link RegionPlacementIndex} 를
+ * 만들고, 가용성 행렬이 갱신될 때마다 통째로 교체한다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RegionPlacementService {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    private final CloudRegionRepository cloudRegionRepository;
+    private final ServiceAvailabilityService serviceAvailabilityService;
+
+    private volatile RegionPlacementIndex index = RegionPlacementIndex.empty();
+
+    @EventListener
+    public void onServiceAvailabilityChanged(ServiceAvailabilityChangedEvent event) {
+        refresh();
+    }
+
+    public synchronized void refresh() {
+        try {
+            List<PlacementRegion> regions = loadRegions();
+            index = RegionPlacementIndex.of(regions);
+            log.debug("Refreshed region placement index with {} region(s)", regions.size());
+        } catch (Exception e) {
+            log.error("Failed to refresh region placement index", e);
+        }
+    }
+
+    public List<PlacementRecommendation> recommend(double latitude, double longitude,
+                                                   Set<ServiceType> requiredServices, boolean governmentOnly,
+                                                   boolean multiZoneRequired, Set<String> providerKeys,
+                                                   Integer limit) {
+        if (latitude < -90 || latitude > 90) {
+            throw new ValidationException("latitude", "must be between -90 and 90");
+        }
+        if (longitude < -180 || longitude > 180) {
+            throw new ValidationException("longitude", "must be between -180 and 180");
+        }
+        int size = limit != null ? limit : DEFAULT_LIMIT;
+        if (size < 1 || size > MAX_LIMIT) {
+            throw new ValidationException("limit", "must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<RegionPlacementIndex.Match> matches = index.nearest(new PlacementQuery(latitude, longitude,
+                requiredServices, governmentOnly, multiZoneRequired, providerKeys, size));
+        List<PlacementRecommendation> recommendations = new ArrayList<>(matches.size());
+        for (RegionPlacementIndex.Match match : matches) {
+            recommendations.add(PlacementRecommendation.of(recommendations.size() + 1, match));
+        }
+        return recommendations;
+    }
+
+    private List<PlacementRegion> loadRegions() {
+        List<PlacementRegion> regions = new ArrayList<>();
+        for (CloudRegion region : cloudRegionRepository.findAllWithProvider()) {
+            if (region.getStatus() != Status.ACTIVE || !Boolean.TRUE.equals(region.getIsAvailable())
+                    || region.getLatitude() == null || region.getLongitude() == null
+                    || region.getProvider().getStatus() != Status.ACTIVE) {
+                continue;
+            }
+            regions.add(new PlacementRegion(region.getId(), region.getProvider().getProviderKey(),
+                    region.getRegionKey(),
+                    region.getDisplayName() != null ? region.getDisplayName() : region.getRegionName(),
+                    region.getCountry(), region.getCity(), region.getLatitude(), region.getLongitude(),
+                    region.getLatencyMs(), Boolean.TRUE.equals(region.getIsGovernment()),
+                    Boolean.TRUE.equals(region.getIsMultiZone()),
+                    serviceAvailabilityService.getServiceTypes(region.getId())));
+        }
+        return regions;
+    }
+}
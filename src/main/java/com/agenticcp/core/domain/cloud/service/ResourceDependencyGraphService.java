@@ -0,0 +1,243 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.common.exception.BusinessException;
+import com.agenticcp.core.common.exception.ResourceNotFoundException;
+import com.agenticcp.core.common.exception.ValidationException;
+import com.agenticcp.core.domain.cloud.dto.DependencyGraphStatus;
+import com.agenticcp.core.domain.cloud.dto.DependencyPathResponse;
+import com.agenticcp.core.domain.cloud.dto.DependencyTraversalResponse;
+import com.agenticcp.core.domain.cloud.dto.TenantDependencyGraphResponse;
+import com.agenticcp.core.domain.cloud.event.InventoryChangedEvent;
+import com.agenticcp.core.domain.cloud.index.ResourceDependencyGraph;
+import com.agenticcp.core.domain.cloud.index.ResourceDependencyGraph.Direction;
+import com.agenticcp.core.domain.cloud.repository.ResourceDependencyRepository;
+import com.agenticcp.core.domain.cloud.repository.ResourceDependencyRepository.Node;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리소스 의존 그래프의 적재/증분 갱신/조회
+ *
+ * <p>기동 시 살아 있는 리소스와 의존 관계 전체를 스트리밍으로 읽어 CSR 그래프를 만들고, 이후에는 동기화 엔진의
+ * {@link InventoryChangedEvent} 로 바뀐 리소스만 다시 읽어 그 리소스에 닿는 간선과 함께 교체한다. 밀린 이벤트는
+ * 한 번에 모아 새 그래프 하나로 반영하며, 재구축 중 도착한 이벤트는 재구축이 끝난 뒤 적용한다.</p>
+ */
+@Slf4j
+@Service
+public class ResourceDependencyGraphService {
+
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    private static final int MAX_RESULT_LIMIT = 100_000;
+
+    private final ResourceDependencyRepository dependencyRepository;
+    private final MeterRegistry meterRegistry;
+    private final int fetchSize;
+    private final int defaultLimit;
+
+    private final Queue<InventoryChangedEvent> pendingEvents = new ConcurrentLinkedQueue<>();
+    private volatile ResourceDependencyGraph graph = ResourceDependencyGraph.empty();
+    private volatile boolean ready;
+    private volatile boolean rebuilding;
+    private volatile LocalDateTime builtAt;
+    private volatile long buildMillis;
+
+    public ResourceDependencyGraphService(ResourceDependencyRepository dependencyRepository,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${agenticcp.cloud.graph.fetch-size:5000}") int fetchSize,
+                                          @Value("${agenticcp.cloud.graph.default-limit:1000}") int defaultLimit) {
+        this.dependencyRepository = dependencyRepository;
+        this.meterRegistry = meterRegistry;
+        this.fetchSize = fetchSize;
+        this.defaultLimit = defaultLimit;
+        meterRegistry.gauge("inventory.graph.resources", this, service -> service.graph.nodeCount());
+        meterRegistry.gauge("inventory.graph.edges", this, service -> service.graph.edgeCount());
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        long startNanos = System.nanoTime();
+        rebuilding = true;
+        try {
+            ResourceDependencyGraph.Builder builder = ResourceDependencyGraph.builder();
+            dependencyRepository.streamNodes(fetchSize, node -> builder.addNode(node.id(), node.tenantId()));
+            dependencyRepository.streamEdges(fetchSize, edge -> builder.addEdge(edge.sourceId(), edge.targetId()));
+            graph = builder.build();
+            builtAt = LocalDateTime.now();
+            buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            ready = true;
+        } catch (Exception e) {
+            log.error("Failed to rebuild resource dependency graph", e);
+            return;
+        } finally {
+            rebuilding = false;
+        }
+        log.info("Rebuilt resource dependency graph with {} resources and {} edges in {} ms",
+                graph.nodeCount(), graph.edgeCount(), buildMillis);
+        applyPending();
+    }
+
+    @Async
+    @EventListener
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        // queue first: a rebuild that finishes meanwhile drains the queue after clearing the flag
+        pendingEvents.add(event);
+        if (!rebuilding) {
+            applyPending();
+        }
+    }
+
+    public DependencyTraversalResponse getDependents(Long resourceId, Integer maxDepth, Integer limit) {
+        return traverse(resourceId, Direction.DEPENDENTS, maxDepth, limit);
+    }
+
+    public DependencyTraversalResponse getDependencies(Long resourceId, Integer maxDepth, Integer limit) {
+        return traverse(resourceId, Direction.DEPENDENCIES, maxDepth, limit);
+    }
+
+    public DependencyPathResponse findPath(Long fromId, Long toId, Direction direction, Integer maxDepth) {
+        ResourceDependencyGraph current = requireContains(fromId);
+        requireContains(toId);
+        Direction resolved = direction != null ? direction : Direction.DEPENDENCIES;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long[] path = current.shortestPath(fromId, toId, resolved, resolveMaxDepth(maxDepth));
+        sample.stop(meterRegistry.timer("inventory.graph.query", "type", "path"));
+        return new DependencyPathResponse(fromId, toId, resolved, path.length > 0,
+                Arrays.stream(path).boxed().toList());
+    }
+
+    public TenantDependencyGraphResponse getTenantGraph(Long tenantId, Integer limit) {
+        ResourceDependencyGraph current = requireReady();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ResourceDependencyGraph.Subgraph subgraph = current.subgraph(tenantId, resolveLimit(limit));
+        sample.stop(meterRegistry.timer("inventory.graph.query", "type", "tenant"));
+        return TenantDependencyGraphResponse.of(tenantId, subgraph);
+    }
+
+    /**
+     * 파괴적 작업 전 확인용: 대상 밖에서 대상에 (전이적으로) 의존하는 리소스
+     */
+    public ResourceDependencyGraph.Traversal findDependents(Collection<Long> resourceIds, int limit) {
+        ResourceDependencyGraph current = requireReady();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ResourceDependencyGraph.Traversal traversal =
+                current.traverse(resourceIds, Direction.DEPENDENTS, Integer.MAX_VALUE, limit);
+        sample.stop(meterRegistry.timer("inventory.graph.query", "type", "blast-radius"));
+        return traversal;
+    }
+
+    public DependencyGraphStatus getStatus() {
+        ResourceDependencyGraph current = graph;
+        return new DependencyGraphStatus(ready, builtAt, buildMillis, current.nodeCount(), current.edgeCount(),
+                current.tenantCount(), current.sizeInBytes());
+    }
+
+    private DependencyTraversalResponse traverse(Long resourceId, Direction direction, Integer maxDepth,
+                                                 Integer limit) {
+        ResourceDependencyGraph current = requireContains(resourceId);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ResourceDependencyGraph.Traversal traversal = current.traverse(List.of(resourceId), direction,
+                resolveMaxDepth(maxDepth), resolveLimit(limit));
+        sample.stop(meterRegistry.timer("inventory.graph.query", "type", direction.name().toLowerCase()));
+        return DependencyTraversalResponse.of(List.of(resourceId), direction, traversal);
+    }
+
+    private synchronized void applyPending() {
+        Set<String> upserted = new LinkedHashSet<>();
+        Set<Long> changed = new HashSet<>();
+        InventoryChangedEvent event;
+        while ((event = pendingEvents.poll()) != null) {
+            upserted.addAll(event.upsertedResourceIds());
+            changed.addAll(event.terminatedIds());
+        }
+        if (upserted.isEmpty() && changed.isEmpty()) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        try {
+            List<String> resourceIds = new ArrayList<>(upserted);
+            List<Node> live = new ArrayList<>();
+            for (int from = 0; from < resourceIds.size(); from += LOOKUP_CHUNK_SIZE) {
+                for (Node node : dependencyRepository.findNodesByResourceIds(
+                        resourceIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, resourceIds.size())))) {
+                    changed.add(node.id());
+                    if (node.live()) {
+                        live.add(node);
+                    }
+                }
+            }
+            ResourceDependencyGraph.Builder builder = graph.toBuilder(changed);
+            live.forEach(node -> builder.addNode(node.id(), node.tenantId()));
+            List<Long> liveIds = live.stream().map(Node::id).toList();
+            for (int from = 0; from < liveIds.size(); from += LOOKUP_CHUNK_SIZE) {
+                dependencyRepository.findEdgesTouching(liveIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE,
+                        liveIds.size()))).forEach(edge -> builder.addEdge(edge.sourceId(), edge.targetId()));
+            }
+            graph = builder.build();
+        } catch (Exception e) {
+            log.error("Failed to apply inventory changes to resource dependency graph", e);
+            return;
+        }
+        log.debug("Applied {} changed resource(s) to dependency graph in {} ms", changed.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    private int resolveMaxDepth(Integer maxDepth) {
+        if (maxDepth == null) {
+            return Integer.MAX_VALUE;
+        }
+        if (maxDepth < 1) {
+            throw new ValidationException("maxDepth", "maxDepth must be at least 1");
+        }
+        return maxDepth;
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return defaultLimit;
+        }
+        if (limit < 1 || limit > MAX_RESULT_LIMIT) {
+            throw new ValidationException("limit", "limit must be between 1 and " + MAX_RESULT_LIMIT);
+        }
+        return limit;
+    }
+
+    private ResourceDependencyGraph requireContains(Long resourceId) {
+        ResourceDependencyGraph current = requireReady();
+        if (!current.contains(resourceId)) {
+            throw new ResourceNotFoundException("CloudResource", "id", resourceId);
+        }
+        return current;
+    }
+
+    private ResourceDependencyGraph requireReady() {
+        if (!ready) {
+            throw new BusinessException("Resource dependency graph is still loading", "DEPENDENCY_GRAPH_NOT_READY",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,250 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.common.exception.ValidationException;
+import com.agenticcp.core.domain.cloud.dto.AvailableRegion;
+import com.agenticcp.core.domain.cloud.dto.ServiceAvailabilityMatrixResponse;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.agenticcp.core.domain.cloud.entity.CloudRegion;
+import com.agenticcp.core.domain.cloud.entity.CloudService;
+import com.agenticcp.core.domain.cloud.entity.CloudService.ServiceType;
+import com.agenticcp.core.domain.cloud.event.CatalogChangedEvent;
+import com.agenticcp.core.domain.cloud.event.ServiceAvailabilityChangedEvent;
+import com.agenticcp.core.domain.cloud.index.ServiceAvailabilityMatrix;
+import com.agenticcp.core.domain.cloud.index.ServiceAvailabilityMatrix.CatalogRegion;
+import com.agenticcp.core.domain.cloud.index.ServiceAvailabilityMatrix.CatalogService;
+import com.agenticcp.core.domain.cloud.repository.CloudProviderRepository;
+import com.agenticcp.core.domain.cloud.repository.CloudRegionRepository;
+import com.agenticcp.core.domain.cloud.repository.CloudServiceRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 서비스×리전 가용성 행렬의 적재/증분 갱신/조회
+ *
+ * <p>기동 시(그리고 주기적으로) 카탈로그 전체를 읽어 새 행렬로 교체하고, 이후에는 리전/서비스 엔티티 변경 이벤트를
+ * 커밋 후에 받아 해당 한 건만 다시 읽어 반영한다. 프로바이더 변경은 key 나 활성 상태가 바뀐 경우에만 전체를
+ * 재구축한다. 응답과 ETag 는 행렬 버전마다 한 번만 만들며, ETag 는 내용 해시라 재구축이나 노드가 달라도 내용이
+ * 같으면 같다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ServiceAvailabilityService {
+
+    private static final TypeReference<List<String>> KEYS_TYPE = new TypeReference<>() {
+    };
+
+    private final CloudProviderRepository cloudProviderRepository;
+    private final CloudRegionRepository cloudRegionRepository;
+    private final CloudServiceRepository cloudServiceRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile ServiceAvailabilityMatrix matrix = new ServiceAvailabilityMatrix();
+    private volatile CachedResponse cachedResponse;
+    // provider id -> key of providers whose regions/services are in the matrix (active and not deleted)
+    private final Map<Long, String> activeProviders = new HashMap<>();
+
+    public record TaggedResponse(String etag, ServiceAvailabilityMatrixResponse response) {
+    }
+
+    private record CachedResponse(ServiceAvailabilityMatrix matrix, long version, TaggedResponse tagged) {
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${agenticcp.cloud.catalog.rebuild-interval:PT1H}",
+            initialDelayString = "${agenticcp.cloud.catalog.rebuild-interval:PT1H}")
+    public synchronized void rebuild() {
+        try {
+            ServiceAvailabilityMatrix rebuilt = new ServiceAvailabilityMatrix();
+            Map<Long, String> providers = new HashMap<>();
+            for (CloudService service : cloudServiceRepository.findAllWithProvider()) {
+                if (isActive(service)) {
+                    rebuilt.putService(toCatalogService(service));
+                    providers.put(service.getProvider().getId(), service.getProvider().getProviderKey());
+                }
+            }
+            for (CloudRegion region : cloudRegionRepository.findAllWithProvider()) {
+                if (isActive(region)) {
+                    rebuilt.putRegion(toCatalogRegion(region));
+                    providers.put(region.getProvider().getId(), region.getProvider().getProviderKey());
+                }
+            }
+            matrix = rebuilt;
+            activeProviders.clear();
+            activeProviders.putAll(providers);
+            log.info("Rebuilt service availability matrix with {} region(s) and {} service(s)",
+                    rebuilt.regionCount(), rebuilt.serviceCount());
+        } catch (Exception e) {
+            log.error("Failed to rebuild service availability matrix", e);
+            return;
+        }
+        eventPublisher.publishEvent(new ServiceAvailabilityChangedEvent(matrix.version()));
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        switch (event.entity()) {
+            case PROVIDER -> {
+                if (providerChanged(event.id())) {
+                    rebuild();
+                }
+            }
+            case REGION -> apply(() -> cloudRegionRepository.findWithProviderById(event.id())
+                    .filter(this::isActive)
+                    .ifPresentOrElse(region -> {
+                        matrix.putRegion(toCatalogRegion(region));
+                        activeProviders.put(region.getProvider().getId(), region.getProvider().getProviderKey());
+                    }, () -> matrix.removeRegion(event.id())));
+            case SERVICE -> apply(() -> cloudServiceRepository.findWithProviderById(event.id())
+                    .filter(this::isActive)
+                    .ifPresentOrElse(service -> {
+                        matrix.putService(toCatalogService(service));
+                        activeProviders.put(service.getProvider().getId(), service.getProvider().getProviderKey());
+                    }, () -> matrix.removeService(event.id())));
+        }
+    }
+
+    public TaggedResponse getMatrix() {
+        ServiceAvailabilityMatrix current = matrix;
+        long version = current.version();
+        CachedResponse cached = cachedResponse;
+        if (cached != null && cached.matrix() == current && cached.version() == version) {
+            return cached.tagged();
+        }
+        ServiceAvailabilityMatrix.Export export = current.export();
+        List<ServiceAvailabilityMatrixResponse.Region> regions = export.regions().stream()
+                .map(region -> new ServiceAvailabilityMatrixResponse.Region(region.id(), region.providerKey(),
+                        region.regionKey()))
+                .toList();
+        List<ServiceAvailabilityMatrixResponse.Service> services = new ArrayList<>(export.services().size());
+        for (int i = 0; i < export.services().size(); i++) {
+            CatalogService service = export.services().get(i);
+            services.add(new ServiceAvailabilityMatrixResponse.Service(service.id(), service.providerKey(),
+                    service.serviceKey(), service.serviceType(),
+                    Base64.getEncoder().encodeToString(export.rows().get(i).toByteArray())));
+        }
+        ServiceAvailabilityMatrixResponse response = new ServiceAvailabilityMatrixResponse(regions, services);
+        TaggedResponse tagged = new TaggedResponse(etagOf(response), response);
+        cachedResponse = new CachedResponse(current, export.version(), tagged);
+        return tagged;
+    }
+
+    public String getEtag() {
+        return getMatrix().etag();
+    }
+
+    public List<AvailableRegion> getRegions(ServiceType serviceType, String providerKey, String serviceKey) {
+        List<CatalogRegion> regions;
+        if (serviceType != null) {
+            regions = matrix.regionsSupporting(serviceType);
+        } else if (providerKey != null && serviceKey != null) {
+            regions = matrix.regionsSupporting(providerKey, serviceKey);
+        } else {
+            throw new ValidationException("serviceType", "Specify either serviceType or providerKey and serviceKey");
+        }
+        return regions.stream()
+                .filter(region -> providerKey == null || region.providerKey().equals(providerKey))
+                .map(region -> new AvailableRegion(region.id(), region.providerKey(), region.regionKey()))
+                .toList();
+    }
+
+    public Set<ServiceType> getServiceTypes(long regionId) {
+        return matrix.serviceTypesOf(regionId);
+    }
+
+    private synchronized void apply(Runnable change) {
+        try {
+            change.run();
+        } catch (Exception e) {
+            log.error("Failed to apply catalog change to service availability matrix", e);
+            return;
+        }
+        eventPublisher.publishEvent(new ServiceAvailabilityChangedEvent(matrix.version()));
+    }
+
+    private synchronized boolean providerChanged(Long providerId) {
+        String activeKey = cloudProviderRepository.findById(providerId)
+                .filter(provider -> !Boolean.TRUE.equals(provider.getIsDeleted()))
+                .filter(provider -> provider.getStatus() == Status.ACTIVE)
+                .map(CloudProvider::getProviderKey)
+                .orElse(null);
+        return !Objects.equals(activeKey, activeProviders.get(providerId));
+    }
+
+    private boolean isActive(CloudRegion region) {
+        return !Boolean.TRUE.equals(region.getIsDeleted()) && region.getStatus() == Status.ACTIVE
+                && Boolean.TRUE.equals(region.getIsAvailable()) && isActive(region.getProvider());
+    }
+
+    private boolean isActive(CloudService service) {
+        return !Boolean.TRUE.equals(service.getIsDeleted()) && service.getStatus() == Status.ACTIVE
+                && service.getServiceType() != null && isActive(service.getProvider());
+    }
+
+    private static boolean isActive(CloudProvider provider) {
+        return !Boolean.TRUE.equals(provider.getIsDeleted()) && provider.getStatus() == Status.ACTIVE;
+    }
+
+    private CatalogRegion toCatalogRegion(CloudRegion region) {
+        return new CatalogRegion(region.getId(), region.getProvider().getProviderKey(), region.getRegionKey(),
+                Set.copyOf(parseKeys(region.getSupportedServices(), "CloudRegion", region.getId())));
+    }
+
+    private CatalogService toCatalogService(CloudService service) {
+        return new CatalogService(service.getId(), service.getProvider().getProviderKey(), service.getServiceKey(),
+                service.getServiceType(), Boolean.TRUE.equals(service.getIsGlobal()),
+                Set.copyOf(parseKeys(service.getSupportedRegions(), "CloudService", service.getId())));
+    }
+
+    private List<String> parseKeys(String json, String entity, Long id) {
+        if (json == null || json.isBlank()) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, KEYS_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed key list on {} {}: {}", entity, id, e.getOriginalMessage());
+            return List.of();
+        }
+    }
+
+    private String etagOf(ServiceAvailabilityMatrixResponse response) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(objectMapper.writeValueAsString(response).getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to compute availability matrix ETag", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "agenticcp.cloud.sync.lease")
+public class SyncLeaseProperties {
+
+    private boolean enabled = true;
+
+    // defaults to "{hostname}-{random}" so two replicas on one host never share an identity
+    private String nodeId;
+
+    private Duration pollInterval = Duration.ofSeconds(10);
+
+    private Duration registerInterval = Duration.ofMinutes(5);
+
+    private Duration leaseDuration = Duration.ofMinutes(10);
+
+    private Duration renewInterval = Duration.ofMinutes(2);
+
+    private Duration syncInterval = Duration.ofHours(1);
+
+    private Duration retryDelay = Duration.ofMinutes(5);
+
+    // regions this node syncs at once; remaining due leases are left for other nodes
+    private int maxConcurrent = 4;
+}
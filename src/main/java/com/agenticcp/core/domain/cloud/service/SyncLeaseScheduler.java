@@ -0,0 +1,176 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.domain.cloud.dto.InventorySyncResult.RegionSyncResult;
+import com.agenticcp.core.domain.cloud.service.SyncLeaseService.ClaimedLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 노드마다 하나씩 동작하며, 여유 슬롯만큼만 리스를 점유해 리전 동기화를 실행한다.
+ *
+ * <p>갱신에 실패한 리스(만료되어 다른 노드가 회수했을 수 있음)의 동기화는 인터럽트로 취소하고, 취소가 늦더라도
+ * 동기화의 모든 쓰기 트랜잭션이 {@link SyncLeaseService#assertHeld} 로 fencing token 을 확인하므로
+ * 같은 리전을 두 노드가 동시에 쓰지 않는다.</p>
+ */
+@Slf4j
+@Component
+public class SyncLeaseScheduler {
+
+    private final SyncLeaseService syncLeaseService;
+    private final InventorySyncService inventorySyncService;
+    private final SyncLeaseProperties properties;
+    private final Executor inventorySyncExecutor;
+    private final String nodeId;
+    private final AtomicInteger running = new AtomicInteger();
+    private final Map<Long, HeldSync> heldSyncs = new ConcurrentHashMap<>();
+
+    public SyncLeaseScheduler(SyncLeaseService syncLeaseService,
+                              InventorySyncService inventorySyncService,
+                              SyncLeaseProperties properties,
+                              Executor inventorySyncExecutor) {
+        this.syncLeaseService = syncLeaseService;
+        this.inventorySyncService = inventorySyncService;
+        this.properties = properties;
+        this.inventorySyncExecutor = inventorySyncExecutor;
+        this.nodeId = StringUtils.hasText(properties.getNodeId()) ? properties.getNodeId() : defaultNodeId();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Scheduled(fixedDelayString = "${agenticcp.cloud.sync.lease.register-interval:PT5M}")
+    public void registerLeases() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            syncLeaseService.registerLeases();
+        } catch (Exception e) {
+            log.error("Failed to register sync leases", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${agenticcp.cloud.sync.lease.poll-interval:PT10S}")
+    public int poll() {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        int freeSlots = properties.getMaxConcurrent() - running.get();
+        List<ClaimedLease> claimed = syncLeaseService.claim(nodeId, freeSlots, properties.getLeaseDuration());
+        for (ClaimedLease lease : claimed) {
+            HeldSync held = new HeldSync(lease);
+            heldSyncs.put(lease.id(), held);
+            running.incrementAndGet();
+            try {
+                inventorySyncExecutor.execute(held.task);
+            } catch (RejectedExecutionException e) {
+                // let the lease expire so this or another node picks it up again
+                heldSyncs.remove(lease.id());
+                running.decrementAndGet();
+                log.warn("Sync executor rejected lease {}", lease.leaseKey());
+            }
+        }
+        return claimed.size();
+    }
+
+    @Scheduled(fixedDelayString = "${agenticcp.cloud.sync.lease.renew-interval:PT2M}")
+    public void renewHeldLeases() {
+        for (HeldSync held : heldSyncs.values()) {
+            if (held.lost) {
+                continue;
+            }
+            boolean renewed;
+            try {
+                renewed = syncLeaseService.renew(held.lease, nodeId, properties.getLeaseDuration());
+            } catch (Exception e) {
+                // a failed renewal is not a lost lease; the next tick retries before it expires
+                log.error("Failed to renew sync lease {} on {}", held.lease.leaseKey(), nodeId, e);
+                continue;
+            }
+            if (renewed) {
+                continue;
+            }
+            log.warn("Lost sync lease {} while syncing on {}, cancelling the sync", held.lease.leaseKey(), nodeId);
+            held.lost = true;
+            held.task.cancel(true);
+            if (held.started.compareAndSet(false, true)) {
+                // cancelled before a worker picked it up, so run() will never release the slot
+                release(held);
+            }
+        }
+    }
+
+    private void run(HeldSync held) {
+        if (!held.started.compareAndSet(false, true)) {
+            return;
+        }
+        ClaimedLease lease = held.lease;
+        try {
+            RegionSyncResult result = inventorySyncService.syncRegion(lease.providerKey(), lease.regionKey(),
+                    () -> syncLeaseService.assertHeld(lease, nodeId));
+            if (held.lost) {
+                log.warn("Sync of {} on {} stopped after losing its lease", lease.leaseKey(), nodeId);
+                return;
+            }
+            boolean released = result.isSuccess()
+                    ? syncLeaseService.complete(lease, nodeId, properties.getSyncInterval())
+                    : syncLeaseService.fail(lease, nodeId, result.getErrorMessage(), properties.getRetryDelay());
+            if (!released) {
+                log.warn("Sync lease {} was taken over before {} finished", lease.leaseKey(), nodeId);
+            }
+        } catch (Exception e) {
+            log.error("Region sync failed for lease {}", lease.leaseKey(), e);
+            if (!held.lost) {
+                syncLeaseService.fail(lease, nodeId, e.getMessage(), properties.getRetryDelay());
+            }
+        } finally {
+            release(held);
+        }
+    }
+
+    private void release(HeldSync held) {
+        heldSyncs.remove(held.lease.id(), held);
+        running.decrementAndGet();
+    }
+
+    /**
+     * 점유한 리스와 그 동기화 작업. started 를 먼저 바꾼 쪽(작업 스레드 또는 실행 전 취소)이 슬롯을 반납한다.
+     */
+    private final class HeldSync {
+
+        private final ClaimedLease lease;
+        private final FutureTask<Void> task;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private volatile boolean lost;
+
+        private HeldSync(ClaimedLease lease) {
+            this.lease = lease;
+            this.task = new FutureTask<>(() -> run(this), null);
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
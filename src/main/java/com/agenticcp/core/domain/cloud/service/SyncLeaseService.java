@@ -0,0 +1,176 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.agenticcp.core.domain.cloud.entity.CloudRegion;
+import com.agenticcp.core.domain.cloud.entity.SyncLease;
+import com.agenticcp.core.domain.cloud.repository.CloudProviderRepository;
+import com.agenticcp.core.domain.cloud.repository.CloudRegionRepository;
+import com.agenticcp.core.domain.cloud.repository.SyncLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 리전 동기화 리스 관리
+ *
+ * <p>리스는 {@code SELECT ... FOR UPDATE SKIP LOCKED} 로 점유하므로 여러 노드가 동시에 폴링해도 하나의 리전은
+ * 한 노드에서만 동기화된다. 노드가 죽어 리스가 만료되면 다음 폴링에서 다른 노드가 다시 점유하고,
+ * 점유할 때마다 증가하는 fencing token 으로 만료된 노드의 뒤늦은 완료 처리를 막는다.</p>
+ */
+@Slf4j
+@Service
+public class SyncLeaseService {
+
+    private final SyncLeaseRepository syncLeaseRepository;
+    private final CloudProviderRepository cloudProviderRepository;
+    private final CloudRegionRepository cloudRegionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public SyncLeaseService(SyncLeaseRepository syncLeaseRepository,
+                            CloudProviderRepository cloudProviderRepository,
+                            CloudRegionRepository cloudRegionRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.syncLeaseRepository = syncLeaseRepository;
+        this.cloudProviderRepository = cloudProviderRepository;
+        this.cloudRegionRepository = cloudRegionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public record ClaimedLease(Long id, String leaseKey, String providerKey, String regionKey, Long fencingToken) {
+    }
+
+    public static class LeaseLostException extends IllegalStateException {
+
+        public LeaseLostException(String leaseKey, String nodeId) {
+            super("Sync lease " + leaseKey + " is no longer held by " + nodeId);
+        }
+    }
+
+    /**
+     * 활성 프로바이더의 사용 가능한 리전마다 리스 행을 만든다. 여러 노드가 동시에 호출해도 안전하다.
+     */
+    public int registerLeases() {
+        int created = 0;
+        for (CloudProvider provider : cloudProviderRepository.findActiveProviders(Status.ACTIVE)) {
+            for (CloudRegion region : cloudRegionRepository.findAvailableRegions(provider, Status.ACTIVE)) {
+                if (ensureLease(provider.getProviderKey(), region.getRegionKey())) {
+                    created++;
+                }
+            }
+        }
+        if (created > 0) {
+            log.info("Registered {} new sync lease(s)", created);
+        }
+        return created;
+    }
+
+    public boolean ensureLease(String providerKey, String regionKey) {
+        String leaseKey = SyncLease.leaseKeyOf(providerKey, regionKey);
+        if (syncLeaseRepository.findByLeaseKey(leaseKey).isPresent()) {
+            return false;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> syncLeaseRepository.save(SyncLease.builder()
+                    .leaseKey(leaseKey)
+                    .providerKey(providerKey)
+                    .regionKey(regionKey)
+                    .fencingToken(0L)
+                    .consecutiveFailures(0)
+                    .nextRunAt(LocalDateTime.now())
+                    .build()));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // another node registered the same lease first
+            return false;
+        }
+    }
+
+    public List<ClaimedLease> claim(String nodeId, int limit, Duration leaseDuration) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<SyncLease> leases = syncLeaseRepository.lockDueLeases(now, limit);
+            for (SyncLease lease : leases) {
+                if (lease.getLeaseOwner() != null) {
+                    log.warn("Reclaiming expired sync lease {} from {}", lease.getLeaseKey(), lease.getLeaseOwner());
+                }
+                lease.setLeaseOwner(nodeId);
+                lease.setLeaseExpiresAt(now.plus(leaseDuration));
+                lease.setFencingToken(lease.getFencingToken() + 1);
+            }
+            return leases.stream()
+                    .map(lease -> new ClaimedLease(lease.getId(), lease.getLeaseKey(), lease.getProviderKey(),
+                            lease.getRegionKey(), lease.getFencingToken()))
+                    .collect(Collectors.toList());
+        });
+    }
+
+    public boolean renew(ClaimedLease lease, String nodeId, Duration leaseDuration) {
+        Integer updated = transactionTemplate.execute(status -> syncLeaseRepository.renew(
+                lease.id(), nodeId, lease.fencingToken(), LocalDateTime.now().plus(leaseDuration)));
+        return updated != null && updated > 0;
+    }
+
+    /**
+     * 동기화 쓰기 트랜잭션 안에서 호출한다. 리스를 잃었으면 {@link LeaseLostException} 으로 그 쓰기를 막고,
+     * 쥐고 있으면 커밋할 때까지 리스 행을 잠가 쓰는 동안 다른 노드가 회수하지 못하게 한다.
+     */
+    public void assertHeld(ClaimedLease lease, String nodeId) {
+        if (syncLeaseRepository.lockHeld(lease.id(), nodeId, lease.fencingToken(), LocalDateTime.now()).isEmpty()) {
+            throw new LeaseLostException(lease.leaseKey(), nodeId);
+        }
+    }
+
+    public boolean complete(ClaimedLease lease, String nodeId, Duration syncInterval) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer updated = transactionTemplate.execute(status -> {
+            int released = syncLeaseRepository.releaseCompleted(
+                    lease.id(), nodeId, lease.fencingToken(), now, now.plus(syncInterval));
+            if (released > 0) {
+                refreshProviderLastSync(lease.providerKey());
+            }
+            return released;
+        });
+        return updated != null && updated > 0;
+    }
+
+    public boolean fail(ClaimedLease lease, String nodeId, String error, Duration retryDelay) {
+        Integer updated = transactionTemplate.execute(status -> syncLeaseRepository.releaseFailed(
+                lease.id(), nodeId, lease.fencingToken(), error, LocalDateTime.now().plus(retryDelay)));
+        return updated != null && updated > 0;
+    }
+
+    /**
+     * 리전별로 완료되는 리스 경로에서도 프로바이더의 lastSync 가 "모든 리전이 이 시각 이후 동기화됨" 을 뜻하도록,
+     * 모든 리전이 한 번 이상 완료됐을 때 가장 오래된 완료 시각으로 올린다.
+     */
+    private void refreshProviderLastSync(String providerKey) {
+        List<SyncLease> leases = syncLeaseRepository.findByProviderKey(providerKey).stream()
+                .filter(lease -> !Boolean.TRUE.equals(lease.getIsDeleted()))
+                .collect(Collectors.toList());
+        if (leases.isEmpty() || leases.stream().anyMatch(lease -> lease.getLastCompletedAt() == null)) {
+            return;
+        }
+        LocalDateTime oldest = leases.stream()
+                .map(SyncLease::getLastCompletedAt)
+                .min(Comparator.naturalOrder())
+                .orElseThrow();
+        cloudProviderRepository.findByProviderKey(providerKey).ifPresent(provider -> {
+            if (provider.getLastSync() == null || provider.getLastSync().isBefore(oldest)) {
+                provider.setLastSync(oldest);
+                cloudProviderRepository.save(provider);
+            }
+        });
+    }
+}
@@ -0,0 +1,161 @@
+package com.agenticcp.core.domain.cost.anomaly;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 테넌트×서비스별 시간당 비용 스트림의 온라인 이상 탐지
+ *
+ * <p>시리즈마다 EWMA 수준/분산과 시간대(UTC 0~23시)별 계절 편차만 유지하며, 관측 한 건은 O(1) 로 처리된다. 예상값
+ * (수준 + 해당 시간대 편차)보다 z 점수, 절대 증가액, 상대 증가율 세 기준을 모두 넘으면 이상으로 보고, 이상 구간에
+ * 들어갈 때와 벗어날 때만 신호를 낸다. 한 시간 동안 지출이 보고되지 않은 시리즈는 0 으로 관측해, 리소스를 멈춰
+해소된 이상도 닫히게 한다. 스레드 안전하지 않은 {@link CostBaselineTable} 은 이 객체의 잠금으로 보호한다.</p>
+ */
+public class CostAnomalyDetector {
+
+    private static final double NOISE_FLOOR_RATIO = 0.01;
+    private static final long KEY_PART_LIMIT = 1L << 32;
+
+    private final CostAnomalyProperties properties;
+    private final CostBaselineTable table;
+    private long droppedObservations;
+
+    public enum Transition {
+        OPENED,
+        RESOLVED
+    }
+
+    public record Signal(Long tenantId, long cloudServiceId, long epochHour, double observed, double expected,
+                         double zScore, Transition transition) {
+    }
+
+    public record Stats(int series, int capacity, long memoryBytes, long droppedObservations) {
+    }
+
+    public CostAnomalyDetector(CostAnomalyProperties properties) {
+        this.properties = properties;
+        this.table = new CostBaselineTable(properties.getMaxSeries());
+    }
+
+    /**
+     * @param tenantId 테넌트가 없는 리소스는 null
+     * @return 이상 구간에 들어가거나 벗어났으면 신호, 아니면 null
+     */
+    public synchronized Signal observe(Long tenantId, long cloudServiceId, long epochHour, double amount) {
+        long tenantPart = tenantId != null ? tenantId : 0;
+        if (tenantPart < 0 || tenantPart >= KEY_PART_LIMIT || cloudServiceId < 0 || cloudServiceId >= KEY_PART_LIMIT) {
+            droppedObservations++;
+            return null;
+        }
+        int index = table.indexOf(tenantPart << 32 | cloudServiceId);
+        if (index < 0) {
+            droppedObservations++;
+            return null;
+        }
+        int hour = Math.toIntExact(epochHour);
+        if (table.counts[index] == 0) {
+            table.means[index] = amount;
+            table.counts[index] = 1;
+            table.lastHours[index] = hour;
+            table.lastSpendHours[index] = hour;
+            return null;
+        }
+        if (hour <= table.lastHours[index]) {
+            return null; // already observed (re-run of the same hour)
+        }
+        table.lastSpendHours[index] = hour;
+        return update(index, tenantId, cloudServiceId, epochHour, amount);
+    }
+
+    /**
+     * 이 시간에 지출이 보고되지 않은 추적 중 시리즈를 지출 0 으로 관측한다. 해당 시간의 {@link #observe} 를 모두 마친 뒤
+     * 호출해야 한다.
+     *
+     * @param signals 이상 구간에 들어가거나 벗어난 시리즈의 신호를 더한다
+     * @return 0 으로 관측한 시리즈 수
+     */
+    public synchronized int observeAbsent(long epochHour, List<Signal> signals) {
+        int hour = Math.toIntExact(epochHour);
+        int observed = 0;
+        for (int index = 0; index < table.size(); index++) {
+            if (table.lastHours[index] >= hour) {
+                continue;
+            }
+            observed++;
+            long key = table.keys[index];
+            Signal signal = update(index, tenantIdOf(key), key & (KEY_PART_LIMIT - 1), epochHour, 0);
+            if (signal != null) {
+                signals.add(signal);
+            }
+        }
+        return observed;
+    }
+
+    private Signal update(int index, Long tenantId, long cloudServiceId, long epochHour, double amount) {
+        int seasonIndex = index * CostBaselineTable.SEASONS + (int) Math.floorMod(epochHour, CostBaselineTable.SEASONS);
+        double season = table.seasonal[seasonIndex];
+        double expected = table.means[index] + season;
+        double deviation = amount - expected;
+        double std = Math.max(Math.sqrt(table.variances[index]), NOISE_FLOOR_RATIO * Math.abs(expected) + 1e-9);
+        double zScore = deviation / std;
+        boolean anomalous = table.counts[index] >= properties.getWarmupHours()
+                && zScore > properties.getMinZScore()
+                && deviation > properties.getMinIncrease()
+                && deviation > properties.getMinRelativeIncrease() * Math.abs(expected);
+
+        double alpha = properties.getAlpha();
+        double residual = amount - season - table.means[index];
+        table.means[index] += alpha * residual;
+        if (!anomalous) {
+            // anomalous hours only move the level, so a sustained spike keeps alerting until it becomes the new normal
+            table.variances[index] = (1 - alpha) * (table.variances[index] + alpha * residual * residual);
+            table.seasonal[seasonIndex] = (float) (season
+                    + properties.getSeasonalGamma() * (amount - table.means[index] - season));
+        }
+        if (table.counts[index] < Integer.MAX_VALUE) {
+            table.counts[index]++;
+        }
+        table.lastHours[index] = Math.toIntExact(epochHour);
+
+        if (anomalous == table.alerting[index]) {
+            return null;
+        }
+        table.alerting[index] = anomalous;
+        return new Signal(tenantId, cloudServiceId, epochHour, amount, expected, zScore,
+                anomalous ? Transition.OPENED : Transition.RESOLVED);
+    }
+
+    /**
+     * 마지막 지출이 cutoffHour 보다 이른 시리즈를 메모리에서 지운다.
+     *
+     * @param signals 이상 구간에 있던 채로 지워지는 시리즈마다 epochHour 시각의 RESOLVED 신호를 더한다
+     * @return 지운 시리즈 수
+     */
+    public synchronized int evictIdle(long cutoffEpochHour, long epochHour, List<Signal> signals) {
+        return table.evictBefore(Math.toIntExact(cutoffEpochHour), index -> {
+            if (table.alerting[index]) {
+                long key = table.keys[index];
+                signals.add(new Signal(tenantIdOf(key), key & (KEY_PART_LIMIT - 1), epochHour, 0,
+                        table.means[index], 0, Transition.RESOLVED));
+            }
+        });
+    }
+
+    public synchronized void writeCheckpoint(Path path) throws IOException {
+        table.writeCheckpoint(path);
+    }
+
+    public synchronized int readCheckpoint(Path path) throws IOException {
+        return table.readCheckpoint(path);
+    }
+
+    public synchronized Stats getStats() {
+        return new Stats(table.size(), table.capacity(), table.memoryBytes(), droppedObservations);
+    }
+
+    private static Long tenantIdOf(long key) {
+        long tenantPart = key >>> 32;
+        return tenantPart != 0 ? tenantPart : null; // observe() stores a missing tenant as 0
+    }
+}
@@ -0,0 +1,41 @@
+package com.agenticcp.core.domain.cost.anomaly;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "agenticcp.cost.anomaly")
+public class CostAnomalyProperties {
+
+    private boolean enabled = true;
+
+    // tenant x service series kept in memory; new series beyond this are ignored until idle ones are evicted
+    private int maxSeries = 100_000;
+
+    // EWMA weight of the newest hour for the level and variance (0.05 ~ 20 hour memory)
+    private double alpha = 0.05;
+
+    // weight of the newest observation for its hour-of-day offset
+    private double seasonalGamma = 0.1;
+
+    // observations before a series may alert
+    private int warmupHours = 48;
+
+    // an hour is anomalous when spend exceeds the expected value by all three margins
+    private double minZScore = 4.0;
+
+    private double minIncrease = 1.0;
+
+    private double minRelativeIncrease = 0.5;
+
+    // series without spend for this long are dropped from memory
+    private Duration idleEviction = Duration.ofDays(30);
+
+    private String checkpointPath = "data/cost-anomaly/baselines.bin";
+
+    private int fetchSize = 1000;
+}
@@ -0,0 +1,230 @@
+package com.agenticcp.core.domain.cost.anomaly;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 테넌트×서비스 시리즈별 비용 기준선 상태
+ *
+ * <p>시리즈 상태는 용량만큼 미리 할당한 배열에 열 단위로 두고, 키 → 배열 위치는 선형 탐사 해시로 찾는다. 시리즈가 늘어도
+ * 객체를 만들지 않으므로 메모리 사용량은 용량으로 고정된다. 오래 지출이 없었던 시리즈는 배열을 압축해 자리를 돌려준다.</p>
+ */
+final class CostBaselineTable {
+
+    static final int SEASONS = 24;
+
+    private static final int CHECKPOINT_MAGIC = 0x43414E4D; // "CANM"
+    private static final int CHECKPOINT_VERSION = 2;
+    private static final int EMPTY = -1;
+
+    private final int capacity;
+    private final int mask;
+    private final long[] slotKeys;
+    private final int[] slotIndexes;
+
+    final long[] keys;
+    final double[] means;
+    final double[] variances;
+    final int[] counts;
+    final int[] lastHours;
+    final int[] lastSpendHours;
+    final boolean[] alerting;
+    final float[] seasonal;
+    private int size;
+
+    CostBaselineTable(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        int tableSize = Integer.highestOneBit(Math.max(2, capacity * 2 - 1)) << 1;
+        this.mask = tableSize - 1;
+        this.slotKeys = new long[tableSize];
+        this.slotIndexes = new int[tableSize];
+        Arrays.fill(slotIndexes, EMPTY);
+        this.keys = new long[capacity];
+        this.means = new double[capacity];
+        this.variances = new double[capacity];
+        this.counts = new int[capacity];
+        this.lastHours = new int[capacity];
+        this.lastSpendHours = new int[capacity];
+        this.alerting = new boolean[capacity];
+        this.seasonal = new float[capacity * SEASONS];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return 시리즈 위치, 없으면 새로 만들고 용량이 가득 찼으면 -1
+     */
+    int indexOf(long key) {
+        int slot = slotOf(key);
+        if (slotIndexes[slot] != EMPTY) {
+            return slotIndexes[slot];
+        }
+        if (size == capacity) {
+            return EMPTY;
+        }
+        int index = size++;
+        keys[index] = key;
+        means[index] = 0;
+        variances[index] = 0;
+        counts[index] = 0;
+        lastHours[index] = 0;
+        lastSpendHours[index] = 0;
+        alerting[index] = false;
+        Arrays.fill(seasonal, index * SEASONS, (index + 1) * SEASONS, 0f);
+        slotKeys[slot] = key;
+        slotIndexes[slot] = index;
+        return index;
+    }
+
+    /**
+     * 마지막 지출 시각이 cutoffHour 보다 이른 시리즈를 지우고 남은 시리즈를 앞으로 모은다.
+     *
+     * @param onEvict 지우기 직전의 시리즈 위치를 받는다
+     */
+    int evictBefore(int cutoffHour, IntConsumer onEvict) {
+        int kept = 0;
+        for (int index = 0; index < size; index++) {
+            if (lastSpendHours[index] < cutoffHour) {
+                onEvict.accept(index);
+                continue;
+            }
+            if (kept != index) {
+                keys[kept] = keys[index];
+                means[kept] = means[index];
+                variances[kept] = variances[index];
+                counts[kept] = counts[index];
+                lastHours[kept] = lastHours[index];
+                lastSpendHours[kept] = lastSpendHours[index];
+                alerting[kept] = alerting[index];
+                System.arraycopy(seasonal, index * SEASONS, seasonal, kept * SEASONS, SEASONS);
+            }
+            kept++;
+        }
+        int evicted = size - kept;
+        if (evicted > 0) {
+            size = kept;
+            reindex();
+        }
+        return evicted;
+    }
+
+    long memoryBytes() {
+        return (long) slotKeys.length * (Long.BYTES + Integer.BYTES)
+                + (long) capacity * (Long.BYTES * 3 + Integer.BYTES * 3 + 1 + Float.BYTES * SEASONS);
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 원자적으로 교체하므로, 쓰는 도중 죽어도 직전 체크포인트가 남는다.
+     */
+    void writeCheckpoint(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp),
+                    1 << 16))) {
+                out.writeInt(CHECKPOINT_MAGIC);
+                out.writeInt(CHECKPOINT_VERSION);
+                out.writeInt(SEASONS);
+                out.writeInt(size);
+                for (int index = 0; index < size; index++) {
+                    out.writeLong(keys[index]);
+                    out.writeDouble(means[index]);
+                    out.writeDouble(variances[index]);
+                    out.writeInt(counts[index]);
+                    out.writeInt(lastHours[index]);
+                    out.writeInt(lastSpendHours[index]);
+                    out.writeBoolean(alerting[index]);
+                    for (int season = 0; season < SEASONS; season++) {
+                        out.writeFloat(seasonal[index * SEASONS + season]);
+                    }
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * @return 읽은 시리즈 수 (용량을 넘는 시리즈는 버린다)
+     */
+    int readCheckpoint(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            int magic = in.readInt();
+            int version = in.readInt();
+            if (magic != CHECKPOINT_MAGIC || version < 1 || version > CHECKPOINT_VERSION || in.readInt() != SEASONS) {
+                throw new IOException("Unsupported cost baseline checkpoint: " + path);
+            }
+            int stored = in.readInt();
+            size = 0;
+            Arrays.fill(slotIndexes, EMPTY);
+            try {
+                readSeries(in, stored, version);
+            } catch (IOException e) {
+                size = 0; // never run on a partially restored table
+                throw e;
+            }
+            reindex();
+            return size;
+        }
+    }
+
+    private void readSeries(DataInputStream in, int stored, int version) throws IOException {
+        for (int i = 0; i < stored && size < capacity; i++) {
+            int index = size++;
+            keys[index] = in.readLong();
+            means[index] = in.readDouble();
+            variances[index] = in.readDouble();
+            counts[index] = in.readInt();
+            lastHours[index] = in.readInt();
+            // version 1 only kept the last observed hour, which was always an hour with spend
+            lastSpendHours[index] = version >= 2 ? in.readInt() : lastHours[index];
+            alerting[index] = in.readBoolean();
+            for (int season = 0; season < SEASONS; season++) {
+                seasonal[index * SEASONS + season] = in.readFloat();
+            }
+        }
+    }
+
+    private void reindex() {
+        Arrays.fill(slotIndexes, EMPTY);
+        for (int index = 0; index < size; index++) {
+            int slot = slotOf(keys[index]);
+            slotKeys[slot] = keys[index];
+            slotIndexes[slot] = index;
+        }
+    }
+
+    private int slotOf(long key) {
+        int slot = (int) mix(key) & mask;
+        while (slotIndexes[slot] != EMPTY && slotKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return key;
+    }
+}
@@ -0,0 +1,40 @@
+package com.agenticcp.core.domain.cost.controller;
+
+import com.agenticcp.core.common.dto.ApiResponse;
+import com.agenticcp.core.domain.cost.anomaly.CostAnomalyDetector;
+import com.agenticcp.core.domain.cost.entity.CostAnomaly;
+import com.agenticcp.core.domain.cost.service.CostAnomalyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/cost/anomalies")
+@RequiredArgsConstructor
+@Tag(name = "Cost Anomaly", description = "테넌트/서비스별 비용 이상 탐지 API")
+public class CostAnomalyController {
+
+    private final CostAnomalyService costAnomalyService;
+
+    @GetMapping
+    @Operation(summary = "비용 이상 목록 조회 (최근 순)")
+    public ResponseEntity<ApiResponse<Page<CostAnomaly>>> getAnomalies(
+            @RequestParam(required = false) Long tenantId,
+            @RequestParam(required = false) CostAnomaly.AnomalyStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(costAnomalyService.getAnomalies(tenantId, status,
+                PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "hourStart", "id")))));
+    }
+
+    @GetMapping("/detector/stats")
+    @Operation(summary = "이상 탐지 기준선 메모리 사용량 조회")
+    public ResponseEntity<ApiResponse<CostAnomalyDetector.Stats>> getDetectorStats() {
+        return ResponseEntity.ok(ApiResponse.success(costAnomalyService.getDetectorStats()));
+    }
+}
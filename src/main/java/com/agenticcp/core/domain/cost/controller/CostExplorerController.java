@@ -0,0 +1,34 @@
+package com.agenticcp.core.domain.cost.controller;
+
+import com.agenticcp.core.common.dto.ApiResponse;
+import com.agenticcp.core.domain.cost.dto.CostExplorerQuery;
+import com.agenticcp.core.domain.cost.dto.CostExplorerResponse;
+import com.agenticcp.core.domain.cost.dto.CostExplorerStatus;
+import com.agenticcp.core.domain.cost.service.CostExplorerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/cost/explorer")
+@RequiredArgsConstructor
+@Tag(name = "Cost Explorer", description = "리소스 비용 group-by 집계 API")
+public class CostExplorerController {
+
+    private final CostExplorerService costExplorerService;
+
+    @PostMapping("/query")
+    @Operation(summary = "차원별 비용/사양 집계 (sum, avg, count)")
+    public ResponseEntity<ApiResponse<CostExplorerResponse>> query(@Valid @RequestBody CostExplorerQuery query) {
+        return ResponseEntity.ok(ApiResponse.success(costExplorerService.query(query)));
+    }
+
+    @GetMapping("/status")
+    @Operation(summary = "비용 탐색기 열 투영 상태 조회")
+    public ResponseEntity<ApiResponse<CostExplorerStatus>> getStatus() {
+        return ResponseEntity.ok(ApiResponse.success(costExplorerService.getStatus()));
+    }
+}
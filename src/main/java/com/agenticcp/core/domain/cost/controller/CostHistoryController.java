@@ -0,0 +1,31 @@
+package com.agenticcp.core.domain.cost.controller;
+
+import com.agenticcp.core.common.dto.ApiResponse;
+import com.agenticcp.core.domain.cost.dto.CostHistoryResponse;
+import com.agenticcp.core.domain.cost.service.CostHistoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/cost")
+@RequiredArgsConstructor
+@Tag(name = "Cost History", description = "리소스 비용 이력 API")
+public class CostHistoryController {
+
+    private final CostHistoryService costHistoryService;
+
+    @GetMapping("/resources/{cloudResourceId}/history")
+    @Operation(summary = "리소스 시간당 비용 이력 조회")
+    public ResponseEntity<ApiResponse<CostHistoryResponse>> getHistory(
+            @PathVariable Long cloudResourceId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(ApiResponse.success(costHistoryService.getHistory(cloudResourceId, from, to)));
+    }
+}
@@ -0,0 +1,13 @@
+package com.agenticcp.core.domain.cost.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record CostAnomalyAlert(Long anomalyId,
+                               Long tenantId,
+                               Long cloudServiceId,
+                               LocalDateTime hourStart,
+                               BigDecimal observedCostPerHour,
+                               BigDecimal expectedCostPerHour,
+                               double deviationScore) {
+}
@@ -0,0 +1,31 @@
+package com.agenticcp.core.domain.cost.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CostExplorerQuery {
+
+    // CostDimension names, tags as "TAG:<key>" (e.g. ["PROVIDER", "TAG:env"])
+    private List<String> groupBy;
+
+    // same keys as groupBy; values of one key are OR-ed, keys are AND-ed
+    private Map<String, List<String>> filters;
+
+    // COUNT or a CostMeasure name, descending (default COST_PER_HOUR)
+    private String sortBy;
+
+    @Min(1)
+    @Max(10000)
+    private Integer limit;
+}
@@ -0,0 +1,26 @@
+package com.agenticcp.core.domain.cost.dto;
+
+import com.agenticcp.core.domain.cost.explorer.CostMeasure;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @param asOf 조회에 사용한 열 투영의 적재 시각
+ */
+public record CostExplorerResponse(LocalDateTime asOf,
+                                   long matchedResources,
+                                   int totalGroups,
+                                   long elapsedMicros,
+                                   List<Group> groups) {
+
+    public record Group(Map<String, String> keys, long count, Map<CostMeasure, Measure> measures) {
+    }
+
+    /**
+     * @param count 값이 있는 리소스 수 (avg 의 분모)
+     */
+    public record Measure(double sum, Double avg, long count) {
+    }
+}
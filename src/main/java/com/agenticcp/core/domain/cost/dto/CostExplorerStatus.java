@@ -0,0 +1,12 @@
+package com.agenticcp.core.domain.cost.dto;
+
+import java.time.LocalDateTime;
+
+public record CostExplorerStatus(boolean ready,
+                                 LocalDateTime builtAt,
+                                 long buildMillis,
+                                 int resources,
+                                 int tagKeys,
+                                 int droppedTagKeys,
+                                 long sizeInBytes) {
+}
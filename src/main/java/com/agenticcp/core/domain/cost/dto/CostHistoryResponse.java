@@ -0,0 +1,22 @@
+package com.agenticcp.core.domain.cost.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CostHistoryResponse {
+
+    private Long cloudResourceId;
+    private List<Point> points;
+
+    public record Point(LocalDateTime timestamp, double costPerHour) {
+    }
+}
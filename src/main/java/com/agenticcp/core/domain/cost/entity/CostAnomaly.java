@@ -0,0 +1,55 @@
+package com.agenticcp.core.domain.cost.entity;
+
+import com.agenticcp.core.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "cost_anomalies", indexes = {
+    @Index(name = "idx_cost_anomaly_tenant_status", columnList = "tenant_id, status, hour_start"),
+    @Index(name = "idx_cost_anomaly_series", columnList = "tenant_id, cloud_service_id, status"),
+    @Index(name = "idx_cost_anomaly_status_hour", columnList = "status, hour_start")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CostAnomaly extends BaseEntity {
+
+    @Column(name = "tenant_id")
+    private Long tenantId;
+
+    @Column(name = "cloud_service_id", nullable = false)
+    private Long cloudServiceId;
+
+    @Column(name = "hour_start", nullable = false)
+    private LocalDateTime hourStart;
+
+    @Column(name = "observed_cost_per_hour", nullable = false, precision = 19, scale = 6)
+    private BigDecimal observedCostPerHour;
+
+    @Column(name = "expected_cost_per_hour", nullable = false, precision = 19, scale = 6)
+    private BigDecimal expectedCostPerHour;
+
+    @Column(name = "deviation_score", nullable = false)
+    private Double deviationScore;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private AnomalyStatus status = AnomalyStatus.OPEN;
+
+    @Column(name = "resolved_at")
+    private LocalDateTime resolvedAt;
+
+    public enum AnomalyStatus {
+        OPEN,
+        RESOLVED
+    }
+}
@@ -0,0 +1,8 @@
+package com.agenticcp.core.domain.cost.event;
+
+import com.agenticcp.core.domain.cost.dto.CostAnomalyAlert;
+
+import java.util.List;
+
+public record CostAnomalyDetectedEvent(List<CostAnomalyAlert> anomalies) {
+}
@@ -0,0 +1,184 @@
+package com.agenticcp.core.domain.cost.explorer;
+
+import java.util.Arrays;
+
+/**
+ * 행 위치별 차원 코드 열
+ *
+ * <p>값 종류 수에 맞춰 byte/short/int 배열로 두고, 대부분의 행에 값이 없는 태그 key 는 (행 위치, 코드) 쌍만 두는
+ * 희소 열로 만든다. 집계는 청크 단위로 호출하므로 청크당 한 번의 가상 호출 뒤에는 배열 타입별 단순 루프만 돈다.</p>
+ */
+abstract class CodeColumn {
+
+    // a tag key present on fewer than 1/SPARSE_RATIO of the rows is stored sparse
+    private static final int SPARSE_RATIO = 16;
+
+    /**
+     * keys[i - from] += code(i) * stride
+     */
+    abstract void addKeys(long[] keys, int from, int to, long stride);
+
+    /**
+     * selected[i - from] &= allowed[code(i)]
+     */
+    abstract void filter(boolean[] allowed, boolean[] selected, int from, int to);
+
+    abstract long sizeInBytes();
+
+    static CodeColumn dense(int[] codes, int rows, int cardinality) {
+        if (cardinality <= 1 << Byte.SIZE) {
+            byte[] packed = new byte[rows];
+            for (int i = 0; i < rows; i++) {
+                packed[i] = (byte) codes[i];
+            }
+            return new ByteColumn(packed);
+        }
+        if (cardinality <= 1 << Short.SIZE) {
+            short[] packed = new short[rows];
+            for (int i = 0; i < rows; i++) {
+                packed[i] = (short) codes[i];
+            }
+            return new ShortColumn(packed);
+        }
+        return new IntColumn(Arrays.copyOf(codes, rows));
+    }
+
+    /**
+     * @param positions 값이 있는 행 위치 (오름차순)
+     */
+    static CodeColumn ofPresent(int[] positions, int[] codes, int present, int rows, int cardinality) {
+        if ((long) present * SPARSE_RATIO < rows) {
+            return new SparseColumn(Arrays.copyOf(positions, present), Arrays.copyOf(codes, present));
+        }
+        int[] dense = new int[rows];
+        for (int i = 0; i < present; i++) {
+            dense[positions[i]] = codes[i];
+        }
+        return dense(dense, rows, cardinality);
+    }
+
+    private static final class ByteColumn extends CodeColumn {
+
+        private final byte[] codes;
+
+        private ByteColumn(byte[] codes) {
+            this.codes = codes;
+        }
+
+        @Override
+        void addKeys(long[] keys, int from, int to, long stride) {
+            for (int i = from; i < to; i++) {
+                keys[i - from] += Byte.toUnsignedInt(codes[i]) * stride;
+            }
+        }
+
+        @Override
+        void filter(boolean[] allowed, boolean[] selected, int from, int to) {
+            for (int i = from; i < to; i++) {
+                selected[i - from] &= allowed[Byte.toUnsignedInt(codes[i])];
+            }
+        }
+
+        @Override
+        long sizeInBytes() {
+            return codes.length;
+        }
+    }
+
+    private static final class ShortColumn extends CodeColumn {
+
+        private final short[] codes;
+
+        private ShortColumn(short[] codes) {
+            this.codes = codes;
+        }
+
+        @Override
+        void addKeys(long[] keys, int from, int to, long stride) {
+            for (int i = from; i < to; i++) {
+                keys[i - from] += Short.toUnsignedInt(codes[i]) * stride;
+            }
+        }
+
+        @Override
+        void filter(boolean[] allowed, boolean[] selected, int from, int to) {
+            for (int i = from; i < to; i++) {
+                selected[i - from] &= allowed[Short.toUnsignedInt(codes[i])];
+            }
+        }
+
+        @Override
+        long sizeInBytes() {
+            return (long) codes.length * Short.BYTES;
+        }
+    }
+
+    private static final class IntColumn extends CodeColumn {
+
+        private final int[] codes;
+
+        private IntColumn(int[] codes) {
+            this.codes = codes;
+        }
+
+        @Override
+        void addKeys(long[] keys, int from, int to, long stride) {
+            for (int i = from; i < to; i++) {
+                keys[i - from] += codes[i] * stride;
+            }
+        }
+
+        @Override
+        void filter(boolean[] allowed, boolean[] selected, int from, int to) {
+            for (int i = from; i < to; i++) {
+                selected[i - from] &= allowed[codes[i]];
+            }
+        }
+
+        @Override
+        long sizeInBytes() {
+            return (long) codes.length * Integer.BYTES;
+        }
+    }
+
+    private static final class SparseColumn extends CodeColumn {
+
+        private final int[] positions;
+        private final int[] codes;
+
+        private SparseColumn(int[] positions, int[] codes) {
+            this.positions = positions;
+            this.codes = codes;
+        }
+
+        @Override
+        void addKeys(long[] keys, int from, int to, long stride) {
+            for (int p = firstAtOrAfter(from); p < positions.length && positions[p] < to; p++) {
+                keys[positions[p] - from] += codes[p] * stride;
+            }
+        }
+
+        @Override
+        void filter(boolean[] allowed, boolean[] selected, int from, int to) {
+            int p = firstAtOrAfter(from);
+            boolean absentAllowed = allowed[0];
+            for (int i = from; i < to; i++) {
+                if (p < positions.length && positions[p] == i) {
+                    selected[i - from] &= allowed[codes[p++]];
+                } else {
+                    selected[i - from] &= absentAllowed;
+                }
+            }
+        }
+
+        @Override
+        long sizeInBytes() {
+            return (long) positions.length * Integer.BYTES * 2;
+        }
+
+        private int firstAtOrAfter(int position) {
+            int found = Arrays.binarySearch(positions, position);
+            return found >= 0 ? found : -found - 1;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.agenticcp.core.domain.cost.explorer;
+
+/**
+ * 비용 탐색기 그룹/필터 차원. TAG 는 태그 key 를 함께 지정한다 ({@code "TAG:env"}).
+ */
+public enum CostDimension {
+    TENANT,
+    PROVIDER,
+    REGION,
+    SERVICE,
+    RESOURCE_TYPE,
+    LIFECYCLE_STATE,
+    TAG
+}
@@ -0,0 +1,228 @@
+package com.agenticcp.core.domain.cost.explorer;
+
+import com.agenticcp.core.domain.cost.explorer.ResourceCostProjection.Column;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * {@link ResourceCostProjection} 위의 병렬 group-by 집계
+ *
+ * <p>행 구간을 fork-join 태스크로 나누고, 각 태스크는 4096 행 청크마다 필터 열로 선택 벡터를, 그룹 열로 혼합 기수
+ * 그룹 key 벡터를 만든 뒤 한 번의 루프로 그룹별 행 수와 측정값 합계를 누적한다. 태스크 결과는 합친 뒤 정렬 기준
+ * 상위 {@code limit} 개 그룹만 반환한다.</p>
+ */
+public class CostExplorerEngine {
+
+    private static final int CHUNK_ROWS = 4096;
+    private static final int TASKS_PER_THREAD = 2;
+    private static final int MIN_LEAF_ROWS = 64 * 1024;
+
+    private final ForkJoinPool pool;
+
+    public record Dimension(CostDimension dimension, String tagKey) {
+    }
+
+    public record Filter(Dimension dimension, Set<String> values) {
+    }
+
+    /**
+     * @param sortBy null 이면 행 수 기준
+     */
+    public record Query(List<Dimension> groupBy, List<Filter> filters, CostMeasure sortBy, int limit) {
+    }
+
+    public record Group(List<String> values, long count, double[] sums, long[] counts) {
+    }
+
+    public record Result(long matchedRows, int totalGroups, List<Group> groups) {
+    }
+
+    public CostExplorerEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public Result aggregate(ResourceCostProjection projection, Query query) {
+        List<CodeColumn> filterColumns = new ArrayList<>();
+        List<boolean[]> allowed = new ArrayList<>();
+        for (Filter filter : query.filters()) {
+            Column column = projection.column(filter.dimension().dimension(), filter.dimension().tagKey());
+            if (column == null) {
+                return new Result(0, 0, List.of()); // tag key no resource has
+            }
+            boolean[] allowedCodes = new boolean[column.dictionary().cardinality()];
+            for (String value : filter.values()) {
+                int code = column.dictionary().lookup(value);
+                if (code >= 0) {
+                    allowedCodes[code] = true;
+                }
+            }
+            filterColumns.add(column.codes());
+            allowed.add(allowedCodes);
+        }
+
+        int dimensions = query.groupBy().size();
+        Column[] groupColumns = new Column[dimensions];
+        long[] strides = new long[dimensions];
+        int[] cardinalities = new int[dimensions];
+        long keySpace = 1;
+        for (int d = 0; d < dimensions; d++) {
+            Dimension dimension = query.groupBy().get(d);
+            groupColumns[d] = projection.column(dimension.dimension(), dimension.tagKey());
+            cardinalities[d] = groupColumns[d] != null ? groupColumns[d].dictionary().cardinality() : 1;
+            strides[d] = keySpace;
+            try {
+                keySpace = Math.multiplyExact(keySpace, cardinalities[d]);
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Too many distinct groups for " + query.groupBy());
+            }
+        }
+
+        Plan plan = new Plan(projection, filterColumns.toArray(CodeColumn[]::new), allowed.toArray(boolean[][]::new),
+                groupColumns, strides, keySpace);
+        int parallelism = pool.getParallelism();
+        int leafRows = parallelism == 1 ? projection.rows()
+                : Math.max(MIN_LEAF_ROWS, projection.rows() / (parallelism * TASKS_PER_THREAD) + 1);
+        GroupAccumulator merged = projection.rows() == 0
+                ? new GroupAccumulator(keySpace)
+                : pool.invoke(new AggregateTask(plan, 0, projection.rows(), leafRows));
+
+        long matched = 0;
+        int totalGroups = 0;
+        for (int slot = 0; slot < merged.slots(); slot++) {
+            long rows = merged.rowCount(slot);
+            matched += rows;
+            if (rows > 0) {
+                totalGroups++;
+            }
+        }
+        List<Group> groups = new ArrayList<>();
+        for (int slot : topSlots(merged, query.sortBy(), query.limit())) {
+            long key = merged.keyAt(slot);
+            List<String> values = new ArrayList<>(dimensions);
+            for (int d = 0; d < dimensions; d++) {
+                int code = (int) (key / strides[d] % cardinalities[d]);
+                values.add(groupColumns[d] != null ? groupColumns[d].dictionary().decode(code) : null);
+            }
+            double[] sums = new double[GroupAccumulator.MEASURES];
+            long[] counts = new long[GroupAccumulator.MEASURES];
+            for (int m = 0; m < GroupAccumulator.MEASURES; m++) {
+                sums[m] = merged.sum(slot, m);
+                counts[m] = merged.count(slot, m);
+            }
+            groups.add(new Group(values, merged.rowCount(slot), sums, counts));
+        }
+        return new Result(matched, totalGroups, groups);
+    }
+
+    private static List<Integer> topSlots(GroupAccumulator accumulator, CostMeasure sortBy, int limit) {
+        Comparator<Integer> order = sortBy == null
+                ? Comparator.comparingLong(accumulator::rowCount)
+                : Comparator.comparingDouble(slot -> accumulator.sum(slot, sortBy.ordinal()));
+        PriorityQueue<Integer> top = new PriorityQueue<>(order);
+        for (int slot = 0; slot < accumulator.slots(); slot++) {
+            if (accumulator.rowCount(slot) == 0) {
+                continue;
+            }
+            top.add(slot);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Integer> slots = new ArrayList<>(top);
+        slots.sort(order.reversed());
+        return slots;
+    }
+
+    private record Plan(ResourceCostProjection projection, CodeColumn[] filterColumns, boolean[][] allowed,
+                        Column[] groupColumns, long[] strides, long keySpace) {
+    }
+
+    private static final class AggregateTask extends RecursiveTask<GroupAccumulator> {
+
+        private final Plan plan;
+        private final int from;
+        private final int to;
+        private final int leafRows;
+
+        private AggregateTask(Plan plan, int from, int to, int leafRows) {
+            this.plan = plan;
+            this.from = from;
+            this.to = to;
+            this.leafRows = leafRows;
+        }
+
+        @Override
+        protected GroupAccumulator compute() {
+            if (to - from > leafRows) {
+                int middle = (from + to) >>> 1;
+                AggregateTask right = new AggregateTask(plan, middle, to, leafRows);
+                right.fork();
+                GroupAccumulator left = new AggregateTask(plan, from, middle, leafRows).compute();
+                left.merge(right.join());
+                return left;
+            }
+            GroupAccumulator accumulator = new GroupAccumulator(plan.keySpace());
+            long[] keys = new long[CHUNK_ROWS];
+            boolean[] selected = new boolean[CHUNK_ROWS];
+            for (int chunk = from; chunk < to; chunk += CHUNK_ROWS) {
+                aggregateChunk(accumulator, chunk, Math.min(chunk + CHUNK_ROWS, to), keys, selected);
+            }
+            return accumulator;
+        }
+
+        private void aggregateChunk(GroupAccumulator accumulator, int chunkFrom, int chunkTo, long[] keys,
+                                    boolean[] selected) {
+            int length = chunkTo - chunkFrom;
+            Arrays.fill(keys, 0, length, 0L);
+            Arrays.fill(selected, 0, length, true);
+            for (int f = 0; f < plan.filterColumns().length; f++) {
+                plan.filterColumns()[f].filter(plan.allowed()[f], selected, chunkFrom, chunkTo);
+            }
+            for (int d = 0; d < plan.groupColumns().length; d++) {
+                if (plan.groupColumns()[d] != null) {
+                    plan.groupColumns()[d].codes().addKeys(keys, chunkFrom, chunkTo, plan.strides()[d]);
+                }
+            }
+            ResourceCostProjection projection = plan.projection();
+            int sumBase = 1;
+            int countBase = 1 + GroupAccumulator.MEASURES;
+            for (int i = 0; i < length; i++) {
+                if (!selected[i]) {
+                    continue;
+                }
+                int offset = accumulator.offsetOf(keys[i]);
+                double[] cells = accumulator.cells; // re-read, a new group may have grown it
+                int row = chunkFrom + i;
+                cells[offset]++;
+                // measures in CostMeasure order
+                double cost = projection.costPerHour[row];
+                if (cost == cost) {
+                    cells[offset + sumBase] += cost;
+                    cells[offset + countBase]++;
+                }
+                float cores = projection.cpuCores[row];
+                if (cores == cores) {
+                    cells[offset + sumBase + 1] += cores;
+                    cells[offset + countBase + 1]++;
+                }
+                float memory = projection.memoryGb[row];
+                if (memory == memory) {
+                    cells[offset + sumBase + 2] += memory;
+                    cells[offset + countBase + 2]++;
+                }
+                float storage = projection.storageGb[row];
+                if (storage == storage) {
+                    cells[offset + sumBase + 3] += storage;
+                    cells[offset + countBase + 3]++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.agenticcp.core.domain.cost.explorer;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "agenticcp.cost.explorer")
+public class CostExplorerProperties {
+
+    // aggregation workers, 0 = available processors
+    private int parallelism = 0;
+
+    private int fetchSize = 5000;
+
+    // distinct tag keys projected as dimensions; keys first seen after the limit are dropped
+    private int maxTagKeys = 256;
+
+    // earliest rebuild after an inventory change
+    private Duration refreshInterval = Duration.ofMinutes(1);
+
+    // rebuild at least this often, to pick up edits that publish no inventory event
+    private Duration maxStaleness = Duration.ofMinutes(15);
+
+    private int defaultLimit = 1000;
+}
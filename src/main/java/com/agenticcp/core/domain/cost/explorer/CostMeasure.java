@@ -0,0 +1,8 @@
+package com.agenticcp.core.domain.cost.explorer;
+
+public enum CostMeasure {
+    COST_PER_HOUR,
+    CPU_CORES,
+    MEMORY_GB,
+    STORAGE_GB
+}
@@ -0,0 +1,134 @@
+package com.agenticcp.core.domain.cost.explorer;
+
+import java.util.Arrays;
+
+/**
+ * 그룹 key(혼합 기수로 합친 차원 코드) 별 행 수와 측정값 합계/개수
+ *
+ * <p>그룹마다 [행 수, 측정값 합계 × 4, 측정값 개수 × 4] 를 한 줄로 이어 두어 행 하나를 누적할 때 대부분 한 캐시
+ * 라인만 건드린다. 가능한 key 공간이 작으면 key 를 그대로 그룹 위치로 쓰고, 크면 (key, 위치) 를 나란히 둔 선형 탐사
+ * 해시로 찾는다. 한 태스크 안에서만 쓰고, 태스크 결과는 {@link #merge} 로 합친다.</p>
+ */
+final class GroupAccumulator {
+
+    static final int DENSE_LIMIT = 1 << 16;
+    static final int MEASURES = CostMeasure.values().length;
+    // row count, then the sums, then the non-null counts of each measure
+    static final int WIDTH = 1 + 2 * MEASURES;
+
+    private static final long EMPTY = -1;
+
+    private final boolean dense;
+    private long[] table;
+    private int tableMask;
+    private long[] keys;
+    double[] cells;
+    private int groups;
+
+    GroupAccumulator(long keySpace) {
+        dense = keySpace <= DENSE_LIMIT;
+        if (dense) {
+            groups = (int) keySpace;
+            cells = new double[groups * WIDTH];
+        } else {
+            table = new long[2048];
+            Arrays.fill(table, EMPTY);
+            tableMask = 1023;
+            keys = new long[256];
+            cells = new double[256 * WIDTH];
+        }
+    }
+
+    /**
+     * @return 그룹 줄의 시작 위치 (cells 배열 기준)
+     */
+    int offsetOf(long key) {
+        if (dense) {
+            return (int) key * WIDTH;
+        }
+        int position = (int) mix(key) & tableMask;
+        while (table[position * 2] != EMPTY) {
+            if (table[position * 2] == key) {
+                return (int) table[position * 2 + 1] * WIDTH;
+            }
+            position = (position + 1) & tableMask;
+        }
+        int slot = newGroup(key);
+        table[position * 2] = key;
+        table[position * 2 + 1] = slot;
+        if (groups * 2 > tableMask) {
+            rehash();
+        }
+        return slot * WIDTH;
+    }
+
+    /**
+     * 그룹 위치 수 (밀집 모드에서는 행이 없는 빈 그룹도 포함)
+     */
+    int slots() {
+        return groups;
+    }
+
+    long keyAt(int slot) {
+        return dense ? slot : keys[slot];
+    }
+
+    long rowCount(int slot) {
+        return (long) cells[slot * WIDTH];
+    }
+
+    double sum(int slot, int measure) {
+        return cells[slot * WIDTH + 1 + measure];
+    }
+
+    long count(int slot, int measure) {
+        return (long) cells[slot * WIDTH + 1 + MEASURES + measure];
+    }
+
+    void merge(GroupAccumulator other) {
+        if (dense) {
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] += other.cells[i];
+            }
+            return;
+        }
+        for (int slot = 0; slot < other.groups; slot++) {
+            int from = slot * WIDTH;
+            int to = offsetOf(other.keys[slot]);
+            for (int i = 0; i < WIDTH; i++) {
+                cells[to + i] += other.cells[from + i];
+            }
+        }
+    }
+
+    private int newGroup(long key) {
+        if (groups == keys.length) {
+            keys = Arrays.copyOf(keys, groups * 2);
+            cells = Arrays.copyOf(cells, groups * 2 * WIDTH);
+        }
+        keys[groups] = key;
+        return groups++;
+    }
+
+    private void rehash() {
+        int size = (tableMask + 1) * 2;
+        table = new long[size * 2];
+        Arrays.fill(table, EMPTY);
+        tableMask = size - 1;
+        for (int slot = 0; slot < groups; slot++) {
+            int position = (int) mix(keys[slot]) & tableMask;
+            while (table[position * 2] != EMPTY) {
+                position = (position + 1) & tableMask;
+            }
+            table[position * 2] = keys[slot];
+            table[position * 2 + 1] = slot;
+        }
+    }
+
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return key;
+    }
+}
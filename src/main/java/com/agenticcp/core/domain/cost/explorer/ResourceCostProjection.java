@@ -0,0 +1,191 @@
+package com.agenticcp.core.domain.cost.explorer;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 리소스 인벤토리의 열 단위 투영 (불변 스냅샷)
+ *
+ * <p>차원은 값 사전 코드로, 측정값은 원시 배열로 행 위치를 맞춰 둔다. 측정값이 없으면 NaN 이다. 태그는 key 마다
+ * 하나의 차원 열을 두며, 서로 다른 key 가 {@code maxTagKeys} 를 넘으면 이후 등장한 key 는 버린다.</p>
+ */
+public final class ResourceCostProjection {
+
+    private final int rows;
+    private final Map<CostDimension, Column> columns;
+    private final Map<String, Column> tagColumns;
+    final double[] costPerHour;
+    final float[] cpuCores;
+    final float[] memoryGb;
+    final float[] storageGb;
+    private final int droppedTagKeys;
+    private final LocalDateTime builtAt;
+
+    record Column(CodeColumn codes, ValueDictionary dictionary) {
+    }
+
+    private ResourceCostProjection(int rows, Map<CostDimension, Column> columns, Map<String, Column> tagColumns,
+                                   double[] costPerHour, float[] cpuCores, float[] memoryGb, float[] storageGb,
+                                   int droppedTagKeys, LocalDateTime builtAt) {
+        this.rows = rows;
+        this.columns = columns;
+        this.tagColumns = tagColumns;
+        this.costPerHour = costPerHour;
+        this.cpuCores = cpuCores;
+        this.memoryGb = memoryGb;
+        this.storageGb = storageGb;
+        this.droppedTagKeys = droppedTagKeys;
+        this.builtAt = builtAt;
+    }
+
+    public static ResourceCostProjection empty() {
+        return builder(0).build(LocalDateTime.now());
+    }
+
+    public static Builder builder(int maxTagKeys) {
+        return new Builder(maxTagKeys);
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int tagKeyCount() {
+        return tagColumns.size();
+    }
+
+    public int droppedTagKeys() {
+        return droppedTagKeys;
+    }
+
+    public LocalDateTime builtAt() {
+        return builtAt;
+    }
+
+    public long sizeInBytes() {
+        long bytes = (long) rows * (Double.BYTES + 3L * Float.BYTES);
+        for (Column column : columns.values()) {
+            bytes += column.codes().sizeInBytes() + column.dictionary().sizeInBytes();
+        }
+        for (Map.Entry<String, Column> entry : tagColumns.entrySet()) {
+            bytes += entry.getValue().codes().sizeInBytes() + entry.getValue().dictionary().sizeInBytes()
+                    + 2L * entry.getKey().length();
+        }
+        return bytes;
+    }
+
+    /**
+     * @return 태그 key 가 투영에 없으면 null
+     */
+    Column column(CostDimension dimension, String tagKey) {
+        return dimension == CostDimension.TAG ? tagColumns.get(tagKey) : columns.get(dimension);
+    }
+
+    public static final class Builder {
+
+        private static final CostDimension[] FIXED_DIMENSIONS = Arrays.stream(CostDimension.values())
+                .filter(dimension -> dimension != CostDimension.TAG)
+                .toArray(CostDimension[]::new);
+
+        private final int maxTagKeys;
+        private final ValueDictionary[] dictionaries = new ValueDictionary[FIXED_DIMENSIONS.length];
+        private final int[][] codes = new int[FIXED_DIMENSIONS.length][];
+        private final Map<String, TagBuilder> tags = new HashMap<>();
+        private double[] costPerHour = new double[1024];
+        private float[] cpuCores = new float[1024];
+        private float[] memoryGb = new float[1024];
+        private float[] storageGb = new float[1024];
+        private int rows;
+        private int droppedTagKeys;
+
+        private Builder(int maxTagKeys) {
+            this.maxTagKeys = maxTagKeys;
+            for (int d = 0; d < FIXED_DIMENSIONS.length; d++) {
+                dictionaries[d] = new ValueDictionary();
+                codes[d] = new int[1024];
+            }
+        }
+
+        /**
+         * @param values {@link CostDimension} 순서(TAG 제외)의 차원 값
+         */
+        public Builder add(String[] values, Double costPerHour, Integer cpuCores, Integer memoryGb, Long storageGb,
+                           Map<String, String> tags) {
+            if (values.length != FIXED_DIMENSIONS.length) {
+                throw new IllegalArgumentException("Expected " + FIXED_DIMENSIONS.length + " dimension values");
+            }
+            ensureCapacity(rows + 1);
+            for (int d = 0; d < FIXED_DIMENSIONS.length; d++) {
+                codes[d][rows] = dictionaries[d].encode(values[d]);
+            }
+            this.costPerHour[rows] = costPerHour != null ? costPerHour : Double.NaN;
+            this.cpuCores[rows] = cpuCores != null ? cpuCores : Float.NaN;
+            this.memoryGb[rows] = memoryGb != null ? memoryGb : Float.NaN;
+            this.storageGb[rows] = storageGb != null ? storageGb : Float.NaN;
+            tags.forEach((key, value) -> {
+                TagBuilder tag = this.tags.get(key);
+                if (tag == null) {
+                    if (this.tags.size() >= maxTagKeys) {
+                        droppedTagKeys++;
+                        return;
+                    }
+                    tag = new TagBuilder();
+                    this.tags.put(key, tag);
+                }
+                tag.add(rows, value);
+            });
+            rows++;
+            return this;
+        }
+
+        public ResourceCostProjection build(LocalDateTime builtAt) {
+            Map<CostDimension, Column> columns = new EnumMap<>(CostDimension.class);
+            for (int d = 0; d < FIXED_DIMENSIONS.length; d++) {
+                columns.put(FIXED_DIMENSIONS[d], new Column(
+                        CodeColumn.dense(codes[d], rows, dictionaries[d].cardinality()), dictionaries[d]));
+            }
+            Map<String, Column> tagColumns = new HashMap<>();
+            tags.forEach((key, tag) -> tagColumns.put(key, new Column(CodeColumn.ofPresent(tag.positions, tag.codes,
+                    tag.size, rows, tag.dictionary.cardinality()), tag.dictionary)));
+            return new ResourceCostProjection(rows, columns, Collections.unmodifiableMap(tagColumns),
+                    Arrays.copyOf(costPerHour, rows), Arrays.copyOf(cpuCores, rows), Arrays.copyOf(memoryGb, rows),
+                    Arrays.copyOf(storageGb, rows), droppedTagKeys, builtAt);
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= costPerHour.length) {
+                return;
+            }
+            int grown = Math.max(required, costPerHour.length + (costPerHour.length >> 1));
+            for (int d = 0; d < FIXED_DIMENSIONS.length; d++) {
+                codes[d] = Arrays.copyOf(codes[d], grown);
+            }
+            costPerHour = Arrays.copyOf(costPerHour, grown);
+            cpuCores = Arrays.copyOf(cpuCores, grown);
+            memoryGb = Arrays.copyOf(memoryGb, grown);
+            storageGb = Arrays.copyOf(storageGb, grown);
+        }
+    }
+
+    private static final class TagBuilder {
+
+        private final ValueDictionary dictionary = new ValueDictionary();
+        private int[] positions = new int[16];
+        private int[] codes = new int[16];
+        private int size;
+
+        private void add(int position, String value) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+                codes = Arrays.copyOf(codes, size * 2);
+            }
+            positions[size] = position;
+            codes[size] = dictionary.encode(value);
+            size++;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.agenticcp.core.domain.cost.explorer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 차원 값 사전. 코드 0 은 값 없음(null)이고 실제 값은 1 부터 등장 순서대로 부여한다.
+ */
+final class ValueDictionary {
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    ValueDictionary() {
+        values.add(null);
+    }
+
+    int encode(String value) {
+        if (value == null) {
+            return 0;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            codes.put(value, code);
+            values.add(value);
+        }
+        return code;
+    }
+
+    /**
+     * @return 사전에 없는 값이면 -1
+     */
+    int lookup(String value) {
+        if (value == null) {
+            return 0;
+        }
+        return codes.getOrDefault(value, -1);
+    }
+
+    String decode(int code) {
+        return values.get(code);
+    }
+
+    /**
+     * 값 없음(0)을 포함한 코드 개수
+     */
+    int cardinality() {
+        return values.size();
+    }
+
+    long sizeInBytes() {
+        long bytes = 0;
+        for (int code = 1; code < values.size(); code++) {
+            // entry, boxed code and the string itself, roughly
+            bytes += 64 + 2L * values.get(code).length();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,24 @@
+package com.agenticcp.core.domain.cost.repository;
+
+import com.agenticcp.core.domain.cost.entity.CostAnomaly;
+import com.agenticcp.core.domain.cost.entity.CostAnomaly.AnomalyStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CostAnomalyRepository extends JpaRepository<CostAnomaly, Long> {
+
+    Optional<CostAnomaly> findFirstByTenantIdAndCloudServiceIdAndStatusOrderByIdDesc(Long tenantId,
+                                                                                     Long cloudServiceId,
+                                                                                     AnomalyStatus status);
+
+    Page<CostAnomaly> findByTenantId(Long tenantId, Pageable pageable);
+
+    Page<CostAnomaly> findByTenantIdAndStatus(Long tenantId, AnomalyStatus status, Pageable pageable);
+
+    Page<CostAnomaly> findByStatus(AnomalyStatus status, Pageable pageable);
+}
@@ -0,0 +1,55 @@
+package com.agenticcp.core.domain.cost.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+
+/**
+ * 비용 탐색기 열 투영 적재용 JDBC 조회 (차원은 key 로 조인, 엔티티 로딩 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CostExplorerRepository {
+
+    private static final String SELECT_PROJECTION_ROWS_SQL =
+            "SELECT t.tenant_key, p.provider_key, rg.region_key, s.service_key, r.resource_type, r.lifecycle_state, " +
+            "r.cost_per_hour, r.cpu_cores, r.memory_gb, r.storage_gb, r.tags " +
+            "FROM cloud_resources r " +
+            "JOIN cloud_providers p ON p.id = r.provider_id " +
+            "JOIN cloud_services s ON s.id = r.service_id " +
+            "LEFT JOIN cloud_regions rg ON rg.id = r.region_id " +
+            "LEFT JOIN tenants t ON t.id = r.tenant_id " +
+            "WHERE r.is_deleted = false";
+
+    private static final int DIMENSION_COLUMNS = 6;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param dimensions 테넌트, 프로바이더, 리전, 서비스, 리소스 유형, 수명주기 상태 순서
+     */
+    public record ProjectionRow(String[] dimensions, BigDecimal costPerHour, Integer cpuCores, Integer memoryGb,
+                                Long storageGb, String tagsJson) {
+    }
+
+    public void streamAll(int fetchSize, Consumer<ProjectionRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_PROJECTION_ROWS_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (ResultSet rs) -> {
+            String[] dimensions = new String[DIMENSION_COLUMNS];
+            for (int i = 0; i < DIMENSION_COLUMNS; i++) {
+                dimensions[i] = rs.getString(i + 1);
+            }
+            consumer.accept(new ProjectionRow(dimensions, rs.getBigDecimal(7), rs.getObject(8, Integer.class),
+                    rs.getObject(9, Integer.class), rs.getObject(10, Long.class), rs.getString(11)));
+        });
+    }
+}
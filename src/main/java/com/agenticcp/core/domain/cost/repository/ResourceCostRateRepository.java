@@ -0,0 +1,62 @@
+package com.agenticcp.core.domain.cost.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * 비용 이력/이상 탐지용 JDBC 조회 (실행 중인 리소스의 시간당 비용만 스트리밍)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ResourceCostRateRepository {
+
+    private static final String SELECT_RUNNING_COST_RATES_SQL =
+            "SELECT id, cost_per_hour FROM cloud_resources " +
+            "WHERE is_deleted = false AND cost_per_hour IS NOT NULL AND lifecycle_state = 'RUNNING'";
+
+    private static final String SELECT_RUNNING_SPEND_BY_SERVICE_SQL =
+            "SELECT tenant_id, service_id, SUM(cost_per_hour) FROM cloud_resources " +
+            "WHERE is_deleted = false AND cost_per_hour IS NOT NULL AND lifecycle_state = 'RUNNING' " +
+            "GROUP BY tenant_id, service_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @FunctionalInterface
+    public interface CostRateConsumer {
+        void accept(long cloudResourceId, double costPerHour);
+    }
+
+    @FunctionalInterface
+    public interface ServiceSpendConsumer {
+        void accept(Long tenantId, long cloudServiceId, double costPerHour);
+    }
+
+    public void streamRunningCostRates(int fetchSize, CostRateConsumer consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_RUNNING_COST_RATES_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (ResultSet rs) -> {
+            consumer.accept(rs.getLong(1), rs.getBigDecimal(2).doubleValue());
+        });
+    }
+
+    /**
+     * 실행 중인 리소스의 시간당 비용 합계를 (테넌트, 서비스)별로 스트리밍한다. 테넌트가 없는 리소스는 tenantId 가 null 이다.
+     */
+    public void streamRunningSpendByService(int fetchSize, ServiceSpendConsumer consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_RUNNING_SPEND_BY_SERVICE_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (ResultSet rs) -> {
+            consumer.accept(rs.getObject(1, Long.class), rs.getLong(2), rs.getBigDecimal(3).doubleValue());
+        });
+    }
+}
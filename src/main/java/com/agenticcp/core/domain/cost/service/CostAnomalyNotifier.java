@@ -0,0 +1,87 @@
+package com.agenticcp.core.domain.cost.service;
+
+import com.agenticcp.core.domain.cloud.entity.CloudService;
+import com.agenticcp.core.domain.cloud.repository.CloudServiceRepository;
+import com.agenticcp.core.domain.cost.dto.CostAnomalyAlert;
+import com.agenticcp.core.domain.cost.event.CostAnomalyDetectedEvent;
+import com.agenticcp.core.domain.tenant.entity.Tenant;
+import com.agenticcp.core.domain.tenant.repository.TenantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class CostAnomalyNotifier {
+
+    private final ObjectProvider<JavaMailSender> mailSenderProvider;
+    private final TenantRepository tenantRepository;
+    private final CloudServiceRepository cloudServiceRepository;
+    private final String mailFrom;
+
+    public CostAnomalyNotifier(ObjectProvider<JavaMailSender> mailSenderProvider,
+                               TenantRepository tenantRepository,
+                               CloudServiceRepository cloudServiceRepository,
+                               @Value("${agenticcp.cost.anomaly.mail-from:billing@agenticcp.com}") String mailFrom) {
+        this.mailSenderProvider = mailSenderProvider;
+        this.tenantRepository = tenantRepository;
+        this.cloudServiceRepository = cloudServiceRepository;
+        this.mailFrom = mailFrom;
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onCostAnomalyDetected(CostAnomalyDetectedEvent event) {
+        Map<Long, String> serviceNames = cloudServiceRepository.findAllById(event.anomalies().stream()
+                        .map(CostAnomalyAlert::cloudServiceId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(CloudService::getId, CloudService::getServiceName));
+        Map<Long, Tenant> tenants = tenantRepository.findAllById(event.anomalies().stream()
+                        .map(CostAnomalyAlert::tenantId).filter(Objects::nonNull).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Tenant::getId, Function.identity()));
+        event.anomalies().stream()
+                .filter(anomaly -> anomaly.tenantId() != null)
+                .collect(Collectors.groupingBy(CostAnomalyAlert::tenantId))
+                .forEach((tenantId, anomalies) -> notifyTenant(tenants.get(tenantId), anomalies, serviceNames));
+    }
+
+    private void notifyTenant(Tenant tenant, List<CostAnomalyAlert> anomalies, Map<Long, String> serviceNames) {
+        if (tenant == null) {
+            return;
+        }
+        String text = anomalies.stream()
+                .map(anomaly -> String.format("%s: 시간당 %s (예상 %s, %s 부터)",
+                        serviceNames.getOrDefault(anomaly.cloudServiceId(), "service " + anomaly.cloudServiceId()),
+                        anomaly.observedCostPerHour().stripTrailingZeros().toPlainString(),
+                        anomaly.expectedCostPerHour().stripTrailingZeros().toPlainString(), anomaly.hourStart()))
+                .collect(Collectors.joining("\n"));
+        log.info("Cost anomaly for tenant {}: {}", tenant.getTenantKey(), text.replace('\n', ';'));
+
+        JavaMailSender mailSender = mailSenderProvider.getIfAvailable();
+        if (mailSender == null || tenant.getContactEmail() == null) {
+            return;
+        }
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(mailFrom);
+        message.setTo(tenant.getContactEmail());
+        message.setSubject("[AgenticCP] 비용이 평소보다 크게 증가했습니다");
+        message.setText(text);
+        try {
+            mailSender.send(message);
+        } catch (MailException e) {
+            log.warn("Failed to send cost anomaly notification to tenant {}: {}", tenant.getTenantKey(),
+                    e.getMessage());
+        }
+    }
+}
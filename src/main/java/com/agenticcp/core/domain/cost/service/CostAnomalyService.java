@@ -0,0 +1,182 @@
+package com.agenticcp.core.domain.cost.service;
+
+import com.agenticcp.core.domain.cost.anomaly.CostAnomalyDetector;
+import com.agenticcp.core.domain.cost.anomaly.CostAnomalyDetector.Signal;
+import com.agenticcp.core.domain.cost.anomaly.CostAnomalyDetector.Transition;
+import com.agenticcp.core.domain.cost.anomaly.CostAnomalyProperties;
+import com.agenticcp.core.domain.cost.dto.CostAnomalyAlert;
+import com.agenticcp.core.domain.cost.entity.CostAnomaly;
+import com.agenticcp.core.domain.cost.entity.CostAnomaly.AnomalyStatus;
+import com.agenticcp.core.domain.cost.event.CostAnomalyDetectedEvent;
+import com.agenticcp.core.domain.cost.repository.CostAnomalyRepository;
+import com.agenticcp.core.domain.cost.repository.ResourceCostRateRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테넌트×서비스별 시간당 비용 이상 탐지
+ *
+ * <p>매 정시에 실행 중인 리소스의 {@code cost_per_hour} 합계를 (테넌트, 서비스)별로 한 번 스트리밍해
+ * {@link CostAnomalyDetector} 에 관측으로 넣고, 추적 중이지만 실행 중인 리소스가 없어진 시리즈는 0 으로 관측한다.
+ * 이상 구간에 들어간 시리즈는 {@code cost_anomalies} 에 OPEN 으로 기록하고 {@link CostAnomalyDetectedEvent} 를
+ * 발행하며, 정상으로 돌아오거나 오래 지출이 없어 메모리에서 지워지면 RESOLVED 로 닫는다. 기준선 상태는 매 실행
+ * 후와 종료 시 파일로 체크포인트해 재기동 시 학습 구간 없이 이어서 탐지한다.</p>
+ */
+@Slf4j
+@Service
+public class CostAnomalyService {
+
+    private static final long HOUR_SECONDS = TimeUnit.HOURS.toSeconds(1);
+
+    private final ResourceCostRateRepository costRateRepository;
+    private final CostAnomalyRepository anomalyRepository;
+    private final CostAnomalyProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final CostAnomalyDetector detector;
+    private final Path checkpointPath;
+
+    public CostAnomalyService(ResourceCostRateRepository costRateRepository,
+                              CostAnomalyRepository anomalyRepository,
+                              CostAnomalyProperties properties,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager) {
+        this.costRateRepository = costRateRepository;
+        this.anomalyRepository = anomalyRepository;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.detector = new CostAnomalyDetector(properties);
+        this.checkpointPath = Path.of(properties.getCheckpointPath());
+        restoreCheckpoint();
+    }
+
+    @Scheduled(cron = "${agenticcp.cost.anomaly.cron:0 0 * * * *}")
+    public void detectHourly() {
+        if (properties.isEnabled()) {
+            observeHour(Math.floorDiv(System.currentTimeMillis() / 1000, HOUR_SECONDS));
+        }
+    }
+
+    /**
+     * 한 시간 구간의 지출을 관측한다. 이미 관측한 시간이면 아무 일도 하지 않는다.
+     */
+    public synchronized void observeHour(long epochHour) {
+        long startedAt = System.nanoTime();
+        List<Signal> signals = new ArrayList<>();
+        int[] observed = new int[1];
+        costRateRepository.streamRunningSpendByService(properties.getFetchSize(),
+                (tenantId, cloudServiceId, costPerHour) -> {
+                    observed[0]++;
+                    Signal signal = detector.observe(tenantId, cloudServiceId, epochHour, costPerHour);
+                    if (signal != null) {
+                        signals.add(signal);
+                    }
+                });
+        int absent = detector.observeAbsent(epochHour, signals);
+        int evicted = detector.evictIdle(epochHour - properties.getIdleEviction().toHours(), epochHour, signals);
+        if (!signals.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> record(signals));
+        }
+        writeCheckpoint();
+        log.info("Observed hourly spend of {} tenant/service series ({} without spend, {} signal(s), {} evicted) "
+                + "in {} ms", observed[0], absent, signals.size(), evicted,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    public Page<CostAnomaly> getAnomalies(Long tenantId, AnomalyStatus status, Pageable pageable) {
+        if (tenantId != null) {
+            return status != null
+                    ? anomalyRepository.findByTenantIdAndStatus(tenantId, status, pageable)
+                    : anomalyRepository.findByTenantId(tenantId, pageable);
+        }
+        return status != null ? anomalyRepository.findByStatus(status, pageable) : anomalyRepository.findAll(pageable);
+    }
+
+    public CostAnomalyDetector.Stats getDetectorStats() {
+        return detector.getStats();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeCheckpoint();
+    }
+
+    private void record(List<Signal> signals) {
+        List<CostAnomalyAlert> opened = new ArrayList<>();
+        for (Signal signal : signals) {
+            CostAnomaly open = anomalyRepository.findFirstByTenantIdAndCloudServiceIdAndStatusOrderByIdDesc(
+                    signal.tenantId(), signal.cloudServiceId(), AnomalyStatus.OPEN).orElse(null);
+            LocalDateTime hourStart = LocalDateTime.ofInstant(
+                    Instant.ofEpochSecond(signal.epochHour() * HOUR_SECONDS), ZoneId.systemDefault());
+            if (signal.transition() == Transition.RESOLVED) {
+                if (open != null) {
+                    open.setStatus(AnomalyStatus.RESOLVED);
+                    open.setResolvedAt(hourStart);
+                }
+                continue;
+            }
+            if (open != null) {
+                continue; // replay of an hour after a restart from an older checkpoint
+            }
+            CostAnomaly anomaly = anomalyRepository.save(CostAnomaly.builder()
+                    .tenantId(signal.tenantId())
+                    .cloudServiceId(signal.cloudServiceId())
+                    .hourStart(hourStart)
+                    .observedCostPerHour(toAmount(signal.observed()))
+                    .expectedCostPerHour(toAmount(signal.expected()))
+                    .deviationScore(signal.zScore())
+                    .build());
+            opened.add(new CostAnomalyAlert(anomaly.getId(), anomaly.getTenantId(), anomaly.getCloudServiceId(),
+                    hourStart, anomaly.getObservedCostPerHour(), anomaly.getExpectedCostPerHour(),
+                    anomaly.getDeviationScore()));
+        }
+        if (!opened.isEmpty()) {
+            log.warn("Detected {} cost anomal(ies) for hour {}", opened.size(), opened.get(0).hourStart());
+            eventPublisher.publishEvent(new CostAnomalyDetectedEvent(opened));
+        }
+    }
+
+    private void restoreCheckpoint() {
+        if (!Files.exists(checkpointPath)) {
+            return;
+        }
+        try {
+            int restored = detector.readCheckpoint(checkpointPath);
+            log.info("Restored {} cost baseline series from {}", restored, checkpointPath);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable cost baseline checkpoint {}: {}", checkpointPath, e.getMessage());
+        }
+    }
+
+    private void writeCheckpoint() {
+        try {
+            detector.writeCheckpoint(checkpointPath);
+        } catch (IOException e) {
+            log.warn("Failed to write cost baseline checkpoint {}: {}", checkpointPath, e.getMessage());
+        }
+    }
+
+    private static BigDecimal toAmount(double value) {
+        return BigDecimal.valueOf(value).setScale(6, RoundingMode.HALF_UP);
+    }
+}
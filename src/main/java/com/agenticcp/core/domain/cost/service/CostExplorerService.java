@@ -0,0 +1,235 @@
+package com.agenticcp.core.domain.cost.service;
+
+import com.agenticcp.core.common.exception.BusinessException;
+import com.agenticcp.core.common.exception.ValidationException;
+import com.agenticcp.core.domain.cloud.event.InventoryChangedEvent;
+import com.agenticcp.core.domain.cost.dto.CostExplorerQuery;
+import com.agenticcp.core.domain.cost.dto.CostExplorerResponse;
+import com.agenticcp.core.domain.cost.dto.CostExplorerStatus;
+import com.agenticcp.core.domain.cost.explorer.CostDimension;
+import com.agenticcp.core.domain.cost.explorer.CostExplorerEngine;
+import com.agenticcp.core.domain.cost.explorer.CostExplorerProperties;
+import com.agenticcp.core.domain.cost.explorer.CostMeasure;
+import com.agenticcp.core.domain.cost.explorer.ResourceCostProjection;
+import com.agenticcp.core.domain.cost.repository.CostExplorerRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비용 탐색기 (리소스 인벤토리 group-by 집계)
+ *
+ * <p>기동 시 전체 리소스를 스트리밍으로 읽어 {@link ResourceCostProjection} 을 만들고, 이후에는 인벤토리 변경 이벤트가
+ * 있으면 {@code refresh-interval} 마다, 없어도 {@code max-staleness} 마다 새 투영으로 통째로 교체한다. 조회는 교체
+ * 시점의 스냅샷 하나만 읽으므로 잠금이 없고, 응답의 {@code asOf} 로 데이터 시점을 알려 준다.</p>
+ */
+@Slf4j
+@Service
+public class CostExplorerService {
+
+    private static final String TAG_PREFIX = "TAG:";
+    private static final String SORT_BY_COUNT = "COUNT";
+    private static final TypeReference<Map<String, String>> TAGS_TYPE = new TypeReference<>() {
+    };
+
+    private final CostExplorerRepository explorerRepository;
+    private final CostExplorerProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool pool;
+    private final CostExplorerEngine engine;
+
+    private volatile ResourceCostProjection projection = ResourceCostProjection.empty();
+    private volatile boolean ready;
+    private volatile boolean dirty;
+    private volatile long buildMillis;
+
+    public CostExplorerService(CostExplorerRepository explorerRepository,
+                               CostExplorerProperties properties,
+                               ObjectMapper objectMapper) {
+        this.explorerRepository = explorerRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism() : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("cost-explorer-" + threadNumber.incrementAndGet());
+            return thread;
+        }, null, false);
+        this.engine = new CostExplorerEngine(pool);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        dirty = true;
+    }
+
+    @Scheduled(fixedDelayString = "${agenticcp.cost.explorer.refresh-interval:PT1M}",
+            initialDelayString = "${agenticcp.cost.explorer.refresh-interval:PT1M}")
+    public void refreshIfStale() {
+        if (!ready) {
+            return;
+        }
+        Duration age = Duration.between(projection.builtAt(), LocalDateTime.now());
+        if ((dirty && age.compareTo(properties.getRefreshInterval()) >= 0)
+                || age.compareTo(properties.getMaxStaleness()) >= 0) {
+            rebuild();
+        }
+    }
+
+    public synchronized void rebuild() {
+        long startNanos = System.nanoTime();
+        dirty = false;
+        try {
+            ResourceCostProjection.Builder builder = ResourceCostProjection.builder(properties.getMaxTagKeys());
+            explorerRepository.streamAll(properties.getFetchSize(), row -> builder.add(row.dimensions(),
+                    row.costPerHour() != null ? row.costPerHour().doubleValue() : null,
+                    row.cpuCores(), row.memoryGb(), row.storageGb(), parseTags(row.tagsJson())));
+            projection = builder.build(LocalDateTime.now());
+            ready = true;
+        } catch (Exception e) {
+            dirty = true;
+            log.error("Failed to rebuild cost explorer projection", e);
+            return;
+        }
+        buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        log.info("Rebuilt cost explorer projection with {} resources and {} tag key(s) ({} bytes) in {} ms",
+                projection.rows(), projection.tagKeyCount(), projection.sizeInBytes(), buildMillis);
+    }
+
+    public CostExplorerResponse query(CostExplorerQuery request) {
+        if (!ready) {
+            throw new BusinessException("Cost explorer is still loading", "COST_EXPLORER_NOT_READY",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        List<String> groupBy = request.getGroupBy() != null ? request.getGroupBy() : List.of();
+        List<CostExplorerEngine.Dimension> dimensions = new ArrayList<>(groupBy.size());
+        for (String key : groupBy) {
+            dimensions.add(parseDimension("groupBy", key));
+        }
+        List<CostExplorerEngine.Filter> filters = new ArrayList<>();
+        if (request.getFilters() != null) {
+            request.getFilters().forEach((key, values) -> {
+                if (values != null && !values.isEmpty()) {
+                    filters.add(new CostExplorerEngine.Filter(parseDimension("filters", key), new HashSet<>(values)));
+                }
+            });
+        }
+        CostMeasure sortBy = parseSortBy(request.getSortBy());
+        int limit = request.getLimit() != null ? request.getLimit() : properties.getDefaultLimit();
+
+        ResourceCostProjection current = projection;
+        long startNanos = System.nanoTime();
+        CostExplorerEngine.Result result;
+        try {
+            result = engine.aggregate(current, new CostExplorerEngine.Query(dimensions, filters, sortBy, limit));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("groupBy", e.getMessage());
+        }
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+
+        List<CostExplorerResponse.Group> groups = new ArrayList<>(result.groups().size());
+        for (CostExplorerEngine.Group group : result.groups()) {
+            Map<String, String> keys = new LinkedHashMap<>();
+            for (int d = 0; d < groupBy.size(); d++) {
+                keys.put(groupBy.get(d), group.values().get(d));
+            }
+            Map<CostMeasure, CostExplorerResponse.Measure> measures = new EnumMap<>(CostMeasure.class);
+            for (CostMeasure measure : CostMeasure.values()) {
+                double sum = group.sums()[measure.ordinal()];
+                long count = group.counts()[measure.ordinal()];
+                measures.put(measure, new CostExplorerResponse.Measure(sum, count > 0 ? sum / count : null, count));
+            }
+            groups.add(new CostExplorerResponse.Group(keys, group.count(), measures));
+        }
+        return new CostExplorerResponse(current.builtAt(), result.matchedRows(), result.totalGroups(), elapsedMicros,
+                groups);
+    }
+
+    public CostExplorerStatus getStatus() {
+        ResourceCostProjection current = projection;
+        return new CostExplorerStatus(ready, ready ? current.builtAt() : null, buildMillis, current.rows(),
+                current.tagKeyCount(), current.droppedTagKeys(), current.sizeInBytes());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static CostExplorerEngine.Dimension parseDimension(String field, String key) {
+        if (key == null || key.isBlank()) {
+            throw new ValidationException(field, "Dimension must not be blank");
+        }
+        if (key.regionMatches(true, 0, TAG_PREFIX, 0, TAG_PREFIX.length())) {
+            String tagKey = key.substring(TAG_PREFIX.length());
+            if (tagKey.isEmpty()) {
+                throw new ValidationException(field, "Tag dimension needs a key, e.g. TAG:env");
+            }
+            return new CostExplorerEngine.Dimension(CostDimension.TAG, tagKey);
+        }
+        try {
+            CostDimension dimension = CostDimension.valueOf(key.toUpperCase(Locale.ROOT));
+            if (dimension == CostDimension.TAG) {
+                throw new ValidationException(field, "Tag dimension needs a key, e.g. TAG:env");
+            }
+            return new CostExplorerEngine.Dimension(dimension, null);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException(field, "Unknown dimension: " + key);
+        }
+    }
+
+    private static CostMeasure parseSortBy(String sortBy) {
+        if (sortBy == null || sortBy.isBlank()) {
+            return CostMeasure.COST_PER_HOUR;
+        }
+        if (SORT_BY_COUNT.equalsIgnoreCase(sortBy)) {
+            return null;
+        }
+        try {
+            return CostMeasure.valueOf(sortBy.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("sortBy", "Unknown sort measure: " + sortBy);
+        }
+    }
+
+    private Map<String, String> parseTags(String tagsJson) {
+        if (tagsJson == null || tagsJson.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(tagsJson, TAGS_TYPE);
+        } catch (JsonProcessingException e) {
+            return Map.of(); // already reported by the inventory index
+        }
+    }
+}
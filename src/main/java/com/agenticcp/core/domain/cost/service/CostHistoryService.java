@@ -0,0 +1,75 @@
+package com.agenticcp.core.domain.cost.service;
+
+import com.agenticcp.core.common.exception.ValidationException;
+import com.agenticcp.core.common.timeseries.TimeSeriesPoint;
+import com.agenticcp.core.common.timeseries.TimeSeriesStore;
+import com.agenticcp.core.common.timeseries.TimeSeriesStores;
+import com.agenticcp.core.domain.cost.dto.CostHistoryResponse;
+import com.agenticcp.core.domain.cost.repository.ResourceCostRateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리소스별 시간당 비용 이력
+ *
+ * <p>매 정시에 실행 중인 리소스의 {@code cost_per_hour} 를 시계열 저장소("costs")에 한 점씩 기록한다. 값이 거의
+ * 바뀌지 않으므로 XOR 압축으로 점당 몇 비트만 차지한다. 같은 정시에 다시 실행해도 중복 기록되지 않는다.</p>
+ */
+@Slf4j
+@Service
+public class CostHistoryService {
+
+    private static final String STORE_NAME = "costs";
+    private static final long HOUR_SECONDS = TimeUnit.HOURS.toSeconds(1);
+
+    private final ResourceCostRateRepository costRateRepository;
+    private final TimeSeriesStore store;
+    private final int fetchSize;
+
+    public CostHistoryService(ResourceCostRateRepository costRateRepository,
+                              TimeSeriesStores timeSeriesStores,
+                              @Value("${agenticcp.cost.history.fetch-size:1000}") int fetchSize) {
+        this.costRateRepository = costRateRepository;
+        this.store = timeSeriesStores.open(STORE_NAME, 1);
+        this.fetchSize = fetchSize;
+    }
+
+    @Scheduled(cron = "${agenticcp.cost.history.cron:0 0 * * * *}")
+    public void recordHourlyCosts() {
+        long hour = Math.floorDiv(System.currentTimeMillis() / 1000, HOUR_SECONDS) * HOUR_SECONDS;
+        int[] recorded = new int[1];
+        costRateRepository.streamRunningCostRates(fetchSize, (cloudResourceId, costPerHour) -> {
+            if (store.append(cloudResourceId, hour, costPerHour)) {
+                recorded[0]++;
+            }
+        });
+        log.info("Recorded hourly cost for {} resource(s) at {}", recorded[0], Instant.ofEpochSecond(hour));
+    }
+
+    public CostHistoryResponse getHistory(Long cloudResourceId, LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            throw new ValidationException("from", "must not be after 'to'");
+        }
+        ZoneId zone = ZoneId.systemDefault();
+        List<TimeSeriesPoint> stored = store.query(cloudResourceId,
+                from.atZone(zone).toEpochSecond(), to.atZone(zone).toEpochSecond());
+        List<CostHistoryResponse.Point> points = new ArrayList<>(stored.size());
+        for (TimeSeriesPoint point : stored) {
+            points.add(new CostHistoryResponse.Point(
+                    LocalDateTime.ofInstant(Instant.ofEpochSecond(point.epochSecond()), zone), point.values()[0]));
+        }
+        return CostHistoryResponse.builder()
+                .cloudResourceId(cloudResourceId)
+                .points(points)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.agenticcp.core.domain.monitoring.controller;
+
+import com.agenticcp.core.common.dto.ApiResponse;
+import com.agenticcp.core.common.timeseries.TimeSeriesStoreStats;
+import com.agenticcp.core.domain.monitoring.dto.MetricIngestResponse;
+import com.agenticcp.core.domain.monitoring.dto.MetricIngestStatus;
+import com.agenticcp.core.domain.monitoring.dto.MetricSampleBatch;
+import com.agenticcp.core.domain.monitoring.dto.MetricSeriesResponse;
+import com.agenticcp.core.domain.monitoring.entity.ResourceMetricRollup;
+import com.agenticcp.core.domain.monitoring.ingest.MetricIngestPipeline;
+import com.agenticcp.core.domain.monitoring.ingest.MetricSampleCodec;
+import com.agenticcp.core.domain.monitoring.service.ResourceMetricService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/monitoring/metrics")
+@RequiredArgsConstructor
+@Tag(name = "Resource Metrics", description = "리소스 사용률 메트릭 수집/조회 API")
+public class ResourceMetricController {
+
+    // seconds clients should wait before resending a rejected batch
+    private static final String THROTTLED_RETRY_AFTER = "1";
+    private static final String UNAVAILABLE_RETRY_AFTER = "10";
+
+    private final ResourceMetricService resourceMetricService;
+
+    @PostMapping(value = "/samples", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "사용률 샘플 배치 수집 (컬럼 형식 JSON)")
+    public ResponseEntity<ApiResponse<MetricIngestResponse>> ingestSamples(@RequestBody MetricSampleBatch batch) {
+        return toResponse(batch.size(), resourceMetricService.ingest(batch));
+    }
+
+    @PostMapping(value = "/samples", consumes = MetricSampleCodec.CONTENT_TYPE)
+    @Operation(summary = "사용률 샘플 배치 수집 (바이너리 형식)")
+    public ResponseEntity<ApiResponse<MetricIngestResponse>> ingestBinarySamples(@RequestBody byte[] body) {
+        MetricSampleBatch batch = MetricSampleCodec.decode(body);
+        return toResponse(batch.size(), resourceMetricService.ingest(batch));
+    }
+
+    @GetMapping("/resources/{cloudResourceId}/rollups")
+    @Operation(summary = "리소스 메트릭 1분 롤업 조회")
+    public ResponseEntity<ApiResponse<List<ResourceMetricRollup>>> getRollups(
+            @PathVariable Long cloudResourceId,
+            @RequestParam ResourceMetricRollup.UtilizationMetric metric,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(ApiResponse.success(
+                resourceMetricService.getRollups(cloudResourceId, metric, from, to)));
+    }
+
+    @GetMapping("/resources/{cloudResourceId}/series")
+    @Operation(summary = "리소스 메트릭 시계열 조회 (압축 저장소)")
+    public ResponseEntity<ApiResponse<MetricSeriesResponse>> getSeries(
+            @PathVariable Long cloudResourceId,
+            @RequestParam ResourceMetricRollup.UtilizationMetric metric,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(ApiResponse.success(
+                resourceMetricService.getSeries(cloudResourceId, metric, from, to)));
+    }
+
+    @GetMapping("/storage/stats")
+    @Operation(summary = "시계열 저장소 용량/압축률 조회")
+    public ResponseEntity<ApiResponse<List<TimeSeriesStoreStats>>> getStorageStats() {
+        return ResponseEntity.ok(ApiResponse.success(resourceMetricService.getStorageStats()));
+    }
+
+    @GetMapping("/ingest/status")
+    @Operation(summary = "메트릭 수집 파이프라인 상태 조회")
+    public ResponseEntity<ApiResponse<MetricIngestStatus>> getIngestStatus() {
+        return ResponseEntity.ok(ApiResponse.success(resourceMetricService.getIngestStatus()));
+    }
+
+    private static ResponseEntity<ApiResponse<MetricIngestResponse>> toResponse(int count,
+                                                                                MetricIngestPipeline.Outcome outcome) {
+        return switch (outcome) {
+            case ACCEPTED -> ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success(new MetricIngestResponse(count, 0)));
+            case THROTTLED -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, THROTTLED_RETRY_AFTER)
+                    .body(ApiResponse.<MetricIngestResponse>builder()
+                            .success(false)
+                            .message("Metric ingest buffer is full")
+                            .errorCode("METRIC_INGEST_THROTTLED")
+                            .data(new MetricIngestResponse(0, count))
+                            .timestamp(LocalDateTime.now())
+                            .build());
+            case UNAVAILABLE -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, UNAVAILABLE_RETRY_AFTER)
+                    .body(ApiResponse.<MetricIngestResponse>builder()
+                            .success(false)
+                            .message("Metric storage is unavailable")
+                            .errorCode("METRIC_INGEST_UNAVAILABLE")
+                            .data(new MetricIngestResponse(0, count))
+                            .timestamp(LocalDateTime.now())
+                            .build());
+        };
+    }
+}
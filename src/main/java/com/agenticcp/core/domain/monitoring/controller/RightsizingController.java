@@ -0,0 +1,59 @@
+package com.agenticcp.core.domain.monitoring.controller;
+
+import com.agenticcp.core.common.dto.ApiResponse;
+import com.agenticcp.core.domain.monitoring.dto.RightsizingRunStatus;
+import com.agenticcp.core.domain.monitoring.entity.RightsizingRecommendation;
+import com.agenticcp.core.domain.monitoring.entity.RightsizingRecommendation.Finding;
+import com.agenticcp.core.domain.monitoring.service.RightsizingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/monitoring/rightsizing")
+@RequiredArgsConstructor
+@Tag(name = "Rightsizing", description = "유휴/과다 할당 리소스 분석 API")
+public class RightsizingController {
+
+    private final RightsizingService rightsizingService;
+
+    @GetMapping("/recommendations")
+    @Operation(summary = "리사이징 추천 목록 조회 (예상 절감액 내림차순)")
+    public ResponseEntity<ApiResponse<Page<RightsizingRecommendation>>> getRecommendations(
+            @RequestParam(required = false) Long tenantId,
+            @RequestParam(required = false) Set<Finding> findings,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(rightsizingService.getRecommendations(tenantId, findings,
+                PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "estimatedMonthlySaving")
+                        .and(Sort.by("id"))))));
+    }
+
+    @GetMapping("/recommendations/resources/{cloudResourceId}")
+    @Operation(summary = "리소스별 리사이징 추천 조회")
+    public ResponseEntity<ApiResponse<RightsizingRecommendation>> getRecommendation(
+            @PathVariable Long cloudResourceId) {
+        return ResponseEntity.ok(ApiResponse.success(rightsizingService.getRecommendation(cloudResourceId)));
+    }
+
+    @PostMapping("/runs")
+    @Operation(summary = "리사이징 분석 실행")
+    public ResponseEntity<ApiResponse<RightsizingRunStatus>> startRun() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(rightsizingService.startRun()));
+    }
+
+    @GetMapping("/runs/latest")
+    @Operation(summary = "리사이징 분석 실행 상태 및 최근 결과 조회")
+    public ResponseEntity<ApiResponse<RightsizingRunStatus>> getRunStatus() {
+        return ResponseEntity.ok(ApiResponse.success(rightsizingService.getRunStatus()));
+    }
+}
@@ -0,0 +1,16 @@
+package com.agenticcp.core.domain.monitoring.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricIngestResponse {
+
+    private int accepted;
+    private int rejected;
+}
@@ -0,0 +1,24 @@
+package com.agenticcp.core.domain.monitoring.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricIngestStatus {
+
+    private boolean running;
+    private boolean storageHealthy;
+    private int ringCapacity;
+    private long ringSize;
+    private int openBuckets;
+    private long openSeries;
+    private int queuedBuckets;
+    private long droppedLate;
+    private long droppedFuture;
+    private long droppedOverflow;
+}
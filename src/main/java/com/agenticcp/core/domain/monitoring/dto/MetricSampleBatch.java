@@ -0,0 +1,29 @@
+package com.agenticcp.core.domain.monitoring.dto;
+
+import com.agenticcp.core.domain.monitoring.entity.ResourceMetricRollup.UtilizationMetric;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 컬럼 형식 샘플 배치. 같은 인덱스의 원소들이 하나의 샘플을 이룬다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricSampleBatch {
+
+    private long[] resourceIds;     // CloudResource.id
+
+    private UtilizationMetric[] metrics;
+
+    private long[] timestamps;      // epoch seconds
+
+    private float[] values;         // utilization percent
+
+    public int size() {
+        return resourceIds != null ? resourceIds.length : 0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.agenticcp.core.domain.monitoring.dto;
+
+import com.agenticcp.core.domain.monitoring.entity.ResourceMetricRollup.UtilizationMetric;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricSeriesResponse {
+
+    private Long cloudResourceId;
+    private UtilizationMetric metric;
+    private List<Point> points;
+
+    public record Point(LocalDateTime timestamp, double average, double max) {
+    }
+}
@@ -0,0 +1,4 @@
+package com.agenticcp.core.domain.monitoring.dto;
+
+public record RightsizingRunStatus(boolean running, RightsizingRunSummary lastRun) {
+}
@@ -0,0 +1,16 @@
+package com.agenticcp.core.domain.monitoring.dto;
+
+import com.agenticcp.core.domain.monitoring.entity.RightsizingRecommendation.Finding;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record RightsizingRunSummary(LocalDateTime startedAt,
+                                    LocalDateTime finishedAt,
+                                    int tenants,
+                                    int failedTenants,
+                                    long scannedResources,
+                                    long rescoredResources,
+                                    int removedRecommendations,
+                                    Map<Finding, Long> rescoredByFinding) {
+}
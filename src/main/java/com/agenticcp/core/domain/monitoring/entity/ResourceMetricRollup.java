@@ -0,0 +1,54 @@
+package com.agenticcp.core.domain.monitoring.entity;
+
+import com.agenticcp.core.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "resource_metric_rollups", indexes = {
+    @Index(name = "uk_resource_metric_rollup", columnList = "cloud_resource_id, metric, bucket_start", unique = true)
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceMetricRollup extends BaseEntity {
+
+    @Column(name = "cloud_resource_id", nullable = false)
+    private Long cloudResourceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "metric", nullable = false, length = 20)
+    private UtilizationMetric metric;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart; // start of the one-minute bucket (UTC)
+
+    @Column(name = "sample_count", nullable = false)
+    private Integer sampleCount;
+
+    @Column(name = "sum_value", nullable = false)
+    private Double sumValue;
+
+    @Column(name = "min_value", nullable = false)
+    private Float minValue;
+
+    @Column(name = "max_value", nullable = false)
+    private Float maxValue;
+
+    public enum UtilizationMetric {
+        CPU,
+        MEMORY,
+        NETWORK,
+        DISK
+    }
+
+    public double getAverage() {
+        return sampleCount > 0 ? sumValue / sampleCount : 0;
+    }
+}
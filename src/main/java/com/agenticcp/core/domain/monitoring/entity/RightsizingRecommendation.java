@@ -0,0 +1,77 @@
+package com.agenticcp.core.domain.monitoring.entity;
+
+import com.agenticcp.core.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "rightsizing_recommendations", indexes = {
+    @Index(name = "uk_rightsizing_resource", columnList = "cloud_resource_id", unique = true),
+    @Index(name = "idx_rightsizing_tenant_finding", columnList = "tenant_id, finding, estimated_monthly_saving"),
+    @Index(name = "idx_rightsizing_finding_saving", columnList = "finding, estimated_monthly_saving")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RightsizingRecommendation extends BaseEntity {
+
+    @Column(name = "cloud_resource_id", nullable = false)
+    private Long cloudResourceId;
+
+    @Column(name = "tenant_id")
+    private Long tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "finding", nullable = false, length = 20)
+    private Finding finding;
+
+    @Column(name = "instance_type")
+    private String instanceType;
+
+    @Column(name = "cpu_cores")
+    private Integer cpuCores;
+
+    @Column(name = "memory_gb")
+    private Integer memoryGb;
+
+    @Column(name = "cost_per_hour", precision = 19, scale = 6)
+    private BigDecimal costPerHour;
+
+    @Column(name = "cpu_p95")
+    private Double cpuP95;
+
+    @Column(name = "cpu_peak")
+    private Double cpuPeak;
+
+    @Column(name = "memory_p95")
+    private Double memoryP95;
+
+    @Column(name = "recommended_cpu_cores")
+    private Integer recommendedCpuCores;
+
+    @Column(name = "recommended_memory_gb")
+    private Integer recommendedMemoryGb;
+
+    @Column(name = "estimated_monthly_saving", precision = 19, scale = 2)
+    private BigDecimal estimatedMonthlySaving;
+
+    @Column(name = "metrics_through")
+    private LocalDateTime metricsThrough; // last utilization point included in the score
+
+    @Column(name = "scored_at", nullable = false)
+    private LocalDateTime scoredAt;
+
+    public enum Finding {
+        IDLE,
+        OVERSIZED,
+        OPTIMAL,
+        INSUFFICIENT_DATA
+    }
+}
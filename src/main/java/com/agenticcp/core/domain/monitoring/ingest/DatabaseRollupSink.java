@@ -0,0 +1,25 @@
+package com.agenticcp.core.domain.monitoring.ingest;
+
+import com.agenticcp.core.domain.monitoring.repository.MetricRollupBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 1분 롤업을 {@code resource_metric_rollups} 테이블에 병합 upsert 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "agenticcp.monitoring.ingest", name = "storage", havingValue = "database")
+public class DatabaseRollupSink implements MetricRollupSink {
+
+    private final MetricRollupBatchRepository batchRepository;
+    private final MetricIngestProperties properties;
+
+    @Override
+    public void write(List<MetricRollup> rollups) {
+        batchRepository.upsert(rollups, properties.getFlushBatchSize());
+    }
+}
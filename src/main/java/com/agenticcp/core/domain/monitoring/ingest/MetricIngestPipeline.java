@@ -0,0 +1,354 @@
+package com.agenticcp.core.domain.monitoring.ingest;
+
+import com.agenticcp.core.domain.monitoring.dto.MetricIngestStatus;
+import com.agenticcp.core.domain.monitoring.dto.MetricSampleBatch;
+import com.agenticcp.core.domain.monitoring.entity.ResourceMetricRollup.UtilizationMetric;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 리소스 사용률 샘플 수집 파이프라인
+ *
+ * <p>HTTP 스레드 → 링 버퍼 → 집계 스레드(1분 롤업) → 플러시 큐 → 플러시 스레드(저장소) 순으로 흐르며 모든 단계의 크기가
+ * 고정되어 있다. 저장소가 느려지면 플러시 큐가 차서 집계 스레드가 링 버퍼 소비를 멈추고, 링 버퍼가 가득 차면 수집
+ * 요청을 즉시 거절한다(저장소 장애 중이면 UNAVAILABLE, 아니면 THROTTLED).</p>
+ */
+@Slf4j
+@Component
+public class MetricIngestPipeline implements SmartLifecycle {
+
+    private static final int DRAIN_CHUNK = 16_384;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FLUSH_POLL_MILLIS = 200;
+    private static final long SHUTDOWN_WAIT_MILLIS = 30_000;
+    private static final UtilizationMetric[] METRICS = UtilizationMetric.values();
+
+    public enum Outcome {
+        ACCEPTED,
+        THROTTLED,
+        UNAVAILABLE
+    }
+
+    private final MetricIngestProperties properties;
+    private final List<MetricRollupSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final MetricSampleRingBuffer ring;
+    private final MinuteRollupTable[] openTables;
+    private final BlockingQueue<MinuteRollupTable> flushQueue;
+    private final Queue<MinuteRollupTable> freeTables = new ConcurrentLinkedQueue<>();
+    private final long latenessMinutes;
+    // ring slots hold seconds relative to this instant so epoch seconds past 2038 are not narrowed to int
+    private final long baseEpochSecond;
+
+    private final Counter acceptedSamples;
+    private final Counter throttledSamples;
+    private final Counter unavailableSamples;
+    private final Timer flushTimer;
+
+    // written only by the aggregator thread
+    private long currentMinute;
+    private long droppedLate;
+    private long droppedFuture;
+    private long droppedOverflow;
+
+    private volatile boolean running;
+    private volatile boolean storageHealthy = true;
+    private volatile boolean aggregatorFinished;
+    private Thread aggregator;
+    private Thread flusher;
+
+    public MetricIngestPipeline(MetricIngestProperties properties,
+                                List<MetricRollupSink> sinks,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ring = new MetricSampleRingBuffer(properties.getRingCapacity());
+        this.latenessMinutes = Math.max(0, properties.getAllowedLateness().toMinutes());
+        this.baseEpochSecond = System.currentTimeMillis() / 1000;
+        // buckets from (now - lateness) to (now + 1) can be open at once
+        this.openTables = new MinuteRollupTable[(int) latenessMinutes + 2];
+        this.flushQueue = new ArrayBlockingQueue<>(Math.max(1, properties.getFlushQueueCapacity()));
+
+        this.acceptedSamples = meterRegistry.counter("monitoring.ingest.samples", "result", "accepted");
+        this.throttledSamples = meterRegistry.counter("monitoring.ingest.samples", "result", "throttled");
+        this.unavailableSamples = meterRegistry.counter("monitoring.ingest.samples", "result", "unavailable");
+        this.flushTimer = meterRegistry.timer("monitoring.ingest.flush");
+        FunctionCounter.builder("monitoring.ingest.dropped", this, pipeline -> pipeline.droppedLate)
+                .tag("reason", "late").register(meterRegistry);
+        FunctionCounter.builder("monitoring.ingest.dropped", this, pipeline -> pipeline.droppedFuture)
+                .tag("reason", "future").register(meterRegistry);
+        FunctionCounter.builder("monitoring.ingest.dropped", this, pipeline -> pipeline.droppedOverflow)
+                .tag("reason", "series-overflow").register(meterRegistry);
+        meterRegistry.gauge("monitoring.ingest.ring.size", ring, MetricSampleRingBuffer::size);
+        meterRegistry.gauge("monitoring.ingest.flush.queue", flushQueue, BlockingQueue::size);
+    }
+
+    /**
+     * 배치 전체를 받아들이거나 전체를 거절한다. 호출 스레드는 대기하지 않는다.
+     */
+    public Outcome offer(MetricSampleBatch batch) {
+        int count = batch.size();
+        if (!running) {
+            unavailableSamples.increment(count);
+            return Outcome.UNAVAILABLE;
+        }
+        long sequence = ring.tryClaim(count);
+        if (sequence < 0) {
+            if (!storageHealthy) {
+                unavailableSamples.increment(count);
+                return Outcome.UNAVAILABLE;
+            }
+            throttledSamples.increment(count);
+            return Outcome.THROTTLED;
+        }
+        long[] resourceIds = batch.getResourceIds();
+        UtilizationMetric[] metrics = batch.getMetrics();
+        long[] timestamps = batch.getTimestamps();
+        float[] values = batch.getValues();
+        for (int i = 0; i < count; i++) {
+            ring.write(sequence + i, resourceIds[i], metrics[i].ordinal(), secondOffset(timestamps[i]), values[i]);
+        }
+        ring.publish(sequence, count);
+        acceptedSamples.increment(count);
+        return Outcome.ACCEPTED;
+    }
+
+    public int getMaxBatchSamples() {
+        return Math.min(properties.getMaxBatchSamples(), ring.capacity());
+    }
+
+    public MetricIngestStatus getStatus() {
+        int openBuckets = 0;
+        long openSeries = 0;
+        for (MinuteRollupTable table : openTables) {
+            if (table != null) {
+                openBuckets++;
+                openSeries += table.size(); // racy read, good enough for monitoring
+            }
+        }
+        return MetricIngestStatus.builder()
+                .running(running)
+                .storageHealthy(storageHealthy)
+                .ringCapacity(ring.capacity())
+                .ringSize(ring.size())
+                .openBuckets(openBuckets)
+                .openSeries(openSeries)
+                .queuedBuckets(flushQueue.size())
+                .droppedLate(droppedLate)
+                .droppedFuture(droppedFuture)
+                .droppedOverflow(droppedOverflow)
+                .build();
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public int getPhase() {
+        // start before and stop after the embedded web server so no request sees a stopped pipeline
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        currentMinute = nowMinute();
+        aggregatorFinished = false;
+        running = true;
+        aggregator = new Thread(this::aggregateLoop, "metric-aggregator");
+        flusher = new Thread(this::flushLoop, "metric-flusher");
+        aggregator.setDaemon(true);
+        flusher.setDaemon(true);
+        aggregator.start();
+        flusher.start();
+        log.info("Started metric ingest pipeline: ring capacity {}, {} open minute bucket(s)",
+                ring.capacity(), openTables.length);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            aggregator.join(SHUTDOWN_WAIT_MILLIS);
+            if (aggregator.isAlive()) {
+                log.warn("Metric aggregator did not drain within {} ms, discarding buffered samples",
+                        SHUTDOWN_WAIT_MILLIS);
+                aggregator.interrupt();
+            }
+            flusher.join(SHUTDOWN_WAIT_MILLIS);
+            if (flusher.isAlive()) {
+                log.warn("Metric flusher did not finish within {} ms, discarding {} queued bucket(s)",
+                        SHUTDOWN_WAIT_MILLIS, flushQueue.size());
+                flusher.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Stopped metric ingest pipeline");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void aggregateLoop() {
+        try {
+            while (running || ring.size() > 0) {
+                closeExpired(nowMinute());
+                int drained = ring.drain(this::aggregate, DRAIN_CHUNK);
+                if (drained == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+            for (int slot = 0; slot < openTables.length; slot++) {
+                if (openTables[slot] != null) {
+                    enqueue(openTables[slot]);
+                    openTables[slot] = null;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Metric aggregator stopped unexpectedly", e);
+        } finally {
+            aggregatorFinished = true;
+        }
+    }
+
+    private void aggregate(long resourceId, int metric, int secondOffset, float value) {
+        long minute = Math.floorDiv(baseEpochSecond + secondOffset, 60);
+        if (minute > currentMinute + 1) {
+            droppedFuture++;
+            return;
+        }
+        if (minute < currentMinute - latenessMinutes) {
+            droppedLate++;
+            return;
+        }
+        if (!tableFor(minute).add(resourceId, metric, value)) {
+            droppedOverflow++;
+        }
+    }
+
+    private MinuteRollupTable tableFor(long minute) {
+        int slot = (int) Math.floorMod(minute, (long) openTables.length);
+        MinuteRollupTable table = openTables[slot];
+        if (table != null && table.epochMinute() == minute) {
+            return table;
+        }
+        // closeExpired() runs before every drain, so the slot is always free here
+        table = freeTables.poll();
+        if (table == null) {
+            table = new MinuteRollupTable(properties.getMaxSeriesPerMinute());
+        }
+        table.reset(minute);
+        openTables[slot] = table;
+        return table;
+    }
+
+    private void closeExpired(long nowMinute) throws InterruptedException {
+        currentMinute = nowMinute;
+        for (int slot = 0; slot < openTables.length; slot++) {
+            MinuteRollupTable table = openTables[slot];
+            if (table != null && table.epochMinute() < nowMinute - latenessMinutes) {
+                openTables[slot] = null;
+                enqueue(table);
+            }
+        }
+    }
+
+    private void enqueue(MinuteRollupTable table) throws InterruptedException {
+        if (table.size() == 0) {
+            freeTables.offer(table);
+            return;
+        }
+        // blocks while storage is behind, which stops the ring from draining
+        flushQueue.put(table);
+    }
+
+    private void flushLoop() {
+        try {
+            while (true) {
+                MinuteRollupTable table = flushQueue.poll(FLUSH_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (table == null) {
+                    if (aggregatorFinished && flushQueue.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+                flush(table);
+                freeTables.offer(table);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(MinuteRollupTable table) throws InterruptedException {
+        long startNanos = System.nanoTime();
+        long minute = table.epochMinute();
+        List<MetricRollup> rollups = new ArrayList<>(table.size());
+        table.forEach((resourceId, metric, count, sum, min, max) ->
+                rollups.add(new MetricRollup(resourceId, METRICS[metric], minute, count, sum, min, max)));
+        // a whole minute goes to the sinks at once so a sink can group the metrics of one resource
+        writeWithRetry(rollups);
+        flushTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        log.debug("Flushed {} metric rollup(s) for minute {}", rollups.size(), minute);
+    }
+
+    private void writeWithRetry(List<MetricRollup> rollups) throws InterruptedException {
+        while (true) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> sinks.forEach(sink -> sink.write(rollups)));
+                if (!storageHealthy) {
+                    log.info("Metric rollup storage recovered");
+                    storageHealthy = true;
+                }
+                return;
+            } catch (RuntimeException e) {
+                if (storageHealthy) {
+                    log.warn("Failed to write {} metric rollup(s), retrying every {}: {}", rollups.size(),
+                            properties.getFlushRetryDelay(), e.getMessage());
+                    storageHealthy = false;
+                }
+                Thread.sleep(properties.getFlushRetryDelay().toMillis());
+            }
+        }
+    }
+
+    // offsets beyond +-68 years saturate, which still classifies the sample as late or future
+    private int secondOffset(long epochSecond) {
+        long offset = epochSecond - baseEpochSecond;
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, offset));
+    }
+
+    private static long nowMinute() {
+        return System.currentTimeMillis() / 60_000;
+    }
+}
@@ -0,0 +1,42 @@
+package com.agenticcp.core.domain.monitoring.ingest;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "agenticcp.monitoring.ingest")
+public class MetricIngestProperties {
+
+    private boolean enabled = true;
+
+    // where closed minute rollups are written
+    private Storage storage = Storage.TIMESERIES;
+
+    // samples buffered between the HTTP threads and the aggregator (rounded up to a power of two)
+    private int ringCapacity = 1 << 20;
+
+    private int maxBatchSamples = 50_000;
+
+    // distinct (resource, metric) series per minute bucket
+    private int maxSeriesPerMinute = 200_000;
+
+    // how long a minute bucket stays open for late samples after it ends
+    private Duration allowedLateness = Duration.ofMinutes(1);
+
+    // closed buckets waiting for storage; when full the aggregator stops draining the ring
+    private int flushQueueCapacity = 2;
+
+    // rows per JDBC batch when storage is DATABASE
+    private int flushBatchSize = 5_000;
+
+    private Duration flushRetryDelay = Duration.ofSeconds(5);
+
+    public enum Storage {
+        TIMESERIES,
+        DATABASE
+    }
+}
@@ -0,0 +1,15 @@
+package com.agenticcp.core.domain.monitoring.ingest;
+
+import com.agenticcp.core.domain.monitoring.entity.ResourceMetricRollup.UtilizationMetric;
+
+/**
+ * 닫힌 1분 구간의 (리소스, 메트릭) 집계값
+ */
+public record MetricRollup(long cloudResourceId,
+                           UtilizationMetric metric,
+                           long epochMinute,
+                           int count,
+                           double sum,
+                           float min,
+                           float max) {
+}
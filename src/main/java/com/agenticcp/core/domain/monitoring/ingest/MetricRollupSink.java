@@ -0,0 +1,11 @@
+package com.agenticcp.core.domain.monitoring.ingest;
+
+import java.util.List;
+
+/**
+ * 집계된 1분 롤업의 저장소. 한 번에 한 분의 롤업 전체를 받으며, 실패 후 재시도로 같은 분이 다시 들어올 수 있다.
+ */
+public interface MetricRollupSink {
+
+    void write(List<MetricRollup> rollups);
+}
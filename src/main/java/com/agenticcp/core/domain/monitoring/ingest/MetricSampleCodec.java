@@ -0,0 +1,70 @@
+package com.agenticcp.core.domain.monitoring.ingest;
+
+import com.agenticcp.core.common.exception.ValidationException;
+import com.agenticcp.core.domain.monitoring.dto.MetricSampleBatch;
+import com.agenticcp.core.domain.monitoring.entity.ResourceMetricRollup.UtilizationMetric;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * 바이너리 샘플 배치 디코더 ({@value #CONTENT_TYPE})
+ *
+ * <pre>
+ * byte    version (= 1)
+ * int     sample count
+ * repeated:
+ *   long  resource id
+ *   byte  metric ordinal (CPU=0, MEMORY=1, NETWORK=2, DISK=3)
+ *   int   epoch seconds
+ *   float value
+ * </pre>
+ * 모든 정수는 big-endian 이며 샘플당 17 바이트다.
+ */
+public final class MetricSampleCodec {
+
+    public static final String CONTENT_TYPE = "application/x-agenticcp-metrics";
+
+    private static final byte VERSION = 1;
+    private static final int HEADER_BYTES = 5;
+    private static final int SAMPLE_BYTES = 17;
+    private static final UtilizationMetric[] METRICS = UtilizationMetric.values();
+
+    private MetricSampleCodec() {
+    }
+
+    public static MetricSampleBatch decode(byte[] body) {
+        if (body == null || body.length < HEADER_BYTES) {
+            throw new ValidationException("body", "Missing sample batch header");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new ValidationException("version", "Unsupported sample batch version: " + version);
+        }
+        int count = buffer.getInt();
+        if (count < 0 || (long) count * SAMPLE_BYTES != buffer.remaining()) {
+            throw new ValidationException("body", "Sample count " + count + " does not match body length");
+        }
+
+        long[] resourceIds = new long[count];
+        UtilizationMetric[] metrics = new UtilizationMetric[count];
+        long[] timestamps = new long[count];
+        float[] values = new float[count];
+        try {
+            for (int i = 0; i < count; i++) {
+                resourceIds[i] = buffer.getLong();
+                int metric = buffer.get();
+                if (metric < 0 || metric >= METRICS.length) {
+                    throw new ValidationException("metrics", "Unknown metric ordinal " + metric + " at index " + i);
+                }
+                metrics[i] = METRICS[metric];
+                timestamps[i] = Integer.toUnsignedLong(buffer.getInt());
+                values[i] = buffer.getFloat();
+            }
+        } catch (BufferUnderflowException e) {
+            throw new ValidationException("body", "Truncated sample batch");
+        }
+        return new MetricSampleBatch(resourceIds, metrics, timestamps, values);
+    }
+}
@@ -0,0 +1,104 @@
+package com.agenticcp.core.domain.monitoring.ingest;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 다중 생산자/단일 소비자 고정 크기 링 버퍼 (샘플 필드별 원시 배열, 락 없음)
+ *
+ * <p>생산자는 CAS 로 배치 크기만큼 연속 구간을 한 번에 점유하고, 값을 쓴 뒤 슬롯마다 회차 번호를 기록해 공개한다.
+ * 소비자는 회차 번호가 맞는 슬롯까지만 읽는다. 여유 공간이 배치보다 작으면 점유하지 않고 즉시 실패한다.</p>
+ *
+ * <p>시각은 epoch 초를 그대로 int 로 줄이지 않고 호출자가 정한 기준 시각으로부터의 상대 초로 보관한다.</p>
+ */
+final class MetricSampleRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final int shift;
+    private final long[] resourceIds;
+    private final byte[] metrics;
+    private final int[] secondOffsets;
+    private final float[] values;
+    private final AtomicIntegerArray published;
+    private final AtomicLong claimCursor = new AtomicLong();
+    private final AtomicLong consumeCursor = new AtomicLong();
+
+    @FunctionalInterface
+    interface SampleConsumer {
+        void accept(long resourceId, int metric, int secondOffset, float value);
+    }
+
+    MetricSampleRingBuffer(int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.shift = Integer.numberOfTrailingZeros(capacity);
+        this.resourceIds = new long[capacity];
+        this.metrics = new byte[capacity];
+        this.secondOffsets = new int[capacity];
+        this.values = new float[capacity];
+        this.published = new AtomicIntegerArray(capacity);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    long size() {
+        return claimCursor.get() - consumeCursor.get();
+    }
+
+    /**
+     * @return 점유한 구간의 시작 시퀀스, 공간이 부족하면 -1
+     */
+    long tryClaim(int count) {
+        while (true) {
+            long current = claimCursor.get();
+            if (current + count - consumeCursor.get() > capacity) {
+                return -1;
+            }
+            if (claimCursor.compareAndSet(current, current + count)) {
+                return current;
+            }
+        }
+    }
+
+    void write(long sequence, long resourceId, int metric, int secondOffset, float value) {
+        int index = (int) sequence & mask;
+        resourceIds[index] = resourceId;
+        metrics[index] = (byte) metric;
+        secondOffsets[index] = secondOffset;
+        values[index] = value;
+    }
+
+    void publish(long firstSequence, int count) {
+        for (long sequence = firstSequence; sequence < firstSequence + count; sequence++) {
+            published.set((int) sequence & mask, lap(sequence));
+        }
+    }
+
+    /**
+     * 공개된 샘플을 최대 {@code limit} 개까지 순서대로 소비한다. 소비자 스레드 하나에서만 호출해야 한다.
+     */
+    int drain(SampleConsumer consumer, int limit) {
+        long sequence = consumeCursor.get();
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) sequence & mask;
+            if (published.get(index) != lap(sequence)) {
+                break;
+            }
+            consumer.accept(resourceIds[index], metrics[index], secondOffsets[index], values[index]);
+            sequence++;
+            drained++;
+        }
+        if (drained > 0) {
+            consumeCursor.set(sequence);
+        }
+        return drained;
+    }
+
+    private int lap(long sequence) {
+        return (int) (sequence >>> shift) + 1;
+    }
+}
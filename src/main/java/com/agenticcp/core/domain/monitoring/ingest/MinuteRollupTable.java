@@ -0,0 +1,105 @@
+package com.agenticcp.core.domain.monitoring.ingest;
+
+import java.util.Arrays;
+
+/**
+ * 한 분(minute) 구간의 (리소스, 메트릭)별 count/sum/min/max 집계표. 개방 주소법 해시 + 원시 배열로 샘플당 할당이 없다.
+ * 집계 스레드만 쓰고, 닫힌 뒤에는 플러시 스레드만 읽는다.
+ */
+final class MinuteRollupTable {
+
+    private static final long EMPTY = 0L;
+    private static final int METRIC_BITS = 3;
+
+    private final int mask;
+    private final int maxSeries;
+    private final long[] keys;
+    private final int[] counts;
+    private final double[] sums;
+    private final float[] mins;
+    private final float[] maxs;
+    private long epochMinute;
+    private int size;
+
+    @FunctionalInterface
+    interface RollupConsumer {
+        void accept(long resourceId, int metric, int count, double sum, float min, float max);
+    }
+
+    MinuteRollupTable(int maxSeries) {
+        int capacity = Integer.highestOneBit(Math.max(16, maxSeries * 4 / 3) - 1) << 1;
+        this.mask = capacity - 1;
+        this.maxSeries = maxSeries;
+        this.keys = new long[capacity];
+        this.counts = new int[capacity];
+        this.sums = new double[capacity];
+        this.mins = new float[capacity];
+        this.maxs = new float[capacity];
+    }
+
+    long epochMinute() {
+        return epochMinute;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void reset(long epochMinute) {
+        Arrays.fill(keys, EMPTY);
+        this.epochMinute = epochMinute;
+        this.size = 0;
+    }
+
+    /**
+     * @return 새 시계열을 넣을 자리가 없으면 false
+     */
+    boolean add(long resourceId, int metric, float value) {
+        // +1 so that resource 0 / metric 0 never collides with the empty marker
+        long key = ((resourceId << METRIC_BITS) | metric) + 1;
+        int index = mix(key) & mask;
+        while (true) {
+            long existing = keys[index];
+            if (existing == key) {
+                counts[index]++;
+                sums[index] += value;
+                if (value < mins[index]) {
+                    mins[index] = value;
+                }
+                if (value > maxs[index]) {
+                    maxs[index] = value;
+                }
+                return true;
+            }
+            if (existing == EMPTY) {
+                if (size >= maxSeries) {
+                    return false;
+                }
+                keys[index] = key;
+                counts[index] = 1;
+                sums[index] = value;
+                mins[index] = value;
+                maxs[index] = value;
+                size++;
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    void forEach(RollupConsumer consumer) {
+        for (int index = 0; index < keys.length; index++) {
+            long key = keys[index];
+            if (key != EMPTY) {
+                long raw = key - 1;
+                consumer.accept(raw >>> METRIC_BITS, (int) (raw & ((1 << METRIC_BITS) - 1)),
+                        counts[index], sums[index], mins[index], maxs[index]);
+            }
+        }
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,69 @@
+package com.agenticcp.core.domain.monitoring.ingest;
+
+import com.agenticcp.core.common.timeseries.TimeSeriesPoint;
+import com.agenticcp.core.common.timeseries.TimeSeriesStore;
+import com.agenticcp.core.common.timeseries.TimeSeriesStores;
+import com.agenticcp.core.domain.monitoring.entity.ResourceMetricRollup.UtilizationMetric;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리소스별 사용률 시계열 (시계열 저장소 "metrics"). 리소스 하나가 시리즈 하나이며, 메트릭마다 평균/최대 두 필드를 가진다.
+ */
+@Component
+public class ResourceMetricSeries {
+
+    public static final String STORE_NAME = "metrics";
+
+    private static final UtilizationMetric[] METRICS = UtilizationMetric.values();
+    private static final int FIELD_COUNT = METRICS.length * 2;
+
+    private final TimeSeriesStore store;
+
+    public ResourceMetricSeries(TimeSeriesStores timeSeriesStores) {
+        this.store = timeSeriesStores.open(STORE_NAME, FIELD_COUNT);
+    }
+
+    public static int averageField(UtilizationMetric metric) {
+        return metric.ordinal() * 2;
+    }
+
+    public static int maxField(UtilizationMetric metric) {
+        return metric.ordinal() * 2 + 1;
+    }
+
+    /**
+     * 한 분의 롤업을 리소스별로 묶어 점 하나로 쓴다. 보고되지 않은 메트릭은 NaN 으로 남는다.
+     */
+    public void append(List<MetricRollup> rollups) {
+        Map<Long, double[]> byResource = new HashMap<>();
+        Map<Long, Long> minuteByResource = new HashMap<>();
+        for (MetricRollup rollup : rollups) {
+            double[] values = byResource.computeIfAbsent(rollup.cloudResourceId(), id -> {
+                double[] empty = new double[FIELD_COUNT];
+                Arrays.fill(empty, Double.NaN);
+                return empty;
+            });
+            minuteByResource.put(rollup.cloudResourceId(), rollup.epochMinute());
+            values[averageField(rollup.metric())] = rollup.count() > 0 ? rollup.sum() / rollup.count() : Double.NaN;
+            values[maxField(rollup.metric())] = rollup.max();
+        }
+        byResource.forEach((resourceId, values) ->
+                store.append(resourceId, minuteByResource.get(resourceId) * 60, values));
+    }
+
+    /**
+     * @return 리소스의 마지막 점 시각(epoch second), 기록된 점이 없으면 {@link Long#MIN_VALUE}
+     */
+    public long lastEpochSecond(long cloudResourceId) {
+        return store.lastTimestamp(cloudResourceId);
+    }
+
+    public List<TimeSeriesPoint> query(long cloudResourceId, long fromEpochSecond, long toEpochSecond) {
+        return store.query(cloudResourceId, fromEpochSecond, toEpochSecond);
+    }
+}
@@ -0,0 +1,24 @@
+package com.agenticcp.core.domain.monitoring.ingest;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 1분 롤업을 압축 시계열 저장소에 쓴다. 같은 분을 다시 쓰면 저장소가 무시하므로 재시도해도 중복되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "agenticcp.monitoring.ingest", name = "storage", havingValue = "timeseries",
+        matchIfMissing = true)
+public class TimeSeriesRollupSink implements MetricRollupSink {
+
+    private final ResourceMetricSeries resourceMetricSeries;
+
+    @Override
+    public void write(List<MetricRollup> rollups) {
+        resourceMetricSeries.append(rollups);
+    }
+}
@@ -0,0 +1,43 @@
+package com.agenticcp.core.domain.monitoring.repository;
+
+import com.agenticcp.core.domain.monitoring.ingest.MetricRollup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 1분 롤업 배치 upsert. 늦게 도착한 샘플로 같은 분이 다시 플러시되면 count/sum/min/max 를 병합한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MetricRollupBatchRepository {
+
+    private static final String UPSERT_ROLLUP_SQL =
+            "INSERT INTO resource_metric_rollups (cloud_resource_id, metric, bucket_start, sample_count, sum_value, " +
+            "min_value, max_value, created_at, updated_at, is_deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false) " +
+            "ON DUPLICATE KEY UPDATE sample_count = sample_count + VALUES(sample_count), " +
+            "sum_value = sum_value + VALUES(sum_value), min_value = LEAST(min_value, VALUES(min_value)), " +
+            "max_value = GREATEST(max_value, VALUES(max_value)), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsert(List<MetricRollup> rollups, int batchSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_ROLLUP_SQL, rollups, batchSize, (statement, rollup) -> {
+            statement.setLong(1, rollup.cloudResourceId());
+            statement.setString(2, rollup.metric().name());
+            statement.setTimestamp(3, Timestamp.from(Instant.ofEpochSecond(rollup.epochMinute() * 60)));
+            statement.setInt(4, rollup.count());
+            statement.setDouble(5, rollup.sum());
+            statement.setFloat(6, rollup.min());
+            statement.setFloat(7, rollup.max());
+            statement.setTimestamp(8, now);
+            statement.setTimestamp(9, now);
+        });
+    }
+}
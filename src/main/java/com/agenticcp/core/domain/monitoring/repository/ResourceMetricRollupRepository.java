@@ -0,0 +1,16 @@
+package com.agenticcp.core.domain.monitoring.repository;
+
+import com.agenticcp.core.domain.monitoring.entity.ResourceMetricRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ResourceMetricRollupRepository extends JpaRepository<ResourceMetricRollup, Long> {
+
+    List<ResourceMetricRollup> findByCloudResourceIdAndMetricAndBucketStartBetweenOrderByBucketStart(
+            Long cloudResourceId, ResourceMetricRollup.UtilizationMetric metric,
+            LocalDateTime from, LocalDateTime to);
+}
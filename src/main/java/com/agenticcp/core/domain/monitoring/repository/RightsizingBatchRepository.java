@@ -0,0 +1,111 @@
+package com.agenticcp.core.domain.monitoring.repository;
+
+import com.agenticcp.core.domain.monitoring.rightsizing.RightsizingCandidate;
+import com.agenticcp.core.domain.monitoring.rightsizing.RightsizingResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 리사이징 분석용 JDBC 조회/저장 (테넌트 단위 후보 스트리밍, 결과 배치 upsert)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RightsizingBatchRepository {
+
+    private static final String SELECT_TENANT_IDS_SQL =
+            "SELECT DISTINCT tenant_id FROM cloud_resources WHERE is_deleted = false AND lifecycle_state = 'RUNNING'";
+
+    private static final String SELECT_CANDIDATES_SQL =
+            "SELECT r.id, r.tenant_id, r.instance_type, r.cpu_cores, r.memory_gb, r.cost_per_hour, r.updated_at, " +
+            "rr.metrics_through, rr.scored_at " +
+            "FROM cloud_resources r " +
+            "LEFT JOIN rightsizing_recommendations rr ON rr.cloud_resource_id = r.id " +
+            "WHERE r.is_deleted = false AND r.lifecycle_state = 'RUNNING' AND ";
+
+    private static final String UPSERT_RESULT_SQL =
+            "INSERT INTO rightsizing_recommendations (cloud_resource_id, tenant_id, finding, instance_type, cpu_cores, " +
+            "memory_gb, cost_per_hour, cpu_p95, cpu_peak, memory_p95, recommended_cpu_cores, recommended_memory_gb, " +
+            "estimated_monthly_saving, metrics_through, scored_at, created_at, updated_at, is_deleted) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false) " +
+            "ON DUPLICATE KEY UPDATE tenant_id = VALUES(tenant_id), finding = VALUES(finding), " +
+            "instance_type = VALUES(instance_type), cpu_cores = VALUES(cpu_cores), memory_gb = VALUES(memory_gb), " +
+            "cost_per_hour = VALUES(cost_per_hour), cpu_p95 = VALUES(cpu_p95), cpu_peak = VALUES(cpu_peak), " +
+            "memory_p95 = VALUES(memory_p95), recommended_cpu_cores = VALUES(recommended_cpu_cores), " +
+            "recommended_memory_gb = VALUES(recommended_memory_gb), " +
+            "estimated_monthly_saving = VALUES(estimated_monthly_saving), metrics_through = VALUES(metrics_through), " +
+            "scored_at = VALUES(scored_at), updated_at = VALUES(updated_at)";
+
+    private static final String DELETE_STALE_SQL =
+            "DELETE FROM rightsizing_recommendations WHERE cloud_resource_id IN " +
+            "(SELECT id FROM cloud_resources WHERE is_deleted = true OR lifecycle_state <> 'RUNNING')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 실행 중인 리소스가 있는 테넌트 id (테넌트가 없는 리소스는 null 하나로 묶인다)
+     */
+    public List<Long> findTenantIds() {
+        return jdbcTemplate.query(SELECT_TENANT_IDS_SQL, (rs, rowNum) -> rs.getObject(1, Long.class));
+    }
+
+    public void streamCandidates(Long tenantId, int fetchSize, Consumer<RightsizingCandidate> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    SELECT_CANDIDATES_SQL + (tenantId != null ? "r.tenant_id = ?" : "r.tenant_id IS NULL"),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            if (tenantId != null) {
+                statement.setLong(1, tenantId);
+            }
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (ResultSet rs) -> {
+            consumer.accept(mapCandidate(rs));
+        });
+    }
+
+    public void upsert(List<RightsizingResult> results, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(UPSERT_RESULT_SQL, results, results.size(), (statement, result) -> {
+            RightsizingCandidate candidate = result.candidate();
+            int index = 1;
+            statement.setLong(index++, candidate.cloudResourceId());
+            statement.setObject(index++, candidate.tenantId(), Types.BIGINT);
+            statement.setString(index++, result.finding().name());
+            statement.setString(index++, candidate.instanceType());
+            statement.setObject(index++, candidate.cpuCores(), Types.INTEGER);
+            statement.setObject(index++, candidate.memoryGb(), Types.INTEGER);
+            statement.setBigDecimal(index++, candidate.costPerHour());
+            statement.setObject(index++, result.cpuP95(), Types.DOUBLE);
+            statement.setObject(index++, result.cpuPeak(), Types.DOUBLE);
+            statement.setObject(index++, result.memoryP95(), Types.DOUBLE);
+            statement.setObject(index++, result.recommendedCpuCores(), Types.INTEGER);
+            statement.setObject(index++, result.recommendedMemoryGb(), Types.INTEGER);
+            statement.setBigDecimal(index++, result.estimatedMonthlySaving());
+            statement.setObject(index++, result.metricsThrough());
+            statement.setTimestamp(index++, timestamp);
+            statement.setTimestamp(index++, timestamp);
+            statement.setTimestamp(index, timestamp);
+        });
+    }
+
+    public int deleteStale() {
+        return jdbcTemplate.update(DELETE_STALE_SQL);
+    }
+
+    private static RightsizingCandidate mapCandidate(ResultSet rs) throws SQLException {
+        return new RightsizingCandidate(rs.getLong(1), rs.getObject(2, Long.class), rs.getString(3),
+                rs.getObject(4, Integer.class), rs.getObject(5, Integer.class), rs.getBigDecimal(6),
+                rs.getObject(7, LocalDateTime.class), rs.getObject(8, LocalDateTime.class),
+                rs.getObject(9, LocalDateTime.class));
+    }
+}
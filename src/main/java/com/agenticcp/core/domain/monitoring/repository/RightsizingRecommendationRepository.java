@@ -0,0 +1,22 @@
+package com.agenticcp.core.domain.monitoring.repository;
+
+import com.agenticcp.core.domain.monitoring.entity.RightsizingRecommendation;
+import com.agenticcp.core.domain.monitoring.entity.RightsizingRecommendation.Finding;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface RightsizingRecommendationRepository extends JpaRepository<RightsizingRecommendation, Long> {
+
+    Optional<RightsizingRecommendation> findByCloudResourceId(Long cloudResourceId);
+
+    Page<RightsizingRecommendation> findByTenantIdAndFindingIn(Long tenantId, Collection<Finding> findings,
+                                                               Pageable pageable);
+
+    Page<RightsizingRecommendation> findByFindingIn(Collection<Finding> findings, Pageable pageable);
+}
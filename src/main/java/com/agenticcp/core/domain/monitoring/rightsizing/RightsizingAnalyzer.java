@@ -0,0 +1,122 @@
+package com.agenticcp.core.domain.monitoring.rightsizing;
+
+import com.agenticcp.core.common.timeseries.TimeSeriesPoint;
+import com.agenticcp.core.domain.monitoring.entity.ResourceMetricRollup.UtilizationMetric;
+import com.agenticcp.core.domain.monitoring.entity.RightsizingRecommendation.Finding;
+import com.agenticcp.core.domain.monitoring.ingest.ResourceMetricSeries;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 리소스 한 건의 사용률 이력으로 유휴/과다 할당 여부와 월 절감액을 계산한다.
+ *
+ * <p>CPU/MEMORY 사용률은 백분율로 본다. 과다 할당이면 p95 사용률이 목표 사용률이 되도록 vCPU/메모리를 2의 거듭제곱
+ * 단위로 줄인 크기를 권장하며, 비용은 vCPU/메모리 중 큰 축소 비율에 비례한다고 가정해 절감액을 추정한다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RightsizingAnalyzer {
+
+    private static final double PERCENTILE = 95;
+
+    private final ResourceMetricSeries resourceMetricSeries;
+    private final RightsizingProperties properties;
+
+    public RightsizingResult score(RightsizingCandidate candidate, long lastEpochSecond) {
+        if (lastEpochSecond == Long.MIN_VALUE) {
+            return insufficient(candidate, null);
+        }
+        LocalDateTime metricsThrough = LocalDateTime.ofInstant(Instant.ofEpochSecond(lastEpochSecond),
+                ZoneId.systemDefault());
+        List<TimeSeriesPoint> points = resourceMetricSeries.query(candidate.cloudResourceId(),
+                lastEpochSecond - properties.getLookback().toSeconds(), lastEpochSecond);
+        if (points.isEmpty()
+                || lastEpochSecond - points.get(0).epochSecond() < properties.getMinHistory().toSeconds()) {
+            return insufficient(candidate, metricsThrough);
+        }
+
+        UtilizationProfile cpu = new UtilizationProfile(ResourceMetricSeries.averageField(UtilizationMetric.CPU),
+                ResourceMetricSeries.maxField(UtilizationMetric.CPU));
+        UtilizationProfile memory = new UtilizationProfile(ResourceMetricSeries.averageField(UtilizationMetric.MEMORY),
+                ResourceMetricSeries.maxField(UtilizationMetric.MEMORY));
+        for (TimeSeriesPoint point : points) {
+            cpu.add(point);
+            memory.add(point);
+        }
+        if (cpu.isEmpty()) {
+            return insufficient(candidate, metricsThrough);
+        }
+
+        double cpuP95 = cpu.percentile(PERCENTILE);
+        double cpuPeak = Double.isNaN(cpu.peak()) ? cpuP95 : cpu.peak();
+        Double memoryP95 = memory.isEmpty() ? null : memory.percentile(PERCENTILE);
+
+        if (cpuP95 < properties.getIdleCpuPercent() && cpuPeak < properties.getIdlePeakCpuPercent()) {
+            return new RightsizingResult(candidate, Finding.IDLE, cpuP95, cpuPeak, memoryP95, null, null,
+                    monthlyCost(candidate, 1.0), metricsThrough);
+        }
+
+        boolean cpuOversized = cpuP95 < properties.getOversizedCpuPercent();
+        boolean memoryOversized = memoryP95 == null || memoryP95 < properties.getOversizedMemoryPercent();
+        Integer recommendedCores = downsize(candidate.cpuCores(), cpuP95);
+        Integer recommendedMemory = memoryP95 != null ? downsize(candidate.memoryGb(), memoryP95) : candidate.memoryGb();
+        double scale = scale(recommendedCores, candidate.cpuCores(), recommendedMemory, candidate.memoryGb());
+        if (!cpuOversized || !memoryOversized || scale >= 1.0) {
+            return new RightsizingResult(candidate, Finding.OPTIMAL, cpuP95, cpuPeak, memoryP95, null, null,
+                    null, metricsThrough);
+        }
+        return new RightsizingResult(candidate, Finding.OVERSIZED, cpuP95, cpuPeak, memoryP95, recommendedCores,
+                recommendedMemory, monthlyCost(candidate, 1.0 - scale), metricsThrough);
+    }
+
+    private RightsizingResult insufficient(RightsizingCandidate candidate, LocalDateTime metricsThrough) {
+        return new RightsizingResult(candidate, Finding.INSUFFICIENT_DATA, null, null, null, null, null, null,
+                metricsThrough);
+    }
+
+    /**
+     * p95 사용률이 목표 사용률이 되는 크기를 2의 거듭제곱으로 올림한다 (현재 크기 이하).
+     */
+    private Integer downsize(Integer current, double p95Percent) {
+        if (current == null || current <= 1) {
+            return current;
+        }
+        double needed = current * p95Percent / properties.getTargetUtilizationPercent();
+        int size = 1;
+        while (size < needed && size < current) {
+            size <<= 1;
+        }
+        return Math.min(size, current);
+    }
+
+    /**
+     * 권장 크기 / 현재 크기 중 큰 값 (크기를 모르는 축은 제외, 둘 다 모르면 1)
+     */
+    private static double scale(Integer recommendedCores, Integer cores, Integer recommendedMemory, Integer memory) {
+        double scale = -1;
+        if (cores != null && cores > 0 && recommendedCores != null) {
+            scale = (double) recommendedCores / cores;
+        }
+        if (memory != null && memory > 0 && recommendedMemory != null) {
+            scale = Math.max(scale, (double) recommendedMemory / memory);
+        }
+        return scale < 0 ? 1.0 : scale;
+    }
+
+    private BigDecimal monthlyCost(RightsizingCandidate candidate, double fraction) {
+        if (candidate.costPerHour() == null) {
+            return null;
+        }
+        return candidate.costPerHour()
+                .multiply(BigDecimal.valueOf(properties.getHoursPerMonth()))
+                .multiply(BigDecimal.valueOf(fraction))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+}
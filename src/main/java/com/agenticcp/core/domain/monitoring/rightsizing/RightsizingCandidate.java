@@ -0,0 +1,18 @@
+package com.agenticcp.core.domain.monitoring.rightsizing;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 점수 계산 대상 리소스와 직전 점수의 기준 시각 (직전 점수가 없으면 {@code scoredAt} 이 null)
+ */
+public record RightsizingCandidate(long cloudResourceId,
+                                   Long tenantId,
+                                   String instanceType,
+                                   Integer cpuCores,
+                                   Integer memoryGb,
+                                   BigDecimal costPerHour,
+                                   LocalDateTime updatedAt,
+                                   LocalDateTime metricsThrough,
+                                   LocalDateTime scoredAt) {
+}
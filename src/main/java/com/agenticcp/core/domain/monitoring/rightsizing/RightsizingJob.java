@@ -0,0 +1,222 @@
+package com.agenticcp.core.domain.monitoring.rightsizing;
+
+import com.agenticcp.core.domain.monitoring.dto.RightsizingRunSummary;
+import com.agenticcp.core.domain.monitoring.entity.RightsizingRecommendation.Finding;
+import com.agenticcp.core.domain.monitoring.ingest.ResourceMetricSeries;
+import com.agenticcp.core.domain.monitoring.repository.RightsizingBatchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 유휴/과다 할당 리소스 분석 작업
+ *
+ * <p>테넌트마다 하나의 fork-join 태스크로 실행 중인 리소스를 스트리밍하며, 직전 점수 이후 사용률 시계열에 새 점이
+ * 생겼거나 리소스 사양이 바뀐 리소스만 골라 다시 점수를 매긴다. 고른 리소스는 {@code splitThreshold} 개 이하가 될 때까지
+ * 반으로 나눠 병렬로 계산하고, 잎 태스크마다 결과를 한 번의 배치 upsert 로 저장한다. 한 번에 하나의 실행만 허용한다.</p>
+ */
+@Slf4j
+@Component
+public class RightsizingJob {
+
+    private final RightsizingBatchRepository batchRepository;
+    private final RightsizingAnalyzer analyzer;
+    private final ResourceMetricSeries resourceMetricSeries;
+    private final RightsizingProperties properties;
+    private final ForkJoinPool pool;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile RightsizingRunSummary lastRun;
+
+    public RightsizingJob(RightsizingBatchRepository batchRepository,
+                          RightsizingAnalyzer analyzer,
+                          ResourceMetricSeries resourceMetricSeries,
+                          RightsizingProperties properties) {
+        this.batchRepository = batchRepository;
+        this.analyzer = analyzer;
+        this.resourceMetricSeries = resourceMetricSeries;
+        this.properties = properties;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.pool = new ForkJoinPool(properties.getParallelism(), forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("rightsizing-" + threadNumber.incrementAndGet());
+            return thread;
+        }, null, false);
+    }
+
+    @Scheduled(cron = "${agenticcp.monitoring.rightsizing.cron:0 15 * * * *}")
+    public void scheduledRun() {
+        if (properties.isEnabled() && !start()) {
+            log.info("Skipping scheduled rightsizing run, previous run still in progress");
+        }
+    }
+
+    /**
+     * @return 이미 실행 중이면 false
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        pool.execute(() -> {
+            try {
+                lastRun = run();
+            } catch (Exception e) {
+                log.error("Rightsizing run failed", e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public RightsizingRunSummary getLastRun() {
+        return lastRun;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private RightsizingRunSummary run() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        int removed = batchRepository.deleteStale();
+        List<Long> tenantIds = batchRepository.findTenantIds();
+        RunStats stats = new RunStats();
+
+        List<TenantTask> tasks = new ArrayList<>(tenantIds.size());
+        for (Long tenantId : tenantIds) {
+            tasks.add(new TenantTask(tenantId, stats, startedAt));
+        }
+        RecursiveAction.invokeAll(tasks);
+
+        Map<Finding, Long> byFinding = new EnumMap<>(Finding.class);
+        stats.findings.forEach((finding, count) -> byFinding.put(finding, count.sum()));
+        RightsizingRunSummary summary = new RightsizingRunSummary(startedAt, LocalDateTime.now(), tenantIds.size(),
+                stats.failedTenants.get(), stats.scanned.sum(), stats.rescored.sum(), removed, byFinding);
+        log.info("Rightsizing run rescored {} of {} running resource(s) across {} tenant partition(s) in {} ms",
+                summary.rescoredResources(), summary.scannedResources(), summary.tenants(),
+                Duration.between(startedAt, summary.finishedAt()).toMillis());
+        return summary;
+    }
+
+    private boolean needsScore(RightsizingCandidate candidate, long lastEpochSecond) {
+        if (candidate.scoredAt() == null) {
+            return true;
+        }
+        if (candidate.updatedAt() != null && candidate.updatedAt().isAfter(candidate.scoredAt())) {
+            return true;
+        }
+        if (lastEpochSecond == Long.MIN_VALUE) {
+            return false;
+        }
+        return candidate.metricsThrough() == null
+                || lastEpochSecond > candidate.metricsThrough().atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static final class RunStats {
+
+        private final LongAdder scanned = new LongAdder();
+        private final LongAdder rescored = new LongAdder();
+        private final AtomicInteger failedTenants = new AtomicInteger();
+        private final Map<Finding, LongAdder> findings = new EnumMap<>(Finding.class);
+
+        private RunStats() {
+            for (Finding finding : Finding.values()) {
+                findings.put(finding, new LongAdder());
+            }
+        }
+    }
+
+    private record Scored(RightsizingCandidate candidate, long lastEpochSecond) {
+    }
+
+    private final class TenantTask extends RecursiveAction {
+
+        private final Long tenantId;
+        private final RunStats stats;
+        private final LocalDateTime scoredAt;
+
+        private TenantTask(Long tenantId, RunStats stats, LocalDateTime scoredAt) {
+            this.tenantId = tenantId;
+            this.stats = stats;
+            this.scoredAt = scoredAt;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                List<Scored> changed = new ArrayList<>();
+                batchRepository.streamCandidates(tenantId, properties.getFetchSize(), candidate -> {
+                    stats.scanned.increment();
+                    long lastEpochSecond = resourceMetricSeries.lastEpochSecond(candidate.cloudResourceId());
+                    if (needsScore(candidate, lastEpochSecond)) {
+                        changed.add(new Scored(candidate, lastEpochSecond));
+                    }
+                });
+                if (!changed.isEmpty()) {
+                    new ScoreTask(changed, stats, scoredAt).invoke();
+                }
+            } catch (Exception e) {
+                stats.failedTenants.incrementAndGet();
+                log.error("Rightsizing failed for tenant {}", tenantId, e);
+            }
+        }
+    }
+
+    private final class ScoreTask extends RecursiveAction {
+
+        private final List<Scored> items;
+        private final RunStats stats;
+        private final LocalDateTime scoredAt;
+
+        private ScoreTask(List<Scored> items, RunStats stats, LocalDateTime scoredAt) {
+            this.items = items;
+            this.stats = stats;
+            this.scoredAt = scoredAt;
+        }
+
+        @Override
+        protected void compute() {
+            if (items.size() > properties.getSplitThreshold()) {
+                int middle = items.size() / 2;
+                invokeAll(new ScoreTask(items.subList(0, middle), stats, scoredAt),
+                        new ScoreTask(items.subList(middle, items.size()), stats, scoredAt));
+                return;
+            }
+            List<RightsizingResult> results = new ArrayList<>(items.size());
+            for (Scored item : items) {
+                try {
+                    results.add(analyzer.score(item.candidate(), item.lastEpochSecond()));
+                } catch (Exception e) {
+                    log.warn("Failed to score resource {}: {}", item.candidate().cloudResourceId(), e.getMessage());
+                }
+            }
+            if (results.isEmpty()) {
+                return;
+            }
+            batchRepository.upsert(results, scoredAt);
+            stats.rescored.add(results.size());
+            results.forEach(result -> stats.findings.get(result.finding()).increment());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.agenticcp.core.domain.monitoring.rightsizing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "agenticcp.monitoring.rightsizing")
+public class RightsizingProperties {
+
+    private boolean enabled = true;
+
+    // fork-join workers shared by all tenant partitions
+    private int parallelism = 4;
+
+    // resources scored by one fork-join leaf (and written in one JDBC batch)
+    private int splitThreshold = 256;
+
+    private int fetchSize = 1000;
+
+    // utilization history considered for one score
+    private Duration lookback = Duration.ofDays(14);
+
+    // history shorter than this is reported as INSUFFICIENT_DATA
+    private Duration minHistory = Duration.ofDays(1);
+
+    // IDLE: p95 CPU below idleCpuPercent and peak CPU below idlePeakCpuPercent
+    private double idleCpuPercent = 5;
+
+    private double idlePeakCpuPercent = 20;
+
+    // OVERSIZED: p95 CPU and p95 memory below these
+    private double oversizedCpuPercent = 40;
+
+    private double oversizedMemoryPercent = 50;
+
+    // p95 utilization the recommended size should run at
+    private double targetUtilizationPercent = 70;
+
+    private int hoursPerMonth = 730;
+}
@@ -0,0 +1,17 @@
+package com.agenticcp.core.domain.monitoring.rightsizing;
+
+import com.agenticcp.core.domain.monitoring.entity.RightsizingRecommendation.Finding;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record RightsizingResult(RightsizingCandidate candidate,
+                                Finding finding,
+                                Double cpuP95,
+                                Double cpuPeak,
+                                Double memoryP95,
+                                Integer recommendedCpuCores,
+                                Integer recommendedMemoryGb,
+                                BigDecimal estimatedMonthlySaving,
+                                LocalDateTime metricsThrough) {
+}
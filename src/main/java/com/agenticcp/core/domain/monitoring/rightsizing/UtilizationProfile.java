@@ -0,0 +1,57 @@
+package com.agenticcp.core.domain.monitoring.rightsizing;
+
+import com.agenticcp.core.common.timeseries.TimeSeriesPoint;
+
+/**
+ * 사용률(%) 분포 요약. 0.5% 단위 히스토그램으로 누적하므로 점 개수와 무관하게 고정 메모리로 백분위를 구한다.
+ */
+final class UtilizationProfile {
+
+    private static final int BUCKETS_PER_PERCENT = 2;
+    private static final int BUCKET_COUNT = 100 * BUCKETS_PER_PERCENT + 1;
+
+    private final int averageField;
+    private final int maxField;
+    private final int[] histogram = new int[BUCKET_COUNT];
+    private long count;
+    private double peak = Double.NaN;
+
+    UtilizationProfile(int averageField, int maxField) {
+        this.averageField = averageField;
+        this.maxField = maxField;
+    }
+
+    void add(TimeSeriesPoint point) {
+        double average = point.values()[averageField];
+        if (Double.isNaN(average)) {
+            return;
+        }
+        int bucket = (int) Math.round(Math.max(0, Math.min(100, average)) * BUCKETS_PER_PERCENT);
+        histogram[bucket]++;
+        count++;
+        double max = point.values()[maxField];
+        if (!Double.isNaN(max) && (Double.isNaN(peak) || max > peak)) {
+            peak = max;
+        }
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    double peak() {
+        return peak;
+    }
+
+    double percentile(double percentile) {
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += histogram[bucket];
+            if (seen >= rank) {
+                return (double) bucket / BUCKETS_PER_PERCENT;
+            }
+        }
+        return 100;
+    }
+}
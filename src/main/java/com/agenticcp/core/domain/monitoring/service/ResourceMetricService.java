@@ -0,0 +1,107 @@
+package com.agenticcp.core.domain.monitoring.service;
+
+import com.agenticcp.core.common.exception.ValidationException;
+import com.agenticcp.core.common.timeseries.TimeSeriesPoint;
+import com.agenticcp.core.common.timeseries.TimeSeriesStore;
+import com.agenticcp.core.common.timeseries.TimeSeriesStoreStats;
+import com.agenticcp.core.common.timeseries.TimeSeriesStores;
+import com.agenticcp.core.domain.monitoring.dto.MetricIngestStatus;
+import com.agenticcp.core.domain.monitoring.dto.MetricSampleBatch;
+import com.agenticcp.core.domain.monitoring.dto.MetricSeriesResponse;
+import com.agenticcp.core.domain.monitoring.entity.ResourceMetricRollup;
+import com.agenticcp.core.domain.monitoring.ingest.MetricIngestPipeline;
+import com.agenticcp.core.domain.monitoring.ingest.ResourceMetricSeries;
+import com.agenticcp.core.domain.monitoring.repository.ResourceMetricRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResourceMetricService {
+
+    private final MetricIngestPipeline ingestPipeline;
+    private final ResourceMetricRollupRepository rollupRepository;
+    private final ResourceMetricSeries resourceMetricSeries;
+    private final TimeSeriesStores timeSeriesStores;
+
+    public MetricIngestPipeline.Outcome ingest(MetricSampleBatch batch) {
+        validate(batch);
+        return ingestPipeline.offer(batch);
+    }
+
+    public List<ResourceMetricRollup> getRollups(Long cloudResourceId, ResourceMetricRollup.UtilizationMetric metric,
+                                                 LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            throw new ValidationException("from", "must not be after 'to'");
+        }
+        return rollupRepository.findByCloudResourceIdAndMetricAndBucketStartBetweenOrderByBucketStart(
+                cloudResourceId, metric, from, to);
+    }
+
+    public MetricSeriesResponse getSeries(Long cloudResourceId, ResourceMetricRollup.UtilizationMetric metric,
+                                          LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            throw new ValidationException("from", "must not be after 'to'");
+        }
+        ZoneId zone = ZoneId.systemDefault();
+        List<TimeSeriesPoint> stored = resourceMetricSeries.query(cloudResourceId,
+                from.atZone(zone).toEpochSecond(), to.atZone(zone).toEpochSecond());
+        int averageField = ResourceMetricSeries.averageField(metric);
+        int maxField = ResourceMetricSeries.maxField(metric);
+        List<MetricSeriesResponse.Point> points = new ArrayList<>(stored.size());
+        for (TimeSeriesPoint point : stored) {
+            double average = point.values()[averageField];
+            if (!Double.isNaN(average)) {
+                points.add(new MetricSeriesResponse.Point(
+                        LocalDateTime.ofInstant(Instant.ofEpochSecond(point.epochSecond()), zone),
+                        average, point.values()[maxField]));
+            }
+        }
+        return MetricSeriesResponse.builder()
+                .cloudResourceId(cloudResourceId)
+                .metric(metric)
+                .points(points)
+                .build();
+    }
+
+    public List<TimeSeriesStoreStats> getStorageStats() {
+        return timeSeriesStores.getStores().values().stream()
+                .map(TimeSeriesStore::getStats)
+                .toList();
+    }
+
+    public MetricIngestStatus getIngestStatus() {
+        return ingestPipeline.getStatus();
+    }
+
+    private void validate(MetricSampleBatch batch) {
+        int count = batch.size();
+        if (count == 0) {
+            throw new ValidationException("resourceIds", "Sample batch is empty");
+        }
+        if (count > ingestPipeline.getMaxBatchSamples()) {
+            throw new ValidationException("resourceIds",
+                    "Too many samples: " + count + " (max " + ingestPipeline.getMaxBatchSamples() + ")");
+        }
+        if (batch.getMetrics() == null || batch.getMetrics().length != count
+                || batch.getTimestamps() == null || batch.getTimestamps().length != count
+                || batch.getValues() == null || batch.getValues().length != count) {
+            throw new ValidationException("resourceIds", "resourceIds, metrics, timestamps and values must have equal length");
+        }
+        for (int i = 0; i < count; i++) {
+            if (batch.getResourceIds()[i] <= 0 || batch.getMetrics()[i] == null
+                    || batch.getTimestamps()[i] <= 0 || batch.getTimestamps()[i] > Integer.MAX_VALUE
+                    || !Float.isFinite(batch.getValues()[i])) {
+                throw new ValidationException("samples", "Invalid sample at index " + i);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.agenticcp.core.domain.monitoring.service;
+
+import com.agenticcp.core.common.exception.BusinessException;
+import com.agenticcp.core.common.exception.ResourceNotFoundException;
+import com.agenticcp.core.domain.monitoring.dto.RightsizingRunStatus;
+import com.agenticcp.core.domain.monitoring.entity.RightsizingRecommendation;
+import com.agenticcp.core.domain.monitoring.entity.RightsizingRecommendation.Finding;
+import com.agenticcp.core.domain.monitoring.repository.RightsizingRecommendationRepository;
+import com.agenticcp.core.domain.monitoring.rightsizing.RightsizingJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RightsizingService {
+
+    private static final Set<Finding> ACTIONABLE_FINDINGS = EnumSet.of(Finding.IDLE, Finding.OVERSIZED);
+
+    private final RightsizingRecommendationRepository recommendationRepository;
+    private final RightsizingJob rightsizingJob;
+
+    /**
+     * @param findings 비어 있으면 IDLE, OVERSIZED 만 조회
+     */
+    public Page<RightsizingRecommendation> getRecommendations(Long tenantId, Set<Finding> findings,
+                                                              Pageable pageable) {
+        Set<Finding> filter = findings == null || findings.isEmpty() ? ACTIONABLE_FINDINGS : findings;
+        return tenantId != null
+                ? recommendationRepository.findByTenantIdAndFindingIn(tenantId, filter, pageable)
+                : recommendationRepository.findByFindingIn(filter, pageable);
+    }
+
+    public RightsizingRecommendation getRecommendation(Long cloudResourceId) {
+        return recommendationRepository.findByCloudResourceId(cloudResourceId)
+                .orElseThrow(() -> new ResourceNotFoundException("RightsizingRecommendation", "cloudResourceId",
+                        cloudResourceId));
+    }
+
+    public RightsizingRunStatus startRun() {
+        if (!rightsizingJob.start()) {
+            throw new BusinessException("Rightsizing run is already in progress", "RIGHTSIZING_RUNNING",
+                    HttpStatus.CONFLICT);
+        }
+        return getRunStatus();
+    }
+
+    public RightsizingRunStatus getRunStatus() {
+        return new RightsizingRunStatus(rightsizingJob.isRunning(), rightsizingJob.getLastRun());
+    }
+}
@@ -0,0 +1,29 @@
+package com.agenticcp.core.domain.notification.push;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 클라이언트 → 서버 명령. {@code subscribe} 는 이전 구독을 통째로 바꾸고 {@code unsubscribe} 는 모두 해제한다.
+ */
+public record PushCommand(Action action,
+                          Set<PushTopic> topics,
+                          Set<Long> tenantIds,
+                          Set<Long> resourceIds) {
+
+    public enum Action {
+        SUBSCRIBE,
+        UNSUBSCRIBE;
+
+        @JsonCreator
+        public static Action fromValue(String value) {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        }
+    }
+
+    public PushSubscription toSubscription() {
+        return action == Action.SUBSCRIBE ? new PushSubscription(topics, tenantIds, resourceIds) : PushSubscription.NONE;
+    }
+}
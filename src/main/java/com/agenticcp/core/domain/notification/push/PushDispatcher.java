@@ -0,0 +1,177 @@
+package com.agenticcp.core.domain.notification.push;
+
+import com.agenticcp.core.domain.cloud.event.InventorySyncCompletedEvent;
+import com.agenticcp.core.domain.cloud.event.ResourceLifecycleChangedEvent;
+import com.agenticcp.core.domain.cloud.event.ResourceLifecycleChangedEvent.Transition;
+import com.agenticcp.core.domain.tenant.event.TenantStatusChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.TextMessage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 도메인 이벤트를 구독 세션으로 팬아웃한다.
+ *
+ * <p>메시지는 (토픽, 테넌트) 묶음마다 한 번만 직렬화해 같은 {@link TextMessage} 를 모든 수신자에게 보낸다. 리소스를
+ * 지정한 구독자는 전이 하나짜리 메시지를 받으며 이 역시 전이마다 한 번만 만든다. 이벤트 발행 스레드를 막지 않고
+ * 순서를 지키기 위해 단일 푸시 스레드에서 세션별 송신 대기열에 넣으며 (소켓 쓰기는 {@link PushSession} 이 송신 풀에서
+ * 한다), 대기열이 넘치면 이벤트를 버린다 (클라이언트는 재연결 시 목록/변경 피드로 다시 맞춘다).</p>
+ */
+@Slf4j
+@Component
+public class PushDispatcher {
+
+    private final PushSessionRegistry registry;
+    private final PushProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor pushDispatchExecutor;
+
+    public PushDispatcher(PushSessionRegistry registry,
+                          PushProperties properties,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          ThreadPoolTaskExecutor pushDispatchExecutor) {
+        this.registry = registry;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.pushDispatchExecutor = pushDispatchExecutor;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResourceLifecycleChanged(ResourceLifecycleChangedEvent event) {
+        submit(PushTopic.RESOURCE_LIFECYCLE, () -> dispatchLifecycle(event));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTenantStatusChanged(TenantStatusChangedEvent event) {
+        submit(PushTopic.TENANT_STATUS, () -> deliverToTenant(PushTopic.TENANT_STATUS, event.tenantId(),
+                () -> serialize(PushTopic.TENANT_STATUS, event.tenantId(), event)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInventorySyncCompleted(InventorySyncCompletedEvent event) {
+        submit(PushTopic.PROVIDER_SYNC, () -> {
+            TextMessage message = serialize(PushTopic.PROVIDER_SYNC, null, event);
+            int[] delivered = new int[1];
+            registry.forEachSubscriber(PushTopic.PROVIDER_SYNC, session -> deliver(session, message, delivered));
+            recordDelivered(PushTopic.PROVIDER_SYNC, delivered[0]);
+        });
+    }
+
+    private void dispatchLifecycle(ResourceLifecycleChangedEvent event) {
+        Map<Long, List<Transition>> byTenant = new LinkedHashMap<>();
+        for (Transition transition : event.transitions()) {
+            byTenant.computeIfAbsent(transition.tenantId(), key -> new ArrayList<>()).add(transition);
+        }
+        byTenant.forEach((tenantId, transitions) -> {
+            for (int from = 0; from < transitions.size(); from += properties.getMaxBatchSize()) {
+                List<Transition> chunk =
+                        transitions.subList(from, Math.min(from + properties.getMaxBatchSize(), transitions.size()));
+                deliverToTenant(PushTopic.RESOURCE_LIFECYCLE, tenantId, () -> serialize(PushTopic.RESOURCE_LIFECYCLE,
+                        tenantId, new ResourceLifecycleChangedEvent(event.providerKey(), event.regionKey(), chunk)));
+            }
+        });
+
+        if (!registry.hasResourceSubscribers(PushTopic.RESOURCE_LIFECYCLE)) {
+            return;
+        }
+        int delivered = 0;
+        for (Transition transition : event.transitions()) {
+            if (transition.id() == null) {
+                continue;
+            }
+            Set<PushSession> subscribers = registry.resourceSubscribers(PushTopic.RESOURCE_LIFECYCLE, transition.id());
+            if (subscribers.isEmpty()) {
+                continue;
+            }
+            TextMessage message = serialize(PushTopic.RESOURCE_LIFECYCLE, transition.tenantId(),
+                    new ResourceLifecycleChangedEvent(event.providerKey(), event.regionKey(), List.of(transition)));
+            for (PushSession session : subscribers) {
+                if (send(session, message)) {
+                    delivered++;
+                }
+            }
+        }
+        recordDelivered(PushTopic.RESOURCE_LIFECYCLE, delivered);
+    }
+
+    /**
+     * 수신자가 있을 때만 메시지를 만든다.
+     */
+    private void deliverToTenant(PushTopic topic, Long tenantId, Supplier<TextMessage> supplier) {
+        TextMessage[] message = new TextMessage[1];
+        int[] delivered = new int[1];
+        registry.forEachTenantSubscriber(topic, tenantId, session -> {
+            if (message[0] == null) {
+                message[0] = supplier.get();
+            }
+            deliver(session, message[0], delivered);
+        });
+        recordDelivered(topic, delivered[0]);
+    }
+
+    private void deliver(PushSession session, TextMessage message, int[] delivered) {
+        if (send(session, message)) {
+            delivered[0]++;
+        }
+    }
+
+    private boolean send(PushSession session, TextMessage message) {
+        if (session.send(message)) {
+            return true;
+        }
+        registry.unregister(session.getId());
+        meterRegistry.counter("push.sessions.dropped").increment();
+        return false;
+    }
+
+    private TextMessage serialize(PushTopic topic, Long tenantId, Object data) {
+        try {
+            meterRegistry.counter("push.frames", "topic", topic.getWireName()).increment();
+            // built from bytes so the UTF-8 length every session checks against its buffer limit is computed once
+            return new TextMessage(objectMapper.writeValueAsBytes(
+                    new PushFrame(topic.getWireName(), tenantId, data, LocalDateTime.now())));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize push frame for " + topic.getWireName(), e);
+        }
+    }
+
+    private void recordDelivered(PushTopic topic, int delivered) {
+        if (delivered > 0) {
+            meterRegistry.counter("push.messages", "topic", topic.getWireName()).increment(delivered);
+        }
+    }
+
+    private void submit(PushTopic topic, Runnable task) {
+        if (!registry.hasSubscribers(topic)) {
+            return;
+        }
+        try {
+            pushDispatchExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("Failed to push {} event", topic.getWireName(), e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("Push queue is full, dropping {} event", topic.getWireName());
+            meterRegistry.counter("push.events.dropped", "topic", topic.getWireName()).increment();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.agenticcp.core.domain.notification.push;
+
+import java.time.LocalDateTime;
+
+/**
+ * 브라우저로 보내는 메시지 한 건
+ *
+ * @param type     토픽 이름 또는 제어 응답 ({@code subscribed}, {@code error})
+ * @param tenantId 테넌트 범위 메시지의 테넌트 (그 외 null)
+ */
+public record PushFrame(String type, Long tenantId, Object data, LocalDateTime sentAt) {
+
+    public static final String SUBSCRIBED = "subscribed";
+    public static final String ERROR = "error";
+}
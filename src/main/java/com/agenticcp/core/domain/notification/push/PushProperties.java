@@ -0,0 +1,38 @@
+package com.agenticcp.core.domain.notification.push;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "agenticcp.notification.push")
+public class PushProperties {
+
+    private String path = "/ws/push";
+
+    private List<String> allowedOrigins = new ArrayList<>(List.of("*"));
+
+    // connections beyond this are closed right after the handshake
+    private int maxSessions = 50_000;
+
+    // a session whose pending frames exceed either limit is closed; the client reconnects and re-reads state
+    private Duration sendTimeLimit = Duration.ofSeconds(10);
+
+    private int bufferSizeLimit = 512 * 1024;
+
+    // threads writing queued frames to the sockets, shared by all sessions
+    private int sendPoolSize = 8;
+
+    // resource lifecycle transitions per frame for tenant subscribers
+    private int maxBatchSize = 500;
+
+    private int maxResourceIdsPerSession = 1000;
+
+    // dispatch tasks waiting for the single push thread; overflow drops the event
+    private int queueCapacity = 10_000;
+}
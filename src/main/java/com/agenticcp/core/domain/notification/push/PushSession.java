@@ -0,0 +1,139 @@
+package com.agenticcp.core.domain.notification.push;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 연결 하나. {@link #send} 는 세션별 대기열에 넣기만 하고 실제 소켓 쓰기는 송신 풀에서 세션마다 한 스레드씩 순서대로
+ * 한다. 따라서 느린 클라이언트는 자기 대기열만 채울 뿐 푸시 스레드나 다른 세션으로의 팬아웃을 막지 않으며, 쌓인
+ * 바이트나 쓰기 지연이 한도를 넘으면 연결이 닫힌다.
+ */
+@Slf4j
+final class PushSession {
+
+    private final WebSocketSession session;
+    private final Executor sendExecutor;
+    private final long sendTimeLimitNanos;
+    private final int bufferSizeLimit;
+
+    private final Queue<TextMessage> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    // when the drain was scheduled or last finished a write; only meaningful while draining
+    private volatile long lastProgressNanos;
+    private volatile PushSubscription subscription = PushSubscription.NONE;
+
+    PushSession(WebSocketSession session, Executor sendExecutor, int sendTimeLimitMillis, int bufferSizeLimit) {
+        this.session = session;
+        this.sendExecutor = sendExecutor;
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis);
+        this.bufferSizeLimit = bufferSizeLimit;
+    }
+
+    String getId() {
+        return session.getId();
+    }
+
+    PushSubscription getSubscription() {
+        return subscription;
+    }
+
+    void setSubscription(PushSubscription subscription) {
+        this.subscription = subscription;
+    }
+
+    /**
+     * 메시지를 대기열에 넣고 돌아온다.
+     *
+     * @return 닫혔거나 버퍼/시간 한도를 넘어 세션을 더 쓸 수 없으면 false
+     */
+    boolean send(TextMessage message) {
+        if (closed.get() || !session.isOpen()) {
+            return false;
+        }
+        if (draining.get() && System.nanoTime() - lastProgressNanos > sendTimeLimitNanos) {
+            evict("send time limit exceeded");
+            return false;
+        }
+        if (bufferedBytes.addAndGet(message.getPayloadLength()) > bufferSizeLimit) {
+            evict("buffer size limit exceeded");
+            return false;
+        }
+        outbound.add(message);
+        scheduleDrain();
+        return true;
+    }
+
+    void close(CloseStatus status) {
+        closed.set(true);
+        outbound.clear();
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("Failed to close push session {}", session.getId(), e);
+        }
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        lastProgressNanos = System.nanoTime();
+        try {
+            sendExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            evict("send executor rejected the drain");
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            TextMessage message;
+            while ((message = outbound.poll()) != null) {
+                if (closed.get()) {
+                    return;
+                }
+                try {
+                    session.sendMessage(message);
+                } catch (IOException | RuntimeException e) {
+                    evict(e.getMessage());
+                    return;
+                }
+                bufferedBytes.addAndGet(-message.getPayloadLength());
+                lastProgressNanos = System.nanoTime();
+            }
+            draining.set(false);
+            // a message queued after the last poll but before the flag was cleared found the drain still running
+            if (outbound.isEmpty() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    private void evict(String reason) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        log.debug("Dropping push session {}: {}", session.getId(), reason);
+        outbound.clear();
+        // closing may block on a stalled connection too, so it stays off the caller's thread
+        try {
+            sendExecutor.execute(() -> close(CloseStatus.SESSION_NOT_RELIABLE));
+        } catch (RejectedExecutionException e) {
+            close(CloseStatus.SESSION_NOT_RELIABLE);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.agenticcp.core.domain.notification.push;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 연결된 세션과 토픽별 구독 색인
+ *
+ * <p>토픽마다 테넌트 → 세션, 리소스 → 세션 색인을 두어 이벤트 하나의 수신자를 전체 세션을 훑지 않고 찾는다.
+ * 리소스를 지정한 구독은 리소스 수명주기 토픽에서 리소스 색인에만 들어간다.</p>
+ */
+@Component
+public class PushSessionRegistry {
+
+    private final PushProperties properties;
+    private final ThreadPoolTaskExecutor pushSendExecutor;
+    private final Map<String, PushSession> sessions = new ConcurrentHashMap<>();
+    private final Map<PushTopic, TopicIndex> topics = new EnumMap<>(PushTopic.class);
+
+    public PushSessionRegistry(PushProperties properties,
+                               MeterRegistry meterRegistry,
+                               ThreadPoolTaskExecutor pushSendExecutor) {
+        this.properties = properties;
+        this.pushSendExecutor = pushSendExecutor;
+        for (PushTopic topic : PushTopic.values()) {
+            topics.put(topic, new TopicIndex(topic));
+        }
+        meterRegistry.gaugeMapSize("push.sessions", List.of(), sessions);
+    }
+
+    /**
+     * @return 세션 수 한도를 넘으면 null
+     */
+    PushSession register(WebSocketSession session) {
+        if (sessions.size() >= properties.getMaxSessions()) {
+            return null;
+        }
+        PushSession pushSession = new PushSession(session, pushSendExecutor, (int) properties.getSendTimeLimit().toMillis(),
+                properties.getBufferSizeLimit());
+        sessions.put(pushSession.getId(), pushSession);
+        return pushSession;
+    }
+
+    PushSession get(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    void unregister(String sessionId) {
+        PushSession session = sessions.remove(sessionId);
+        if (session != null) {
+            subscribe(session, PushSubscription.NONE);
+        }
+    }
+
+    void subscribe(PushSession session, PushSubscription subscription) {
+        synchronized (session) {
+            PushSubscription previous = session.getSubscription();
+            previous.topics().forEach(topic -> topics.get(topic).remove(session, previous));
+            session.setSubscription(subscription);
+            if (sessions.containsKey(session.getId())) {
+                subscription.topics().forEach(topic -> topics.get(topic).add(session, subscription));
+            }
+        }
+    }
+
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    boolean hasSubscribers(PushTopic topic) {
+        return !topics.get(topic).all.isEmpty();
+    }
+
+    boolean hasResourceSubscribers(PushTopic topic) {
+        return !topics.get(topic).byResource.isEmpty();
+    }
+
+    /**
+     * 테넌트 범위 구독자 (모든 테넌트 구독자 포함). {@code tenantId} 가 null 이면 모든 테넌트 구독자만.
+     */
+    void forEachTenantSubscriber(PushTopic topic, Long tenantId, Consumer<PushSession> action) {
+        TopicIndex index = topics.get(topic);
+        index.allTenants.forEach(action);
+        if (tenantId != null) {
+            index.byTenant.getOrDefault(tenantId, Set.of()).forEach(action);
+        }
+    }
+
+    Set<PushSession> resourceSubscribers(PushTopic topic, long resourceId) {
+        return topics.get(topic).byResource.getOrDefault(resourceId, Set.of());
+    }
+
+    void forEachSubscriber(PushTopic topic, Consumer<PushSession> action) {
+        topics.get(topic).all.forEach(action);
+    }
+
+    private static final class TopicIndex {
+
+        private final PushTopic topic;
+        private final Set<PushSession> all = ConcurrentHashMap.newKeySet();
+        private final Set<PushSession> allTenants = ConcurrentHashMap.newKeySet();
+        private final Map<Long, Set<PushSession>> byTenant = new ConcurrentHashMap<>();
+        private final Map<Long, Set<PushSession>> byResource = new ConcurrentHashMap<>();
+
+        private TopicIndex(PushTopic topic) {
+            this.topic = topic;
+        }
+
+        private void add(PushSession session, PushSubscription subscription) {
+            all.add(session);
+            if (subscription.isResourceScoped(topic)) {
+                subscription.resourceIds().forEach(id -> addTo(byResource, id, session));
+            } else if (subscription.tenantIds().isEmpty()) {
+                allTenants.add(session);
+            } else {
+                subscription.tenantIds().forEach(id -> addTo(byTenant, id, session));
+            }
+        }
+
+        private void remove(PushSession session, PushSubscription subscription) {
+            all.remove(session);
+            allTenants.remove(session);
+            subscription.tenantIds().forEach(id -> removeFrom(byTenant, id, session));
+            subscription.resourceIds().forEach(id -> removeFrom(byResource, id, session));
+        }
+
+        // compute keeps add/remove atomic per key, so an emptied set is never dropped while another session joins it
+        private static void addTo(Map<Long, Set<PushSession>> index, Long key, PushSession session) {
+            index.compute(key, (id, members) -> {
+                Set<PushSession> result = members != null ? members : ConcurrentHashMap.newKeySet();
+                result.add(session);
+                return result;
+            });
+        }
+
+        private static void removeFrom(Map<Long, Set<PushSession>> index, Long key, PushSession session) {
+            index.computeIfPresent(key, (id, members) -> {
+                members.remove(session);
+                return members.isEmpty() ? null : members;
+            });
+        }
+    }
+}
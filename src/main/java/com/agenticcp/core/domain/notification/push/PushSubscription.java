@@ -0,0 +1,24 @@
+package com.agenticcp.core.domain.notification.push;
+
+import java.util.Set;
+
+/**
+ * 세션의 구독 범위. 클라이언트가 보내는 명령이자 서버 측 필터다.
+ *
+ * @param tenantIds   비어 있으면 모든 테넌트
+ * @param resourceIds 비어 있지 않으면 리소스 수명주기 토픽은 이 리소스만 받는다
+ */
+public record PushSubscription(Set<PushTopic> topics, Set<Long> tenantIds, Set<Long> resourceIds) {
+
+    public static final PushSubscription NONE = new PushSubscription(Set.of(), Set.of(), Set.of());
+
+    public PushSubscription {
+        topics = topics != null ? Set.copyOf(topics) : Set.of();
+        tenantIds = tenantIds != null ? Set.copyOf(tenantIds) : Set.of();
+        resourceIds = resourceIds != null ? Set.copyOf(resourceIds) : Set.of();
+    }
+
+    public boolean isResourceScoped(PushTopic topic) {
+        return topic == PushTopic.RESOURCE_LIFECYCLE && !resourceIds.isEmpty();
+    }
+}
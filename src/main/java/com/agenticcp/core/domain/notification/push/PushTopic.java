@@ -0,0 +1,41 @@
+package com.agenticcp.core.domain.notification.push;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Arrays;
+
+public enum PushTopic {
+
+    RESOURCE_LIFECYCLE("resource.lifecycle", true),
+    TENANT_STATUS("tenant.status", true),
+    PROVIDER_SYNC("provider.sync", false);
+
+    private final String wireName;
+    private final boolean tenantScoped;
+
+    PushTopic(String wireName, boolean tenantScoped) {
+        this.wireName = wireName;
+        this.tenantScoped = tenantScoped;
+    }
+
+    @JsonValue
+    public String getWireName() {
+        return wireName;
+    }
+
+    /**
+     * false 면 구독자의 테넌트 범위와 관계없이 모든 구독자에게 보낸다.
+     */
+    public boolean isTenantScoped() {
+        return tenantScoped;
+    }
+
+    @JsonCreator
+    public static PushTopic fromWireName(String wireName) {
+        return Arrays.stream(values())
+                .filter(topic -> topic.wireName.equals(wireName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown push topic: " + wireName));
+    }
+}
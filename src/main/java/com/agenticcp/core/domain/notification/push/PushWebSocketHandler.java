@@ -0,0 +1,82 @@
+package com.agenticcp.core.domain.notification.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 푸시 채널 엔드포인트. 연결 후 클라이언트가 {@link PushCommand} 로 토픽과 테넌트/리소스 범위를 구독하면 서버가
+ * 범위에 맞는 이벤트만 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushWebSocketHandler extends TextWebSocketHandler {
+
+    private final PushSessionRegistry registry;
+    private final PushProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        if (registry.register(session) == null) {
+            log.warn("Rejecting push session {}: {} sessions already open", session.getId(), registry.sessionCount());
+            session.close(CloseStatus.SERVICE_OVERLOAD.withReason("Too many push sessions"));
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        PushSession pushSession = registry.get(session.getId());
+        if (pushSession == null) {
+            return;
+        }
+        PushCommand command;
+        try {
+            command = objectMapper.readValue(message.getPayload(), PushCommand.class);
+        } catch (JsonProcessingException e) {
+            reply(pushSession, PushFrame.ERROR, Map.of("message", "Invalid push command: " + e.getOriginalMessage()));
+            return;
+        }
+        if (command.action() == null) {
+            reply(pushSession, PushFrame.ERROR, Map.of("message", "action is required"));
+            return;
+        }
+        PushSubscription subscription = command.toSubscription();
+        if (subscription.resourceIds().size() > properties.getMaxResourceIdsPerSession()) {
+            reply(pushSession, PushFrame.ERROR, Map.of("message",
+                    "resourceIds must not exceed " + properties.getMaxResourceIdsPerSession()));
+            return;
+        }
+        registry.subscribe(pushSession, subscription);
+        reply(pushSession, PushFrame.SUBSCRIBED, subscription);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        registry.unregister(session.getId());
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("Push session {} transport error: {}", session.getId(), exception.getMessage());
+    }
+
+    private void reply(PushSession session, String type, Object data) {
+        try {
+            session.send(new TextMessage(objectMapper.writeValueAsString(
+                    new PushFrame(type, null, data, LocalDateTime.now()))));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize push reply", e);
+        }
+    }
+}
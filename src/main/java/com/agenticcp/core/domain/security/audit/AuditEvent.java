@@ -0,0 +1,36 @@
+package com.agenticcp.core.domain.security.audit;
+
+import com.agenticcp.core.domain.security.entity.AuditLog;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 파이프라인에 넣는 감사 이벤트 (audit_logs 한 행)
+ *
+ * @param eventId        비어 있으면 파이프라인이 UUID 를 채운다
+ * @param eventTimestamp 비어 있으면 파이프라인에 들어온 시각
+ */
+@Builder(toBuilder = true)
+public record AuditEvent(String eventId,
+                         Long tenantId,
+                         Long userId,
+                         AuditLog.EventType eventType,
+                         AuditLog.EventCategory eventCategory,
+                         AuditLog.Severity severity,
+                         String eventName,
+                         String description,
+                         String resourceType,
+                         String resourceId,
+                         String resourceName,
+                         String action,
+                         AuditLog.Result result,
+                         String ipAddress,
+                         String userAgent,
+                         String sessionId,
+                         String requestId,
+                         LocalDateTime eventTimestamp,
+                         Long durationMs,
+                         String details,
+                         String tags) {
+}
@@ -0,0 +1,73 @@
+package com.agenticcp.core.domain.security.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 다중 생산자/단일 소비자 고정 크기 링 버퍼 (락 없음)
+ *
+ * <p>생산자는 CAS 로 슬롯 하나를 점유한 뒤 이벤트를 써서 공개하고, 소비자는 비어 있지 않은 슬롯까지만 읽고 비운다.
+ * 슬롯은 소비자가 비운 뒤에야 소비 커서가 넘어가므로 생산자가 아직 읽히지 않은 슬롯을 덮어쓰지 않는다.</p>
+ */
+final class AuditEventRingBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<AuditEvent> slots;
+    private final AtomicLong claimCursor = new AtomicLong();
+    private final AtomicLong consumeCursor = new AtomicLong();
+
+    AuditEventRingBuffer(int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    long size() {
+        return claimCursor.get() - consumeCursor.get();
+    }
+
+    /**
+     * @return 공간이 없으면 false
+     */
+    boolean offer(AuditEvent event) {
+        while (true) {
+            long current = claimCursor.get();
+            if (current - consumeCursor.get() >= capacity) {
+                return false;
+            }
+            if (claimCursor.compareAndSet(current, current + 1)) {
+                slots.lazySet((int) current & mask, event);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 공개된 이벤트를 최대 {@code limit} 개까지 순서대로 꺼낸다. 소비자 스레드 하나에서만 호출해야 한다.
+     */
+    int drain(List<AuditEvent> target, int limit) {
+        long sequence = consumeCursor.get();
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) sequence & mask;
+            AuditEvent event = slots.get(index);
+            if (event == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            target.add(event);
+            sequence++;
+            drained++;
+        }
+        if (drained > 0) {
+            consumeCursor.set(sequence);
+        }
+        return drained;
+    }
+}
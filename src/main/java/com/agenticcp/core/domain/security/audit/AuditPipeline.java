@@ -0,0 +1,370 @@
+package com.agenticcp.core.domain.security.audit;
+
+import com.agenticcp.core.domain.security.dto.AuditPipelineStatus;
+import com.agenticcp.core.domain.security.entity.AuditLog;
+import com.agenticcp.core.domain.security.repository.AuditLogBatchRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 감사 로그 비동기 쓰기 파이프라인
+ *
+ * <p>요청 스레드 → 링 버퍼 → 작성 스레드 → 다중 행 INSERT 순으로 흐른다. 요청 스레드는 슬롯 하나를 CAS 로 점유하는
+ * 것 외에 DB 를 기다리지 않고, 작성 스레드는 쌓인 만큼(최대 batchSize) 한 문장으로 저장한다. 링 버퍼가 가득 차면
+ * {@link AuditPipelineProperties.Backpressure} 에 따라 기다리거나, DEBUG 이벤트를 버리거나, 로컬 스풀에 쓴다.</p>
+ *
+ * <p>저장에 실패하면 배치를 {@link AuditSpool} 에 쓰고, 스풀에 남은 이벤트가 있는 동안에는 새 배치도 스풀 뒤에
+ * 덧붙여 순서를 지킨다. 작성 스레드는 retryDelay 마다 스풀 앞부분부터 다시 저장해 보고, 성공하면 스풀이 빌 때까지
+ * 이어서 재생한다. 저장은 event_id 기준으로 멱등이라 재생 중 중단돼 다시 보낸 이벤트는 한 번만 남는다.
+ * 작성 스레드는 저장소나 스풀 오류로 멈추지 않고, 손에 든 배치를 놓지 않은 채 retryDelay 뒤에 다시 시도한다.
+ * 종료 시에는 링 버퍼를 저장소나 스풀로 모두 비운 뒤 멈춘다.</p>
+ */
+@Slf4j
+@Component
+public class AuditPipeline implements SmartLifecycle {
+
+    // 25 bind parameters per row; keeps one statement well under driver placeholder limits
+    private static final int MAX_BATCH_SIZE = 2_000;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(20);
+
+    public enum Outcome {
+        ACCEPTED,
+        SPOOLED,
+        DROPPED
+    }
+
+    private final AuditPipelineProperties properties;
+    private final AuditLogBatchRepository batchRepository;
+    private final AuditEventRingBuffer ring;
+    private final AuditSpool spool;
+    private final int batchSize;
+
+    private final Counter acceptedEvents;
+    private final Counter spooledEvents;
+    private final Counter droppedEvents;
+    private final Counter writtenEvents;
+    private final Counter rejectedEvents;
+    private final Counter replayedEvents;
+    private final Timer writeTimer;
+    private final AtomicBoolean dropWarned = new AtomicBoolean();
+
+    private volatile boolean running;
+    private volatile boolean abandoned;
+    private volatile boolean storageHealthy = true;
+    private Thread writer;
+
+    public AuditPipeline(AuditPipelineProperties properties,
+                         AuditLogBatchRepository batchRepository,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.batchRepository = batchRepository;
+        this.ring = new AuditEventRingBuffer(properties.getRingCapacity());
+        this.batchSize = Math.max(1, Math.min(properties.getBatchSize(), MAX_BATCH_SIZE));
+        Path spoolDirectory = Path.of(properties.getSpoolDirectory());
+        try {
+            this.spool = new AuditSpool(spoolDirectory, objectMapper, properties.getSpoolSegmentSize().toBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open audit spool " + spoolDirectory, e);
+        }
+
+        this.acceptedEvents = meterRegistry.counter("security.audit.events", "result", "accepted");
+        this.spooledEvents = meterRegistry.counter("security.audit.events", "result", "spooled");
+        this.droppedEvents = meterRegistry.counter("security.audit.events", "result", "dropped");
+        this.writtenEvents = meterRegistry.counter("security.audit.written");
+        this.rejectedEvents = meterRegistry.counter("security.audit.rejected");
+        this.replayedEvents = meterRegistry.counter("security.audit.spool.replayed");
+        this.writeTimer = meterRegistry.timer("security.audit.write");
+        meterRegistry.gauge("security.audit.ring.size", ring, AuditEventRingBuffer::size);
+        meterRegistry.gauge("security.audit.spool.segments", spool, AuditSpool::segmentCount);
+    }
+
+    /**
+     * 이벤트를 파이프라인에 넣는다. 링 버퍼에 자리가 있으면 대기 없이 돌아온다.
+     *
+     * @throws IllegalArgumentException eventType, eventName, action 중 하나라도 없으면
+     */
+    public Outcome publish(AuditEvent event) {
+        // reject here: a row the writer cannot insert would only surface as a rejected count
+        if (event.eventType() == null || event.eventName() == null || event.action() == null) {
+            throw new IllegalArgumentException("Audit event requires eventType, eventName and action");
+        }
+        AuditEvent prepared = prepare(event);
+        if (running && ring.offer(prepared)) {
+            acceptedEvents.increment();
+            return Outcome.ACCEPTED;
+        }
+        return onFull(prepared);
+    }
+
+    public AuditPipelineStatus getStatus() {
+        return new AuditPipelineStatus(running, storageHealthy, properties.getBackpressure(), ring.capacity(),
+                ring.size(), batchSize, spool.hasPending(), spool.segmentCount(), (long) acceptedEvents.count(),
+                (long) spooledEvents.count(), (long) droppedEvents.count(), (long) writtenEvents.count(),
+                (long) replayedEvents.count(), (long) rejectedEvents.count());
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public int getPhase() {
+        // start before and stop after the embedded web server so request threads can always publish
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        abandoned = false;
+        running = true;
+        writer = new Thread(this::writeLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Started audit pipeline: ring capacity {}, batch size {}, backpressure {}", ring.capacity(),
+                batchSize, properties.getBackpressure());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        long timeoutMillis = properties.getShutdownTimeout().toMillis();
+        try {
+            writer.join(timeoutMillis);
+            if (writer.isAlive()) {
+                log.warn("Audit writer did not drain within {} ms, spooling {} queued event(s)", timeoutMillis,
+                        ring.size());
+                abandoned = true;
+                writer.join(timeoutMillis);
+            }
+            spool.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("Failed to close audit spool: {}", e.getMessage());
+        }
+        log.info("Stopped audit pipeline");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private Outcome onFull(AuditEvent event) {
+        if (properties.getBackpressure() == AuditPipelineProperties.Backpressure.SPOOL) {
+            try {
+                // flushed to disk by the writer's next sync, keeping producers off fsync
+                spool.append(List.of(event), false);
+                spooledEvents.increment();
+                return Outcome.SPOOLED;
+            } catch (IOException e) {
+                log.warn("Failed to spool audit event {}: {}", event.eventId(), e.getMessage());
+                return drop();
+            }
+        }
+        if (properties.getBackpressure() == AuditPipelineProperties.Backpressure.DROP_DEBUG
+                && event.severity() == AuditLog.Severity.DEBUG) {
+            return drop();
+        }
+        long deadline = System.nanoTime() + properties.getBlockTimeout().toNanos();
+        while (running && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (ring.offer(event)) {
+                acceptedEvents.increment();
+                return Outcome.ACCEPTED;
+            }
+        }
+        return drop();
+    }
+
+    private Outcome drop() {
+        droppedEvents.increment();
+        if (dropWarned.compareAndSet(false, true)) {
+            log.warn("Audit pipeline is dropping events (running={}, backpressure={}); see security.audit.events",
+                    running, properties.getBackpressure());
+        }
+        return Outcome.DROPPED;
+    }
+
+    private void writeLoop() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        long nextReplayNanos = System.nanoTime();
+        try {
+            while (running || ring.size() > 0 || !batch.isEmpty()) {
+                try {
+                    // a batch left over from a failed iteration is retried before draining more
+                    boolean idle = batch.isEmpty() && ring.drain(batch, batchSize) == 0;
+                    if (!idle) {
+                        // once anything is spooled, newer events queue up behind it so replay keeps write order
+                        List<AuditEvent> unwritten = abandoned || spool.hasPending() ? batch : write(batch);
+                        if (!unwritten.isEmpty()) {
+                            spool(unwritten);
+                        }
+                        batch.clear();
+                    }
+                    spool.sync();
+                    if (running && spool.hasPending() && System.nanoTime() - nextReplayNanos >= 0) {
+                        if (!replaySpool()) {
+                            nextReplayNanos = System.nanoTime() + properties.getRetryDelay().toNanos();
+                        }
+                    } else if (idle) {
+                        LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    if (abandoned && !batch.isEmpty()) {
+                        droppedEvents.increment(batch.size());
+                        log.error("Discarded {} audit event(s) that could not be written before shutdown",
+                                batch.size());
+                        batch.clear();
+                    }
+                    log.error("Audit writer failed, retrying in {}", properties.getRetryDelay(), e);
+                    Thread.sleep(properties.getRetryDelay().toMillis());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return 스풀 앞부분을 저장했거나 재생할 것이 없으면 true, 저장소가 아직 받지 못하면 false
+     */
+    private boolean replaySpool() {
+        try {
+            // a partly written chunk stays spooled as a whole; rows already stored are skipped by event_id
+            int replayed = spool.replay(batchSize, batch -> write(batch).isEmpty());
+            replayedEvents.increment(replayed);
+            return replayed > 0 || !spool.hasPending();
+        } catch (IOException e) {
+            log.warn("Failed to replay audit spool, will retry: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @return 저장소가 받지 못한 이벤트 (모두 저장했거나 거절된 행만 있으면 빈 목록)
+     */
+    private List<AuditEvent> write(List<AuditEvent> batch) {
+        long startNanos = System.nanoTime();
+        try {
+            batchRepository.insert(batch, LocalDateTime.now());
+            writeTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            writtenEvents.increment(batch.size());
+            markHealthy();
+            return List.of();
+        } catch (DataIntegrityViolationException e) {
+            // one bad row must not hold back the rest of the batch
+            return writeIndividually(batch);
+        } catch (RuntimeException e) {
+            markUnhealthy(batch.size(), e);
+            return batch;
+        }
+    }
+
+    /**
+     * @return 저장소가 중간에 실패해 저장하지 못한 나머지 이벤트
+     */
+    private List<AuditEvent> writeIndividually(List<AuditEvent> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < batch.size(); i++) {
+            AuditEvent event = batch.get(i);
+            try {
+                batchRepository.insert(List.of(event), now);
+                writtenEvents.increment();
+                markHealthy();
+            } catch (DataIntegrityViolationException e) {
+                rejectedEvents.increment();
+                log.warn("Rejected audit event {}: {}", event.eventId(), e.getMostSpecificCause().getMessage());
+            } catch (RuntimeException e) {
+                markUnhealthy(batch.size() - i, e);
+                return List.copyOf(batch.subList(i, batch.size()));
+            }
+        }
+        return List.of();
+    }
+
+    private void markHealthy() {
+        if (!storageHealthy) {
+            log.info("Audit log storage recovered");
+            storageHealthy = true;
+        }
+    }
+
+    private void markUnhealthy(int unwritten, RuntimeException e) {
+        if (storageHealthy) {
+            log.warn("Failed to write {} audit event(s), spooling and retrying every {}: {}", unwritten,
+                    properties.getRetryDelay(), e.getMessage());
+            storageHealthy = false;
+        }
+    }
+
+    private void spool(List<AuditEvent> batch) throws InterruptedException {
+        try {
+            spool.append(batch, true);
+            spooledEvents.increment(batch.size());
+            return;
+        } catch (IOException e) {
+            log.error("Failed to spool {} audit event(s), retrying storage directly: {}", batch.size(),
+                    e.getMessage());
+        }
+        // with neither storage nor spool available, hold the writer until one of them recovers
+        List<AuditEvent> unwritten = batch;
+        while (!(unwritten = write(unwritten)).isEmpty()) {
+            if (abandoned) {
+                droppedEvents.increment(unwritten.size());
+                log.error("Discarded {} audit event(s) that could not be written before shutdown",
+                        unwritten.size());
+                return;
+            }
+            Thread.sleep(properties.getRetryDelay().toMillis());
+        }
+    }
+
+    private static AuditEvent prepare(AuditEvent event) {
+        if (event.eventId() != null && event.eventTimestamp() != null && event.severity() != null
+                && event.result() != null) {
+            return event;
+        }
+        return event.toBuilder()
+                .eventId(event.eventId() != null ? event.eventId() : newEventId())
+                .eventTimestamp(event.eventTimestamp() != null ? event.eventTimestamp() : LocalDateTime.now())
+                .severity(event.severity() != null ? event.severity() : AuditLog.Severity.INFO)
+                .result(event.result() != null ? event.result() : AuditLog.Result.SUCCESS)
+                .build();
+    }
+
+    // random (version 4) UUID without the shared SecureRandom, which would serialize producers
+    private static String newEventId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & ~(0xC000L << 48)) | (0x8000L << 48);
+        return new UUID(most, least).toString();
+    }
+}
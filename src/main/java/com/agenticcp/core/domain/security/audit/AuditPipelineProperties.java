@@ -0,0 +1,64 @@
+package com.agenticcp.core.domain.security.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "agenticcp.security.audit")
+public class AuditPipelineProperties {
+
+    private boolean enabled = true;
+
+    // events buffered between producers and the writer (rounded up to a power of two)
+    private int ringCapacity = 1 << 16;
+
+    // rows per multi-row INSERT
+    private int batchSize = 500;
+
+    // what a producer does when the ring is full
+    private Backpressure backpressure = Backpressure.SPOOL;
+
+    // longest a producer waits for space before the event is dropped (BLOCK, and non-DEBUG events in DROP_DEBUG)
+    private Duration blockTimeout = Duration.ofSeconds(1);
+
+    // local write-ahead spool used while storage is unavailable, and by SPOOL for events that did not fit in the ring
+    private String spoolDirectory = "data/audit-spool";
+
+    // spool segment file size before rolling over to the next file
+    private DataSize spoolSegmentSize = DataSize.ofMegabytes(64);
+
+    // how often the writer retries storage while events wait in the spool
+    private Duration retryDelay = Duration.ofSeconds(1);
+
+    // how long shutdown waits for the writer to drain the ring
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+    // record every mutating HTTP request (POST, PUT, PATCH, DELETE) as an API_CALL event
+    private boolean recordApiCalls = true;
+
+    // POST endpoints that ingest or only read (metric samples, policy decisions, searches); left out of API_CALL
+    // recording so their volume does not flood the audit ring
+    private List<String> apiCallExcludedPaths = new ArrayList<>(List.of(
+            "/api/monitoring/metrics/samples",
+            "/api/security/policies/evaluate",
+            "/api/security/policies/evaluate/batch",
+            "/api/cloud/resources/search",
+            "/api/cloud/resources/tags/query",
+            "/api/cost/explorer/query"));
+
+    public enum Backpressure {
+        // wait for space up to blockTimeout
+        BLOCK,
+        // drop DEBUG events at once, wait for others
+        DROP_DEBUG,
+        // append to the local spool without waiting, replayed in order by the writer
+        SPOOL
+    }
+}
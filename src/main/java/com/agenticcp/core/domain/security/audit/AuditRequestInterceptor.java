@@ -0,0 +1,67 @@
+package com.agenticcp.core.domain.security.audit;
+
+import com.agenticcp.core.domain.security.entity.AuditLog;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 변경 요청(POST, PUT, PATCH, DELETE) 을 API_CALL 감사 이벤트로 감사 파이프라인에 넣는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditRequestInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = AuditRequestInterceptor.class.getName() + ".start";
+
+    private final AuditPipeline auditPipeline;
+    private final AuditPipelineProperties properties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (properties.isRecordApiCalls() && category(request.getMethod()) != null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long startNanos)) {
+            return;
+        }
+        int status = response.getStatus();
+        boolean failed = ex != null || status >= 400;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String path = pattern != null ? pattern.toString() : request.getRequestURI();
+        auditPipeline.publish(AuditEvent.builder()
+                .eventType(AuditLog.EventType.API_CALL)
+                .eventCategory(category(request.getMethod()))
+                .severity(status >= 500 || ex != null ? AuditLog.Severity.ERROR
+                        : failed ? AuditLog.Severity.WARN : AuditLog.Severity.INFO)
+                .eventName(request.getMethod() + " " + path)
+                .action(request.getMethod())
+                .resourceName(request.getRequestURI())
+                .result(failed ? AuditLog.Result.FAILURE : AuditLog.Result.SUCCESS)
+                .ipAddress(request.getRemoteAddr())
+                .userAgent(request.getHeader("User-Agent"))
+                .requestId(request.getHeader("X-Request-Id"))
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                .build());
+    }
+
+    private static AuditLog.EventCategory category(String method) {
+        return switch (method) {
+            case "POST" -> AuditLog.EventCategory.CREATE;
+            case "PUT", "PATCH" -> AuditLog.EventCategory.UPDATE;
+            case "DELETE" -> AuditLog.EventCategory.DELETE;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,413 @@
+package com.agenticcp.core.domain.security.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 감사 이벤트 로컬 선행 기록(write-ahead) 스풀. 저장소가 이벤트를 받지 못하는 동안 작성 스레드가, SPOOL 배압에서는
+ * 생산자가 이벤트를 추가 전용 세그먼트 파일에 쓰고, 작성 스레드가 저장소 복구 후 쓴 순서대로 재생한다.
+ *
+ * <pre>
+ * segment header (8 bytes) : magic, version
+ * record                   : length(4), crc32(4), payload (이벤트 JSON)
+ * checkpoint (20 bytes)    : segment(8), position(8), crc32(4) — 저장을 마친 다음 레코드 위치
+ * </pre>
+ * <p>세그먼트가 segmentSize 를 넘으면 다음 번호의 파일로 넘어가고, 재생이 끝난 세그먼트는 지운다. 체크포인트는 저장을
+ * 마친 배치마다 갱신하므로 저장과 갱신 사이에 멈추면 그 배치를 다시 재생한다 (최소 한 번, 중복은 event_id 로 거른다).
+ * 다시 열 때 마지막 세그먼트 끝의 잘린 레코드(기록 도중 중단)는 길이와 체크섬으로 찾아 잘라 내고, 새 세그먼트에 이어
+ * 쓴다.</p>
+ */
+@Slf4j
+final class AuditSpool implements Closeable {
+
+    static final int MAX_RECORD_BYTES = 16 << 20;
+
+    private static final String SEGMENT_PREFIX = "audit-spool-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final int MAGIC = 0x4153504C; // "ASPL"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final int CHECKPOINT_BYTES = 20;
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final long segmentSize;
+
+    // write side, guarded by this
+    private final TreeSet<Long> segments = new TreeSet<>();
+    private FileChannel writeChannel;
+    private long writeSegment;
+    private long writePosition;
+    private boolean dirty;
+
+    // read side, used only by the replaying thread
+    private final ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+    private FileChannel readChannel;
+    private long readChannelSegment = -1;
+    private volatile long readSegment;
+    private volatile long readPosition;
+
+    AuditSpool(Path directory, ObjectMapper objectMapper, long segmentSize) throws IOException {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.segmentSize = segmentSize;
+        recover();
+    }
+
+    /**
+     * 이벤트를 순서대로 덧붙인다. force 면 디스크에 내린 뒤 돌아오고, 아니면 다음 {@link #sync()} 때 내린다.
+     */
+    void append(List<AuditEvent> events, boolean force) throws IOException {
+        ByteBuffer records = encode(events);
+        synchronized (this) {
+            if (writeChannel == null || (writePosition > HEADER_BYTES
+                    && writePosition + records.remaining() > segmentSize)) {
+                rotate();
+            }
+            // positional write: a failed append is overwritten by the next one instead of leaving a gap
+            long position = writePosition;
+            while (records.hasRemaining()) {
+                position += writeChannel.write(records, position);
+            }
+            writePosition = position;
+            if (force) {
+                writeChannel.force(false);
+            } else {
+                dirty = true;
+            }
+        }
+    }
+
+    synchronized void sync() throws IOException {
+        if (dirty) {
+            writeChannel.force(false);
+            dirty = false;
+        }
+    }
+
+    synchronized boolean hasPending() {
+        return readSegment != writeSegment || readPosition < writePosition;
+    }
+
+    synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * 체크포인트 이후 레코드를 최대 maxRecords 개 읽어 writer 에 넘긴다. writer 가 true 를 반환하면 체크포인트를 옮기고
+     * 다 읽은 세그먼트를 지우며, false 를 반환하거나 예외를 던지면 다음 재생 때 같은 레코드부터 다시 넘긴다.
+     *
+     * @return 저장한 이벤트 수
+     */
+    int replay(int maxRecords, Predicate<List<AuditEvent>> writer) throws IOException {
+        List<AuditEvent> batch = new ArrayList<>(Math.min(maxRecords, 1024));
+        long segment = readSegment;
+        long position = readPosition;
+        while (batch.size() < maxRecords) {
+            long activeLimit = activeLimit(segment);
+            FileChannel channel = readChannel(segment);
+            if (channel == null) {
+                break;
+            }
+            long end = activeLimit >= 0 ? activeLimit : channel.size();
+            byte[] payload = readRecord(channel, position, end);
+            if (payload != null) {
+                position += RECORD_HEADER_BYTES + payload.length;
+                AuditEvent event = decode(payload, segment, position);
+                if (event != null) {
+                    batch.add(event);
+                }
+                continue;
+            }
+            if (activeLimit >= 0) {
+                break;
+            }
+            if (position < end) {
+                log.error("Skipping {} unreadable byte(s) at offset {} of audit spool segment {}", end - position,
+                        position, segment);
+            }
+            segment = nextSegment(segment);
+            position = HEADER_BYTES;
+        }
+        if (!batch.isEmpty() && !writer.test(batch)) {
+            return 0;
+        }
+        if (segment != readSegment || position != readPosition) {
+            commit(segment, position);
+        }
+        return batch.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (writeChannel != null) {
+            writeChannel.force(false);
+            writeChannel.close();
+            writeChannel = null;
+        }
+        closeReadChannel();
+    }
+
+    private void recover() throws IOException {
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> files = Files.list(directory)) {
+                files.map(AuditSpool::segmentOf).filter(Objects::nonNull).forEach(segments::add);
+            }
+        }
+        long[] checkpoint = readCheckpoint();
+        long checkpointSegment = checkpoint != null ? checkpoint[0] : -1;
+        // segments replayed before a crash that came between the checkpoint and the delete
+        while (!segments.isEmpty() && segments.first() < checkpointSegment) {
+            Files.deleteIfExists(segmentPath(segments.pollFirst()));
+        }
+        if (!segments.isEmpty()) {
+            truncateTornTail(segments.last());
+        }
+        // appends after a restart always start a new segment, so every recovered segment is sealed
+        writeSegment = Math.max(segments.isEmpty() ? 0 : segments.last(), checkpointSegment) + 1;
+        writePosition = HEADER_BYTES;
+        if (!segments.isEmpty() && segments.first() == checkpointSegment) {
+            readSegment = checkpointSegment;
+            readPosition = Math.min(checkpoint[1], Files.size(segmentPath(checkpointSegment)));
+        } else {
+            readSegment = segments.isEmpty() ? writeSegment : segments.first();
+            readPosition = HEADER_BYTES;
+        }
+        if (!segments.isEmpty()) {
+            log.info("Recovered audit spool with {} segment(s), replaying from segment {} offset {}",
+                    segments.size(), readSegment, readPosition);
+        }
+    }
+
+    private void truncateTornTail(long segment) throws IOException {
+        Path path = segmentPath(segment);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || !hasValidHeader(channel)) {
+                // crashed before the header reached the disk, so no record was ever acknowledged from it
+                log.warn("Removing audit spool segment {} without a valid header", path.getFileName());
+                channel.close();
+                Files.delete(path);
+                segments.remove(segment);
+                return;
+            }
+            long position = HEADER_BYTES;
+            byte[] payload;
+            while ((payload = readRecord(channel, position, size)) != null) {
+                position += RECORD_HEADER_BYTES + payload.length;
+            }
+            if (position < size) {
+                log.warn("Truncating {} byte(s) of a partially written record from audit spool segment {}",
+                        size - position, path.getFileName());
+                channel.truncate(position);
+                channel.force(false);
+            }
+        }
+    }
+
+    private void rotate() throws IOException {
+        if (writeChannel != null) {
+            writeChannel.force(false);
+            writeChannel.close();
+            writeChannel = null;
+            writeSegment++;
+        }
+        Files.createDirectories(directory);
+        FileChannel channel = FileChannel.open(segmentPath(writeSegment), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+        writeChannel = channel;
+        writePosition = HEADER_BYTES;
+        dirty = false;
+        segments.add(writeSegment);
+    }
+
+    /**
+     * @return 쓰는 중인 세그먼트면 읽을 수 있는 끝 위치, 봉인된 세그먼트면 -1
+     */
+    private synchronized long activeLimit(long segment) {
+        return segment == writeSegment ? writePosition : -1;
+    }
+
+    private synchronized long nextSegment(long segment) {
+        Long next = segments.higher(segment);
+        return next != null ? next : writeSegment;
+    }
+
+    private FileChannel readChannel(long segment) throws IOException {
+        if (readChannelSegment == segment) {
+            return readChannel;
+        }
+        closeReadChannel();
+        Path path = segmentPath(segment);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        readChannel = FileChannel.open(path, StandardOpenOption.READ);
+        readChannelSegment = segment;
+        return readChannel;
+    }
+
+    private void closeReadChannel() throws IOException {
+        if (readChannel != null) {
+            readChannel.close();
+            readChannel = null;
+            readChannelSegment = -1;
+        }
+    }
+
+    private void commit(long segment, long position) throws IOException {
+        writeCheckpoint(segment, position);
+        readSegment = segment;
+        readPosition = position;
+        List<Long> consumed;
+        synchronized (this) {
+            consumed = new ArrayList<>(segments.headSet(segment));
+            segments.removeAll(consumed);
+        }
+        for (long done : consumed) {
+            if (readChannelSegment == done) {
+                closeReadChannel();
+            }
+            Files.deleteIfExists(segmentPath(done));
+        }
+    }
+
+    private void writeCheckpoint(long segment, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(CHECKPOINT_BYTES).putLong(segment).putLong(position);
+        buffer.putInt(checksum(buffer.array(), 0, 16)).flip();
+        Path temporary = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private long[] readCheckpoint() throws IOException {
+        Path path = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (bytes.length != CHECKPOINT_BYTES || buffer.getInt(16) != checksum(bytes, 0, 16)) {
+            log.warn("Ignoring corrupted audit spool checkpoint, replaying every segment");
+            return null;
+        }
+        return new long[]{buffer.getLong(0), buffer.getLong(8)};
+    }
+
+    /**
+     * @return 완전하고 체크섬이 맞는 레코드의 payload, 아니면 null
+     */
+    private byte[] readRecord(FileChannel channel, long position, long end) throws IOException {
+        if (position + RECORD_HEADER_BYTES > end) {
+            return null;
+        }
+        recordHeader.clear();
+        readFully(channel, recordHeader, position);
+        int length = recordHeader.getInt(0);
+        if (length <= 0 || length > MAX_RECORD_BYTES || position + RECORD_HEADER_BYTES + length > end) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        readFully(channel, ByteBuffer.wrap(payload), position + RECORD_HEADER_BYTES);
+        return checksum(payload, 0, length) == recordHeader.getInt(4) ? payload : null;
+    }
+
+    private ByteBuffer encode(List<AuditEvent> events) throws IOException {
+        List<byte[]> payloads = new ArrayList<>(events.size());
+        int total = 0;
+        for (AuditEvent event : events) {
+            byte[] payload = objectMapper.writeValueAsBytes(event);
+            if (payload.length > MAX_RECORD_BYTES) {
+                throw new IOException("Audit event " + event.eventId() + " is too large to spool: "
+                        + payload.length + " bytes");
+            }
+            payloads.add(payload);
+            total += RECORD_HEADER_BYTES + payload.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(total);
+        for (byte[] payload : payloads) {
+            buffer.putInt(payload.length).putInt(checksum(payload, 0, payload.length)).put(payload);
+        }
+        return buffer.flip();
+    }
+
+    private AuditEvent decode(byte[] payload, long segment, long position) {
+        try {
+            return objectMapper.readValue(payload, AuditEvent.class);
+        } catch (IOException e) {
+            log.error("Skipping undecodable audit spool record before offset {} of segment {}: {}", position, segment,
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean hasValidHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(channel, header, 0);
+        return header.getInt(0) == MAGIC && header.getInt(4) == VERSION;
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%s%012d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private static Long segmentOf(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of audit spool segment at offset " + offset);
+            }
+            offset += read;
+        }
+    }
+
+    private static int checksum(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,47 @@
+package com.agenticcp.core.domain.security.controller;
+
+import com.agenticcp.core.common.dto.ApiResponse;
+import com.agenticcp.core.common.export.ExportFormat;
+import com.agenticcp.core.domain.security.audit.AuditPipeline;
+import com.agenticcp.core.domain.security.dto.AuditPipelineStatus;
+import com.agenticcp.core.domain.security.entity.AuditLog;
+import com.agenticcp.core.domain.security.service.AuditLogExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/security/audit-logs")
+@RequiredArgsConstructor
+@Tag(name = "Audit Log Management", description = "감사 로그 관리 API")
+public class AuditLogController {
+
+    private final AuditLogExportService auditLogExportService;
+    private final AuditPipeline auditPipeline;
+
+    @GetMapping("/export")
+    @Operation(summary = "감사 로그 스트리밍 내보내기 (NDJSON/CSV, gzip 선택)")
+    public WebAsyncTask<Void> exportAuditLogs(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String tenantKey,
+            @RequestParam(required = false) AuditLog.EventType eventType,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+        return auditLogExportService.export(from, to, tenantKey, eventType, format, gzip, response);
+    }
+
+    @GetMapping("/pipeline/status")
+    @Operation(summary = "감사 로그 쓰기 파이프라인 상태 조회")
+    public ResponseEntity<ApiResponse<AuditPipelineStatus>> getPipelineStatus() {
+        return ResponseEntity.ok(ApiResponse.success(auditPipeline.getStatus()));
+    }
+}
@@ -1,7 +1,19 @@
 package com.agenticcp.core.domain.security.controller;
 
+import com.agenticcp.core.common.changefeed.ChangeFeedResponse;
 import com.agenticcp.core.common.dto.ApiResponse;
+import com.agenticcp.core.domain.security.dto.EffectivePolicyResponse;
+import com.agenticcp.core.domain.security.dto.PolicyBatchRequest;
+import com.agenticcp.core.domain.security.dto.PolicyBatchResponse;
+import com.agenticcp.core.domain.security.dto.PolicyEngineStatus;
+import com.agenticcp.core.domain.security.dto.PolicySimulationRequest;
+import com.agenticcp.core.domain.security.dto.PolicySimulationResponse;
+import com.agenticcp.core.domain.security.dto.PolicyEvaluationRequest;
 import com.agenticcp.core.domain.security.entity.SecurityPolicy;
+import com.agenticcp.core.domain.security.policy.PolicyDecision;
+import com.agenticcp.core.domain.security.policy.PolicyRequest;
+import com.agenticcp.core.domain.security.service.PolicyEngineService;
+import com.agenticcp.core.domain.security.service.PolicySimulationService;
 import com.agenticcp.core.domain.security.service.SecurityPolicyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,6 +31,8 @@ import java.util.List;
 public class SecurityPolicyController {
 
     private final SecurityPolicyService securityPolicyService;
+    private final PolicyEngineService policyEngineService;
+    private final PolicySimulationService policySimulationService;
 
     @GetMapping
     @Operation(summary = "모든 보안 정책 조회")
@@ -34,6 +48,56 @@ public class SecurityPolicyController {
         return ResponseEntity.ok(ApiResponse.success(policies));
     }
 
+    @GetMapping("/changes")
+    @Operation(summary = "보안 정책 변경 피드 조회 (커서 이후 변경/삭제분)")
+    public ResponseEntity<ApiResponse<ChangeFeedResponse>> getChanges(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.success(securityPolicyService.getChanges(cursor, limit)));
+    }
+
+    @PostMapping("/evaluate")
+    @Operation(summary = "요청 컨텍스트에 대한 정책 결정 평가")
+    public ResponseEntity<ApiResponse<PolicyDecision>> evaluate(@RequestBody PolicyEvaluationRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(policyEngineService.evaluate(request.toPolicyRequest())));
+    }
+
+    @PostMapping("/evaluate/batch")
+    @Operation(summary = "여러 요청 컨텍스트에 대한 정책 결정 일괄 평가 (동일 요청은 한 번만 평가)")
+    public ResponseEntity<ApiResponse<PolicyBatchResponse>> evaluateBatch(@RequestBody PolicyBatchRequest request) {
+        List<PolicyRequest> requests = request.getItems() == null ? null : request.getItems().stream()
+                .map(item -> item != null ? item.toPolicyRequest() : null)
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(policyEngineService.evaluateBatch(requests)));
+    }
+
+    @PostMapping("/simulations")
+    @Operation(summary = "감사 로그 재생으로 후보 정책 집합의 what-if 시뮬레이션 시작")
+    public ResponseEntity<ApiResponse<PolicySimulationResponse>> startSimulation(
+            @RequestBody PolicySimulationRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(policySimulationService.start(request)));
+    }
+
+    @GetMapping("/simulations/{simulationId}")
+    @Operation(summary = "정책 시뮬레이션 진행 상태 및 결과 조회")
+    public ResponseEntity<ApiResponse<PolicySimulationResponse>> getSimulation(@PathVariable String simulationId) {
+        return ResponseEntity.ok(ApiResponse.success(policySimulationService.get(simulationId)));
+    }
+
+    @GetMapping("/engine/tenants/{tenantId}/effective")
+    @Operation(summary = "테넌트에 적용되는 정책 조회 (평가 순서, 정책 엔진 캐시)")
+    public ResponseEntity<ApiResponse<EffectivePolicyResponse>> getEffectivePoliciesForTenant(
+            @PathVariable Long tenantId) {
+        return ResponseEntity.ok(ApiResponse.success(policyEngineService.getEffectivePolicies(tenantId)));
+    }
+
+    @GetMapping("/engine/status")
+    @Operation(summary = "정책 평가 엔진 상태 조회")
+    public ResponseEntity<ApiResponse<PolicyEngineStatus>> getEngineStatus() {
+        return ResponseEntity.ok(ApiResponse.success(policyEngineService.getStatus()));
+    }
+
     @GetMapping("/{policyKey}")
     @Operation(summary = "특정 보안 정책 조회")
     public ResponseEntity<ApiResponse<SecurityPolicy>> getPolicyByKey(@PathVariable String policyKey) {
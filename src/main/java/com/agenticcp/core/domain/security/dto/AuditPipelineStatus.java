@@ -0,0 +1,25 @@
+package com.agenticcp.core.domain.security.dto;
+
+import com.agenticcp.core.domain.security.audit.AuditPipelineProperties.Backpressure;
+
+/**
+ * @param queued        링 버퍼에서 저장을 기다리는 이벤트 수
+ * @param spoolPending  스풀에 아직 저장소로 재생하지 않은 이벤트가 있는지
+ * @param spoolSegments 디스크에 남아 있는 스풀 세그먼트 파일 수
+ * @param replayed      스풀에서 재생해 저장한 이벤트 수 (written 에 포함)
+ */
+public record AuditPipelineStatus(boolean running,
+                                  boolean storageHealthy,
+                                  Backpressure backpressure,
+                                  int ringCapacity,
+                                  long queued,
+                                  int batchSize,
+                                  boolean spoolPending,
+                                  int spoolSegments,
+                                  long accepted,
+                                  long spooled,
+                                  long dropped,
+                                  long written,
+                                  long replayed,
+                                  long rejected) {
+}
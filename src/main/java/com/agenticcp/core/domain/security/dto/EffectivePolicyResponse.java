@@ -0,0 +1,32 @@
+package com.agenticcp.core.domain.security.dto;
+
+import com.agenticcp.core.domain.security.policy.CompiledPolicy;
+import com.agenticcp.core.domain.security.policy.EffectivePolicySet;
+import com.agenticcp.core.domain.security.policy.PolicyEffect;
+
+import java.util.List;
+
+/**
+ * 테넌트에 적용되는 정책 목록 (평가 순서)
+ */
+public record EffectivePolicyResponse(Long tenantId,
+                                      int globalPolicies,
+                                      int tenantPolicies,
+                                      List<Entry> policies) {
+
+    public record Entry(Long policyId,
+                        String policyKey,
+                        boolean global,
+                        int priority,
+                        PolicyEffect effect) {
+    }
+
+    public static EffectivePolicyResponse of(Long tenantId, EffectivePolicySet effective) {
+        List<Entry> entries = effective.policies().stream()
+                .map(policy -> new Entry(policy.getId(), policy.getPolicyKey(), policy.getTenantId() == null,
+                        policy.getPriority(), policy.getEffect()))
+                .toList();
+        return new EffectivePolicyResponse(tenantId, effective.size() - effective.tenantPolicyCount(),
+                effective.tenantPolicyCount(), entries);
+    }
+}
@@ -0,0 +1,18 @@
+package com.agenticcp.core.domain.security.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyBatchRequest {
+
+    // identical items are evaluated once; decisions come back in item order
+    private List<PolicyEvaluationRequest> items;
+}
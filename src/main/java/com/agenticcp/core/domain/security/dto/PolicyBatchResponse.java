@@ -0,0 +1,15 @@
+package com.agenticcp.core.domain.security.dto;
+
+import com.agenticcp.core.domain.security.policy.PolicyDecision;
+
+import java.util.List;
+
+/**
+ * @param uniqueItems 중복을 제거하고 실제로 평가한 요청 수
+ * @param decisions   요청 항목 순서와 같은 순서의 결정
+ */
+public record PolicyBatchResponse(int items,
+                                  int uniqueItems,
+                                  long evaluationMicros,
+                                  List<PolicyDecision> decisions) {
+}
@@ -0,0 +1,15 @@
+package com.agenticcp.core.domain.security.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @param failedPolicyKeys 컴파일에 실패해 평가에서 빠진 정책
+ */
+public record PolicyEngineStatus(boolean ready,
+                                 LocalDateTime builtAt,
+                                 long buildMillis,
+                                 int policies,
+                                 int tenants,
+                                 List<String> failedPolicyKeys) {
+}
@@ -0,0 +1,32 @@
+package com.agenticcp.core.domain.security.dto;
+
+import com.agenticcp.core.domain.security.policy.PolicyRequest;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyEvaluationRequest {
+
+    private String principal;
+
+    // without a tenant only global policies apply
+    private Long tenantId;
+
+    private String resourceType;
+
+    private String action;
+
+    // values referenced by policy conditions, e.g. "principal.role" or "resource.region"
+    private Map<String, Object> attributes;
+
+    public PolicyRequest toPolicyRequest() {
+        return new PolicyRequest(principal, tenantId, resourceType, action, attributes);
+    }
+}
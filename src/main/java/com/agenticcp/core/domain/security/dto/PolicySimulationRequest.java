@@ -0,0 +1,31 @@
+package com.agenticcp.core.domain.security.dto;
+
+import com.agenticcp.core.domain.security.entity.SecurityPolicy;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicySimulationRequest {
+
+    @NotNull
+    private LocalDateTime from;
+
+    @NotNull
+    private LocalDateTime to;
+
+    // added to the current policy set; a policy with an existing key replaces it, and a disabled, inactive or
+    // deleted one removes it, as the engine would on that change
+    private List<SecurityPolicy> candidatePolicies;
+
+    // current policies left out of the candidate set
+    private List<String> removedPolicyKeys;
+}
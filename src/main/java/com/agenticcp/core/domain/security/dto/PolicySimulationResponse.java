@@ -0,0 +1,53 @@
+package com.agenticcp.core.domain.security.dto;
+
+import com.agenticcp.core.domain.security.policy.PolicyEffect;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 감사 로그 재생 시뮬레이션 결과. 현재 정책 집합과 후보 정책 집합의 결정(effect)이 달라지는 이벤트를
+ * (테넌트, 액션) 별로 집계한다.
+ *
+ * @param unreportedDifferences 그룹 수 상한을 넘어 그룹 없이 건수만 센 차이
+ */
+public record PolicySimulationResponse(String simulationId,
+                                       Status status,
+                                       LocalDateTime from,
+                                       LocalDateTime to,
+                                       int partitions,
+                                       long scannedEvents,
+                                       long differingEvents,
+                                       long unreportedDifferences,
+                                       LocalDateTime startedAt,
+                                       LocalDateTime completedAt,
+                                       String error,
+                                       List<Group> groups) {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public record Group(Long tenantId,
+                        String action,
+                        long differingEvents,
+                        List<Transition> transitions,
+                        List<Sample> samples) {
+    }
+
+    public record Transition(PolicyEffect currentEffect,
+                             PolicyEffect candidateEffect,
+                             long count) {
+    }
+
+    public record Sample(String eventId,
+                         LocalDateTime eventTimestamp,
+                         String principal,
+                         String resourceType,
+                         String resourceId,
+                         String currentPolicyKey,
+                         String candidatePolicyKey) {
+    }
+}
@@ -12,7 +12,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "security_policies")
+@Table(name = "security_policies", indexes = {
+    @Index(name = "idx_security_policies_change_feed", columnList = "updated_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,9 @@
+package com.agenticcp.core.domain.security.event;
+
+/**
+ * @param tenantId 정책 소속 테넌트 (테넌트가 없는 정책이면 null)
+ */
+public record SecurityPolicyChangedEvent(Long policyId,
+                                         String policyKey,
+                                         Long tenantId) {
+}
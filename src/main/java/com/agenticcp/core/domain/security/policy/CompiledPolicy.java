@@ -0,0 +1,63 @@
+package com.agenticcp.core.domain.security.policy;
+
+import lombok.Getter;
+
+/**
+ * 평가 가능한 형태로 컴파일된 보안 정책 하나
+ */
+@Getter
+public final class CompiledPolicy {
+
+    private final long id;
+    private final String policyKey;
+    // null means the policy applies to every tenant
+    private final Long tenantId;
+    private final int priority;
+    private final PolicyEffect effect;
+    private final PatternSet resourceTypes;
+    private final PatternSet actions;
+    private final PatternSet principals;
+    private final PolicyCondition condition;
+    private final PolicyCondition[] exceptions;
+    private final long effectiveFromMillis;
+    private final long effectiveUntilMillis;
+
+    CompiledPolicy(long id, String policyKey, Long tenantId, int priority, PolicyEffect effect,
+                   PatternSet resourceTypes, PatternSet actions, PatternSet principals, PolicyCondition condition,
+                   PolicyCondition[] exceptions, long effectiveFromMillis, long effectiveUntilMillis) {
+        this.id = id;
+        this.policyKey = policyKey;
+        this.tenantId = tenantId;
+        this.priority = priority;
+        this.effect = effect;
+        this.resourceTypes = resourceTypes;
+        this.actions = actions;
+        this.principals = principals;
+        this.condition = condition;
+        this.exceptions = exceptions;
+        this.effectiveFromMillis = effectiveFromMillis;
+        this.effectiveUntilMillis = effectiveUntilMillis;
+    }
+
+    /**
+     * 테넌트 범위는 {@link PolicySet} 색인에서 이미 걸러졌다고 가정하고, 싼 검사부터 차례로 확인한다.
+     */
+    boolean matches(PolicyRequest request, long nowMillis) {
+        if (nowMillis < effectiveFromMillis || nowMillis > effectiveUntilMillis) {
+            return false;
+        }
+        if (!resourceTypes.matches(request.resourceType()) || !actions.matches(request.action())
+                || !principals.matches(request.principal())) {
+            return false;
+        }
+        if (!condition.test(request)) {
+            return false;
+        }
+        for (PolicyCondition exception : exceptions) {
+            if (exception.test(request)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
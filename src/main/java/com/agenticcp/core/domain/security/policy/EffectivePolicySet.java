@@ -0,0 +1,113 @@
+package com.agenticcp.core.domain.security.policy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테넌트 하나에 적용되는 정책 집합 (글로벌 정책 + 테넌트 정책)
+ *
+ * <p>글로벌 버킷은 모든 테넌트가 같은 인스턴스를 참조로 공유하고, 평가 시 두 버킷을 우선순위 순으로 병합하며
+ * 처음 일치하는 정책에서 멈춘다. 한 버킷 안에서는 배열 위치가 곧 평가 순서이므로 정책 비교는 버킷 사이에서만 한다.</p>
+ */
+public final class EffectivePolicySet {
+
+    private final Long tenantId;
+    private final PolicyBucket global;
+    private final PolicyBucket tenant;
+
+    EffectivePolicySet(Long tenantId, PolicyBucket global, PolicyBucket tenant) {
+        this.tenantId = tenantId;
+        this.global = global;
+        this.tenant = tenant;
+    }
+
+    public Long getTenantId() {
+        return tenantId;
+    }
+
+    public int size() {
+        return global.size() + tenant.size();
+    }
+
+    public int tenantPolicyCount() {
+        return tenant.size();
+    }
+
+    PolicyBucket tenantBucket() {
+        return tenant;
+    }
+
+    /**
+     * 평가 순서대로 나열한 정책
+     */
+    public List<CompiledPolicy> policies() {
+        List<CompiledPolicy> merged = new ArrayList<>(size());
+        int g = 0;
+        int t = 0;
+        while (g < global.policies.length || t < tenant.policies.length) {
+            if (t == tenant.policies.length || g < global.policies.length
+                    && PolicyBucket.compare(global.policies[g], tenant.policies[t]) < 0) {
+                merged.add(global.policies[g++]);
+            } else {
+                merged.add(tenant.policies[t++]);
+            }
+        }
+        return merged;
+    }
+
+    public PolicyDecision evaluate(PolicyRequest request, long nowMillis) {
+        CompiledPolicy[] globalPolicies = global.policies;
+        int[] globalTyped = global.typed(request.resourceType());
+        int[] globalUntyped = global.untyped;
+        CompiledPolicy[] tenantPolicies = tenant.policies;
+        int[] tenantTyped = tenant.typed(request.resourceType());
+        int[] tenantUntyped = tenant.untyped;
+
+        int a = 0;
+        int b = 0;
+        int c = 0;
+        int d = 0;
+        int evaluated = 0;
+        while (true) {
+            // within a bucket the smaller index comes first
+            int globalNext = Integer.MAX_VALUE;
+            if (a < globalTyped.length) {
+                globalNext = globalTyped[a];
+            }
+            if (b < globalUntyped.length && globalUntyped[b] < globalNext) {
+                globalNext = globalUntyped[b];
+            }
+            int tenantNext = Integer.MAX_VALUE;
+            if (c < tenantTyped.length) {
+                tenantNext = tenantTyped[c];
+            }
+            if (d < tenantUntyped.length && tenantUntyped[d] < tenantNext) {
+                tenantNext = tenantUntyped[d];
+            }
+
+            CompiledPolicy policy;
+            if (globalNext != Integer.MAX_VALUE && (tenantNext == Integer.MAX_VALUE
+                    || PolicyBucket.compare(globalPolicies[globalNext], tenantPolicies[tenantNext]) < 0)) {
+                policy = globalPolicies[globalNext];
+                if (a < globalTyped.length && globalTyped[a] == globalNext) {
+                    a++;
+                } else {
+                    b++;
+                }
+            } else if (tenantNext != Integer.MAX_VALUE) {
+                policy = tenantPolicies[tenantNext];
+                if (c < tenantTyped.length && tenantTyped[c] == tenantNext) {
+                    c++;
+                } else {
+                    d++;
+                }
+            } else {
+                return PolicyDecision.notApplicable(evaluated);
+            }
+            evaluated++;
+            if (policy.matches(request, nowMillis)) {
+                return PolicyDecision.matched(policy, evaluated);
+            }
+        }
+    }
+}
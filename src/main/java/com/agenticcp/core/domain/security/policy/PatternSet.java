@@ -0,0 +1,69 @@
+package com.agenticcp.core.domain.security.policy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 정확히 일치하는 값과 {@code prefix*} 패턴의 집합. 비어 있거나 {@code *} 를 포함하면 모든 값과 일치한다.
+ */
+final class PatternSet {
+
+    static final PatternSet ANY = new PatternSet(true, Set.of(), new String[0]);
+
+    private final boolean any;
+    private final Set<String> exact;
+    private final String[] prefixes;
+
+    private PatternSet(boolean any, Set<String> exact, String[] prefixes) {
+        this.any = any;
+        this.exact = exact;
+        this.prefixes = prefixes;
+    }
+
+    static PatternSet of(List<String> patterns) {
+        if (patterns == null || patterns.isEmpty() || patterns.contains("*")) {
+            return ANY;
+        }
+        Set<String> exact = new HashSet<>();
+        List<String> prefixes = new ArrayList<>();
+        for (String pattern : patterns) {
+            if (pattern.endsWith("*")) {
+                prefixes.add(pattern.substring(0, pattern.length() - 1));
+            } else {
+                exact.add(pattern);
+            }
+        }
+        return new PatternSet(false, Set.copyOf(exact), prefixes.toArray(String[]::new));
+    }
+
+    boolean matches(String value) {
+        if (any) {
+            return true;
+        }
+        if (value == null) {
+            return false;
+        }
+        if (exact.contains(value)) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (value.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isAny() {
+        return any;
+    }
+
+    /**
+     * 값이 정확히 정해진 패턴만 있으면 그 값들, 와일드카드가 섞여 있으면 null
+     */
+    Set<String> exactValues() {
+        return !any && prefixes.length == 0 ? exact : null;
+    }
+}
@@ -0,0 +1,85 @@
+package com.agenticcp.core.domain.security.policy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 같은 범위(글로벌 또는 테넌트 하나)에 속한 정책의 불변 묶음
+ *
+ * <p>정책은 평가 순서로 정렬되어 있고, 대상 리소스 타입이 정확히 정해진 정책은 타입별로, 와일드카드인 정책은
+ * 따로 배열 위치(오름차순)로 색인된다.</p>
+ */
+final class PolicyBucket {
+
+    static final Comparator<CompiledPolicy> EVALUATION_ORDER = PolicyBucket::compare;
+
+    static final int[] NONE = new int[0];
+
+    static final PolicyBucket EMPTY = of(List.of());
+
+    final CompiledPolicy[] policies;
+    final int[] untyped;
+    private final Map<String, int[]> byType;
+
+    private PolicyBucket(CompiledPolicy[] policies, Map<String, int[]> byType, int[] untyped) {
+        this.policies = policies;
+        this.byType = byType;
+        this.untyped = untyped;
+    }
+
+    static PolicyBucket of(Collection<CompiledPolicy> policies) {
+        CompiledPolicy[] ordered = policies.stream().sorted(EVALUATION_ORDER).toArray(CompiledPolicy[]::new);
+        Map<String, List<Integer>> typed = new HashMap<>();
+        List<Integer> untyped = new ArrayList<>();
+        for (int index = 0; index < ordered.length; index++) {
+            Collection<String> resourceTypes = ordered[index].getResourceTypes().exactValues();
+            if (resourceTypes == null) {
+                untyped.add(index);
+                continue;
+            }
+            int position = index;
+            resourceTypes.forEach(type -> typed.computeIfAbsent(type, key -> new ArrayList<>()).add(position));
+        }
+        Map<String, int[]> byType = new HashMap<>();
+        typed.forEach((type, indexes) -> byType.put(type, toArray(indexes)));
+        return new PolicyBucket(ordered, Map.copyOf(byType), toArray(untyped));
+    }
+
+    int[] typed(String resourceType) {
+        if (resourceType == null) {
+            return NONE;
+        }
+        int[] indexes = byType.get(resourceType);
+        return indexes != null ? indexes : NONE;
+    }
+
+    int size() {
+        return policies.length;
+    }
+
+    List<CompiledPolicy> asList() {
+        return Arrays.asList(policies);
+    }
+
+    /**
+     * 우선순위 내림차순, 같은 우선순위에서는 DENY 먼저, 그다음 id 오름차순
+     */
+    static int compare(CompiledPolicy left, CompiledPolicy right) {
+        if (left.getPriority() != right.getPriority()) {
+            return left.getPriority() > right.getPriority() ? -1 : 1;
+        }
+        if (left.getEffect() != right.getEffect()) {
+            return left.getEffect() == PolicyEffect.DENY ? -1 : 1;
+        }
+        return Long.compare(left.getId(), right.getId());
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
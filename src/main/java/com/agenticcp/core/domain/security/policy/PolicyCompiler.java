@@ -0,0 +1,208 @@
+package com.agenticcp.core.domain.security.policy;
+
+import com.agenticcp.core.common.exception.ValidationException;
+import com.agenticcp.core.domain.security.entity.SecurityPolicy;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * {@link SecurityPolicy} 의 JSON 필드를 조건 트리로 컴파일한다.
+ *
+ * <ul>
+ *   <li>{@code rules}: {@code {"effect": "DENY|ALLOW", "principals": ["alice", "svc-*"]}} (effect 기본값 DENY)</li>
+ *   <li>{@code actions}, {@code targetResources}: 값 또는 {@code prefix*} 패턴 배열 (비어 있으면 전체)</li>
+ *   <li>{@code conditions}: 조건식. {@code {"all": [...]}}, {@code {"any": [...]}}, {@code {"not": {...}}},
+ *       {@code {"attribute": "principal.role", "operator": "in", "value": ["DEVELOPER"]}}. 배열이면 all 로 본다.</li>
+ *   <li>{@code exceptions}: 조건식 배열. 하나라도 참이면 정책이 적용되지 않는다.</li>
+ * </ul>
+ *
+ * <p>연산자: equals, not_equals, in, not_in, starts_with, ends_with, matches, exists, gt, gte, lt, lte.
+ * 속성 principal, tenantId, resourceType, action 은 요청 필드를, 그 외 이름은 요청 attributes 를 가리킨다.</p>
+ */
+@Component
+public class PolicyCompiler {
+
+    private final ObjectMapper objectMapper;
+
+    public PolicyCompiler(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @throws ValidationException JSON 필드가 형식에 맞지 않을 때 (field 는 문제된 엔티티 필드명)
+     */
+    public CompiledPolicy compile(SecurityPolicy policy) {
+        Long tenantId = Boolean.TRUE.equals(policy.getIsGlobal()) || policy.getTenant() == null
+                ? null : policy.getTenant().getId();
+        JsonNode rules = parse("rules", policy.getRules());
+        PolicyEffect effect = PolicyEffect.DENY;
+        PatternSet principals = PatternSet.ANY;
+        if (rules != null) {
+            if (!rules.isObject()) {
+                throw new ValidationException("rules", "rules must be a JSON object");
+            }
+            if (rules.hasNonNull("effect")) {
+                effect = parseEffect(rules.get("effect").asText());
+            }
+            principals = PatternSet.of(stringList("rules", rules.get("principals")));
+        }
+        JsonNode conditions = parse("conditions", policy.getConditions());
+        JsonNode exceptions = parse("exceptions", policy.getExceptions());
+        List<PolicyCondition> compiledExceptions = new ArrayList<>();
+        if (exceptions != null) {
+            if (!exceptions.isArray()) {
+                throw new ValidationException("exceptions", "exceptions must be a JSON array");
+            }
+            exceptions.forEach(exception -> compiledExceptions.add(condition("exceptions", exception)));
+        }
+        // unsaved policies are compiled only to validate them
+        long id = policy.getId() != null ? policy.getId() : 0L;
+        return new CompiledPolicy(id, policy.getPolicyKey(), tenantId,
+                policy.getPriority() != null ? policy.getPriority() : 0, effect,
+                PatternSet.of(stringList("targetResources", parse("targetResources", policy.getTargetResources()))),
+                PatternSet.of(stringList("actions", parse("actions", policy.getActions()))),
+                principals,
+                conditions != null ? condition("conditions", conditions) : PolicyCondition.ALWAYS,
+                compiledExceptions.toArray(PolicyCondition[]::new),
+                toMillis(policy.getEffectiveFrom(), Long.MIN_VALUE),
+                toMillis(policy.getEffectiveUntil(), Long.MAX_VALUE));
+    }
+
+    private PolicyCondition condition(String field, JsonNode node) {
+        if (node.isArray()) {
+            return new PolicyCondition.All(children(field, node));
+        }
+        if (!node.isObject()) {
+            throw new ValidationException(field, "condition must be a JSON object or array");
+        }
+        if (node.has("all")) {
+            return new PolicyCondition.All(children(field, node.get("all")));
+        }
+        if (node.has("any")) {
+            return new PolicyCondition.Any(children(field, node.get("any")));
+        }
+        if (node.has("not")) {
+            return new PolicyCondition.Not(condition(field, node.get("not")));
+        }
+        String attributeName = node.path("attribute").asText(null);
+        String operator = node.path("operator").asText(null);
+        if (attributeName == null || operator == null) {
+            throw new ValidationException(field, "condition requires all, any, not or attribute and operator");
+        }
+        Function<PolicyRequest, Object> attribute = PolicyCondition.attribute(attributeName);
+        JsonNode value = node.get("value");
+        return switch (operator) {
+            case "exists" -> new PolicyCondition.Exists(attribute);
+            case "equals" -> new PolicyCondition.Equals(attribute, scalar(field, value));
+            case "not_equals" -> new PolicyCondition.Not(new PolicyCondition.Equals(attribute, scalar(field, value)));
+            case "in" -> new PolicyCondition.In(attribute, scalars(field, value));
+            case "not_in" -> new PolicyCondition.Not(new PolicyCondition.In(attribute, scalars(field, value)));
+            case "starts_with" -> new PolicyCondition.StartsWith(attribute, text(field, value));
+            case "ends_with" -> new PolicyCondition.EndsWith(attribute, text(field, value));
+            case "matches" -> new PolicyCondition.Matches(attribute, regex(field, value));
+            case "gt" -> new PolicyCondition.Compare(attribute, number(field, value), 1, false);
+            case "gte" -> new PolicyCondition.Compare(attribute, number(field, value), 1, true);
+            case "lt" -> new PolicyCondition.Compare(attribute, number(field, value), -1, false);
+            case "lte" -> new PolicyCondition.Compare(attribute, number(field, value), -1, true);
+            default -> throw new ValidationException(field, "Unknown condition operator: " + operator);
+        };
+    }
+
+    private PolicyCondition[] children(String field, JsonNode node) {
+        if (node == null || !node.isArray() || node.isEmpty()) {
+            throw new ValidationException(field, "all/any requires a non-empty array");
+        }
+        List<PolicyCondition> children = new ArrayList<>(node.size());
+        node.forEach(child -> children.add(condition(field, child)));
+        return children.toArray(PolicyCondition[]::new);
+    }
+
+    private JsonNode parse(String field, String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            return node == null || node.isNull() ? null : node;
+        } catch (JsonProcessingException e) {
+            throw new ValidationException(field, "Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private static PolicyEffect parseEffect(String value) {
+        return switch (value.toUpperCase()) {
+            case "ALLOW" -> PolicyEffect.ALLOW;
+            case "DENY" -> PolicyEffect.DENY;
+            default -> throw new ValidationException("rules", "effect must be ALLOW or DENY");
+        };
+    }
+
+    private static List<String> stringList(String field, JsonNode node) {
+        if (node == null || node.isNull()) {
+            return List.of();
+        }
+        if (!node.isArray()) {
+            throw new ValidationException(field, field + " must be a JSON array of strings");
+        }
+        List<String> values = new ArrayList<>(node.size());
+        node.forEach(value -> values.add(text(field, value)));
+        return values;
+    }
+
+    private static Object scalar(String field, JsonNode node) {
+        if (node == null || node.isNull() || node.isContainerNode()) {
+            throw new ValidationException(field, "condition value must be a string, number or boolean");
+        }
+        if (node.isNumber()) {
+            return node.doubleValue();
+        }
+        return node.isBoolean() ? node.booleanValue() : node.asText();
+    }
+
+    private static Set<Object> scalars(String field, JsonNode node) {
+        if (node == null || !node.isArray()) {
+            throw new ValidationException(field, "in/not_in value must be an array");
+        }
+        Set<Object> values = new HashSet<>();
+        node.forEach(value -> values.add(scalar(field, value)));
+        return Set.copyOf(values);
+    }
+
+    private static String text(String field, JsonNode node) {
+        if (node == null || !node.isTextual()) {
+            throw new ValidationException(field, "value must be a string");
+        }
+        return node.asText();
+    }
+
+    private static double number(String field, JsonNode node) {
+        if (node == null || !node.isNumber()) {
+            throw new ValidationException(field, "value must be a number");
+        }
+        return node.doubleValue();
+    }
+
+    private static Pattern regex(String field, JsonNode node) {
+        try {
+            return Pattern.compile(text(field, node));
+        } catch (PatternSyntaxException e) {
+            throw new ValidationException(field, "Invalid regular expression: " + e.getDescription());
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime, long defaultValue) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : defaultValue;
+    }
+}
@@ -0,0 +1,119 @@
+package com.agenticcp.core.domain.security.policy;
+
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * 컴파일된 조건식 노드. 정책을 적재할 때 JSON 에서 한 번 만들어지고 평가 시에는 할당 없이 트리를 따라간다.
+ */
+@FunctionalInterface
+interface PolicyCondition {
+
+    PolicyCondition ALWAYS = request -> true;
+
+    boolean test(PolicyRequest request);
+
+    static Function<PolicyRequest, Object> attribute(String name) {
+        return switch (name) {
+            case "principal" -> PolicyRequest::principal;
+            case "tenantId" -> PolicyRequest::tenantId;
+            case "resourceType" -> PolicyRequest::resourceType;
+            case "action" -> PolicyRequest::action;
+            default -> request -> request.attributes().get(name);
+        };
+    }
+
+    /**
+     * 숫자는 타입과 관계없이 비교되도록 Double 로 맞춘다.
+     */
+    static Object normalize(Object value) {
+        return value instanceof Number number && !(value instanceof Double) ? number.doubleValue() : value;
+    }
+
+    record All(PolicyCondition[] children) implements PolicyCondition {
+        @Override
+        public boolean test(PolicyRequest request) {
+            for (PolicyCondition child : children) {
+                if (!child.test(request)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    record Any(PolicyCondition[] children) implements PolicyCondition {
+        @Override
+        public boolean test(PolicyRequest request) {
+            for (PolicyCondition child : children) {
+                if (child.test(request)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    record Not(PolicyCondition child) implements PolicyCondition {
+        @Override
+        public boolean test(PolicyRequest request) {
+            return !child.test(request);
+        }
+    }
+
+    record Exists(Function<PolicyRequest, Object> attribute) implements PolicyCondition {
+        @Override
+        public boolean test(PolicyRequest request) {
+            return attribute.apply(request) != null;
+        }
+    }
+
+    record Equals(Function<PolicyRequest, Object> attribute, Object value) implements PolicyCondition {
+        @Override
+        public boolean test(PolicyRequest request) {
+            return value.equals(normalize(attribute.apply(request)));
+        }
+    }
+
+    record In(Function<PolicyRequest, Object> attribute, Set<Object> values) implements PolicyCondition {
+        @Override
+        public boolean test(PolicyRequest request) {
+            Object actual = attribute.apply(request);
+            return actual != null && values.contains(normalize(actual));
+        }
+    }
+
+    record StartsWith(Function<PolicyRequest, Object> attribute, String prefix) implements PolicyCondition {
+        @Override
+        public boolean test(PolicyRequest request) {
+            return attribute.apply(request) instanceof String actual && actual.startsWith(prefix);
+        }
+    }
+
+    record EndsWith(Function<PolicyRequest, Object> attribute, String suffix) implements PolicyCondition {
+        @Override
+        public boolean test(PolicyRequest request) {
+            return attribute.apply(request) instanceof String actual && actual.endsWith(suffix);
+        }
+    }
+
+    record Matches(Function<PolicyRequest, Object> attribute, Pattern pattern) implements PolicyCondition {
+        @Override
+        public boolean test(PolicyRequest request) {
+            return attribute.apply(request) instanceof String actual && pattern.matcher(actual).matches();
+        }
+    }
+
+    record Compare(Function<PolicyRequest, Object> attribute, double value, int sign, boolean inclusive)
+            implements PolicyCondition {
+        @Override
+        public boolean test(PolicyRequest request) {
+            if (!(attribute.apply(request) instanceof Number actual)) {
+                return false;
+            }
+            int comparison = Double.compare(actual.doubleValue(), value);
+            return comparison == 0 ? inclusive : Integer.signum(comparison) == sign;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.agenticcp.core.domain.security.policy;
+
+/**
+ * @param policyId            결정을 내린 정책 (적용 정책이 없으면 null)
+ * @param evaluatedPolicies   결정까지 평가한 후보 정책 수
+ */
+public record PolicyDecision(PolicyEffect effect, Long policyId, String policyKey, int evaluatedPolicies) {
+
+    static PolicyDecision matched(CompiledPolicy policy, int evaluatedPolicies) {
+        return new PolicyDecision(policy.getEffect(), policy.getId(), policy.getPolicyKey(), evaluatedPolicies);
+    }
+
+    static PolicyDecision notApplicable(int evaluatedPolicies) {
+        return new PolicyDecision(PolicyEffect.NOT_APPLICABLE, null, null, evaluatedPolicies);
+    }
+}
@@ -0,0 +1,8 @@
+package com.agenticcp.core.domain.security.policy;
+
+public enum PolicyEffect {
+    ALLOW,
+    DENY,
+    // no applicable policy matched; the caller applies its own default
+    NOT_APPLICABLE
+}
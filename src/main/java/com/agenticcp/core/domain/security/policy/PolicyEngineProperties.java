@@ -0,0 +1,20 @@
+package com.agenticcp.core.domain.security.policy;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "agenticcp.security.policy-engine")
+public class PolicyEngineProperties {
+
+    // requests accepted by one batch decision call
+    private int maxBatchItems = 10_000;
+
+    // fork-join workers evaluating batch decisions
+    private int parallelism = 4;
+
+    // distinct requests evaluated by one fork-join leaf; smaller batches run on the caller thread
+    private int splitThreshold = 256;
+}
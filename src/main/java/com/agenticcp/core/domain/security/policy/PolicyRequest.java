@@ -0,0 +1,20 @@
+package com.agenticcp.core.domain.security.policy;
+
+import java.util.Map;
+
+/**
+ * 정책 평가 입력
+ *
+ * @param tenantId   null 이면 글로벌 정책만 적용된다
+ * @param attributes 조건식이 참조하는 추가 속성 (예: {@code principal.role}, {@code resource.region})
+ */
+public record PolicyRequest(String principal,
+                            Long tenantId,
+                            String resourceType,
+                            String action,
+                            Map<String, Object> attributes) {
+
+    public PolicyRequest {
+        attributes = attributes != null ? attributes : Map.of();
+    }
+}
@@ -0,0 +1,149 @@
+package com.agenticcp.core.domain.security.policy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 컴파일된 정책의 불변 스냅샷
+ *
+ * <p>테넌트별 유효 정책 집합({@link EffectivePolicySet})을 미리 만들어 두며, 모든 집합이 같은 글로벌 버킷을 참조로
+ * 공유한다. 정책 하나가 바뀌면 그 정책이 속했던/속할 버킷만 다시 만들고, 나머지 테넌트의 집합은 그대로 재사용한다.
+ * 글로벌 정책이 바뀐 경우에만 모든 테넌트 집합이 새 글로벌 버킷을 가리키도록 다시 묶인다.</p>
+ */
+public final class PolicySet {
+
+    private static final PolicySet EMPTY = of(List.of());
+
+    private final Map<Long, CompiledPolicy> byId;
+    private final PolicyBucket global;
+    private final EffectivePolicySet globalOnly;
+    private final Map<Long, EffectivePolicySet> tenants;
+
+    private PolicySet(Map<Long, CompiledPolicy> byId, PolicyBucket global, Map<Long, EffectivePolicySet> tenants) {
+        this.byId = byId;
+        this.global = global;
+        this.globalOnly = new EffectivePolicySet(null, global, PolicyBucket.EMPTY);
+        this.tenants = tenants;
+    }
+
+    public static PolicySet empty() {
+        return EMPTY;
+    }
+
+    public static PolicySet of(Collection<CompiledPolicy> policies) {
+        Map<Long, CompiledPolicy> byId = new HashMap<>();
+        List<CompiledPolicy> globalPolicies = new ArrayList<>();
+        Map<Long, List<CompiledPolicy>> tenantPolicies = new HashMap<>();
+        for (CompiledPolicy policy : policies) {
+            byId.put(policy.getId(), policy);
+        }
+        for (CompiledPolicy policy : byId.values()) {
+            if (policy.getTenantId() == null) {
+                globalPolicies.add(policy);
+            } else {
+                tenantPolicies.computeIfAbsent(policy.getTenantId(), tenantId -> new ArrayList<>()).add(policy);
+            }
+        }
+        PolicyBucket global = PolicyBucket.of(globalPolicies);
+        Map<Long, EffectivePolicySet> tenants = new HashMap<>();
+        tenantPolicies.forEach((tenantId, scoped) ->
+                tenants.put(tenantId, new EffectivePolicySet(tenantId, global, PolicyBucket.of(scoped))));
+        return new PolicySet(byId, global, tenants);
+    }
+
+    /**
+     * 같은 id 의 정책이 있으면 교체한 새 스냅샷
+     */
+    public PolicySet with(CompiledPolicy policy) {
+        return replace(policy.getId(), policy);
+    }
+
+    public PolicySet without(long policyId) {
+        return byId.containsKey(policyId) ? replace(policyId, null) : this;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public int tenantCount() {
+        return tenants.size();
+    }
+
+    /**
+     * 테넌트에 적용되는 정책 집합. 테넌트 정책이 없거나 tenantId 가 null 이면 글로벌 정책만 담긴 공유 집합.
+     */
+    public EffectivePolicySet effectiveFor(Long tenantId) {
+        EffectivePolicySet effective = tenantId != null ? tenants.get(tenantId) : null;
+        return effective != null ? effective : globalOnly;
+    }
+
+    public PolicyDecision evaluate(PolicyRequest request, long nowMillis) {
+        return effectiveFor(request.tenantId()).evaluate(request, nowMillis);
+    }
+
+    private PolicySet replace(long policyId, CompiledPolicy replacement) {
+        CompiledPolicy previous = byId.get(policyId);
+        Map<Long, CompiledPolicy> nextById = new HashMap<>(byId);
+        if (replacement != null) {
+            nextById.put(policyId, replacement);
+        } else {
+            nextById.remove(policyId);
+        }
+
+        boolean globalChanged = previous != null && previous.getTenantId() == null
+                || replacement != null && replacement.getTenantId() == null;
+        PolicyBucket nextGlobal = globalChanged ? rebuild(bucketPolicies(null), policyId, replacement, null) : global;
+        Map<Long, EffectivePolicySet> nextTenants = new HashMap<>(tenants);
+        if (globalChanged) {
+            nextTenants.replaceAll((tenantId, effective) ->
+                    new EffectivePolicySet(tenantId, nextGlobal, effective.tenantBucket()));
+        }
+        for (Long tenantId : affectedTenants(previous, replacement)) {
+            PolicyBucket bucket = rebuild(bucketPolicies(tenantId), policyId, replacement, tenantId);
+            if (bucket.size() == 0) {
+                nextTenants.remove(tenantId);
+            } else {
+                nextTenants.put(tenantId, new EffectivePolicySet(tenantId, nextGlobal, bucket));
+            }
+        }
+        return new PolicySet(nextById, nextGlobal, nextTenants);
+    }
+
+    private List<CompiledPolicy> bucketPolicies(Long tenantId) {
+        if (tenantId == null) {
+            return global.asList();
+        }
+        EffectivePolicySet effective = tenants.get(tenantId);
+        return effective != null ? effective.tenantBucket().asList() : List.of();
+    }
+
+    private static PolicyBucket rebuild(List<CompiledPolicy> current, long policyId, CompiledPolicy replacement,
+                                        Long tenantId) {
+        List<CompiledPolicy> next = new ArrayList<>(current.size() + 1);
+        for (CompiledPolicy policy : current) {
+            if (policy.getId() != policyId) {
+                next.add(policy);
+            }
+        }
+        if (replacement != null && Objects.equals(replacement.getTenantId(), tenantId)) {
+            next.add(replacement);
+        }
+        return PolicyBucket.of(next);
+    }
+
+    private static List<Long> affectedTenants(CompiledPolicy previous, CompiledPolicy replacement) {
+        List<Long> tenantIds = new ArrayList<>(2);
+        if (previous != null && previous.getTenantId() != null) {
+            tenantIds.add(previous.getTenantId());
+        }
+        if (replacement != null && replacement.getTenantId() != null && !tenantIds.contains(replacement.getTenantId())) {
+            tenantIds.add(replacement.getTenantId());
+        }
+        return tenantIds;
+    }
+}
@@ -0,0 +1,105 @@
+package com.agenticcp.core.domain.security.repository;
+
+import com.agenticcp.core.domain.security.audit.AuditEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 감사 로그 JDBC 쓰기 (다중 행 INSERT 한 문장으로 배치 저장)
+ *
+ * <p>이미 있는 event_id 의 행은 건너뛰므로 같은 이벤트를 다시 보내도 한 번만 저장된다 (스풀 재생은 최소 한 번).</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditLogBatchRepository {
+
+    private static final String WRITER = "audit-pipeline";
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO audit_logs (event_id, tenant_id, user_id, event_type, event_category, severity, event_name, " +
+            "description, resource_type, resource_id, resource_name, action, result, ip_address, user_agent, " +
+            "session_id, request_id, event_timestamp, duration_ms, details, tags, is_retained, created_at, " +
+            "updated_at, created_by, updated_by, is_deleted) VALUES ";
+
+    private static final String ON_DUPLICATE_EVENT_ID = " ON DUPLICATE KEY UPDATE event_id = event_id";
+
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?, ?, ?, false)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // statement text of the last row count used; the writer mostly sends full batches
+    private volatile InsertStatement lastStatement = new InsertStatement(0, "");
+
+    private record InsertStatement(int rows, String sql) {
+    }
+
+    public int insert(List<AuditEvent> events, LocalDateTime now) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql(events.size()));
+            int index = 1;
+            for (AuditEvent event : events) {
+                statement.setString(index++, event.eventId());
+                statement.setObject(index++, event.tenantId(), Types.BIGINT);
+                statement.setObject(index++, event.userId(), Types.BIGINT);
+                statement.setString(index++, name(event.eventType()));
+                statement.setString(index++, name(event.eventCategory()));
+                statement.setString(index++, name(event.severity()));
+                statement.setString(index++, event.eventName());
+                statement.setString(index++, event.description());
+                statement.setString(index++, event.resourceType());
+                statement.setString(index++, event.resourceId());
+                statement.setString(index++, event.resourceName());
+                statement.setString(index++, event.action());
+                statement.setString(index++, name(event.result()));
+                statement.setString(index++, event.ipAddress());
+                statement.setString(index++, event.userAgent());
+                statement.setString(index++, event.sessionId());
+                statement.setString(index++, event.requestId());
+                statement.setTimestamp(index++, Timestamp.valueOf(event.eventTimestamp()));
+                statement.setObject(index++, event.durationMs(), Types.BIGINT);
+                statement.setString(index++, event.details());
+                statement.setString(index++, event.tags());
+                statement.setTimestamp(index++, timestamp);
+                statement.setTimestamp(index++, timestamp);
+                statement.setString(index++, WRITER);
+                statement.setString(index++, WRITER);
+            }
+            return statement;
+        });
+    }
+
+    private String sql(int rows) {
+        InsertStatement cached = lastStatement;
+        if (cached.rows() == rows) {
+            return cached.sql();
+        }
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (VALUES_ROW.length() + 2)
+                + ON_DUPLICATE_EVENT_ID.length());
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(VALUES_ROW);
+        }
+        sql.append(ON_DUPLICATE_EVENT_ID);
+        InsertStatement statement = new InsertStatement(rows, sql.toString());
+        lastStatement = statement;
+        return statement.sql();
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
@@ -0,0 +1,86 @@
+package com.agenticcp.core.domain.security.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 정책 시뮬레이션용 감사 로그 JDBC 스트리밍 (id 범위 파티션 단위)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditLogReplayRepository {
+
+    private static final String SELECT_ID_RANGE_SQL =
+            "SELECT MIN(id), MAX(id) FROM audit_logs WHERE event_timestamp >= ? AND event_timestamp < ?";
+
+    private static final String SELECT_EVENTS_SQL =
+            "SELECT a.id, a.event_id, a.event_timestamp, a.tenant_id, u.username, a.resource_type, a.action, " +
+            "a.event_type, a.event_category, a.severity, a.result, a.resource_id, a.resource_name, a.ip_address " +
+            "FROM audit_logs a " +
+            "LEFT JOIN users u ON u.id = a.user_id " +
+            "WHERE a.id >= ? AND a.id <= ? AND a.event_timestamp >= ? AND a.event_timestamp < ? " +
+            "AND a.is_deleted = false";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record IdRange(long minId, long maxId) {
+    }
+
+    public record AuditEventRow(long id,
+                                String eventId,
+                                LocalDateTime eventTimestamp,
+                                Long tenantId,
+                                String username,
+                                String resourceType,
+                                String action,
+                                String eventType,
+                                String eventCategory,
+                                String severity,
+                                String result,
+                                String resourceId,
+                                String resourceName,
+                                String ipAddress) {
+    }
+
+    /**
+     * 기간 안 감사 로그의 id 범위 (없으면 null)
+     */
+    public IdRange findIdRange(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(SELECT_ID_RANGE_SQL, rs -> {
+            rs.next();
+            long minId = rs.getLong(1);
+            return rs.wasNull() ? null : new IdRange(minId, rs.getLong(2));
+        }, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    public void stream(long fromId, long toId, LocalDateTime from, LocalDateTime to, int fetchSize,
+                       Consumer<AuditEventRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_EVENTS_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setLong(1, fromId);
+            statement.setLong(2, toId);
+            statement.setTimestamp(3, Timestamp.valueOf(from));
+            statement.setTimestamp(4, Timestamp.valueOf(to));
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, (ResultSet rs) -> {
+            consumer.accept(mapRow(rs));
+        });
+    }
+
+    private static AuditEventRow mapRow(ResultSet rs) throws SQLException {
+        return new AuditEventRow(rs.getLong(1), rs.getString(2), rs.getObject(3, LocalDateTime.class),
+                rs.getObject(4, Long.class), rs.getString(5), rs.getString(6), rs.getString(7), rs.getString(8),
+                rs.getString(9), rs.getString(10), rs.getString(11), rs.getString(12), rs.getString(13),
+                rs.getString(14));
+    }
+}
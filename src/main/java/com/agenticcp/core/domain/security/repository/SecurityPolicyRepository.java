@@ -41,6 +41,13 @@ public interface SecurityPolicyRepository extends JpaRepository<SecurityPolicy,
     @Query("SELECT sp FROM SecurityPolicy sp WHERE sp.policyType = :policyType AND sp.status = :status AND sp.isEnabled = true ORDER BY sp.priority DESC")
     List<SecurityPolicy> findPoliciesByTypeOrderedByPriority(@Param("policyType") SecurityPolicy.PolicyType policyType, @Param("status") Status status);
 
+    // policy engine loads: tenant is fetched so compilation needs no session
+    @Query("SELECT sp FROM SecurityPolicy sp LEFT JOIN FETCH sp.tenant WHERE sp.status = :status AND sp.isEnabled = true AND sp.isDeleted = false")
+    List<SecurityPolicy> findEvaluablePolicies(@Param("status") Status status);
+
+    @Query("SELECT sp FROM SecurityPolicy sp LEFT JOIN FETCH sp.tenant WHERE sp.id = :id")
+    Optional<SecurityPolicy> findWithTenantById(@Param("id") Long id);
+
     @Query("SELECT COUNT(sp) FROM SecurityPolicy sp WHERE sp.tenant = :tenant AND sp.status = :status")
     Long countPoliciesByTenant(@Param("tenant") Tenant tenant, @Param("status") Status status);
 }
@@ -0,0 +1,53 @@
+package com.agenticcp.core.domain.security.service;
+
+import com.agenticcp.core.common.exception.ValidationException;
+import com.agenticcp.core.common.export.ExportFormat;
+import com.agenticcp.core.common.export.ExportQuery;
+import com.agenticcp.core.common.export.JdbcStreamingExporter;
+import com.agenticcp.core.domain.security.entity.AuditLog;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class AuditLogExportService {
+
+    private static final String EXPORT_SQL =
+            "SELECT a.id, a.event_id, a.event_timestamp, t.tenant_key, u.username, a.event_type, a.event_category, " +
+            "a.severity, a.event_name, a.action, a.result, a.resource_type, a.resource_id, a.resource_name, " +
+            "a.ip_address, a.user_agent, a.session_id, a.request_id, a.duration_ms, a.description, a.details " +
+            "FROM audit_logs a " +
+            "LEFT JOIN tenants t ON t.id = a.tenant_id " +
+            "LEFT JOIN users u ON u.id = a.user_id " +
+            "WHERE a.is_deleted = false AND a.event_timestamp >= :from AND a.event_timestamp < :to";
+
+    private final JdbcStreamingExporter exporter;
+
+    public WebAsyncTask<Void> export(LocalDateTime from, LocalDateTime to, String tenantKey,
+                                     AuditLog.EventType eventType,
+                                     ExportFormat format, boolean gzip, HttpServletResponse response) {
+        if (!from.isBefore(to)) {
+            throw new ValidationException("from", "from must be before to");
+        }
+        StringBuilder sql = new StringBuilder(EXPORT_SQL);
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("from", from);
+        parameters.put("to", to);
+        if (tenantKey != null) {
+            sql.append(" AND t.tenant_key = :tenantKey");
+            parameters.put("tenantKey", tenantKey);
+        }
+        if (eventType != null) {
+            sql.append(" AND a.event_type = :eventType");
+            parameters.put("eventType", eventType.name());
+        }
+        sql.append(" ORDER BY a.event_timestamp, a.id");
+        return exporter.export(new ExportQuery("audit-logs", sql.toString(), parameters), format, gzip, response);
+    }
+}
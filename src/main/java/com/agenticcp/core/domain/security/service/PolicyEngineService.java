@@ -0,0 +1,270 @@
+package com.agenticcp.core.domain.security.service;
+
+import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.common.exception.BusinessException;
+import com.agenticcp.core.common.exception.ValidationException;
+import com.agenticcp.core.domain.security.dto.EffectivePolicyResponse;
+import com.agenticcp.core.domain.security.dto.PolicyBatchResponse;
+import com.agenticcp.core.domain.security.dto.PolicyEngineStatus;
+import com.agenticcp.core.domain.security.entity.SecurityPolicy;
+import com.agenticcp.core.domain.security.event.SecurityPolicyChangedEvent;
+import com.agenticcp.core.domain.security.policy.CompiledPolicy;
+import com.agenticcp.core.domain.security.policy.PolicyCompiler;
+import com.agenticcp.core.domain.security.policy.PolicyDecision;
+import com.agenticcp.core.domain.security.policy.PolicyEngineProperties;
+import com.agenticcp.core.domain.security.policy.PolicyRequest;
+import com.agenticcp.core.domain.security.policy.PolicySet;
+import com.agenticcp.core.domain.security.repository.SecurityPolicyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 보안 정책 평가 엔진
+ *
+ * <p>기동 시 평가 대상 정책(활성, 사용 중, 삭제되지 않음)을 모두 읽어 컴파일한 {@link PolicySet} 을 만들고,
+ * 이후에는 {@link SecurityPolicyChangedEvent} 로 바뀐 정책 하나만 다시 읽어 컴파일한 새 스냅샷으로 교체한다.
+ * 스냅샷은 테넌트별 유효 정책 집합(글로벌 + 테넌트 정책, 우선순위 정렬)을 미리 갖고 있어 바뀐 정책이 속한 테넌트의
+ * 집합만 다시 만든다. 평가는 현재 스냅샷만 읽으므로 DB 를 거치지 않는다.</p>
+ *
+ * <p>배치 결정은 한 스냅샷과 한 시각을 기준으로, 같은 요청은 한 번만 평가해 전용 fork-join 풀에서 나눠 처리한다.</p>
+ */
+@Slf4j
+@Service
+public class PolicyEngineService {
+
+    private final SecurityPolicyRepository securityPolicyRepository;
+    private final PolicyCompiler policyCompiler;
+    private final MeterRegistry meterRegistry;
+    private final PolicyEngineProperties properties;
+    private final Timer evaluationTimer;
+    private final ForkJoinPool batchPool;
+
+    // policy key by id for policies left out because they failed to compile
+    private final Map<Long, String> failedPolicies = new ConcurrentHashMap<>();
+    private volatile PolicySet policySet = PolicySet.empty();
+    private volatile boolean ready;
+    private volatile LocalDateTime builtAt;
+    private volatile long buildMillis;
+
+    public PolicyEngineService(SecurityPolicyRepository securityPolicyRepository, PolicyCompiler policyCompiler,
+                               MeterRegistry meterRegistry, PolicyEngineProperties properties) {
+        this.securityPolicyRepository = securityPolicyRepository;
+        this.policyCompiler = policyCompiler;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.evaluationTimer = meterRegistry.timer("security.policy.evaluation");
+        meterRegistry.gauge("security.policy.engine.policies", this, service -> service.policySet.size());
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.batchPool = new ForkJoinPool(properties.getParallelism(), forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("policy-batch-" + threadNumber.incrementAndGet());
+            return thread;
+        }, null, false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchPool.shutdownNow();
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        long startNanos = System.nanoTime();
+        try {
+            List<CompiledPolicy> compiled = new ArrayList<>();
+            failedPolicies.clear();
+            for (SecurityPolicy policy : securityPolicyRepository.findEvaluablePolicies(Status.ACTIVE)) {
+                CompiledPolicy compiledPolicy = compile(policy);
+                if (compiledPolicy != null) {
+                    compiled.add(compiledPolicy);
+                }
+            }
+            policySet = PolicySet.of(compiled);
+            builtAt = LocalDateTime.now();
+            buildMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            ready = true;
+        } catch (Exception e) {
+            log.error("Failed to build security policy engine", e);
+            return;
+        }
+        log.info("Compiled {} security policies ({} failed) in {} ms", policySet.size(), failedPolicies.size(),
+                buildMillis);
+    }
+
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPolicyChanged(SecurityPolicyChangedEvent event) {
+        refresh(event.policyId());
+        log.debug("Refreshed effective policies of tenant {} after change to {}",
+                event.tenantId() != null ? event.tenantId() : "(global)", event.policyKey());
+    }
+
+    /**
+     * 정책 하나를 DB 에서 다시 읽어 스냅샷에 반영한다. 락 안에서 읽으므로 마지막으로 반영되는 상태는 항상 최신 커밋이다.
+     */
+    synchronized void refresh(Long policyId) {
+        try {
+            SecurityPolicy policy = securityPolicyRepository.findWithTenantById(policyId)
+                    .filter(PolicyEngineService::isEvaluable)
+                    .orElse(null);
+            failedPolicies.remove(policyId);
+            CompiledPolicy compiled = policy != null ? compile(policy) : null;
+            policySet = compiled != null ? policySet.with(compiled) : policySet.without(policyId);
+        } catch (Exception e) {
+            log.error("Failed to refresh security policy {} in policy engine", policyId, e);
+        }
+    }
+
+    public PolicyDecision evaluate(PolicyRequest request) {
+        PolicySet current = requireReady();
+        long startNanos = System.nanoTime();
+        PolicyDecision decision = current.evaluate(request, System.currentTimeMillis());
+        evaluationTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        return decision;
+    }
+
+    public PolicyBatchResponse evaluateBatch(List<PolicyRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ValidationException("items", "At least one item is required");
+        }
+        if (requests.size() > properties.getMaxBatchItems()) {
+            throw new ValidationException("items", "At most " + properties.getMaxBatchItems() + " items are allowed");
+        }
+        PolicySet current = requireReady();
+        long nowMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+
+        Map<PolicyRequest, Integer> uniqueIndexes = new HashMap<>();
+        List<PolicyRequest> unique = new ArrayList<>();
+        int[] slots = new int[requests.size()];
+        for (int i = 0; i < slots.length; i++) {
+            PolicyRequest request = requests.get(i);
+            if (request == null) {
+                throw new ValidationException("items[" + i + "]", "Item must not be null");
+            }
+            slots[i] = uniqueIndexes.computeIfAbsent(request, key -> {
+                unique.add(key);
+                return unique.size() - 1;
+            });
+        }
+        PolicyDecision[] decisions = new PolicyDecision[unique.size()];
+        DecideTask task = new DecideTask(current, nowMillis, unique, decisions, 0, unique.size());
+        if (unique.size() > properties.getSplitThreshold()) {
+            batchPool.invoke(task);
+        } else {
+            task.compute();
+        }
+
+        PolicyDecision[] ordered = new PolicyDecision[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            ordered[i] = decisions[slots[i]];
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        meterRegistry.timer("security.policy.evaluation.batch").record(elapsedNanos, TimeUnit.NANOSECONDS);
+        return new PolicyBatchResponse(slots.length, unique.size(), TimeUnit.NANOSECONDS.toMicros(elapsedNanos),
+                Arrays.asList(ordered));
+    }
+
+    /**
+     * 현재 정책 스냅샷 (불변이므로 호출자가 그대로 계속 평가에 써도 된다)
+     */
+    public PolicySet getSnapshot() {
+        return requireReady();
+    }
+
+    public EffectivePolicyResponse getEffectivePolicies(Long tenantId) {
+        return EffectivePolicyResponse.of(tenantId, requireReady().effectiveFor(tenantId));
+    }
+
+    public PolicyEngineStatus getStatus() {
+        PolicySet current = policySet;
+        return new PolicyEngineStatus(ready, builtAt, buildMillis, current.size(), current.tenantCount(),
+                List.copyOf(failedPolicies.values()));
+    }
+
+    private CompiledPolicy compile(SecurityPolicy policy) {
+        try {
+            return policyCompiler.compile(policy);
+        } catch (ValidationException e) {
+            log.warn("Skipping security policy {} that failed to compile: {}", policy.getPolicyKey(), e.getMessage());
+            failedPolicies.put(policy.getId(), policy.getPolicyKey());
+            meterRegistry.counter("security.policy.compile.failures").increment();
+            return null;
+        }
+    }
+
+    /**
+     * 활성, 사용 중, 삭제되지 않은 정책만 스냅샷에 들어간다.
+     */
+    static boolean isEvaluable(SecurityPolicy policy) {
+        return !Boolean.TRUE.equals(policy.getIsDeleted()) && policy.getStatus() == Status.ACTIVE
+                && Boolean.TRUE.equals(policy.getIsEnabled());
+    }
+
+    private PolicySet requireReady() {
+        if (!ready) {
+            throw new BusinessException("Security policy engine is still loading", "POLICY_ENGINE_NOT_READY",
+                    HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return policySet;
+    }
+
+    private final class DecideTask extends RecursiveAction {
+
+        private final PolicySet policySet;
+        private final long nowMillis;
+        private final List<PolicyRequest> requests;
+        private final PolicyDecision[] decisions;
+        private final int from;
+        private final int to;
+
+        private DecideTask(PolicySet policySet, long nowMillis, List<PolicyRequest> requests,
+                           PolicyDecision[] decisions, int from, int to) {
+            this.policySet = policySet;
+            this.nowMillis = nowMillis;
+            this.requests = requests;
+            this.decisions = decisions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > properties.getSplitThreshold()) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new DecideTask(policySet, nowMillis, requests, decisions, from, middle),
+                        new DecideTask(policySet, nowMillis, requests, decisions, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                decisions[i] = policySet.evaluate(requests.get(i), nowMillis);
+            }
+        }
+    }
+}
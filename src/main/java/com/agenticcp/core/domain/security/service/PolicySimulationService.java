@@ -0,0 +1,209 @@
+package com.agenticcp.core.domain.security.service;
+
+import com.agenticcp.core.common.exception.BusinessException;
+import com.agenticcp.core.common.exception.ResourceNotFoundException;
+import com.agenticcp.core.common.exception.ValidationException;
+import com.agenticcp.core.domain.security.dto.PolicySimulationRequest;
+import com.agenticcp.core.domain.security.dto.PolicySimulationResponse;
+import com.agenticcp.core.domain.security.dto.PolicySimulationResponse.Sample;
+import com.agenticcp.core.domain.security.entity.SecurityPolicy;
+import com.agenticcp.core.domain.security.policy.PolicyCompiler;
+import com.agenticcp.core.domain.security.policy.PolicyDecision;
+import com.agenticcp.core.domain.security.policy.PolicyRequest;
+import com.agenticcp.core.domain.security.policy.PolicySet;
+import com.agenticcp.core.domain.security.repository.AuditLogReplayRepository;
+import com.agenticcp.core.domain.security.repository.AuditLogReplayRepository.AuditEventRow;
+import com.agenticcp.core.domain.security.repository.AuditLogReplayRepository.IdRange;
+import com.agenticcp.core.domain.security.repository.SecurityPolicyRepository;
+import com.agenticcp.core.domain.security.simulation.DifferenceAggregator;
+import com.agenticcp.core.domain.security.simulation.PolicySimulation;
+import com.agenticcp.core.domain.security.simulation.PolicySimulationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 정책 what-if 시뮬레이션
+ *
+ * <p>기간 안 감사 로그를 id 범위 파티션으로 나눠 병렬로 스트리밍하면서, 각 이벤트를 이벤트 시각 기준으로 현재 정책
+ * 스냅샷과 후보 정책 집합(현재 스냅샷 + 후보 정책 - 제외 정책)에 각각 평가한다. 결정이 달라진 이벤트만
+ * (테넌트, 액션) 별로 집계하므로 재생하는 행 수와 관계없이 메모리 사용량이 일정하다.</p>
+ */
+@Slf4j
+@Service
+public class PolicySimulationService {
+
+    private final AuditLogReplayRepository replayRepository;
+    private final SecurityPolicyRepository securityPolicyRepository;
+    private final PolicyEngineService policyEngineService;
+    private final PolicyCompiler policyCompiler;
+    private final PolicySimulationProperties properties;
+    private final ThreadPoolTaskExecutor policySimulationExecutor;
+
+    private final Map<String, PolicySimulation> simulations = new LinkedHashMap<>();
+
+    public PolicySimulationService(AuditLogReplayRepository replayRepository,
+                                   SecurityPolicyRepository securityPolicyRepository,
+                                   PolicyEngineService policyEngineService,
+                                   PolicyCompiler policyCompiler,
+                                   PolicySimulationProperties properties,
+                                   ThreadPoolTaskExecutor policySimulationExecutor) {
+        this.replayRepository = replayRepository;
+        this.securityPolicyRepository = securityPolicyRepository;
+        this.policyEngineService = policyEngineService;
+        this.policyCompiler = policyCompiler;
+        this.properties = properties;
+        this.policySimulationExecutor = policySimulationExecutor;
+    }
+
+    public PolicySimulationResponse start(PolicySimulationRequest request) {
+        if (request.getFrom() == null || request.getTo() == null) {
+            throw new ValidationException("from", "from and to are required");
+        }
+        if (!request.getFrom().isBefore(request.getTo())) {
+            throw new ValidationException("from", "from must be before to");
+        }
+        PolicySet current = policyEngineService.getSnapshot();
+        PolicySet candidate = buildCandidateSet(current, request);
+
+        IdRange idRange = replayRepository.findIdRange(request.getFrom(), request.getTo());
+        int partitions = idRange == null ? 0
+                : (int) Math.max(1, Math.min(properties.getPartitions(), idRange.maxId() - idRange.minId() + 1));
+        PolicySimulation simulation = register(request.getFrom(), request.getTo(), partitions);
+        log.info("Starting policy simulation {} over {} - {} in {} partition(s)", simulation.getId(),
+                request.getFrom(), request.getTo(), partitions);
+        if (idRange == null) {
+            simulation.complete();
+            return simulation.toResponse();
+        }
+
+        long span = idRange.maxId() - idRange.minId() + 1;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            long fromId = idRange.minId() + span * partition / partitions;
+            long toId = idRange.minId() + span * (partition + 1) / partitions - 1;
+            futures.add(CompletableFuture.runAsync(() -> replayPartition(simulation, current, candidate, fromId, toId,
+                    request.getFrom(), request.getTo()), policySimulationExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                log.error("Policy simulation {} failed", simulation.getId(), throwable);
+                simulation.fail(throwable.getMessage());
+            } else {
+                simulation.complete();
+                log.info("Policy simulation {} completed", simulation.getId());
+            }
+        });
+        return simulation.toResponse();
+    }
+
+    public PolicySimulationResponse get(String simulationId) {
+        PolicySimulation simulation;
+        synchronized (simulations) {
+            simulation = simulations.get(simulationId);
+        }
+        if (simulation == null) {
+            throw new ResourceNotFoundException("PolicySimulation", "id", simulationId);
+        }
+        return simulation.toResponse();
+    }
+
+    private void replayPartition(PolicySimulation simulation, PolicySet current, PolicySet candidate, long fromId,
+                                 long toId, LocalDateTime from, LocalDateTime to) {
+        DifferenceAggregator differences = new DifferenceAggregator(properties.getMaxGroups(),
+                properties.getSamplesPerGroup());
+        long[] scanned = new long[1];
+        ZoneId zone = ZoneId.systemDefault();
+        replayRepository.stream(fromId, toId, from, to, properties.getFetchSize(), row -> {
+            PolicyRequest request = toPolicyRequest(row);
+            long eventMillis = row.eventTimestamp().atZone(zone).toInstant().toEpochMilli();
+            PolicyDecision currentDecision = current.evaluate(request, eventMillis);
+            PolicyDecision candidateDecision = candidate.evaluate(request, eventMillis);
+            if (currentDecision.effect() != candidateDecision.effect()) {
+                differences.record(row.tenantId(), row.action(), currentDecision.effect(), candidateDecision.effect(),
+                        () -> new Sample(row.eventId(), row.eventTimestamp(), row.username(), row.resourceType(),
+                                row.resourceId(), currentDecision.policyKey(), candidateDecision.policyKey()));
+            }
+            // publish progress in steps so pollers see it without contending on every row
+            if (++scanned[0] % properties.getFetchSize() == 0) {
+                simulation.addScanned(properties.getFetchSize());
+            }
+        });
+        simulation.addScanned(scanned[0] % properties.getFetchSize());
+        simulation.mergePartition(differences);
+    }
+
+    private PolicySet buildCandidateSet(PolicySet current, PolicySimulationRequest request) {
+        PolicySet candidate = current;
+        if (request.getRemovedPolicyKeys() != null) {
+            for (String policyKey : request.getRemovedPolicyKeys()) {
+                SecurityPolicy existing = securityPolicyRepository.findByPolicyKey(policyKey)
+                        .orElseThrow(() -> new ResourceNotFoundException("SecurityPolicy", "policyKey", policyKey));
+                candidate = candidate.without(existing.getId());
+            }
+        }
+        if (request.getCandidatePolicies() != null) {
+            // new candidates get negative ids so they never collide with stored policies
+            long syntheticId = -1;
+            for (SecurityPolicy policy : request.getCandidatePolicies()) {
+                if (policy.getPolicyKey() == null) {
+                    throw new ValidationException("candidatePolicies", "policyKey is required");
+                }
+                Long existingId = securityPolicyRepository.findByPolicyKey(policy.getPolicyKey())
+                        .map(SecurityPolicy::getId)
+                        .orElse(null);
+                policy.setId(existingId != null ? existingId : syntheticId--);
+                // same filter as the engine: a disabled or inactive candidate takes its stored policy out
+                candidate = PolicyEngineService.isEvaluable(policy)
+                        ? candidate.with(policyCompiler.compile(policy))
+                        : candidate.without(policy.getId());
+            }
+        }
+        return candidate;
+    }
+
+    private static PolicyRequest toPolicyRequest(AuditEventRow row) {
+        Map<String, Object> attributes = new HashMap<>(8);
+        putIfPresent(attributes, "eventType", row.eventType());
+        putIfPresent(attributes, "eventCategory", row.eventCategory());
+        putIfPresent(attributes, "severity", row.severity());
+        putIfPresent(attributes, "result", row.result());
+        putIfPresent(attributes, "resourceId", row.resourceId());
+        putIfPresent(attributes, "resourceName", row.resourceName());
+        putIfPresent(attributes, "ipAddress", row.ipAddress());
+        return new PolicyRequest(row.username(), row.tenantId(), row.resourceType(), row.action(), attributes);
+    }
+
+    private static void putIfPresent(Map<String, Object> attributes, String name, String value) {
+        if (value != null) {
+            attributes.put(name, value);
+        }
+    }
+
+    private PolicySimulation register(LocalDateTime from, LocalDateTime to, int partitions) {
+        synchronized (simulations) {
+            if (simulations.values().stream().anyMatch(PolicySimulation::isRunning)) {
+                throw new BusinessException("A policy simulation is already running", "POLICY_SIMULATION_RUNNING",
+                        HttpStatus.CONFLICT);
+            }
+            PolicySimulation simulation = new PolicySimulation(UUID.randomUUID().toString(), from, to, partitions,
+                    properties);
+            simulations.put(simulation.getId(), simulation);
+            while (simulations.size() > properties.getRetainedSimulations()) {
+                simulations.remove(simulations.keySet().iterator().next());
+            }
+            return simulation;
+        }
+    }
+}
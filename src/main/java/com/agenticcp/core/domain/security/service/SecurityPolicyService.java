@@ -1,12 +1,18 @@
 package com.agenticcp.core.domain.security.service;
 
+import com.agenticcp.core.common.changefeed.ChangeFeedDefinition;
+import com.agenticcp.core.common.changefeed.ChangeFeedReader;
+import com.agenticcp.core.common.changefeed.ChangeFeedResponse;
 import com.agenticcp.core.common.exception.ResourceNotFoundException;
 import com.agenticcp.core.domain.security.entity.SecurityPolicy;
+import com.agenticcp.core.domain.security.event.SecurityPolicyChangedEvent;
+import com.agenticcp.core.domain.security.policy.PolicyCompiler;
 import com.agenticcp.core.domain.security.repository.SecurityPolicyRepository;
 import com.agenticcp.core.common.enums.Status;
 import com.agenticcp.core.domain.tenant.entity.Tenant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,7 +26,15 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class SecurityPolicyService {
 
+    private static final ChangeFeedDefinition CHANGE_FEED = new ChangeFeedDefinition("security-policies", "security_policies", List.of(
+            "policy_key", "policy_name", "description", "tenant_id", "status", "policy_type", "severity", "is_global",
+            "is_system", "is_enabled", "rules", "conditions", "actions", "target_resources", "exceptions",
+            "effective_from", "effective_until", "priority", "metadata"));
+
     private final SecurityPolicyRepository securityPolicyRepository;
+    private final ChangeFeedReader changeFeedReader;
+    private final PolicyCompiler policyCompiler;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<SecurityPolicy> getAllPolicies() {
         return securityPolicyRepository.findAll();
@@ -74,7 +88,8 @@ public class SecurityPolicyService {
     @Transactional
     public SecurityPolicy createPolicy(SecurityPolicy securityPolicy) {
         log.info("Creating security policy: {}", securityPolicy.getPolicyKey());
-        return securityPolicyRepository.save(securityPolicy);
+        policyCompiler.compile(securityPolicy);
+        return publishChange(securityPolicyRepository.save(securityPolicy));
     }
 
     @Transactional
@@ -99,8 +114,9 @@ public class SecurityPolicyService {
         existingPolicy.setPriority(updatedPolicy.getPriority());
         existingPolicy.setMetadata(updatedPolicy.getMetadata());
         
+        policyCompiler.compile(existingPolicy);
         log.info("Updating security policy: {}", policyKey);
-        return securityPolicyRepository.save(existingPolicy);
+        return publishChange(securityPolicyRepository.save(existingPolicy));
     }
 
     @Transactional
@@ -108,7 +124,7 @@ public class SecurityPolicyService {
         SecurityPolicy policy = getPolicyByKeyOrThrow(policyKey);
         policy.setIsEnabled(enabled);
         log.info("Toggling security policy {} to {}", policyKey, enabled);
-        return securityPolicyRepository.save(policy);
+        return publishChange(securityPolicyRepository.save(policy));
     }
 
     @Transactional
@@ -117,7 +133,7 @@ public class SecurityPolicyService {
         policy.setStatus(Status.ACTIVE);
         policy.setIsEnabled(true);
         log.info("Activating security policy: {}", policyKey);
-        return securityPolicyRepository.save(policy);
+        return publishChange(securityPolicyRepository.save(policy));
     }
 
     @Transactional
@@ -126,14 +142,24 @@ public class SecurityPolicyService {
         policy.setStatus(Status.INACTIVE);
         policy.setIsEnabled(false);
         log.info("Deactivating security policy: {}", policyKey);
-        return securityPolicyRepository.save(policy);
+        return publishChange(securityPolicyRepository.save(policy));
     }
 
     @Transactional
     public void deletePolicy(String policyKey) {
         SecurityPolicy policy = getPolicyByKeyOrThrow(policyKey);
         policy.setIsDeleted(true);
-        securityPolicyRepository.save(policy);
+        publishChange(securityPolicyRepository.save(policy));
         log.info("Soft deleted security policy: {}", policyKey);
     }
+
+    private SecurityPolicy publishChange(SecurityPolicy policy) {
+        eventPublisher.publishEvent(new SecurityPolicyChangedEvent(policy.getId(), policy.getPolicyKey(),
+                policy.getTenant() != null ? policy.getTenant().getId() : null));
+        return policy;
+    }
+
+    public ChangeFeedResponse getChanges(String cursor, Integer limit) {
+        return changeFeedReader.read(CHANGE_FEED, cursor, limit);
+    }
 }
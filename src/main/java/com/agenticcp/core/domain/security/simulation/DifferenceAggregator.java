@@ -0,0 +1,119 @@
+package com.agenticcp.core.domain.security.simulation;
+
+import com.agenticcp.core.domain.security.dto.PolicySimulationResponse.Group;
+import com.agenticcp.core.domain.security.dto.PolicySimulationResponse.Sample;
+import com.agenticcp.core.domain.security.dto.PolicySimulationResponse.Transition;
+import com.agenticcp.core.domain.security.policy.PolicyEffect;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 결정이 달라진 이벤트를 (테넌트, 액션) 별로 센다. 그룹 수와 그룹당 샘플 수에 상한이 있어 재생하는 행 수와
+ * 관계없이 메모리 사용량이 일정하다. 파티션마다 하나씩 쓰고 끝나면 {@link #merge} 로 합친다 (스레드 안전하지 않음).
+ */
+public final class DifferenceAggregator {
+
+    private static final PolicyEffect[] EFFECTS = PolicyEffect.values();
+
+    private final int maxGroups;
+    private final int samplesPerGroup;
+    private final Map<GroupKey, GroupStats> groups = new HashMap<>();
+    private long differingEvents;
+    private long unreportedDifferences;
+
+    public DifferenceAggregator(int maxGroups, int samplesPerGroup) {
+        this.maxGroups = maxGroups;
+        this.samplesPerGroup = samplesPerGroup;
+    }
+
+    /**
+     * @param sample 그룹에 샘플 자리가 남아 있을 때만 호출된다
+     */
+    public void record(Long tenantId, String action, PolicyEffect currentEffect, PolicyEffect candidateEffect,
+                       Supplier<Sample> sample) {
+        differingEvents++;
+        GroupStats stats = group(new GroupKey(tenantId, action));
+        if (stats == null) {
+            unreportedDifferences++;
+            return;
+        }
+        stats.count++;
+        stats.transitions[currentEffect.ordinal() * EFFECTS.length + candidateEffect.ordinal()]++;
+        if (stats.samples.size() < samplesPerGroup) {
+            stats.samples.add(sample.get());
+        }
+    }
+
+    public void merge(DifferenceAggregator other) {
+        differingEvents += other.differingEvents;
+        unreportedDifferences += other.unreportedDifferences;
+        other.groups.forEach((key, otherStats) -> {
+            GroupStats stats = group(key);
+            if (stats == null) {
+                unreportedDifferences += otherStats.count;
+                return;
+            }
+            stats.count += otherStats.count;
+            for (int i = 0; i < stats.transitions.length; i++) {
+                stats.transitions[i] += otherStats.transitions[i];
+            }
+            for (Sample sample : otherStats.samples) {
+                if (stats.samples.size() >= samplesPerGroup) {
+                    break;
+                }
+                stats.samples.add(sample);
+            }
+        });
+    }
+
+    public long getDifferingEvents() {
+        return differingEvents;
+    }
+
+    public long getUnreportedDifferences() {
+        return unreportedDifferences;
+    }
+
+    /**
+     * 차이가 많은 그룹부터
+     */
+    public List<Group> toGroups() {
+        List<Group> result = new ArrayList<>(groups.size());
+        groups.forEach((key, stats) -> {
+            List<Transition> transitions = new ArrayList<>();
+            for (int i = 0; i < stats.transitions.length; i++) {
+                if (stats.transitions[i] > 0) {
+                    transitions.add(new Transition(EFFECTS[i / EFFECTS.length], EFFECTS[i % EFFECTS.length],
+                            stats.transitions[i]));
+                }
+            }
+            result.add(new Group(key.tenantId(), key.action(), stats.count, transitions, List.copyOf(stats.samples)));
+        });
+        result.sort(Comparator.comparingLong(Group::differingEvents).reversed());
+        return result;
+    }
+
+    private GroupStats group(GroupKey key) {
+        GroupStats stats = groups.get(key);
+        if (stats == null && groups.size() < maxGroups) {
+            stats = new GroupStats();
+            groups.put(key, stats);
+        }
+        return stats;
+    }
+
+    private record GroupKey(Long tenantId, String action) {
+    }
+
+    private static final class GroupStats {
+
+        private long count;
+        private final long[] transitions = new long[EFFECTS.length * EFFECTS.length];
+        private final List<Sample> samples = new ArrayList<>();
+    }
+}
@@ -0,0 +1,69 @@
+package com.agenticcp.core.domain.security.simulation;
+
+import com.agenticcp.core.domain.security.dto.PolicySimulationResponse;
+import com.agenticcp.core.domain.security.dto.PolicySimulationResponse.Status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 중이거나 끝난 시뮬레이션 하나의 진행 상태. 파티션 결과는 끝날 때마다 {@link #mergePartition} 으로 합쳐진다.
+ */
+public final class PolicySimulation {
+
+    private final String id;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final int partitions;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong scannedEvents = new AtomicLong();
+    private final DifferenceAggregator differences;
+    private volatile Status status = Status.RUNNING;
+    private volatile LocalDateTime completedAt;
+    private volatile String error;
+
+    public PolicySimulation(String id, LocalDateTime from, LocalDateTime to, int partitions,
+                            PolicySimulationProperties properties) {
+        this.id = id;
+        this.from = from;
+        this.to = to;
+        this.partitions = partitions;
+        this.differences = new DifferenceAggregator(properties.getMaxGroups(), properties.getSamplesPerGroup());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    public void addScanned(long events) {
+        scannedEvents.addAndGet(events);
+    }
+
+    public synchronized void mergePartition(DifferenceAggregator partition) {
+        differences.merge(partition);
+    }
+
+    public void complete() {
+        completedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    public void fail(String message) {
+        error = message;
+        completedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    public synchronized PolicySimulationResponse toResponse() {
+        // groups are reported once all partitions are merged; progress counters are live
+        List<PolicySimulationResponse.Group> groups = status == Status.COMPLETED ? differences.toGroups() : List.of();
+        return new PolicySimulationResponse(id, status, from, to, partitions, scannedEvents.get(),
+                differences.getDifferingEvents(), differences.getUnreportedDifferences(), startedAt, completedAt,
+                error, groups);
+    }
+}
@@ -0,0 +1,24 @@
+package com.agenticcp.core.domain.security.simulation;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "agenticcp.security.policy-simulation")
+public class PolicySimulationProperties {
+
+    // id-range partitions replayed in parallel
+    private int partitions = 8;
+
+    private int fetchSize = 5000;
+
+    // (tenant, action) groups kept per simulation; differences beyond this are only counted
+    private int maxGroups = 10_000;
+
+    private int samplesPerGroup = 5;
+
+    // finished simulations kept in memory for polling
+    private int retainedSimulations = 20;
+}
@@ -1,5 +1,6 @@
 package com.agenticcp.core.domain.tenant.controller;
 
+import com.agenticcp.core.common.changefeed.ChangeFeedResponse;
 import com.agenticcp.core.common.dto.ApiResponse;
 import com.agenticcp.core.domain.tenant.entity.Tenant;
 import com.agenticcp.core.domain.tenant.service.TenantService;
@@ -34,6 +35,14 @@ public class TenantController {
         return ResponseEntity.ok(ApiResponse.success(tenants));
     }
 
+    @GetMapping("/changes")
+    @Operation(summary = "테넌트 변경 피드 조회 (커서 이후 변경/삭제분)")
+    public ResponseEntity<ApiResponse<ChangeFeedResponse>> getChanges(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.success(tenantService.getChanges(cursor, limit)));
+    }
+
     @GetMapping("/{tenantKey}")
     @Operation(summary = "특정 테넌트 조회")
     public ResponseEntity<ApiResponse<Tenant>> getTenantByKey(@PathVariable String tenantKey) {
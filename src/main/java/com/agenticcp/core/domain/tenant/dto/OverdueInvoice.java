@@ -0,0 +1,14 @@
+package com.agenticcp.core.domain.tenant.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record OverdueInvoice(Long billingId,
+                             String invoiceNumber,
+                             Long tenantId,
+                             String tenantKey,
+                             String contactEmail,
+                             BigDecimal totalAmount,
+                             String currency,
+                             LocalDateTime dueDate) {
+}
@@ -11,7 +11,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tenants")
+@Table(name = "tenants", indexes = {
+    @Index(name = "idx_tenants_change_feed", columnList = "updated_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -11,7 +11,11 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tenant_billing")
+@Table(name = "tenant_billing", indexes = {
+    @Index(name = "uk_tenant_billing_invoice_number", columnList = "invoice_number", unique = true),
+    @Index(name = "idx_tenant_billing_tenant_period", columnList = "tenant_id, billing_period_start"),
+    @Index(name = "idx_tenant_billing_status_due_date", columnList = "payment_status, due_date")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,8 @@
+package com.agenticcp.core.domain.tenant.event;
+
+import com.agenticcp.core.domain.tenant.dto.OverdueInvoice;
+
+import java.util.List;
+
+public record PaymentOverdueEvent(List<OverdueInvoice> invoices) {
+}
@@ -0,0 +1,9 @@
+package com.agenticcp.core.domain.tenant.event;
+
+import com.agenticcp.core.common.enums.Status;
+
+public record TenantStatusChangedEvent(Long tenantId,
+                                       String tenantKey,
+                                       Status previousStatus,
+                                       Status status) {
+}
@@ -0,0 +1,58 @@
+package com.agenticcp.core.domain.tenant.repository;
+
+import com.agenticcp.core.domain.tenant.entity.Tenant;
+import com.agenticcp.core.domain.tenant.entity.TenantBilling;
+import com.agenticcp.core.domain.tenant.dto.OverdueInvoice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TenantBillingRepository extends JpaRepository<TenantBilling, Long> {
+
+    Optional<TenantBilling> findByInvoiceNumber(String invoiceNumber);
+
+    List<TenantBilling> findByTenant(Tenant tenant);
+
+    List<TenantBilling> findByPaymentStatus(TenantBilling.PaymentStatus paymentStatus);
+
+    @Query("SELECT b.tenant.id FROM TenantBilling b WHERE b.tenant.id IN :tenantIds " +
+           "AND b.billingPeriodStart = :periodStart AND b.isDeleted = false")
+    List<Long> findInvoicedTenantIds(@Param("tenantIds") Collection<Long> tenantIds,
+                                     @Param("periodStart") LocalDateTime periodStart);
+
+    /**
+     * 기한이 (from, to] 에 든 청구서 id 를 잠근다 (idx_tenant_billing_status_due_date 범위 스캔). 다른 감지기가 잠근 행은
+     * 건너뛰므로 동시에 실행돼도 같은 청구서를 두 번 처리하지 않는다.
+     */
+    @Query(value = "SELECT id FROM tenant_billing " +
+                   "WHERE payment_status = :status AND due_date > :from AND due_date <= :to AND is_deleted = false " +
+                   "ORDER BY due_date, id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockDueCrossedInvoiceIds(@Param("status") String status,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to,
+                                        @Param("limit") int limit);
+
+    @Query("SELECT new com.agenticcp.core.domain.tenant.dto.OverdueInvoice(" +
+           "b.id, b.invoiceNumber, t.id, t.tenantKey, t.contactEmail, b.totalAmount, b.currency, b.dueDate) " +
+           "FROM TenantBilling b JOIN b.tenant t WHERE b.id IN :ids AND b.paymentStatus = :status " +
+           "ORDER BY b.dueDate, b.id")
+    List<OverdueInvoice> findInvoicesByIdsAndStatus(@Param("ids") Collection<Long> ids,
+                                                    @Param("status") TenantBilling.PaymentStatus status);
+
+    @Modifying
+    @Query("UPDATE TenantBilling b SET b.paymentStatus = :newStatus, b.updatedAt = :now " +
+           "WHERE b.id IN :ids AND b.paymentStatus = :expectedStatus")
+    int bulkUpdatePaymentStatus(@Param("ids") Collection<Long> ids,
+                                @Param("expectedStatus") TenantBilling.PaymentStatus expectedStatus,
+                                @Param("newStatus") TenantBilling.PaymentStatus newStatus,
+                                @Param("now") LocalDateTime now);
+}
@@ -2,6 +2,7 @@ package com.agenticcp.core.domain.tenant.repository;
 
 import com.agenticcp.core.domain.tenant.entity.Tenant;
 import com.agenticcp.core.common.enums.Status;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -34,4 +35,12 @@ public interface TenantRepository extends JpaRepository<Tenant, Long> {
 
     @Query("SELECT COUNT(t) FROM Tenant t WHERE t.status = :status AND t.isDeleted = false")
     Long countActiveTenants(@Param("status") Status status);
+
+    @Query("SELECT t FROM Tenant t WHERE t.id > :afterId AND MOD(t.id, :partitionCount) = :partition " +
+           "AND t.status = :status AND t.isDeleted = false ORDER BY t.id")
+    List<Tenant> findPartitionChunk(@Param("afterId") Long afterId,
+                                    @Param("partition") int partition,
+                                    @Param("partitionCount") int partitionCount,
+                                    @Param("status") Status status,
+                                    Pageable pageable);
 }
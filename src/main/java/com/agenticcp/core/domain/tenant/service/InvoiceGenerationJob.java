@@ -0,0 +1,133 @@
+package com.agenticcp.core.domain.tenant.service;
+
+import com.agenticcp.core.common.batch.service.ChunkJob;
+import com.agenticcp.core.common.batch.service.ChunkJobContext;
+import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.common.exception.ValidationException;
+import com.agenticcp.core.domain.cloud.repository.CloudResourceRepository;
+import com.agenticcp.core.domain.tenant.entity.Tenant;
+import com.agenticcp.core.domain.tenant.entity.TenantBilling;
+import com.agenticcp.core.domain.tenant.repository.TenantBillingRepository;
+import com.agenticcp.core.domain.tenant.repository.TenantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 월별 테넌트 청구서 생성 작업 (jobKey = 청구 기간, yyyy-MM)
+ *
+ * <p>기간별 비용 이력이 아직 없으므로 사용 금액은 청크를 쓰는 시점의 리소스 월 비용(CloudResource.monthlyCost)
+ * 스냅샷이다. 지난 기간 작업을 나중에 다시 실행하거나 재시작하면 그 기간이 아니라 실행 시점의 인벤토리로 청구되므로,
+ * 기간이 끝난 직후에 실행해야 한다. 이미 청구서가 있는 테넌트는 다시 만들지 않는다.</p>
+ */
+@Slf4j
+@Component
+public class InvoiceGenerationJob implements ChunkJob<Tenant> {
+
+    public static final String JOB_NAME = "invoice-generation";
+
+    private final TenantRepository tenantRepository;
+    private final TenantBillingRepository tenantBillingRepository;
+    private final CloudResourceRepository cloudResourceRepository;
+    private final int dueDays;
+    private final String currency;
+
+    public InvoiceGenerationJob(TenantRepository tenantRepository,
+                                TenantBillingRepository tenantBillingRepository,
+                                CloudResourceRepository cloudResourceRepository,
+                                @Value("${agenticcp.billing.invoice.due-days:30}") int dueDays,
+                                @Value("${agenticcp.billing.invoice.currency:USD}") String currency) {
+        this.tenantRepository = tenantRepository;
+        this.tenantBillingRepository = tenantBillingRepository;
+        this.cloudResourceRepository = cloudResourceRepository;
+        this.dueDays = dueDays;
+        this.currency = currency;
+    }
+
+    @Override
+    public String getJobName() {
+        return JOB_NAME;
+    }
+
+    @Override
+    public void validateJobKey(String jobKey) {
+        parsePeriod(jobKey);
+    }
+
+    @Override
+    public List<Tenant> read(ChunkJobContext context, Long afterKey, int chunkSize) {
+        return tenantRepository.findPartitionChunk(afterKey == null ? 0L : afterKey,
+                context.partition(), context.partitionCount(), Status.ACTIVE, PageRequest.of(0, chunkSize));
+    }
+
+    @Override
+    public Long keyOf(Tenant tenant) {
+        return tenant.getId();
+    }
+
+    @Override
+    public int write(ChunkJobContext context, List<Tenant> tenants) {
+        YearMonth period = parsePeriod(context.jobKey());
+        LocalDateTime periodStart = period.atDay(1).atStartOfDay();
+        LocalDateTime periodEnd = period.plusMonths(1).atDay(1).atStartOfDay().minusNanos(1000);
+
+        List<Long> tenantIds = tenants.stream().map(Tenant::getId).collect(Collectors.toList());
+        // invoices committed by an earlier attempt of this chunk are skipped, so re-running a chunk is idempotent
+        Set<Long> invoiced = new HashSet<>(tenantBillingRepository.findInvoicedTenantIds(tenantIds, periodStart));
+        // snapshot of today's inventory, not usage recorded for the billing period (see class comment)
+        Map<Long, BigDecimal> usageByTenant = new HashMap<>();
+        for (Object[] row : cloudResourceRepository.sumMonthlyCostByTenant(tenantIds)) {
+            usageByTenant.put((Long) row[0], (BigDecimal) row[1]);
+        }
+
+        List<TenantBilling> invoices = new ArrayList<>();
+        for (Tenant tenant : tenants) {
+            if (invoiced.contains(tenant.getId())) {
+                continue;
+            }
+            BigDecimal usageAmount = usageByTenant.getOrDefault(tenant.getId(), BigDecimal.ZERO);
+            invoices.add(TenantBilling.builder()
+                    .tenant(tenant)
+                    .billingCycle(TenantBilling.BillingCycle.MONTHLY)
+                    .currency(currency)
+                    .baseAmount(BigDecimal.ZERO)
+                    .usageAmount(usageAmount)
+                    .taxAmount(BigDecimal.ZERO)
+                    .discountAmount(BigDecimal.ZERO)
+                    .totalAmount(usageAmount)
+                    .billingPeriodStart(periodStart)
+                    .billingPeriodEnd(periodEnd)
+                    .dueDate(periodEnd.plusDays(dueDays))
+                    .paymentStatus(TenantBilling.PaymentStatus.PENDING)
+                    .invoiceNumber(invoiceNumber(period, tenant.getId()))
+                    .build());
+        }
+        tenantBillingRepository.saveAll(invoices);
+        return invoices.size();
+    }
+
+    private static String invoiceNumber(YearMonth period, Long tenantId) {
+        return String.format("INV-%d%02d-%08d", period.getYear(), period.getMonthValue(), tenantId);
+    }
+
+    private static YearMonth parsePeriod(String jobKey) {
+        try {
+            return YearMonth.parse(jobKey);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new ValidationException("jobKey", "billing period must be formatted as yyyy-MM");
+        }
+    }
+}
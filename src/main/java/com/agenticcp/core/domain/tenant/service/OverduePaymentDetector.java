@@ -0,0 +1,126 @@
+package com.agenticcp.core.domain.tenant.service;
+
+import com.agenticcp.core.common.batch.entity.JobWatermark;
+import com.agenticcp.core.common.batch.repository.JobWatermarkRepository;
+import com.agenticcp.core.domain.tenant.dto.OverdueInvoice;
+import com.agenticcp.core.domain.tenant.entity.TenantBilling.PaymentStatus;
+import com.agenticcp.core.domain.tenant.event.PaymentOverdueEvent;
+import com.agenticcp.core.domain.tenant.repository.TenantBillingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 납부 기한이 지난 청구서를 OVERDUE 로 전환
+ *
+ * <p>매 실행마다 지난 워터마크 이후 due_date 가 지난 PENDING 청구서 id 만 (payment_status, due_date) 인덱스로
+ * {@code FOR UPDATE SKIP LOCKED} 로 잠그고, 청크마다 한 번의 UPDATE 로 상태를 바꾼 뒤 실제로 OVERDUE 가 된 청구서만
+ * 커밋 이후 비동기로 알린다.</p>
+ */
+@Slf4j
+@Service
+public class OverduePaymentDetector {
+
+    static final String WATERMARK_NAME = "billing.overdue-detection";
+    private static final LocalDateTime INITIAL_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TenantBillingRepository tenantBillingRepository;
+    private final JobWatermarkRepository jobWatermarkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final Duration overlap;
+
+    private TransactionTemplate transactionTemplate;
+
+    public OverduePaymentDetector(TenantBillingRepository tenantBillingRepository,
+                                  JobWatermarkRepository jobWatermarkRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${agenticcp.billing.overdue.chunk-size:1000}") int chunkSize,
+                                  @Value("${agenticcp.billing.overdue.overlap:PT1H}") Duration overlap) {
+        this.tenantBillingRepository = tenantBillingRepository;
+        this.jobWatermarkRepository = jobWatermarkRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionManager = transactionManager;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+        this.overlap = overlap;
+    }
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${agenticcp.billing.overdue.interval:PT15M}",
+               initialDelayString = "${agenticcp.billing.overdue.initial-delay:PT1M}")
+    public void detectScheduled() {
+        detectOverdue(LocalDateTime.now());
+    }
+
+    public int detectOverdue(LocalDateTime now) {
+        LocalDateTime watermark = jobWatermarkRepository.findByWatermarkName(WATERMARK_NAME)
+                .map(JobWatermark::getWatermarkValue)
+                .orElse(INITIAL_WATERMARK);
+        // the overlap catches invoices inserted late with an already-past due date; re-scanned rows are no longer PENDING
+        LocalDateTime from = watermark.minus(overlap);
+
+        int total = 0;
+        ChunkResult chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> markChunkOverdue(from, now));
+            total += chunk.notified();
+        } while (chunk.locked() == chunkSize);
+
+        // reached only after a short chunk, i.e. no PENDING invoice with a due date in (from, now] was left unlocked;
+        // if a chunk throws, the watermark stays put and the next run rescans the same window
+        transactionTemplate.executeWithoutResult(status -> advanceWatermark(now));
+        if (total > 0) {
+            log.info("Marked {} invoice(s) overdue (due date in ({}, {}])", total, from, now);
+        }
+        meterRegistry.counter("billing.invoices.overdue").increment(total);
+        return total;
+    }
+
+    private ChunkResult markChunkOverdue(LocalDateTime from, LocalDateTime to) {
+        List<Long> ids = tenantBillingRepository.lockDueCrossedInvoiceIds(PaymentStatus.PENDING.name(), from, to,
+                chunkSize);
+        if (ids.isEmpty()) {
+            return new ChunkResult(0, 0);
+        }
+        tenantBillingRepository.bulkUpdatePaymentStatus(ids, PaymentStatus.PENDING, PaymentStatus.OVERDUE,
+                LocalDateTime.now());
+        // notify only the rows this UPDATE moved to OVERDUE
+        List<OverdueInvoice> invoices = tenantBillingRepository.findInvoicesByIdsAndStatus(ids, PaymentStatus.OVERDUE);
+        if (!invoices.isEmpty()) {
+            eventPublisher.publishEvent(new PaymentOverdueEvent(invoices));
+        }
+        return new ChunkResult(ids.size(), invoices.size());
+    }
+
+    private void advanceWatermark(LocalDateTime now) {
+        JobWatermark watermark = jobWatermarkRepository.findByWatermarkName(WATERMARK_NAME)
+                .orElseGet(() -> JobWatermark.builder().watermarkName(WATERMARK_NAME).build());
+        if (watermark.getWatermarkValue() == null || watermark.getWatermarkValue().isBefore(now)) {
+            watermark.setWatermarkValue(now);
+            jobWatermarkRepository.save(watermark);
+        }
+    }
+
+    // locked drives the scan (a full chunk means more rows may remain), notified only the counters
+    private record ChunkResult(int locked, int notified) {
+    }
+}
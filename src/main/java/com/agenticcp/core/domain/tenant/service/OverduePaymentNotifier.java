@@ -0,0 +1,63 @@
+package com.agenticcp.core.domain.tenant.service;
+
+import com.agenticcp.core.domain.tenant.dto.OverdueInvoice;
+import com.agenticcp.core.domain.tenant.event.PaymentOverdueEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class OverduePaymentNotifier {
+
+    private final ObjectProvider<JavaMailSender> mailSenderProvider;
+    private final String mailFrom;
+
+    public OverduePaymentNotifier(ObjectProvider<JavaMailSender> mailSenderProvider,
+                                  @Value("${agenticcp.billing.overdue.mail-from:billing@agenticcp.com}") String mailFrom) {
+        this.mailSenderProvider = mailSenderProvider;
+        this.mailFrom = mailFrom;
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onPaymentOverdue(PaymentOverdueEvent event) {
+        Map<Long, List<OverdueInvoice>> invoicesByTenant = event.invoices().stream()
+                .collect(Collectors.groupingBy(OverdueInvoice::tenantId));
+        invoicesByTenant.values().forEach(this::notifyTenant);
+    }
+
+    private void notifyTenant(List<OverdueInvoice> invoices) {
+        OverdueInvoice first = invoices.get(0);
+        String invoiceNumbers = invoices.stream().map(OverdueInvoice::invoiceNumber).collect(Collectors.joining(", "));
+        log.info("Payment overdue for tenant {}: {}", first.tenantKey(), invoiceNumbers);
+
+        JavaMailSender mailSender = mailSenderProvider.getIfAvailable();
+        if (mailSender == null || first.contactEmail() == null) {
+            return;
+        }
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(mailFrom);
+        message.setTo(first.contactEmail());
+        message.setSubject("[AgenticCP] 결제 기한이 지난 청구서가 있습니다");
+        message.setText(invoices.stream()
+                .map(invoice -> String.format("%s: %s %s (납부 기한 %s)", invoice.invoiceNumber(),
+                        invoice.totalAmount(), invoice.currency(), invoice.dueDate().toLocalDate()))
+                .collect(Collectors.joining("\n")));
+        try {
+            mailSender.send(message);
+        } catch (MailException e) {
+            log.warn("Failed to send overdue notification to tenant {}: {}", first.tenantKey(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.agenticcp.core.domain.tenant.service;
+
+import com.agenticcp.core.common.batch.service.ChunkJobRunner;
+import com.agenticcp.core.common.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TenantBillingScheduler {
+
+    private final ChunkJobRunner chunkJobRunner;
+    private final InvoiceGenerationJob invoiceGenerationJob;
+
+    @Scheduled(cron = "${agenticcp.billing.invoice.cron:0 0 1 1 * *}")
+    public void generateInvoicesForPreviousMonth() {
+        String period = YearMonth.now().minusMonths(1).toString();
+        try {
+            chunkJobRunner.launch(invoiceGenerationJob, period);
+        } catch (BusinessException e) {
+            log.warn("Skipping scheduled invoice generation for {}: {}", period, e.getMessage());
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package com.agenticcp.core.domain.tenant.service;
 
+import com.agenticcp.core.common.changefeed.ChangeFeedDefinition;
+import com.agenticcp.core.common.changefeed.ChangeFeedReader;
+import com.agenticcp.core.common.changefeed.ChangeFeedResponse;
 import com.agenticcp.core.common.exception.ResourceNotFoundException;
 import com.agenticcp.core.domain.tenant.entity.Tenant;
+import com.agenticcp.core.domain.tenant.event.TenantStatusChangedEvent;
 import com.agenticcp.core.domain.tenant.repository.TenantRepository;
 import com.agenticcp.core.common.enums.Status;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,7 +24,14 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class TenantService {
 
+    private static final ChangeFeedDefinition CHANGE_FEED = new ChangeFeedDefinition("tenants", "tenants", List.of(
+            "tenant_key", "tenant_name", "description", "status", "tenant_type", "max_users", "max_resources",
+            "storage_quota_gb", "bandwidth_quota_gb", "contact_email", "contact_phone", "billing_address", "settings",
+            "subscription_start_date", "subscription_end_date", "is_trial", "trial_end_date"));
+
     private final TenantRepository tenantRepository;
+    private final ChangeFeedReader changeFeedReader;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<Tenant> getAllTenants() {
         return tenantRepository.findAll();
@@ -63,6 +75,7 @@ public class TenantService {
     @Transactional
     public Tenant updateTenant(String tenantKey, Tenant updatedTenant) {
         Tenant existingTenant = getTenantByKeyOrThrow(tenantKey);
+        Status previousStatus = existingTenant.getStatus();
         
         existingTenant.setTenantName(updatedTenant.getTenantName());
         existingTenant.setDescription(updatedTenant.getDescription());
@@ -82,23 +95,31 @@ public class TenantService {
         existingTenant.setTrialEndDate(updatedTenant.getTrialEndDate());
         
         log.info("Updating tenant: {}", tenantKey);
-        return tenantRepository.save(existingTenant);
+        Tenant saved = tenantRepository.save(existingTenant);
+        publishStatusChange(saved, previousStatus);
+        return saved;
     }
 
     @Transactional
     public Tenant suspendTenant(String tenantKey) {
         Tenant tenant = getTenantByKeyOrThrow(tenantKey);
+        Status previousStatus = tenant.getStatus();
         tenant.setStatus(Status.SUSPENDED);
         log.info("Suspending tenant: {}", tenantKey);
-        return tenantRepository.save(tenant);
+        Tenant saved = tenantRepository.save(tenant);
+        publishStatusChange(saved, previousStatus);
+        return saved;
     }
 
     @Transactional
     public Tenant activateTenant(String tenantKey) {
         Tenant tenant = getTenantByKeyOrThrow(tenantKey);
+        Status previousStatus = tenant.getStatus();
         tenant.setStatus(Status.ACTIVE);
         log.info("Activating tenant: {}", tenantKey);
-        return tenantRepository.save(tenant);
+        Tenant saved = tenantRepository.save(tenant);
+        publishStatusChange(saved, previousStatus);
+        return saved;
     }
 
     @Transactional
@@ -108,4 +129,15 @@ public class TenantService {
         tenantRepository.save(tenant);
         log.info("Soft deleted tenant: {}", tenantKey);
     }
+
+    public ChangeFeedResponse getChanges(String cursor, Integer limit) {
+        return changeFeedReader.read(CHANGE_FEED, cursor, limit);
+    }
+
+    private void publishStatusChange(Tenant tenant, Status previousStatus) {
+        if (tenant.getStatus() != previousStatus) {
+            eventPublisher.publishEvent(new TenantStatusChangedEvent(tenant.getId(), tenant.getTenantKey(),
+                    previousStatus, tenant.getStatus()));
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.agenticcp.core.domain.user.controller;
 
+import com.agenticcp.core.common.changefeed.ChangeFeedResponse;
 import com.agenticcp.core.common.dto.ApiResponse;
 import com.agenticcp.core.domain.user.entity.User;
 import com.agenticcp.core.domain.user.service.UserService;
@@ -36,6 +37,14 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(users));
     }
 
+    @GetMapping("/changes")
+    @Operation(summary = "사용자 변경 피드 조회 (커서 이후 변경/삭제분)")
+    public ResponseEntity<ApiResponse<ChangeFeedResponse>> getChanges(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.success(userService.getChanges(cursor, limit)));
+    }
+
     @GetMapping("/{username}")
     @Operation(summary = "특정 사용자 조회")
     public ResponseEntity<ApiResponse<User>> getUserByUsername(@PathVariable String username) {
@@ -28,7 +28,8 @@ import java.util.List;
     @Index(name = "idx_users_username", columnList = "username"),
     @Index(name = "idx_users_email", columnList = "email"),
     @Index(name = "idx_users_tenant", columnList = "tenant_id"),
-    @Index(name = "idx_users_active", columnList = "status")
+    @Index(name = "idx_users_active", columnList = "status"),
+    @Index(name = "idx_users_change_feed", columnList = "updated_at, id")
 })
 @Data
 @Builder
@@ -1,5 +1,8 @@
 package com.agenticcp.core.domain.user.service;
 
+import com.agenticcp.core.common.changefeed.ChangeFeedDefinition;
+import com.agenticcp.core.common.changefeed.ChangeFeedReader;
+import com.agenticcp.core.common.changefeed.ChangeFeedResponse;
 import com.agenticcp.core.common.exception.ResourceNotFoundException;
 import com.agenticcp.core.domain.user.entity.User;
 import com.agenticcp.core.domain.user.repository.UserRepository;
@@ -22,8 +25,15 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class UserService {
 
+    // password_hash / two_factor_secret are never exposed through the feed
+    private static final ChangeFeedDefinition CHANGE_FEED = new ChangeFeedDefinition("users", "users", List.of(
+            "username", "email", "name", "tenant_id", "organization_id", "role", "status", "last_login",
+            "failed_login_attempts", "locked_until", "password_changed_at", "two_factor_enabled", "profile_image_url",
+            "phone_number", "department", "job_title", "timezone", "language", "preferences"));
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ChangeFeedReader changeFeedReader;
 
     public List<User> getAllUsers() {
         return userRepository.findAll();
@@ -171,4 +181,8 @@ public class UserService {
         userRepository.save(user);
         log.info("Soft deleted user: {}", username);
     }
+
+    public ChangeFeedResponse getChanges(String cursor, Integer limit) {
+        return changeFeedReader.read(CHANGE_FEED, cursor, limit);
+    }
 }
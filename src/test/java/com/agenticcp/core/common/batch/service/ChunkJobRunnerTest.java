@@ -0,0 +1,329 @@
+package com.agenticcp.core.common.batch.service;
+
+import com.agenticcp.core.common.batch.config.ChunkJobProperties;
+import com.agenticcp.core.common.batch.entity.BatchJobExecution;
+import com.agenticcp.core.common.batch.entity.BatchJobExecution.ExecutionStatus;
+import com.agenticcp.core.common.batch.entity.BatchStepExecution;
+import com.agenticcp.core.common.batch.repository.BatchJobExecutionRepository;
+import com.agenticcp.core.common.batch.repository.BatchStepExecutionRepository;
+import com.agenticcp.core.common.config.JpaConfig;
+import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.common.exception.BusinessException;
+import com.agenticcp.core.domain.cloud.repository.CloudResourceRepository;
+import com.agenticcp.core.domain.tenant.entity.Tenant;
+import com.agenticcp.core.domain.tenant.entity.TenantBilling;
+import com.agenticcp.core.domain.tenant.repository.TenantBillingRepository;
+import com.agenticcp.core.domain.tenant.repository.TenantRepository;
+import com.agenticcp.core.domain.tenant.service.InvoiceGenerationJob;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 파티션 하나를 청크 도중에 실패시킨 뒤 다시 실행해, 커밋되지 않은 청크만 다시 처리되고 완료된 파티션은 건너뛰며
+ * 버려진 RUNNING 실행은 오래된 경우에만 이어받는지 검증한다. 청구서 생성 작업은 재실행해도 중복 청구서가 없어야 한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChunkJobRunnerTest {
+
+    private static final int CHUNK_SIZE = 10;
+    private static final int PARTITIONS = 2;
+
+    @Autowired
+    private BatchJobExecutionRepository jobExecutionRepository;
+
+    @Autowired
+    private BatchStepExecutionRepository stepExecutionRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private TenantBillingRepository tenantBillingRepository;
+
+    @Autowired
+    private CloudResourceRepository cloudResourceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ChunkJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        stepExecutionRepository.deleteAll();
+        jobExecutionRepository.deleteAll();
+        tenantBillingRepository.deleteAll();
+        tenantRepository.deleteAll();
+
+        ChunkJobProperties properties = new ChunkJobProperties();
+        properties.setChunkSize(CHUNK_SIZE);
+        properties.setPartitions(PARTITIONS);
+        runner = new ChunkJobRunner(jobExecutionRepository, stepExecutionRepository, properties,
+                transactionManager, new SimpleMeterRegistry(), callerRunsExecutor());
+        runner.init();
+    }
+
+    @Test
+    @DisplayName("실패한 파티션만 마지막 커밋 키 이후부터 다시 처리하고 모든 항목은 정확히 한 번 기록된다")
+    void relaunch_ResumesFailedPartitionAfterLastCommittedChunk() {
+        // Given: 파티션 0 의 네 번째 청크(키 62~80)가 한 번 실패
+        NumberedJob job = new NumberedJob(100);
+        job.failOnceAt(62L);
+        BatchJobExecution first = runner.launch(job, "run-1");
+
+        // Then: 앞의 세 청크만 커밋되고 작업은 FAILED
+        assertThat(status(first)).isEqualTo(ExecutionStatus.FAILED);
+        BatchStepExecution failedStep = step(first, 0);
+        assertThat(failedStep.getStatus()).isEqualTo(ExecutionStatus.FAILED);
+        assertThat(failedStep.getLastCommittedKey()).isEqualTo(60L);
+        assertThat(failedStep.getCommitCount()).isEqualTo(3L);
+        assertThat(step(first, 1).getStatus()).isEqualTo(ExecutionStatus.COMPLETED);
+
+        // When
+        job.readCursors.clear();
+        BatchJobExecution second = runner.launch(job, "run-1");
+
+        // Then
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(status(second)).isEqualTo(ExecutionStatus.COMPLETED);
+        assertThat(jobExecutionRepository.findById(first.getId()).orElseThrow().getRestartCount()).isEqualTo(1);
+        assertThat(job.readCursors).containsOnlyKeys(0);
+        assertThat(job.readCursors.get(0)).containsExactly(60L, 80L, 100L);
+        assertThat(job.writes).hasSize(100);
+        assertThat(job.writes.values()).allMatch(count -> count.get() == 1);
+        BatchStepExecution resumedStep = step(first, 0);
+        assertThat(resumedStep.getReadCount()).isEqualTo(50L);
+        assertThat(resumedStep.getCommitCount()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("완료된 작업은 다시 실행하지 않는다")
+    void relaunch_CompletedJobIsSkipped() {
+        // Given
+        NumberedJob job = new NumberedJob(30);
+        runner.launch(job, "run-1");
+        job.readCursors.clear();
+
+        // When
+        BatchJobExecution again = runner.launch(job, "run-1");
+
+        // Then
+        assertThat(again.getStatus()).isEqualTo(ExecutionStatus.COMPLETED);
+        assertThat(job.readCursors).isEmpty();
+        assertThat(job.writes).hasSize(30);
+    }
+
+    @Test
+    @DisplayName("RUNNING 으로 남은 실행은 최근 활동이 있으면 거부하고 오래되면 이어받는다")
+    void relaunch_TakesOverOnlyStaleRunningExecution() {
+        // Given: 파티션 0 이 키 42 청크에서 실패한 뒤, 노드가 죽은 것처럼 RUNNING 상태로 되돌린다
+        NumberedJob job = new NumberedJob(100);
+        job.failOnceAt(42L);
+        BatchJobExecution first = runner.launch(job, "run-1");
+        jdbcTemplate.update("UPDATE batch_job_executions SET status = 'RUNNING' WHERE id = ?", first.getId());
+        jdbcTemplate.update("UPDATE batch_step_executions SET status = 'RUNNING' "
+                + "WHERE job_execution_id = ? AND partition_index = 0", first.getId());
+
+        // When & Then: 최근 활동이 있으면 다른 노드가 실행 중인 것으로 본다
+        assertThatThrownBy(() -> runner.launch(job, "run-1"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo("BATCH_JOB_RUNNING");
+
+        // When: 마지막 활동이 staleAfter 보다 오래되면
+        LocalDateTime longAgo = LocalDateTime.now().minusHours(1);
+        jdbcTemplate.update("UPDATE batch_job_executions SET updated_at = ? WHERE id = ?", longAgo, first.getId());
+        jdbcTemplate.update("UPDATE batch_step_executions SET updated_at = ? WHERE job_execution_id = ?",
+                longAgo, first.getId());
+        job.readCursors.clear();
+        runner.launch(job, "run-1");
+
+        // Then
+        assertThat(status(first)).isEqualTo(ExecutionStatus.COMPLETED);
+        assertThat(job.readCursors).containsOnlyKeys(0);
+        assertThat(job.readCursors.get(0).get(0)).isEqualTo(40L);
+        assertThat(job.writes).hasSize(100);
+        assertThat(job.writes.values()).allMatch(count -> count.get() == 1);
+    }
+
+    @Test
+    @DisplayName("청구서 생성 작업은 청크 실패 후 재실행해도 테넌트마다 청구서를 하나만 만든다")
+    void invoiceGeneration_RelaunchCreatesNoDuplicateInvoices() {
+        // Given
+        List<Tenant> tenants = new ArrayList<>();
+        for (int i = 0; i < 45; i++) {
+            tenants.add(Tenant.builder()
+                    .tenantKey("tenant-" + i)
+                    .tenantName("Tenant " + i)
+                    .status(Status.ACTIVE)
+                    .isTrial(false)
+                    .build());
+        }
+        tenants = tenantRepository.saveAll(tenants);
+        InvoiceGenerationJob invoiceJob = new InvoiceGenerationJob(tenantRepository, tenantBillingRepository,
+                cloudResourceRepository, 30, "USD");
+
+        // When: 파티션 0 의 두 번째 청크가 청구서를 저장한 뒤 실패하면 그 청크는 롤백된다
+        BatchJobExecution first = runner.launch(new FailingSecondChunk(invoiceJob), "2026-09");
+        long afterFailure = tenantBillingRepository.count();
+        BatchJobExecution second = runner.launch(invoiceJob, "2026-09");
+
+        // Then
+        assertThat(status(first)).isEqualTo(ExecutionStatus.COMPLETED);
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(afterFailure).isLessThan(tenants.size());
+        List<TenantBilling> invoices = tenantBillingRepository.findAll();
+        assertThat(invoices).hasSize(tenants.size());
+        assertThat(invoices.stream().map(TenantBilling::getInvoiceNumber).collect(Collectors.toSet()))
+                .hasSize(tenants.size());
+
+        // When: 이미 청구된 청크를 다시 쓰면 아무것도 만들지 않는다
+        int rewritten = invoiceJob.write(new ChunkJobContext(InvoiceGenerationJob.JOB_NAME, "2026-09", 0, PARTITIONS),
+                tenants);
+
+        // Then
+        assertThat(rewritten).isZero();
+        assertThat(tenantBillingRepository.count()).isEqualTo(tenants.size());
+    }
+
+    private ExecutionStatus status(BatchJobExecution execution) {
+        return jobExecutionRepository.findById(execution.getId()).orElseThrow().getStatus();
+    }
+
+    private BatchStepExecution step(BatchJobExecution execution, int partition) {
+        BatchJobExecution current = jobExecutionRepository.findById(execution.getId()).orElseThrow();
+        return stepExecutionRepository.findByJobExecutionOrderByPartitionIndex(current).get(partition);
+    }
+
+    // runs partitions one after another on the launching thread so each launch has finished when it returns
+    private static ThreadPoolTaskExecutor callerRunsExecutor() {
+        return new ThreadPoolTaskExecutor() {
+            @Override
+            public void execute(Runnable task) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * 1..total 의 키를 id % partitionCount 로 나누는 작업. 쓰기는 커밋과 무관한 메모리 카운터라,
+     * 실패한 청크는 기록하기 전에 예외를 던진다.
+     */
+    private static final class NumberedJob implements ChunkJob<Long> {
+
+        private final long total;
+        private final Map<Long, AtomicInteger> writes = new ConcurrentHashMap<>();
+        private final Map<Integer, List<Long>> readCursors = new ConcurrentHashMap<>();
+        private volatile Long failAtKey;
+
+        private NumberedJob(long total) {
+            this.total = total;
+        }
+
+        void failOnceAt(Long key) {
+            this.failAtKey = key;
+        }
+
+        @Override
+        public String getJobName() {
+            return "numbered";
+        }
+
+        @Override
+        public List<Long> read(ChunkJobContext context, Long afterKey, int chunkSize) {
+            readCursors.computeIfAbsent(context.partition(), key -> new ArrayList<>())
+                    .add(afterKey == null ? 0L : afterKey);
+            List<Long> items = new ArrayList<>();
+            for (long key = (afterKey == null ? 0L : afterKey) + 1; key <= total && items.size() < chunkSize; key++) {
+                if (key % context.partitionCount() == context.partition()) {
+                    items.add(key);
+                }
+            }
+            return items;
+        }
+
+        @Override
+        public Long keyOf(Long item) {
+            return item;
+        }
+
+        @Override
+        public int write(ChunkJobContext context, List<Long> items) {
+            if (failAtKey != null && items.contains(failAtKey)) {
+                failAtKey = null;
+                throw new IllegalStateException("simulated chunk failure");
+            }
+            items.forEach(key -> writes.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet());
+            return items.size();
+        }
+    }
+
+    /**
+     * 파티션 0 의 두 번째 청크를 위임 작업이 쓴 뒤 한 번 실패시킨다.
+     */
+    private static final class FailingSecondChunk implements ChunkJob<Tenant> {
+
+        private final ChunkJob<Tenant> delegate;
+        private final AtomicInteger partitionZeroWrites = new AtomicInteger();
+
+        private FailingSecondChunk(ChunkJob<Tenant> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getJobName() {
+            return delegate.getJobName();
+        }
+
+        @Override
+        public void validateJobKey(String jobKey) {
+            delegate.validateJobKey(jobKey);
+        }
+
+        @Override
+        public List<Tenant> read(ChunkJobContext context, Long afterKey, int chunkSize) {
+            return delegate.read(context, afterKey, chunkSize);
+        }
+
+        @Override
+        public Long keyOf(Tenant item) {
+            return delegate.keyOf(item);
+        }
+
+        @Override
+        public int write(ChunkJobContext context, List<Tenant> items) {
+            int written = delegate.write(context, items);
+            if (context.partition() == 0 && partitionZeroWrites.incrementAndGet() == 2) {
+                throw new IllegalStateException("simulated failure after writing invoices");
+            }
+            return written;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.agenticcp.core.common.changefeed;
+
+import com.agenticcp.core.common.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커서가 (updated_at, id) 를 마이크로초까지 그대로 왕복하고 URL 에 그대로 실을 수 있으며, 해석할 수 없거나 변조된
+ * 문자열은 검증 오류로 거부하는지 검증한다.
+ */
+class ChangeFeedCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 위치이고 URL 안전 문자만 쓴다")
+    void encode_RoundTrips() {
+        // Given
+        List<ChangeFeedCursor> cursors = List.of(
+                new ChangeFeedCursor(LocalDateTime.of(2026, 10, 19, 9, 0), 1L),
+                new ChangeFeedCursor(LocalDateTime.of(2026, 10, 19, 9, 0, 1, 123_456_000), Long.MAX_VALUE));
+
+        // When & Then
+        for (ChangeFeedCursor cursor : cursors) {
+            String encoded = cursor.encode();
+            assertThat(encoded).matches("[A-Za-z0-9_-]+");
+            assertThat(ChangeFeedCursor.decode(encoded)).isEqualTo(cursor);
+        }
+    }
+
+    @Test
+    @DisplayName("Base64 가 아니거나 구분자/시각/id 가 잘못된 커서는 검증 오류다")
+    void decode_RejectsInvalidCursor() {
+        // Given
+        String valid = new ChangeFeedCursor(LocalDateTime.of(2026, 10, 19, 9, 0), 42L).encode();
+        List<String> invalid = List.of(
+                "not a cursor",
+                valid.substring(0, 3) + "*" + valid.substring(4),
+                encode("2026-10-19T09:00"),
+                encode("yesterday|42"),
+                encode("2026-10-19T09:00|forty-two"),
+                encode("2026-10-19T09:00|"),
+                "");
+
+        // When & Then
+        for (String cursor : invalid) {
+            assertThatThrownBy(() -> ChangeFeedCursor.decode(cursor))
+                    .as(cursor)
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("cursor");
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,220 @@
+package com.agenticcp.core.common.changefeed;
+
+import com.agenticcp.core.common.config.JpaConfig;
+import com.agenticcp.core.common.exception.ValidationException;
+import com.agenticcp.core.domain.user.repository.UserRepository;
+import com.agenticcp.core.domain.user.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+/**
+ * H2 MySQL 호환 모드의 users 테이블로, 같은 updated_at 을 가진 많은 행을 작은 limit 으로 넘겨도 (updated_at, id) 키셋이
+ * 빠짐/중복 없이 이어지는지, commit-lag 워터마크 이후 행은 아직 내보내지 않는지, soft delete 된 행도 내보내는지,
+ * limit 범위와 잘못된 커서를 거부하는지, 사용자 피드에 비밀번호 해시와 2단계 인증 비밀이 빠지는지 검증한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:change-feed;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+@Import(JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChangeFeedReaderTest {
+
+    private static final ChangeFeedDefinition FEED =
+            new ChangeFeedDefinition("users", "users", List.of("username", "email", "name"));
+    // well behind the watermark, with microseconds to check they survive the cursor round trip
+    private static final LocalDateTime T0 = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.SECONDS)
+            .plusNanos(123_456_000);
+    private static final int DEFAULT_LIMIT = 3;
+    private static final int MAX_LIMIT = 10;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private ChangeFeedReader reader;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM users");
+        reader = new ChangeFeedReader(namedParameterJdbcTemplate, new SimpleMeterRegistry(), Duration.ofSeconds(5),
+                DEFAULT_LIMIT, MAX_LIMIT);
+    }
+
+    @Test
+    @DisplayName("같은 updated_at 을 가진 많은 행을 작은 limit 으로 넘겨도 (updated_at, id) 순서로 빠짐/중복 없이 받는다")
+    void read_PagesThroughSharedUpdatedAtWithoutGapsOrDuplicates() {
+        // Given: id 순서와 updated_at 순서가 엇갈리도록 세 시각의 행을 섞어 넣는다
+        for (int i = 0; i < 25; i++) {
+            insertUser(T0, false);
+            if (i % 5 == 0) {
+                insertUser(T0.minusHours(1), false);
+            }
+            if (i % 6 == 0) {
+                insertUser(T0.plusMinutes(1), false);
+            }
+        }
+        List<Long> expected = jdbcTemplate.queryForList(
+                "SELECT id FROM users ORDER BY updated_at, id", Long.class);
+
+        // When
+        List<Long> seen = new ArrayList<>();
+        List<ChangeFeedResponse> pages = new ArrayList<>();
+        String cursor = null;
+        ChangeFeedResponse page;
+        do {
+            page = reader.read(FEED, cursor, 4);
+            page.changes().forEach(row -> seen.add((Long) row.get("id")));
+            pages.add(page);
+            cursor = page.nextCursor();
+        } while (page.hasMore());
+
+        // Then
+        assertThat(expected).hasSize(35);
+        assertThat(seen).containsExactlyElementsOf(expected);
+        assertThat(pages).hasSize(9);
+        assertThat(pages.subList(0, 8)).allMatch(ChangeFeedResponse::hasMore);
+        assertThat(pages).allSatisfy(response -> assertThat(response.feed()).isEqualTo("users"));
+
+        // When & Then: 마지막 커서로 다시 읽으면 새 변경이 없고 커서도 그대로다
+        ChangeFeedResponse caughtUp = reader.read(FEED, cursor, 4);
+        assertThat(caughtUp.changes()).isEmpty();
+        assertThat(caughtUp.hasMore()).isFalse();
+        assertThat(caughtUp.nextCursor()).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("워터마크(현재 - commit-lag) 이후에 바뀐 행은 아직 내보내지 않고, 시간이 지나 워터마크를 넘으면 이어서 받는다")
+    void read_HoldsBackRowsNewerThanWatermark() {
+        // Given
+        long old = insertUser(T0, false);
+        long recent = insertUser(LocalDateTime.now(), false);
+
+        // When
+        ChangeFeedResponse first = reader.read(FEED, null, null);
+        ChangeFeedReader noLag = new ChangeFeedReader(namedParameterJdbcTemplate, new SimpleMeterRegistry(),
+                Duration.ZERO, DEFAULT_LIMIT, MAX_LIMIT);
+        ChangeFeedResponse later = noLag.read(FEED, first.nextCursor(), null);
+
+        // Then
+        assertThat(first.changes()).extracting(row -> row.get("id")).containsExactly(old);
+        assertThat(first.hasMore()).isFalse();
+        assertThat(first.watermark()).isBefore(LocalDateTime.now().minusSeconds(4));
+        assertThat(later.changes()).extracting(row -> row.get("id")).containsExactly(recent);
+    }
+
+    @Test
+    @DisplayName("soft delete 된 행도 isDeleted = true 로 내보내고 BaseEntity 컬럼은 camelCase 필드로 돌려준다")
+    void read_IncludesSoftDeletedRows() {
+        // Given
+        long live = insertUser(T0, false);
+        long deleted = insertUser(T0.plusSeconds(1), true);
+
+        // When
+        ChangeFeedResponse response = reader.read(FEED, null, null);
+
+        // Then
+        assertThat(response.changes()).extracting(row -> row.get("id"), row -> row.get("isDeleted"))
+                .containsExactly(tuple(live, false),
+                        tuple(deleted, true));
+        assertThat(response.changes().get(1))
+                .containsKeys("id", "createdAt", "updatedAt", "createdBy", "updatedBy", "isDeleted",
+                        "username", "email", "name")
+                .containsEntry("updatedAt", T0.plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("limit 은 생략하면 기본값이고 1 ~ 최대값 밖이면 검증 오류다")
+    void read_ValidatesLimit() {
+        // Given
+        for (int i = 0; i < MAX_LIMIT + 2; i++) {
+            insertUser(T0.plusSeconds(i), false);
+        }
+
+        // When & Then
+        assertThat(reader.read(FEED, null, null).changes()).hasSize(DEFAULT_LIMIT);
+        assertThat(reader.read(FEED, null, 1).changes()).hasSize(1);
+        ChangeFeedResponse max = reader.read(FEED, null, MAX_LIMIT);
+        assertThat(max.changes()).hasSize(MAX_LIMIT);
+        assertThat(max.hasMore()).isTrue();
+        for (int invalid : new int[]{0, -1, MAX_LIMIT + 1}) {
+            assertThatThrownBy(() -> reader.read(FEED, null, invalid))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessageContaining("limit");
+        }
+    }
+
+    @Test
+    @DisplayName("해석할 수 없거나 변조된 커서는 검증 오류이고 빈 커서는 처음부터 읽는다")
+    void read_RejectsInvalidCursor() {
+        // Given
+        insertUser(T0, false);
+        String valid = new ChangeFeedCursor(T0, 1L).encode();
+
+        // When & Then
+        assertThatThrownBy(() -> reader.read(FEED, valid.substring(0, 5) + "*" + valid.substring(6), null))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("cursor");
+        assertThat(reader.read(FEED, " ", null).changes()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("사용자 피드는 비밀번호 해시와 2단계 인증 비밀을 내보내지 않는다")
+    void userFeed_OmitsSecrets() {
+        // Given
+        insertUser(T0, false);
+        UserService userService = new UserService(userRepository, mock(PasswordEncoder.class), reader);
+
+        // When
+        ChangeFeedResponse response = userService.getChanges(null, null);
+
+        // Then
+        assertThat(response.feed()).isEqualTo("users");
+        assertThat(response.changes()).hasSize(1);
+        Map<String, Object> row = response.changes().get(0);
+        assertThat(row).containsKeys("username", "email", "twoFactorEnabled", "passwordChangedAt", "tenantId")
+                .doesNotContainKeys("passwordHash", "twoFactorSecret");
+        assertThat(row.values()).doesNotContain("{bcrypt}secret-hash", "TOTPSECRET");
+    }
+
+    private long insertUser(LocalDateTime updatedAt, boolean deleted) {
+        String username = "user-" + (++sequence);
+        jdbcTemplate.update("INSERT INTO users (username, email, name, password_hash, two_factor_secret, "
+                        + "two_factor_enabled, created_at, updated_at, is_deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                username, username + "@example.com", username, "{bcrypt}secret-hash", "TOTPSECRET", true,
+                Timestamp.valueOf(T0.minusDays(1)), Timestamp.valueOf(updatedAt), deleted);
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = ?", Long.class, username);
+    }
+}
@@ -0,0 +1,88 @@
+package com.agenticcp.core.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JDBC 커서 내보내기의 CSV/NDJSON 직렬화를 검증한다. 결과가 없어도 CSV 헤더 행은 기록되어야 한다.
+ */
+class JdbcStreamingExporterTest {
+
+    private JdbcStreamingExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:export-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE items (id BIGINT, name VARCHAR(100), amount DECIMAL(10, 2), "
+                + "created_at TIMESTAMP)");
+        jdbcTemplate.update("INSERT INTO items VALUES (1, 'plain', 1.50, TIMESTAMP '2026-01-02 03:04:05')");
+        jdbcTemplate.update("INSERT INTO items VALUES (2, 'has \"quote\", comma', NULL, NULL)");
+        exporter = new JdbcStreamingExporter(dataSource, new ObjectMapper(), new SimpleMeterRegistry(),
+                new ThreadPoolTaskExecutor(), 100, 0, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("결과가 없어도 CSV 헤더 행을 기록한다")
+    void csv_EmptyResultStillWritesHeader() throws IOException {
+        // Given
+        ExportQuery query = new ExportQuery("items", "SELECT id, name FROM items WHERE id > :id", Map.of("id", 100));
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exporter.write(query, ExportFormat.CSV, false, out);
+
+        // Then
+        assertThat(rows).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualToIgnoringCase("ID,NAME\r\n");
+    }
+
+    @Test
+    @DisplayName("CSV 는 RFC 4180 규칙으로 따옴표를 붙이고 null 은 빈 필드로 쓴다")
+    void csv_QuotesFieldsAndWritesNullsAsEmpty() throws IOException {
+        // Given
+        ExportQuery query = new ExportQuery("items", "SELECT id, name, amount, created_at FROM items ORDER BY id", Map.of());
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exporter.write(query, ExportFormat.CSV, false, out);
+
+        // Then
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\r\n")).containsExactly(
+                "ID,NAME,AMOUNT,CREATED_AT",
+                "1,plain,1.50,2026-01-02T03:04:05",
+                "2,\"has \"\"quote\"\", comma\",,");
+    }
+
+    @Test
+    @DisplayName("NDJSON 은 컬럼 타입에 맞춰 숫자/문자열/null 로 한 줄에 한 행씩 쓴다")
+    void ndjson_WritesTypedValuesPerLine() throws IOException {
+        // Given
+        ExportQuery query = new ExportQuery("items", "SELECT id, name, amount, created_at FROM items ORDER BY id", Map.of());
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.write(query, ExportFormat.NDJSON, false, out);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+                "{\"ID\":1,\"NAME\":\"plain\",\"AMOUNT\":1.50,\"CREATED_AT\":\"2026-01-02T03:04:05\"}",
+                "{\"ID\":2,\"NAME\":\"has \\\"quote\\\", comma\",\"AMOUNT\":null,\"CREATED_AT\":null}");
+    }
+}
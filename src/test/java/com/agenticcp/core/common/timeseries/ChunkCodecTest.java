@@ -0,0 +1,175 @@
+package com.agenticcp.core.common.timeseries;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Gorilla 청크 인코더/디코더의 왕복 복원을 검증한다. delta-of-delta 구간 경계마다, NaN 과 부호 비트,
+ * 64비트 전체가 유효한 XOR 까지 비트 단위로 같아야 한다.
+ */
+class ChunkCodecTest {
+
+    @Test
+    @DisplayName("delta-of-delta 가 각 구간 경계 값이어도 타임스탬프를 그대로 복원한다")
+    void timestamps_RoundTripAtEveryBucketBoundary() {
+        // Given: 0, ±63/64, ±255/256, ±2047/2048 와 그 바깥, 32비트 구간 양 끝
+        long[] deltaOfDeltas = {0, -63, 64, -64, 65, -255, 256, -256, 257, -2047, 2048, -2048, 2049,
+                100_000, -100_000, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        List<Long> timestamps = new ArrayList<>();
+        long timestamp = 1_700_000_000L;
+        long delta = 3_000_000_000L;
+        timestamps.add(timestamp);
+        timestamp += delta;
+        timestamps.add(timestamp);
+        for (long deltaOfDelta : deltaOfDeltas) {
+            delta += deltaOfDelta;
+            timestamp += delta;
+            timestamps.add(timestamp);
+        }
+
+        // When
+        ChunkEncoder encoder = new ChunkEncoder(1, timestamps.size());
+        for (long value : timestamps) {
+            assertThat(encoder.canAppend(value)).isTrue();
+            encoder.append(value, new double[]{1.0});
+        }
+        List<Long> decoded = new ArrayList<>();
+        ChunkDecoder decoder = new ChunkDecoder(encoder.toByteArray(), 1, encoder.count());
+        double[] values = new double[1];
+        while (decoder.hasNext()) {
+            decoded.add(decoder.next(values));
+        }
+
+        // Then
+        assertThat(decoded).containsExactlyElementsOf(timestamps);
+        assertThat(encoder.firstTimestamp()).isEqualTo(timestamps.get(0));
+        assertThat(encoder.lastTimestamp()).isEqualTo(timestamps.get(timestamps.size() - 1));
+    }
+
+    @Test
+    @DisplayName("첫 간격이 32비트를 넘거나 delta-of-delta 가 int 범위를 넘거나 시각이 뒤로 가면 붙이지 않는다")
+    void canAppend_RejectsUnencodableGaps() {
+        // Given
+        ChunkEncoder first = new ChunkEncoder(1, 4);
+        first.append(0, new double[]{0});
+        ChunkEncoder later = new ChunkEncoder(1, 4);
+        later.append(0, new double[]{0});
+        later.append(60, new double[]{0});
+
+        // When & Then
+        assertThat(first.canAppend(1L << 32)).isFalse();
+        assertThat(first.canAppend((1L << 32) - 1)).isTrue();
+        assertThat(first.canAppend(0)).isFalse();
+        assertThat(later.canAppend(60L + 60 + Integer.MAX_VALUE)).isTrue();
+        assertThat(later.canAppend(60L + 60 + Integer.MAX_VALUE + 1)).isFalse();
+        assertThat(later.canAppend(59)).isFalse();
+    }
+
+    @Test
+    @DisplayName("NaN, -0.0, 최소 양수, 부호만 바뀐 값, 64비트 전체가 다른 XOR 도 비트 단위로 복원한다")
+    void values_RoundTripBitExact() {
+        // Given: 필드 3개. 두 번째 필드는 0x0000000000000001 → 0x8000000000000000 로 64비트 XOR 를 만든다
+        double[][] rows = {
+                {Double.NaN, Double.MIN_VALUE, 0.0},
+                {Double.NaN, -0.0, -0.0},
+                {42.5, Double.MIN_VALUE, Double.longBitsToDouble(0x7ff0000000000001L)},
+                {42.5, Double.longBitsToDouble(0xFFFFFFFFFFFFFFFFL), Double.MAX_VALUE},
+                {-42.5, Double.longBitsToDouble(0x0000000000000001L), Double.NEGATIVE_INFINITY},
+                {Double.NaN, Double.longBitsToDouble(0x8000000000000000L), 1e-300},
+                {0.1, 0.1, 0.1},
+                {0.2, 0.1, 0.30000000000000004},
+        };
+
+        // When
+        ChunkEncoder encoder = new ChunkEncoder(3, rows.length);
+        for (int i = 0; i < rows.length; i++) {
+            encoder.append(60L * i, rows[i]);
+        }
+        ChunkDecoder decoder = new ChunkDecoder(encoder.toByteArray(), 3, encoder.count());
+
+        // Then
+        for (double[] row : rows) {
+            double[] values = new double[3];
+            decoder.next(values);
+            for (int field = 0; field < 3; field++) {
+                assertThat(Double.doubleToRawLongBits(values[field]))
+                        .isEqualTo(Double.doubleToRawLongBits(row[field]));
+            }
+        }
+        assertThat(decoder.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("무작위 값과 간격의 긴 청크도 그대로 복원하고 바뀌지 않는 점은 필드당 1비트로 줄인다")
+    void randomChunk_RoundTripsAndCompressesRepeats() {
+        // Given
+        Random random = new Random(36);
+        int points = 5_000;
+        long[] timestamps = new long[points];
+        double[][] rows = new double[points][4];
+        long timestamp = 0;
+        for (int i = 0; i < points; i++) {
+            timestamp += random.nextInt(10) == 0 ? 1 + random.nextInt(5_000) : 60;
+            timestamps[i] = timestamp;
+            for (int field = 0; field < 4; field++) {
+                rows[i][field] = i > 0 && random.nextBoolean() ? rows[i - 1][field]
+                        : random.nextInt(3) == 0 ? Double.NaN : Math.round(random.nextDouble() * 1000) / 10.0;
+            }
+        }
+        ChunkEncoder repeated = new ChunkEncoder(4, points);
+        for (int i = 0; i < points; i++) {
+            repeated.append(60L * i, new double[]{1, 2, 3, 4});
+        }
+
+        // When
+        ChunkEncoder encoder = new ChunkEncoder(4, points);
+        for (int i = 0; i < points; i++) {
+            encoder.append(timestamps[i], rows[i]);
+        }
+        ChunkDecoder decoder = new ChunkDecoder(encoder.toByteArray(), 4, points);
+
+        // Then
+        for (int i = 0; i < points; i++) {
+            double[] values = new double[4];
+            assertThat(decoder.next(values)).isEqualTo(timestamps[i]);
+            for (int field = 0; field < 4; field++) {
+                assertThat(Double.doubleToRawLongBits(values[field]))
+                        .isEqualTo(Double.doubleToRawLongBits(rows[i][field]));
+            }
+        }
+        // header: 64-bit timestamp + 4 x 64-bit values + 32-bit first delta, then 1 + 4 bits per point
+        int expectedBits = 64 + 4 * 64 + (32 + 4) + (points - 2) * 5;
+        assertThat(repeated.toByteArray()).hasSize((expectedBits + 7) / 8);
+    }
+
+    @Test
+    @DisplayName("비트 출력은 바이트 경계를 넘는 쓰기와 64비트 쓰기를 MSB 우선으로 읽기와 맞춘다")
+    void bits_RoundTripAcrossByteBoundaries() {
+        // Given
+        BitOutput output = new BitOutput(1);
+        output.writeBit(true);
+        output.writeBits(0b101, 3);
+        output.writeBits(-1L, 64);
+        output.writeBits(0x123456789L, 37);
+        output.writeBit(false);
+        output.writeBits(0x8000000000000001L, 64);
+
+        // When
+        BitInput input = new BitInput(output.toByteArray());
+
+        // Then
+        assertThat(output.bitLength()).isEqualTo(1 + 3 + 64 + 37 + 1 + 64);
+        assertThat(input.readBit()).isTrue();
+        assertThat(input.readBits(3)).isEqualTo(0b101);
+        assertThat(input.readBits(64)).isEqualTo(-1L);
+        assertThat(input.readBits(37)).isEqualTo(0x123456789L);
+        assertThat(input.readBit()).isFalse();
+        assertThat(input.readBits(64)).isEqualTo(0x8000000000000001L);
+    }
+}
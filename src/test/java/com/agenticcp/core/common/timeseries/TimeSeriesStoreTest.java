@@ -0,0 +1,216 @@
+package com.agenticcp.core.common.timeseries;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시계열 저장소의 세그먼트 회전과 다시 열기, 기록 도중 중단된 청크 무시, 보존 기간 정리를 검증한다.
+ * {@code -Dbenchmark=true} 로 실행하면 docs/TIMESERIES_STORAGE.md 의 metrics/costs 데이터로 압축률과 조회 시간을 출력한다.
+ */
+class TimeSeriesStoreTest {
+
+    private static final long DAY = 86_400;
+    private static final long START = 1_767_225_600L; // 2026-01-01T00:00:00Z
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 같은 구간의 새 파일로 넘어가고 다시 열어도 모든 점을 조회한다")
+    void segmentRollover_SurvivesReopen() throws IOException {
+        // Given: 4 KB 세그먼트, 청크 10점
+        TimeSeriesStore store = open(options(2, 10, 4096, Duration.ofDays(1), Duration.ofDays(30)));
+        for (long series = 1; series <= 20; series++) {
+            for (int minute = 0; minute < 100; minute++) {
+                store.append(series, START + minute * 60L, series, minute % 7 == 0 ? Double.NaN : minute);
+            }
+        }
+        store.close();
+        assertThat(segmentFiles()).hasSizeGreaterThan(3);
+
+        // When
+        TimeSeriesStore reopened = open(options(2, 10, 4096, Duration.ofDays(1), Duration.ofDays(30)));
+
+        // Then
+        for (long series = 1; series <= 20; series++) {
+            List<TimeSeriesPoint> points = reopened.query(series, START, START + DAY);
+            assertThat(points).hasSize(100);
+            assertThat(points.get(99).epochSecond()).isEqualTo(START + 99 * 60L);
+            assertThat(points.get(50).values()).containsExactly((double) series, 50.0);
+            assertThat(points.get(49).values()[1]).isNaN();
+        }
+        assertThat(reopened.getStats().points()).isEqualTo(2_000);
+        assertThat(reopened.query(5, START + 600, START + 1_199)).hasSize(10);
+        assertThat(reopened.lastTimestamp(5)).isEqualTo(START + 99 * 60L);
+        assertThat(reopened.append(5, START + 99 * 60L, 0, 0)).isFalse();
+        assertThat(reopened.append(5, START + 100 * 60L, 5, 100)).isTrue();
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("writePosition 뒤에 기록 도중 중단된 청크는 다시 열 때 무시하고 그 자리에 이어 쓴다")
+    void tornChunkWrite_IgnoredOnReopen() throws IOException {
+        // Given
+        TimeSeriesStore store = open(options(1, 10, 64 * 1024, Duration.ofDays(1), Duration.ofDays(30)));
+        for (int minute = 0; minute < 30; minute++) {
+            store.append(1, START + minute * 60L, minute);
+        }
+        store.close();
+        Path segment = segmentFiles().get(0);
+        int writePosition;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(4);
+            channel.read(header, 12);
+            writePosition = header.flip().getInt();
+            // record header of a chunk whose data never made it to disk, and whose writePosition was never published
+            ByteBuffer torn = ByteBuffer.allocate(36)
+                    .putLong(1).putInt(-1).putLong(START + DAY / 2).putLong(START + DAY / 2 + 600)
+                    .putInt(11).putInt(200);
+            channel.write(torn.flip(), writePosition);
+        }
+
+        // When
+        TimeSeriesStore reopened = open(options(1, 10, 64 * 1024, Duration.ofDays(1), Duration.ofDays(30)));
+
+        // Then
+        assertThat(reopened.query(1, START, START + DAY)).hasSize(30);
+        assertThat(reopened.lastTimestamp(1)).isEqualTo(START + 29 * 60L);
+        assertThat(reopened.getStats().chunks()).isEqualTo(3);
+        for (int minute = 30; minute < 40; minute++) {
+            reopened.append(1, START + minute * 60L, minute);
+        }
+        reopened.flush();
+        assertThat(reopened.getStats().storedBytes()).isGreaterThan(writePosition);
+        reopened.close();
+        TimeSeriesStore again = open(options(1, 10, 64 * 1024, Duration.ofDays(1), Duration.ofDays(30)));
+        assertThat(again.query(1, START, START + DAY)).extracting(point -> point.values()[0])
+                .containsExactlyElementsOf(IntStream.range(0, 40).mapToObj(i -> (double) i).toList());
+        again.close();
+    }
+
+    @Test
+    @DisplayName("마지막 점이 보존 기간보다 오래된 세그먼트 파일만 통째로 지운다")
+    void applyRetention_DeletesExpiredSegmentFiles() throws IOException {
+        // Given: 하루 구간 세그먼트 5개, 보존 2일
+        TimeSeriesStore store = open(options(1, 24, 64 * 1024, Duration.ofDays(1), Duration.ofDays(2)));
+        for (int hour = 0; hour < 5 * 24; hour++) {
+            store.append(1, START + hour * 3_600L, hour);
+        }
+        store.flush();
+        assertThat(segmentFiles()).hasSize(5);
+
+        // When: 다섯째 날 끝 기준 2일 전 = 넷째 날 시작, 셋째 날까지의 세그먼트가 만료된다
+        int deleted = store.applyRetention(START + 5 * DAY);
+
+        // Then
+        assertThat(deleted).isEqualTo(3);
+        assertThat(segmentFiles()).hasSize(2);
+        assertThat(store.query(1, START, START + 3 * DAY - 1)).isEmpty();
+        assertThat(store.query(1, START + 3 * DAY, START + 5 * DAY)).hasSize(2 * 24);
+        assertThat(store.applyRetention(START + 5 * DAY)).isZero();
+        store.close();
+        TimeSeriesStore reopened = open(options(1, 24, 64 * 1024, Duration.ofDays(1), Duration.ofDays(2)));
+        assertThat(reopened.getStats().segments()).isEqualTo(2);
+        reopened.close();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("벤치마크: metrics/costs 저장 크기, 압축률, 1시간 구간 조회 1,000회")
+    void benchmark_CompressionAndQueries() throws IOException {
+        // Given: 리소스 2,000개 × 3일 (1분), 필드 8개, 분마다 25% 확률로 0.1 단위 변동
+        Random random = new Random(36);
+        TimeSeriesStore metrics = TimeSeriesStore.open("metrics", directory.resolve("metrics"),
+                options(8, 120, 64 * 1024 * 1024, Duration.ofDays(1), Duration.ofDays(90)));
+        double[] values = new double[8];
+        for (long resource = 1; resource <= 2_000; resource++) {
+            for (int field = 0; field < 8; field++) {
+                values[field] = random.nextInt(1_000) / 10.0;
+            }
+            for (int minute = 0; minute < 3 * 1_440; minute++) {
+                for (int field = 0; field < 8; field++) {
+                    if (random.nextInt(4) == 0) {
+                        long tenths = Math.round(values[field] * 10) + random.nextInt(21) - 10;
+                        values[field] = Math.max(0, Math.min(1_000, tenths)) / 10.0;
+                    }
+                }
+                metrics.append(resource, START + minute * 60L, values);
+            }
+        }
+        metrics.flush();
+
+        // 리소스 10,000개 × 30일 (1시간), 점마다 0.2% 확률로 요금 변경
+        TimeSeriesStore costs = TimeSeriesStore.open("costs", directory.resolve("costs"),
+                options(1, 168, 64 * 1024 * 1024, Duration.ofDays(1), Duration.ofDays(730)));
+        for (long resource = 1; resource <= 10_000; resource++) {
+            double rate = random.nextInt(10_000) / 1_000.0;
+            for (int hour = 0; hour < 30 * 24; hour++) {
+                if (random.nextInt(500) == 0) {
+                    rate = random.nextInt(10_000) / 1_000.0;
+                }
+                costs.append(resource, START + hour * 3_600L, rate);
+            }
+        }
+        costs.flush();
+
+        // When
+        for (int warmup = 0; warmup < 3; warmup++) {
+            queryHours(metrics, random);
+        }
+        long startNanos = System.nanoTime();
+        long returned = queryHours(metrics, random);
+        long queryMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        // Then
+        for (TimeSeriesStoreStats stats : List.of(metrics.getStats(), costs.getStats())) {
+            System.out.printf("%-7s points=%d stored=%.1fMB raw=%.1fMB ratio=%.1fx bytes/point=%.2f segments=%d%n",
+                    stats.name(), stats.points(), stats.storedBytes() / 1048576.0, stats.rawBytes() / 1048576.0,
+                    stats.compressionRatio(), (double) stats.storedBytes() / stats.points(), stats.segments());
+        }
+        System.out.printf("1,000 one-hour queries: %d ms (%d points)%n", queryMillis, returned);
+        assertThat(returned).isEqualTo(1_000 * 61L);
+        metrics.close();
+        costs.close();
+    }
+
+    private static long queryHours(TimeSeriesStore store, Random random) {
+        long returned = 0;
+        for (int i = 0; i < 1_000; i++) {
+            long resource = 1 + (i * 2L) % 2_000;
+            long from = START + random.nextInt(3 * 24 - 1) * 3_600L;
+            returned += store.query(resource, from, from + 3_600).size();
+        }
+        return returned;
+    }
+
+    private TimeSeriesStore open(TimeSeriesStore.Options options) throws IOException {
+        return TimeSeriesStore.open("test", directory, options);
+    }
+
+    private static TimeSeriesStore.Options options(int fieldCount, int chunkPoints, int segmentBytes,
+                                                   Duration window, Duration retention) {
+        return new TimeSeriesStore.Options(fieldCount, chunkPoints, segmentBytes, window, retention);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.agenticcp.core.domain.cloud.client;
+
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 지연 주입 스텁 서버를 상대로 적응형 동시성 제한, 재시도, 회로 차단을 검증한다.
+ */
+class ResilientProviderClientTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private volatile Consumer<HttpExchange> behavior;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger throttled = new AtomicInteger();
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private ProviderClientProperties properties;
+    private CloudProvider provider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newFixedThreadPool(64);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.incrementAndGet();
+            behavior.accept(exchange);
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        properties = new ProviderClientProperties();
+        properties.setAcquireTimeout(Duration.ofSeconds(10));
+        properties.getRetry().setBaseDelay(Duration.ofMillis(5));
+        properties.getRetry().setMaxDelay(Duration.ofMillis(50));
+
+        provider = CloudProvider.builder()
+                .providerKey("stub")
+                .apiEndpoint("http://127.0.0.1:" + server.getAddress().getPort())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시 호출이 몰려도 지연시간 기반으로 한도를 낮춰 스로틀링 폭주가 발생하지 않는다")
+    void adaptiveLimit_AvoidsThrottleStorm() throws Exception {
+        // Given: 동시 처리량 20 을 넘으면 429, 동시성에 비례해 지연이 늘어나는 스텁
+        int capacity = 20;
+        behavior = exchange -> {
+            int current = inflight.incrementAndGet();
+            try {
+                if (current > capacity) {
+                    throttled.incrementAndGet();
+                    respond(exchange, 429, "{}", Map.of("Retry-After", "0"));
+                    return;
+                }
+                sleepQuietly(10 + 2L * current);
+                respond(exchange, 200, "{\"ok\":true}", Map.of());
+            } finally {
+                inflight.decrementAndGet();
+            }
+        };
+        ResilientProviderClient client = newClient();
+
+        // When: 40 개 스레드가 각각 25 회 호출
+        int callers = 40;
+        int callsPerCaller = 25;
+        ExecutorService callerPool = Executors.newFixedThreadPool(callers);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            futures.add(callerPool.submit(() -> {
+                int succeeded = 0;
+                for (int j = 0; j < callsPerCaller; j++) {
+                    client.execute(provider, ProviderApiRequest.get("/ping", Map.of()));
+                    succeeded++;
+                }
+                return succeeded;
+            }));
+        }
+        int succeeded = 0;
+        for (Future<Integer> future : futures) {
+            succeeded += future.get();
+        }
+        callerPool.shutdown();
+
+        // Then
+        int total = callers * callsPerCaller;
+        assertThat(succeeded).isEqualTo(total);
+        assertThat(throttled.get()).isLessThan(total / 20);
+        assertThat(client.getGuard("stub").limiter().getLimit()).isLessThanOrEqualTo(capacity);
+    }
+
+    @Test
+    @DisplayName("429 응답은 Retry-After 이후 재시도되어 성공한다")
+    void throttledResponse_IsRetried() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        behavior = exchange -> {
+            if (attempts.incrementAndGet() == 1) {
+                respond(exchange, 429, "{}", Map.of("Retry-After", "0"));
+            } else {
+                respond(exchange, 200, "{\"ok\":true}", Map.of());
+            }
+        };
+        ResilientProviderClient client = newClient();
+
+        // When
+        ProviderApiResponse response = client.execute(provider, ProviderApiRequest.get("/ping", Map.of()));
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 재시도하지 않는다")
+    void clientError_IsNotRetried() {
+        // Given
+        behavior = exchange -> respond(exchange, 404, "{}", Map.of());
+        ResilientProviderClient client = newClient();
+
+        // When & Then
+        assertThatThrownBy(() -> client.execute(provider, ProviderApiRequest.get("/missing", Map.of())))
+                .isInstanceOf(ProviderApiException.class)
+                .matches(e -> ((ProviderApiException) e).getStatusCode() == 404);
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연속 5xx 로 회로가 열리면 프로바이더를 호출하지 않고 거절하며, 반개방 후 복구된다")
+    void circuitBreaker_OpensAndRecovers() throws Exception {
+        // Given
+        properties.getRetry().setMaxAttempts(1);
+        properties.getBreaker().setWindowSize(10);
+        properties.getBreaker().setMinimumCalls(5);
+        properties.getBreaker().setOpenDuration(Duration.ofMillis(200));
+        properties.getBreaker().setHalfOpenCalls(2);
+        behavior = exchange -> respond(exchange, 503, "{}", Map.of());
+        ResilientProviderClient client = newClient();
+        ProviderApiRequest request = ProviderApiRequest.get("/ping", Map.of());
+
+        // When: 실패 5 회
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> client.execute(provider, request))
+                    .isInstanceOf(ProviderApiException.class)
+                    .isNotInstanceOf(ProviderCallRejectedException.class);
+        }
+
+        // Then: 열린 회로는 서버에 도달하지 않는다
+        ProviderCircuitBreaker circuitBreaker = client.getGuard("stub").circuitBreaker();
+        assertThat(circuitBreaker.getState()).isEqualTo(ProviderCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> client.execute(provider, request))
+                .isInstanceOf(ProviderCallRejectedException.class);
+        assertThat(requests.get()).isEqualTo(5);
+
+        // When: 프로바이더 복구 후 openDuration 경과
+        behavior = exchange -> respond(exchange, 200, "{\"ok\":true}", Map.of());
+        Thread.sleep(250);
+        client.execute(provider, request);
+        client.execute(provider, request);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(ProviderCircuitBreaker.State.CLOSED);
+        assertThat(requests.get()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("반개방 상태의 4xx 응답은 회로를 닫지 않고, 성공 응답이 쌓여야 닫힌다")
+    void circuitBreaker_IgnoresClientErrorsWhileHalfOpen() throws Exception {
+        // Given: 5xx 로 회로를 연 뒤 openDuration 경과
+        properties.getRetry().setMaxAttempts(1);
+        properties.getBreaker().setWindowSize(10);
+        properties.getBreaker().setMinimumCalls(5);
+        properties.getBreaker().setOpenDuration(Duration.ofMillis(200));
+        properties.getBreaker().setHalfOpenCalls(2);
+        behavior = exchange -> respond(exchange, 503, "{}", Map.of());
+        ResilientProviderClient client = newClient();
+        ProviderApiRequest request = ProviderApiRequest.get("/ping", Map.of());
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> client.execute(provider, request)).isInstanceOf(ProviderApiException.class);
+        }
+        ProviderCircuitBreaker circuitBreaker = client.getGuard("stub").circuitBreaker();
+        Thread.sleep(250);
+
+        // When: 반개방 시험 호출이 모두 404
+        behavior = exchange -> respond(exchange, 404, "{}", Map.of());
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.execute(provider, request))
+                    .isInstanceOf(ProviderApiException.class)
+                    .isNotInstanceOf(ProviderCallRejectedException.class);
+        }
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(ProviderCircuitBreaker.State.HALF_OPEN);
+
+        // When: 프로바이더가 정상 응답
+        behavior = exchange -> respond(exchange, 200, "{\"ok\":true}", Map.of());
+        client.execute(provider, request);
+        client.execute(provider, request);
+
+        // Then
+        assertThat(circuitBreaker.getState()).isEqualTo(ProviderCircuitBreaker.State.CLOSED);
+        assertThat(requests.get()).isEqualTo(10);
+    }
+
+    private ResilientProviderClient newClient() {
+        return new ResilientProviderClient(List.of(new HttpProviderApiClient(properties)), properties,
+                new SimpleMeterRegistry());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body, Map<String, String> headers) {
+        try (exchange) {
+            headers.forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
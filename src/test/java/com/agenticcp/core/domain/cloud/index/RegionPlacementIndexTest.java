@@ -0,0 +1,190 @@
+package com.agenticcp.core.domain.cloud.index;
+
+import com.agenticcp.core.domain.cloud.entity.CloudService.ServiceType;
+import com.agenticcp.core.domain.cloud.index.RegionPlacementIndex.Match;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.agenticcp.core.domain.cloud.index.ResourceAttributeIndexTest.time;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * k-d 트리 최근접 조회를 전수 비교(하버사인 거리 정렬)와 무작위로 대조하고, 날짜변경선/극/같은 좌표 경계를 검증한다.
+ * {@code -Dbenchmark=true} 로 실행하면 5만 리전에서 트리 조회와 전수 비교의 지연시간을 출력한다.
+ */
+class RegionPlacementIndexTest {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final String[] PROVIDERS = {"aws", "gcp", "azure", "ncp"};
+    private static final ServiceType[] SERVICE_TYPES = ServiceType.values();
+
+    @Test
+    @DisplayName("무작위 리전/조건에서 트리 조회 결과가 전수 비교의 상위 limit 개와 거리 순으로 같다")
+    void nearest_MatchesBruteForce() {
+        // Given
+        Random random = new Random(7);
+        List<PlacementRegion> regions = randomRegions(random, 2_000);
+        RegionPlacementIndex index = RegionPlacementIndex.of(regions);
+
+        for (int i = 0; i < 500; i++) {
+            // When
+            PlacementQuery query = randomQuery(random);
+            List<Match> matches = index.nearest(query);
+
+            // Then
+            List<Double> expected = bruteForce(regions, query);
+            assertThat(matches).hasSameSizeAs(expected);
+            for (int rank = 0; rank < matches.size(); rank++) {
+                Match match = matches.get(rank);
+                assertThat(match.distanceKm()).isCloseTo(expected.get(rank), within(1e-3));
+                assertThat(match.distanceKm()).isCloseTo(haversine(query, match.region()), within(1e-3));
+                assertThat(isCandidate(match.region(), query)).isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("날짜변경선 건너편과 극 근처 리전을 가깝게 보고, 같은 좌표의 리전은 지연시간 순으로 정렬한다")
+    void nearest_WrapsAroundAndBreaksTiesByLatency() {
+        // Given
+        RegionPlacementIndex index = RegionPlacementIndex.of(List.of(
+                region(1, "aws", -16.5, -179.9, 80, false),
+                region(2, "aws", -16.5, 170.0, 10, false),
+                region(3, "gcp", 89.9, 0.0, null, false),
+                region(4, "gcp", 89.9, 0.0, 30, false),
+                region(5, "azure", 89.9, 0.0, 20, false)));
+
+        // When
+        List<Match> fiji = index.nearest(query(-16.5, 179.9, 1));
+        List<Match> pole = index.nearest(query(89.95, 120.0, 3));
+
+        // Then
+        assertThat(fiji).extracting(match -> match.region().regionId()).containsExactly(1L);
+        assertThat(fiji.get(0).distanceKm()).isLessThan(25);
+        assertThat(pole).extracting(match -> match.region().regionId()).containsExactly(5L, 4L, 3L);
+    }
+
+    @Test
+    @DisplayName("후보가 없거나 빈 인덱스면 빈 목록을, limit 이 후보 수보다 크면 후보 전부를 돌려준다")
+    void nearest_EmptyAndShortCandidates() {
+        // Given
+        RegionPlacementIndex index = RegionPlacementIndex.of(List.of(
+                region(1, "aws", 37.5, 127.0, 10, false),
+                region(2, "aws", 35.7, 139.7, 30, false),
+                region(3, "aws", 38.9, -77.0, 200, true)));
+
+        // When & Then
+        assertThat(RegionPlacementIndex.empty().nearest(query(0, 0, 5))).isEmpty();
+        assertThat(index.nearest(new PlacementQuery(37.5, 127.0, Set.of(ServiceType.MACHINE_LEARNING),
+                false, false, null, 5))).isEmpty();
+        assertThat(index.nearest(new PlacementQuery(37.5, 127.0, null, false, false, Set.of("gcp"), 5))).isEmpty();
+        assertThat(index.nearest(query(37.5, 127.0, 10))).extracting(match -> match.region().regionId())
+                .containsExactly(1L, 2L);
+        assertThat(index.nearest(new PlacementQuery(37.5, 127.0, null, true, false, null, 10)))
+                .extracting(match -> match.region().regionId()).containsExactly(3L);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("벤치마크: 5만 리전 최근접 조회 (트리 vs 전수 비교)")
+    void benchmark_FiftyThousandRegions() {
+        // Given
+        Random random = new Random(42);
+        List<PlacementRegion> regions = randomRegions(random, 50_000);
+        long buildStart = System.nanoTime();
+        RegionPlacementIndex index = RegionPlacementIndex.of(regions);
+        System.out.printf("build=%.1fms%n", (System.nanoTime() - buildStart) / 1_000_000.0);
+        PlacementQuery unfiltered = query(37.5, 127.0, 10);
+        PlacementQuery filtered = new PlacementQuery(37.5, 127.0, EnumSet.of(ServiceType.COMPUTE),
+                false, true, Set.of("aws"), 10);
+
+        // When & Then
+        time("k-d tree, no filter, limit 10", () -> index.nearest(unfiltered));
+        time("k-d tree, aws + COMPUTE + multi-AZ, limit 10", () -> index.nearest(filtered));
+        time("brute force, no filter, limit 10", () -> bruteForce(regions, unfiltered));
+        assertThat(index.nearest(unfiltered)).hasSize(10);
+    }
+
+    private static List<Double> bruteForce(List<PlacementRegion> regions, PlacementQuery query) {
+        return regions.stream()
+                .filter(region -> isCandidate(region, query))
+                .map(region -> haversine(query, region))
+                .sorted(Comparator.naturalOrder())
+                .limit(query.limit())
+                .toList();
+    }
+
+    private static boolean isCandidate(PlacementRegion region, PlacementQuery query) {
+        if (query.providerKeys() != null && !query.providerKeys().isEmpty()
+                && !query.providerKeys().contains(region.providerKey())) {
+            return false;
+        }
+        if (query.requiredServices() != null && !region.serviceTypes().containsAll(query.requiredServices())) {
+            return false;
+        }
+        if (region.government() != query.governmentOnly()) {
+            return false;
+        }
+        return !query.multiZoneRequired() || region.multiZone();
+    }
+
+    private static double haversine(PlacementQuery query, PlacementRegion region) {
+        double phi1 = Math.toRadians(query.latitude());
+        double phi2 = Math.toRadians(region.latitude());
+        double sinPhi = Math.sin((phi2 - phi1) / 2);
+        double sinLambda = Math.sin(Math.toRadians(region.longitude() - query.longitude()) / 2);
+        double h = sinPhi * sinPhi + Math.cos(phi1) * Math.cos(phi2) * sinLambda * sinLambda;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(h)));
+    }
+
+    private static List<PlacementRegion> randomRegions(Random random, int count) {
+        List<PlacementRegion> regions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Set<ServiceType> services = EnumSet.noneOf(ServiceType.class);
+            for (ServiceType serviceType : SERVICE_TYPES) {
+                if (random.nextInt(4) != 0) {
+                    services.add(serviceType);
+                }
+            }
+            // uniform on the sphere, so the poles are not over-represented
+            double latitude = Math.toDegrees(Math.asin(2 * random.nextDouble() - 1));
+            double longitude = random.nextDouble() * 360 - 180;
+            regions.add(new PlacementRegion(i, PROVIDERS[random.nextInt(PROVIDERS.length)], "region-" + i,
+                    "Region " + i, "XX", "City " + i, latitude, longitude, random.nextInt(300),
+                    random.nextInt(20) == 0, random.nextInt(10) < 7, services));
+        }
+        return regions;
+    }
+
+    private static PlacementQuery randomQuery(Random random) {
+        Set<ServiceType> services = EnumSet.noneOf(ServiceType.class);
+        for (int i = random.nextInt(3); i > 0; i--) {
+            services.add(SERVICE_TYPES[random.nextInt(SERVICE_TYPES.length)]);
+        }
+        Set<String> providers = random.nextBoolean()
+                ? Set.of()
+                : Set.of(PROVIDERS[random.nextInt(PROVIDERS.length)]);
+        return new PlacementQuery(Math.toDegrees(Math.asin(2 * random.nextDouble() - 1)),
+                random.nextDouble() * 360 - 180, services, random.nextInt(10) == 0, random.nextBoolean(),
+                providers, 1 + random.nextInt(25));
+    }
+
+    private static PlacementQuery query(double latitude, double longitude, int limit) {
+        return new PlacementQuery(latitude, longitude, null, false, false, null, limit);
+    }
+
+    private static PlacementRegion region(long id, String providerKey, double latitude, double longitude,
+                                          Integer latencyMs, boolean government) {
+        return new PlacementRegion(id, providerKey, "region-" + id, "Region " + id, "XX", "City " + id,
+                latitude, longitude, latencyMs, government, true, EnumSet.of(ServiceType.COMPUTE));
+    }
+}
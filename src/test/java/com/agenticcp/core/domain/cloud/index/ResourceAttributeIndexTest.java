@@ -0,0 +1,247 @@
+package com.agenticcp.core.domain.cloud.index;
+
+import com.agenticcp.core.domain.cloud.dto.IndexMemoryReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 속성 비트맵 인덱스의 필터 평가, 두 가지 패싯 집계 경로, 값 변경/삭제 시 비트 이동을 검증한다.
+ * {@code -Dbenchmark=true} 로 실행하면 docs/INVENTORY_INDEX_MEMORY.md 의 500만 건 픽스처를 만들어
+ * {@code memoryReport()} 와 조회 지연시간을 출력한다.
+ */
+class ResourceAttributeIndexTest {
+
+    private static final String[] LIFECYCLES = {"RUNNING", "RUNNING", "RUNNING", "RUNNING",
+            "STOPPED", "STOPPED", "TERMINATED", "PENDING"};
+
+    @Test
+    @DisplayName("같은 속성 안은 OR, 속성끼리는 AND 로 결합하고 exclude 를 뺀다")
+    void evaluate_CombinesIncludeAndExclude() {
+        // Given
+        ResourceAttributeIndex index = new ResourceAttributeIndex();
+        index.put(resource(1, "t1", "aws", "RUNNING", "ACTIVE"));
+        index.put(resource(2, "t2", "aws", "STOPPED", "ACTIVE"));
+        index.put(resource(3, "t3", "aws", "RUNNING", "ACTIVE"));
+        index.put(resource(4, "t1", "gcp", "RUNNING", "ACTIVE"));
+        index.put(resource(5, "t2", "aws", "RUNNING", "INACTIVE"));
+
+        // When
+        ResourceFilter filter = new ResourceFilter(
+                Map.of(ResourceAttribute.PROVIDER, Set.of("aws"),
+                        ResourceAttribute.TENANT, Set.of("t1", "t2")),
+                Map.of(ResourceAttribute.STATUS, Set.of("INACTIVE")));
+        RoaringBitmap result = index.evaluate(filter);
+
+        // Then
+        assertThat(result.toArray()).containsExactly(1, 2);
+        assertThat(index.count(ResourceFilter.all())).isEqualTo(5);
+        assertThat(index.count(new ResourceFilter(Map.of(ResourceAttribute.TENANT, Set.of("unknown")), null)))
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("반환된 비트맵을 바꿔도 인덱스에는 영향이 없다")
+    void evaluate_ReturnsDetachedCopy() {
+        // Given
+        ResourceAttributeIndex index = new ResourceAttributeIndex();
+        index.put(resource(1, "t1", "aws", "RUNNING", "ACTIVE"));
+        index.put(resource(2, "t1", "aws", "RUNNING", "ACTIVE"));
+
+        // When
+        index.evaluate(ResourceFilter.all()).clear();
+        index.evaluate(new ResourceFilter(Map.of(ResourceAttribute.TENANT, Set.of("t1")), null)).remove(1);
+
+        // Then
+        assertThat(index.count(new ResourceFilter(Map.of(ResourceAttribute.TENANT, Set.of("t1")), null)))
+                .isEqualTo(2);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ordinal 순회 경로와 값별 교집합 경로가 같은 패싯을 낸다")
+    void facet_ScanAndIntersectionPathsAgree() {
+        // Given: 테넌트 500종 (순회 경로), 라이프사이클 4종 (교집합 경로)
+        ResourceAttributeIndex index = new ResourceAttributeIndex();
+        Random random = new Random(7);
+        Map<String, Long> expectedTenants = new HashMap<>();
+        Map<String, Long> expectedLifecycles = new HashMap<>();
+        RoaringBitmap base = new RoaringBitmap();
+        for (int id = 1; id <= 40_000; id++) {
+            String tenant = "tenant-" + random.nextInt(500);
+            String lifecycle = LIFECYCLES[random.nextInt(LIFECYCLES.length)];
+            index.put(resource(id, tenant, id % 2 == 0 ? "aws" : "gcp", lifecycle, "ACTIVE"));
+            if (id % 2 == 0) {
+                base.add(id);
+                expectedTenants.merge(tenant, 1L, Long::sum);
+                expectedLifecycles.merge(lifecycle, 1L, Long::sum);
+            }
+        }
+
+        // When
+        Map<String, Long> tenants = index.facet(ResourceAttribute.TENANT, base);
+        Map<String, Long> lifecycles = index.facet(ResourceAttribute.LIFECYCLE_STATE, base);
+        Map<String, Long> empty = index.facet(ResourceAttribute.LIFECYCLE_STATE, new RoaringBitmap());
+
+        // Then
+        assertThat(base.getCardinality()).isLessThan(500 * 4096).isGreaterThanOrEqualTo(4 * 4096);
+        assertThat(tenants).isEqualTo(expectedTenants);
+        assertThat(lifecycles).isEqualTo(expectedLifecycles);
+        assertThat(empty).isEmpty();
+    }
+
+    @Test
+    @DisplayName("값이 바뀐 리소스를 다시 넣으면 이전 값의 비트를 지우고 새 값으로 옮긴다")
+    void put_ChangedValueMovesBit() {
+        // Given
+        ResourceAttributeIndex index = new ResourceAttributeIndex();
+        index.put(resource(1, "t1", "aws", "RUNNING", "ACTIVE"));
+        index.put(resource(2, "t1", "aws", "RUNNING", "ACTIVE"));
+
+        // When
+        index.put(resource(1, "t2", "aws", "STOPPED", null));
+
+        // Then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.evaluate(filter(ResourceAttribute.LIFECYCLE_STATE, "RUNNING")).toArray()).containsExactly(2);
+        assertThat(index.evaluate(filter(ResourceAttribute.LIFECYCLE_STATE, "STOPPED")).toArray()).containsExactly(1);
+        assertThat(index.evaluate(filter(ResourceAttribute.TENANT, "t1")).toArray()).containsExactly(2);
+        assertThat(index.evaluate(filter(ResourceAttribute.STATUS, "ACTIVE")).toArray()).containsExactly(2);
+        assertThat(index.facet(ResourceAttribute.STATUS, index.evaluate(ResourceFilter.all())))
+                .containsExactly(Map.entry("ACTIVE", 1L));
+    }
+
+    @Test
+    @DisplayName("삭제하면 모든 속성 비트맵과 전체 집합에서 빠지고 다시 삭제해도 무시한다")
+    void remove_ClearsEveryAttribute() {
+        // Given
+        ResourceAttributeIndex index = new ResourceAttributeIndex();
+        index.put(resource(1, "t1", "aws", "RUNNING", "ACTIVE"));
+        index.put(resource(2, "t1", "gcp", "STOPPED", "ACTIVE"));
+
+        // When
+        index.remove(1);
+        index.remove(1);
+        index.remove(99);
+
+        // Then
+        assertThat(index.contains(1)).isFalse();
+        assertThat(index.contains(2)).isTrue();
+        assertThat(index.evaluate(filter(ResourceAttribute.TENANT, "t1")).toArray()).containsExactly(2);
+        assertThat(index.facet(ResourceAttribute.PROVIDER, index.evaluate(ResourceFilter.all())))
+                .containsExactly(Map.entry("gcp", 1L));
+        assertThat(index.memoryReport().resourceCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커서 이후 id 를 오름차순으로 limit 개까지 돌려주고 비트맵 범위 밖 id 는 거부한다")
+    void page_ReturnsIdsAfterCursor() {
+        // Given
+        RoaringBitmap bitmap = RoaringBitmap.bitmapOf(3, 5, 8, 13, 21);
+
+        // When & Then
+        assertThat(ResourceAttributeIndex.page(bitmap, null, 2)).containsExactly(3L, 5L);
+        assertThat(ResourceAttributeIndex.page(bitmap, 5L, 10)).containsExactly(8L, 13L, 21L);
+        assertThat(ResourceAttributeIndex.page(bitmap, (long) Integer.MAX_VALUE, 10)).isEmpty();
+        assertThatThrownBy(() -> new ResourceAttributeIndex().put(resource(-1, "t1", "aws", "RUNNING", "ACTIVE")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("벤치마크: 500만 리소스 인덱스 메모리와 조회 지연시간")
+    void benchmark_FiveMillionResources() {
+        // Given: docs/INVENTORY_INDEX_MEMORY.md 의 측정 조건
+        ResourceAttributeIndex index = new ResourceAttributeIndex();
+        Random random = new Random(42);
+        String[] providers = {"aws", "gcp", "azure"};
+        int total = 5_000_000;
+        long heapBefore = usedHeap();
+        for (int start = 1; start <= total; start += 1_000) {
+            int providerIndex = random.nextInt(providers.length);
+            String provider = providers[providerIndex];
+            String region = provider + "-region-" + random.nextInt(10);
+            for (int id = start; id < start + 1_000 && id <= total; id++) {
+                int tenant = (int) Math.abs(random.nextGaussian() * 400) % 1_750;
+                index.put(new IndexedResource(id, "tenant-" + tenant, provider, region,
+                        "service-" + random.nextInt(51), "TYPE_" + random.nextInt(20),
+                        LIFECYCLES[random.nextInt(LIFECYCLES.length)],
+                        random.nextInt(50) == 0 ? "INACTIVE" : "ACTIVE"));
+            }
+        }
+        index.optimize();
+        long heapAfter = usedHeap();
+
+        // When
+        IndexMemoryReport report = index.memoryReport();
+        RoaringBitmap aws = index.evaluate(filter(ResourceAttribute.PROVIDER, "aws"));
+        ResourceFilter combined = new ResourceFilter(
+                Map.of(ResourceAttribute.PROVIDER, Set.of("aws"),
+                        ResourceAttribute.LIFECYCLE_STATE, Set.of("RUNNING", "STOPPED"),
+                        ResourceAttribute.TENANT, Set.of("tenant-1", "tenant-2")),
+                Map.of(ResourceAttribute.STATUS, Set.of("INACTIVE")));
+
+        // Then
+        System.out.printf("resources=%d bitmap=%.1fMB forward=%.1fMB total=%.1fMB bytes/resource=%.1f heapDelta=%.1fMB%n",
+                report.resourceCount(), mb(report.bitmapBytes()), mb(report.forwardBytes()),
+                mb(report.totalBytes()), report.bytesPerResource(), mb(heapAfter - heapBefore));
+        report.attributes().forEach((attribute, memory) -> System.out.printf(
+                "  %-16s distinct=%5d bitmap=%6.2fMB forward=%6.2fMB%n",
+                attribute, memory.distinctValues(), mb(memory.bitmapBytes()), mb(memory.forwardBytes())));
+        time("count all", () -> index.count(ResourceFilter.all()));
+        time("provider", () -> index.count(filter(ResourceAttribute.PROVIDER, "aws")));
+        time("2 tenants (OR)", () -> index.count(filter(ResourceAttribute.TENANT, "tenant-1", "tenant-2")));
+        time("2 lifecycles (OR)", () -> index.count(filter(ResourceAttribute.LIFECYCLE_STATE, "RUNNING", "STOPPED")));
+        time("combined", () -> index.count(combined));
+        time("lifecycle facet of provider (" + aws.getCardinality() + ")",
+                () -> index.facet(ResourceAttribute.LIFECYCLE_STATE, aws));
+        time("tenant facet of provider", () -> index.facet(ResourceAttribute.TENANT, aws));
+        assertThat(report.resourceCount()).isEqualTo(total);
+    }
+
+    static IndexedResource resource(long id, String tenant, String provider, String lifecycle, String status) {
+        return new IndexedResource(id, tenant, provider, provider + "-region-1", "compute", "VM", lifecycle, status);
+    }
+
+    static ResourceFilter filter(ResourceAttribute attribute, String... values) {
+        return new ResourceFilter(Map.of(attribute, Set.of(values)), null);
+    }
+
+    static void time(String label, Supplier<?> query) {
+        for (int i = 0; i < 20; i++) {
+            query.get();
+        }
+        List<Long> samples = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples.add(System.nanoTime() - start);
+        }
+        long[] sorted = samples.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        System.out.printf("  %-48s median=%8.1fus%n", label, sorted[sorted.length / 2] / 1_000.0);
+    }
+
+    static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    static double mb(long bytes) {
+        return bytes / 1_000_000.0;
+    }
+}
@@ -0,0 +1,317 @@
+package com.agenticcp.core.domain.cloud.index;
+
+import com.agenticcp.core.domain.cloud.index.ResourceDependencyGraph.Direction;
+import com.agenticcp.core.domain.cloud.index.ResourceDependencyGraph.Subgraph;
+import com.agenticcp.core.domain.cloud.index.ResourceDependencyGraph.Traversal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CSR 의존 그래프의 다중 시작점 BFS(시작 노드 제외), 깊이/개수 제한, 최단 경로, 테넌트 부분 그래프와
+ * 바뀐 노드만 빼고 다시 채우는 증분 갱신이 전체 재구축과 같은 그래프를 만드는지 검증한다.
+ * {@code -Dbenchmark=true} 로 실행하면 리소스 500만 개 그래프의 구축/조회/증분 갱신 시간을 출력한다.
+ */
+class ResourceDependencyGraphTest {
+
+    @Test
+    @DisplayName("여러 시작 노드에서 BFS 하고 시작 노드끼리 도달해도 결과에 넣지 않는다")
+    void traverse_MultiRootExcludesRoots() {
+        // Given: 2→3, 5→3, 1→2, 6→1 ("A→B" 는 A 가 B 에 의존)
+        ResourceDependencyGraph graph = ResourceDependencyGraph.builder()
+                .addNode(1, 10L).addNode(2, 10L).addNode(3, 10L).addNode(5, 20L).addNode(6, null)
+                .addEdge(2, 3).addEdge(5, 3).addEdge(1, 2).addEdge(6, 1)
+                .build();
+
+        // When
+        Traversal dependents = graph.traverse(List.of(3L, 2L, 999L), Direction.DEPENDENTS, Integer.MAX_VALUE, 100);
+        Traversal dependencies = graph.traverse(List.of(6L), Direction.DEPENDENCIES, Integer.MAX_VALUE, 100);
+
+        // Then
+        assertThat(dependents.reached()).isEqualTo(3);
+        assertThat(dependents.resourceIds()).containsExactly(5, 1, 6);
+        assertThat(dependents.depths()).containsExactly(1, 1, 2);
+        assertThat(dependents.maxDepthReached()).isEqualTo(2);
+        assertThat(dependents.truncated()).isFalse();
+        assertThat(dependencies.resourceIds()).containsExactly(1, 2, 3);
+        assertThat(dependencies.depths()).containsExactly(1, 2, 3);
+        assertThat(graph.traverse(List.of(999L), Direction.DEPENDENTS, 5, 10).reached()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 깊이에서 멈추고, 개수 제한을 넘으면 가까운 순으로 자르되 도달 수는 끝까지 센다")
+    void traverse_AppliesDepthAndLimit() {
+        // Given: i+1 → i 사슬 200개와 끝에서 처음으로 돌아가는 순환
+        ResourceDependencyGraph.Builder builder = ResourceDependencyGraph.builder();
+        for (long id = 1; id <= 200; id++) {
+            builder.addNode(id, 1L);
+            if (id > 1) {
+                builder.addEdge(id, id - 1);
+            }
+        }
+        ResourceDependencyGraph graph = builder.addEdge(1, 200).build();
+
+        // When
+        Traversal shallow = graph.traverse(List.of(1L), Direction.DEPENDENTS, 3, 100);
+        Traversal limited = graph.traverse(List.of(1L), Direction.DEPENDENTS, Integer.MAX_VALUE, 150);
+        Traversal all = graph.traverse(List.of(1L), Direction.DEPENDENCIES, Integer.MAX_VALUE, 1_000);
+
+        // Then
+        assertThat(shallow.reached()).isEqualTo(3);
+        assertThat(shallow.resourceIds()).containsExactly(2, 3, 4);
+        assertThat(shallow.maxDepthReached()).isEqualTo(3);
+        assertThat(shallow.truncated()).isFalse();
+        assertThat(limited.reached()).isEqualTo(199);
+        assertThat(limited.resourceIds()).hasSize(150).startsWith(2, 3).endsWith(151);
+        assertThat(limited.depths()[149]).isEqualTo(150);
+        assertThat(limited.maxDepthReached()).isEqualTo(199);
+        assertThat(limited.truncated()).isTrue();
+        assertThat(all.reached()).isEqualTo(199);
+        assertThat(all.resourceIds()).startsWith(200, 199);
+    }
+
+    @Test
+    @DisplayName("최단 경로를 방향대로 찾고 최대 깊이보다 길거나 경로가 없으면 빈 배열을 준다")
+    void shortestPath_FindsShortestWithinDepth() {
+        // Given: 1→2→3→4 와 1→5→4
+        ResourceDependencyGraph graph = ResourceDependencyGraph.builder()
+                .addNode(1, 1L).addNode(2, 1L).addNode(3, 1L).addNode(4, 1L).addNode(5, 1L).addNode(6, 1L)
+                .addEdge(1, 2).addEdge(2, 3).addEdge(3, 4).addEdge(1, 5).addEdge(5, 4)
+                .build();
+
+        // When & Then
+        assertThat(graph.shortestPath(1, 4, Direction.DEPENDENCIES, 10)).containsExactly(1, 5, 4);
+        assertThat(graph.shortestPath(4, 1, Direction.DEPENDENTS, 10)).containsExactly(4, 5, 1);
+        assertThat(graph.shortestPath(1, 3, Direction.DEPENDENCIES, 2)).containsExactly(1, 2, 3);
+        assertThat(graph.shortestPath(1, 3, Direction.DEPENDENCIES, 1)).isEmpty();
+        assertThat(graph.shortestPath(4, 1, Direction.DEPENDENCIES, 10)).isEmpty();
+        assertThat(graph.shortestPath(1, 6, Direction.DEPENDENCIES, 10)).isEmpty();
+        assertThat(graph.shortestPath(1, 999, Direction.DEPENDENCIES, 10)).isEmpty();
+        assertThat(graph.shortestPath(3, 3, Direction.DEPENDENCIES, 10)).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("자기 자신과 끝이 없는 간선은 버리고 중복 간선은 하나로 합친다")
+    void build_DropsSelfDanglingAndDuplicateEdges() {
+        // When
+        ResourceDependencyGraph graph = ResourceDependencyGraph.builder()
+                .addNode(1, 1L).addNode(2, 1L).addNode(2, 2L)
+                .addEdge(1, 2).addEdge(1, 2).addEdge(1, 1).addEdge(1, 3).addEdge(3, 2)
+                .build();
+
+        // Then
+        assertThat(graph.nodeCount()).isEqualTo(2);
+        assertThat(graph.edgeCount()).isEqualTo(1);
+        assertThat(graph.degree(1, Direction.DEPENDENCIES)).isEqualTo(1);
+        assertThat(graph.degree(2, Direction.DEPENDENTS)).isEqualTo(1);
+        assertThat(graph.subgraph(2, 10).resourceIds()).containsExactly(2);
+        assertThat(ResourceDependencyGraph.empty().nodeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("테넌트 부분 그래프는 나가는 간선 전부와 다른 테넌트에서 들어오는 간선을 담고 노드 수로 자른다")
+    void subgraph_IncludesCrossTenantEdges() {
+        // Given
+        ResourceDependencyGraph graph = ResourceDependencyGraph.builder()
+                .addNode(1, 10L).addNode(2, 10L).addNode(3, 20L).addNode(4, 20L).addNode(5, null)
+                .addEdge(1, 2).addEdge(2, 3).addEdge(4, 1).addEdge(5, 2).addEdge(3, 4)
+                .build();
+
+        // When
+        Subgraph tenant = graph.subgraph(10, 10);
+        Subgraph truncated = graph.subgraph(10, 1);
+
+        // Then
+        assertThat(graph.tenantCount()).isEqualTo(2);
+        assertThat(tenant.resourceIds()).containsExactly(1, 2);
+        assertThat(edges(tenant)).containsExactlyInAnyOrder("1>2", "4>1", "2>3", "5>2");
+        assertThat(tenant.crossTenantEdges()).isEqualTo(3);
+        assertThat(tenant.truncated()).isFalse();
+        assertThat(truncated.resourceIds()).containsExactly(1);
+        assertThat(truncated.truncated()).isTrue();
+        assertThat(graph.subgraph(99, 10).resourceIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("증분 갱신은 바뀐 노드와 그 간선을 빼고 다시 채우며 원래 그래프는 그대로 둔다")
+    void toBuilder_ReplacesChangedNodesAndEdges() {
+        // Given
+        ResourceDependencyGraph base = ResourceDependencyGraph.builder()
+                .addNode(1, 10L).addNode(2, 10L).addNode(3, 20L).addNode(4, 30L)
+                .addEdge(1, 2).addEdge(2, 3).addEdge(3, 4).addEdge(4, 1)
+                .build();
+
+        // When: 2 는 테넌트와 간선이 바뀌고, 4 는 종료되고, 7 이 새로 생김
+        ResourceDependencyGraph updated = base.toBuilder(List.of(2L, 4L, 999L))
+                .addNode(2, 20L).addNode(7, 40L)
+                .addEdge(1, 2).addEdge(2, 7).addEdge(7, 3)
+                .build();
+
+        // Then
+        assertThat(updated.nodeCount()).isEqualTo(4);
+        assertThat(updated.contains(4)).isFalse();
+        assertThat(updated.contains(7)).isTrue();
+        assertThat(updated.edgeCount()).isEqualTo(3);
+        assertThat(updated.traverse(List.of(1L), Direction.DEPENDENCIES, 10, 10).resourceIds())
+                .containsExactly(2, 7, 3);
+        assertThat(updated.degree(3, Direction.DEPENDENCIES)).isZero();
+        assertThat(updated.tenantCount()).isEqualTo(3);
+        assertThat(updated.subgraph(20, 10).resourceIds()).containsExactly(2, 3);
+        assertThat(updated.subgraph(30, 10).resourceIds()).isEmpty();
+        assertThat(base.nodeCount()).isEqualTo(4);
+        assertThat(base.edgeCount()).isEqualTo(4);
+        assertThat(base.subgraph(30, 10).resourceIds()).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("무작위 그래프에서 증분 갱신 결과가 바뀐 뒤의 노드/간선으로 전체 재구축한 그래프와 같다")
+    void toBuilder_MatchesFullRebuild() {
+        // Given
+        Random random = new Random(42);
+        Map<Long, Long> tenants = new HashMap<>();
+        Set<String> edges = new LinkedHashSet<>();
+        for (long id = 1; id <= 2_000; id++) {
+            tenants.put(id, random.nextInt(10) == 0 ? null : (long) random.nextInt(20));
+        }
+        for (int i = 0; i < 4_000; i++) {
+            edges.add((1 + random.nextInt(2_000)) + ">" + (1 + random.nextInt(2_000)));
+        }
+        ResourceDependencyGraph base = build(ResourceDependencyGraph.builder(), tenants, edges);
+
+        // When: 200개는 종료되거나 테넌트/간선이 바뀌고, 50개가 새로 생김
+        Set<Long> changed = new HashSet<>();
+        while (changed.size() < 200) {
+            changed.add(1L + random.nextInt(2_000));
+        }
+        for (long id = 2_001; id <= 2_050; id++) {
+            changed.add(id);
+        }
+        edges.removeIf(edge -> changed.contains(source(edge)) || changed.contains(target(edge)));
+        for (Long id : changed) {
+            if (id <= 2_000 && random.nextInt(3) == 0) {
+                tenants.remove(id);
+                continue;
+            }
+            tenants.put(id, random.nextBoolean() ? null : (long) random.nextInt(25));
+            for (int i = 0; i < 3; i++) {
+                long other = 1 + random.nextInt(2_050);
+                edges.add(random.nextBoolean() ? id + ">" + other : other + ">" + id);
+            }
+        }
+        Map<Long, Long> liveChanged = new HashMap<>();
+        changed.stream().filter(tenants::containsKey).forEach(id -> liveChanged.put(id, tenants.get(id)));
+        Set<String> touching = new LinkedHashSet<>();
+        edges.stream().filter(edge -> liveChanged.containsKey(source(edge)) || liveChanged.containsKey(target(edge)))
+                .forEach(touching::add);
+        ResourceDependencyGraph incremental = build(base.toBuilder(changed), liveChanged, touching);
+        ResourceDependencyGraph rebuilt = build(ResourceDependencyGraph.builder(), tenants, edges);
+
+        // Then
+        assertThat(incremental.nodeCount()).isEqualTo(rebuilt.nodeCount());
+        assertThat(incremental.edgeCount()).isEqualTo(rebuilt.edgeCount());
+        assertThat(incremental.tenantCount()).isEqualTo(rebuilt.tenantCount());
+        for (long id = 1; id <= 2_050; id++) {
+            assertThat(incremental.contains(id)).isEqualTo(rebuilt.contains(id));
+            for (Direction direction : Direction.values()) {
+                assertThat(incremental.traverse(List.of(id), direction, 1, 100).resourceIds())
+                        .isEqualTo(rebuilt.traverse(List.of(id), direction, 1, 100).resourceIds());
+            }
+        }
+        for (long tenant = 0; tenant < 25; tenant++) {
+            Subgraph expected = rebuilt.subgraph(tenant, 10_000);
+            Subgraph actual = incremental.subgraph(tenant, 10_000);
+            assertThat(actual.resourceIds()).isEqualTo(expected.resourceIds());
+            assertThat(edges(actual)).isEqualTo(edges(expected));
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("벤치마크: 리소스 500만 개 그래프 구축, 영향 범위/테넌트 부분 그래프 조회, 1,000개 증분 갱신")
+    void benchmark_LargeGraph() {
+        // Given: 테넌트 2,000개, 리소스당 평균 1.5개 의존, 하위 1%는 공유 인프라(허브)
+        int nodes = 5_000_000;
+        Random random = new Random(42);
+        ResourceDependencyGraph graph = time("build", () -> {
+            ResourceDependencyGraph.Builder builder = ResourceDependencyGraph.builder();
+            for (long id = 1; id <= nodes; id++) {
+                builder.addNode(id, (long) random.nextInt(2_000));
+                int degree = random.nextInt(4);
+                for (int i = 0; i < degree; i++) {
+                    long target = random.nextInt(10) < 3 ? 1 + random.nextInt(nodes / 100)
+                            : Math.max(1, id - 1 - random.nextInt(1_000));
+                    builder.addEdge(id, target);
+                }
+            }
+            return builder.build();
+        });
+        System.out.printf("nodes=%,d edges=%,d tenants=%,d size=%.1fMB%n", graph.nodeCount(), graph.edgeCount(),
+                graph.tenantCount(), graph.sizeInBytes() / 1e6);
+
+        // When & Then
+        for (int warmup = 0; warmup < 3; warmup++) {
+            graph.traverse(List.of(1L), Direction.DEPENDENTS, Integer.MAX_VALUE, 1_000);
+        }
+        Traversal blast = time("blast radius of a hub", () ->
+                graph.traverse(List.of(1L, 2L, 3L), Direction.DEPENDENTS, Integer.MAX_VALUE, 1_000));
+        System.out.printf("reached=%,d maxDepth=%d%n", blast.reached(), blast.maxDepthReached());
+        time("dependencies of a leaf", () ->
+                graph.traverse(List.of((long) nodes), Direction.DEPENDENCIES, Integer.MAX_VALUE, 1_000));
+        time("tenant subgraph", () -> graph.subgraph(7, 10_000));
+        time("shortest path", () -> graph.shortestPath(nodes, 1, Direction.DEPENDENCIES, 64));
+        List<Long> changed = new ArrayList<>();
+        LongStream.range(0, 1_000).forEach(i -> changed.add(1 + (long) random.nextInt(nodes)));
+        ResourceDependencyGraph updated = time("incremental apply of 1,000 resources", () -> {
+            ResourceDependencyGraph.Builder builder = graph.toBuilder(changed);
+            for (Long id : changed) {
+                builder.addNode(id, 1L).addEdge(id, 1 + random.nextInt(nodes / 100));
+            }
+            return builder.build();
+        });
+        assertThat(updated.nodeCount()).isEqualTo(graph.nodeCount());
+        assertThat(blast.reached()).isPositive();
+    }
+
+    private static ResourceDependencyGraph build(ResourceDependencyGraph.Builder builder, Map<Long, Long> tenants,
+                                                 Set<String> edges) {
+        tenants.forEach(builder::addNode);
+        edges.forEach(edge -> builder.addEdge(source(edge), target(edge)));
+        return builder.build();
+    }
+
+    private static long source(String edge) {
+        return Long.parseLong(edge.substring(0, edge.indexOf('>')));
+    }
+
+    private static long target(String edge) {
+        return Long.parseLong(edge.substring(edge.indexOf('>') + 1));
+    }
+
+    private static List<String> edges(Subgraph subgraph) {
+        List<String> edges = new ArrayList<>();
+        for (int i = 0; i < subgraph.edgeSources().length; i++) {
+            edges.add(subgraph.edgeSources()[i] + ">" + subgraph.edgeTargets()[i]);
+        }
+        return edges;
+    }
+
+    private static <T> T time(String label, Supplier<T> action) {
+        long startNanos = System.nanoTime();
+        T result = action.get();
+        System.out.printf("%-40s %,10.2f ms%n", label, (System.nanoTime() - startNanos) / 1e6);
+        return result;
+    }
+}
@@ -0,0 +1,134 @@
+package com.agenticcp.core.domain.cloud.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static com.agenticcp.core.domain.cloud.index.ResourceAttributeIndexTest.mb;
+import static com.agenticcp.core.domain.cloud.index.ResourceAttributeIndexTest.time;
+import static com.agenticcp.core.domain.cloud.index.ResourceAttributeIndexTest.usedHeap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 태그 역색인의 all/any/none 조건 평가, 태그 변경/삭제 시 비트 이동, 키/값 패싯 정렬을 검증한다.
+ * {@code -Dbenchmark=true} 로 실행하면 docs/INVENTORY_INDEX_MEMORY.md 의 500만 건 태그 픽스처로 메모리와 지연시간을 출력한다.
+ */
+class ResourceTagIndexTest {
+
+    @Test
+    @DisplayName("all 은 AND, any 는 OR, none 은 제외로 결합하고 키만 적은 조건은 키 보유로 본다")
+    void evaluate_CombinesAllAnyNone() {
+        // Given
+        ResourceTagIndex index = new ResourceTagIndex();
+        index.put(1, Map.of("env", "prod", "team", "a"));
+        index.put(2, Map.of("env", "prod", "team", "b", "legacy", ""));
+        index.put(3, Map.of("env", "prod", "team", "c"));
+        index.put(4, Map.of("env", "dev", "team", "a"));
+        index.put(5, Map.of());
+
+        // When
+        RoaringBitmap result = index.evaluate(new TagQuery(
+                List.of("env=prod"), List.of("team=a", "team=b"), List.of("legacy")));
+
+        // Then
+        assertThat(result.toArray()).containsExactly(1);
+        assertThat(index.evaluate(new TagQuery(List.of("team"), null, null)).toArray()).containsExactly(1, 2, 3, 4);
+        assertThat(index.evaluate(new TagQuery(null, null, null)).toArray()).containsExactly(1, 2, 3, 4, 5);
+        assertThat(index.evaluate(new TagQuery(List.of("env=staging"), null, null)).isEmpty()).isTrue();
+        assertThat(index.evaluate(new TagQuery(null, null, List.of("env"))).toArray()).containsExactly(5);
+    }
+
+    @Test
+    @DisplayName("태그가 바뀐 리소스를 다시 넣으면 이전 키/값 비트를 지우고 새 태그로 옮긴다")
+    void put_ChangedTagsMoveBits() {
+        // Given
+        ResourceTagIndex index = new ResourceTagIndex();
+        index.put(1, Map.of("env", "prod", "team", "a"));
+        index.put(2, Map.of("env", "prod", "team", "a"));
+
+        // When
+        index.put(1, Map.of("env", "dev"));
+
+        // Then
+        assertThat(index.evaluate(new TagQuery(List.of("env=prod"), null, null)).toArray()).containsExactly(2);
+        assertThat(index.evaluate(new TagQuery(List.of("env=dev"), null, null)).toArray()).containsExactly(1);
+        assertThat(index.evaluate(new TagQuery(List.of("team"), null, null)).toArray()).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("삭제하면 태그 비트맵과 색인 집합에서 모두 빠진다")
+    void remove_ClearsTagsAndIndexedSet() {
+        // Given
+        ResourceTagIndex index = new ResourceTagIndex();
+        index.put(1, Map.of("env", "prod"));
+        index.put(2, Map.of("env", "prod"));
+
+        // When
+        index.remove(1);
+        index.remove(1);
+
+        // Then
+        assertThat(index.evaluate(new TagQuery(null, null, null)).toArray()).containsExactly(2);
+        assertThat(index.evaluate(new TagQuery(List.of("env"), null, null)).toArray()).containsExactly(2);
+        assertThat(index.keyFacets(RoaringBitmap.bitmapOf(1, 2), 10)).containsExactly(Map.entry("env", 1L));
+    }
+
+    @Test
+    @DisplayName("키/값 패싯은 base 안에서 많은 순으로 limit 개까지 돌려준다")
+    void facets_AreSortedByCountAndLimited() {
+        // Given
+        ResourceTagIndex index = new ResourceTagIndex();
+        for (int id = 1; id <= 10; id++) {
+            String team = id <= 5 ? "a" : id <= 8 ? "b" : "c";
+            index.put(id, id % 2 == 0 ? Map.of("team", team, "env", "prod") : Map.of("team", team));
+        }
+        RoaringBitmap base = index.evaluate(new TagQuery(null, null, null));
+        base.remove(10);
+
+        // When
+        Map<String, Long> keys = index.keyFacets(base, 10);
+        Map<String, Long> values = index.valueFacets("team", base, 2);
+
+        // Then
+        assertThat(keys).containsExactly(Map.entry("team", 9L), Map.entry("env", 4L));
+        assertThat(values).containsExactly(Map.entry("a", 5L), Map.entry("b", 3L));
+        assertThat(index.valueFacets("unknown", base, 10)).isEmpty();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("벤치마크: 500만 리소스 태그 인덱스 메모리와 조회 지연시간")
+    void benchmark_FiveMillionResources() {
+        // Given: env 3종 / team 40종 / cost-center 200종 / app 500종 무작위 조합
+        ResourceTagIndex index = new ResourceTagIndex();
+        Random random = new Random(42);
+        String[] envs = {"prod", "staging", "dev"};
+        long heapBefore = usedHeap();
+        for (int id = 1; id <= 5_000_000; id++) {
+            index.put(id, Map.of(
+                    "env", envs[random.nextInt(envs.length)],
+                    "team", "team-" + random.nextInt(40),
+                    "cost-center", "cc-" + random.nextInt(200),
+                    "app", "app-" + random.nextInt(500)));
+        }
+        index.optimize();
+        long heapAfter = usedHeap();
+
+        // When
+        TagQuery query = new TagQuery(List.of("env=prod"), List.of("team=team-1", "team=team-2"),
+                List.of("cost-center=cc-3"));
+        RoaringBitmap prod = index.evaluate(new TagQuery(List.of("env=prod"), null, null));
+
+        // Then
+        System.out.printf("tag index=%.1fMB heapDelta=%.1fMB%n", mb(index.sizeInBytes()), mb(heapAfter - heapBefore));
+        time("env AND team OR NOT cost-center", () -> index.evaluate(query));
+        time("cost-center facet of env=prod (" + prod.getCardinality() + ")",
+                () -> index.valueFacets("cost-center", prod, 200));
+        assertThat(prod.getCardinality()).isPositive();
+    }
+}
@@ -0,0 +1,173 @@
+package com.agenticcp.core.domain.cloud.index;
+
+import com.agenticcp.core.domain.cloud.entity.CloudService.ServiceType;
+import com.agenticcp.core.domain.cloud.index.ServiceAvailabilityMatrix.CatalogRegion;
+import com.agenticcp.core.domain.cloud.index.ServiceAvailabilityMatrix.CatalogService;
+import com.agenticcp.core.domain.cloud.index.ServiceAvailabilityMatrix.Export;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리전/서비스 단건 증분 갱신(추가/변경/삭제와 ordinal 재사용)이 같은 카탈로그로 처음부터 만든 행렬과 같은지 검증한다.
+ */
+class ServiceAvailabilityMatrixTest {
+
+    private static final String[] PROVIDERS = {"aws", "gcp", "azure"};
+    private static final ServiceType[] SERVICE_TYPES = ServiceType.values();
+
+    @Test
+    @DisplayName("지원 조건은 같은 프로바이더 안에서 전역 서비스, 서비스의 리전 목록, 리전의 서비스 목록 중 하나다")
+    void putRegionAndService_SupportRules() {
+        // Given
+        ServiceAvailabilityMatrix matrix = new ServiceAvailabilityMatrix();
+        matrix.putRegion(new CatalogRegion(1, "aws", "us-east-1", Set.of("lambda")));
+        matrix.putRegion(new CatalogRegion(2, "aws", "eu-west-1", Set.of()));
+        matrix.putRegion(new CatalogRegion(3, "gcp", "us-east-1", Set.of("lambda")));
+
+        // When
+        matrix.putService(new CatalogService(10, "aws", "iam", ServiceType.SECURITY, true, Set.of()));
+        matrix.putService(new CatalogService(11, "aws", "ec2", ServiceType.COMPUTE, false, Set.of("eu-west-1")));
+        matrix.putService(new CatalogService(12, "aws", "lambda", ServiceType.SERVERLESS, false, Set.of()));
+
+        // Then
+        assertThat(ids(matrix.regionsSupporting("aws", "iam"))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(matrix.regionsSupporting("aws", "ec2"))).containsExactly(2L);
+        assertThat(ids(matrix.regionsSupporting("aws", "lambda"))).containsExactly(1L);
+        assertThat(matrix.serviceTypesOf(3)).isEmpty();
+        assertThat(matrix.serviceTypesOf(1)).containsExactlyInAnyOrder(ServiceType.SECURITY, ServiceType.SERVERLESS);
+        assertThat(matrix.version()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("삭제된 리전/서비스의 ordinal 을 재사용해도 이전 비트가 남지 않는다")
+    void remove_ReusedOrdinalsStartClean() {
+        // Given
+        Map<Long, CatalogRegion> regions = new LinkedHashMap<>();
+        Map<Long, CatalogService> services = new LinkedHashMap<>();
+        ServiceAvailabilityMatrix matrix = new ServiceAvailabilityMatrix();
+        put(matrix, regions, new CatalogRegion(1, "aws", "us-east-1", Set.of()));
+        put(matrix, regions, new CatalogRegion(2, "aws", "eu-west-1", Set.of()));
+        put(matrix, services, new CatalogService(10, "aws", "ec2", ServiceType.COMPUTE, true, Set.of()));
+        put(matrix, services, new CatalogService(11, "aws", "s3", ServiceType.STORAGE, true, Set.of()));
+
+        // When: 지운 자리를 다른 프로바이더의 리전/서비스가 물려받는다
+        matrix.removeRegion(2);
+        regions.remove(2L);
+        matrix.removeService(10);
+        services.remove(10L);
+        put(matrix, regions, new CatalogRegion(3, "gcp", "asia-east1", Set.of()));
+        put(matrix, services, new CatalogService(12, "gcp", "bigquery", ServiceType.ANALYTICS, false, Set.of()));
+
+        // Then
+        assertThat(matrix.regionCount()).isEqualTo(2);
+        assertThat(matrix.serviceCount()).isEqualTo(2);
+        assertThat(matrix.serviceTypesOf(3)).isEmpty();
+        assertThat(matrix.serviceTypesOf(2)).isEmpty();
+        assertThat(matrix.regionsSupporting("gcp", "bigquery")).isEmpty();
+        assertThat(ids(matrix.regionsSupporting(ServiceType.COMPUTE))).isEmpty();
+        assertThat(ids(matrix.regionsSupporting(ServiceType.STORAGE))).containsExactly(1L);
+        assertSameAsRebuild(matrix, regions, services);
+    }
+
+    @Test
+    @DisplayName("무작위 추가/변경/삭제를 증분으로 반영한 행렬이 매 단계 전체 재구축 결과와 같다")
+    void incrementalUpdates_MatchFullRebuild() {
+        // Given
+        Random random = new Random(11);
+        Map<Long, CatalogRegion> regions = new LinkedHashMap<>();
+        Map<Long, CatalogService> services = new LinkedHashMap<>();
+        ServiceAvailabilityMatrix matrix = new ServiceAvailabilityMatrix();
+
+        for (int step = 0; step < 2_000; step++) {
+            // When
+            long id = 1 + random.nextInt(40);
+            long versionBefore = matrix.version();
+            boolean changed;
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    put(matrix, regions, randomRegion(random, id));
+                    changed = true;
+                }
+                case 1 -> {
+                    changed = regions.remove(id) != null;
+                    matrix.removeRegion(id);
+                }
+                case 2 -> {
+                    put(matrix, services, randomService(random, id));
+                    changed = true;
+                }
+                default -> {
+                    changed = services.remove(id) != null;
+                    matrix.removeService(id);
+                }
+            }
+
+            // Then
+            assertThat(matrix.version()).isEqualTo(changed ? versionBefore + 1 : versionBefore);
+            assertSameAsRebuild(matrix, regions, services);
+        }
+    }
+
+    private static void assertSameAsRebuild(ServiceAvailabilityMatrix matrix, Map<Long, CatalogRegion> regions,
+                                            Map<Long, CatalogService> services) {
+        ServiceAvailabilityMatrix rebuilt = new ServiceAvailabilityMatrix();
+        services.values().forEach(rebuilt::putService);
+        regions.values().forEach(rebuilt::putRegion);
+
+        Export actual = matrix.export();
+        Export expected = rebuilt.export();
+        assertThat(actual.regions()).isEqualTo(expected.regions());
+        assertThat(actual.services()).isEqualTo(expected.services());
+        assertThat(actual.rows()).isEqualTo(expected.rows());
+        for (long regionId : regions.keySet()) {
+            assertThat(matrix.serviceTypesOf(regionId)).isEqualTo(rebuilt.serviceTypesOf(regionId));
+        }
+        for (ServiceType serviceType : SERVICE_TYPES) {
+            assertThat(new HashSet<>(ids(matrix.regionsSupporting(serviceType))))
+                    .isEqualTo(new HashSet<>(ids(rebuilt.regionsSupporting(serviceType))));
+        }
+    }
+
+    private static void put(ServiceAvailabilityMatrix matrix, Map<Long, CatalogRegion> regions, CatalogRegion region) {
+        regions.put(region.id(), region);
+        matrix.putRegion(region);
+    }
+
+    private static void put(ServiceAvailabilityMatrix matrix, Map<Long, CatalogService> services,
+                            CatalogService service) {
+        services.put(service.id(), service);
+        matrix.putService(service);
+    }
+
+    private static CatalogRegion randomRegion(Random random, long id) {
+        return new CatalogRegion(id, PROVIDERS[random.nextInt(PROVIDERS.length)], "region-" + random.nextInt(8),
+                randomKeys(random, "service-"));
+    }
+
+    private static CatalogService randomService(Random random, long id) {
+        return new CatalogService(id, PROVIDERS[random.nextInt(PROVIDERS.length)], "service-" + random.nextInt(8),
+                SERVICE_TYPES[random.nextInt(SERVICE_TYPES.length)], random.nextInt(5) == 0,
+                randomKeys(random, "region-"));
+    }
+
+    private static Set<String> randomKeys(Random random, String prefix) {
+        Set<String> keys = new HashSet<>();
+        for (int i = random.nextInt(4); i > 0; i--) {
+            keys.add(prefix + random.nextInt(8));
+        }
+        return Set.copyOf(keys);
+    }
+
+    private static List<Long> ids(List<CatalogRegion> regions) {
+        return regions.stream().map(CatalogRegion::id).toList();
+    }
+}
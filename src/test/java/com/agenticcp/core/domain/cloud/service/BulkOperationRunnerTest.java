@@ -0,0 +1,433 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.domain.cloud.adapter.LifecycleAdapterRegistry;
+import com.agenticcp.core.domain.cloud.adapter.LifecycleBatchResult;
+import com.agenticcp.core.domain.cloud.adapter.ProviderLifecycleAdapter;
+import com.agenticcp.core.domain.cloud.entity.BulkOperation;
+import com.agenticcp.core.domain.cloud.entity.BulkOperation.OperationStatus;
+import com.agenticcp.core.domain.cloud.entity.BulkOperation.OperationType;
+import com.agenticcp.core.domain.cloud.entity.BulkOperationItem.ItemStatus;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.agenticcp.core.domain.cloud.entity.CloudResource;
+import com.agenticcp.core.domain.cloud.repository.BulkOperationBatchRepository;
+import com.agenticcp.core.domain.cloud.repository.BulkOperationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 메모리 저장소로 대량 작업 실행기를 돌려 부분 실패와 단위 실패의 최종 상태, 취소, 프로바이더별 동시 호출 제한과
+ * 슬롯 대기 중 스레드 반환, 멈춘 작업의 회수를 검증한다.
+ */
+class BulkOperationRunnerTest {
+
+    private static final long OPERATION_ID = 7L;
+    private static final int BATCH_SIZE = 5;
+
+    private final InMemoryBulkStore store = new InMemoryBulkStore();
+    private final BulkOperationRepository operationRepository = mock(BulkOperationRepository.class);
+    private final CloudProviderService cloudProviderService = mock(CloudProviderService.class);
+    private final List<Long> claimedStale = new ArrayList<>();
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        when(cloudProviderService.getProviderByKeyOrThrow(anyString())).thenAnswer(invocation ->
+                CloudProvider.builder().providerKey(invocation.getArgument(0)).build());
+        when(operationRepository.markRunning(eq(OPERATION_ID), any())).thenAnswer(invocation -> {
+            if (store.status != OperationStatus.PENDING) {
+                return 0;
+            }
+            store.status = OperationStatus.RUNNING;
+            return 1;
+        });
+        when(operationRepository.isCancelRequested(OPERATION_ID)).thenAnswer(invocation -> store.cancelRequested.get());
+        when(operationRepository.markFinished(eq(OPERATION_ID), any(), any(), any())).thenAnswer(invocation -> {
+            store.status = invocation.getArgument(1);
+            store.errorMessage = invocation.getArgument(3);
+            return 1;
+        });
+        when(operationRepository.findById(OPERATION_ID)).thenAnswer(invocation -> Optional.of(store.operation()));
+        when(operationRepository.findStaleIds(anyList(), any())).thenReturn(List.of(OPERATION_ID));
+        when(operationRepository.claimStale(eq(OPERATION_ID), any(), any())).thenAnswer(invocation -> {
+            claimedStale.add(OPERATION_ID);
+            return store.stale ? 1 : 0;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("일부 항목과 한 배치 전체가 실패하면 실패 항목을 기록하고 COMPLETED_WITH_ERRORS 로 끝난다")
+    void start_PartialFailure() {
+        // Given: r1 12건(배치 3개), 둘째 배치는 통째로 실패하고 첫 배치의 한 건은 개별 실패
+        store.addItems("aws", "r1", 12);
+        ProviderLifecycleAdapter adapter = adapter(resourceIds -> {
+            if (resourceIds.contains("aws-r1-6")) {
+                throw new IllegalStateException("throttled");
+            }
+            return resourceIds.contains("aws-r1-1")
+                    ? new LifecycleBatchResult(Map.of("aws-r1-1", "not found"))
+                    : LifecycleBatchResult.allSucceeded();
+        });
+
+        // When
+        runner(adapter, Runnable::run, 4).start(OPERATION_ID, OperationType.STOP);
+
+        // Then
+        assertThat(store.status).isEqualTo(OperationStatus.COMPLETED_WITH_ERRORS);
+        assertThat(store.succeeded.get()).isEqualTo(6);
+        assertThat(store.failed.get()).isEqualTo(6);
+        assertThat(store.item("aws-r1-1").error).isEqualTo("not found");
+        assertThat(store.item("aws-r1-7").error).isEqualTo("throttled");
+        assertThat(store.count(ItemStatus.PENDING)).isZero();
+        assertThat(store.stopped).hasSize(6).doesNotContain(store.item("aws-r1-1").id);
+    }
+
+    @Test
+    @DisplayName("단위 실행 중 예외가 나면 그 단위의 남은 PENDING 항목을 실패로 기록해 COMPLETED 로 끝나지 않는다")
+    void start_ScopeFailureFailsRemainingItems() {
+        // Given: r2 의 두 번째 배치 기록이 실패한다
+        store.addItems("aws", "r1", 4);
+        store.addItems("aws", "r2", 12);
+        store.failCompleteOnCall = 3;
+        ProviderLifecycleAdapter adapter = adapter(resourceIds -> LifecycleBatchResult.allSucceeded());
+
+        // When
+        runner(adapter, Runnable::run, 4).start(OPERATION_ID, OperationType.STOP);
+
+        // Then
+        assertThat(store.count(ItemStatus.PENDING)).isZero();
+        assertThat(store.itemsIn("r1")).extracting(item -> item.status).containsOnly(ItemStatus.SUCCEEDED);
+        assertThat(store.itemsIn("r2")).extracting(item -> item.status)
+                .containsOnly(ItemStatus.SUCCEEDED, ItemStatus.FAILED);
+        assertThat(store.failed.get()).isEqualTo(12 - BATCH_SIZE);
+        assertThat(store.status).isEqualTo(OperationStatus.COMPLETED_WITH_ERRORS);
+    }
+
+    @Test
+    @DisplayName("실패를 기록하지 못해 PENDING 항목이 남으면 작업을 FAILED 로 끝낸다")
+    void start_LeftoverPendingFailsOperation() {
+        // Given: 배치 기록과 실패 기록이 모두 실패한다
+        store.addItems("aws", "r1", 3);
+        store.failCompleteOnCall = 1;
+        store.failAllCompletes = true;
+        ProviderLifecycleAdapter adapter = adapter(resourceIds -> LifecycleBatchResult.allSucceeded());
+
+        // When
+        runner(adapter, Runnable::run, 4).start(OPERATION_ID, OperationType.STOP);
+
+        // Then
+        assertThat(store.status).isEqualTo(OperationStatus.FAILED);
+        assertThat(store.errorMessage).contains("3 item(s)");
+    }
+
+    @Test
+    @DisplayName("취소 요청 이후 배치를 더 보내지 않고 남은 항목을 SKIPPED 로 기록한다")
+    void start_Cancel() {
+        // Given: 첫 배치 호출 중에 취소가 요청된다
+        store.addItems("aws", "r1", 20);
+        AtomicInteger calls = new AtomicInteger();
+        ProviderLifecycleAdapter adapter = adapter(resourceIds -> {
+            calls.incrementAndGet();
+            store.cancelRequested.set(true);
+            return LifecycleBatchResult.allSucceeded();
+        });
+
+        // When
+        runner(adapter, Runnable::run, 4).start(OPERATION_ID, OperationType.STOP);
+
+        // Then
+        assertThat(calls).hasValue(1);
+        assertThat(store.status).isEqualTo(OperationStatus.CANCELLED);
+        assertThat(store.succeeded.get()).isEqualTo(BATCH_SIZE);
+        assertThat(store.skipped.get()).isEqualTo(20 - BATCH_SIZE);
+        assertThat(store.count(ItemStatus.PENDING)).isZero();
+    }
+
+    @Test
+    @DisplayName("프로바이더별 동시 호출 수를 넘지 않고, 슬롯을 기다리는 단위가 실행기 스레드를 붙잡지 않는다")
+    void start_PerProviderCapDoesNotBlockExecutorThreads() throws Exception {
+        // Given: 스레드 2개, aws 동시 호출 1개. aws 첫 호출은 gcp 호출이 끝나야 돌아온다
+        store.addItems("aws", "r1", 10);
+        store.addItems("aws", "r2", 10);
+        store.addItems("aws", "r3", 10);
+        store.addItems("gcp", "g1", 10);
+        CountDownLatch gcpCalled = new CountDownLatch(1);
+        AtomicInteger awsInFlight = new AtomicInteger();
+        AtomicInteger awsMaxInFlight = new AtomicInteger();
+        AtomicBoolean awsWaitedForGcp = new AtomicBoolean(true);
+        ProviderLifecycleAdapter adapter = adapter(resourceIds -> {
+            if (resourceIds.get(0).startsWith("gcp")) {
+                gcpCalled.countDown();
+                return LifecycleBatchResult.allSucceeded();
+            }
+            int inFlight = awsInFlight.incrementAndGet();
+            awsMaxInFlight.accumulateAndGet(inFlight, Math::max);
+            try {
+                if (!gcpCalled.await(5, TimeUnit.SECONDS)) {
+                    awsWaitedForGcp.set(false);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                awsInFlight.decrementAndGet();
+            }
+            return LifecycleBatchResult.allSucceeded();
+        });
+        pool = Executors.newFixedThreadPool(2);
+
+        // When
+        runner(adapter, pool, 1).start(OPERATION_ID, OperationType.STOP);
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while ((store.status == OperationStatus.PENDING || store.status == OperationStatus.RUNNING)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(store.status).isEqualTo(OperationStatus.COMPLETED);
+        assertThat(awsWaitedForGcp).isTrue();
+        assertThat(awsMaxInFlight).hasValue(1);
+        assertThat(store.succeeded.get()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("진행이 멈춘 RUNNING 작업을 가져와 남은 항목부터 이어서 끝내고, 가져오지 못하면 실행하지 않는다")
+    void recoverStalled_ResumesClaimedOperations() {
+        // Given: 다른 노드가 r1 일부를 처리하다 죽었다
+        store.addItems("aws", "r1", 8);
+        store.items.subList(0, 3).forEach(item -> item.status = ItemStatus.SUCCEEDED);
+        store.succeeded.set(3);
+        store.status = OperationStatus.RUNNING;
+        AtomicInteger applied = new AtomicInteger();
+        ProviderLifecycleAdapter adapter = adapter(resourceIds -> {
+            applied.addAndGet(resourceIds.size());
+            return LifecycleBatchResult.allSucceeded();
+        });
+        BulkOperationRunner runner = runner(adapter, Runnable::run, 4);
+
+        // When: 아직 다른 노드가 갱신 중이라 가져오지 못한다
+        store.stale = false;
+        runner.recoverStalled();
+
+        // Then
+        assertThat(claimedStale).hasSize(1);
+        assertThat(applied).hasValue(0);
+        assertThat(store.status).isEqualTo(OperationStatus.RUNNING);
+
+        // When
+        store.stale = true;
+        runner.recoverStalled();
+
+        // Then
+        assertThat(applied).hasValue(5);
+        assertThat(store.status).isEqualTo(OperationStatus.COMPLETED);
+        assertThat(store.succeeded.get()).isEqualTo(8);
+    }
+
+    private BulkOperationRunner runner(ProviderLifecycleAdapter adapter, Executor executor, int maxPerProvider) {
+        BulkOperationProperties properties = new BulkOperationProperties();
+        properties.setBatchSize(BATCH_SIZE);
+        properties.setMaxConcurrentPerProvider(maxPerProvider);
+        return new BulkOperationRunner(operationRepository, store, cloudProviderService,
+                new LifecycleAdapterRegistry(List.of(adapter)), mock(ApplicationEventPublisher.class),
+                properties, new SimpleMeterRegistry(), mock(PlatformTransactionManager.class), executor);
+    }
+
+    private static ProviderLifecycleAdapter adapter(Function<List<String>, LifecycleBatchResult> apply) {
+        return new ProviderLifecycleAdapter() {
+            @Override
+            public boolean supports(CloudProvider provider) {
+                return true;
+            }
+
+            @Override
+            public LifecycleBatchResult apply(CloudProvider provider, String regionKey,
+                                              OperationType operationType, List<String> resourceIds) {
+                return apply.apply(resourceIds);
+            }
+        };
+    }
+
+    private static final class Item {
+        private final long id;
+        private final String resourceId;
+        private final String providerKey;
+        private final String regionKey;
+        private volatile ItemStatus status = ItemStatus.PENDING;
+        private volatile String error;
+
+        private Item(long id, String resourceId, String providerKey, String regionKey) {
+            this.id = id;
+            this.resourceId = resourceId;
+            this.providerKey = providerKey;
+            this.regionKey = regionKey;
+        }
+    }
+
+    /**
+     * 작업 한 건의 항목/집계를 메모리에 두는 배치 저장소
+     */
+    private static final class InMemoryBulkStore extends BulkOperationBatchRepository {
+
+        private final List<Item> items = new ArrayList<>();
+        private final Set<Long> stopped = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicBoolean cancelRequested = new AtomicBoolean();
+        private final AtomicInteger completeCalls = new AtomicInteger();
+        private volatile OperationStatus status = OperationStatus.PENDING;
+        private volatile String errorMessage;
+        private volatile boolean stale;
+        private int failCompleteOnCall;
+        private boolean failAllCompletes;
+
+        private InMemoryBulkStore() {
+            super(null, null);
+        }
+
+        void addItems(String providerKey, String regionKey, int count) {
+            for (int i = 0; i < count; i++) {
+                items.add(new Item(items.size() + 1, providerKey + "-" + regionKey + "-" + i, providerKey, regionKey));
+            }
+        }
+
+        Item item(String resourceId) {
+            return items.stream().filter(item -> item.resourceId.equals(resourceId)).findFirst().orElseThrow();
+        }
+
+        List<Item> itemsIn(String regionKey) {
+            return items.stream().filter(item -> item.regionKey.equals(regionKey)).toList();
+        }
+
+        long count(ItemStatus itemStatus) {
+            return items.stream().filter(item -> item.status == itemStatus).count();
+        }
+
+        BulkOperation operation() {
+            BulkOperation operation = BulkOperation.builder()
+                    .operationType(OperationType.STOP)
+                    .status(status)
+                    .totalItems(items.size())
+                    .succeededItems(succeeded.get())
+                    .failedItems(failed.get())
+                    .skippedItems(skipped.get())
+                    .cancelRequested(cancelRequested.get())
+                    .build();
+            operation.setId(OPERATION_ID);
+            return operation;
+        }
+
+        @Override
+        public synchronized List<Scope> findPendingScopes(long operationId) {
+            Set<Scope> scopes = new LinkedHashSet<>();
+            for (Item item : items) {
+                if (item.status == ItemStatus.PENDING) {
+                    scopes.add(new Scope(item.providerKey, item.regionKey));
+                }
+            }
+            return List.copyOf(scopes);
+        }
+
+        @Override
+        public synchronized List<PendingItem> findPendingItems(long operationId, Scope scope, long afterId,
+                                                               int limit) {
+            return items.stream()
+                    .filter(item -> item.status == ItemStatus.PENDING && item.id > afterId
+                            && item.providerKey.equals(scope.providerKey())
+                            && item.regionKey.equals(scope.regionKey()))
+                    .limit(limit)
+                    .map(item -> new PendingItem(item.id, item.id, item.resourceId, 1L,
+                            CloudResource.LifecycleState.RUNNING))
+                    .toList();
+        }
+
+        @Override
+        public synchronized void completeItems(List<ItemOutcome> outcomes, LocalDateTime now) {
+            int call = completeCalls.incrementAndGet();
+            if (call == failCompleteOnCall || (failAllCompletes && call > failCompleteOnCall)) {
+                throw new DataAccessResourceFailureException("connection lost");
+            }
+            for (ItemOutcome outcome : outcomes) {
+                Item item = items.get((int) outcome.id() - 1);
+                item.status = outcome.status();
+                item.error = outcome.errorMessage();
+            }
+        }
+
+        @Override
+        public synchronized int skipPending(long operationId, String reason, LocalDateTime now) {
+            int count = 0;
+            for (Item item : items) {
+                if (item.status == ItemStatus.PENDING) {
+                    item.status = ItemStatus.SKIPPED;
+                    item.error = reason;
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public void updateLifecycleState(Collection<Long> cloudResourceIds, CloudResource.LifecycleState state,
+                                         LocalDateTime now) {
+            stopped.addAll(cloudResourceIds);
+        }
+
+        @Override
+        public void incrementCounters(long operationId, int succeededCount, int failedCount, int skippedCount,
+                                      LocalDateTime now) {
+            succeeded.addAndGet(succeededCount);
+            failed.addAndGet(failedCount);
+            skipped.addAndGet(skippedCount);
+        }
+
+        @Override
+        public synchronized Map<ItemStatus, Integer> countItemsByStatus(long operationId) {
+            Map<ItemStatus, Integer> counts = new EnumMap<>(ItemStatus.class);
+            for (Item item : items) {
+                counts.merge(item.status, 1, Integer::sum);
+            }
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.common.exception.BusinessException;
+import com.agenticcp.core.domain.cloud.dto.TagQueryRequest;
+import com.agenticcp.core.domain.cloud.dto.TagQueryResponse;
+import com.agenticcp.core.domain.cloud.entity.CloudResource;
+import com.agenticcp.core.domain.cloud.index.IndexedResource;
+import com.agenticcp.core.domain.cloud.index.ResourceAttribute;
+import com.agenticcp.core.domain.cloud.repository.CloudResourceIndexRepository;
+import com.agenticcp.core.domain.cloud.repository.CloudResourceIndexRepository.IndexRow;
+import com.agenticcp.core.domain.cloud.repository.CloudResourceRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 태그 조회가 속성 필터와 결합되고, 돌려준 커서로 끝까지 넘기면 빠짐/중복 없이 전체 결과를 id 순서대로 주며,
+ * 키/값 패싯이 페이지가 아닌 전체 결과 기준으로 집계되는지 검증한다.
+ */
+class InventoryIndexServiceTest {
+
+    private static final int RESOURCE_COUNT = 200;
+
+    private final Map<Long, IndexRow> rows = new LinkedHashMap<>();
+    private final Map<Long, Map<String, String>> tagsById = new LinkedHashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private InventoryIndexService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        for (long id = 1; id <= RESOURCE_COUNT; id++) {
+            Map<String, String> tags = new TreeMap<>();
+            tags.put("env", id % 3 == 0 ? "dev" : "prod");
+            if (id % 10 != 0) {
+                tags.put("team", "team-" + (id % 4));
+            }
+            if (id % 7 == 0) {
+                tags.put("cost-center", "cc-" + (id % 2));
+            }
+            tagsById.put(id, tags);
+            IndexedResource resource = new IndexedResource(id, "tenant-1", id <= 150 ? "aws" : "gcp",
+                    "us-east-1", "ec2", "INSTANCE", "RUNNING", "ACTIVE");
+            rows.put(id, new IndexRow(resource, objectMapper.writeValueAsString(tags), false));
+        }
+        service = service();
+    }
+
+    @Test
+    @DisplayName("돌려준 커서로 끝까지 넘기면 조건에 맞는 리소스를 빠짐/중복 없이 id 순서대로 받고 패싯은 전체 결과 기준이다")
+    void queryTags_PagesWithCursorUntilExhausted() {
+        // Given: env=prod AND (team-1 OR team-2) AND NOT cost-center=cc-1, aws 리소스만
+        List<Long> expected = tagsById.entrySet().stream()
+                .filter(entry -> entry.getKey() <= 150)
+                .filter(entry -> "prod".equals(entry.getValue().get("env")))
+                .filter(entry -> "team-1".equals(entry.getValue().get("team"))
+                        || "team-2".equals(entry.getValue().get("team")))
+                .filter(entry -> !"cc-1".equals(entry.getValue().get("cost-center")))
+                .map(Map.Entry::getKey)
+                .toList();
+        Map<String, Long> expectedCostCenters = expected.stream()
+                .map(id -> tagsById.get(id).get("cost-center"))
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(value -> value, Collectors.counting()));
+        long expectedCostCenterKeys = expectedCostCenters.values().stream().mapToLong(Long::longValue).sum();
+        assertThat(expected).hasSizeGreaterThan(20);
+
+        // When
+        List<Long> seen = new ArrayList<>();
+        List<TagQueryResponse> pages = new ArrayList<>();
+        Long cursor = null;
+        do {
+            TagQueryResponse page = service.queryTags(TagQueryRequest.builder()
+                    .all(List.of("env=prod"))
+                    .any(List.of("team=team-1", "team=team-2"))
+                    .none(List.of("cost-center=cc-1"))
+                    .filters(Map.of(ResourceAttribute.PROVIDER, List.of("aws")))
+                    .keyFacets(true)
+                    .valueFacetKeys(List.of("team", "cost-center"))
+                    .cursor(cursor)
+                    .size(7)
+                    .build());
+            page.getResources().forEach(resource -> seen.add(resource.getId()));
+            pages.add(page);
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertThat(seen).containsExactlyElementsOf(expected);
+        assertThat(pages).hasSize((expected.size() + 6) / 7);
+        assertThat(pages).allSatisfy(page -> {
+            assertThat(page.getTotal()).isEqualTo(expected.size());
+            assertThat(page.getKeyFacets()).containsEntry("env", (long) expected.size())
+                    .containsEntry("team", (long) expected.size())
+                    .containsEntry("cost-center", expectedCostCenterKeys);
+            assertThat(page.getValueFacets().get("team").values().stream().mapToLong(Long::longValue).sum())
+                    .isEqualTo(expected.size());
+            assertThat(page.getValueFacets().get("cost-center")).isEqualTo(expectedCostCenters);
+        });
+    }
+
+    @Test
+    @DisplayName("결과가 한 페이지에 딱 맞으면 다음 커서가 없고, 빈 결과도 커서 없이 돌려준다")
+    void queryTags_NoCursorWhenExhausted() {
+        // Given
+        long gcpDevCount = tagsById.entrySet().stream()
+                .filter(entry -> entry.getKey() > 150 && "dev".equals(entry.getValue().get("env")))
+                .count();
+
+        // When
+        TagQueryResponse exact = service.queryTags(TagQueryRequest.builder()
+                .all(List.of("env=dev"))
+                .filters(Map.of(ResourceAttribute.PROVIDER, List.of("gcp")))
+                .size((int) gcpDevCount)
+                .build());
+        TagQueryResponse empty = service.queryTags(TagQueryRequest.builder()
+                .all(List.of("env=staging"))
+                .keyFacets(true)
+                .build());
+
+        // Then
+        assertThat(exact.getResources()).hasSize((int) gcpDevCount);
+        assertThat(exact.getNextCursor()).isNull();
+        assertThat(empty.getTotal()).isZero();
+        assertThat(empty.getResources()).isEmpty();
+        assertThat(empty.getNextCursor()).isNull();
+        assertThat(empty.getKeyFacets()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인덱스 적재 전에는 조회를 거부한다")
+    void queryTags_RejectsBeforeRebuild() {
+        // Given
+        InventoryIndexService loading = new InventoryIndexService(mock(CloudResourceIndexRepository.class),
+                mock(CloudResourceRepository.class), objectMapper, new SimpleMeterRegistry(), 100);
+
+        // When & Then
+        assertThatThrownBy(() -> loading.queryTags(TagQueryRequest.builder().all(List.of("env=prod")).build()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("still loading");
+    }
+
+    @SuppressWarnings("unchecked")
+    private InventoryIndexService service() {
+        CloudResourceIndexRepository indexRepository = mock(CloudResourceIndexRepository.class);
+        doAnswer(invocation -> {
+            Consumer<IndexRow> consumer = invocation.getArgument(1);
+            rows.values().forEach(consumer);
+            return null;
+        }).when(indexRepository).streamAll(anyInt(), any(Consumer.class));
+        CloudResourceRepository cloudResourceRepository = mock(CloudResourceRepository.class);
+        when(cloudResourceRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<CloudResource> found = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                CloudResource resource = CloudResource.builder().resourceId("r-" + id).build();
+                resource.setId(id);
+                found.add(resource);
+            }
+            return found;
+        });
+        InventoryIndexService indexService = new InventoryIndexService(indexRepository, cloudResourceRepository,
+                objectMapper, new SimpleMeterRegistry(), 100);
+        indexService.rebuild();
+        return indexService;
+    }
+}
@@ -0,0 +1,428 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.common.config.JpaConfig;
+import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.domain.cloud.adapter.InventoryAdapterRegistry;
+import com.agenticcp.core.domain.cloud.adapter.InventoryFetchRequest;
+import com.agenticcp.core.domain.cloud.adapter.ProviderInventoryAdapter;
+import com.agenticcp.core.domain.cloud.adapter.SimulatedInventoryAdapter;
+import com.agenticcp.core.domain.cloud.dto.CloudResourceSnapshot;
+import com.agenticcp.core.domain.cloud.dto.InventorySyncResult;
+import com.agenticcp.core.domain.cloud.dto.InventorySyncResult.RegionSyncResult;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.agenticcp.core.domain.cloud.entity.CloudRegion;
+import com.agenticcp.core.domain.cloud.entity.CloudResource.LifecycleState;
+import com.agenticcp.core.domain.cloud.entity.CloudResource.ResourceType;
+import com.agenticcp.core.domain.cloud.entity.CloudService;
+import com.agenticcp.core.domain.cloud.event.InventoryChangedEvent;
+import com.agenticcp.core.domain.cloud.event.InventorySyncCompletedEvent;
+import com.agenticcp.core.domain.cloud.event.ResourceLifecycleChangedEvent;
+import com.agenticcp.core.domain.cloud.event.ResourceLifecycleChangedEvent.Transition;
+import com.agenticcp.core.domain.cloud.repository.CloudProviderRepository;
+import com.agenticcp.core.domain.cloud.repository.CloudRegionRepository;
+import com.agenticcp.core.domain.cloud.repository.CloudResourceBatchRepository;
+import com.agenticcp.core.domain.cloud.repository.CloudServiceRepository;
+import com.agenticcp.core.domain.cloud.repository.ResourceDependencyRepository;
+import com.agenticcp.core.domain.tenant.entity.Tenant;
+import com.agenticcp.core.domain.tenant.repository.TenantRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * H2 MySQL 호환 모드에서 실제 배치 upsert({@code ON DUPLICATE KEY UPDATE}) 를 실행해, lastModifiedInCloud 비교에 따른
+ * 신규/변경/건너뜀 판정, 전체 조회가 끝난 뒤에만 적용되는 종료 처리, 쓰기 fence, 발행되는 이벤트를 검증한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:inventory-sync;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+@Import({CloudResourceBatchRepository.class, ResourceDependencyRepository.class, JpaConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InventorySyncServiceTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 10, 1, 10, 0);
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private CloudProviderRepository cloudProviderRepository;
+
+    @Autowired
+    private CloudRegionRepository cloudRegionRepository;
+
+    @Autowired
+    private CloudServiceRepository cloudServiceRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private CloudResourceBatchRepository batchRepository;
+
+    @Autowired
+    private ResourceDependencyRepository dependencyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private final CloudProviderService cloudProviderService = mock(CloudProviderService.class);
+    private CloudProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM cloud_resource_dependencies");
+        jdbcTemplate.update("DELETE FROM cloud_resources");
+        jdbcTemplate.update("DELETE FROM cloud_services");
+        jdbcTemplate.update("DELETE FROM cloud_regions");
+        jdbcTemplate.update("DELETE FROM cloud_providers");
+        jdbcTemplate.update("DELETE FROM tenants");
+
+        provider = cloudProviderRepository.save(CloudProvider.builder()
+                .providerKey("sim")
+                .providerName("Simulated")
+                .providerType(CloudProvider.ProviderType.AWS)
+                .status(Status.ACTIVE)
+                .apiEndpoint(SimulatedInventoryAdapter.ENDPOINT_SCHEME + "?resources=200")
+                .build());
+        cloudRegionRepository.save(CloudRegion.builder()
+                .regionKey("sim-1")
+                .regionName("Simulated 1")
+                .provider(provider)
+                .status(Status.ACTIVE)
+                .isAvailable(true)
+                .build());
+        cloudServiceRepository.save(CloudService.builder()
+                .serviceKey("compute")
+                .serviceName("Compute")
+                .provider(provider)
+                .status(Status.ACTIVE)
+                .build());
+        tenantRepository.save(Tenant.builder()
+                .tenantKey("acme")
+                .tenantName("Acme")
+                .status(Status.ACTIVE)
+                .isTrial(false)
+                .build());
+        when(cloudProviderService.getProviderByKeyOrThrow("sim")).thenReturn(provider);
+    }
+
+    @Test
+    @DisplayName("변경이 없는 리소스에는 쓰지 않고, 새 리소스는 넣고 사라진 리소스는 종료 처리한다")
+    void syncProvider_WritesOnlyChangedResources() {
+        // Given: churn 0 이면 다음 세대마다 가장 오래된 리소스 하나가 빠지고 하나가 새로 생긴다
+        InventorySyncService service = service(new SimulatedInventoryAdapter(10_000, 0, 64));
+        InventorySyncResult first = service.syncProvider("sim");
+        Map<String, Timestamp> updatedAtBefore = updatedAtByResourceId();
+
+        // When
+        InventorySyncResult second = service.syncProvider("sim");
+
+        // Then
+        assertThat(first.getFetched()).isEqualTo(200);
+        assertThat(first.getInserted()).isEqualTo(200);
+        RegionSyncResult region = second.getRegions().get(0);
+        assertThat(region.isSuccess()).isTrue();
+        assertThat(region.getInserted()).isEqualTo(1);
+        assertThat(region.getUpdated()).isZero();
+        assertThat(region.getUnchanged()).isEqualTo(199);
+        assertThat(region.getTerminated()).isEqualTo(1);
+        assertThat(countLive()).isEqualTo(200);
+        assertThat(countRows()).isEqualTo(201);
+        Map<String, Timestamp> updatedAtAfter = updatedAtByResourceId();
+        long rewritten = updatedAtBefore.entrySet().stream()
+                .filter(entry -> !entry.getValue().equals(updatedAtAfter.get(entry.getKey())))
+                .count();
+        assertThat(rewritten).isEqualTo(1);
+        verify(cloudProviderService, times(2)).updateLastSync("sim");
+    }
+
+    @Test
+    @DisplayName("lastModifiedInCloud 가 바뀐 리소스만 배치 upsert 로 갱신한다")
+    void syncProvider_UpdatesModifiedResourcesInBatches() {
+        // Given: 10% churn, 배치 크기보다 많은 리소스
+        InventorySyncService service = service(new SimulatedInventoryAdapter(10_000, 100, 64));
+        service.syncProvider("sim");
+        LocalDateTime baseline = jdbcTemplate.queryForObject(
+                "SELECT MIN(last_modified_in_cloud) FROM cloud_resources", LocalDateTime.class);
+
+        // When
+        RegionSyncResult region = service.syncProvider("sim").getRegions().get(0);
+
+        // Then
+        assertThat(region.getInserted()).isEqualTo(10);
+        assertThat(region.getTerminated()).isEqualTo(10);
+        assertThat(region.getUpdated()).isPositive();
+        assertThat(region.getUpdated() + region.getUnchanged()).isEqualTo(190);
+        Integer newer = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cloud_resources "
+                + "WHERE lifecycle_state <> 'TERMINATED' AND last_modified_in_cloud > ?", Integer.class, baseline);
+        assertThat(newer.longValue()).isEqualTo(region.getInserted() + region.getUpdated());
+        assertThat(countRows()).isEqualTo(210);
+    }
+
+    @Test
+    @DisplayName("같거나 오래된 lastModifiedInCloud 는 건너뛰고, 알 수 없는 서비스와 id 없음/중복은 skip 으로 센다")
+    void syncRegion_ClassifiesSnapshots() {
+        // Given
+        StubAdapter adapter = new StubAdapter();
+        InventorySyncService service = service(adapter);
+        adapter.pages = List.of(List.of(
+                snapshot("r1", T0, LifecycleState.RUNNING),
+                snapshot("r2", T0, LifecycleState.RUNNING),
+                snapshot("r3", T0, LifecycleState.RUNNING)));
+        service.syncRegion("sim", "sim-1");
+
+        // When
+        adapter.pages = List.of(List.of(
+                snapshot("r1", T0, LifecycleState.RUNNING),
+                snapshot("r2", T0.minusHours(1), LifecycleState.STOPPED),
+                snapshot("r3", null, LifecycleState.RUNNING),
+                snapshot("r1", T0.plusHours(1), LifecycleState.RUNNING),
+                snapshot(null, T0, LifecycleState.RUNNING),
+                snapshot("r4", "unknown", T0, LifecycleState.RUNNING)));
+        RegionSyncResult result = service.syncRegion("sim", "sim-1");
+
+        // Then
+        assertThat(result.getFetched()).isEqualTo(6);
+        assertThat(result.getUnchanged()).isEqualTo(2);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getSkipped()).isEqualTo(3);
+        assertThat(result.getInserted()).isZero();
+        assertThat(result.getTerminated()).isZero();
+        assertThat(lifecycleOf("r2")).isEqualTo("RUNNING");
+        assertThat(countRows()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조회가 중간에 실패하면 이미 받은 리소스가 없다고 보지 않아 아무것도 종료하지 않는다")
+    void syncRegion_FailedFetchTerminatesNothing() {
+        // Given
+        StubAdapter adapter = new StubAdapter();
+        InventorySyncService service = service(adapter);
+        adapter.pages = List.of(List.of(
+                snapshot("r1", T0, LifecycleState.RUNNING),
+                snapshot("r2", T0, LifecycleState.RUNNING),
+                snapshot("r3", T0, LifecycleState.RUNNING)));
+        service.syncProvider("sim");
+
+        // When: 첫 페이지만 받은 뒤 프로바이더 API 가 실패
+        adapter.pages = List.of(List.of(snapshot("r1", T0, LifecycleState.RUNNING)));
+        adapter.failAfterPages = true;
+        InventorySyncResult result = service.syncProvider("sim");
+
+        // Then
+        RegionSyncResult region = result.getRegions().get(0);
+        assertThat(region.isSuccess()).isFalse();
+        assertThat(region.getErrorMessage()).isEqualTo("provider timeout");
+        assertThat(region.getTerminated()).isZero();
+        assertThat(countLive()).isEqualTo(3);
+        verify(cloudProviderService, times(1)).updateLastSync("sim");
+    }
+
+    @Test
+    @DisplayName("쓰기 직전 fence 확인에 실패하면 upsert 와 종료 처리를 모두 적용하지 않는다")
+    void syncRegion_FenceRejectsWrites() {
+        // Given
+        StubAdapter adapter = new StubAdapter();
+        InventorySyncService service = service(adapter);
+        adapter.pages = List.of(List.of(snapshot("r1", T0, LifecycleState.RUNNING),
+                snapshot("r2", T0, LifecycleState.RUNNING)));
+        service.syncRegion("sim", "sim-1");
+
+        // When: 리스를 잃은 노드의 동기화
+        adapter.pages = List.of(List.of(snapshot("r1", T0.plusHours(1), LifecycleState.STOPPED)));
+        RegionSyncResult result = service.syncRegion("sim", "sim-1", () -> {
+            throw new IllegalStateException("lease lost");
+        });
+
+        // Then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getErrorMessage()).isEqualTo("lease lost");
+        assertThat(result.getTerminated()).isZero();
+        assertThat(lifecycleOf("r1")).isEqualTo("RUNNING");
+        assertThat(lifecycleOf("r2")).isEqualTo("RUNNING");
+    }
+
+    @Test
+    @DisplayName("종료된 리소스가 다시 나타나면 같은 행을 ON DUPLICATE KEY UPDATE 로 되살린다")
+    void syncRegion_ReappearingResourceReusesRow() {
+        // Given
+        StubAdapter adapter = new StubAdapter();
+        InventorySyncService service = service(adapter);
+        adapter.pages = List.of(List.of(snapshot("r1", T0, LifecycleState.RUNNING),
+                snapshot("r2", T0, LifecycleState.RUNNING)));
+        service.syncRegion("sim", "sim-1");
+        adapter.pages = List.of(List.of(snapshot("r1", T0, LifecycleState.RUNNING)));
+        service.syncRegion("sim", "sim-1");
+        assertThat(lifecycleOf("r2")).isEqualTo("TERMINATED");
+
+        // When
+        adapter.pages = List.of(List.of(snapshot("r1", T0, LifecycleState.RUNNING),
+                snapshot("r2", T0.plusHours(1), LifecycleState.RUNNING)));
+        RegionSyncResult result = service.syncRegion("sim", "sim-1");
+
+        // Then
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(countRows()).isEqualTo(2);
+        assertThat(lifecycleOf("r2")).isEqualTo("RUNNING");
+    }
+
+    @Test
+    @DisplayName("커밋된 변경과 수명주기 전이, 동기화 완료를 이벤트로 발행한다")
+    void syncRegion_PublishesEvents() {
+        // Given
+        StubAdapter adapter = new StubAdapter();
+        InventorySyncService service = service(adapter);
+        adapter.pages = List.of(List.of(snapshot("r1", T0, LifecycleState.RUNNING),
+                snapshot("r2", T0, LifecycleState.RUNNING)));
+        service.syncRegion("sim", "sim-1");
+        Long r2Id = jdbcTemplate.queryForObject("SELECT id FROM cloud_resources WHERE resource_id = 'r2'", Long.class);
+        events.clear();
+
+        // When: r1 은 정지, r2 는 사라짐
+        adapter.pages = List.of(List.of(snapshot("r1", T0.plusHours(1), LifecycleState.STOPPED)));
+        service.syncRegion("sim", "sim-1");
+
+        // Then
+        InventoryChangedEvent changed = single(InventoryChangedEvent.class);
+        assertThat(changed.regionKey()).isEqualTo("sim-1");
+        assertThat(changed.upsertedResourceIds()).containsExactly("r1");
+        assertThat(changed.terminatedIds()).containsExactly(r2Id);
+        ResourceLifecycleChangedEvent lifecycle = single(ResourceLifecycleChangedEvent.class);
+        assertThat(lifecycle.transitions())
+                .extracting(Transition::resourceId, Transition::previousState, Transition::state)
+                .containsExactlyInAnyOrder(
+                        tuple("r1", LifecycleState.RUNNING, LifecycleState.STOPPED),
+                        tuple("r2", LifecycleState.RUNNING, LifecycleState.TERMINATED));
+        InventorySyncCompletedEvent completed = single(InventorySyncCompletedEvent.class);
+        assertThat(completed.result().isSuccess()).isTrue();
+
+        // When: 변경이 없으면 완료 이벤트만 발행한다
+        events.clear();
+        service.syncRegion("sim", "sim-1");
+
+        // Then
+        assertThat(events).hasSize(1).first().isInstanceOf(InventorySyncCompletedEvent.class);
+        verify(cloudProviderService, never()).updateLastSync("sim");
+    }
+
+    private InventorySyncService service(ProviderInventoryAdapter adapter) {
+        InventorySyncService service = new InventorySyncService(cloudProviderService, cloudRegionRepository,
+                cloudServiceRepository, tenantRepository, new InventoryAdapterRegistry(List.of(adapter)),
+                batchRepository, dependencyRepository, events::add, transactionManager, new ObjectMapper(),
+                new SimpleMeterRegistry(), callerRunsExecutor(), BATCH_SIZE);
+        service.init();
+        return service;
+    }
+
+    private <T> T single(Class<T> type) {
+        List<T> matching = events.stream().filter(type::isInstance).map(type::cast).toList();
+        assertThat(matching).hasSize(1);
+        return matching.get(0);
+    }
+
+    private Map<String, Timestamp> updatedAtByResourceId() {
+        Map<String, Timestamp> updatedAt = new HashMap<>();
+        jdbcTemplate.query("SELECT resource_id, updated_at FROM cloud_resources",
+                (RowCallbackHandler) rs -> updatedAt.put(rs.getString(1), rs.getTimestamp(2)));
+        return updatedAt;
+    }
+
+    private String lifecycleOf(String resourceId) {
+        return jdbcTemplate.queryForObject("SELECT lifecycle_state FROM cloud_resources WHERE resource_id = ?",
+                String.class, resourceId);
+    }
+
+    private int countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cloud_resources", Integer.class);
+    }
+
+    private int countLive() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM cloud_resources WHERE lifecycle_state <> 'TERMINATED'", Integer.class);
+    }
+
+    private static CloudResourceSnapshot snapshot(String resourceId, LocalDateTime lastModified, LifecycleState state) {
+        return snapshot(resourceId, "compute", lastModified, state);
+    }
+
+    private static CloudResourceSnapshot snapshot(String resourceId, String serviceKey, LocalDateTime lastModified,
+                                                  LifecycleState state) {
+        return CloudResourceSnapshot.builder()
+                .resourceId(resourceId)
+                .serviceKey(serviceKey)
+                .tenantKey("acme")
+                .resourceType(ResourceType.INSTANCE)
+                .lifecycleState(state)
+                .lastModifiedInCloud(lastModified)
+                .build();
+    }
+
+    // runs region syncs on the calling thread
+    private static ThreadPoolTaskExecutor callerRunsExecutor() {
+        return new ThreadPoolTaskExecutor() {
+            @Override
+            public void execute(Runnable task) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * 정해진 페이지를 그대로 전달하고, 설정하면 마지막 페이지 뒤에 실패한다.
+     */
+    private static final class StubAdapter implements ProviderInventoryAdapter {
+
+        private List<List<CloudResourceSnapshot>> pages = List.of();
+        private boolean failAfterPages;
+
+        @Override
+        public boolean supports(CloudProvider provider) {
+            return true;
+        }
+
+        @Override
+        public void fetchResources(InventoryFetchRequest request, Consumer<List<CloudResourceSnapshot>> pageConsumer) {
+            for (List<CloudResourceSnapshot> page : pages) {
+                pageConsumer.accept(new ArrayList<>(page));
+            }
+            if (failAfterPages) {
+                throw new IllegalStateException("provider timeout");
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.common.exception.BusinessException;
+import com.agenticcp.core.common.exception.ResourceNotFoundException;
+import com.agenticcp.core.common.exception.ValidationException;
+import com.agenticcp.core.domain.cloud.dto.DependencyPathResponse;
+import com.agenticcp.core.domain.cloud.dto.DependencyTraversalResponse;
+import com.agenticcp.core.domain.cloud.dto.DependencyTraversalResponse.ReachedResource;
+import com.agenticcp.core.domain.cloud.event.InventoryChangedEvent;
+import com.agenticcp.core.domain.cloud.index.ResourceDependencyGraph.Direction;
+import com.agenticcp.core.domain.cloud.repository.ResourceDependencyRepository;
+import com.agenticcp.core.domain.cloud.repository.ResourceDependencyRepository.Edge;
+import com.agenticcp.core.domain.cloud.repository.ResourceDependencyRepository.Node;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 저장소를 메모리 대역으로 바꿔 의존 그래프 서비스의 적재 전 거절, 인벤토리 변경 이벤트의 증분 반영(노드/간선 추가와
+ * 종료된 리소스 제거), 조회 파라미터 검증을 검증한다.
+ */
+class ResourceDependencyGraphServiceTest {
+
+    private final ResourceDependencyRepository repository = mock(ResourceDependencyRepository.class);
+    // provider resource id -> node state, and edges by internal id
+    private final Map<String, Node> nodes = new LinkedHashMap<>();
+    private final List<Edge> edges = new ArrayList<>();
+    private ResourceDependencyGraphService service;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            Consumer<Node> consumer = invocation.getArgument(1);
+            nodes.values().stream().filter(Node::live).forEach(consumer);
+            return null;
+        }).when(repository).streamNodes(anyInt(), any());
+        doAnswer(invocation -> {
+            Consumer<Edge> consumer = invocation.getArgument(1);
+            edges.forEach(consumer);
+            return null;
+        }).when(repository).streamEdges(anyInt(), any());
+        when(repository.findNodesByResourceIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> resourceIds = invocation.getArgument(0);
+            return resourceIds.stream().filter(nodes::containsKey).map(nodes::get).toList();
+        });
+        when(repository.findEdgesTouching(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return edges.stream().filter(edge -> ids.contains(edge.sourceId()) || ids.contains(edge.targetId()))
+                    .toList();
+        });
+        service = new ResourceDependencyGraphService(repository, new SimpleMeterRegistry(), 100, 1000);
+
+        // instance(1) -> volume(2), instance(1) -> subnet(3), load balancer(4) -> instance(1)
+        putNode("i-1", 1, 10L, true);
+        putNode("vol-2", 2, 10L, true);
+        putNode("subnet-3", 3, 20L, true);
+        putNode("lb-4", 4, 10L, true);
+        edges.add(new Edge(1, 2));
+        edges.add(new Edge(1, 3));
+        edges.add(new Edge(4, 1));
+    }
+
+    @Test
+    @DisplayName("적재가 끝나기 전에는 조회를 503 비즈니스 예외로 거절한다")
+    void queries_RejectedUntilBuilt() {
+        // When & Then
+        assertThat(service.getStatus().ready()).isFalse();
+        assertThatThrownBy(() -> service.getDependents(1L, null, null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("still loading");
+    }
+
+    @Test
+    @DisplayName("변경 이벤트로 새 리소스와 간선을 더하고, 종료된 리소스는 그 간선과 함께 뺀다")
+    void onInventoryChanged_AppliesAddedAndRemovedNodes() {
+        // Given
+        service.rebuild();
+        assertThat(service.getDependents(3L, null, null).reached()).isEqualTo(2);
+
+        // When: 새 인스턴스 5 가 subnet 3 에 붙고, volume 2 는 종료, instance 1 은 subnet 대신 5 에 의존
+        putNode("i-5", 5, 30L, true);
+        putNode("vol-2", 2, 10L, false);
+        edges.removeIf(edge -> edge.sourceId() == 1 || edge.targetId() == 2);
+        edges.add(new Edge(5, 3));
+        edges.add(new Edge(1, 5));
+        service.onInventoryChanged(new InventoryChangedEvent(1L, "aws", 1L, "us-east-1",
+                List.of("i-5", "vol-2", "i-1"), List.of()));
+
+        // Then
+        assertThat(service.getStatus().resources()).isEqualTo(4);
+        assertThat(service.getStatus().edges()).isEqualTo(3);
+        assertThat(service.getStatus().tenants()).isEqualTo(3);
+        DependencyTraversalResponse dependents = service.getDependents(3L, null, null);
+        assertThat(dependents.resources()).containsExactly(
+                new ReachedResource(5, 1), new ReachedResource(1, 2), new ReachedResource(4, 3));
+        assertThat(service.getDependencies(1L, null, null).resources())
+                .extracting(ReachedResource::id).containsExactly(5L, 3L);
+        DependencyPathResponse path = service.findPath(4L, 3L, null, null);
+        assertThat(path.found()).isTrue();
+        assertThat(path.path()).containsExactly(4L, 1L, 5L, 3L);
+        assertThatThrownBy(() -> service.getDependents(2L, null, null))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("종료된 리소스 id 만 담긴 이벤트도 그 리소스와 간선을 뺀다")
+    void onInventoryChanged_AppliesTerminatedIds() {
+        // Given
+        service.rebuild();
+
+        // When
+        edges.removeIf(edge -> edge.sourceId() == 4);
+        nodes.remove("lb-4");
+        service.onInventoryChanged(new InventoryChangedEvent(1L, "aws", 1L, "us-east-1", List.of(), List.of(4L)));
+
+        // Then
+        assertThat(service.getStatus().resources()).isEqualTo(3);
+        assertThat(service.getDependents(1L, null, null).reached()).isZero();
+        assertThat(service.findDependents(List.of(2L, 3L), 10).resourceIds()).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("깊이와 개수를 적용하고 범위를 벗어난 파라미터는 검증 예외로 거절한다")
+    void traverse_ValidatesDepthAndLimit() {
+        // Given
+        service.rebuild();
+
+        // When
+        DependencyTraversalResponse shallow = service.getDependents(2L, 1, null);
+        DependencyTraversalResponse limited = service.getDependents(2L, null, 1);
+
+        // Then
+        assertThat(shallow.resources()).extracting(ReachedResource::id).containsExactly(1L);
+        assertThat(limited.reached()).isEqualTo(2);
+        assertThat(limited.truncated()).isTrue();
+        assertThat(service.findPath(2L, 4L, Direction.DEPENDENCIES, null).found()).isFalse();
+        assertThatThrownBy(() -> service.getDependents(2L, 0, null)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> service.getDependents(2L, null, 100_001)).isInstanceOf(ValidationException.class);
+    }
+
+    private void putNode(String resourceId, long id, Long tenantId, boolean live) {
+        nodes.put(resourceId, new Node(id, tenantId, live));
+    }
+}
@@ -0,0 +1,199 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.domain.cloud.controller.ServiceAvailabilityController;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.agenticcp.core.domain.cloud.entity.CloudRegion;
+import com.agenticcp.core.domain.cloud.entity.CloudService;
+import com.agenticcp.core.domain.cloud.entity.CloudService.ServiceType;
+import com.agenticcp.core.domain.cloud.event.CatalogChangedEvent;
+import com.agenticcp.core.domain.cloud.event.CatalogChangedEvent.CatalogEntity;
+import com.agenticcp.core.domain.cloud.event.ServiceAvailabilityChangedEvent;
+import com.agenticcp.core.domain.cloud.repository.CloudProviderRepository;
+import com.agenticcp.core.domain.cloud.repository.CloudRegionRepository;
+import com.agenticcp.core.domain.cloud.repository.CloudServiceRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 카탈로그 단건 변경을 증분 반영한 행렬의 응답/ETag 가 전체 재구축과 같고, 버전마다 한 번만 만들어지며,
+ * If-None-Match 가 맞으면 304 로 응답하는지 검증한다.
+ */
+class ServiceAvailabilityServiceTest {
+
+    private static final String MATRIX_PATH = "/api/cloud/catalog/availability";
+
+    private final CloudProvider aws = provider(1L, "aws");
+    private final Map<Long, CloudRegion> regions = new LinkedHashMap<>();
+    private final Map<Long, CloudService> services = new LinkedHashMap<>();
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    @BeforeEach
+    void setUp() {
+        region(1L, "us-east-1", "[\"lambda\"]");
+        region(2L, "eu-west-1", null);
+        service(10L, "ec2", ServiceType.COMPUTE, false, "[\"eu-west-1\"]");
+        service(11L, "lambda", ServiceType.SERVERLESS, false, null);
+        service(12L, "iam", ServiceType.SECURITY, true, null);
+    }
+
+    @Test
+    @DisplayName("행렬 버전이 그대로면 응답과 ETag 를 다시 만들지 않는다")
+    void getMatrix_CachedPerVersion() {
+        // Given
+        ServiceAvailabilityService service = service();
+        service.rebuild();
+
+        // When
+        ServiceAvailabilityService.TaggedResponse first = service.getMatrix();
+        ServiceAvailabilityService.TaggedResponse second = service.getMatrix();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.etag()).startsWith("\"").endsWith("\"");
+        assertThat(first.response().regions()).hasSize(2);
+        assertThat(first.response().services()).hasSize(3);
+        assertThat(service.getEtag()).isEqualTo(first.etag());
+    }
+
+    @Test
+    @DisplayName("리전 삭제/추가를 증분 반영하면 ETag 가 바뀌고, 같은 카탈로그로 재구축한 노드와 응답/ETag 가 같다")
+    void onCatalogChanged_IncrementalMatchesRebuild() {
+        // Given
+        ServiceAvailabilityService service = service();
+        service.rebuild();
+        String before = service.getEtag();
+
+        // When: 리전 2 를 지우고 새 리전 3 이 그 ordinal 을 물려받는다
+        regions.get(2L).setIsDeleted(true);
+        region(3L, "ap-northeast-2", "[\"ec2\"]");
+        service.onCatalogChanged(new CatalogChangedEvent(CatalogEntity.REGION, 2L));
+        service.onCatalogChanged(new CatalogChangedEvent(CatalogEntity.REGION, 3L));
+        ServiceAvailabilityService.TaggedResponse incremental = service.getMatrix();
+
+        ServiceAvailabilityService otherNode = service();
+        otherNode.rebuild();
+        ServiceAvailabilityService.TaggedResponse rebuilt = otherNode.getMatrix();
+
+        // Then
+        assertThat(incremental.etag()).isNotEqualTo(before);
+        assertThat(incremental.response()).isEqualTo(rebuilt.response());
+        assertThat(incremental.etag()).isEqualTo(rebuilt.etag());
+        assertThat(service.getServiceTypes(3L)).containsExactlyInAnyOrder(ServiceType.COMPUTE, ServiceType.SECURITY);
+        assertThat(service.getServiceTypes(2L)).isEmpty();
+        verify(eventPublisher, atLeastOnce()).publishEvent(any(ServiceAvailabilityChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 304, 카탈로그가 바뀐 뒤의 이전 ETag 면 200 과 새 ETag 를 준다")
+    void getMatrix_NotModified() {
+        // Given
+        ServiceAvailabilityService service = service();
+        service.rebuild();
+        ServiceAvailabilityController controller = new ServiceAvailabilityController(service);
+        String etag = service.getEtag();
+
+        // When
+        MockHttpServletResponse notModified = new MockHttpServletResponse();
+        Object notModifiedBody = controller.getMatrix(conditionalGet(etag, notModified));
+
+        // Then
+        assertThat(notModifiedBody).isNull();
+        assertThat(notModified.getStatus()).isEqualTo(304);
+
+        // When: 서비스 하나가 비활성화된다
+        services.get(11L).setStatus(Status.INACTIVE);
+        service.onCatalogChanged(new CatalogChangedEvent(CatalogEntity.SERVICE, 11L));
+        MockHttpServletResponse modified = new MockHttpServletResponse();
+        var response = controller.getMatrix(conditionalGet(etag, modified));
+
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(response.getHeaders().getETag()).isEqualTo(service.getEtag()).isNotEqualTo(etag);
+        assertThat(response.getBody().getData().services()).hasSize(2);
+    }
+
+    private ServiceAvailabilityService service() {
+        CloudProviderRepository providerRepository = mock(CloudProviderRepository.class);
+        when(providerRepository.findById(anyLong())).thenAnswer(invocation ->
+                Optional.ofNullable(aws.getId().equals(invocation.getArgument(0)) ? aws : null));
+        CloudRegionRepository regionRepository = mock(CloudRegionRepository.class);
+        when(regionRepository.findAllWithProvider()).thenAnswer(invocation -> regions.values().stream()
+                .filter(region -> !region.getIsDeleted())
+                .toList());
+        when(regionRepository.findWithProviderById(anyLong())).thenAnswer(invocation ->
+                Optional.ofNullable(regions.get(invocation.<Long>getArgument(0))));
+        CloudServiceRepository serviceRepository = mock(CloudServiceRepository.class);
+        when(serviceRepository.findAllWithProvider()).thenAnswer(invocation -> new ArrayList<>(services.values()));
+        when(serviceRepository.findWithProviderById(anyLong())).thenAnswer(invocation ->
+                Optional.ofNullable(services.get(invocation.<Long>getArgument(0))));
+        return new ServiceAvailabilityService(providerRepository, regionRepository, serviceRepository,
+                new ObjectMapper(), eventPublisher);
+    }
+
+    private static ServletWebRequest conditionalGet(String etag, MockHttpServletResponse response) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", MATRIX_PATH);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        return new ServletWebRequest(request, response);
+    }
+
+    private void region(Long id, String regionKey, String supportedServices) {
+        CloudRegion region = CloudRegion.builder()
+                .regionKey(regionKey)
+                .regionName(regionKey)
+                .provider(aws)
+                .status(Status.ACTIVE)
+                .isAvailable(true)
+                .supportedServices(supportedServices)
+                .build();
+        region.setId(id);
+        regions.put(id, region);
+    }
+
+    private void service(Long id, String serviceKey, ServiceType serviceType, boolean global,
+                         String supportedRegions) {
+        CloudService service = CloudService.builder()
+                .serviceKey(serviceKey)
+                .serviceName(serviceKey)
+                .provider(aws)
+                .status(Status.ACTIVE)
+                .serviceType(serviceType)
+                .isGlobal(global)
+                .supportedRegions(supportedRegions)
+                .build();
+        service.setId(id);
+        services.put(id, service);
+    }
+
+    private static CloudProvider provider(Long id, String providerKey) {
+        CloudProvider provider = CloudProvider.builder()
+                .providerKey(providerKey)
+                .providerName(providerKey)
+                .status(Status.ACTIVE)
+                .build();
+        provider.setId(id);
+        return provider;
+    }
+}
@@ -0,0 +1,335 @@
+package com.agenticcp.core.domain.cloud.service;
+
+import com.agenticcp.core.common.config.JpaConfig;
+import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.domain.cloud.dto.InventorySyncResult.RegionSyncResult;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.agenticcp.core.domain.cloud.entity.SyncLease;
+import com.agenticcp.core.domain.cloud.repository.CloudProviderRepository;
+import com.agenticcp.core.domain.cloud.repository.SyncLeaseRepository;
+import com.agenticcp.core.domain.cloud.service.InventorySyncService.WriteFence;
+import com.agenticcp.core.domain.cloud.service.SyncLeaseService.ClaimedLease;
+import com.agenticcp.core.domain.cloud.service.SyncLeaseService.LeaseLostException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 여러 노드의 스케줄러를 한 프로세스에서 동시에 돌려 리스 점유가 배타적이고 만료 시 회수되며,
+ * 리스를 잃은 노드의 진행 중 동기화가 취소되고 쓰기가 거부되는지 검증한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({SyncLeaseService.class, JpaConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyncLeaseSchedulerTest {
+
+    private static final int REGION_COUNT = 40;
+
+    @Autowired
+    private SyncLeaseService syncLeaseService;
+
+    @Autowired
+    private SyncLeaseRepository syncLeaseRepository;
+
+    @Autowired
+    private CloudProviderRepository cloudProviderRepository;
+
+    private final Map<String, AtomicInteger> syncCounts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> syncsPerNode = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        syncLeaseRepository.deleteAll();
+        for (int i = 0; i < REGION_COUNT; i++) {
+            syncLeaseService.ensureLease("aws", "region-" + i);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 노드가 동시에 폴링해도 각 리전은 정확히 한 번만 동기화되고 작업이 노드에 분산된다")
+    void concurrentNodes_SyncEachRegionExactlyOnce() throws Exception {
+        // Given
+        int nodeCount = 4;
+        List<SyncLeaseScheduler> nodes = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            nodes.add(newNode("node-" + i, Duration.ofMinutes(5)));
+        }
+
+        // When: 모든 리스가 완료될 때까지 각 노드가 독립적으로 폴링
+        ExecutorService pool = Executors.newFixedThreadPool(nodeCount);
+        List<Future<?>> futures = new ArrayList<>();
+        for (SyncLeaseScheduler node : nodes) {
+            futures.add(pool.submit(() -> {
+                while (completedLeases() < REGION_COUNT) {
+                    node.poll();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        // Then
+        assertThat(syncCounts).hasSize(REGION_COUNT);
+        assertThat(syncCounts.values()).allMatch(count -> count.get() == 1);
+        assertThat(syncsPerNode).hasSize(nodeCount);
+        assertThat(syncsPerNode.values()).allMatch(count -> count.get() < REGION_COUNT / 2);
+        assertThat(syncLeaseRepository.findAll())
+                .allMatch(lease -> lease.getLeaseOwner() == null && lease.getLastCompletedAt() != null);
+    }
+
+    @Test
+    @DisplayName("노드가 죽어 리스가 만료되면 다른 노드가 회수하고, 죽은 노드의 뒤늦은 완료는 거부된다")
+    void expiredLease_IsReclaimedByAnotherNode() throws Exception {
+        // Given: 죽은 노드가 모든 리스를 짧은 만료 시간으로 점유
+        List<ClaimedLease> orphaned = syncLeaseService.claim("dead-node", REGION_COUNT, Duration.ofSeconds(2));
+        assertThat(orphaned).hasSize(REGION_COUNT);
+        SyncLeaseScheduler survivor = newNode("survivor", Duration.ofMinutes(5));
+
+        // When & Then: 만료 전에는 점유할 수 없다
+        assertThat(survivor.poll()).isZero();
+
+        // When: 만료 후
+        Thread.sleep(2500);
+        while (completedLeases() < REGION_COUNT) {
+            survivor.poll();
+        }
+
+        // Then
+        assertThat(syncsPerNode.get("survivor").get()).isEqualTo(REGION_COUNT);
+        assertThat(syncLeaseService.complete(orphaned.get(0), "dead-node", Duration.ofHours(1))).isFalse();
+        SyncLease lease = syncLeaseRepository.findByLeaseKey(orphaned.get(0).leaseKey()).orElseThrow();
+        assertThat(lease.getFencingToken()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("동기화 실패 시 리스를 해제하고 재시도 시각과 실패 횟수를 기록한다")
+    void failedSync_ReleasesLeaseForRetry() {
+        // Given
+        InventorySyncService failingSync = mock(InventorySyncService.class);
+        when(failingSync.syncRegion(anyString(), anyString(), any())).thenReturn(
+                RegionSyncResult.builder().success(false).errorMessage("provider unavailable").build());
+        SyncLeaseProperties properties = properties("node-a", Duration.ofMinutes(5));
+        SyncLeaseScheduler node = new SyncLeaseScheduler(syncLeaseService, failingSync, properties, Runnable::run);
+
+        // When
+        int claimed = node.poll();
+
+        // Then
+        assertThat(claimed).isEqualTo(properties.getMaxConcurrent());
+        List<SyncLease> failed = syncLeaseRepository.findAll().stream()
+                .filter(lease -> lease.getConsecutiveFailures() > 0)
+                .toList();
+        assertThat(failed).hasSize(properties.getMaxConcurrent());
+        assertThat(failed).allMatch(lease -> lease.getLeaseOwner() == null
+                && "provider unavailable".equals(lease.getLastError()));
+    }
+
+    @Test
+    @DisplayName("동기화 도중 리스 갱신에 실패하면 진행 중인 동기화를 인터럽트하고 이후 쓰기는 fencing 으로 거부한다")
+    void lostRenewal_CancelsInFlightSyncAndFencesWrites() throws Exception {
+        // Given: 첫 배치를 쓴 뒤 오래 걸리는 동기화
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicReference<RuntimeException> fenceFailure = new AtomicReference<>();
+        InventorySyncService slowSync = mock(InventorySyncService.class);
+        when(slowSync.syncRegion(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            WriteFence fence = invocation.getArgument(2);
+            fence.check();
+            started.countDown();
+            try {
+                Thread.sleep(30_000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            try {
+                fence.check();
+            } catch (LeaseLostException e) {
+                fenceFailure.set(e);
+            }
+            return RegionSyncResult.builder().regionKey(invocation.getArgument(1)).success(false)
+                    .errorMessage("cancelled").build();
+        });
+        SyncLeaseProperties properties = properties("node-a", Duration.ofSeconds(1));
+        properties.setMaxConcurrent(1);
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        SyncLeaseScheduler nodeA = new SyncLeaseScheduler(syncLeaseService, slowSync, properties, worker);
+
+        // When: node-a 의 리스가 만료되어 node-b 가 회수한 뒤 node-a 가 갱신을 시도한다
+        assertThat(nodeA.poll()).isEqualTo(1);
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        SyncLease held = syncLeaseRepository.findByLeaseOwner("node-a").get(0);
+        Thread.sleep(1500);
+        List<ClaimedLease> reclaimed = syncLeaseService.claim("node-b", REGION_COUNT, Duration.ofMinutes(5));
+        nodeA.renewHeldLeases();
+        worker.shutdown();
+
+        // Then
+        assertThat(worker.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(reclaimed).extracting(ClaimedLease::id).contains(held.getId());
+        assertThat(interrupted).isTrue();
+        assertThat(fenceFailure.get()).isInstanceOf(LeaseLostException.class);
+        SyncLease after = syncLeaseRepository.findById(held.getId()).orElseThrow();
+        assertThat(after.getLeaseOwner()).isEqualTo("node-b");
+        assertThat(after.getFencingToken()).isEqualTo(held.getFencingToken() + 1);
+        assertThat(after.getConsecutiveFailures()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 리스의 갱신이 예외로 실패해도 나머지 리스는 갱신하고, 실패한 리스의 동기화는 취소하지 않는다")
+    void renewalError_KeepsRenewingOtherLeases() throws Exception {
+        // Given: 동기화가 끝나지 않은 채 세 리스를 점유하고, 첫 갱신 호출만 일시적인 DB 오류로 실패한다
+        CountDownLatch started = new CountDownLatch(3);
+        CountDownLatch finish = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+        InventorySyncService blockingSync = mock(InventorySyncService.class);
+        when(blockingSync.syncRegion(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                finish.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+            return RegionSyncResult.builder().regionKey(invocation.getArgument(1)).success(true).build();
+        });
+        AtomicReference<Long> failedLeaseId = new AtomicReference<>();
+        SyncLeaseService flakyLeases = spy(syncLeaseService);
+        doAnswer(invocation -> {
+            ClaimedLease lease = invocation.getArgument(0);
+            if (failedLeaseId.compareAndSet(null, lease.id())) {
+                throw new IllegalStateException("connection reset");
+            }
+            return invocation.callRealMethod();
+        }).when(flakyLeases).renew(any(), anyString(), any());
+        SyncLeaseProperties properties = properties("node-a", Duration.ofMinutes(5));
+        properties.setMaxConcurrent(3);
+        ExecutorService worker = Executors.newFixedThreadPool(3);
+        SyncLeaseScheduler nodeA = new SyncLeaseScheduler(flakyLeases, blockingSync, properties, worker);
+        assertThat(nodeA.poll()).isEqualTo(3);
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        Map<Long, LocalDateTime> expiresBefore = new ConcurrentHashMap<>();
+        syncLeaseRepository.findByLeaseOwner("node-a")
+                .forEach(lease -> expiresBefore.put(lease.getId(), lease.getLeaseExpiresAt()));
+        Thread.sleep(50);
+
+        // When
+        nodeA.renewHeldLeases();
+
+        // Then: 나머지 두 리스는 갱신되고 실패한 리스도 여전히 점유 중이다
+        verify(flakyLeases, times(3)).renew(any(), anyString(), any());
+        List<SyncLease> held = syncLeaseRepository.findByLeaseOwner("node-a");
+        assertThat(held).hasSize(3);
+        assertThat(held).filteredOn(lease -> !lease.getId().equals(failedLeaseId.get()))
+                .hasSize(2)
+                .allMatch(lease -> lease.getLeaseExpiresAt().isAfter(expiresBefore.get(lease.getId())));
+
+        // When: 동기화가 끝나면
+        finish.countDown();
+        worker.shutdown();
+
+        // Then: 취소된 동기화 없이 세 리스 모두 완료된다
+        assertThat(worker.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isFalse();
+        assertThat(expiresBefore.keySet()).allSatisfy(id -> {
+            SyncLease lease = syncLeaseRepository.findById(id).orElseThrow();
+            assertThat(lease.getLeaseOwner()).isNull();
+            assertThat(lease.getLastCompletedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("프로바이더의 모든 리전 리스가 완료되면 lastSync 를 가장 오래된 완료 시각으로 올린다")
+    void completedLeases_StampProviderLastSync() {
+        // Given
+        cloudProviderRepository.findByProviderKey("gcp").ifPresent(cloudProviderRepository::delete);
+        cloudProviderRepository.save(CloudProvider.builder()
+                .providerKey("gcp")
+                .providerName("Google Cloud")
+                .providerType(CloudProvider.ProviderType.GCP)
+                .status(Status.ACTIVE)
+                .build());
+        syncLeaseService.ensureLease("gcp", "asia-northeast3");
+        syncLeaseService.ensureLease("gcp", "us-central1");
+        List<ClaimedLease> leases = syncLeaseService.claim("node-a", REGION_COUNT + 2, Duration.ofMinutes(5)).stream()
+                .filter(lease -> "gcp".equals(lease.providerKey()))
+                .toList();
+        assertThat(leases).hasSize(2);
+
+        // When: 한 리전만 완료
+        syncLeaseService.complete(leases.get(0), "node-a", Duration.ofHours(1));
+
+        // Then
+        assertThat(cloudProviderRepository.findByProviderKey("gcp").orElseThrow().getLastSync()).isNull();
+
+        // When: 나머지 리전도 완료
+        syncLeaseService.complete(leases.get(1), "node-a", Duration.ofHours(1));
+
+        // Then
+        LocalDateTime firstCompleted = syncLeaseRepository.findByLeaseKey(leases.get(0).leaseKey()).orElseThrow()
+                .getLastCompletedAt();
+        assertThat(cloudProviderRepository.findByProviderKey("gcp").orElseThrow().getLastSync())
+                .isEqualTo(firstCompleted);
+    }
+
+    private SyncLeaseScheduler newNode(String nodeId, Duration leaseDuration) {
+        InventorySyncService inventorySyncService = mock(InventorySyncService.class);
+        when(inventorySyncService.syncRegion(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            String regionKey = invocation.getArgument(1);
+            syncCounts.computeIfAbsent(regionKey, key -> new AtomicInteger()).incrementAndGet();
+            syncsPerNode.computeIfAbsent(nodeId, key -> new AtomicInteger()).incrementAndGet();
+            Thread.sleep(20);
+            return RegionSyncResult.builder().regionKey(regionKey).success(true).build();
+        });
+        // runs syncs on the polling thread so each node works through at most maxConcurrent leases per poll
+        return new SyncLeaseScheduler(syncLeaseService, inventorySyncService,
+                properties(nodeId, leaseDuration), Runnable::run);
+    }
+
+    private SyncLeaseProperties properties(String nodeId, Duration leaseDuration) {
+        SyncLeaseProperties properties = new SyncLeaseProperties();
+        properties.setNodeId(nodeId);
+        properties.setLeaseDuration(leaseDuration);
+        properties.setMaxConcurrent(2);
+        return properties;
+    }
+
+    private long completedLeases() {
+        return syncLeaseRepository.findAll().stream()
+                .filter(lease -> lease.getLastCompletedAt() != null)
+                .count();
+    }
+}
@@ -0,0 +1,235 @@
+package com.agenticcp.core.domain.cost.anomaly;
+
+import com.agenticcp.core.domain.cost.anomaly.CostAnomalyDetector.Signal;
+import com.agenticcp.core.domain.cost.anomaly.CostAnomalyDetector.Transition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 비용 이상 탐지기의 OPENED/RESOLVED 전이, 지출이 사라진 시리즈의 0 관측, 이상 구간 시리즈 제거 시 RESOLVED 신호,
+ * 체크포인트 왕복 후 같은 결과를 내는지 검증한다.
+ */
+class CostAnomalyDetectorTest {
+
+    private static final long HOUR = 490_000; // 2025-11-24T16:00:00Z
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("학습 후 세 기준을 모두 넘는 시간에 OPENED, 이상이 이어지는 동안은 신호 없이, 정상으로 돌아오면 RESOLVED")
+    void observe_OpensOnceAndResolves() {
+        // Given
+        CostAnomalyDetector detector = new CostAnomalyDetector(properties());
+        for (long hour = HOUR; hour < HOUR + 10; hour++) {
+            assertThat(detector.observe(7L, 3, hour, 10.0)).isNull();
+        }
+
+        // When
+        Signal opened = detector.observe(7L, 3, HOUR + 10, 30.0);
+        Signal continuing = detector.observe(7L, 3, HOUR + 11, 30.0);
+        Signal rerun = detector.observe(7L, 3, HOUR + 11, 10.0);
+        Signal resolved = detector.observe(7L, 3, HOUR + 12, 10.0);
+
+        // Then
+        assertThat(opened.transition()).isEqualTo(Transition.OPENED);
+        assertThat(opened.tenantId()).isEqualTo(7L);
+        assertThat(opened.cloudServiceId()).isEqualTo(3);
+        assertThat(opened.epochHour()).isEqualTo(HOUR + 10);
+        assertThat(opened.observed()).isEqualTo(30.0);
+        assertThat(opened.expected()).isCloseTo(10.0, within(1e-9));
+        assertThat(opened.zScore()).isGreaterThan(4.0);
+        assertThat(continuing).isNull();
+        assertThat(rerun).isNull();
+        assertThat(resolved.transition()).isEqualTo(Transition.RESOLVED);
+        assertThat(resolved.epochHour()).isEqualTo(HOUR + 12);
+    }
+
+    @Test
+    @DisplayName("학습 시간을 채우기 전의 급증은 이상으로 보지 않는다")
+    void observe_IgnoresSpikeDuringWarmup() {
+        // Given
+        CostAnomalyDetector detector = new CostAnomalyDetector(properties());
+        detector.observe(7L, 3, HOUR, 10.0);
+        detector.observe(7L, 3, HOUR + 1, 10.0);
+
+        // When
+        Signal spike = detector.observe(7L, 3, HOUR + 2, 100.0);
+
+        // Then
+        assertThat(spike).isNull();
+    }
+
+    @Test
+    @DisplayName("이 시간에 지출이 보고되지 않은 시리즈만 0 으로 관측해 이상 구간이던 시리즈를 닫는다")
+    void observeAbsent_ResolvesSeriesWithoutSpend() {
+        // Given: 테넌트 없는 시리즈가 급증 중이고, 다른 시리즈는 이번 시간에 이미 관측됨
+        CostAnomalyDetector detector = new CostAnomalyDetector(properties());
+        for (long hour = HOUR; hour < HOUR + 10; hour++) {
+            detector.observe(null, 3, hour, 10.0);
+            detector.observe(8L, 4, hour, 5.0);
+            detector.observe(9L, 5, hour, 5.0);
+        }
+        assertThat(detector.observe(null, 3, HOUR + 10, 50.0).transition()).isEqualTo(Transition.OPENED);
+        detector.observe(8L, 4, HOUR + 10, 5.0);
+        detector.observe(9L, 5, HOUR + 10, 5.0);
+        detector.observe(9L, 5, HOUR + 11, 5.0);
+
+        // When: 급증 시리즈와 (8, 4) 의 리소스가 모두 멈춤
+        List<Signal> signals = new ArrayList<>();
+        int absent = detector.observeAbsent(HOUR + 11, signals);
+        int again = detector.observeAbsent(HOUR + 11, new ArrayList<>());
+
+        // Then
+        assertThat(absent).isEqualTo(2);
+        assertThat(again).isZero();
+        assertThat(signals).singleElement().satisfies(signal -> {
+            assertThat(signal.transition()).isEqualTo(Transition.RESOLVED);
+            assertThat(signal.tenantId()).isNull();
+            assertThat(signal.cloudServiceId()).isEqualTo(3);
+            assertThat(signal.epochHour()).isEqualTo(HOUR + 11);
+            assertThat(signal.observed()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("0 관측은 지출로 치지 않아 오래 지출 없는 시리즈는 지워지고, 이상 구간이던 시리즈는 RESOLVED 신호를 남긴다")
+    void evictIdle_UsesLastSpendAndResolvesAlertingSeries() {
+        // Given: (7, 3) 은 급증 중, (8, 4) 는 이후 0 으로만 관측, (9, 5) 는 계속 지출
+        CostAnomalyDetector detector = new CostAnomalyDetector(properties());
+        for (long hour = HOUR; hour < HOUR + 10; hour++) {
+            detector.observe(7L, 3, hour, 10.0);
+            detector.observe(8L, 4, hour, 5.0);
+        }
+        detector.observe(7L, 3, HOUR + 10, 50.0);
+        for (long hour = HOUR + 10; hour < HOUR + 20; hour++) {
+            detector.observe(9L, 5, hour, 5.0);
+            if (hour > HOUR + 10) {
+                detector.observe(7L, 3, hour, 50.0);
+            }
+            detector.observeAbsent(hour, new ArrayList<>());
+        }
+
+        // When
+        List<Signal> signals = new ArrayList<>();
+        int evicted = detector.evictIdle(HOUR + 15, HOUR + 20, signals);
+        int evictedAll = detector.evictIdle(HOUR + 30, HOUR + 30, signals);
+
+        // Then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(evictedAll).isEqualTo(2);
+        assertThat(detector.getStats().series()).isZero();
+        assertThat(signals).singleElement().satisfies(signal -> {
+            assertThat(signal.transition()).isEqualTo(Transition.RESOLVED);
+            assertThat(signal.tenantId()).isEqualTo(7L);
+            assertThat(signal.cloudServiceId()).isEqualTo(3);
+            assertThat(signal.epochHour()).isEqualTo(HOUR + 30);
+        });
+    }
+
+    @Test
+    @DisplayName("체크포인트에서 복원한 탐지기는 원래 탐지기와 같은 신호를 내고 이미 관측한 시간은 다시 세지 않는다")
+    void checkpoint_RoundTripContinuesDetection() throws IOException {
+        // Given: 낮/밤 계절성이 있는 두 시리즈를 사흘 학습시키고 마지막 시간에 한 시리즈가 급증
+        CostAnomalyDetector original = new CostAnomalyDetector(properties());
+        Random random = new Random(40);
+        long last = HOUR + 72;
+        for (long hour = HOUR; hour < last; hour++) {
+            original.observe(7L, 3, hour, spend(hour, random));
+            original.observe(null, 4, hour, spend(hour, random));
+        }
+        assertThat(original.observe(7L, 3, last, 80.0).transition()).isEqualTo(Transition.OPENED);
+        original.observe(null, 4, last, spend(last, random));
+        Path checkpoint = directory.resolve("baselines.bin");
+        original.writeCheckpoint(checkpoint);
+
+        // When
+        CostAnomalyDetector restored = new CostAnomalyDetector(properties());
+        int series = restored.readCheckpoint(checkpoint);
+
+        // Then
+        assertThat(series).isEqualTo(2);
+        assertThat(restored.getStats()).isEqualTo(original.getStats());
+        assertThat(restored.observe(7L, 3, last, 10.0)).isNull();
+        long seed = random.nextLong();
+        List<Signal> expected = replay(original, last + 1, new Random(seed));
+        List<Signal> actual = replay(restored, last + 1, new Random(seed));
+        assertThat(actual).isEqualTo(expected);
+        assertThat(expected).extracting(Signal::transition).contains(Transition.RESOLVED);
+    }
+
+    @Test
+    @DisplayName("버전 1 체크포인트는 마지막 관측 시각을 마지막 지출 시각으로 읽는다")
+    void readCheckpoint_AcceptsVersionOne() throws IOException {
+        // Given
+        Path checkpoint = directory.resolve("v1.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(checkpoint))) {
+            out.writeInt(0x43414E4D);
+            out.writeInt(1);
+            out.writeInt(CostBaselineTable.SEASONS);
+            out.writeInt(1);
+            out.writeLong(7L << 32 | 3);
+            out.writeDouble(10.0);
+            out.writeDouble(0.0);
+            out.writeInt(10);
+            out.writeInt((int) HOUR);
+            out.writeBoolean(true);
+            for (int season = 0; season < CostBaselineTable.SEASONS; season++) {
+                out.writeFloat(0f);
+            }
+        }
+        CostAnomalyDetector detector = new CostAnomalyDetector(properties());
+
+        // When
+        int series = detector.readCheckpoint(checkpoint);
+        List<Signal> signals = new ArrayList<>();
+        detector.observeAbsent(HOUR + 1, signals);
+        int evicted = detector.evictIdle(HOUR + 1, HOUR + 1, new ArrayList<>());
+
+        // Then
+        assertThat(series).isEqualTo(1);
+        assertThat(signals).extracting(Signal::transition).containsExactly(Transition.RESOLVED);
+        assertThat(evicted).isEqualTo(1);
+    }
+
+    private static List<Signal> replay(CostAnomalyDetector detector, long fromHour, Random random) {
+        List<Signal> signals = new ArrayList<>();
+        for (long hour = fromHour; hour < fromHour + 48; hour++) {
+            Signal signal = detector.observe(7L, 3, hour, spend(hour, random));
+            if (signal != null) {
+                signals.add(signal);
+            }
+            if (hour % 5 != 0) {
+                signal = detector.observe(null, 4, hour, random.nextInt(10) == 0 ? 60.0 : spend(hour, random));
+                if (signal != null) {
+                    signals.add(signal);
+                }
+            }
+            detector.observeAbsent(hour, signals);
+        }
+        return signals;
+    }
+
+    private static double spend(long epochHour, Random random) {
+        return (Math.floorMod(epochHour, 24) < 12 ? 12.0 : 8.0) + random.nextInt(100) / 100.0;
+    }
+
+    private static CostAnomalyProperties properties() {
+        CostAnomalyProperties properties = new CostAnomalyProperties();
+        properties.setMaxSeries(16);
+        properties.setWarmupHours(3);
+        return properties;
+    }
+}
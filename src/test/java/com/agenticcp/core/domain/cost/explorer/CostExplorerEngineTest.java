@@ -0,0 +1,374 @@
+package com.agenticcp.core.domain.cost.explorer;
+
+import com.agenticcp.core.domain.cost.explorer.CostExplorerEngine.Dimension;
+import com.agenticcp.core.domain.cost.explorer.CostExplorerEngine.Filter;
+import com.agenticcp.core.domain.cost.explorer.CostExplorerEngine.Group;
+import com.agenticcp.core.domain.cost.explorer.CostExplorerEngine.Query;
+import com.agenticcp.core.domain.cost.explorer.CostExplorerEngine.Result;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 열 투영 위 group-by 집계를 행 단위 단순 group-by 와 대조한다. 필터(존재하지 않는 태그 포함), 혼합 기수 key 복원,
+ * 희소 태그 열, NaN 측정값, 상위 N 정렬을 밀집/해시 누적기와 분할/비분할 실행 모두에서 검증한다.
+ * {@code -Dbenchmark=true} 로 실행하면 500만 행 투영의 메모리와 집계 지연시간을 출력한다.
+ */
+class CostExplorerEngineTest {
+
+    private static final int ROWS = 200_000;
+    private static final String[] PROVIDERS = {"aws", "gcp", "azure"};
+    private static final String[] STATES = {"RUNNING", "STOPPED", "TERMINATED", null};
+
+    private static ForkJoinPool parallelPool;
+    private static ForkJoinPool singlePool;
+
+    @BeforeAll
+    static void startPools() {
+        parallelPool = new ForkJoinPool(4);
+        singlePool = new ForkJoinPool(1);
+    }
+
+    @AfterAll
+    static void stopPools() {
+        parallelPool.shutdown();
+        singlePool.shutdown();
+    }
+
+    @Test
+    @DisplayName("무작위 투영에서 여러 그룹/필터/정렬 조합의 결과가 단순 group-by 와 같다")
+    void aggregate_MatchesNaiveGroupBy() {
+        // Given
+        List<Row> rows = randomRows(new Random(3), ROWS);
+        ResourceCostProjection projection = project(rows);
+        List<Query> queries = List.of(
+                // mixed radix over a byte and a short column, sorted by cost
+                query(List.of(dim(CostDimension.PROVIDER), dim(CostDimension.REGION)), List.of(),
+                        CostMeasure.COST_PER_HOUR, 10),
+                // sparse tag as a group dimension, dense filter
+                query(List.of(dim(CostDimension.TENANT), tag("team")),
+                        List.of(new Filter(dim(CostDimension.PROVIDER), Set.of("aws", "gcp"))), null, 50),
+                // sparse tag as a filter, nullable lifecycle state as a group
+                query(List.of(tag("env"), dim(CostDimension.LIFECYCLE_STATE)),
+                        List.of(new Filter(tag("team"), Set.of("team-1", "team-2"))), CostMeasure.CPU_CORES, 100),
+                // int column (80k owners) times regions: hash accumulator
+                query(List.of(tag("owner"), dim(CostDimension.REGION)), List.of(), CostMeasure.MEMORY_GB, 20),
+                // two filters with a value missing from the dictionary, limit above the group count
+                query(List.of(dim(CostDimension.SERVICE)),
+                        List.of(new Filter(dim(CostDimension.REGION), Set.of("region-1", "region-2", "nowhere")),
+                                new Filter(tag("env"), Set.of("prod"))),
+                        CostMeasure.STORAGE_GB, 1_000),
+                // a tag no resource has as a group dimension: one null group
+                query(List.of(tag("missing"), dim(CostDimension.PROVIDER)), List.of(), null, 10));
+
+        for (Query query : queries) {
+            Map<List<String>, Stats> expected = naiveGroupBy(rows, query);
+            for (ForkJoinPool pool : List.of(parallelPool, singlePool)) {
+                // When
+                Result result = new CostExplorerEngine(pool).aggregate(projection, query);
+
+                // Then
+                assertMatches(result, expected, query);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("어느 리소스에도 없는 태그나 사전에 없는 값으로 거르면 빈 결과다")
+    void aggregate_FilterOnUnknownTagOrValue() {
+        // Given
+        ResourceCostProjection projection = project(randomRows(new Random(5), 10_000));
+        CostExplorerEngine engine = new CostExplorerEngine(parallelPool);
+
+        // When
+        Result missingTag = engine.aggregate(projection, query(List.of(dim(CostDimension.PROVIDER)),
+                List.of(new Filter(tag("missing"), Set.of("x"))), null, 10));
+        Result missingValue = engine.aggregate(projection, query(List.of(dim(CostDimension.PROVIDER)),
+                List.of(new Filter(tag("env"), Set.of("qa"))), null, 10));
+
+        // Then
+        assertThat(missingTag.matchedRows()).isZero();
+        assertThat(missingTag.groups()).isEmpty();
+        assertThat(missingValue.matchedRows()).isZero();
+        assertThat(missingValue.totalGroups()).isZero();
+        assertThat(missingValue.groups()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("혼합 기수 key 에서 차원별 값을 복원하고 값 없음은 null 로 돌려준다")
+    void aggregate_DecodesMixedRadixKeys() {
+        // Given
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            rows.add(row("t1", "aws", "r1", 1.0, Map.of("env", "prod")));
+        }
+        for (int i = 0; i < 2; i++) {
+            rows.add(row("t2", "gcp", "r2", 1.0, Map.of("env", "dev")));
+        }
+        rows.add(row("t1", "aws", "r2", 1.0, Map.of()));
+        ResourceCostProjection projection = project(rows);
+
+        // When
+        Result result = new CostExplorerEngine(parallelPool).aggregate(projection, query(
+                List.of(dim(CostDimension.REGION), dim(CostDimension.TENANT), tag("env")), List.of(), null, 10));
+
+        // Then
+        assertThat(result.matchedRows()).isEqualTo(6);
+        assertThat(result.totalGroups()).isEqualTo(3);
+        assertThat(result.groups()).extracting(Group::values).containsExactly(
+                Arrays.asList("r1", "t1", "prod"), Arrays.asList("r2", "t2", "dev"), Arrays.asList("r2", "t1", null));
+        assertThat(result.groups()).extracting(Group::count).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("NaN 측정값은 합계와 개수에서 빠지지만 행 수에는 들어간다")
+    void aggregate_SkipsNaNMeasures() {
+        // Given
+        ResourceCostProjection projection = ResourceCostProjection.builder(16)
+                .add(values("t1", "aws", "r1"), 1.0, null, 4, null, Map.of())
+                .add(values("t1", "aws", "r1"), null, null, null, 100L, Map.of())
+                .add(values("t1", "aws", "r1"), 2.5, null, 8, null, Map.of())
+                .build(LocalDateTime.now());
+
+        // When
+        Result result = new CostExplorerEngine(parallelPool).aggregate(projection,
+                query(List.of(dim(CostDimension.PROVIDER)), List.of(), CostMeasure.COST_PER_HOUR, 10));
+
+        // Then
+        Group aws = result.groups().get(0);
+        assertThat(aws.count()).isEqualTo(3);
+        assertThat(aws.sums()).containsExactly(3.5, 0.0, 12.0, 100.0);
+        assertThat(aws.counts()).containsExactly(2L, 0L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("상위 N 은 정렬 기준 내림차순이고 N 밖의 그룹은 모두 N 번째 이하다")
+    void aggregate_TopNOrdering() {
+        // Given
+        List<Row> rows = randomRows(new Random(9), 50_000);
+        ResourceCostProjection projection = project(rows);
+        Query query = query(List.of(dim(CostDimension.TENANT)), List.of(), CostMeasure.COST_PER_HOUR, 5);
+
+        // When
+        Result result = new CostExplorerEngine(parallelPool).aggregate(projection, query);
+
+        // Then
+        List<Double> costs = result.groups().stream().map(group -> group.sums()[0]).toList();
+        assertThat(costs).hasSize(5).isSortedAccordingTo(Comparator.reverseOrder());
+        double fifth = costs.get(4);
+        naiveGroupBy(rows, query).forEach((values, stats) -> {
+            boolean returned = result.groups().stream().anyMatch(group -> group.values().equals(values));
+            if (!returned) {
+                assertThat(stats.sums[0]).isLessThanOrEqualTo(fifth + 1e-6);
+            }
+        });
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("벤치마크: 500만 행 투영 메모리와 group-by 지연시간")
+    void benchmark_FiveMillionRows() {
+        // Given
+        Random random = new Random(42);
+        long buildStart = System.nanoTime();
+        ResourceCostProjection.Builder builder = ResourceCostProjection.builder(256);
+        for (int i = 0; i < 5_000_000; i++) {
+            Row row = randomRow(random, i);
+            builder.add(row.values, row.cost, row.cpu, row.memory, row.storage, row.tags);
+        }
+        ResourceCostProjection projection = builder.build(LocalDateTime.now());
+        System.out.printf("build=%.1fs projection=%.1fMB%n",
+                (System.nanoTime() - buildStart) / 1e9, projection.sizeInBytes() / 1_000_000.0);
+        CostExplorerEngine engine = new CostExplorerEngine(ForkJoinPool.commonPool());
+
+        // When & Then
+        time("provider x region by cost", () -> engine.aggregate(projection, query(
+                List.of(dim(CostDimension.PROVIDER), dim(CostDimension.REGION)), List.of(),
+                CostMeasure.COST_PER_HOUR, 100)));
+        time("tenant x team (sparse), provider filter", () -> engine.aggregate(projection, query(
+                List.of(dim(CostDimension.TENANT), tag("team")),
+                List.of(new Filter(dim(CostDimension.PROVIDER), Set.of("aws"))), null, 100)));
+        time("owner x region (hash groups)", () -> engine.aggregate(projection, query(
+                List.of(tag("owner"), dim(CostDimension.REGION)), List.of(), CostMeasure.MEMORY_GB, 100)));
+        assertThat(projection.rows()).isEqualTo(5_000_000);
+    }
+
+    private static void assertMatches(Result result, Map<List<String>, Stats> expected, Query query) {
+        long expectedRows = expected.values().stream().mapToLong(stats -> stats.rows).sum();
+        assertThat(result.matchedRows()).isEqualTo(expectedRows);
+        assertThat(result.totalGroups()).isEqualTo(expected.size());
+
+        Comparator<Stats> order = query.sortBy() == null
+                ? Comparator.comparingLong(stats -> stats.rows)
+                : Comparator.comparingDouble(stats -> stats.sums[query.sortBy().ordinal()]);
+        List<Stats> ranked = expected.values().stream().sorted(order.reversed()).limit(query.limit()).toList();
+        assertThat(result.groups()).hasSameSizeAs(ranked);
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            Group group = result.groups().get(rank);
+            Stats stats = expected.get(group.values());
+            assertThat(stats).as("group %s", group.values()).isNotNull();
+            assertThat(group.count()).isEqualTo(stats.rows);
+            assertThat(group.counts()).containsExactly(stats.counts);
+            for (int m = 0; m < stats.sums.length; m++) {
+                assertThat(group.sums()[m]).isCloseTo(stats.sums[m], within(tolerance(stats.sums[m])));
+            }
+            // same ranking key at every position, so ties may swap groups but never change the sequence
+            if (query.sortBy() == null) {
+                assertThat(group.count()).isEqualTo(ranked.get(rank).rows);
+            } else {
+                double expectedKey = ranked.get(rank).sums[query.sortBy().ordinal()];
+                assertThat(group.sums()[query.sortBy().ordinal()]).isCloseTo(expectedKey,
+                        within(tolerance(expectedKey)));
+            }
+        }
+    }
+
+    private static Map<List<String>, Stats> naiveGroupBy(List<Row> rows, Query query) {
+        Map<List<String>, Stats> groups = new HashMap<>();
+        for (Row row : rows) {
+            boolean selected = true;
+            for (Filter filter : query.filters()) {
+                String value = row.value(filter.dimension());
+                selected &= value != null && filter.values().contains(value);
+            }
+            if (!selected) {
+                continue;
+            }
+            List<String> key = new ArrayList<>(query.groupBy().size());
+            for (Dimension dimension : query.groupBy()) {
+                key.add(row.value(dimension));
+            }
+            groups.computeIfAbsent(key, k -> new Stats()).add(row);
+        }
+        return groups;
+    }
+
+    private static double tolerance(double expected) {
+        return 1e-9 * Math.max(1.0, Math.abs(expected));
+    }
+
+    private static ResourceCostProjection project(List<Row> rows) {
+        ResourceCostProjection.Builder builder = ResourceCostProjection.builder(256);
+        for (Row row : rows) {
+            builder.add(row.values, row.cost, row.cpu, row.memory, row.storage, row.tags);
+        }
+        return builder.build(LocalDateTime.now());
+    }
+
+    private static List<Row> randomRows(Random random, int count) {
+        List<Row> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(randomRow(random, i));
+        }
+        return rows;
+    }
+
+    /**
+     * 테넌트 50 / 리전 300(short 열) / 리소스 유형 1000 / env 는 모든 행(byte 열), team 은 약 3% 행(희소 열),
+     * owner 는 8만 종(int 열). 측정값은 각각 약 10% 가 NaN 이다.
+     */
+    private static Row randomRow(Random random, int index) {
+        String[] values = {
+                "tenant-" + random.nextInt(50),
+                PROVIDERS[random.nextInt(PROVIDERS.length)],
+                "region-" + random.nextInt(300),
+                "service-" + random.nextInt(20),
+                "type-" + random.nextInt(1_000),
+                STATES[random.nextInt(STATES.length)]};
+        Map<String, String> tags = new HashMap<>();
+        tags.put("env", random.nextBoolean() ? "prod" : "dev");
+        tags.put("owner", "owner-" + index % 80_000);
+        if (random.nextInt(32) == 0) {
+            tags.put("team", "team-" + random.nextInt(5));
+        }
+        return new Row(values,
+                random.nextInt(10) == 0 ? null : random.nextInt(100_000) / 100.0,
+                random.nextInt(10) == 0 ? null : 1 + random.nextInt(64),
+                random.nextInt(10) == 0 ? null : 1 + random.nextInt(256),
+                random.nextInt(10) == 0 ? null : (long) random.nextInt(2_000),
+                tags);
+    }
+
+    private static Row row(String tenant, String provider, String region, Double cost, Map<String, String> tags) {
+        return new Row(values(tenant, provider, region), cost, null, null, null, tags);
+    }
+
+    private static String[] values(String tenant, String provider, String region) {
+        return new String[]{tenant, provider, region, "compute", "vm", "RUNNING"};
+    }
+
+    private static Query query(List<Dimension> groupBy, List<Filter> filters, CostMeasure sortBy, int limit) {
+        return new Query(groupBy, filters, sortBy, limit);
+    }
+
+    private static Dimension dim(CostDimension dimension) {
+        return new Dimension(dimension, null);
+    }
+
+    private static Dimension tag(String key) {
+        return new Dimension(CostDimension.TAG, key);
+    }
+
+    private static void time(String label, Supplier<?> query) {
+        for (int i = 0; i < 5; i++) {
+            query.get();
+        }
+        long[] samples = new long[20];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        System.out.printf("  %-48s median=%8.1fms%n", label, samples[samples.length / 2] / 1_000_000.0);
+    }
+
+    private record Row(String[] values, Double cost, Integer cpu, Integer memory, Long storage,
+                       Map<String, String> tags) {
+
+        String value(Dimension dimension) {
+            return dimension.dimension() == CostDimension.TAG
+                    ? tags.get(dimension.tagKey())
+                    : values[dimension.dimension().ordinal()];
+        }
+    }
+
+    private static final class Stats {
+
+        private long rows;
+        private final double[] sums = new double[CostMeasure.values().length];
+        private final long[] counts = new long[CostMeasure.values().length];
+
+        void add(Row row) {
+            rows++;
+            accumulate(0, row.cost());
+            accumulate(1, row.cpu() != null ? row.cpu().doubleValue() : null);
+            accumulate(2, row.memory() != null ? row.memory().doubleValue() : null);
+            accumulate(3, row.storage() != null ? row.storage().doubleValue() : null);
+        }
+
+        private void accumulate(int measure, Double value) {
+            if (value != null) {
+                sums[measure] += value;
+                counts[measure]++;
+            }
+        }
+    }
+}
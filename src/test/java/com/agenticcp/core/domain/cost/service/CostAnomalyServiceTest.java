@@ -0,0 +1,160 @@
+package com.agenticcp.core.domain.cost.service;
+
+import com.agenticcp.core.domain.cost.anomaly.CostAnomalyProperties;
+import com.agenticcp.core.domain.cost.entity.CostAnomaly;
+import com.agenticcp.core.domain.cost.entity.CostAnomaly.AnomalyStatus;
+import com.agenticcp.core.domain.cost.event.CostAnomalyDetectedEvent;
+import com.agenticcp.core.domain.cost.repository.CostAnomalyRepository;
+import com.agenticcp.core.domain.cost.repository.ResourceCostRateRepository;
+import com.agenticcp.core.domain.cost.repository.ResourceCostRateRepository.ServiceSpendConsumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 저장소를 대역으로 바꿔, 급증한 시리즈의 리소스를 모두 멈추면 다음 시간에 OPEN 이상이 RESOLVED 로 닫히고
+ * 재기동한 서비스가 체크포인트로 기준선을 이어받는지 검증한다.
+ */
+class CostAnomalyServiceTest {
+
+    private static final long HOUR = 490_000;
+
+    @TempDir
+    Path directory;
+
+    private final ResourceCostRateRepository costRateRepository = mock(ResourceCostRateRepository.class);
+    private final CostAnomalyRepository anomalyRepository = mock(CostAnomalyRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final Map<Long, Double> spendByService = new HashMap<>();
+    private final List<CostAnomaly> saved = new ArrayList<>();
+
+    @Test
+    @DisplayName("급증한 시리즈의 실행 중 리소스가 사라져도 다음 시간에 0 으로 관측해 OPEN 이상을 닫는다")
+    void observeHour_ResolvesAnomalyAfterResourcesStop() {
+        // Given
+        stubRepositories();
+        CostAnomalyService service = createService();
+        spendByService.put(3L, 10.0);
+        spendByService.put(4L, 5.0);
+        for (long hour = HOUR; hour < HOUR + 10; hour++) {
+            service.observeHour(hour);
+        }
+        spendByService.put(3L, 40.0);
+        service.observeHour(HOUR + 10);
+        assertThat(saved).singleElement().satisfies(anomaly -> {
+            assertThat(anomaly.getCloudServiceId()).isEqualTo(3L);
+            assertThat(anomaly.getStatus()).isEqualTo(AnomalyStatus.OPEN);
+        });
+        verify(eventPublisher, times(1)).publishEvent(any(CostAnomalyDetectedEvent.class));
+
+        // When: 서비스 3 의 리소스를 모두 멈춰 집계 결과에서 빠짐
+        spendByService.remove(3L);
+        service.observeHour(HOUR + 11);
+
+        // Then
+        CostAnomaly anomaly = saved.get(0);
+        assertThat(anomaly.getStatus()).isEqualTo(AnomalyStatus.RESOLVED);
+        assertThat(anomaly.getResolvedAt()).isEqualTo(hourStart(HOUR + 11));
+        assertThat(saved).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("재기동한 서비스는 체크포인트의 기준선으로 학습 구간 없이 바로 이상을 탐지한다")
+    void restart_ContinuesFromCheckpoint() {
+        // Given
+        stubRepositories();
+        CostAnomalyService first = createService();
+        spendByService.put(3L, 10.0);
+        for (long hour = HOUR; hour < HOUR + 10; hour++) {
+            first.observeHour(hour);
+        }
+        first.shutdown();
+        assertThat(Files.exists(directory.resolve("baselines.bin"))).isTrue();
+
+        // When
+        CostAnomalyService restarted = createService();
+        spendByService.put(3L, 40.0);
+        restarted.observeHour(HOUR + 10);
+
+        // Then
+        assertThat(restarted.getDetectorStats().series()).isEqualTo(1);
+        assertThat(saved).singleElement()
+                .satisfies(anomaly -> assertThat(anomaly.getHourStart()).isEqualTo(hourStart(HOUR + 10)));
+    }
+
+    private CostAnomalyService createService() {
+        CostAnomalyProperties properties = new CostAnomalyProperties();
+        properties.setMaxSeries(16);
+        properties.setWarmupHours(3);
+        properties.setCheckpointPath(directory.resolve("baselines.bin").toString());
+        return new CostAnomalyService(costRateRepository, anomalyRepository, properties, eventPublisher,
+                new NoOpTransactionManager());
+    }
+
+    private void stubRepositories() {
+        doAnswer(invocation -> {
+            ServiceSpendConsumer consumer = invocation.getArgument(1);
+            spendByService.forEach((serviceId, spend) -> consumer.accept(7L, serviceId, spend));
+            return null;
+        }).when(costRateRepository).streamRunningSpendByService(anyInt(), any());
+        when(anomalyRepository.save(any(CostAnomaly.class))).thenAnswer(invocation -> {
+            CostAnomaly anomaly = invocation.getArgument(0);
+            saved.add(anomaly);
+            return anomaly;
+        });
+        when(anomalyRepository.findFirstByTenantIdAndCloudServiceIdAndStatusOrderByIdDesc(
+                eq(7L), anyLong(), eq(AnomalyStatus.OPEN))).thenAnswer(invocation -> {
+                    Long serviceId = invocation.getArgument(1);
+                    return saved.stream()
+                            .filter(anomaly -> anomaly.getCloudServiceId().equals(serviceId)
+                                    && anomaly.getStatus() == AnomalyStatus.OPEN)
+                            .reduce((previous, next) -> next);
+                });
+    }
+
+    private static LocalDateTime hourStart(long epochHour) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochHour * 3_600), ZoneId.systemDefault());
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
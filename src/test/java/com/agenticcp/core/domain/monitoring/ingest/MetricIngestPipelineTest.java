@@ -0,0 +1,182 @@
+package com.agenticcp.core.domain.monitoring.ingest;
+
+import com.agenticcp.core.domain.monitoring.dto.MetricIngestStatus;
+import com.agenticcp.core.domain.monitoring.dto.MetricSampleBatch;
+import com.agenticcp.core.domain.monitoring.entity.ResourceMetricRollup.UtilizationMetric;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소를 메모리 대역으로 바꿔 수집 파이프라인의 배치 단위 거절, 분 단위 집계, 지연/미래/상한 초과 샘플 폐기,
+ * 종료 시 드레인을 검증한다.
+ */
+class MetricIngestPipelineTest {
+
+    private final List<MetricRollup> written = Collections.synchronizedList(new ArrayList<>());
+    private MetricIngestPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("시작 전에는 UNAVAILABLE, 링 버퍼 여유보다 큰 배치는 한 샘플도 받지 않고 THROTTLED 로 거절한다")
+    void offer_RejectsWholeBatch() {
+        // Given
+        pipeline = create(properties(16, 100));
+        long now = nowSecond();
+        assertThat(pipeline.offer(batch(17, now))).isEqualTo(MetricIngestPipeline.Outcome.UNAVAILABLE);
+        pipeline.start();
+
+        // When
+        MetricIngestPipeline.Outcome oversized = pipeline.offer(batch(17, now));
+        MetricIngestPipeline.Outcome fits = pipeline.offer(batch(16, now));
+        pipeline.stop();
+
+        // Then
+        assertThat(oversized).isEqualTo(MetricIngestPipeline.Outcome.THROTTLED);
+        assertThat(fits).isEqualTo(MetricIngestPipeline.Outcome.ACCEPTED);
+        assertThat(pipeline.getMaxBatchSamples()).isEqualTo(16);
+        assertThat(written.stream().mapToInt(MetricRollup::count).sum()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("샘플을 (리소스, 메트릭, 분) 단위로 접고 종료 시 열린 분까지 모두 저장소에 내린다")
+    void stop_DrainsFoldedMinutes() {
+        // Given
+        pipeline = create(properties(1024, 100));
+        pipeline.start();
+        long now = nowSecond();
+        long previousMinute = now - 60;
+
+        // When: 링 버퍼보다 많은 샘플을 여러 배치로 보내 여러 바퀴 돌게 한다
+        int accepted = 0;
+        for (int round = 0; round < 50; round++) {
+            MetricSampleBatch batch = new MetricSampleBatch(
+                    new long[]{1, 1, 2, 1},
+                    new UtilizationMetric[]{UtilizationMetric.CPU, UtilizationMetric.CPU,
+                            UtilizationMetric.CPU, UtilizationMetric.MEMORY},
+                    new long[]{now, now, now, previousMinute},
+                    new float[]{round, 100 - round, 50, 10});
+            for (int repeat = 0; repeat < 10; repeat++) {
+                while (pipeline.offer(batch) != MetricIngestPipeline.Outcome.ACCEPTED) {
+                    Thread.onSpinWait();
+                }
+                accepted += batch.size();
+            }
+        }
+        pipeline.stop();
+
+        // Then
+        assertThat(accepted).isGreaterThan(1024);
+        assertThat(written).hasSize(3);
+        MetricRollup cpu = find(1, UtilizationMetric.CPU, now / 60);
+        assertThat(cpu.count()).isEqualTo(1000);
+        assertThat(cpu.sum()).isEqualTo(50_000.0);
+        assertThat(cpu.min()).isEqualTo(0f);
+        assertThat(cpu.max()).isEqualTo(100f);
+        assertThat(find(2, UtilizationMetric.CPU, now / 60).count()).isEqualTo(500);
+        assertThat(find(1, UtilizationMetric.MEMORY, previousMinute / 60).count()).isEqualTo(500);
+        assertThat(pipeline.offer(batch(1, now))).isEqualTo(MetricIngestPipeline.Outcome.UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("허용 지연보다 오래된 샘플, 다음 분보다 미래인 샘플, 분당 시계열 상한을 넘는 샘플을 사유별로 센다")
+    void aggregate_CountsDroppedSamplesByReason() {
+        // Given
+        pipeline = create(properties(1024, 2));
+        pipeline.start();
+        long now = nowSecond();
+
+        // When
+        pipeline.offer(new MetricSampleBatch(
+                new long[]{1, 2, 3, 4, 5, 6},
+                new UtilizationMetric[]{UtilizationMetric.CPU, UtilizationMetric.CPU, UtilizationMetric.CPU,
+                        UtilizationMetric.CPU, UtilizationMetric.CPU, UtilizationMetric.CPU},
+                // 2038 이후 epoch 초도 int 로 잘려 과거가 되지 않고 미래로 분류되어야 한다
+                new long[]{now, now, now, now - 600, now + 600, 1L << 32},
+                new float[]{1, 1, 1, 1, 1, 1}));
+        pipeline.stop();
+
+        // Then
+        MetricIngestStatus status = pipeline.getStatus();
+        assertThat(status.getDroppedOverflow()).isEqualTo(1);
+        assertThat(status.getDroppedLate()).isEqualTo(1);
+        assertThat(status.getDroppedFuture()).isEqualTo(2);
+        assertThat(written).extracting(MetricRollup::cloudResourceId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    private MetricIngestPipeline create(MetricIngestProperties properties) {
+        MetricRollupSink sink = written::addAll;
+        return new MetricIngestPipeline(properties, List.of(sink), new NoOpTransactionManager(),
+                new SimpleMeterRegistry());
+    }
+
+    private static MetricIngestProperties properties(int ringCapacity, int maxSeriesPerMinute) {
+        MetricIngestProperties properties = new MetricIngestProperties();
+        properties.setRingCapacity(ringCapacity);
+        properties.setMaxSeriesPerMinute(maxSeriesPerMinute);
+        // wide enough that a minute boundary during the test never turns the previous-minute samples late
+        properties.setAllowedLateness(Duration.ofMinutes(5));
+        properties.setFlushRetryDelay(Duration.ofMillis(10));
+        return properties;
+    }
+
+    private static MetricSampleBatch batch(int size, long epochSecond) {
+        long[] resourceIds = new long[size];
+        UtilizationMetric[] metrics = new UtilizationMetric[size];
+        long[] timestamps = new long[size];
+        float[] values = new float[size];
+        for (int i = 0; i < size; i++) {
+            resourceIds[i] = i + 1;
+            metrics[i] = UtilizationMetric.CPU;
+            timestamps[i] = epochSecond;
+            values[i] = 1;
+        }
+        return new MetricSampleBatch(resourceIds, metrics, timestamps, values);
+    }
+
+    private MetricRollup find(long resourceId, UtilizationMetric metric, long epochMinute) {
+        return written.stream()
+                .filter(rollup -> rollup.cloudResourceId() == resourceId && rollup.metric() == metric
+                        && rollup.epochMinute() == epochMinute)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static long nowSecond() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
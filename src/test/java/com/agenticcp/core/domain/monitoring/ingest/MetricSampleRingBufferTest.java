@@ -0,0 +1,142 @@
+package com.agenticcp.core.domain.monitoring.ingest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 링 버퍼의 배치 단위 점유/거절, 회차 번호에 의한 공개 순서 보장, 다중 생산자 동시 점유를 검증한다.
+ */
+class MetricSampleRingBufferTest {
+
+    @Test
+    @DisplayName("용량을 2의 거듭제곱으로 올리고 여유 공간보다 큰 배치는 일부도 점유하지 않는다")
+    void tryClaim_RejectsWholeBatchWhenFull() {
+        // Given
+        MetricSampleRingBuffer ring = new MetricSampleRingBuffer(6);
+        assertThat(ring.capacity()).isEqualTo(8);
+        long first = ring.tryClaim(6);
+
+        // When
+        long rejected = ring.tryClaim(3);
+        long fits = ring.tryClaim(2);
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(rejected).isEqualTo(-1);
+        assertThat(fits).isEqualTo(6);
+        assertThat(ring.size()).isEqualTo(8);
+        assertThat(ring.tryClaim(1)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("여러 바퀴를 돌아도 쓴 순서대로 소비하고 소비한 만큼 다시 점유할 수 있다")
+    void drain_KeepsOrderAcrossLaps() {
+        // Given
+        MetricSampleRingBuffer ring = new MetricSampleRingBuffer(4);
+        List<Long> consumed = new ArrayList<>();
+
+        // When: 3개씩 써서 매번 경계를 넘으며 10바퀴 이상 돈다
+        for (long next = 0; next < 150; next += 3) {
+            long sequence = ring.tryClaim(3);
+            assertThat(sequence).isEqualTo(next);
+            for (int i = 0; i < 3; i++) {
+                ring.write(sequence + i, sequence + i, i, (int) (sequence + i), i);
+            }
+            ring.publish(sequence, 3);
+            ring.drain((resourceId, metric, secondOffset, value) -> {
+                assertThat(secondOffset).isEqualTo((int) resourceId);
+                consumed.add(resourceId);
+            }, 2);
+            ring.drain((resourceId, metric, secondOffset, value) -> consumed.add(resourceId), 16);
+        }
+
+        // Then
+        assertThat(consumed).hasSize(150);
+        for (int i = 0; i < consumed.size(); i++) {
+            assertThat(consumed.get(i)).isEqualTo(i);
+        }
+        assertThat(ring.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("앞 구간이 공개되기 전에는 뒤에 공개된 구간도 소비하지 않는다")
+    void drain_StopsAtFirstUnpublishedSlot() {
+        // Given
+        MetricSampleRingBuffer ring = new MetricSampleRingBuffer(8);
+        long first = ring.tryClaim(2);
+        long second = ring.tryClaim(2);
+        for (int i = 0; i < 4; i++) {
+            ring.write(i, i, 0, 0, 0f);
+        }
+        List<Long> consumed = new ArrayList<>();
+
+        // When
+        ring.publish(second, 2);
+        int beforeFirst = ring.drain((resourceId, metric, secondOffset, value) -> consumed.add(resourceId), 16);
+        ring.publish(first, 2);
+        int afterFirst = ring.drain((resourceId, metric, secondOffset, value) -> consumed.add(resourceId), 16);
+
+        // Then
+        assertThat(beforeFirst).isZero();
+        assertThat(afterFirst).isEqualTo(4);
+        assertThat(consumed).containsExactly(0L, 1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 점유해도 샘플을 잃거나 섞지 않고 생산자별 순서를 지킨다")
+    void concurrentProducers_LoseNoSample() throws Exception {
+        // Given
+        MetricSampleRingBuffer ring = new MetricSampleRingBuffer(1024);
+        int producers = 4;
+        int batches = 2_000;
+        int batchSize = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        long[] lastSeen = new long[producers];
+        Arrays.fill(lastSeen, -1);
+        long[] consumed = new long[1];
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            futures.add(executor.submit(() -> {
+                for (int b = 0; b < batches; b++) {
+                    long sequence;
+                    while ((sequence = ring.tryClaim(batchSize)) < 0) {
+                        Thread.onSpinWait();
+                    }
+                    for (int i = 0; i < batchSize; i++) {
+                        ring.write(sequence + i, (long) producer << 32 | (b * batchSize + i), producer, 0, 0f);
+                    }
+                    ring.publish(sequence, batchSize);
+                }
+            }));
+        }
+        long expected = (long) producers * batches * batchSize;
+        while (consumed[0] < expected) {
+            ring.drain((resourceId, metric, secondOffset, value) -> {
+                long index = resourceId & 0xFFFFFFFFL;
+                assertThat(index).isEqualTo(lastSeen[metric] + 1);
+                lastSeen[metric] = index;
+                consumed[0]++;
+            }, 256);
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(lastSeen).containsOnly((long) batches * batchSize - 1);
+        assertThat(ring.size()).isZero();
+    }
+}
@@ -0,0 +1,85 @@
+package com.agenticcp.core.domain.monitoring.ingest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 1분 집계표의 (리소스, 메트릭)별 count/sum/min/max 누적, 시계열 수 상한, 재사용 초기화를 검증한다.
+ */
+class MinuteRollupTableTest {
+
+    @Test
+    @DisplayName("같은 시계열의 샘플을 한 행으로 접고 리소스 0 / 메트릭 0 도 구분한다")
+    void add_FoldsSamplesPerSeries() {
+        // Given
+        MinuteRollupTable table = new MinuteRollupTable(100);
+        table.reset(42);
+
+        // When
+        table.add(0, 0, 10f);
+        table.add(0, 0, 30f);
+        table.add(0, 1, 5f);
+        table.add(7, 3, 50f);
+        table.add(7, 3, 20f);
+        table.add(7, 3, 80f);
+        Map<String, String> rows = collect(table);
+
+        // Then
+        assertThat(table.epochMinute()).isEqualTo(42);
+        assertThat(table.size()).isEqualTo(3);
+        assertThat(rows).containsOnly(
+                Map.entry("0/0", "2 40.0 10.0 30.0"),
+                Map.entry("0/1", "1 5.0 5.0 5.0"),
+                Map.entry("7/3", "3 150.0 20.0 80.0"));
+    }
+
+    @Test
+    @DisplayName("시계열 수 상한을 넘는 새 시계열은 거절하지만 기존 시계열에는 계속 누적한다")
+    void add_RejectsNewSeriesBeyondLimit() {
+        // Given
+        MinuteRollupTable table = new MinuteRollupTable(2);
+        table.reset(1);
+        table.add(1, 0, 1f);
+        table.add(2, 0, 1f);
+
+        // When
+        boolean overflow = table.add(3, 0, 1f);
+        boolean existing = table.add(1, 0, 2f);
+
+        // Then
+        assertThat(overflow).isFalse();
+        assertThat(existing).isTrue();
+        assertThat(collect(table)).containsOnlyKeys("1/0", "2/0").containsEntry("1/0", "2 3.0 1.0 2.0");
+    }
+
+    @Test
+    @DisplayName("재사용하려고 초기화하면 이전 분의 시계열을 모두 비운다")
+    void reset_ClearsPreviousMinute() {
+        // Given
+        MinuteRollupTable table = new MinuteRollupTable(16);
+        table.reset(1);
+        for (int id = 0; id < 16; id++) {
+            table.add(id, 2, 1f);
+        }
+
+        // When
+        table.reset(2);
+        table.add(99, 2, 7f);
+
+        // Then
+        assertThat(table.size()).isEqualTo(1);
+        assertThat(collect(table)).containsOnly(Map.entry("99/2", "1 7.0 7.0 7.0"));
+    }
+
+    private static Map<String, String> collect(MinuteRollupTable table) {
+        Map<String, String> rows = new HashMap<>();
+        table.forEach((resourceId, metric, count, sum, min, max) ->
+                rows.put(resourceId + "/" + metric, count + " " + sum + " " + min + " " + max));
+        return rows;
+    }
+}
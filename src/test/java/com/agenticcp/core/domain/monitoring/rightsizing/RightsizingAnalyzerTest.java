@@ -0,0 +1,220 @@
+package com.agenticcp.core.domain.monitoring.rightsizing;
+
+import com.agenticcp.core.common.timeseries.TimeSeriesPoint;
+import com.agenticcp.core.domain.monitoring.entity.ResourceMetricRollup.UtilizationMetric;
+import com.agenticcp.core.domain.monitoring.entity.RightsizingRecommendation.Finding;
+import com.agenticcp.core.domain.monitoring.ingest.ResourceMetricSeries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용률 이력으로 유휴/과다 할당/적정/데이터 부족을 가르는 각 분기와, 2의 거듭제곱 단위 축소 크기, 큰 축소 비율에
+ * 비례한 월 절감액 추정을 검증한다 (기본 설정: 유휴 p95 5% / 최대 20%, 과다 CPU 40% / 메모리 50%, 목표 70%).
+ */
+class RightsizingAnalyzerTest {
+
+    private static final long RESOURCE_ID = 1L;
+    private static final long LAST_EPOCH_SECOND = 1_790_000_000L;
+    private static final int FIELD_COUNT = UtilizationMetric.values().length * 2;
+
+    private final ResourceMetricSeries resourceMetricSeries = mock(ResourceMetricSeries.class);
+    private final RightsizingProperties properties = new RightsizingProperties();
+    private final RightsizingAnalyzer analyzer = new RightsizingAnalyzer(resourceMetricSeries, properties);
+
+    @Test
+    @DisplayName("p95 와 최대 CPU 가 모두 유휴 기준 아래면 IDLE 이고 월 비용 전체를 절감액으로 본다")
+    void score_IdleWhenP95AndPeakAreLow() {
+        // Given
+        history(hourly(48, 2, 10, 30));
+
+        // When
+        RightsizingResult result = analyzer.score(candidate(16, 64, "1.00"), LAST_EPOCH_SECOND);
+
+        // Then
+        assertThat(result.finding()).isEqualTo(Finding.IDLE);
+        assertThat(result.cpuP95()).isEqualTo(2.0);
+        assertThat(result.cpuPeak()).isEqualTo(10.0);
+        assertThat(result.memoryP95()).isEqualTo(30.0);
+        assertThat(result.recommendedCpuCores()).isNull();
+        assertThat(result.recommendedMemoryGb()).isNull();
+        assertThat(result.estimatedMonthlySaving()).isEqualByComparingTo("730.00");
+        assertThat(result.metricsThrough()).isEqualTo(localTime(LAST_EPOCH_SECOND));
+    }
+
+    @Test
+    @DisplayName("p95 가 낮아도 최대 CPU 가 높으면 유휴가 아니라 과다 할당으로 본다")
+    void score_PeakKeepsResourceOutOfIdle() {
+        // Given
+        history(hourly(48, 2, 60, 10));
+
+        // When
+        RightsizingResult result = analyzer.score(candidate(16, 64, "1.00"), LAST_EPOCH_SECOND);
+
+        // Then
+        assertThat(result.finding()).isEqualTo(Finding.OVERSIZED);
+        assertThat(result.cpuPeak()).isEqualTo(60.0);
+    }
+
+    @Test
+    @DisplayName("과다 할당이면 p95 가 목표 사용률이 되는 크기를 2의 거듭제곱으로 올림하고, 절감액은 큰 축소 비율을 따른다")
+    void score_OversizedDownsizesToPowersOfTwo() {
+        // Given: CPU 16 * 10 / 70 = 2.3 -> 4 코어, 메모리 64 * 30 / 70 = 27.4 -> 32 GB
+        history(hourly(48, 10, 25, 30));
+
+        // When
+        RightsizingResult result = analyzer.score(candidate(16, 64, "1.00"), LAST_EPOCH_SECOND);
+
+        // Then: 4/16 과 32/64 중 큰 0.5 로 비용이 줄어든다고 본다
+        assertThat(result.finding()).isEqualTo(Finding.OVERSIZED);
+        assertThat(result.recommendedCpuCores()).isEqualTo(4);
+        assertThat(result.recommendedMemoryGb()).isEqualTo(32);
+        assertThat(result.estimatedMonthlySaving()).isEqualByComparingTo("365.00");
+    }
+
+    @Test
+    @DisplayName("p95 는 상위 5% 의 짧은 급등을 무시하고 최대값은 급등을 그대로 반영한다")
+    void score_P95IgnoresShortSpikes() {
+        // Given: 95 개 점은 CPU 10%, 5 개 점은 90%
+        List<TimeSeriesPoint> points = hourly(100, 10, 15, 20);
+        for (int i = 0; i < 5; i++) {
+            points.set(i * 20, point(points.get(i * 20).epochSecond(), 90, 95, 20));
+        }
+        history(points);
+
+        // When
+        RightsizingResult result = analyzer.score(candidate(8, 32, "0.50"), LAST_EPOCH_SECOND);
+
+        // Then: 8 * 10 / 70 = 1.1 -> 2 코어, 32 * 20 / 70 = 9.1 -> 16 GB
+        assertThat(result.cpuP95()).isEqualTo(10.0);
+        assertThat(result.cpuPeak()).isEqualTo(95.0);
+        assertThat(result.finding()).isEqualTo(Finding.OVERSIZED);
+        assertThat(result.recommendedCpuCores()).isEqualTo(2);
+        assertThat(result.recommendedMemoryGb()).isEqualTo(16);
+        assertThat(result.estimatedMonthlySaving()).isEqualByComparingTo("182.50");
+    }
+
+    @Test
+    @DisplayName("CPU 나 메모리 중 하나라도 과다 기준 이상이면 OPTIMAL 이고 절감액이 없다")
+    void score_OptimalWhenEitherAxisIsBusy() {
+        // Given
+        history(hourly(48, 60, 80, 20));
+
+        // When
+        RightsizingResult busyCpu = analyzer.score(candidate(16, 64, "1.00"), LAST_EPOCH_SECOND);
+        history(hourly(48, 10, 25, 80));
+        RightsizingResult busyMemory = analyzer.score(candidate(16, 64, "1.00"), LAST_EPOCH_SECOND);
+
+        // Then
+        assertThat(busyCpu.finding()).isEqualTo(Finding.OPTIMAL);
+        assertThat(busyMemory.finding()).isEqualTo(Finding.OPTIMAL);
+        assertThat(List.of(busyCpu, busyMemory)).allSatisfy(result -> {
+            assertThat(result.recommendedCpuCores()).isNull();
+            assertThat(result.recommendedMemoryGb()).isNull();
+            assertThat(result.estimatedMonthlySaving()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("더 줄일 수 없는 크기이거나 메모리 사용률을 모르면 메모리 크기를 그대로 두어 OPTIMAL 로 본다")
+    void score_OptimalWhenNothingToShrink() {
+        // Given
+        history(hourly(48, 30, 50, Double.NaN));
+
+        // When
+        RightsizingResult singleCore = analyzer.score(candidate(1, null, "0.10"), LAST_EPOCH_SECOND);
+        RightsizingResult unknownMemory = analyzer.score(candidate(16, 64, "1.00"), LAST_EPOCH_SECOND);
+        RightsizingResult memorySizeUnknown = analyzer.score(candidate(16, null, "1.00"), LAST_EPOCH_SECOND);
+
+        // Then: 메모리 크기도 모르면 CPU 축소 비율만으로 판단한다 (16 * 30 / 70 = 6.9 -> 8 코어)
+        assertThat(singleCore.finding()).isEqualTo(Finding.OPTIMAL);
+        assertThat(unknownMemory.finding()).isEqualTo(Finding.OPTIMAL);
+        assertThat(unknownMemory.memoryP95()).isNull();
+        assertThat(memorySizeUnknown.finding()).isEqualTo(Finding.OVERSIZED);
+        assertThat(memorySizeUnknown.recommendedCpuCores()).isEqualTo(8);
+        assertThat(memorySizeUnknown.estimatedMonthlySaving()).isEqualByComparingTo("365.00");
+    }
+
+    @Test
+    @DisplayName("시간당 비용을 모르면 분류는 하되 절감액은 비워 둔다")
+    void score_NoSavingWithoutCost() {
+        // Given
+        history(hourly(48, 2, 10, 30));
+
+        // When
+        RightsizingResult result = analyzer.score(candidate(16, 64, null), LAST_EPOCH_SECOND);
+
+        // Then
+        assertThat(result.finding()).isEqualTo(Finding.IDLE);
+        assertThat(result.estimatedMonthlySaving()).isNull();
+    }
+
+    @Test
+    @DisplayName("점이 없거나 이력이 최소 기간보다 짧거나 CPU 값이 없으면 INSUFFICIENT_DATA 다")
+    void score_InsufficientData() {
+        // When & Then: 기록된 점이 없으면 기준 시각도 없다
+        RightsizingResult noPoints = analyzer.score(candidate(16, 64, "1.00"), Long.MIN_VALUE);
+        assertThat(noPoints.finding()).isEqualTo(Finding.INSUFFICIENT_DATA);
+        assertThat(noPoints.metricsThrough()).isNull();
+
+        history(hourly(12, 2, 10, 30));
+        RightsizingResult shortHistory = analyzer.score(candidate(16, 64, "1.00"), LAST_EPOCH_SECOND);
+        assertThat(shortHistory.finding()).isEqualTo(Finding.INSUFFICIENT_DATA);
+        assertThat(shortHistory.metricsThrough()).isEqualTo(localTime(LAST_EPOCH_SECOND));
+
+        history(hourly(48, Double.NaN, Double.NaN, 30));
+        RightsizingResult memoryOnly = analyzer.score(candidate(16, 64, "1.00"), LAST_EPOCH_SECOND);
+        assertThat(memoryOnly.finding()).isEqualTo(Finding.INSUFFICIENT_DATA);
+        assertThat(memoryOnly.cpuP95()).isNull();
+    }
+
+    private void history(List<TimeSeriesPoint> points) {
+        long from = LAST_EPOCH_SECOND - properties.getLookback().toSeconds();
+        when(resourceMetricSeries.query(eq(RESOURCE_ID), eq(from), anyLong())).thenReturn(points);
+    }
+
+    /**
+     * 마지막 점이 {@link #LAST_EPOCH_SECOND} 인 한 시간 간격의 점 {@code count} 개
+     */
+    private static List<TimeSeriesPoint> hourly(int count, double cpuAverage, double cpuMax, double memoryAverage) {
+        long step = Duration.ofHours(1).toSeconds();
+        List<TimeSeriesPoint> points = new ArrayList<>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            points.add(point(LAST_EPOCH_SECOND - i * step, cpuAverage, cpuMax, memoryAverage));
+        }
+        return points;
+    }
+
+    private static TimeSeriesPoint point(long epochSecond, double cpuAverage, double cpuMax, double memoryAverage) {
+        double[] values = new double[FIELD_COUNT];
+        Arrays.fill(values, Double.NaN);
+        values[ResourceMetricSeries.averageField(UtilizationMetric.CPU)] = cpuAverage;
+        values[ResourceMetricSeries.maxField(UtilizationMetric.CPU)] = cpuMax;
+        values[ResourceMetricSeries.averageField(UtilizationMetric.MEMORY)] = memoryAverage;
+        values[ResourceMetricSeries.maxField(UtilizationMetric.MEMORY)] = memoryAverage;
+        return new TimeSeriesPoint(epochSecond, values);
+    }
+
+    private static RightsizingCandidate candidate(Integer cpuCores, Integer memoryGb, String costPerHour) {
+        return new RightsizingCandidate(RESOURCE_ID, 10L, "m5.4xlarge", cpuCores, memoryGb,
+                costPerHour != null ? new BigDecimal(costPerHour) : null, null, null, null);
+    }
+
+    private static LocalDateTime localTime(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+    }
+}
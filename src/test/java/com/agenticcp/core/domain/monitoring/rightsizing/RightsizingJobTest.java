@@ -0,0 +1,289 @@
+package com.agenticcp.core.domain.monitoring.rightsizing;
+
+import com.agenticcp.core.common.config.JpaConfig;
+import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.common.timeseries.TimeSeriesPoint;
+import com.agenticcp.core.domain.cloud.entity.CloudProvider;
+import com.agenticcp.core.domain.cloud.entity.CloudResource;
+import com.agenticcp.core.domain.cloud.entity.CloudResource.LifecycleState;
+import com.agenticcp.core.domain.cloud.entity.CloudService;
+import com.agenticcp.core.domain.cloud.repository.CloudProviderRepository;
+import com.agenticcp.core.domain.cloud.repository.CloudResourceRepository;
+import com.agenticcp.core.domain.cloud.repository.CloudServiceRepository;
+import com.agenticcp.core.domain.monitoring.dto.RightsizingRunSummary;
+import com.agenticcp.core.domain.monitoring.entity.ResourceMetricRollup.UtilizationMetric;
+import com.agenticcp.core.domain.monitoring.entity.RightsizingRecommendation.Finding;
+import com.agenticcp.core.domain.monitoring.ingest.ResourceMetricSeries;
+import com.agenticcp.core.domain.monitoring.repository.RightsizingBatchRepository;
+import com.agenticcp.core.domain.tenant.entity.Tenant;
+import com.agenticcp.core.domain.tenant.repository.TenantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * H2 MySQL 호환 모드에서 실제 후보 스트리밍과 배치 upsert 로 분석 작업을 두 번 실행해, 두 번째 실행이 사양이나 사용률
+ * 시계열이 바뀌지 않은 리소스는 건너뛰고 바뀐 리소스만 같은 행에 다시 쓰며, 더 이상 실행 중이 아닌 리소스의 권고를
+ * 지우는지 검증한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:rightsizing;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+@Import({RightsizingBatchRepository.class, JpaConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RightsizingJobTest {
+
+    private static final long LAST_EPOCH_SECOND = 1_790_000_000L;
+    private static final int FIELD_COUNT = UtilizationMetric.values().length * 2;
+
+    @Autowired
+    private CloudProviderRepository cloudProviderRepository;
+
+    @Autowired
+    private CloudServiceRepository cloudServiceRepository;
+
+    @Autowired
+    private CloudResourceRepository cloudResourceRepository;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private RightsizingBatchRepository batchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ResourceMetricSeries resourceMetricSeries = mock(ResourceMetricSeries.class);
+    private final Map<Long, Long> lastEpochSeconds = new ConcurrentHashMap<>();
+    private final Map<Long, Double> cpuByResource = new ConcurrentHashMap<>();
+    private final RightsizingProperties properties = new RightsizingProperties();
+    private RightsizingJob job;
+    private CloudProvider provider;
+    private CloudService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM rightsizing_recommendations");
+        jdbcTemplate.update("DELETE FROM cloud_resources");
+        jdbcTemplate.update("DELETE FROM cloud_services");
+        jdbcTemplate.update("DELETE FROM cloud_providers");
+        jdbcTemplate.update("DELETE FROM tenants");
+
+        provider = cloudProviderRepository.save(CloudProvider.builder()
+                .providerKey("aws")
+                .providerName("AWS")
+                .providerType(CloudProvider.ProviderType.AWS)
+                .status(Status.ACTIVE)
+                .build());
+        service = cloudServiceRepository.save(CloudService.builder()
+                .serviceKey("ec2")
+                .serviceName("EC2")
+                .provider(provider)
+                .status(Status.ACTIVE)
+                .build());
+
+        when(resourceMetricSeries.lastEpochSecond(anyLong()))
+                .thenAnswer(invocation -> lastEpochSeconds.getOrDefault(invocation.<Long>getArgument(0), Long.MIN_VALUE));
+        when(resourceMetricSeries.query(anyLong(), anyLong(), anyLong())).thenAnswer(invocation ->
+                hourly(48, invocation.getArgument(2), cpuByResource.get(invocation.<Long>getArgument(0))));
+
+        // leaves of two so every tenant partition is split across the pool
+        properties.setSplitThreshold(2);
+        job = new RightsizingJob(batchRepository, new RightsizingAnalyzer(resourceMetricSeries, properties),
+                resourceMetricSeries, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        job.shutdown();
+    }
+
+    @Test
+    @DisplayName("두 번째 실행은 바뀌지 않은 리소스를 건너뛰고, 사양/시계열이 바뀐 리소스만 같은 행에 다시 쓰며 실행 중이 아닌 리소스의 권고를 지운다")
+    void secondRun_RescoresOnlyChangedResources() throws Exception {
+        // Given: 테넌트 두 개와 테넌트 없는 리소스, 중지된 리소스는 대상이 아니다
+        Tenant acme = tenant("acme");
+        Tenant globex = tenant("globex");
+        List<CloudResource> acmeResources = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            acmeResources.add(resource("acme-" + i, acme, LifecycleState.RUNNING, 10));
+        }
+        CloudResource globexIdle = resource("globex-idle", globex, LifecycleState.RUNNING, 2);
+        CloudResource shared = resource("shared", null, LifecycleState.RUNNING, 60);
+        CloudResource stopped = resource("acme-stopped", acme, LifecycleState.STOPPED, 10);
+        CloudResource noMetrics = resource("acme-new", acme, LifecycleState.RUNNING, 10);
+        lastEpochSeconds.remove(noMetrics.getId());
+
+        RightsizingRunSummary first = runJob();
+        Map<Long, LocalDateTime> scoredAtBefore = scoredAtByResource();
+
+        // When: 사양 변경, 새 사용률 점, 중지를 하나씩 만든다
+        CloudResource specChanged = acmeResources.get(0);
+        CloudResource newMetrics = acmeResources.get(1);
+        CloudResource nowStopped = acmeResources.get(2);
+        jdbcTemplate.update("UPDATE cloud_resources SET cpu_cores = 8, updated_at = ? WHERE id = ?",
+                LocalDateTime.now().plusSeconds(1), specChanged.getId());
+        lastEpochSeconds.put(newMetrics.getId(), LAST_EPOCH_SECOND + 60);
+        jdbcTemplate.update("UPDATE cloud_resources SET lifecycle_state = 'STOPPED' WHERE id = ?", nowStopped.getId());
+        RightsizingRunSummary second = runJob();
+
+        // Then: 첫 실행은 실행 중인 리소스 모두(시계열 없는 리소스 포함)에 점수를 매긴다
+        assertThat(first.tenants()).isEqualTo(3);
+        assertThat(first.failedTenants()).isZero();
+        assertThat(first.scannedResources()).isEqualTo(8);
+        assertThat(first.rescoredResources()).isEqualTo(8);
+        assertThat(first.removedRecommendations()).isZero();
+        assertThat(first.rescoredByFinding()).containsEntry(Finding.OVERSIZED, 5L)
+                .containsEntry(Finding.IDLE, 1L)
+                .containsEntry(Finding.OPTIMAL, 1L)
+                .containsEntry(Finding.INSUFFICIENT_DATA, 1L);
+        assertThat(scoredAtBefore).doesNotContainKey(stopped.getId());
+
+        // Then: 두 번째 실행은 바뀐 두 리소스만 다시 쓰고 중지된 리소스의 권고를 지운다
+        assertThat(second.scannedResources()).isEqualTo(7);
+        assertThat(second.rescoredResources()).isEqualTo(2);
+        assertThat(second.removedRecommendations()).isEqualTo(1);
+        Map<Long, LocalDateTime> scoredAtAfter = scoredAtByResource();
+        assertThat(scoredAtAfter).hasSize(7).doesNotContainKey(nowStopped.getId());
+        assertThat(scoredAtAfter.get(specChanged.getId())).isAfter(scoredAtBefore.get(specChanged.getId()));
+        assertThat(scoredAtAfter.get(newMetrics.getId())).isAfter(scoredAtBefore.get(newMetrics.getId()));
+        for (CloudResource unchanged : List.of(acmeResources.get(3), acmeResources.get(4), globexIdle, shared, noMetrics)) {
+            assertThat(scoredAtAfter.get(unchanged.getId())).isEqualTo(scoredAtBefore.get(unchanged.getId()));
+        }
+
+        // Then: upsert 는 cloud_resource_id 기준이라 행이 늘지 않고 새 사양과 새 기준 시각이 반영된다
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM rightsizing_recommendations WHERE cloud_resource_id = ?",
+                Integer.class, specChanged.getId())).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT cpu_cores FROM rightsizing_recommendations WHERE cloud_resource_id = ?",
+                Integer.class, specChanged.getId())).isEqualTo(8);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT metrics_through FROM rightsizing_recommendations WHERE cloud_resource_id = ?",
+                LocalDateTime.class, newMetrics.getId()))
+                .isAfter(jdbcTemplate.queryForObject(
+                        "SELECT metrics_through FROM rightsizing_recommendations WHERE cloud_resource_id = ?",
+                        LocalDateTime.class, acmeResources.get(3).getId()));
+    }
+
+    @Test
+    @DisplayName("실행 중에 다시 시작하면 거부하고, 끝나면 다시 시작할 수 있다")
+    void start_AllowsOneRunAtATime() throws Exception {
+        // Given: 첫 실행은 풀어 줄 때까지 후보 스트리밍에서 멈춘다
+        Tenant acme = tenant("acme");
+        for (int i = 0; i < 50; i++) {
+            resource("acme-" + i, acme, LifecycleState.RUNNING, 10);
+        }
+        CountDownLatch release = new CountDownLatch(1);
+        when(resourceMetricSeries.lastEpochSecond(anyLong())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return LAST_EPOCH_SECOND;
+        });
+
+        // When
+        boolean started = job.start();
+        boolean startedAgain = job.start();
+        release.countDown();
+        awaitIdle();
+
+        // Then
+        assertThat(started).isTrue();
+        assertThat(startedAgain).isFalse();
+        assertThat(job.getLastRun().rescoredResources()).isEqualTo(50);
+        assertThat(runJob().rescoredResources()).isZero();
+    }
+
+    private RightsizingRunSummary runJob() throws InterruptedException {
+        RightsizingRunSummary previous = job.getLastRun();
+        assertThat(job.start()).isTrue();
+        awaitIdle();
+        assertThat(job.getLastRun()).isNotSameAs(previous);
+        return job.getLastRun();
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (job.isRunning() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(job.isRunning()).isFalse();
+    }
+
+    private Map<Long, LocalDateTime> scoredAtByResource() {
+        Map<Long, LocalDateTime> scoredAt = new HashMap<>();
+        jdbcTemplate.query("SELECT cloud_resource_id, scored_at FROM rightsizing_recommendations", rs -> {
+            scoredAt.put(rs.getLong(1), rs.getObject(2, LocalDateTime.class));
+        });
+        return scoredAt;
+    }
+
+    private Tenant tenant(String key) {
+        return tenantRepository.save(Tenant.builder()
+                .tenantKey(key)
+                .tenantName(key)
+                .status(Status.ACTIVE)
+                .isTrial(false)
+                .build());
+    }
+
+    private CloudResource resource(String resourceId, Tenant tenant, LifecycleState lifecycleState, double cpuPercent) {
+        CloudResource resource = cloudResourceRepository.save(CloudResource.builder()
+                .resourceId(resourceId)
+                .resourceName(resourceId)
+                .provider(provider)
+                .service(service)
+                .tenant(tenant)
+                .status(Status.ACTIVE)
+                .lifecycleState(lifecycleState)
+                .instanceType("m5.4xlarge")
+                .cpuCores(16)
+                .memoryGb(64)
+                .costPerHour(new BigDecimal("0.768"))
+                .build());
+        lastEpochSeconds.put(resource.getId(), LAST_EPOCH_SECOND);
+        cpuByResource.put(resource.getId(), cpuPercent);
+        return resource;
+    }
+
+    /**
+     * 마지막 점이 {@code lastEpochSecond} 인 한 시간 간격의 점 (메모리 사용률 20%)
+     */
+    private static List<TimeSeriesPoint> hourly(int count, long lastEpochSecond, double cpuPercent) {
+        List<TimeSeriesPoint> points = new ArrayList<>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            double[] values = new double[FIELD_COUNT];
+            Arrays.fill(values, Double.NaN);
+            values[ResourceMetricSeries.averageField(UtilizationMetric.CPU)] = cpuPercent;
+            values[ResourceMetricSeries.maxField(UtilizationMetric.CPU)] = cpuPercent * 1.5;
+            values[ResourceMetricSeries.averageField(UtilizationMetric.MEMORY)] = 20;
+            points.add(new TimeSeriesPoint(lastEpochSecond - i * 3600L, values));
+        }
+        return points;
+    }
+}
@@ -0,0 +1,298 @@
+package com.agenticcp.core.domain.notification.push;
+
+import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.domain.cloud.entity.CloudResource.LifecycleState;
+import com.agenticcp.core.domain.cloud.event.InventorySyncCompletedEvent;
+import com.agenticcp.core.domain.cloud.event.ResourceLifecycleChangedEvent;
+import com.agenticcp.core.domain.cloud.event.ResourceLifecycleChangedEvent.Transition;
+import com.agenticcp.core.domain.tenant.event.TenantStatusChangedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 구독 범위(테넌트/리소스) 필터링, (토픽, 테넌트)마다 한 번만 직렬화하는지, 느린 클라이언트가 푸시 스레드와 다른 세션을
+ * 막지 않고 한도를 넘으면 끊기는지 검증한다.
+ */
+class PushDispatcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PushProperties properties = new PushProperties();
+    private final List<ThreadPoolTaskExecutor> pools = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        pools.forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+
+    @Test
+    @DisplayName("테넌트 구독자는 자기 테넌트의 전이만, 리소스 구독자는 그 리소스의 전이만, 전체 구독자는 모두 받는다")
+    void dispatch_FiltersByTenantAndResource() throws Exception {
+        // Given
+        PushSessionRegistry registry = registry(new InlineExecutor());
+        PushDispatcher dispatcher = dispatcher(registry);
+        Socket tenant1 = connect(registry, "tenant-1", subscription(Set.of(1L), Set.of(),
+                PushTopic.RESOURCE_LIFECYCLE, PushTopic.TENANT_STATUS, PushTopic.PROVIDER_SYNC));
+        Socket tenant2 = connect(registry, "tenant-2", subscription(Set.of(2L), Set.of(),
+                PushTopic.RESOURCE_LIFECYCLE, PushTopic.TENANT_STATUS));
+        Socket allTenants = connect(registry, "all", subscription(Set.of(), Set.of(),
+                PushTopic.RESOURCE_LIFECYCLE, PushTopic.TENANT_STATUS));
+        Socket resource = connect(registry, "resource", subscription(Set.of(), Set.of(100L),
+                PushTopic.RESOURCE_LIFECYCLE, PushTopic.PROVIDER_SYNC));
+
+        // When
+        dispatcher.onResourceLifecycleChanged(lifecycle(
+                transition(100L, 1L), transition(null, 1L), transition(200L, 2L)));
+        dispatcher.onTenantStatusChanged(new TenantStatusChangedEvent(2L, "tenant-2", Status.ACTIVE, Status.SUSPENDED));
+        dispatcher.onInventorySyncCompleted(new InventorySyncCompletedEvent("aws", null, LocalDateTime.now()));
+
+        // Then
+        assertThat(tenant1.frames()).extracting(frame -> frame.get("type").asText())
+                .containsExactly("resource.lifecycle", "provider.sync");
+        assertThat(transitionIds(tenant1.frames().get(0))).containsExactly("r-100", "r-null");
+        assertThat(tenant1.frames().get(0).get("tenantId").asLong()).isEqualTo(1L);
+
+        assertThat(tenant2.frames()).extracting(frame -> frame.get("type").asText())
+                .containsExactly("resource.lifecycle", "tenant.status");
+        assertThat(transitionIds(tenant2.frames().get(0))).containsExactly("r-200");
+        assertThat(tenant2.frames().get(1).get("tenantId").asLong()).isEqualTo(2L);
+
+        assertThat(allTenants.frames()).extracting(frame -> frame.get("tenantId").asLong())
+                .containsExactly(1L, 2L, 2L);
+
+        assertThat(resource.frames()).extracting(frame -> frame.get("type").asText())
+                .containsExactly("resource.lifecycle", "provider.sync");
+        assertThat(transitionIds(resource.frames().get(0))).containsExactly("r-100");
+    }
+
+    @Test
+    @DisplayName("같은 (토픽, 테넌트) 의 수신자들은 한 번 직렬화한 같은 메시지를 받고, 수신자가 없으면 직렬화하지 않는다")
+    void dispatch_SerializesOncePerTopicAndTenant() {
+        // Given
+        PushSessionRegistry registry = registry(new InlineExecutor());
+        PushDispatcher dispatcher = dispatcher(registry);
+        List<Socket> sockets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            sockets.add(connect(registry, "tenant-1-" + i,
+                    subscription(Set.of(1L), Set.of(), PushTopic.RESOURCE_LIFECYCLE)));
+        }
+        sockets.add(connect(registry, "all", subscription(Set.of(), Set.of(), PushTopic.RESOURCE_LIFECYCLE)));
+
+        // When
+        dispatcher.onResourceLifecycleChanged(lifecycle(transition(1L, 1L), transition(2L, 1L)));
+        dispatcher.onResourceLifecycleChanged(lifecycle(transition(3L, 3L)));
+
+        // Then: 테넌트 3 은 전체 구독자 한 명에게만 가므로 두 이벤트에 직렬화는 두 번이다
+        assertThat(meterRegistry.counter("push.frames", "topic", "resource.lifecycle").count()).isEqualTo(2);
+        TextMessage shared = sockets.get(0).messages.get(0);
+        for (Socket socket : sockets) {
+            assertThat(socket.messages.get(0)).isSameAs(shared);
+        }
+        assertThat(sockets.get(5).messages).hasSize(2);
+        assertThat(meterRegistry.counter("push.messages", "topic", "resource.lifecycle").count()).isEqualTo(7);
+
+        // When: 어느 구독자의 범위에도 없는 테넌트만 바뀐다
+        registry.unregister("all");
+        dispatcher.onResourceLifecycleChanged(lifecycle(transition(4L, 4L)));
+
+        // Then
+        assertThat(meterRegistry.counter("push.frames", "topic", "resource.lifecycle").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("쓰기가 멈춘 클라이언트는 푸시 스레드와 다른 세션을 막지 않고, 버퍼 한도를 넘으면 끊긴다")
+    void dispatch_EvictsSlowClientOverBufferLimit() throws Exception {
+        // Given
+        properties.setBufferSizeLimit(1_000);
+        PushSessionRegistry registry = registry(pool(2));
+        PushDispatcher dispatcher = dispatcher(registry);
+        PushSubscription subscription = subscription(Set.of(), Set.of(), PushTopic.TENANT_STATUS);
+        Socket fast = connect(registry, "fast", subscription);
+        CountDownLatch stalled = new CountDownLatch(1);
+        Socket slow = connect(registry, "slow", subscription, stalled);
+
+        // When: 푸시 스레드(여기서는 테스트 스레드)가 멈춘 소켓을 기다리지 않고 보낸다. 빠른 소켓은 매번 따라잡는다
+        long dispatchNanos = 0;
+        for (int tenantId = 1; tenantId <= 40; tenantId++) {
+            long start = System.nanoTime();
+            dispatcher.onTenantStatusChanged(new TenantStatusChangedEvent((long) tenantId, "tenant-" + tenantId,
+                    Status.ACTIVE, Status.SUSPENDED));
+            dispatchNanos += System.nanoTime() - start;
+            verify(fast.session, timeout(2_000).times(tenantId)).sendMessage(any());
+        }
+
+        // Then
+        verify(slow.session, timeout(2_000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(dispatchNanos)).isLessThan(1_000);
+        assertThat(fast.messages).hasSize(40);
+        assertThat(registry.get("slow")).isNull();
+        assertThat(registry.get("fast")).isNotNull();
+        assertThat(meterRegistry.counter("push.sessions.dropped").count()).isEqualTo(1);
+        stalled.countDown();
+        assertThat(slow.messages).hasSizeLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기 하나가 전송 시간 한도를 넘기면 다음 전송에서 세션을 끊는다")
+    void dispatch_EvictsSlowClientOverSendTimeLimit() throws Exception {
+        // Given
+        properties.setSendTimeLimit(Duration.ofMillis(50));
+        PushSessionRegistry registry = registry(pool(2));
+        PushDispatcher dispatcher = dispatcher(registry);
+        CountDownLatch stalled = new CountDownLatch(1);
+        Socket slow = connect(registry, "slow", subscription(Set.of(), Set.of(), PushTopic.TENANT_STATUS), stalled);
+
+        // When
+        dispatcher.onTenantStatusChanged(new TenantStatusChangedEvent(1L, "tenant-1", Status.ACTIVE, Status.SUSPENDED));
+        verify(slow.session, timeout(2_000)).sendMessage(any());
+        Thread.sleep(100);
+        dispatcher.onTenantStatusChanged(new TenantStatusChangedEvent(2L, "tenant-2", Status.ACTIVE, Status.SUSPENDED));
+
+        // Then
+        verify(slow.session, timeout(2_000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(registry.get("slow")).isNull();
+        stalled.countDown();
+    }
+
+    @Test
+    @DisplayName("한도 안에서 잠깐 밀린 클라이언트는 끊지 않고 모든 메시지를 순서대로 받는다")
+    void dispatch_KeepsOrderForBufferedClient() throws Exception {
+        // Given
+        PushSessionRegistry registry = registry(pool(2));
+        PushDispatcher dispatcher = dispatcher(registry);
+        CountDownLatch stalled = new CountDownLatch(1);
+        Socket socket = connect(registry, "buffered", subscription(Set.of(), Set.of(), PushTopic.TENANT_STATUS),
+                stalled);
+
+        // When
+        for (long tenantId = 1; tenantId <= 10; tenantId++) {
+            dispatcher.onTenantStatusChanged(
+                    new TenantStatusChangedEvent(tenantId, "tenant-" + tenantId, Status.ACTIVE, Status.SUSPENDED));
+        }
+        stalled.countDown();
+
+        // Then
+        verify(socket.session, timeout(2_000).times(10)).sendMessage(any());
+        verify(socket.session, never()).close(any());
+        assertThat(socket.frames()).extracting(frame -> frame.get("tenantId").asLong())
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    private PushSessionRegistry registry(ThreadPoolTaskExecutor sendExecutor) {
+        return new PushSessionRegistry(properties, meterRegistry, sendExecutor);
+    }
+
+    private PushDispatcher dispatcher(PushSessionRegistry registry) {
+        return new PushDispatcher(registry, properties, objectMapper, meterRegistry, new InlineExecutor());
+    }
+
+    private ThreadPoolTaskExecutor pool(int size) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.initialize();
+        pools.add(executor);
+        return executor;
+    }
+
+    private Socket connect(PushSessionRegistry registry, String id, PushSubscription subscription) {
+        return connect(registry, id, subscription, null);
+    }
+
+    /**
+     * @param stalled null 이 아니면 이 래치가 풀릴 때까지 소켓 쓰기가 멈춘다
+     */
+    private Socket connect(PushSessionRegistry registry, String id, PushSubscription subscription,
+                           CountDownLatch stalled) {
+        Socket socket = new Socket(mock(WebSocketSession.class));
+        when(socket.session.getId()).thenReturn(id);
+        when(socket.session.isOpen()).thenReturn(true);
+        try {
+            doAnswer(invocation -> {
+                if (stalled != null) {
+                    stalled.await();
+                }
+                socket.messages.add(invocation.getArgument(0));
+                return null;
+            }).when(socket.session).sendMessage(any());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        PushSession session = registry.register(socket.session);
+        registry.subscribe(session, subscription);
+        return socket;
+    }
+
+    private List<String> transitionIds(JsonNode frame) {
+        List<String> ids = new ArrayList<>();
+        frame.get("data").get("transitions").forEach(transition -> ids.add(transition.get("resourceId").asText()));
+        return ids;
+    }
+
+    private static PushSubscription subscription(Set<Long> tenantIds, Set<Long> resourceIds, PushTopic... topics) {
+        return new PushSubscription(Set.of(topics), tenantIds, resourceIds);
+    }
+
+    private static ResourceLifecycleChangedEvent lifecycle(Transition... transitions) {
+        return new ResourceLifecycleChangedEvent("aws", "us-east-1", List.of(transitions));
+    }
+
+    private static Transition transition(Long id, Long tenantId) {
+        return new Transition(id, "r-" + id, tenantId, LifecycleState.PENDING, LifecycleState.RUNNING);
+    }
+
+    private final class Socket {
+
+        private final WebSocketSession session;
+        private final List<TextMessage> messages = new CopyOnWriteArrayList<>();
+
+        private Socket(WebSocketSession session) {
+            this.session = session;
+        }
+
+        private List<JsonNode> frames() throws Exception {
+            List<JsonNode> frames = new ArrayList<>();
+            for (TextMessage message : messages) {
+                frames.add(objectMapper.readTree(message.getPayload()));
+            }
+            return frames;
+        }
+    }
+
+    /**
+     * 호출 스레드에서 바로 실행한다.
+     */
+    private static final class InlineExecutor extends ThreadPoolTaskExecutor {
+
+        @Override
+        public void execute(Runnable task) {
+            task.run();
+        }
+    }
+}
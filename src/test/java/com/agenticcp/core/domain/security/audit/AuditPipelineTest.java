@@ -0,0 +1,353 @@
+package com.agenticcp.core.domain.security.audit;
+
+import com.agenticcp.core.domain.security.entity.AuditLog;
+import com.agenticcp.core.domain.security.repository.AuditLogBatchRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소를 메모리 대역으로 바꿔 감사 파이프라인의 배치 저장, 배압 정책, 저장소 장애 시 스풀 전환과 재생을 검증하고
+ * {@code -Dbenchmark=true} 일 때 처리량과 enqueue 지연을 측정한다.
+ */
+class AuditPipelineTest {
+
+    @TempDir
+    Path spoolDirectory;
+
+    private final RecordingRepository repository = new RecordingRepository();
+    private AuditPipeline pipeline;
+
+    @AfterEach
+    void tearDown() {
+        repository.release();
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 생산자의 이벤트를 배치로 정확히 한 번씩 저장하고 종료 시 남은 이벤트를 드레인한다")
+    void concurrentProducers_WriteEveryEventOnceInBatches() throws Exception {
+        // Given
+        pipeline = start(properties(AuditPipelineProperties.Backpressure.BLOCK, 4096));
+        int producers = 4;
+        int perProducer = 25_000;
+
+        // When
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    assertThat(pipeline.publish(event("p" + producer + "-" + i, AuditLog.Severity.INFO)))
+                            .isEqualTo(AuditPipeline.Outcome.ACCEPTED);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+        pipeline.stop();
+
+        // Then
+        assertThat(repository.eventIds).hasSize(producers * perProducer);
+        assertThat(repository.statements.get()).isLessThan(producers * perProducer / 10);
+        assertThat(pipeline.getStatus().written()).isEqualTo(producers * perProducer);
+    }
+
+    @Test
+    @DisplayName("DROP_DEBUG 는 링 버퍼가 가득 차면 DEBUG 이벤트만 버린다")
+    void dropDebug_DropsOnlyDebugEventsWhenFull() {
+        // Given: 저장이 느려 링 버퍼가 차 있는 상태
+        AuditPipelineProperties properties = properties(AuditPipelineProperties.Backpressure.DROP_DEBUG, 16);
+        properties.setBlockTimeout(Duration.ofMillis(50));
+        repository.stall();
+        pipeline = start(properties);
+        for (int i = 0; i < 64; i++) {
+            pipeline.publish(event("fill-" + i, AuditLog.Severity.INFO));
+        }
+
+        // When
+        AuditPipeline.Outcome debug = pipeline.publish(event("debug", AuditLog.Severity.DEBUG));
+        repository.release();
+        AuditPipeline.Outcome info = pipeline.publish(event("info", AuditLog.Severity.INFO));
+
+        // Then
+        assertThat(debug).isEqualTo(AuditPipeline.Outcome.DROPPED);
+        assertThat(info).isEqualTo(AuditPipeline.Outcome.ACCEPTED);
+    }
+
+    @Test
+    @DisplayName("저장소 장애 중에는 배치를 스풀에 쓰고 복구되면 쓴 순서대로 재생한다")
+    void storageOutage_SpoolsAndReplaysInOrder() throws Exception {
+        // Given
+        repository.block();
+        pipeline = start(properties(AuditPipelineProperties.Backpressure.BLOCK, 16));
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            assertThat(pipeline.publish(event("e-" + i, AuditLog.Severity.INFO)))
+                    .isEqualTo(AuditPipeline.Outcome.ACCEPTED);
+        }
+        await(() -> pipeline.getStatus().spooled() == 500);
+        assertThat(repository.order).isEmpty();
+        repository.release();
+        await(() -> !pipeline.getStatus().spoolPending());
+
+        // Then
+        assertThat(repository.order).containsExactlyElementsOf(
+                IntStream.range(0, 500).mapToObj(i -> "e-" + i).toList());
+        assertThat(pipeline.getStatus().spooled()).isEqualTo(500);
+        assertThat(pipeline.getStatus().replayed()).isEqualTo(500);
+        assertThat(pipeline.getStatus().spoolPending()).isFalse();
+    }
+
+    @Test
+    @DisplayName("행 단위 재시도 도중 저장소가 죽으면 남은 행만 스풀에 쓰고 작성 스레드는 계속 동작한다")
+    void storageFailureDuringRowFallback_SpoolsRemainingRows() throws Exception {
+        // Given: 첫 이벤트가 저장 중 멈춘 사이 다음 배치 10건이 쌓인다
+        repository.stall();
+        pipeline = start(properties(AuditPipelineProperties.Backpressure.BLOCK, 64));
+        pipeline.publish(event("warm", AuditLog.Severity.INFO));
+        await(() -> pipeline.getStatus().queued() == 0);
+        for (int i = 0; i < 10; i++) {
+            pipeline.publish(event("e-" + i, AuditLog.Severity.INFO));
+        }
+
+        // When: e-5 는 제약 위반이라 배치가 행 단위 재시도로 넘어가고, 세 행을 저장한 뒤 저장소가 죽는다
+        repository.reject("e-5");
+        repository.blockAfter(5); // warm, the failed batch, e-0, e-1, e-2
+        repository.release();
+        await(() -> pipeline.getStatus().spooled() == 7);
+
+        // Then
+        assertThat(repository.order).containsExactly("warm", "e-0", "e-1", "e-2");
+        assertThat(pipeline.getStatus().storageHealthy()).isFalse();
+        repository.release();
+        pipeline.publish(event("after", AuditLog.Severity.INFO));
+        await(() -> repository.eventIds.contains("after"));
+        assertThat(repository.order).containsExactly("warm", "e-0", "e-1", "e-2", "e-3", "e-4", "e-6", "e-7",
+                "e-8", "e-9", "after");
+        assertThat(pipeline.getStatus().rejected()).isEqualTo(1);
+        assertThat(pipeline.getStatus().spoolPending()).isFalse();
+        assertThat(pipeline.getStatus().storageHealthy()).isTrue();
+    }
+
+    @Test
+    @DisplayName("SPOOL 은 링 버퍼가 가득 차도 기다리지 않고 스풀에 쓴 뒤 모두 저장한다")
+    void spoolBackpressure_NeverBlocksProducers() throws Exception {
+        // Given: 저장이 느려 링 버퍼가 차 있는 상태
+        repository.stall();
+        pipeline = start(properties(AuditPipelineProperties.Backpressure.SPOOL, 16));
+
+        // When
+        int spooled = 0;
+        for (int i = 0; i < 500; i++) {
+            AuditPipeline.Outcome outcome = pipeline.publish(event("e-" + i, AuditLog.Severity.INFO));
+            assertThat(outcome).isNotEqualTo(AuditPipeline.Outcome.DROPPED);
+            if (outcome == AuditPipeline.Outcome.SPOOLED) {
+                spooled++;
+            }
+        }
+        repository.release();
+        await(() -> repository.eventIds.size() == 500);
+
+        // Then
+        assertThat(spooled).isGreaterThan(0);
+        assertThat(repository.eventIds).hasSize(500);
+    }
+
+    @Test
+    @DisplayName("장애 중 종료하면 남은 이벤트를 스풀에 두고 다음 기동에서 재생한다")
+    void restart_ReplaysSpoolLeftByPreviousRun() throws Exception {
+        // Given
+        repository.block();
+        pipeline = start(properties(AuditPipelineProperties.Backpressure.BLOCK, 1024));
+        for (int i = 0; i < 300; i++) {
+            pipeline.publish(event("e-" + i, AuditLog.Severity.INFO));
+        }
+        pipeline.stop();
+
+        // When
+        repository.release();
+        pipeline = start(properties(AuditPipelineProperties.Backpressure.BLOCK, 1024));
+        await(() -> !pipeline.getStatus().spoolPending());
+
+        // Then
+        assertThat(repository.eventIds).hasSize(300);
+        assertThat(pipeline.getStatus().spoolPending()).isFalse();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("처리량과 enqueue 지연 측정")
+    void benchmark_Throughput() throws Exception {
+        pipeline = start(properties(AuditPipelineProperties.Backpressure.BLOCK, 1 << 16));
+        int producers = 8;
+        int perProducer = 250_000;
+        long[][] latencies = new long[producers][perProducer];
+        CountDownLatch ready = new CountDownLatch(producers);
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long[] producerLatencies = latencies[p];
+            int producer = p;
+            futures.add(pool.submit(() -> {
+                ready.countDown();
+                go.await();
+                for (int i = 0; i < perProducer; i++) {
+                    AuditEvent event = event(null, AuditLog.Severity.INFO);
+                    long start = System.nanoTime();
+                    pipeline.publish(event);
+                    producerLatencies[i] = System.nanoTime() - start;
+                }
+                return producer;
+            }));
+        }
+        ready.await();
+        long start = System.nanoTime();
+        go.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pipeline.stop();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        System.out.printf("events=%d throughput=%.0f/s p50=%dns p99=%dns p999=%dns statements=%d%n",
+                all.length, all.length / seconds, all[all.length / 2], all[(int) (all.length * 0.99)],
+                all[(int) (all.length * 0.999)], repository.statements.get());
+        assertThat(repository.eventIds).hasSize(producers * perProducer);
+    }
+
+    private AuditPipeline start(AuditPipelineProperties properties) {
+        AuditPipeline started = new AuditPipeline(properties, repository, new ObjectMapper().findAndRegisterModules(),
+                new SimpleMeterRegistry());
+        started.start();
+        return started;
+    }
+
+    private AuditPipelineProperties properties(AuditPipelineProperties.Backpressure backpressure, int ringCapacity) {
+        AuditPipelineProperties properties = new AuditPipelineProperties();
+        properties.setBackpressure(backpressure);
+        properties.setRingCapacity(ringCapacity);
+        properties.setRetryDelay(Duration.ofMillis(10));
+        properties.setSpoolDirectory(spoolDirectory.toString());
+        return properties;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static AuditEvent event(String eventId, AuditLog.Severity severity) {
+        return AuditEvent.builder()
+                .eventId(eventId)
+                .eventType(AuditLog.EventType.API_CALL)
+                .severity(severity)
+                .eventName("test")
+                .action("POST")
+                .build();
+    }
+
+    /**
+     * 저장된 이벤트 id 를 모으는 저장소 대역. 실제 저장소처럼 이미 있는 event_id 는 건너뛴다.
+     * {@link #block()} 중에는 저장이 실패하고, {@link #stall()} 중에는 저장이 풀릴 때까지 기다린다.
+     * {@link #reject(String)} 한 id 를 담은 문장은 제약 위반으로 실패하고, {@link #blockAfter(int)} 는 그 수만큼
+     * 문장을 받은 뒤 막힌다.
+     */
+    private static final class RecordingRepository extends AuditLogBatchRepository {
+
+        private final Set<String> eventIds = ConcurrentHashMap.newKeySet();
+        private final List<String> order = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicInteger statements = new AtomicInteger();
+        private final AtomicInteger statementsBeforeBlock = new AtomicInteger(-1);
+        private volatile String rejectedEventId;
+        private volatile boolean blocked;
+        private volatile boolean stalled;
+
+        private RecordingRepository() {
+            super(null);
+        }
+
+        void block() {
+            blocked = true;
+        }
+
+        void stall() {
+            stalled = true;
+        }
+
+        void reject(String eventId) {
+            rejectedEventId = eventId;
+        }
+
+        void blockAfter(int statements) {
+            statementsBeforeBlock.set(statements);
+        }
+
+        void release() {
+            blocked = false;
+            stalled = false;
+        }
+
+        @Override
+        public int insert(List<AuditEvent> events, LocalDateTime now) {
+            while (stalled) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+            if (statementsBeforeBlock.get() >= 0 && statementsBeforeBlock.getAndDecrement() == 0) {
+                blocked = true;
+            }
+            if (blocked) {
+                throw new IllegalStateException("storage unavailable");
+            }
+            if (events.stream().anyMatch(event -> event.eventId().equals(rejectedEventId))) {
+                throw new DataIntegrityViolationException("constraint violation");
+            }
+            statements.incrementAndGet();
+            int inserted = 0;
+            for (AuditEvent event : events) {
+                if (eventIds.add(event.eventId())) {
+                    order.add(event.eventId());
+                    inserted++;
+                }
+            }
+            return inserted;
+        }
+    }
+}
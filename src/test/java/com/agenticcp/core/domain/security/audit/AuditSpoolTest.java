@@ -0,0 +1,226 @@
+package com.agenticcp.core.domain.security.audit;
+
+import com.agenticcp.core.domain.security.entity.AuditLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 감사 스풀의 순서 보장, 세그먼트 회전, 잘린 레코드 복구, 재생 중 중단 시 최소 한 번 재생을 검증한다.
+ * 작성 프로세스를 기록 도중 강제 종료해도 확인 응답한 레코드는 모두 남아야 한다.
+ */
+class AuditSpoolTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("여러 세그먼트에 걸쳐 쓴 순서대로 재생하고 다 읽은 세그먼트는 지운다")
+    void replay_ReturnsRecordsInOrderAcrossSegments() throws IOException {
+        // Given
+        AuditSpool spool = open(4096);
+        for (int i = 0; i < 1000; i += 10) {
+            spool.append(events(i, 10), i % 20 == 0);
+        }
+        assertThat(segmentFiles()).hasSizeGreaterThan(10);
+
+        // When
+        List<String> replayed = replayAll(spool, new ArrayList<>());
+
+        // Then
+        assertThat(replayed).containsExactlyElementsOf(ids(0, 1000));
+        assertThat(spool.hasPending()).isFalse();
+        assertThat(segmentFiles()).hasSizeLessThanOrEqualTo(1);
+        spool.close();
+    }
+
+    @Test
+    @DisplayName("다시 열 때 마지막 세그먼트 끝의 잘린 레코드를 잘라 내고 이어 쓴다")
+    void reopen_TruncatesTornTailAndKeepsAppending() throws IOException {
+        // Given: 레코드 기록 도중 중단된 것처럼 헤더와 payload 일부만 남은 세그먼트
+        AuditSpool spool = open(1 << 20);
+        spool.append(events(0, 10), true);
+        spool.close();
+        Path segment = segmentFiles().get(0);
+        long validSize = Files.size(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.allocate(12).putInt(500).putInt(0x1234).put(new byte[]{'{', '"', 'e', 'v'}).flip());
+        }
+
+        // When
+        AuditSpool reopened = open(1 << 20);
+        long recoveredSize = Files.size(segment);
+        reopened.append(events(10, 5), true);
+        List<String> replayed = replayAll(reopened, new ArrayList<>());
+
+        // Then
+        assertThat(recoveredSize).isEqualTo(validSize);
+        assertThat(replayed).containsExactlyElementsOf(ids(0, 15));
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("봉인된 세그먼트 중간이 손상되면 그 세그먼트의 나머지만 건너뛴다")
+    void corruptedRecord_SkipsRestOfSegmentOnly() throws IOException {
+        // Given
+        AuditSpool spool = open(4096);
+        for (int i = 0; i < 100; i += 10) {
+            spool.append(events(i, 10), true);
+        }
+        spool.close();
+        Path first = segmentFiles().get(0);
+        try (FileChannel channel = FileChannel.open(first, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), Files.size(first) / 2);
+        }
+
+        // When
+        List<String> replayed = replayAll(open(4096), new ArrayList<>());
+
+        // Then
+        assertThat(replayed).isNotEmpty().endsWith("e-99");
+        assertThat(replayed).isSubsetOf(ids(0, 100));
+        assertThat(replayed.size()).isLessThan(100);
+    }
+
+    @Test
+    @DisplayName("저장 후 체크포인트 전에 멈추면 그 배치를 다시 재생하고 event_id 로 중복을 거른다")
+    void crashBeforeCheckpoint_ReplaysBatchAgain() throws IOException {
+        // Given
+        AuditSpool spool = open(1 << 20);
+        spool.append(events(0, 300), true);
+        Set<String> stored = new HashSet<>();
+        List<String> deliveries = new ArrayList<>();
+        spool.replay(100, batch -> store(batch, stored, deliveries));
+
+        // When: 두 번째 배치를 저장한 뒤 체크포인트를 옮기기 전에 작성기가 죽는다
+        assertThatThrownBy(() -> spool.replay(100, batch -> {
+            store(batch, stored, deliveries);
+            throw new IllegalStateException("writer killed");
+        })).isInstanceOf(IllegalStateException.class);
+        AuditSpool recovered = open(1 << 20);
+        while (recovered.replay(100, batch -> store(batch, stored, deliveries)) > 0) {
+            // keep replaying
+        }
+
+        // Then
+        assertThat(deliveries).hasSize(400);
+        assertThat(stored).containsExactlyInAnyOrderElementsOf(ids(0, 300));
+        assertThat(recovered.hasPending()).isFalse();
+        recovered.close();
+    }
+
+    @Test
+    @DisplayName("작성 프로세스를 기록 도중 강제 종료해도 확인 응답한 레코드를 순서대로 모두 복구한다")
+    void killedWriterProcess_KeepsEveryAcknowledgedRecord() throws Exception {
+        // Given
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        Process process = new ProcessBuilder(java.toString(), "-cp", System.getProperty("java.class.path"),
+                WriterProcess.class.getName(), directory.toString())
+                .redirectErrorStream(true)
+                .start();
+        int acknowledged = -1;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while (acknowledged < 20_000 && (line = reader.readLine()) != null) {
+                if (line.startsWith("ACK ")) {
+                    acknowledged = Integer.parseInt(line.substring(4));
+                }
+            }
+
+            // When: 다음 배치를 쓰는 도중 SIGKILL
+            process.destroyForcibly().waitFor();
+        }
+
+        // Then
+        assertThat(acknowledged).isGreaterThanOrEqualTo(20_000);
+        List<String> replayed = replayAll(open(WriterProcess.SEGMENT_SIZE), new ArrayList<>());
+        assertThat(replayed.size()).isGreaterThanOrEqualTo(acknowledged);
+        assertThat(replayed).containsExactlyElementsOf(ids(0, replayed.size()));
+    }
+
+    /**
+     * 강제 종료 테스트용 작성 프로세스: 배치를 디스크에 내릴 때마다 지금까지 쓴 이벤트 수를 출력한다.
+     */
+    public static final class WriterProcess {
+
+        static final long SEGMENT_SIZE = 256 * 1024;
+
+        public static void main(String[] args) throws IOException {
+            AuditSpool spool = new AuditSpool(Path.of(args[0]), OBJECT_MAPPER, SEGMENT_SIZE);
+            for (int next = 0; ; next += 200) {
+                spool.append(events(next, 200), true);
+                System.out.println("ACK " + (next + 200));
+                System.out.flush();
+            }
+        }
+    }
+
+    private AuditSpool open(long segmentSize) throws IOException {
+        return new AuditSpool(directory, OBJECT_MAPPER, segmentSize);
+    }
+
+    private static List<String> replayAll(AuditSpool spool, List<String> replayed) throws IOException {
+        while (spool.replay(64, batch -> {
+            batch.forEach(event -> replayed.add(event.eventId()));
+            return true;
+        }) > 0) {
+            // keep replaying
+        }
+        return replayed;
+    }
+
+    private static boolean store(List<AuditEvent> batch, Set<String> stored, List<String> deliveries) {
+        batch.forEach(event -> {
+            deliveries.add(event.eventId());
+            stored.add(event.eventId());
+        });
+        return true;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    private static List<AuditEvent> events(int from, int count) {
+        return IntStream.range(from, from + count)
+                .mapToObj(i -> AuditEvent.builder()
+                        .eventId("e-" + i)
+                        .eventType(AuditLog.EventType.API_CALL)
+                        .severity(AuditLog.Severity.INFO)
+                        .result(AuditLog.Result.SUCCESS)
+                        .eventName("POST /api/security/policies")
+                        .action("POST")
+                        .details("{\"payload\":\"" + "x".repeat(200) + "\"}")
+                        .build())
+                .toList();
+    }
+
+    private static List<String> ids(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> "e-" + i).toList();
+    }
+}
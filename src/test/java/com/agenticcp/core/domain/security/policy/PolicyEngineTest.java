@@ -0,0 +1,216 @@
+package com.agenticcp.core.domain.security.policy;
+
+import com.agenticcp.core.domain.security.entity.SecurityPolicy;
+import com.agenticcp.core.domain.tenant.entity.Tenant;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 컴파일된 정책 스냅샷의 평가 순서/조건 의미를 검증하고, {@code -Dbenchmark=true} 일 때 1만 개 정책 기준 결정 지연을 측정한다.
+ */
+class PolicyEngineTest {
+
+    private final PolicyCompiler compiler = new PolicyCompiler(new ObjectMapper());
+
+    @Test
+    @DisplayName("우선순위 순으로 평가하고 조건/예외/테넌트 범위를 적용해 처음 일치한 정책으로 결정한다")
+    void evaluate_AppliesPriorityConditionsAndTenantScope() {
+        // Given
+        PolicySet policySet = PolicySet.of(List.of(
+                compile(policy(1L, "allow-dev-read", 7L, 10, "{\"effect\":\"ALLOW\"}", "[\"read\",\"list*\"]",
+                        "[\"vm\"]", "{\"attribute\":\"principal.role\",\"operator\":\"in\",\"value\":[\"DEVELOPER\"]}",
+                        null)),
+                compile(policy(2L, "deny-prod-delete", null, 100, null, "[\"delete\"]", "[\"*\"]",
+                        "{\"attribute\":\"resource.env\",\"operator\":\"equals\",\"value\":\"prod\"}",
+                        "[{\"attribute\":\"principal.role\",\"operator\":\"equals\",\"value\":\"ADMIN\"}]")),
+                compile(policy(3L, "allow-admin-all", null, 100, "{\"effect\":\"ALLOW\",\"principals\":[\"admin-*\"]}",
+                        null, null, null, null)),
+                compile(policy(4L, "deny-large-vm", 7L, 50, null, "[\"create\"]", "[\"vm\"]",
+                        "{\"all\":[{\"attribute\":\"cpu\",\"operator\":\"gt\",\"value\":32},"
+                                + "{\"not\":{\"attribute\":\"approved\",\"operator\":\"exists\"}}]}", null))));
+
+        // Then: 같은 우선순위에서는 DENY 가 먼저, 예외에 걸리면 다음 정책으로
+        assertThat(decide(policySet, "admin-kim", 7L, "db", "delete", Map.of("resource.env", "prod")))
+                .isEqualTo("deny-prod-delete");
+        assertThat(decide(policySet, "admin-kim", 7L, "db", "delete",
+                Map.of("resource.env", "prod", "principal.role", "ADMIN"))).isEqualTo("allow-admin-all");
+        assertThat(decide(policySet, "lee", 7L, "vm", "listVolumes", Map.of("principal.role", "DEVELOPER")))
+                .isEqualTo("allow-dev-read");
+        assertThat(decide(policySet, "lee", 7L, "vm", "create", Map.of("cpu", 64))).isEqualTo("deny-large-vm");
+        assertThat(decide(policySet, "lee", 7L, "vm", "create", Map.of("cpu", 64, "approved", true))).isNull();
+        // 다른 테넌트에는 테넌트 정책이 적용되지 않는다
+        assertThat(decide(policySet, "lee", 8L, "vm", "read", Map.of("principal.role", "DEVELOPER"))).isNull();
+
+        // When: 정책 교체/삭제
+        PolicySet updated = policySet.without(2L)
+                .with(compile(policy(1L, "allow-dev-read", 7L, 10, "{\"effect\":\"ALLOW\"}", "[\"read\"]",
+                        "[\"vm\"]", null, null)));
+
+        // Then
+        assertThat(updated.size()).isEqualTo(3);
+        assertThat(decide(updated, "admin-kim", 7L, "db", "delete", Map.of("resource.env", "prod")))
+                .isEqualTo("allow-admin-all");
+        assertThat(decide(updated, "lee", 7L, "vm", "listVolumes", Map.of())).isNull();
+        assertThat(decide(updated, "lee", 7L, "vm", "read", Map.of())).isEqualTo("allow-dev-read");
+    }
+
+    @Test
+    @DisplayName("정책 변경 시 해당 테넌트의 유효 정책 집합만 다시 만들고 글로벌 버킷은 참조로 공유한다")
+    void with_RebuildsOnlyAffectedTenant() {
+        // Given
+        PolicySet policySet = PolicySet.of(List.of(
+                compile(policy(1L, "global-deny", null, 50, null, null, null, null, null)),
+                compile(policy(2L, "tenant7-allow", 7L, 60, "{\"effect\":\"ALLOW\"}", null, null, null, null)),
+                compile(policy(3L, "tenant8-allow", 8L, 10, "{\"effect\":\"ALLOW\"}", null, null, null, null))));
+        EffectivePolicySet tenant7 = policySet.effectiveFor(7L);
+        EffectivePolicySet tenant8 = policySet.effectiveFor(8L);
+
+        // When: 테넌트 7 정책 변경
+        PolicySet tenantChanged = policySet.with(
+                compile(policy(2L, "tenant7-allow", 7L, 40, "{\"effect\":\"ALLOW\"}", null, null, null, null)));
+
+        // Then
+        assertThat(tenantChanged.effectiveFor(8L)).isSameAs(tenant8);
+        assertThat(tenantChanged.effectiveFor(7L)).isNotSameAs(tenant7);
+        assertThat(tenantChanged.effectiveFor(7L).policies()).extracting(CompiledPolicy::getPolicyKey)
+                .containsExactly("global-deny", "tenant7-allow");
+        assertThat(tenant7.policies()).extracting(CompiledPolicy::getPolicyKey)
+                .containsExactly("tenant7-allow", "global-deny");
+
+        // When: 글로벌 정책 변경
+        PolicySet globalChanged = tenantChanged.without(1L);
+
+        // Then: 테넌트 버킷은 재사용하고 새 글로벌 버킷을 공유
+        assertThat(globalChanged.effectiveFor(8L).tenantBucket()).isSameAs(tenant8.tenantBucket());
+        assertThat(globalChanged.effectiveFor(9L).size()).isZero();
+        assertThat(decide(globalChanged, "kim", 8L, "vm", "read", Map.of())).isEqualTo("tenant8-allow");
+
+        // When: 테넌트의 마지막 정책이 다른 테넌트로 이동
+        PolicySet moved = globalChanged.with(
+                compile(policy(3L, "tenant8-allow", 9L, 10, "{\"effect\":\"ALLOW\"}", null, null, null, null)));
+
+        // Then
+        assertThat(moved.tenantCount()).isEqualTo(2);
+        assertThat(decide(moved, "kim", 8L, "vm", "read", Map.of())).isNull();
+        assertThat(decide(moved, "kim", 9L, "vm", "read", Map.of())).isEqualTo("tenant8-allow");
+    }
+
+    @Test
+    @DisplayName("유효 기간 밖의 정책은 적용되지 않는다")
+    void evaluate_SkipsPoliciesOutsideEffectiveWindow() {
+        SecurityPolicy expired = policy(1L, "expired", null, 0, null, null, null, null, null);
+        expired.setEffectiveUntil(LocalDateTime.now().minusDays(1));
+        PolicySet policySet = PolicySet.of(List.of(compile(expired)));
+
+        assertThat(decide(policySet, "kim", null, "vm", "read", Map.of())).isNull();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("1만 개 정책에서 결정 지연 측정")
+    void benchmark_TenThousandPolicies() {
+        // Given: 글로벌 500 + 100 개 테넌트 x 95, 리소스 타입 20 종
+        int tenants = 100;
+        int resourceTypes = 20;
+        List<CompiledPolicy> policies = new ArrayList<>();
+        long id = 1;
+        for (int i = 0; i < 500; i++) {
+            policies.add(compile(policy(id++, "global-" + i, null, i % 50, i % 3 == 0 ? null : "{\"effect\":\"ALLOW\"}",
+                    "[\"delete\",\"stop\"]", "[\"type-" + (i % resourceTypes) + "\"]",
+                    "{\"attribute\":\"resource.env\",\"operator\":\"equals\",\"value\":\"env-" + i + "\"}", null)));
+        }
+        for (long tenant = 1; tenant <= tenants; tenant++) {
+            for (int i = 0; i < 95; i++) {
+                String resources = i % 10 == 0 ? "[\"type-*\"]" : "[\"type-" + (i % resourceTypes) + "\"]";
+                policies.add(compile(policy(id++, "tenant-" + tenant + "-" + i, tenant, i % 50,
+                        "{\"effect\":\"ALLOW\",\"principals\":[\"user-" + i + "\",\"svc-*\"]}", "[\"read\",\"list*\"]",
+                        resources, "{\"any\":[{\"attribute\":\"principal.role\",\"operator\":\"in\",\"value\":[\"R"
+                                + i + "\",\"ADMIN\"]},{\"attribute\":\"cpu\",\"operator\":\"lte\",\"value\":" + i + "}]}",
+                        "[{\"attribute\":\"resource.env\",\"operator\":\"starts_with\",\"value\":\"frozen-\"}]")));
+            }
+        }
+        long buildStart = System.nanoTime();
+        PolicySet policySet = PolicySet.of(policies);
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        int requestCount = 4096;
+        PolicyRequest[] requests = new PolicyRequest[requestCount];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String[] actions = {"read", "listBuckets", "delete", "stop", "create"};
+        for (int i = 0; i < requestCount; i++) {
+            requests[i] = new PolicyRequest("user-" + random.nextInt(120), (long) random.nextInt(1, tenants + 1),
+                    "type-" + random.nextInt(resourceTypes), actions[random.nextInt(actions.length)],
+                    Map.of("principal.role", "R" + random.nextInt(200), "cpu", random.nextInt(100),
+                            "resource.env", "env-" + random.nextInt(1000)));
+        }
+
+        // When
+        long now = System.currentTimeMillis();
+        int matched = 0;
+        for (int i = 0; i < 500_000; i++) {
+            matched += policySet.evaluate(requests[i & (requestCount - 1)], now).policyId() != null ? 1 : 0;
+        }
+        int iterations = 2_000_000;
+        long evaluated = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            evaluated += policySet.evaluate(requests[i & (requestCount - 1)], now).evaluatedPolicies();
+        }
+        double nanosPerDecision = (double) (System.nanoTime() - start) / iterations;
+
+        CompiledPolicy changed = compile(policy(600L, "tenant-changed", 2L, 99, null, null, null, null, null));
+        long updateStart = System.nanoTime();
+        PolicySet updated = policySet.with(changed);
+        long updateMicros = (System.nanoTime() - updateStart) / 1_000;
+
+        // Then
+        System.out.printf("policies=%d build=%dms tenantUpdate=%dus decision=%.0fns avgCandidates=%.1f matched=%d%n",
+                policySet.size(), buildMillis, updateMicros, nanosPerDecision, (double) evaluated / iterations,
+                matched);
+        assertThat(updated.effectiveFor(3L)).isSameAs(policySet.effectiveFor(3L));
+        assertThat(policySet.size()).isEqualTo(10_000);
+        assertThat(nanosPerDecision).isLessThan(10_000);
+    }
+
+    private String decide(PolicySet policySet, String principal, Long tenantId, String resourceType, String action,
+                          Map<String, Object> attributes) {
+        return policySet.evaluate(new PolicyRequest(principal, tenantId, resourceType, action, attributes),
+                System.currentTimeMillis()).policyKey();
+    }
+
+    private CompiledPolicy compile(SecurityPolicy policy) {
+        return compiler.compile(policy);
+    }
+
+    private static SecurityPolicy policy(Long id, String key, Long tenantId, int priority, String rules,
+                                         String actions, String targetResources, String conditions,
+                                         String exceptions) {
+        SecurityPolicy policy = SecurityPolicy.builder()
+                .policyKey(key)
+                .policyName(key)
+                .tenant(tenantId != null ? Tenant.builder().build() : null)
+                .isGlobal(tenantId == null)
+                .priority(priority)
+                .rules(rules)
+                .actions(actions)
+                .targetResources(targetResources)
+                .conditions(conditions)
+                .exceptions(exceptions)
+                .build();
+        policy.setId(id);
+        if (tenantId != null) {
+            policy.getTenant().setId(tenantId);
+        }
+        return policy;
+    }
+}
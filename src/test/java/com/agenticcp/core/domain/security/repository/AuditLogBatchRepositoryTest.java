@@ -0,0 +1,100 @@
+package com.agenticcp.core.domain.security.repository;
+
+import com.agenticcp.core.common.config.JpaConfig;
+import com.agenticcp.core.domain.security.audit.AuditEvent;
+import com.agenticcp.core.domain.security.entity.AuditLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * H2 MySQL 호환 모드에서 감사 로그 다중 행 INSERT 를 실제로 실행해, 이미 있는 event_id 는 기존 행을 바꾸지 않고
+ * 건너뛰는지(스풀 재생의 멱등성)와 NOT NULL 위반이 파이프라인의 행 단위 재시도가 기대하는 예외로 번역되는지 검증한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:audit-batch;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+@Import({AuditLogBatchRepository.class, JpaConfig.class})
+class AuditLogBatchRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+    @Autowired
+    private AuditLogBatchRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 이벤트를 두 번 저장해도 행은 하나이고 처음 저장한 내용이 남는다")
+    void insert_SameEventTwiceKeepsSingleRow() {
+        // Given
+        repository.insert(List.of(event("e-1", "first")), NOW);
+
+        // When
+        repository.insert(List.of(event("e-1", "replayed")), NOW.plusMinutes(1));
+
+        // Then
+        assertThat(countRows("e-1")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT event_name FROM audit_logs WHERE event_id = ?",
+                String.class, "e-1")).isEqualTo("first");
+    }
+
+    @Test
+    @DisplayName("이미 저장된 이벤트가 섞인 배치도 한 문장으로 새 이벤트만 더한다")
+    void insert_BatchWithDuplicateAddsOnlyNewEvents() {
+        // Given
+        repository.insert(List.of(event("e-1", "first"), event("e-2", "second")), NOW);
+
+        // When
+        repository.insert(List.of(event("e-2", "second"), event("e-3", "third"), event("e-1", "first")), NOW);
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_logs", Integer.class)).isEqualTo(3);
+        assertThat(countRows("e-1")).isEqualTo(1);
+        assertThat(countRows("e-2")).isEqualTo(1);
+        assertThat(countRows("e-3")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필수 컬럼이 빠진 행은 DataIntegrityViolationException 으로 실패한다")
+    void insert_MissingRequiredColumnIsIntegrityViolation() {
+        // Given
+        AuditEvent invalid = event("e-9", "invalid").toBuilder().action(null).build();
+
+        // When & Then
+        assertThatThrownBy(() -> repository.insert(List.of(invalid), NOW))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private int countRows(String eventId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_logs WHERE event_id = ?", Integer.class,
+                eventId);
+    }
+
+    private static AuditEvent event(String eventId, String eventName) {
+        return AuditEvent.builder()
+                .eventId(eventId)
+                .eventType(AuditLog.EventType.API_CALL)
+                .severity(AuditLog.Severity.INFO)
+                .result(AuditLog.Result.SUCCESS)
+                .eventName(eventName)
+                .action("POST")
+                .eventTimestamp(NOW)
+                .build();
+    }
+}
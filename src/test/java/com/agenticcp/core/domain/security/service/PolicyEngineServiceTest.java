@@ -0,0 +1,210 @@
+package com.agenticcp.core.domain.security.service;
+
+import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.common.exception.BusinessException;
+import com.agenticcp.core.common.exception.ValidationException;
+import com.agenticcp.core.domain.security.dto.PolicyBatchResponse;
+import com.agenticcp.core.domain.security.entity.SecurityPolicy;
+import com.agenticcp.core.domain.security.policy.PolicyCompiler;
+import com.agenticcp.core.domain.security.policy.PolicyDecision;
+import com.agenticcp.core.domain.security.policy.PolicyEffect;
+import com.agenticcp.core.domain.security.policy.PolicyEngineProperties;
+import com.agenticcp.core.domain.security.policy.PolicyRequest;
+import com.agenticcp.core.domain.security.repository.SecurityPolicyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 배치 결정이 같은 요청을 한 번만 평가하고 요청 순서대로 돌려주며, fork-join 으로 나눠 평가해도 호출 시점의 한 스냅샷과
+ * 한 시각을 쓰는지, 항목 수/빈 항목 검증을 하는지 검증한다.
+ */
+class PolicyEngineServiceTest {
+
+    private final Map<Long, SecurityPolicy> policies = new LinkedHashMap<>();
+    private final PolicyEngineProperties properties = new PolicyEngineProperties();
+    private final List<PolicyEngineService> services = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        services.forEach(PolicyEngineService::shutdown);
+    }
+
+    @Test
+    @DisplayName("같은 요청은 한 번만 평가하고 결정은 요청 항목 순서대로 돌려준다")
+    void evaluateBatch_DeduplicatesAndKeepsRequestOrder() {
+        // Given
+        put(policy(1L, "allow-read", 10, "{\"effect\":\"ALLOW\"}", "[\"read\"]", null, null));
+        put(policy(2L, "deny-delete", 20, null, "[\"delete\"]", null, null));
+        PolicyEngineService service = service();
+        service.rebuild();
+        PolicyRequest read = request("kim", "read", Map.of());
+        PolicyRequest delete = request("kim", "delete", Map.of());
+        PolicyRequest create = request("kim", "create", Map.of());
+
+        // When: 같은 내용의 다른 인스턴스도 같은 요청으로 본다
+        PolicyBatchResponse response = service.evaluateBatch(List.of(read, delete, request("kim", "read", Map.of()),
+                create, delete, read));
+
+        // Then
+        assertThat(response.items()).isEqualTo(6);
+        assertThat(response.uniqueItems()).isEqualTo(3);
+        assertThat(response.decisions()).extracting(PolicyDecision::policyKey)
+                .containsExactly("allow-read", "deny-delete", "allow-read", null, "deny-delete", "allow-read");
+        assertThat(response.decisions().get(3).effect()).isEqualTo(PolicyEffect.NOT_APPLICABLE);
+        assertThat(response.decisions().get(0)).isSameAs(response.decisions().get(2));
+        assertThat(response.decisions().get(1)).isEqualTo(service.evaluate(delete));
+    }
+
+    @Test
+    @DisplayName("분할 기준을 넘는 배치는 fork-join 풀에서 나눠 평가하되, 도중에 정책이 바뀌거나 유효 기간이 지나도 호출 시점 기준으로 결정한다")
+    void evaluateBatch_ForkJoinUsesOneSnapshotAndTime() {
+        // Given
+        properties.setSplitThreshold(4);
+        properties.setParallelism(4);
+        put(policy(1L, "time-boxed", 10, "{\"effect\":\"ALLOW\"}", "[\"read\"]",
+                "{\"attribute\":\"probe\",\"operator\":\"exists\"}", LocalDateTime.now().plusNanos(500_000_000)));
+        PolicyEngineService service = service();
+        service.rebuild();
+
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        AtomicBoolean changed = new AtomicBoolean();
+        List<PolicyRequest> requests = new ArrayList<>();
+        // 워커가 첫 요청의 조건을 평가하는 순간 정책을 바꾸고 유효 기간이 지날 때까지 기다린다
+        requests.add(request("user-0", "read", new ProbeAttributes(threads, () -> {
+            if (Thread.currentThread().getName().startsWith("policy-batch-") && changed.compareAndSet(false, true)) {
+                put(policy(1L, "replaced", 10, null, "[\"read\"]", null, null));
+                service.refresh(1L);
+                sleep(700);
+            }
+        })));
+        for (int i = 1; i < 200; i++) {
+            requests.add(request("user-" + i, "read", new ProbeAttributes(threads, () -> { })));
+        }
+
+        // When
+        PolicyBatchResponse response = service.evaluateBatch(requests);
+
+        // Then
+        assertThat(changed).isTrue();
+        assertThat(threads).anyMatch(name -> name.startsWith("policy-batch-"));
+        assertThat(response.uniqueItems()).isEqualTo(200);
+        assertThat(response.decisions()).allSatisfy(decision -> {
+            assertThat(decision.policyKey()).isEqualTo("time-boxed");
+            assertThat(decision.effect()).isEqualTo(PolicyEffect.ALLOW);
+        });
+        assertThat(service.evaluate(requests.get(1)).policyKey()).isEqualTo("replaced");
+    }
+
+    @Test
+    @DisplayName("항목이 없거나 한도를 넘거나 빈 항목이 있으면 검증 오류, 엔진이 준비되기 전이면 사용 불가 오류다")
+    void evaluateBatch_ValidatesItems() {
+        // Given
+        properties.setMaxBatchItems(3);
+        put(policy(1L, "allow-read", 10, "{\"effect\":\"ALLOW\"}", "[\"read\"]", null, null));
+        PolicyEngineService service = service();
+        PolicyRequest read = request("kim", "read", Map.of());
+
+        // When & Then
+        assertThatThrownBy(() -> service.evaluateBatch(List.of(read))).isInstanceOf(BusinessException.class);
+
+        service.rebuild();
+        assertThatThrownBy(() -> service.evaluateBatch(null)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> service.evaluateBatch(List.of())).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> service.evaluateBatch(List.of(read, read, read, read)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("At most 3");
+        assertThatThrownBy(() -> service.evaluateBatch(Arrays.asList(read, null, read)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("items[1]");
+        assertThat(service.evaluateBatch(List.of(read, read, read)).decisions()).hasSize(3);
+    }
+
+    private PolicyEngineService service() {
+        SecurityPolicyRepository repository = mock(SecurityPolicyRepository.class);
+        when(repository.findEvaluablePolicies(Status.ACTIVE))
+                .thenAnswer(invocation -> new ArrayList<>(policies.values()));
+        when(repository.findWithTenantById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(policies.get(invocation.<Long>getArgument(0))));
+        PolicyEngineService service = new PolicyEngineService(repository, new PolicyCompiler(new ObjectMapper()),
+                new SimpleMeterRegistry(), properties);
+        services.add(service);
+        return service;
+    }
+
+    private void put(SecurityPolicy policy) {
+        policies.put(policy.getId(), policy);
+    }
+
+    private static PolicyRequest request(String principal, String action, Map<String, Object> attributes) {
+        return new PolicyRequest(principal, null, "vm", action, attributes);
+    }
+
+    private static SecurityPolicy policy(Long id, String key, int priority, String rules, String actions,
+                                         String conditions, LocalDateTime effectiveUntil) {
+        SecurityPolicy policy = SecurityPolicy.builder()
+                .policyKey(key)
+                .policyName(key)
+                .isGlobal(true)
+                .status(Status.ACTIVE)
+                .isEnabled(true)
+                .priority(priority)
+                .rules(rules)
+                .actions(actions)
+                .conditions(conditions)
+                .effectiveUntil(effectiveUntil)
+                .build();
+        policy.setId(id);
+        return policy;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 조건식이 속성을 읽을 때 평가 스레드를 기록하고 훅을 실행한다.
+     */
+    private static final class ProbeAttributes extends HashMap<String, Object> {
+
+        private final transient Set<String> threads;
+        private final transient Runnable hook;
+
+        private ProbeAttributes(Set<String> threads, Runnable hook) {
+            super(Map.of("probe", true));
+            this.threads = threads;
+            this.hook = hook;
+        }
+
+        @Override
+        public Object get(Object key) {
+            threads.add(Thread.currentThread().getName());
+            hook.run();
+            return super.get(key);
+        }
+    }
+}
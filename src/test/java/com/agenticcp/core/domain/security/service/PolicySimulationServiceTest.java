@@ -0,0 +1,297 @@
+package com.agenticcp.core.domain.security.service;
+
+import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.common.exception.ResourceNotFoundException;
+import com.agenticcp.core.domain.security.dto.PolicySimulationRequest;
+import com.agenticcp.core.domain.security.dto.PolicySimulationResponse;
+import com.agenticcp.core.domain.security.dto.PolicySimulationResponse.Group;
+import com.agenticcp.core.domain.security.dto.PolicySimulationResponse.Transition;
+import com.agenticcp.core.domain.security.entity.SecurityPolicy;
+import com.agenticcp.core.domain.security.policy.CompiledPolicy;
+import com.agenticcp.core.domain.security.policy.PolicyCompiler;
+import com.agenticcp.core.domain.security.policy.PolicyEffect;
+import com.agenticcp.core.domain.security.policy.PolicySet;
+import com.agenticcp.core.domain.security.repository.AuditLogReplayRepository;
+import com.agenticcp.core.domain.security.repository.SecurityPolicyRepository;
+import com.agenticcp.core.domain.security.simulation.PolicySimulationProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 감사 로그 재생을 id 범위 경계에서 빈틈/겹침 없이 파티션으로 나누고, 파티션별 차이를 그룹/샘플 상한 안에서 합치며,
+ * 후보 정책의 추가/교체/제외와 평가 대상이 아닌 후보를 엔진과 같은 규칙으로 반영하는지 검증한다.
+ */
+class PolicySimulationServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(1);
+
+    private final PolicyCompiler compiler = new PolicyCompiler(new ObjectMapper());
+    private final PolicySimulationProperties properties = new PolicySimulationProperties();
+    private final Map<String, SecurityPolicy> stored = new LinkedHashMap<>();
+    private final StubReplayRepository replayRepository = new StubReplayRepository();
+
+    @Test
+    @DisplayName("id 범위를 빈틈/겹침 없이 파티션으로 나누고, 범위가 파티션 수보다 작으면 id 하나씩, 이벤트가 없으면 바로 끝낸다")
+    void start_SplitsIdRangeIntoContiguousPartitions() {
+        long[][] cases = {{1, 10, 3}, {5, 6, 8}, {100, 100, 4}, {7, 1_000_003, 8}, {1, 64, 8}};
+        for (long[] range : cases) {
+            // Given
+            replayRepository.reset();
+            properties.setPartitions((int) range[2]);
+            for (long id = range[0]; id <= Math.min(range[1], range[0] + 200); id++) {
+                replayRepository.rows.add(row(id, 1L, "read", "kim"));
+            }
+            if (range[1] > range[0] + 200) {
+                replayRepository.rows.add(row(range[1], 1L, "read", "kim"));
+            }
+
+            // When
+            PolicySimulationResponse response = simulationService().start(request(null, null));
+
+            // Then
+            long expectedPartitions = Math.min(range[2], range[1] - range[0] + 1);
+            assertThat(response.status()).isEqualTo(PolicySimulationResponse.Status.COMPLETED);
+            assertThat(response.partitions()).isEqualTo((int) expectedPartitions);
+            assertThat(replayRepository.partitions).hasSize((int) expectedPartitions);
+            long next = range[0];
+            for (long[] partition : replayRepository.partitions) {
+                assertThat(partition[0]).isEqualTo(next);
+                assertThat(partition[1]).isGreaterThanOrEqualTo(partition[0]);
+                next = partition[1] + 1;
+            }
+            assertThat(next - 1).isEqualTo(range[1]);
+            assertThat(response.scannedEvents()).isEqualTo(replayRepository.rows.size());
+        }
+
+        // Given: 기간 안에 이벤트가 없다
+        replayRepository.reset();
+
+        // When
+        PolicySimulationResponse empty = simulationService().start(request(null, null));
+
+        // Then
+        assertThat(empty.status()).isEqualTo(PolicySimulationResponse.Status.COMPLETED);
+        assertThat(empty.partitions()).isZero();
+        assertThat(replayRepository.partitions).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파티션별 차이를 (테넌트, 액션) 그룹으로 합치고, 그룹 수를 넘는 차이는 건수만, 샘플은 그룹당 상한까지만 남긴다")
+    void start_MergesPartitionsWithinGroupAndSampleCaps() {
+        // Given: 읽기를 막는 후보. 파티션 4 개 (id 1-5, 6-10, 11-15, 16-20)
+        properties.setPartitions(4);
+        properties.setMaxGroups(2);
+        properties.setSamplesPerGroup(2);
+        properties.setFetchSize(3);
+        store(policy(1L, "allow-read", null, "{\"effect\":\"ALLOW\"}", "[\"read\",\"list\"]"));
+        for (long id = 1; id <= 20; id++) {
+            String action = id <= 10 ? "read" : "list";
+            Long tenantId = id > 15 ? 9L : 1L;
+            replayRepository.rows.add(row(id, tenantId, action, "user-" + id));
+        }
+        SecurityPolicy candidate = policy(null, "allow-read", null, null, "[\"read\",\"list\"]");
+
+        // When
+        PolicySimulationResponse response = simulationService().start(request(List.of(candidate), null));
+
+        // Then: (1, read) 는 파티션 1-2, (1, list) 는 3-4 에 걸치고 (9, list) 는 그룹 자리가 없다
+        assertThat(response.scannedEvents()).isEqualTo(20);
+        assertThat(response.differingEvents()).isEqualTo(20);
+        assertThat(response.unreportedDifferences()).isEqualTo(5);
+        assertThat(response.groups()).extracting(Group::tenantId, Group::action, Group::differingEvents)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, "read", 10L),
+                        tuple(1L, "list", 5L));
+        for (Group group : response.groups()) {
+            assertThat(group.samples()).hasSize(2);
+            assertThat(group.transitions()).containsExactly(
+                    new Transition(PolicyEffect.ALLOW, PolicyEffect.DENY, group.differingEvents()));
+            assertThat(group.samples()).allSatisfy(sample -> {
+                assertThat(sample.currentPolicyKey()).isEqualTo("allow-read");
+                assertThat(sample.candidatePolicyKey()).isEqualTo("allow-read");
+            });
+        }
+        assertThat(response.groups().get(0).action()).isEqualTo("read");
+    }
+
+    @Test
+    @DisplayName("같은 키의 후보는 저장된 정책을 교체하고, 새 키는 추가되며, 제외 키는 후보 집합에서 빠진다")
+    void start_AppliesCandidateAddReplaceAndRemove() {
+        // Given
+        store(policy(1L, "allow-read", null, "{\"effect\":\"ALLOW\"}", "[\"read\"]"));
+        store(policy(2L, "deny-delete", null, null, "[\"delete\"]"));
+        store(policy(3L, "allow-list", null, "{\"effect\":\"ALLOW\"}", "[\"list\"]"));
+        replayRepository.rows.add(row(1, 1L, "read", "kim"));
+        replayRepository.rows.add(row(2, 1L, "delete", "kim"));
+        replayRepository.rows.add(row(3, 1L, "create", "kim"));
+        replayRepository.rows.add(row(4, 1L, "list", "kim"));
+        List<SecurityPolicy> candidates = List.of(
+                policy(null, "allow-read", null, null, "[\"read\"]"),
+                policy(null, "allow-create", null, "{\"effect\":\"ALLOW\"}", "[\"create\"]"));
+
+        // When
+        PolicySimulationResponse response = simulationService().start(request(candidates, List.of("deny-delete")));
+
+        // Then
+        assertThat(response.differingEvents()).isEqualTo(3);
+        assertThat(transitionsByAction(response)).containsOnly(
+                Map.entry("read", new Transition(PolicyEffect.ALLOW, PolicyEffect.DENY, 1)),
+                Map.entry("delete", new Transition(PolicyEffect.DENY, PolicyEffect.NOT_APPLICABLE, 1)),
+                Map.entry("create", new Transition(PolicyEffect.NOT_APPLICABLE, PolicyEffect.ALLOW, 1)));
+        assertThat(candidates.get(0).getId()).isEqualTo(1L);
+        assertThat(candidates.get(1).getId()).isNegative();
+
+        // When & Then: 없는 정책은 제외할 수 없다
+        assertThatThrownBy(() -> simulationService().start(request(null, List.of("missing"))))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("사용 안 함/비활성/삭제된 후보는 엔진처럼 평가 대상에서 빠진다: 저장된 정책을 교체하면 그 정책이 빠지고, 새 후보는 무시된다")
+    void start_FiltersCandidatesTheEngineWouldNotEvaluate() {
+        // Given
+        store(policy(1L, "allow-read", null, "{\"effect\":\"ALLOW\"}", "[\"read\"]"));
+        store(policy(2L, "allow-list", null, "{\"effect\":\"ALLOW\"}", "[\"list\"]"));
+        replayRepository.rows.add(row(1, 1L, "read", "kim"));
+        replayRepository.rows.add(row(2, 1L, "create", "kim"));
+        replayRepository.rows.add(row(3, 1L, "delete", "kim"));
+        replayRepository.rows.add(row(4, 1L, "list", "kim"));
+        SecurityPolicy disabledReplacement = policy(null, "allow-read", null, "{\"effect\":\"ALLOW\"}", "[\"read\"]");
+        disabledReplacement.setIsEnabled(false);
+        SecurityPolicy inactiveNew = policy(null, "deny-create", null, null, "[\"create\"]");
+        inactiveNew.setStatus(Status.INACTIVE);
+        SecurityPolicy deletedNew = policy(null, "deny-delete", null, null, "[\"delete\"]");
+        deletedNew.setIsDeleted(true);
+        SecurityPolicy enabledNew = policy(null, "deny-list", null, null, "[\"list\"]");
+
+        // When
+        PolicySimulationResponse response = simulationService().start(
+                request(List.of(disabledReplacement, inactiveNew, deletedNew, enabledNew), null));
+
+        // Then
+        assertThat(transitionsByAction(response)).containsOnly(
+                Map.entry("read", new Transition(PolicyEffect.ALLOW, PolicyEffect.NOT_APPLICABLE, 1)),
+                Map.entry("list", new Transition(PolicyEffect.ALLOW, PolicyEffect.DENY, 1)));
+    }
+
+    private PolicySimulationService simulationService() {
+        SecurityPolicyRepository policyRepository = mock(SecurityPolicyRepository.class);
+        when(policyRepository.findByPolicyKey(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(stored.get(invocation.<String>getArgument(0))));
+        List<CompiledPolicy> compiled = new ArrayList<>();
+        stored.values().forEach(policy -> compiled.add(compiler.compile(policy)));
+        PolicyEngineService engine = mock(PolicyEngineService.class);
+        when(engine.getSnapshot()).thenReturn(PolicySet.of(compiled));
+        return new PolicySimulationService(replayRepository, policyRepository, engine, compiler, properties,
+                new InlineExecutor());
+    }
+
+    private void store(SecurityPolicy policy) {
+        stored.put(policy.getPolicyKey(), policy);
+    }
+
+    private static Map<String, Transition> transitionsByAction(PolicySimulationResponse response) {
+        Map<String, Transition> transitions = new LinkedHashMap<>();
+        for (Group group : response.groups()) {
+            assertThat(group.transitions()).hasSize(1);
+            transitions.put(group.action(), group.transitions().get(0));
+        }
+        return transitions;
+    }
+
+    private static PolicySimulationRequest request(List<SecurityPolicy> candidates, List<String> removedKeys) {
+        return PolicySimulationRequest.builder()
+                .from(FROM)
+                .to(TO)
+                .candidatePolicies(candidates)
+                .removedPolicyKeys(removedKeys)
+                .build();
+    }
+
+    private static SecurityPolicy policy(Long id, String key, Long tenantId, String rules, String actions) {
+        SecurityPolicy policy = SecurityPolicy.builder()
+                .policyKey(key)
+                .policyName(key)
+                .isGlobal(tenantId == null)
+                .status(Status.ACTIVE)
+                .isEnabled(true)
+                .priority(10)
+                .rules(rules)
+                .actions(actions)
+                .build();
+        policy.setId(id);
+        return policy;
+    }
+
+    private static AuditLogReplayRepository.AuditEventRow row(long id, Long tenantId, String action,
+                                                              String username) {
+        return new AuditLogReplayRepository.AuditEventRow(id, "event-" + id, FROM.plusMinutes(id % 1_000), tenantId,
+                username, "vm", action, "API_CALL", "SECURITY", "INFO", "SUCCESS", "vm-" + id, null, null);
+    }
+
+    /**
+     * 메모리의 행을 id 범위/기간으로 걸러 돌려주고, 요청받은 파티션 범위를 기록한다.
+     */
+    private static final class StubReplayRepository extends AuditLogReplayRepository {
+
+        private final List<AuditEventRow> rows = new ArrayList<>();
+        private final List<long[]> partitions = new ArrayList<>();
+
+        private StubReplayRepository() {
+            super(null);
+        }
+
+        private void reset() {
+            rows.clear();
+            partitions.clear();
+        }
+
+        @Override
+        public IdRange findIdRange(LocalDateTime from, LocalDateTime to) {
+            return rows.stream()
+                    .filter(row -> !row.eventTimestamp().isBefore(from) && row.eventTimestamp().isBefore(to))
+                    .map(row -> new IdRange(row.id(), row.id()))
+                    .reduce((a, b) -> new IdRange(Math.min(a.minId(), b.minId()), Math.max(a.maxId(), b.maxId())))
+                    .orElse(null);
+        }
+
+        @Override
+        public void stream(long fromId, long toId, LocalDateTime from, LocalDateTime to, int fetchSize,
+                           Consumer<AuditEventRow> consumer) {
+            partitions.add(new long[]{fromId, toId});
+            rows.stream()
+                    .filter(row -> row.id() >= fromId && row.id() <= toId)
+                    .filter(row -> !row.eventTimestamp().isBefore(from) && row.eventTimestamp().isBefore(to))
+                    .forEach(consumer);
+        }
+    }
+
+    /**
+     * 파티션을 호출 스레드에서 차례로 실행해 결과가 start 반환 전에 합쳐진다.
+     */
+    private static final class InlineExecutor extends ThreadPoolTaskExecutor {
+
+        @Override
+        public void execute(Runnable task) {
+            task.run();
+        }
+    }
+}
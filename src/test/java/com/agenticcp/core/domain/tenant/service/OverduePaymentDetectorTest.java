@@ -0,0 +1,235 @@
+package com.agenticcp.core.domain.tenant.service;
+
+import com.agenticcp.core.common.batch.entity.JobWatermark;
+import com.agenticcp.core.common.batch.repository.JobWatermarkRepository;
+import com.agenticcp.core.common.config.JpaConfig;
+import com.agenticcp.core.common.enums.Status;
+import com.agenticcp.core.domain.tenant.dto.OverdueInvoice;
+import com.agenticcp.core.domain.tenant.entity.Tenant;
+import com.agenticcp.core.domain.tenant.entity.TenantBilling;
+import com.agenticcp.core.domain.tenant.entity.TenantBilling.PaymentStatus;
+import com.agenticcp.core.domain.tenant.event.PaymentOverdueEvent;
+import com.agenticcp.core.domain.tenant.repository.TenantBillingRepository;
+import com.agenticcp.core.domain.tenant.repository.TenantRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 청크 단위 OVERDUE 전환, 워터마크와 overlap 경계, 잠근 행 수 기준의 청크 반복과 실패 시 워터마크 유지를 검증한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OverduePaymentDetectorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 1, 0, 0);
+    private static final Duration OVERLAP = Duration.ofHours(1);
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private TenantBillingRepository tenantBillingRepository;
+
+    @Autowired
+    private JobWatermarkRepository jobWatermarkRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<PaymentOverdueEvent> events = new CopyOnWriteArrayList<>();
+    private final AtomicInteger invoiceSequence = new AtomicInteger();
+    private Tenant tenant;
+
+    @BeforeEach
+    void setUp() {
+        tenantBillingRepository.deleteAll();
+        tenantRepository.deleteAll();
+        jobWatermarkRepository.deleteAll();
+        tenant = tenantRepository.save(Tenant.builder()
+                .tenantKey("acme")
+                .tenantName("Acme")
+                .contactEmail("billing@acme.test")
+                .status(Status.ACTIVE)
+                .isTrial(false)
+                .build());
+    }
+
+    @Test
+    @DisplayName("기한이 지난 PENDING 청구서만 청크 단위로 OVERDUE 로 바꾸고 청크마다 한 번 알린다")
+    void detectOverdue_MarksDueInvoicesInChunks() {
+        // Given
+        for (int i = 1; i <= 8; i++) {
+            invoice(NOW.minusDays(i), PaymentStatus.PENDING);
+        }
+        TenantBilling notYetDue = invoice(NOW.plusDays(1), PaymentStatus.PENDING);
+        TenantBilling paid = invoice(NOW.minusDays(3), PaymentStatus.PAID);
+        OverduePaymentDetector detector = detector(tenantBillingRepository, 3);
+
+        // When
+        int marked = detector.detectOverdue(NOW);
+
+        // Then
+        assertThat(marked).isEqualTo(8);
+        assertThat(events).extracting(event -> event.invoices().size()).containsExactly(3, 3, 2);
+        assertThat(events).flatExtracting(PaymentOverdueEvent::invoices)
+                .extracting(OverdueInvoice::contactEmail).containsOnly("billing@acme.test");
+        assertThat(tenantBillingRepository.findByPaymentStatus(PaymentStatus.OVERDUE)).hasSize(8);
+        assertThat(status(notYetDue)).isEqualTo(PaymentStatus.PENDING);
+        assertThat(status(paid)).isEqualTo(PaymentStatus.PAID);
+        assertThat(watermark()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("청구서 수가 청크 크기의 배수여도 마지막 빈 청크까지 읽고 다시 실행하면 아무것도 바꾸지 않는다")
+    void detectOverdue_ExactMultipleOfChunkSize() {
+        // Given
+        for (int i = 1; i <= 6; i++) {
+            invoice(NOW.minusHours(i), PaymentStatus.PENDING);
+        }
+        OverduePaymentDetector detector = detector(tenantBillingRepository, 3);
+
+        // When
+        int first = detector.detectOverdue(NOW);
+        int second = detector.detectOverdue(NOW.plusMinutes(15));
+
+        // Then
+        assertThat(first).isEqualTo(6);
+        assertThat(second).isZero();
+        assertThat(events).hasSize(2);
+        assertThat(watermark()).isEqualTo(NOW.plusMinutes(15));
+    }
+
+    @Test
+    @DisplayName("다음 실행은 워터마크 - overlap 이후 기한의 늦게 들어온 청구서만 다시 본다")
+    void detectOverdue_RescansOverlapWindowOnly() {
+        // Given
+        OverduePaymentDetector detector = detector(tenantBillingRepository, 100);
+        invoice(NOW.minusHours(12), PaymentStatus.PENDING);
+        detector.detectOverdue(NOW);
+
+        // When: 첫 실행 이후 이미 기한이 지난 청구서가 늦게 들어온다
+        TenantBilling insideOverlap = invoice(NOW.minusMinutes(30), PaymentStatus.PENDING);
+        TenantBilling beforeOverlap = invoice(NOW.minusHours(4), PaymentStatus.PENDING);
+        TenantBilling crossedSince = invoice(NOW.plusMinutes(10), PaymentStatus.PENDING);
+        int marked = detector.detectOverdue(NOW.plusMinutes(15));
+
+        // Then
+        assertThat(marked).isEqualTo(2);
+        assertThat(status(insideOverlap)).isEqualTo(PaymentStatus.OVERDUE);
+        assertThat(status(crossedSince)).isEqualTo(PaymentStatus.OVERDUE);
+        assertThat(status(beforeOverlap)).isEqualTo(PaymentStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("알린 건수가 청크보다 적어도 잠근 행이 청크 크기만큼이면 다음 청크를 계속 읽는다")
+    void detectOverdue_LoopsOnLockedIdsNotNotifiedCount() {
+        // Given: 잠근 id 중 일부만 OVERDUE 로 조회된다
+        TenantBillingRepository billingRepository = mock(TenantBillingRepository.class);
+        when(billingRepository.lockDueCrossedInvoiceIds(anyString(), any(), any(), anyInt()))
+                .thenReturn(List.of(1L, 2L, 3L), List.of(4L, 5L, 6L), List.of(7L));
+        when(billingRepository.findInvoicesByIdsAndStatus(any(), eq(PaymentStatus.OVERDUE)))
+                .thenReturn(List.of(overdueInvoice(1L)));
+        OverduePaymentDetector detector = detector(billingRepository, 3);
+
+        // When
+        int marked = detector.detectOverdue(NOW);
+
+        // Then
+        verify(billingRepository, times(3)).lockDueCrossedInvoiceIds(anyString(), any(), any(), anyInt());
+        assertThat(marked).isEqualTo(3);
+        assertThat(watermark()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("청크 처리 중 실패하면 워터마크를 옮기지 않아 다음 실행이 같은 구간을 다시 스캔한다")
+    void detectOverdue_FailureKeepsWatermark() {
+        // Given
+        TenantBillingRepository billingRepository = mock(TenantBillingRepository.class);
+        when(billingRepository.lockDueCrossedInvoiceIds(anyString(), any(), any(), anyInt()))
+                .thenReturn(List.of(1L, 2L, 3L))
+                .thenThrow(new DataAccessResourceFailureException("connection lost"));
+        when(billingRepository.findInvoicesByIdsAndStatus(any(), eq(PaymentStatus.OVERDUE)))
+                .thenReturn(List.of(overdueInvoice(1L), overdueInvoice(2L), overdueInvoice(3L)));
+        OverduePaymentDetector detector = detector(billingRepository, 3);
+
+        // When & Then
+        assertThatThrownBy(() -> detector.detectOverdue(NOW))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(jobWatermarkRepository.findByWatermarkName(OverduePaymentDetector.WATERMARK_NAME)).isEmpty();
+
+        // When: 다음 실행은 처음부터 다시 스캔한다
+        for (int i = 1; i <= 4; i++) {
+            invoice(NOW.minusDays(i), PaymentStatus.PENDING);
+        }
+        int marked = detector(tenantBillingRepository, 3).detectOverdue(NOW.plusMinutes(15));
+
+        // Then
+        assertThat(marked).isEqualTo(4);
+        assertThat(watermark()).isEqualTo(NOW.plusMinutes(15));
+    }
+
+    private OverduePaymentDetector detector(TenantBillingRepository billingRepository, int chunkSize) {
+        OverduePaymentDetector detector = new OverduePaymentDetector(billingRepository, jobWatermarkRepository,
+                event -> events.add((PaymentOverdueEvent) event), transactionManager, new SimpleMeterRegistry(),
+                chunkSize, OVERLAP);
+        detector.init();
+        return detector;
+    }
+
+    private TenantBilling invoice(LocalDateTime dueDate, PaymentStatus status) {
+        return tenantBillingRepository.save(TenantBilling.builder()
+                .tenant(tenant)
+                .billingCycle(TenantBilling.BillingCycle.MONTHLY)
+                .currency("USD")
+                .totalAmount(BigDecimal.TEN)
+                .dueDate(dueDate)
+                .paymentStatus(status)
+                .invoiceNumber("INV-TEST-" + invoiceSequence.incrementAndGet())
+                .build());
+    }
+
+    private PaymentStatus status(TenantBilling invoice) {
+        return tenantBillingRepository.findById(invoice.getId()).orElseThrow().getPaymentStatus();
+    }
+
+    private LocalDateTime watermark() {
+        return jobWatermarkRepository.findByWatermarkName(OverduePaymentDetector.WATERMARK_NAME)
+                .map(JobWatermark::getWatermarkValue)
+                .orElse(null);
+    }
+
+    private static OverdueInvoice overdueInvoice(Long billingId) {
+        return new OverdueInvoice(billingId, "INV-" + billingId, 1L, "acme", "billing@acme.test",
+                BigDecimal.TEN, "USD", NOW.minusDays(1));
+    }
+}
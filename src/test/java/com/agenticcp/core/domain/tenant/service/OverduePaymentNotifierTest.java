@@ -0,0 +1,123 @@
+package com.agenticcp.core.domain.tenant.service;
+
+import com.agenticcp.core.domain.tenant.dto.OverdueInvoice;
+import com.agenticcp.core.domain.tenant.event.PaymentOverdueEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 연체 알림이 커밋 이후 비동기로 전달되고, 테넌트별로 한 통씩 보내며 메일 실패가 전파되지 않는지 검증한다.
+ */
+class OverduePaymentNotifierTest {
+
+    private static final LocalDateTime DUE = LocalDateTime.of(2026, 9, 30, 0, 0);
+
+    @Test
+    @DisplayName("감지 트랜잭션이 커밋된 뒤 감지 스레드 밖에서 실행된다")
+    void onPaymentOverdue_RunsAsyncAfterCommit() throws Exception {
+        // When
+        Method listener = OverduePaymentNotifier.class.getMethod("onPaymentOverdue", PaymentOverdueEvent.class);
+
+        // Then
+        assertThat(listener.getAnnotation(Async.class)).isNotNull();
+        assertThat(listener.getAnnotation(TransactionalEventListener.class).phase())
+                .isEqualTo(TransactionPhase.AFTER_COMMIT);
+    }
+
+    @Test
+    @DisplayName("테넌트마다 한 통의 메일에 그 테넌트의 연체 청구서를 모두 담고 연락처가 없는 테넌트는 건너뛴다")
+    void onPaymentOverdue_SendsOneMailPerTenant() {
+        // Given
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        OverduePaymentNotifier notifier = notifier(mailSender);
+        PaymentOverdueEvent event = new PaymentOverdueEvent(List.of(
+                invoice(1L, 10L, "acme", "billing@acme.test"),
+                invoice(2L, 20L, "globex", null),
+                invoice(3L, 10L, "acme", "billing@acme.test")));
+
+        // When
+        notifier.onPaymentOverdue(event);
+
+        // Then
+        ArgumentCaptor<SimpleMailMessage> message = ArgumentCaptor.forClass(SimpleMailMessage.class);
+        verify(mailSender, times(1)).send(message.capture());
+        assertThat(message.getValue().getTo()).containsExactly("billing@acme.test");
+        assertThat(message.getValue().getFrom()).isEqualTo("billing@agenticcp.test");
+        assertThat(message.getValue().getText()).contains("INV-1", "INV-3").doesNotContain("INV-2");
+    }
+
+    @Test
+    @DisplayName("메일 전송이 실패해도 다른 테넌트 알림은 계속 보낸다")
+    void onPaymentOverdue_MailFailureIsContained() {
+        // Given
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        doThrow(new MailSendException("smtp down")).when(mailSender).send(any(SimpleMailMessage.class));
+        OverduePaymentNotifier notifier = notifier(mailSender);
+        PaymentOverdueEvent event = new PaymentOverdueEvent(List.of(
+                invoice(1L, 10L, "acme", "billing@acme.test"),
+                invoice(2L, 20L, "globex", "billing@globex.test")));
+
+        // When & Then
+        assertThatCode(() -> notifier.onPaymentOverdue(event)).doesNotThrowAnyException();
+        verify(mailSender, times(2)).send(any(SimpleMailMessage.class));
+    }
+
+    @Test
+    @DisplayName("메일 발송기가 없으면 로그만 남긴다")
+    void onPaymentOverdue_WithoutMailSender() {
+        // Given
+        OverduePaymentNotifier notifier = notifier(null);
+
+        // When & Then
+        assertThatCode(() -> notifier.onPaymentOverdue(new PaymentOverdueEvent(
+                List.of(invoice(1L, 10L, "acme", "billing@acme.test"))))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("메일 발송기가 있어도 빈 이벤트는 아무것도 보내지 않는다")
+    void onPaymentOverdue_EmptyEvent() {
+        // Given
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+
+        // When
+        notifier(mailSender).onPaymentOverdue(new PaymentOverdueEvent(List.of()));
+
+        // Then
+        verify(mailSender, never()).send(any(SimpleMailMessage.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static OverduePaymentNotifier notifier(JavaMailSender mailSender) {
+        ObjectProvider<JavaMailSender> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(mailSender);
+        return new OverduePaymentNotifier(provider, "billing@agenticcp.test");
+    }
+
+    private static OverdueInvoice invoice(Long billingId, Long tenantId, String tenantKey, String contactEmail) {
+        return new OverdueInvoice(billingId, "INV-" + billingId, tenantId, tenantKey, contactEmail,
+                BigDecimal.TEN, "USD", DUE);
+    }
+}